@@ -3,6 +3,7 @@ package com.ducnh.highperformance;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -12,6 +13,22 @@ import static com.ducnh.highperformance.BufferUtil.*;
 import static com.ducnh.highperformance.AsciiEncoding.*;
 
 public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer{
+	private static final String NULL_STRING = "null";
+	private static final int VAR_INT_MAX_LENGTH = 5;
+	private static final int VAR_LONG_MAX_LENGTH = 10;
+	private static final byte[] NAN_BYTES = "NaN".getBytes(US_ASCII);
+	private static final byte[] INFINITY_BYTES = "Infinity".getBytes(US_ASCII);
+	private static final byte[] NEGATIVE_INFINITY_BYTES = "-Infinity".getBytes(US_ASCII);
+	private static final int SHORTEST = -1;
+	private static final int MAX_SCALE = LONG_MAX_DIGITS - 1;
+	private static final long MASK_63 = 0x7FFF_FFFF_FFFF_FFFFL;
+	private static final long MASK_32 = 0xFFFF_FFFFL;
+	private static final long DOUBLE_C_MIN = 1L << 52;
+	private static final int DOUBLE_Q_MIN = -1074;
+	private static final int FLOAT_C_MIN = 1 << 23;
+	private static final int FLOAT_Q_MIN = -149;
+	private static final long DOUBLE_EXACT_MANTISSA_MAX = 1L << 53;
+	
 	protected byte[] byteArray;
 	protected long addressOffset;
 	protected int capacity;
@@ -52,7 +69,7 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 					(((long)value & 0xff) << 16) |
 					(((long)value & 0xff) << 8) |
 					(((long)value & 0xff)));
-			for (; i < length; i += 8) {
+			for (; i < end; i += 8) {
 				UnsafeApi.putLong(array, offset + i, mask);
 			}
 			
@@ -331,6 +348,11 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 	}
 	
 	public void putBytes(final int index, final DirectBuffer srcBuffer, final int srcIndex, final int length) {
+		if (srcBuffer instanceof CompositeDirectBuffer) {
+			srcBuffer.getBytes(srcIndex, this, index, length);
+			return;
+		}
+		
 		ensureCapacity(index, length);
 		if (SHOULD_BOUNDS_CHECK) {
 			srcBuffer.boundsCheck(srcIndex, length);
@@ -376,6 +398,120 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		UnsafeApi.putChar(byteArray, addressOffset + index, value);
 	}
 	
+	/**
+	 * Get an int encoded as an unsigned LEB128 varint of at most 5 bytes. The number of bytes consumed is
+	 * {@link BitUtil#sizeOfVarInt(int)} of the result for encodings written by {@link #putVarInt(int, int)}.
+	 */
+	public int getVarInt(final int index) {
+		return (int)getVar(index, VAR_INT_MAX_LENGTH);
+	}
+	
+	/**
+	 * Put an int as an unsigned LEB128 varint, so negative values take 5 bytes.
+	 * @return the number of bytes written.
+	 */
+	public int putVarInt(final int index, final int value) {
+		final int length = sizeOfVarInt(value);
+		ensureCapacity(index, length);
+		putVar(addressOffset + index, value & 0xFFFF_FFFFL);
+		return length;
+	}
+	
+	public long getVarLong(final int index) {
+		return getVar(index, VAR_LONG_MAX_LENGTH);
+	}
+	
+	public int putVarLong(final int index, final long value) {
+		final int length = sizeOfVarLong(value);
+		ensureCapacity(index, length);
+		putVar(addressOffset + index, value);
+		return length;
+	}
+	
+	public int getZigZagVarInt(final int index) {
+		return zigZagDecode(getVarInt(index));
+	}
+	
+	public int putZigZagVarInt(final int index, final int value) {
+		return putVarInt(index, zigZagEncode(value));
+	}
+	
+	public long getZigZagVarLong(final int index) {
+		return zigZagDecode(getVarLong(index));
+	}
+	
+	public int putZigZagVarLong(final int index, final long value) {
+		return putVarLong(index, zigZagEncode(value));
+	}
+	
+	private long getVar(final int index, final int maxLength) {
+		if (index < 0 || index > capacity - SIZE_OF_LONG) {
+			return getVarByteWise(index, maxLength);
+		}
+		
+		long word = UnsafeApi.getLong(byteArray, addressOffset + index);
+		if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN) {
+			word = Long.reverseBytes(word);
+		}
+		
+		if (0 == (word & 0x80)) {
+			return word & 0x7F;
+		}
+		
+		final long stopBits = ~word & 0x8080_8080_8080_8080L;
+		if (0 == stopBits) {
+			return getVarByteWise(index, maxLength);
+		}
+		
+		final int bits = Long.numberOfTrailingZeros(stopBits) + 1;
+		if (bits > maxLength * Byte.SIZE) {
+			throw malformedVar(index, maxLength);
+		}
+		
+		return compactVarBits(64 == bits ? word : word & ((1L << bits) - 1));
+	}
+	
+	private long getVarByteWise(final int index, final int maxLength) {
+		long value = 0;
+		for (int i = 0, shift = 0; i < maxLength; i++, shift += 7) {
+			if (SHOULD_BOUNDS_CHECK) {
+				boundsCheck0(index + i, SIZE_OF_BYTE);
+			}
+			final byte b = UnsafeApi.getByte(byteArray, addressOffset + index + i);
+			value |= (long)(b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		
+		throw malformedVar(index, maxLength);
+	}
+	
+	private void putVar(final long offset, final long value) {
+		final byte[] array = byteArray;
+		long remaining = value;
+		long i = offset;
+		while (0 != (remaining & ~0x7FL)) {
+			UnsafeApi.putByte(array, i++, (byte)(remaining | 0x80));
+			remaining >>>= 7;
+		}
+		UnsafeApi.putByte(array, i, (byte)remaining);
+	}
+	
+	/**
+	 * Pack the 7 bit groups of up to 8 little-endian varint bytes into a contiguous value.
+	 */
+	private static long compactVarBits(final long word) {
+		long x = word & 0x7F7F_7F7F_7F7F_7F7FL;
+		x = ((x & 0x7F00_7F00_7F00_7F00L) >>> 1) | (x & 0x007F_007F_007F_007FL);
+		x = ((x & 0x3FFF_0000_3FFF_0000L) >>> 2) | (x & 0x0000_3FFF_0000_3FFFL);
+		return ((x & 0x0FFF_FFFF_0000_0000L) >>> 4) | (x & 0x0000_0000_0FFF_FFFFL);
+	}
+	
+	private static IllegalArgumentException malformedVar(final int index, final int maxLength) {
+		return new IllegalArgumentException("malformed varint: index=" + index + " maxLength=" + maxLength);
+	}
+	
 	public String getStringAscii(final int index) {
 		if (SHOULD_BOUNDS_CHECK) {
 			boundsCheck0(index, STR_HEADER_LEN);
@@ -704,6 +840,18 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length);
 	}
 	
+	public int getStringUtf8(final int index, final Appendable appendable) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, STR_HEADER_LEN);
+		}
+		
+		final int length = UnsafeApi.getInt(byteArray, addressOffset + index);
+		if (length == 0) {
+			return 0;
+		}
+		return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length, appendable);
+	}
+	
 	public String getStringUtf8(final int index, final ByteOrder byteOrder) {
 		if (SHOULD_BOUNDS_CHECK) {
 			boundsCheck(index, STR_HEADER_LEN);
@@ -722,52 +870,66 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length);
 	}
 	
-	public String getStringUtf8(final int index, final int length) {
+	public int getStringUtf8(final int index, final Appendable appendable, final ByteOrder byteOrder) {
 		if (SHOULD_BOUNDS_CHECK) {
-			boundsCheck0(index + STR_HEADER_LEN, length);
+			boundsCheck0(index, STR_HEADER_LEN);
 		}
 		
-		final byte[] stringInBytes = new byte[length];
+		int bits = UnsafeApi.getInt(byteArray, addressOffset + index);
+		if (byteOrder != NATIVE_BYTE_ORDER) {
+			bits = Integer.reverseBytes(bits);
+		}
 		
-		UnsafeApi.copyMemory(byteArray, addressOffset + index + STR_HEADER_LEN, stringInBytes, ARRAY_BASE_OFFSET, length);
+		final int length = bits;
+		if (length == 0) {
+			return 0;
+		}
+		return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length, appendable);
+	}
 		
-		return new String(stringInBytes, UTF_8);
+	public String getStringUtf8(final int index, final int length) {
+		return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length);
+	}
+	
+	public int getStringUtf8(final int index, final int length, final Appendable appendable) {
+		return getStringWithoutLengthUtf8(index + STR_HEADER_LEN, length, appendable);
 	}
 	
 	public int putStringUtf8(final int index, final String value) {
 		return putStringUtf8(index, value, Integer.MAX_VALUE);
 	}
 	
+	public int putStringUtf8(final int index, final CharSequence value) {
+		return putStringUtf8(index, value, NATIVE_BYTE_ORDER, Integer.MAX_VALUE);
+	}
+	
 	public int putStringUtf8(final int index, final String value, final ByteOrder byteOrder) {
 		return putStringUtf8(index, value, byteOrder, Integer.MAX_VALUE);
 	}
 	
+	public int putStringUtf8(final int index, final CharSequence value, final ByteOrder byteOrder) {
+		return putStringUtf8(index, value, byteOrder, Integer.MAX_VALUE);
+	}
+	
 	public int putStringUtf8(final int index, final String value, final int maxEncodedLength) {
-		final byte[] bytes = value != null ? value.getBytes(UTF_8) : NULL_BYTES;
-		
-		if (bytes.length > maxEncodedLength) {
-			throw new IllegalArgumentException("Encoded string larger than maximum size: " + maxEncodedLength);
-		}
-		
-		ensureCapacity(index, STR_HEADER_LEN + bytes.length);
-		
-		final byte[] array = byteArray;
-		final long offset = addressOffset + index;
-		UnsafeApi.putInt(array, offset, bytes.length);
-		UnsafeApi.copyMemory(bytes, ARRAY_BASE_OFFSET, array, offset + STR_HEADER_LEN, bytes.length);
+		return putStringUtf8(index, value, NATIVE_BYTE_ORDER, maxEncodedLength);
+	}
 		
-		return STR_HEADER_LEN + bytes.length;
+	public int putStringUtf8(final int index, final String value, final ByteOrder byteOrder, final int maxEncodedLength) {
+		return putStringUtf8(index, (CharSequence)value, byteOrder, maxEncodedLength);
 	}
 	
-	public int putStringUtf8(final int index, final String value, final ByteOrder byteOrder, final int maxEncodedLength) {
-		final byte[] bytes = value != null ? value.getBytes(UTF_8) : NULL_BYTES;
-		if (bytes.length > maxEncodedLength) {
+	private int putStringUtf8(
+			final int index, final CharSequence value, final ByteOrder byteOrder, final int maxEncodedLength) {
+		final CharSequence chars = value != null ? value : NULL_STRING;
+		final int encodedLength = utf8Length(chars);
+		if (encodedLength > maxEncodedLength) {
 			throw new IllegalArgumentException("Encoded string larger than maximum size: " + maxEncodedLength);
 		}
 		
-		ensureCapacity(index, STR_HEADER_LEN + bytes.length);
+		ensureCapacity(index, STR_HEADER_LEN + encodedLength);
 		
-		int bits = bytes.length;
+		int bits = encodedLength;
 		if (byteOrder != NATIVE_BYTE_ORDER) {
 			bits = Integer.reverseBytes(bits);
 		}
@@ -775,9 +937,9 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		final byte[] array = byteArray;
 		final long offset = addressOffset + index;
 		UnsafeApi.putInt(array, offset, bits);
-		UnsafeApi.copyMemory(bytes, ARRAY_BASE_OFFSET, array, offset + STR_HEADER_LEN, bytes.length);
+		encodeUtf8(array, offset + STR_HEADER_LEN, chars);
 		
-		return STR_HEADER_LEN + bytes.length;
+		return STR_HEADER_LEN + encodedLength;
 	}
 	
 	public String getStringWithoutLengthUtf8(final int index, final int length) {
@@ -789,18 +951,40 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 			return "";
 		}
 		
+		final byte[] array = byteArray;
+		if (null != array) {
+			return new String(array, (int)(addressOffset - ARRAY_BASE_OFFSET) + index, length, UTF_8);
+		}
+		
 		final byte[] stringInBytes = new byte[length];
-		UnsafeApi.copyMemory(byteArray,addressOffset + index, stringInBytes, ARRAY_BASE_OFFSET, length);
+		UnsafeApi.copyMemory(null, addressOffset + index, stringInBytes, ARRAY_BASE_OFFSET, length);
 		return new String(stringInBytes, UTF_8);
 	}
 	
+	public int getStringWithoutLengthUtf8(final int index, final int length, final Appendable appendable) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
+		
+		try {
+			decodeUtf8(byteArray, addressOffset + index, length, appendable);
+		} catch (final IOException ex) {
+			LangUtil.rethrowUnchecked(ex);
+		}
+		return length;
+	}
+	
 	public int putStringWithoutLengthUtf8(final int index, final String value) {
-		final byte[] bytes = value != null ? value.getBytes(UTF_8) : NULL_BYTES;
-		ensureCapacity(index, bytes.length);
+		return putStringWithoutLengthUtf8(index, (CharSequence)value);
+	}
 		
-		UnsafeApi.copyMemory(bytes, ARRAY_BASE_OFFSET, byteArray, addressOffset + index, bytes.length);
+	public int putStringWithoutLengthUtf8(final int index, final CharSequence value) {
+		final CharSequence chars = value != null ? value : NULL_STRING;
+		final int encodedLength = utf8Length(chars);
+		ensureCapacity(index, encodedLength);
+		encodeUtf8(byteArray, addressOffset + index, chars);
 		
-		return bytes.length;
+		return encodedLength;
 	}
 	
 	public int parseNaturalIntAscii(final int index, final int length) {
@@ -1038,6 +1222,265 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		return length;
 	}
 	
+	/**
+	 * Put the shortest decimal which rounds back to the same double, in the same text form as
+	 * {@link Double#toString(double)} from JDK 19, e.g. {@code 0.1}, {@code 1.0E10} or {@code -4.9E-324}.
+	 * @return the number of bytes written.
+	 */
+	public int putDoubleAscii(final int index, final double value) {
+		return putDoubleAscii0(index, value, SHORTEST);
+	}
+	
+	/**
+	 * Put a double with exactly {@code scale} digits after the decimal point, rounding its shortest decimal form
+	 * half-up, so {@code 1.005} with a scale of 2 is written as {@code 1.01}.
+	 * @return the number of bytes written.
+	 */
+	public int putDoubleAscii(final int index, final double value, final int scale) {
+		checkScale(scale);
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new IllegalArgumentException("value must be finite: value=" + value);
+		}
+		return putDoubleAscii0(index, value, scale);
+	}
+	
+	/**
+	 * Put the shortest decimal which rounds back to the same float, in the same text form as
+	 * {@link Float#toString(float)} from JDK 19.
+	 * @return the number of bytes written.
+	 */
+	public int putFloatAscii(final int index, final float value) {
+		final int bits = Float.floatToRawIntBits(value);
+		final boolean negative = bits < 0;
+		final int t = bits & (FLOAT_C_MIN - 1);
+		final int bq = (bits >>> 23) & 0xFF;
+		
+		if (0xFF == bq) {
+			return putNonFinite(index, 0 != t, negative);
+		}
+		
+		if (0 != bq) {
+			final int mq = -FLOAT_Q_MIN + 1 - bq;
+			final int c = FLOAT_C_MIN | t;
+			if (0 < mq && mq < 24) {
+				final int f = c >> mq;
+				if (f << mq == c) {
+					return putDecimalAscii(index, negative, f, 0, SHORTEST);
+				}
+			}
+			return floatToDecimal(index, negative, -mq, c, 0);
+		}
+		
+		if (0 != t) {
+			return t < 8 ?
+				floatToDecimal(index, negative, FLOAT_Q_MIN, 10 * t, -1) :
+				floatToDecimal(index, negative, FLOAT_Q_MIN, t, 0);
+		}
+		
+		return putDecimalAscii(index, negative, 0, 0, SHORTEST);
+	}
+	
+	/**
+	 * Put a value held as a long scaled by 10^scale, so 12345 with a scale of 2 is written as {@code 123.45}.
+	 * @return the number of bytes written.
+	 */
+	public int putScaledLongAscii(final int index, final long value, final int scale) {
+		checkScale(scale);
+		if (0 == scale) {
+			return putLongAscii(index, value);
+		}
+		
+		final long pow = LONG_POW_10[scale];
+		final boolean negative = value < 0;
+		final long integer = negative ? -(value / pow) : value / pow;
+		final long fraction = negative ? -(value % pow) : value % pow;
+		final int integerDigits = digitCount(integer);
+		final int length = (negative ? 1 : 0) + integerDigits + 1 + scale;
+		
+		ensureCapacity(index, length);
+		final byte[] array = byteArray;
+		long offset = addressOffset + index;
+		if (negative) {
+			UnsafeApi.putByte(array, offset++, MINUS_SIGN);
+		}
+		putPositiveLongAscii(array, offset, integer, integerDigits);
+		offset += integerDigits;
+		UnsafeApi.putByte(array, offset++, (byte)'.');
+		putPaddedLongAscii(array, offset, fraction, scale);
+		
+		return length;
+	}
+	
+	/**
+	 * Parse a decimal with an optional fraction and exponent. Inputs with at most 19 significant digits whose
+	 * value can be computed exactly in double arithmetic take an allocation free path, while other forms such as
+	 * {@code NaN}, {@code Infinity} or very long mantissas fall back to {@link Double#parseDouble(String)}.
+	 */
+	public double parseDoubleAscii(final int index, final int length) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
+		
+		if (length <= 0) {
+			throw new AsciiNumberFormatException("empty string: index=" + index + " length=" + length);
+		}
+		
+		final byte[] array = byteArray;
+		final long offset = addressOffset + index;
+		final boolean negative = MINUS_SIGN == UnsafeApi.getByte(array, offset);
+		final int end = length;
+		int i = negative ? 1 : 0;
+		long mantissa = 0;
+		int significantDigits = 0;
+		int exponent = 0;
+		boolean hasDigits = false;
+		boolean truncated = false;
+		byte b = 0;
+		
+		while (i < end && isDigit(b = UnsafeApi.getByte(array, offset + i))) {
+			hasDigits = true;
+			if (significantDigits < LONG_MAX_DIGITS) {
+				mantissa = mantissa * 10 + (b - ZERO);
+				significantDigits += 0 != mantissa ? 1 : 0;
+			}
+			else {
+				exponent++;
+				truncated |= b != ZERO;
+			}
+			i++;
+		}
+		
+		if (i < end && '.' == b) {
+			i++;
+			while (i < end && isDigit(b = UnsafeApi.getByte(array, offset + i))) {
+				hasDigits = true;
+				if (significantDigits < LONG_MAX_DIGITS) {
+					mantissa = mantissa * 10 + (b - ZERO);
+					significantDigits += 0 != mantissa ? 1 : 0;
+					exponent--;
+				}
+				else {
+					truncated |= b != ZERO;
+				}
+				i++;
+			}
+		}
+		
+		if (hasDigits && i < end && ('e' == b || 'E' == b)) {
+			i++;
+			final boolean negativeExponent = i < end && MINUS_SIGN == UnsafeApi.getByte(array, offset + i);
+			if (i < end && (negativeExponent || '+' == UnsafeApi.getByte(array, offset + i))) {
+				i++;
+			}
+			
+			final int exponentStart = i;
+			int exponentValue = 0;
+			while (i < end && isDigit(b = UnsafeApi.getByte(array, offset + i))) {
+				exponentValue = Math.min(exponentValue * 10 + (b - ZERO), 100_000);
+				i++;
+			}
+			
+			if (exponentStart == i) {
+				return parseDoubleAsciiSlow(index, length);
+			}
+			exponent += negativeExponent ? -exponentValue : exponentValue;
+		}
+		
+		if (!hasDigits || i != end || truncated) {
+			return parseDoubleAsciiSlow(index, length);
+		}
+		
+		if (0 == mantissa) {
+			return negative ? -0.0 : 0.0;
+		}
+		
+		if (mantissa > DOUBLE_EXACT_MANTISSA_MAX) {
+			return parseDoubleAsciiSlow(index, length);
+		}
+		
+		double value;
+		if (0 == exponent) {
+			value = mantissa;
+		}
+		else if (exponent < 0 && exponent >= -22) {
+			value = mantissa / DOUBLE_POW_10[-exponent];
+		}
+		else if (exponent > 0 && exponent < 22 + 16) {
+			if (exponent > 22) {
+				final long pow = LONG_POW_10[exponent - 22];
+				if (mantissa > DOUBLE_EXACT_MANTISSA_MAX / pow) {
+					return parseDoubleAsciiSlow(index, length);
+				}
+				value = (mantissa * pow) * DOUBLE_POW_10[22];
+			}
+			else {
+				value = mantissa * DOUBLE_POW_10[exponent];
+			}
+		}
+		else {
+			return parseDoubleAsciiSlow(index, length);
+		}
+		
+		return negative ? -value : value;
+	}
+	
+	/**
+	 * Parse a decimal with at most {@code scale} fraction digits into a long scaled by 10^scale, so {@code 123.45}
+	 * with a scale of 4 gives 1234500.
+	 */
+	public long parseScaledLongAscii(final int index, final int length, final int scale) {
+		checkScale(scale);
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
+		
+		if (length <= 0) {
+			throw new AsciiNumberFormatException("empty string: index=" + index + " length=" + length);
+		}
+		
+		final byte[] array = byteArray;
+		final long offset = addressOffset + index;
+		final boolean negative = MINUS_SIGN == UnsafeApi.getByte(array, offset);
+		int i = negative ? 1 : 0;
+		long tally = 0;
+		int fractionDigits = 0;
+		boolean hasDigits = false;
+		boolean inFraction = false;
+		
+		try {
+			for (; i < length; i++) {
+				final byte b = UnsafeApi.getByte(array, offset + i);
+				if (isDigit(b)) {
+					hasDigits = true;
+					if (inFraction && ++fractionDigits > scale) {
+						throw new AsciiNumberFormatException("more than " + scale + " fraction digits: " +
+							getStringWithoutLengthAscii(index, length));
+					}
+					tally = Math.subtractExact(Math.multiplyExact(tally, 10), b - ZERO);
+				}
+				else if ('.' == b && !inFraction) {
+					inFraction = true;
+				}
+				else {
+					throw new AsciiNumberFormatException("error parsing scaled number: " +
+						getStringWithoutLengthAscii(index, length));
+				}
+			}
+			
+			if (!hasDigits) {
+				throw new AsciiNumberFormatException("error parsing scaled number: " +
+					getStringWithoutLengthAscii(index, length));
+			}
+			
+			tally = Math.multiplyExact(tally, LONG_POW_10[scale - fractionDigits]);
+			
+			return negative ? tally : Math.negateExact(tally);
+		}
+		catch (final ArithmeticException ex) {
+			throw new AsciiNumberFormatException("long overflow parsing: " + getStringWithoutLengthAscii(index, length));
+		}
+	}
+	
 	public void boundsCheck(final int index, final int length) {
 		boundsCheck0(index, length);
 	}
@@ -1059,25 +1502,7 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 			return false;
 		}
 		
-		final byte[] thisArray = this.byteArray;
-		final byte[] thatArray = that.byteArray;
-		final long thisOffset = this.addressOffset;
-		final long thatOffset = that.addressOffset;
-		
-		int i = 0;
-		for (int end = length & ~7; i < end; i += 8) {
-			if (UnsafeApi.getLong(thisArray, thisOffset + i) != UnsafeApi.getLong(thatArray, thatOffset + i)) {
-				return false;
-			}
-		}
-		
-		for (; i < length; i++) {
-			if (UnsafeApi.getByte(thisArray, thisOffset + i) != UnsafeApi.getByte(thatArray, thatOffset + i)) {
-				return false;
-			}
-		}
-		
-		return true;
+		return -1 == mismatch(this.byteArray, this.addressOffset, that.byteArray, that.addressOffset, length);
 	}
 	
 	public int hashCode() {
@@ -1085,6 +1510,14 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		final long addressOffset = this.addressOffset;
 		final int length = capacity;
 		int i = 0, hashCode = 19;
+		for (int end = length & ~31; i < end; i += 32) {
+			hashCode = 923521 * hashCode +
+				29791 * Long.hashCode(UnsafeApi.getLong(array, addressOffset + i)) +
+				961 * Long.hashCode(UnsafeApi.getLong(array, addressOffset + i + 8)) +
+				31 * Long.hashCode(UnsafeApi.getLong(array, addressOffset + i + 16)) +
+				Long.hashCode(UnsafeApi.getLong(array, addressOffset + i + 24));
+		}
+		
 		for (int end = length & ~7; i < end; i += 8) {
 			hashCode = 31 * hashCode + Long.hashCode(UnsafeApi.getLong(array, addressOffset + i));
 		}
@@ -1103,33 +1536,80 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		
 		final int thisCapacity = this.capacity;
 		final int thatCapacity = that.capacity();
-		final byte[] thisArray = this.byteArray;
-		final byte[] thatArray = that.byteArray();
-		final long thisOffset = this.addressOffset;
-		final long thatOffset = that.addressOffset();
 		final int length = Math.min(thisCapacity, thatCapacity);
 		
-		int i = 0;
+		final int i = mismatch(0, that, 0, length);
+		if (-1 == i) {
+			return Integer.compare(thisCapacity, thatCapacity);
+		}
+		
+		if (i < (length & ~7)) {
+			final int word = i & ~7;
+			return Long.compare(UnsafeApi.getLong(byteArray, addressOffset + word), that.getLong(word));
+		}
+		
+		return Byte.compare(UnsafeApi.getByte(byteArray, addressOffset + i), that.getByte(i));
+	}
+	
+	public int indexOf(final byte value) {
+		return indexOf(0, capacity, value);
+	}
+	
+	public int indexOf(final int index, final int length, final byte value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
 		
+		final byte[] array = byteArray;
+		final long offset = addressOffset + index;
+		final long pattern = (value & 0xFFL) * 0x0101_0101_0101_0101L;
+		int i = 0;
 		for (int end = length & ~7; i < end; i += 8) {
-			final int cmp = Long.compare(
-					UnsafeApi.getLong(thisArray, thisOffset + i),
-					UnsafeApi.getLong(thatArray, thatOffset + i));
-			if (0 != cmp) {
-				return cmp;
+			final long zeroBytes = zeroBytes(UnsafeApi.getLong(array, offset + i) ^ pattern);
+			if (0 != zeroBytes) {
+				return index + i + firstByteIndex(zeroBytes);
 			}
 		}
 		
 		for (; i < length; i++) {
-			final int cmp = Byte.compare(
-					UnsafeApi.getByte(thisArray, thisOffset + i),
-					UnsafeApi.getByte(thatArray, thatOffset + i));
-			if (cmp != 0) {
-				return cmp;
+			if (value == UnsafeApi.getByte(array, offset + i)) {
+				return index + i;
 			}
 		}
 		
-		return Integer.compare(thisCapacity, thatCapacity);
+		return -1;
+	}
+	
+	public int indexOf(final DirectBuffer pattern) {
+		return indexOf(0, capacity, pattern);
+	}
+	
+	public int indexOf(final int index, final int length, final DirectBuffer pattern) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
+		
+		final int patternLength = pattern.capacity();
+		if (0 == patternLength) {
+			return index;
+		}
+		
+		final byte first = pattern.getByte(0);
+		final int last = index + length - patternLength;
+		int i = index;
+		while (i <= last) {
+			final int candidate = indexOf(i, last - i + 1, first);
+			if (-1 == candidate) {
+				break;
+			}
+			
+			if (-1 == mismatch(candidate, pattern, 0, patternLength)) {
+				return candidate;
+			}
+			i = candidate + 1;
+		}
+		
+		return -1;
 	}
 	
 	protected final void boundsCheck0(final int index, final int length) {
@@ -1141,12 +1621,250 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 
 	protected abstract void ensureCapacity(int index, int length);
 	
+	/**
+	 * Number of bytes needed to encode a sequence as UTF-8. Unpaired surrogates are encoded as '?', as
+	 * {@link String#getBytes(java.nio.charset.Charset)} does.
+	 */
+	private static int utf8Length(final CharSequence value) {
+		final int length = value.length();
+		int encodedLength = length;
+		for (int i = 0; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c >= 0x80) {
+				if (c < 0x800) {
+					encodedLength += 1;
+				} else if (!Character.isSurrogate(c)) {
+					encodedLength += 2;
+				} else if (Character.isHighSurrogate(c) && i + 1 < length &&
+						Character.isLowSurrogate(value.charAt(i + 1))) {
+					encodedLength += 2;
+					i++;
+				}
+			}
+		}
+		
+		return encodedLength;
+	}
+	
+	/**
+	 * Encode a sequence as UTF-8 without intermediate arrays. Runs of ASCII are packed eight per long store.
+	 */
+	private static void encodeUtf8(final byte[] array, final long offset, final CharSequence value) {
+		final int length = value.length();
+		long position = offset;
+		int i = 0;
+		while (i < length) {
+			if (i + 8 <= length) {
+				final long word = asciiWord(value, i);
+				if (-1L != word) {
+					UnsafeApi.putLong(array, position, word);
+					position += 8;
+					i += 8;
+					continue;
+				}
+			}
+			
+			final char c = value.charAt(i++);
+			if (c < 0x80) {
+				UnsafeApi.putByte(array, position++, (byte)c);
+			} else if (c < 0x800) {
+				UnsafeApi.putByte(array, position++, (byte)(0xC0 | (c >> 6)));
+				UnsafeApi.putByte(array, position++, (byte)(0x80 | (c & 0x3F)));
+			} else if (!Character.isSurrogate(c)) {
+				UnsafeApi.putByte(array, position++, (byte)(0xE0 | (c >> 12)));
+				UnsafeApi.putByte(array, position++, (byte)(0x80 | ((c >> 6) & 0x3F)));
+				UnsafeApi.putByte(array, position++, (byte)(0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(value.charAt(i))) {
+				final int codePoint = Character.toCodePoint(c, value.charAt(i++));
+				UnsafeApi.putByte(array, position++, (byte)(0xF0 | (codePoint >> 18)));
+				UnsafeApi.putByte(array, position++, (byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+				UnsafeApi.putByte(array, position++, (byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+				UnsafeApi.putByte(array, position++, (byte)(0x80 | (codePoint & 0x3F)));
+			} else {
+				UnsafeApi.putByte(array, position++, (byte)'?');
+			}
+		}
+	}
+	
+	/**
+	 * Pack eight chars into a long in native byte order if they are all ASCII, otherwise return -1.
+	 */
+	private static long asciiWord(final CharSequence value, final int index) {
+		long word = 0;
+		int bits = 0;
+		for (int i = 0; i < 8; i++) {
+			final char c = value.charAt(index + i);
+			bits |= c;
+			final int shift = (NATIVE_BYTE_ORDER == LITTLE_ENDIAN ? i : 7 - i) << 3;
+			word |= (long)c << shift;
+		}
+		
+		return bits < 0x80 ? word : -1L;
+	}
+	
+	/**
+	 * Decode UTF-8 to an {@link Appendable} without intermediate arrays, taking eight ASCII bytes at a time. Malformed
+	 * input is replaced by one U+FFFD per maximal invalid subsequence, as the {@link String} decoder does, so a
+	 * truncated sequence yields a single replacement.
+	 */
+	private static void decodeUtf8(final byte[] array, final long offset, final int length, final Appendable appendable)
+			throws IOException {
+		int i = 0;
+		while (i < length) {
+			if (i + 8 <= length) {
+				final long word = UnsafeApi.getLong(array, offset + i);
+				if (0 == (word & 0x8080_8080_8080_8080L)) {
+					for (int j = 0; j < 8; j++) {
+						appendable.append((char)UnsafeApi.getByte(array, offset + i + j));
+					}
+					i += 8;
+					continue;
+				}
+			}
+			
+			final int b0 = UnsafeApi.getByte(array, offset + i) & 0xFF;
+			if (b0 < 0x80) {
+				appendable.append((char)b0);
+				i++;
+				continue;
+			}
+			
+			final int sequenceLength = b0 < 0xC2 ? 0 : b0 < 0xE0 ? 2 : b0 < 0xF0 ? 3 : b0 < 0xF5 ? 4 : 0;
+			final int min = 0xE0 == b0 ? 0xA0 : 0xF0 == b0 ? 0x90 : 0x80;
+			final int max = 0xF4 == b0 ? 0x8F : 0xBF;
+			
+			int valid = 0 == sequenceLength ? 0 : 1;
+			if (valid > 0 && i + 1 < length) {
+				final int b1 = UnsafeApi.getByte(array, offset + i + 1) & 0xFF;
+				if (b1 >= min && b1 <= max) {
+					valid = 2;
+					while (valid < sequenceLength && i + valid < length &&
+							isContinuation(UnsafeApi.getByte(array, offset + i + valid))) {
+						valid++;
+					}
+				}
+			}
+			
+			if (0 == sequenceLength || valid < sequenceLength) {
+				appendable.append('\uFFFD');
+				i += Math.max(valid, 1);
+				continue;
+			}
+			
+			int codePoint = b0 & (0x7F >> sequenceLength);
+			for (int j = 1; j < sequenceLength; j++) {
+				codePoint = (codePoint << 6) | (UnsafeApi.getByte(array, offset + i + j) & 0x3F);
+			}
+			
+			if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				appendable.append(Character.isSurrogate((char)codePoint) ? '\uFFFD' : (char)codePoint);
+			} else {
+				appendable.append(Character.highSurrogate(codePoint));
+				appendable.append(Character.lowSurrogate(codePoint));
+			}
+			i += sequenceLength;
+		}
+	}
+	
+	private static boolean isContinuation(final byte b) {
+		return (b & 0xC0) == 0x80;
+	}
+	
+	/**
+	 * Offset of the first byte which differs between a range of this buffer and a range of another, or -1 if they are
+	 * equal. A {@link CompositeDirectBuffer} has no single address so it is compared a segment at a time.
+	 */
+	private int mismatch(final int index, final DirectBuffer that, final int thatIndex, final int length) {
+		if (!(that instanceof CompositeDirectBuffer)) {
+			return mismatch(
+					byteArray, addressOffset + index, that.byteArray(), that.addressOffset() + thatIndex, length);
+		}
+		
+		final CompositeDirectBuffer composite = (CompositeDirectBuffer)that;
+		final int end = thatIndex + length;
+		for (int s = 0, segmentCount = composite.segmentCount(); s < segmentCount; s++) {
+			final int segmentStart = composite.segmentStart(s);
+			final int segmentEnd = segmentStart + composite.segmentLength(s);
+			final int from = Math.max(thatIndex, segmentStart);
+			final int to = Math.min(end, segmentEnd);
+			if (from < to) {
+				final int i = mismatch(
+						index + from - thatIndex,
+						composite.segment(s),
+						composite.segmentOffset(s) + from - segmentStart,
+						to - from);
+				if (-1 != i) {
+					return from - thatIndex + i;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Index of the first byte which differs between two ranges, or -1 if they are equal. Array backed ranges use
+	 * {@link Arrays#mismatch(byte[], int, int, byte[], int, int)} which the JIT vectorises, otherwise 16 bytes are
+	 * compared per iteration.
+	 */
+	private static int mismatch(
+			final byte[] thisArray, final long thisOffset, final byte[] thatArray, final long thatOffset, final int length) {
+		if (null != thisArray && null != thatArray) {
+			final int thisIndex = (int)(thisOffset - ARRAY_BASE_OFFSET);
+			final int thatIndex = (int)(thatOffset - ARRAY_BASE_OFFSET);
+			return Arrays.mismatch(
+					thisArray, thisIndex, thisIndex + length, thatArray, thatIndex, thatIndex + length);
+		}
+		
+		int i = 0;
+		for (int end = length & ~15; i < end; i += 16) {
+			final long d0 = UnsafeApi.getLong(thisArray, thisOffset + i) ^ UnsafeApi.getLong(thatArray, thatOffset + i);
+			final long d1 = UnsafeApi.getLong(thisArray, thisOffset + i + 8) ^
+					UnsafeApi.getLong(thatArray, thatOffset + i + 8);
+			if (0 != (d0 | d1)) {
+				return 0 != d0 ? i + firstByteIndex(d0) : i + 8 + firstByteIndex(d1);
+			}
+		}
+		
+		if (length - i >= 8) {
+			final long d = UnsafeApi.getLong(thisArray, thisOffset + i) ^ UnsafeApi.getLong(thatArray, thatOffset + i);
+			if (0 != d) {
+				return i + firstByteIndex(d);
+			}
+			i += 8;
+		}
+		
+		for (; i < length; i++) {
+			if (UnsafeApi.getByte(thisArray, thisOffset + i) != UnsafeApi.getByte(thatArray, thatOffset + i)) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Mark with 0x80 each byte of a word which is zero, without false positives.
+	 */
+	private static long zeroBytes(final long word) {
+		final long t = (word & 0x7F7F_7F7F_7F7F_7F7FL) + 0x7F7F_7F7F_7F7F_7F7FL;
+		return ~(t | word | 0x7F7F_7F7F_7F7F_7F7FL);
+	}
+	
+	/**
+	 * Index in memory order of the first non-zero byte of a word read in native byte order.
+	 */
+	private static int firstByteIndex(final long word) {
+		return (NATIVE_BYTE_ORDER == LITTLE_ENDIAN ?
+				Long.numberOfTrailingZeros(word) : Long.numberOfLeadingZeros(word)) >>> 3;
+	}
+	
 	private int parsePositiveIntAscii(final int index, final int length, final int startIndex, final int end) {
 		final long offset = addressOffset;
 		final byte[] array = byteArray;
 		int i = startIndex;
 		int tally = 0, quartet;
-		while ((end - i) >= 4 && isFourDigitAsciiEncodedNumber(quartet = UnsafeApi.getInt(array, offset + 1))) {
+		while ((end - i) >= 4 && isFourDigitAsciiEncodedNumber(quartet = UnsafeApi.getInt(array, offset + i))) {
 			if (NATIVE_BYTE_ORDER != LITTLE_ENDIAN) {
 				quartet = Integer.reverseBytes(quartet);
 			}
@@ -1305,6 +2023,318 @@ public abstract class AbstractMutableDirectBuffer implements MutableDirectBuffer
 		throw new AsciiNumberFormatException("long overflow parsing: " + getStringWithoutLengthAscii(index, length));
 	}
 	
+	private int putDoubleAscii0(final int index, final double value, final int scale) {
+		final long bits = Double.doubleToRawLongBits(value);
+		final boolean negative = bits < 0;
+		final long t = bits & (DOUBLE_C_MIN - 1);
+		final int bq = (int)(bits >>> 52) & 0x7FF;
+		
+		if (0x7FF == bq) {
+			return putNonFinite(index, 0 != t, negative);
+		}
+		
+		if (0 != bq) {
+			final int mq = -DOUBLE_Q_MIN + 1 - bq;
+			final long c = DOUBLE_C_MIN | t;
+			if (0 < mq && mq < 53) {
+				final long f = c >> mq;
+				if (f << mq == c) {
+					return putDecimalAscii(index, negative, f, 0, scale);
+				}
+			}
+			return doubleToDecimal(index, negative, -mq, c, 0, scale);
+		}
+		
+		if (0 != t) {
+			return t < 3 ?
+				doubleToDecimal(index, negative, DOUBLE_Q_MIN, 10 * t, -1, scale) :
+				doubleToDecimal(index, negative, DOUBLE_Q_MIN, t, 0, scale);
+		}
+		
+		return putDecimalAscii(index, negative, 0, 0, scale);
+	}
+	
+	/**
+	 * Schubfach conversion of c * 2^q to the shortest decimal within its rounding interval, preferring the closest
+	 * and then the even candidate.
+	 */
+	private int doubleToDecimal(
+		final int index, final boolean negative, final int q, final long c, final int dk, final int scale) {
+		final long out = c & 1;
+		final long cb = c << 2;
+		final long cbr = cb + 2;
+		final long cbl;
+		final int k;
+		if (c != DOUBLE_C_MIN | q == DOUBLE_Q_MIN) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		}
+		else {
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		
+		final int h = q + flog2pow10(-k) + 2;
+		final long g1 = g1(k);
+		final long g0 = g0(k);
+		final long vb = roundToOdd(g1, g0, cb << h);
+		final long vbl = roundToOdd(g1, g0, cbl << h);
+		final long vbr = roundToOdd(g1, g0, cbr << h);
+		
+		final long s = vb >> 2;
+		if (s >= 100) {
+			final long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+			final long tp10 = sp10 + 10;
+			final boolean upin = vbl + out <= sp10 << 2;
+			final boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				return putDecimalAscii(index, negative, upin ? sp10 : tp10, k, scale);
+			}
+		}
+		
+		final long t = s + 1;
+		final boolean uin = vbl + out <= s << 2;
+		final boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			return putDecimalAscii(index, negative, uin ? s : t, k + dk, scale);
+		}
+		
+		final long cmp = vb - (s + t << 1);
+		return putDecimalAscii(index, negative, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, scale);
+	}
+	
+	private int floatToDecimal(final int index, final boolean negative, final int q, final int c, final int dk) {
+		final int out = c & 1;
+		final long cb = (long)c << 2;
+		final long cbr = cb + 2;
+		final long cbl;
+		final int k;
+		if (c != FLOAT_C_MIN | q == FLOAT_Q_MIN) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		}
+		else {
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		
+		final int h = q + flog2pow10(-k) + 33;
+		final long g = g1(k) + 1;
+		final int vb = roundToOdd(g, cb << h);
+		final int vbl = roundToOdd(g, cbl << h);
+		final int vbr = roundToOdd(g, cbr << h);
+		
+		final int s = vb >> 2;
+		if (s >= 100) {
+			final int sp10 = 10 * (int)(s * 1_717_986_919L >>> 34);
+			final int tp10 = sp10 + 10;
+			final boolean upin = vbl + out <= sp10 << 2;
+			final boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				return putDecimalAscii(index, negative, upin ? sp10 : tp10, k, SHORTEST);
+			}
+		}
+		
+		final int t = s + 1;
+		final boolean uin = vbl + out <= s << 2;
+		final boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			return putDecimalAscii(index, negative, uin ? s : t, k + dk, SHORTEST);
+		}
+		
+		final int cmp = vb - (s + t << 1);
+		return putDecimalAscii(index, negative, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, SHORTEST);
+	}
+	
+	private static long roundToOdd(final long g1, final long g0, final long cp) {
+		final long x1 = Math.multiplyHigh(g0, cp);
+		final long y0 = g1 * cp;
+		final long y1 = Math.multiplyHigh(g1, cp);
+		final long z = (y0 >>> 1) + x1;
+		final long vbp = y1 + (z >>> 63);
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+	
+	private static int roundToOdd(final long g, final long cp) {
+		final long x1 = Math.multiplyHigh(g, cp);
+		final long vbp = x1 >>> 31;
+		return (int)(vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+	}
+	
+	/**
+	 * Put f * 10^e either in its shortest form or, when scale is not SHORTEST, rounded half-up to scale fraction
+	 * digits.
+	 */
+	private int putDecimalAscii(final int index, final boolean negative, final long f, final int e, final int scale) {
+		if (SHORTEST == scale) {
+			return putShortestDecimalAscii(index, negative, f, e);
+		}
+		
+		long digits = f;
+		int exponent = e;
+		if (exponent < -scale) {
+			final int drop = -scale - exponent;
+			if (drop >= LONG_MAX_DIGITS) {
+				digits = 0;
+			}
+			else {
+				final long pow = LONG_POW_10[drop];
+				final long remainder = digits % pow;
+				digits = digits / pow + (remainder << 1 >= pow ? 1 : 0);
+			}
+			exponent = -scale;
+		}
+		
+		final boolean isNegative = negative && 0 != digits;
+		final int fractionDigits = Math.max(0, -exponent);
+		final long integer = 0 == fractionDigits ? digits : digits / LONG_POW_10[fractionDigits];
+		final long fraction = 0 == fractionDigits ? 0 : digits % LONG_POW_10[fractionDigits];
+		final int integerDigits = digitCount(integer);
+		final int integerZeros = 0 != digits && exponent > 0 ? exponent : 0;
+		final int length = (isNegative ? 1 : 0) + integerDigits + integerZeros + (scale > 0 ? 1 + scale : 0);
+		
+		ensureCapacity(index, length);
+		final byte[] array = byteArray;
+		long offset = addressOffset + index;
+		if (isNegative) {
+			UnsafeApi.putByte(array, offset++, MINUS_SIGN);
+		}
+		putPositiveLongAscii(array, offset, integer, integerDigits);
+		offset += integerDigits;
+		UnsafeApi.setMemory(array, offset, integerZeros, ZERO);
+		offset += integerZeros;
+		
+		if (scale > 0) {
+			UnsafeApi.putByte(array, offset++, (byte)'.');
+			putPaddedLongAscii(array, offset, fraction, fractionDigits);
+			UnsafeApi.setMemory(array, offset + fractionDigits, scale - fractionDigits, ZERO);
+		}
+		
+		return length;
+	}
+	
+	private int putShortestDecimalAscii(final int index, final boolean negative, final long f, final int e) {
+		final int sign = negative ? 1 : 0;
+		if (0 == f) {
+			final int length = sign + 3;
+			ensureCapacity(index, length);
+			final long offset = addressOffset + index;
+			if (negative) {
+				UnsafeApi.putByte(byteArray, offset, MINUS_SIGN);
+			}
+			UnsafeApi.putByte(byteArray, offset + sign, ZERO);
+			UnsafeApi.putByte(byteArray, offset + sign + 1, (byte)'.');
+			UnsafeApi.putByte(byteArray, offset + sign + 2, ZERO);
+			return length;
+		}
+		
+		long digits = f;
+		int exponent = e;
+		while (0 == digits % 10) {
+			digits /= 10;
+			exponent++;
+		}
+		
+		final int digitCount = digitCount(digits);
+		final int decimalExponent = digitCount + exponent - 1;
+		final byte[] array;
+		long offset;
+		final int length;
+		
+		if (-3 <= decimalExponent && decimalExponent < 7) {
+			if (exponent >= 0) {
+				length = sign + digitCount + exponent + 2;
+				ensureCapacity(index, length);
+				array = byteArray;
+				offset = addressOffset + index + sign;
+				putPositiveLongAscii(array, offset, digits, digitCount);
+				offset += digitCount;
+				UnsafeApi.setMemory(array, offset, exponent, ZERO);
+				offset += exponent;
+				UnsafeApi.putByte(array, offset, (byte)'.');
+				UnsafeApi.putByte(array, offset + 1, ZERO);
+			}
+			else if (decimalExponent >= 0) {
+				final int integerDigits = decimalExponent + 1;
+				length = sign + digitCount + 1;
+				ensureCapacity(index, length);
+				array = byteArray;
+				offset = addressOffset + index + sign;
+				final long pow = LONG_POW_10[digitCount - integerDigits];
+				putPositiveLongAscii(array, offset, digits / pow, integerDigits);
+				UnsafeApi.putByte(array, offset + integerDigits, (byte)'.');
+				putPaddedLongAscii(array, offset + integerDigits + 1, digits % pow, digitCount - integerDigits);
+			}
+			else {
+				final int leadingZeros = -decimalExponent - 1;
+				length = sign + 2 + leadingZeros + digitCount;
+				ensureCapacity(index, length);
+				array = byteArray;
+				offset = addressOffset + index + sign;
+				UnsafeApi.putByte(array, offset, ZERO);
+				UnsafeApi.putByte(array, offset + 1, (byte)'.');
+				UnsafeApi.setMemory(array, offset + 2, leadingZeros, ZERO);
+				putPositiveLongAscii(array, offset + 2 + leadingZeros, digits, digitCount);
+			}
+		}
+		else {
+			final int absExponent = Math.abs(decimalExponent);
+			final int exponentDigits = digitCount(absExponent);
+			final int mantissaLength = 1 == digitCount ? 3 : digitCount + 1;
+			length = sign + mantissaLength + 1 + (decimalExponent < 0 ? 1 : 0) + exponentDigits;
+			ensureCapacity(index, length);
+			array = byteArray;
+			offset = addressOffset + index + sign;
+			putPositiveLongAscii(array, offset + 1, digits, digitCount);
+			UnsafeApi.putByte(array, offset, UnsafeApi.getByte(array, offset + 1));
+			UnsafeApi.putByte(array, offset + 1, (byte)'.');
+			if (1 == digitCount) {
+				UnsafeApi.putByte(array, offset + 2, ZERO);
+			}
+			offset += mantissaLength;
+			UnsafeApi.putByte(array, offset++, (byte)'E');
+			if (decimalExponent < 0) {
+				UnsafeApi.putByte(array, offset++, MINUS_SIGN);
+			}
+			putPositiveIntAscii(array, offset, absExponent, exponentDigits);
+		}
+		
+		if (negative) {
+			UnsafeApi.putByte(array, addressOffset + index, MINUS_SIGN);
+		}
+		
+		return length;
+	}
+	
+	private int putNonFinite(final int index, final boolean isNaN, final boolean negative) {
+		final byte[] text = isNaN ? NAN_BYTES : negative ? NEGATIVE_INFINITY_BYTES : INFINITY_BYTES;
+		putBytes(index, text);
+		return text.length;
+	}
+	
+	private double parseDoubleAsciiSlow(final int index, final int length) {
+		try {
+			return Double.parseDouble(getStringWithoutLengthAscii(index, length));
+		}
+		catch (final NumberFormatException ex) {
+			throw new AsciiNumberFormatException("error parsing double: " + getStringWithoutLengthAscii(index, length));
+		}
+	}
+	
+	private static void checkScale(final int scale) {
+		if (scale < 0 || scale > MAX_SCALE) {
+			throw new IllegalArgumentException("scale outside 0.." + MAX_SCALE + ": scale=" + scale);
+		}
+	}
+	
+	private static void putPaddedLongAscii(final byte[] dest, final long offset, final long value, final int width) {
+		if (width > 0) {
+			final int digitCount = digitCount(value);
+			UnsafeApi.setMemory(dest, offset, width - digitCount, ZERO);
+			putPositiveLongAscii(dest, offset + width - digitCount, value, digitCount);
+		}
+	}
+	
 	private static void putPositiveIntAscii(final byte[] dest, final long offset, final int value, final int digitCount) {
 		int i = digitCount;
 		int quotient = value;
@@ -43,6 +43,14 @@ public final class AsciiEncoding {
 			1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
 	};
 	
+	/**
+	 * Powers of ten which are exactly representable as a double.
+	 */
+	public static final double[] DOUBLE_POW_10 = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
 	private static final long[] INT_DIGITS = new long[32];
 	private static final long[] LONG_DIGITS = new long[64];
 	
@@ -162,6 +170,42 @@ public final class AsciiEncoding {
 		}
 	}
 	
+	/**
+	 * floor(log10(2^e)) for |e| <= 5456721.
+	 */
+	static int flog10pow2(final int e) {
+		return (int)(e * 661_971_961_083L >> 41);
+	}
+	
+	/**
+	 * floor(log10(3/4 * 2^e)) for |e| <= 5456721.
+	 */
+	static int flog10threeQuartersPow2(final int e) {
+		return (int)(e * 661_971_961_083L + -274_743_187_321L >> 41);
+	}
+	
+	/**
+	 * floor(log2(10^e)) for |e| <= 1838394.
+	 */
+	static int flog2pow10(final int e) {
+		return (int)(e * 913_124_641_741L >> 38);
+	}
+	
+	/**
+	 * High 63 bits of the 126 bit approximation g of 10^-k, where 2^125 <= g < 2^126, used for the Schubfach
+	 * conversion of doubles and floats to shortest decimals.
+	 */
+	static long g1(final int k) {
+		return PowersOfTen.G[(k - PowersOfTen.K_MIN) << 1];
+	}
+	
+	/**
+	 * Low 63 bits of the approximation of 10^-k.
+	 */
+	static long g0(final int k) {
+		return PowersOfTen.G[((k - PowersOfTen.K_MIN) << 1) + 1];
+	}
+	
 	public static boolean isFourDigitAsciiEncodedNumber(final int value) {
 		return 0 == ((((value + 0x46464646) | (value - 0x30303030)) & 0x80808080));
 	}
@@ -327,4 +371,30 @@ public final class AsciiEncoding {
 			cs.charAt(index);
 
 	}
-} 
+
+	static final class PowersOfTen {
+		static final int K_MIN = -324;
+		static final int K_MAX = 292;
+		static final long[] G = new long[(K_MAX - K_MIN + 1) << 1];
+		
+		static {
+			final BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+			for (int k = K_MIN; k <= K_MAX; k++) {
+				final BigInteger g;
+				if (k <= 0) {
+					final BigInteger pow = BigInteger.TEN.pow(-k);
+					final int shift = 126 - pow.bitLength();
+					g = (shift >= 0 ? pow.shiftLeft(shift) : pow.shiftRight(-shift)).add(BigInteger.ONE);
+				}
+				else {
+					final BigInteger pow = BigInteger.TEN.pow(k);
+					g = BigInteger.ONE.shiftLeft(125 + pow.bitLength()).divide(pow).add(BigInteger.ONE);
+				}
+				
+				final int i = (k - K_MIN) << 1;
+				G[i] = g.shiftRight(63).longValue();
+				G[i + 1] = g.and(mask63).longValue();
+			}
+		}
+	}
+}
@@ -71,11 +71,44 @@ public class BitUtil {
 	 * If the value equals an alignment multiple then it is returned unchanged.
 	 */
 	public static int align(final int value, final int alignment) {
-		return (value + (alignment - 1)) & alignment;
+		return (value + (alignment - 1)) & -alignment;
 	}
 	
 	public static long align(final long value, final long alignment) {
-		return (value + (alignment - 1)) & alignment;
+		return (value + (alignment - 1)) & -alignment;
+	}
+	
+	/**
+	 * Number of bytes needed to encode an int as an unsigned LEB128 varint, between 1 and 5.
+	 */
+	public static int sizeOfVarInt(final int value) {
+		return ((Integer.SIZE * 9 + 64) - (Integer.numberOfLeadingZeros(value) * 9)) >>> 6;
+	}
+	
+	/**
+	 * Number of bytes needed to encode a long as an unsigned LEB128 varint, between 1 and 10.
+	 */
+	public static int sizeOfVarLong(final long value) {
+		return ((Long.SIZE * 9 + 64) - (Long.numberOfLeadingZeros(value) * 9)) >>> 6;
+	}
+	
+	/**
+	 * Map a signed int onto an unsigned one so small magnitudes of either sign encode as short varints.
+	 */
+	public static int zigZagEncode(final int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+	
+	public static int zigZagDecode(final int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	public static long zigZagEncode(final long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+	
+	public static long zigZagDecode(final long value) {
+		return (value >>> 1) ^ -(value & 1);
 	}
 	
 	/**
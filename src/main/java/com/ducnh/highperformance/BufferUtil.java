@@ -2,6 +2,7 @@ package com.ducnh.highperformance;
 
 import static com.ducnh.highperformance.BitUtil.isPowerOfTwo;
 
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
@@ -22,7 +23,7 @@ public class BufferUtil {
 			BYTE_BUFFER_OFFSET_FIELD_OFFSET = UnsafeApi.objectFieldOffset(
 					ByteBuffer.class.getDeclaredField("offset"));
 			BYTE_BUFFER_ADDRESS_FIELD_OFFSET = UnsafeApi.objectFieldOffset(
-					ByteBuffer.class.getDeclaredField("address"));
+					Buffer.class.getDeclaredField("address"));
 		}
 		catch (final Exception ex) {
 			throw new RuntimeException(ex);
@@ -0,0 +1,647 @@
+package com.ducnh.highperformance;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+import com.ducnh.highperformance.concurrent.UnsafeBuffer;
+
+import static com.ducnh.highperformance.BitUtil.*;
+import static com.ducnh.highperformance.BufferUtil.NATIVE_BYTE_ORDER;
+
+/**
+ * Read-only {@link DirectBuffer} which presents a sequence of segments, each a range of another
+ * {@link DirectBuffer}, as one contiguous index space without copying them.
+ * <p>
+ * Segment lookup remembers the last segment used so sequential access is a range check, falling back to a binary
+ * search over the segment start indices. Primitive reads which span a segment boundary are assembled byte by byte,
+ * while string, parse and varint reads which span a boundary are served from a private scratch copy of the range.
+ * <p>
+ * {@link #addressOffset()}, {@link #byteArray()} and {@link #byteBuffer()} are only available when there is a single
+ * segment. {@link #byteBuffers()} exports the segments as {@link ByteBuffer} views for gathering writes.
+ */
+public class CompositeDirectBuffer implements DirectBuffer {
+	private static final int INITIAL_SEGMENTS = 4;
+	
+	private DirectBuffer[] buffers = new DirectBuffer[INITIAL_SEGMENTS];
+	private int[] bufferOffsets = new int[INITIAL_SEGMENTS];
+	private int[] starts = new int[INITIAL_SEGMENTS + 1];
+	private int segmentCount;
+	private int lastSegment;
+	private ByteBuffer[] views;
+	private Object[] viewSources;
+	private ExpandableArrayBuffer scratch;
+	private DirectBuffer resolved;
+	
+	public CompositeDirectBuffer() {
+	}
+	
+	public CompositeDirectBuffer(final DirectBuffer... segments) {
+		for (final DirectBuffer segment : segments) {
+			addSegment(segment);
+		}
+	}
+	
+	/**
+	 * Remove all segments.
+	 */
+	public CompositeDirectBuffer reset() {
+		Arrays.fill(buffers, 0, segmentCount, null);
+		segmentCount = 0;
+		lastSegment = 0;
+		views = null;
+		viewSources = null;
+		return this;
+	}
+	
+	public CompositeDirectBuffer addSegment(final DirectBuffer buffer) {
+		return addSegment(buffer, 0, buffer.capacity());
+	}
+	
+	/**
+	 * Append {@code length} bytes of {@code buffer} starting at {@code offset} to the end of this buffer. Empty
+	 * segments are ignored.
+	 */
+	public CompositeDirectBuffer addSegment(final DirectBuffer buffer, final int offset, final int length) {
+		buffer.boundsCheck(offset, length);
+		if (0 == length) {
+			return this;
+		}
+		
+		final int capacity = capacity();
+		if (capacity + (long)length > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("composite capacity exceeds Integer.MAX_VALUE");
+		}
+		
+		if (segmentCount == buffers.length) {
+			final int newLength = segmentCount << 1;
+			buffers = Arrays.copyOf(buffers, newLength);
+			bufferOffsets = Arrays.copyOf(bufferOffsets, newLength);
+			starts = Arrays.copyOf(starts, newLength + 1);
+		}
+		
+		buffers[segmentCount] = buffer;
+		bufferOffsets[segmentCount] = offset;
+		starts[segmentCount + 1] = capacity + length;
+		segmentCount++;
+		views = null;
+		viewSources = null;
+		
+		return this;
+	}
+	
+	public int segmentCount() {
+		return segmentCount;
+	}
+	
+	public DirectBuffer segment(final int segmentIndex) {
+		checkSegmentIndex(segmentIndex);
+		return buffers[segmentIndex];
+	}
+	
+	/**
+	 * Index of the first byte of a segment within this buffer.
+	 */
+	public int segmentStart(final int segmentIndex) {
+		checkSegmentIndex(segmentIndex);
+		return starts[segmentIndex];
+	}
+	
+	/**
+	 * Index within {@link #segment(int)} at which the segment range begins.
+	 */
+	public int segmentOffset(final int segmentIndex) {
+		checkSegmentIndex(segmentIndex);
+		return bufferOffsets[segmentIndex];
+	}
+	
+	public int segmentLength(final int segmentIndex) {
+		checkSegmentIndex(segmentIndex);
+		return starts[segmentIndex + 1] - starts[segmentIndex];
+	}
+	
+	/**
+	 * {@link ByteBuffer} views over the segments, positioned and limited to the segment ranges, for use with
+	 * {@link GatheringByteChannel#write(ByteBuffer[])}. The views are cached until the segments change and their
+	 * positions and limits are reset on each call.
+	 * @throws IllegalStateException if a segment is backed by neither a byte[] nor a {@link ByteBuffer}.
+	 */
+	public ByteBuffer[] byteBuffers() {
+		if (null == views) {
+			views = new ByteBuffer[segmentCount];
+			viewSources = new Object[segmentCount];
+		}
+		
+		for (int i = 0; i < segmentCount; i++) {
+			final DirectBuffer buffer = buffers[i];
+			final ByteBuffer byteBuffer = buffer.byteBuffer();
+			final byte[] byteArray = buffer.byteArray();
+			final Object source = null != byteBuffer && byteBuffer.isDirect() ? byteBuffer : byteArray;
+			
+			if (null == source) {
+				throw new IllegalStateException("segment " + i + " is not backed by a byte[] or ByteBuffer");
+			}
+			
+			if (source != viewSources[i]) {
+				views[i] = source == byteBuffer ? byteBuffer.duplicate() : ByteBuffer.wrap(byteArray);
+				viewSources[i] = source;
+			}
+			
+			final int position = buffer.wrapAdjustment() + bufferOffsets[i];
+			final ByteBuffer view = views[i];
+			view.limit(view.capacity()).position(position);
+			view.limit(position + starts[i + 1] - starts[i]);
+		}
+		
+		return views;
+	}
+	
+	/**
+	 * Write all segments to a channel with gathering writes.
+	 * @return number of bytes written.
+	 */
+	public long writeTo(final GatheringByteChannel channel) throws IOException {
+		final ByteBuffer[] byteBuffers = byteBuffers();
+		final long length = capacity();
+		long written = 0;
+		while (written < length) {
+			written += channel.write(byteBuffers);
+		}
+		
+		return written;
+	}
+	
+	public void wrap(final byte[] buffer) {
+		reset().addSegment(new UnsafeBuffer(buffer));
+	}
+	
+	public void wrap(final byte[] buffer, final int offset, final int length) {
+		reset().addSegment(new UnsafeBuffer(buffer), offset, length);
+	}
+	
+	public void wrap(final ByteBuffer buffer) {
+		reset().addSegment(new UnsafeBuffer(buffer));
+	}
+	
+	public void wrap(final ByteBuffer buffer, final int offset, final int length) {
+		reset().addSegment(new UnsafeBuffer(buffer), offset, length);
+	}
+	
+	public void wrap(final DirectBuffer buffer) {
+		reset().addSegment(buffer);
+	}
+	
+	public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+		reset().addSegment(buffer, offset, length);
+	}
+	
+	public void wrap(final long address, final int length) {
+		reset().addSegment(new UnsafeBuffer(address, length));
+	}
+	
+	public long addressOffset() {
+		checkSingleSegment();
+		return buffers[0].addressOffset() + bufferOffsets[0];
+	}
+	
+	public byte[] byteArray() {
+		checkSingleSegment();
+		return buffers[0].byteArray();
+	}
+	
+	public ByteBuffer byteBuffer() {
+		checkSingleSegment();
+		return buffers[0].byteBuffer();
+	}
+	
+	public int wrapAdjustment() {
+		checkSingleSegment();
+		return buffers[0].wrapAdjustment() + bufferOffsets[0];
+	}
+	
+	public int capacity() {
+		return starts[segmentCount];
+	}
+	
+	public void checkLimit(final int limit) {
+		if (limit > capacity()) {
+			throw new IndexOutOfBoundsException("limit=" + limit + " is beyond capacity=" + capacity());
+		}
+	}
+	
+	public void boundsCheck(final int index, final int length) {
+		boundsCheck0(index, length);
+	}
+	
+	public long getLong(final int index, final ByteOrder byteOrder) {
+		final int s = segmentIndex(index, SIZE_OF_LONG);
+		if (index + SIZE_OF_LONG <= starts[s + 1]) {
+			return buffers[s].getLong(local(s, index), byteOrder);
+		}
+		return getSpanning(index, SIZE_OF_LONG, byteOrder);
+	}
+	
+	public long getLong(final int index) {
+		return getLong(index, NATIVE_BYTE_ORDER);
+	}
+	
+	public int getInt(final int index, final ByteOrder byteOrder) {
+		final int s = segmentIndex(index, SIZE_OF_INT);
+		if (index + SIZE_OF_INT <= starts[s + 1]) {
+			return buffers[s].getInt(local(s, index), byteOrder);
+		}
+		return (int)getSpanning(index, SIZE_OF_INT, byteOrder);
+	}
+	
+	public int getInt(final int index) {
+		return getInt(index, NATIVE_BYTE_ORDER);
+	}
+	
+	public double getDouble(final int index, final ByteOrder byteOrder) {
+		return Double.longBitsToDouble(getLong(index, byteOrder));
+	}
+	
+	public double getDouble(final int index) {
+		return Double.longBitsToDouble(getLong(index, NATIVE_BYTE_ORDER));
+	}
+	
+	public float getFloat(final int index, final ByteOrder byteOrder) {
+		return Float.intBitsToFloat(getInt(index, byteOrder));
+	}
+	
+	public float getFloat(final int index) {
+		return Float.intBitsToFloat(getInt(index, NATIVE_BYTE_ORDER));
+	}
+	
+	public short getShort(final int index, final ByteOrder byteOrder) {
+		final int s = segmentIndex(index, SIZE_OF_SHORT);
+		if (index + SIZE_OF_SHORT <= starts[s + 1]) {
+			return buffers[s].getShort(local(s, index), byteOrder);
+		}
+		return (short)getSpanning(index, SIZE_OF_SHORT, byteOrder);
+	}
+	
+	public short getShort(final int index) {
+		return getShort(index, NATIVE_BYTE_ORDER);
+	}
+	
+	public char getChar(final int index, final ByteOrder byteOrder) {
+		return (char)getShort(index, byteOrder);
+	}
+	
+	public char getChar(final int index) {
+		return (char)getShort(index, NATIVE_BYTE_ORDER);
+	}
+	
+	public byte getByte(final int index) {
+		final int s = segmentIndex(index, SIZE_OF_BYTE);
+		return buffers[s].getByte(local(s, index));
+	}
+	
+	public void getBytes(final int index, final byte[] dst) {
+		getBytes(index, dst, 0, dst.length);
+	}
+	
+	public void getBytes(final int index, final byte[] dst, final int offset, final int length) {
+		boundsCheck0(index, length);
+		int i = index;
+		int dstOffset = offset;
+		int remaining = length;
+		while (remaining > 0) {
+			final int s = segmentIndex(i);
+			final int bytes = Math.min(remaining, starts[s + 1] - i);
+			buffers[s].getBytes(local(s, i), dst, dstOffset, bytes);
+			i += bytes;
+			dstOffset += bytes;
+			remaining -= bytes;
+		}
+	}
+	
+	public void getBytes(final int index, final MutableDirectBuffer dstBuffer, final int dstIndex, final int length) {
+		boundsCheck0(index, length);
+		int i = index;
+		int dstOffset = dstIndex;
+		int remaining = length;
+		while (remaining > 0) {
+			final int s = segmentIndex(i);
+			final int bytes = Math.min(remaining, starts[s + 1] - i);
+			dstBuffer.putBytes(dstOffset, buffers[s], local(s, i), bytes);
+			i += bytes;
+			dstOffset += bytes;
+			remaining -= bytes;
+		}
+	}
+	
+	public void getBytes(final int index, final ByteBuffer dstBuffer, final int length) {
+		final int dstOffset = dstBuffer.position();
+		getBytes(index, dstBuffer, dstOffset, length);
+		dstBuffer.position(dstOffset + length);
+	}
+	
+	public void getBytes(final int index, final ByteBuffer dstBuffer, final int dstOffset, final int length) {
+		boundsCheck0(index, length);
+		int i = index;
+		int offset = dstOffset;
+		int remaining = length;
+		while (remaining > 0) {
+			final int s = segmentIndex(i);
+			final int bytes = Math.min(remaining, starts[s + 1] - i);
+			buffers[s].getBytes(local(s, i), dstBuffer, offset, bytes);
+			i += bytes;
+			offset += bytes;
+			remaining -= bytes;
+		}
+	}
+	
+	public int parseNaturalIntAscii(final int index, final int length) {
+		final int i = resolve(index, length);
+		return resolved.parseNaturalIntAscii(i, length);
+	}
+	
+	public long parseNaturalLongAscii(final int index, final int length) {
+		final int i = resolve(index, length);
+		return resolved.parseNaturalLongAscii(i, length);
+	}
+	
+	public int parseIntAscii(final int index, final int length) {
+		final int i = resolve(index, length);
+		return resolved.parseIntAscii(i, length);
+	}
+	
+	public long parseLongAscii(final int index, final int length) {
+		final int i = resolve(index, length);
+		return resolved.parseLongAscii(i, length);
+	}
+	
+	public double parseDoubleAscii(final int index, final int length) {
+		final int i = resolve(index, length);
+		return resolved.parseDoubleAscii(i, length);
+	}
+	
+	public long parseScaledLongAscii(final int index, final int length, final int scale) {
+		final int i = resolve(index, length);
+		return resolved.parseScaledLongAscii(i, length, scale);
+	}
+	
+	public int getVarInt(final int index) {
+		final int i = resolve(index, Math.min(5, capacity() - index));
+		return resolved.getVarInt(i);
+	}
+	
+	public long getVarLong(final int index) {
+		final int i = resolve(index, Math.min(10, capacity() - index));
+		return resolved.getVarLong(i);
+	}
+	
+	public int getZigZagVarInt(final int index) {
+		return zigZagDecode(getVarInt(index));
+	}
+	
+	public long getZigZagVarLong(final int index) {
+		return zigZagDecode(getVarLong(index));
+	}
+	
+	public String getStringAscii(final int index) {
+		return getStringAscii(index, NATIVE_BYTE_ORDER);
+	}
+	
+	public int getStringAscii(final int index, final Appendable appendable) {
+		return getStringAscii(index, appendable, NATIVE_BYTE_ORDER);
+	}
+	
+	public String getStringAscii(final int index, final ByteOrder byteOrder) {
+		final int length = STR_HEADER_LEN + getInt(index, byteOrder);
+		final int i = resolve(index, length);
+		return resolved.getStringAscii(i, byteOrder);
+	}
+	
+	public int getStringAscii(final int index, final Appendable appendable, final ByteOrder byteOrder) {
+		final int length = STR_HEADER_LEN + getInt(index, byteOrder);
+		final int i = resolve(index, length);
+		return resolved.getStringAscii(i, appendable, byteOrder);
+	}
+	
+	public String getStringAscii(final int index, final int length) {
+		final int i = resolve(index, STR_HEADER_LEN + length);
+		return resolved.getStringAscii(i, length);
+	}
+	
+	public int getStringAscii(final int index, final int length, final Appendable appendable) {
+		final int i = resolve(index, STR_HEADER_LEN + length);
+		return resolved.getStringAscii(i, length, appendable);
+	}
+	
+	public String getStringWithoutLengthAscii(final int index, final int length) {
+		final int i = resolve(index, length);
+		return resolved.getStringWithoutLengthAscii(i, length);
+	}
+	
+	public int getStringWithoutLengthAscii(final int index, final int length, final Appendable appendable) {
+		final int i = resolve(index, length);
+		return resolved.getStringWithoutLengthAscii(i, length, appendable);
+	}
+	
+	public String getStringUtf8(final int index) {
+		return getStringUtf8(index, NATIVE_BYTE_ORDER);
+	}
+	
+	public int getStringUtf8(final int index, final Appendable appendable) {
+		return getStringUtf8(index, appendable, NATIVE_BYTE_ORDER);
+	}
+	
+	public String getStringUtf8(final int index, final ByteOrder byteOrder) {
+		final int length = STR_HEADER_LEN + getInt(index, byteOrder);
+		final int i = resolve(index, length);
+		return resolved.getStringUtf8(i, byteOrder);
+	}
+	
+	public int getStringUtf8(final int index, final Appendable appendable, final ByteOrder byteOrder) {
+		final int length = STR_HEADER_LEN + getInt(index, byteOrder);
+		final int i = resolve(index, length);
+		return resolved.getStringUtf8(i, appendable, byteOrder);
+	}
+	
+	public String getStringUtf8(final int index, final int length) {
+		final int i = resolve(index, STR_HEADER_LEN + length);
+		return resolved.getStringUtf8(i, length);
+	}
+	
+	public int getStringUtf8(final int index, final int length, final Appendable appendable) {
+		final int i = resolve(index, STR_HEADER_LEN + length);
+		return resolved.getStringUtf8(i, length, appendable);
+	}
+	
+	public String getStringWithoutLengthUtf8(final int index, final int length) {
+		final int i = resolve(index, length);
+		return resolved.getStringWithoutLengthUtf8(i, length);
+	}
+	
+	public int getStringWithoutLengthUtf8(final int index, final int length, final Appendable appendable) {
+		final int i = resolve(index, length);
+		return resolved.getStringWithoutLengthUtf8(i, length, appendable);
+	}
+	
+	public int indexOf(final byte value) {
+		return indexOf(0, capacity(), value);
+	}
+	
+	public int indexOf(final int index, final int length, final byte value) {
+		boundsCheck0(index, length);
+		int i = index;
+		int remaining = length;
+		while (remaining > 0) {
+			final int s = segmentIndex(i);
+			final int bytes = Math.min(remaining, starts[s + 1] - i);
+			final int found = buffers[s].indexOf(local(s, i), bytes, value);
+			if (-1 != found) {
+				return found - bufferOffsets[s] + starts[s];
+			}
+			i += bytes;
+			remaining -= bytes;
+		}
+		
+		return -1;
+	}
+	
+	public int indexOf(final DirectBuffer pattern) {
+		return indexOf(0, capacity(), pattern);
+	}
+	
+	public int indexOf(final int index, final int length, final DirectBuffer pattern) {
+		boundsCheck0(index, length);
+		final int patternLength = pattern.capacity();
+		if (0 == patternLength) {
+			return index;
+		}
+		
+		final byte first = pattern.getByte(0);
+		final int last = index + length - patternLength;
+		int i = index;
+		while (i <= last) {
+			final int candidate = indexOf(i, last - i + 1, first);
+			if (-1 == candidate) {
+				break;
+			}
+			
+			if (regionEquals(candidate, pattern, patternLength)) {
+				return candidate;
+			}
+			i = candidate + 1;
+		}
+		
+		return -1;
+	}
+	
+	public String toString() {
+		return "CompositeDirectBuffer{" +
+			"segmentCount=" + segmentCount +
+			", capacity=" + capacity() +
+			'}';
+	}
+	
+	private boolean regionEquals(final int index, final DirectBuffer pattern, final int patternLength) {
+		for (int i = 1; i < patternLength; i++) {
+			if (getByte(index + i) != pattern.getByte(i)) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private long getSpanning(final int index, final int size, final ByteOrder byteOrder) {
+		long bits = 0;
+		for (int i = 0; i < size; i++) {
+			bits |= (getByte(index + i) & 0xFFL) << (i << 3);
+		}
+		
+		if (ByteOrder.BIG_ENDIAN == byteOrder) {
+			bits = Long.reverseBytes(bits) >>> (Long.SIZE - (size << 3));
+		}
+		
+		return bits;
+	}
+	
+	/**
+	 * Find the buffer and index holding a range, setting {@link #resolved} to the segment when the range lies within
+	 * one segment, or to the scratch buffer holding a copy of the range when it spans segments.
+	 */
+	private int resolve(final int index, final int length) {
+		boundsCheck0(index, length);
+		if (length > 0) {
+			final int s = segmentIndex(index);
+			if (index + length <= starts[s + 1]) {
+				resolved = buffers[s];
+				return local(s, index);
+			}
+		}
+		
+		if (null == scratch) {
+			scratch = new ExpandableArrayBuffer(Math.max(length, 64));
+		}
+		
+		getBytes(index, scratch, 0, length);
+		resolved = scratch;
+		return 0;
+	}
+	
+	private int local(final int segmentIndex, final int index) {
+		return bufferOffsets[segmentIndex] + index - starts[segmentIndex];
+	}
+	
+	private int segmentIndex(final int index, final int length) {
+		boundsCheck0(index, length);
+		return segmentIndex(index);
+	}
+	
+	private int segmentIndex(final int index) {
+		final int[] starts = this.starts;
+		int s = lastSegment;
+		if (index >= starts[s] && index < starts[s + 1]) {
+			return s;
+		}
+		
+		if (s + 1 < segmentCount && index >= starts[s + 1] && index < starts[s + 2]) {
+			s++;
+		}
+		else {
+			int low = 0;
+			int high = segmentCount - 1;
+			while (low < high) {
+				final int mid = (low + high + 1) >>> 1;
+				if (starts[mid] <= index) {
+					low = mid;
+				}
+				else {
+					high = mid - 1;
+				}
+			}
+			s = low;
+		}
+		
+		lastSegment = s;
+		return s;
+	}
+	
+	private void boundsCheck0(final int index, final int length) {
+		final long resultingPosition = index + (long)length;
+		if (index < 0 || length < 0 || resultingPosition > capacity()) {
+			throw new IndexOutOfBoundsException("index=" + index + " length=" + length + " capacity=" + capacity());
+		}
+	}
+	
+	private void checkSingleSegment() {
+		if (1 != segmentCount) {
+			throw new UnsupportedOperationException(
+				"no single backing store for a composite of " + segmentCount + " segments");
+		}
+	}
+	
+	private void checkSegmentIndex(final int segmentIndex) {
+		if (segmentIndex < 0 || segmentIndex >= segmentCount) {
+			throw new IndexOutOfBoundsException("segmentIndex=" + segmentIndex + " segmentCount=" + segmentCount);
+		}
+	}
+}
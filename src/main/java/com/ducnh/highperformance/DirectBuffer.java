@@ -34,6 +34,12 @@ public interface DirectBuffer {
 	long parseNaturalLongAscii(int index, int length);
 	int parseIntAscii(int index, int length);
 	long parseLongAscii(int index, int length);
+	double parseDoubleAscii(int index, int length);
+	long parseScaledLongAscii(int index, int length, int scale);
+	int getVarInt(int index);
+	long getVarLong(int index);
+	int getZigZagVarInt(int index);
+	long getZigZagVarLong(int index);
 	double getDouble(int index, ByteOrder byteOrder);
 	double getDouble(int index);
 	float getFloat(int index, ByteOrder byteOrder);
@@ -57,9 +63,17 @@ public interface DirectBuffer {
 	String getStringWithoutLengthAscii(int index, int length);
 	int getStringWithoutLengthAscii(int index, int length, Appendable appendable);
 	String getStringUtf8(int index);
+	int getStringUtf8(int index, Appendable appendable);
 	String getStringUtf8(int index, ByteOrder byteOrder);
+	int getStringUtf8(int index, Appendable appendable, ByteOrder byteOrder);
 	String getStringUtf8(int index, int length);
+	int getStringUtf8(int index, int length, Appendable appendable);
 	String getStringWithoutLengthUtf8(int index, int length);
+	int getStringWithoutLengthUtf8(int index, int length, Appendable appendable);
+	int indexOf(byte value);
+	int indexOf(int index, int length, byte value);
+	int indexOf(DirectBuffer pattern);
+	int indexOf(int index, int length, DirectBuffer pattern);
 	void boundsCheck(int index, int length);
 	int wrapAdjustment();
 }
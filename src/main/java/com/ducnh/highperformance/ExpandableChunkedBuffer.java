@@ -0,0 +1,322 @@
+package com.ducnh.highperformance;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.ducnh.highperformance.concurrent.UnsafeBuffer;
+
+import static com.ducnh.highperformance.BitUtil.*;
+import static com.ducnh.highperformance.BufferUtil.NATIVE_BYTE_ORDER;
+
+/**
+ * Append only off-heap buffer which grows by adding fixed size chunks of direct memory, so growth never copies
+ * existing contents and never needs more than one extra chunk of memory.
+ * <p>
+ * The contents are not contiguous; read them with {@link #getBytes(int, MutableDirectBuffer, int, int)} or through a
+ * {@link CompositeDirectBuffer} view from {@link #view(CompositeDirectBuffer)}, which can also gather write them to a
+ * channel.
+ */
+public class ExpandableChunkedBuffer implements AutoCloseable {
+	public static final int MAX_BUFFER_LENGTH = ExpandableDirectByteBuffer.MAX_BUFFER_LENGTH;
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+	
+	private final int chunkSize;
+	private final int chunkShift;
+	private final int chunkMask;
+	private final UnsafeBuffer scratch = new UnsafeBuffer(new byte[SIZE_OF_LONG]);
+	private UnsafeBuffer[] chunks = new UnsafeBuffer[8];
+	private int chunkCount;
+	private int length;
+	private ResizeListener resizeListener;
+	private long resizeCount;
+	
+	public ExpandableChunkedBuffer() {
+		this(DEFAULT_CHUNK_SIZE);
+	}
+	
+	/**
+	 * @param chunkSize in bytes of each chunk, which must be a power of two.
+	 */
+	public ExpandableChunkedBuffer(final int chunkSize) {
+		if (!isPowerOfTwo(chunkSize)) {
+			throw new IllegalArgumentException("chunkSize must be a positive power of 2: chunkSize=" + chunkSize);
+		}
+		
+		this.chunkSize = chunkSize;
+		this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+		this.chunkMask = chunkSize - 1;
+	}
+	
+	public int chunkSize() {
+		return chunkSize;
+	}
+	
+	public int chunkCount() {
+		return chunkCount;
+	}
+	
+	/**
+	 * Chunk holding indices from {@code chunkIndex * chunkSize()}.
+	 */
+	public UnsafeBuffer chunk(final int chunkIndex) {
+		if (chunkIndex < 0 || chunkIndex >= chunkCount) {
+			throw new IndexOutOfBoundsException("chunkIndex=" + chunkIndex + " chunkCount=" + chunkCount);
+		}
+		
+		return chunks[chunkIndex];
+	}
+	
+	/**
+	 * Number of bytes appended.
+	 */
+	public int length() {
+		return length;
+	}
+	
+	/**
+	 * Number of bytes which can be held without adding chunks.
+	 */
+	public int capacity() {
+		return (int)Math.min((long)chunkCount << chunkShift, MAX_BUFFER_LENGTH);
+	}
+	
+	/**
+	 * Set the listener notified each time chunks are added or released, or {@code null} for none.
+	 */
+	public ExpandableChunkedBuffer resizeListener(final ResizeListener resizeListener) {
+		this.resizeListener = resizeListener;
+		return this;
+	}
+	
+	/**
+	 * Number of times the capacity has changed since construction.
+	 */
+	public long resizeCount() {
+		return resizeCount;
+	}
+	
+	/**
+	 * Discard the contents, keeping the chunks for reuse.
+	 */
+	public void reset() {
+		length = 0;
+	}
+	
+	/**
+	 * Release the chunks not needed to hold the current contents.
+	 */
+	public void trimToSize() {
+		final int requiredChunks = (int)(((long)length + chunkMask) >>> chunkShift);
+		if (requiredChunks < chunkCount) {
+			final int previousCapacity = capacity();
+			for (int i = requiredChunks; i < chunkCount; i++) {
+				BufferUtil.free(chunks[i]);
+				chunks[i] = null;
+			}
+			chunkCount = requiredChunks;
+			onResize(previousCapacity);
+		}
+	}
+	
+	/**
+	 * Release all chunks and discard the contents.
+	 */
+	public void close() {
+		length = 0;
+		trimToSize();
+	}
+	
+	/**
+	 * Append a byte.
+	 * @return index at which the byte was appended.
+	 */
+	public int appendByte(final byte value) {
+		final int index = length;
+		ensureCapacity(SIZE_OF_BYTE);
+		chunks[index >>> chunkShift].putByte(index & chunkMask, value);
+		length = index + SIZE_OF_BYTE;
+		return index;
+	}
+	
+	public int appendInt(final int value) {
+		return appendInt(value, NATIVE_BYTE_ORDER);
+	}
+	
+	/**
+	 * Append an int which may be split across chunks.
+	 * @return index at which the value was appended.
+	 */
+	public int appendInt(final int value, final ByteOrder byteOrder) {
+		final int index = length;
+		final int offset = index & chunkMask;
+		if (offset + SIZE_OF_INT <= chunkSize) {
+			ensureCapacity(SIZE_OF_INT);
+			chunks[index >>> chunkShift].putInt(offset, value, byteOrder);
+			length = index + SIZE_OF_INT;
+			return index;
+		}
+		
+		scratch.putInt(0, value, byteOrder);
+		return append(scratch, 0, SIZE_OF_INT);
+	}
+	
+	public int appendLong(final long value) {
+		return appendLong(value, NATIVE_BYTE_ORDER);
+	}
+	
+	/**
+	 * Append a long which may be split across chunks.
+	 * @return index at which the value was appended.
+	 */
+	public int appendLong(final long value, final ByteOrder byteOrder) {
+		final int index = length;
+		final int offset = index & chunkMask;
+		if (offset + SIZE_OF_LONG <= chunkSize) {
+			ensureCapacity(SIZE_OF_LONG);
+			chunks[index >>> chunkShift].putLong(offset, value, byteOrder);
+			length = index + SIZE_OF_LONG;
+			return index;
+		}
+		
+		scratch.putLong(0, value, byteOrder);
+		return append(scratch, 0, SIZE_OF_LONG);
+	}
+	
+	public int append(final byte[] src) {
+		return append(src, 0, src.length);
+	}
+	
+	/**
+	 * Append a range of bytes, filling the last chunk before adding new ones.
+	 * @return index at which the bytes were appended.
+	 */
+	public int append(final byte[] src, final int srcIndex, final int length) {
+		BufferUtil.boundsCheck(src, srcIndex, length);
+		final int index = this.length;
+		ensureCapacity(length);
+		
+		int position = index;
+		int offset = srcIndex;
+		int remaining = length;
+		while (remaining > 0) {
+			final int chunkOffset = position & chunkMask;
+			final int bytes = Math.min(remaining, chunkSize - chunkOffset);
+			chunks[position >>> chunkShift].putBytes(chunkOffset, src, offset, bytes);
+			position += bytes;
+			offset += bytes;
+			remaining -= bytes;
+		}
+		
+		this.length = position;
+		return index;
+	}
+	
+	/**
+	 * Append a range of bytes, filling the last chunk before adding new ones.
+	 * @return index at which the bytes were appended.
+	 */
+	public int append(final DirectBuffer src, final int srcIndex, final int length) {
+		src.boundsCheck(srcIndex, length);
+		final int index = this.length;
+		ensureCapacity(length);
+		
+		int position = index;
+		int offset = srcIndex;
+		int remaining = length;
+		while (remaining > 0) {
+			final int chunkOffset = position & chunkMask;
+			final int bytes = Math.min(remaining, chunkSize - chunkOffset);
+			chunks[position >>> chunkShift].putBytes(chunkOffset, src, offset, bytes);
+			position += bytes;
+			offset += bytes;
+			remaining -= bytes;
+		}
+		
+		this.length = position;
+		return index;
+	}
+	
+	public byte getByte(final int index) {
+		boundsCheck(index, SIZE_OF_BYTE);
+		return chunks[index >>> chunkShift].getByte(index & chunkMask);
+	}
+	
+	/**
+	 * Copy appended bytes into a destination buffer.
+	 */
+	public void getBytes(final int index, final MutableDirectBuffer dstBuffer, final int dstIndex, final int length) {
+		boundsCheck(index, length);
+		int position = index;
+		int offset = dstIndex;
+		int remaining = length;
+		while (remaining > 0) {
+			final int chunkOffset = position & chunkMask;
+			final int bytes = Math.min(remaining, chunkSize - chunkOffset);
+			dstBuffer.putBytes(offset, chunks[position >>> chunkShift], chunkOffset, bytes);
+			position += bytes;
+			offset += bytes;
+			remaining -= bytes;
+		}
+	}
+	
+	/**
+	 * Wrap the appended bytes in a composite view without copying. The view is invalidated by {@link #trimToSize()}
+	 * and {@link #close()}, and does not see bytes appended after this call.
+	 * @return the composite for fluent use.
+	 */
+	public CompositeDirectBuffer view(final CompositeDirectBuffer composite) {
+		composite.reset();
+		int remaining = length;
+		for (int i = 0; remaining > 0; i++) {
+			final int bytes = Math.min(remaining, chunkSize);
+			composite.addSegment(chunks[i], 0, bytes);
+			remaining -= bytes;
+		}
+		
+		return composite;
+	}
+	
+	public String toString() {
+		return "ExpandableChunkedBuffer{" +
+			"chunkSize=" + chunkSize +
+			", chunkCount=" + chunkCount +
+			", length=" + length +
+			'}';
+	}
+	
+	private void ensureCapacity(final int additionalLength) {
+		final long requiredLength = (long)length + additionalLength;
+		if (requiredLength > MAX_BUFFER_LENGTH) {
+			throw new IndexOutOfBoundsException(
+				"length=" + length + " additionalLength=" + additionalLength + " maxCapacity=" + MAX_BUFFER_LENGTH);
+		}
+		
+		final int requiredChunks = (int)((requiredLength + chunkMask) >>> chunkShift);
+		if (requiredChunks > chunkCount) {
+			final int previousCapacity = capacity();
+			if (requiredChunks > chunks.length) {
+				chunks = Arrays.copyOf(chunks, Math.max(requiredChunks, chunks.length << 1));
+			}
+			for (int i = chunkCount; i < requiredChunks; i++) {
+				chunks[i] = new UnsafeBuffer(ByteBuffer.allocateDirect(chunkSize));
+			}
+			chunkCount = requiredChunks;
+			onResize(previousCapacity);
+		}
+	}
+	
+	private void onResize(final int previousCapacity) {
+		resizeCount++;
+		final ResizeListener resizeListener = this.resizeListener;
+		if (null != resizeListener) {
+			resizeListener.onResize(previousCapacity, capacity());
+		}
+	}
+	
+	private void boundsCheck(final int index, final int length) {
+		if (index < 0 || length < 0 || index + (long)length > this.length) {
+			throw new IndexOutOfBoundsException("index=" + index + " length=" + length + " limit=" + this.length);
+		}
+	}
+}
@@ -4,22 +4,110 @@ import java.nio.ByteBuffer;
 
 import static com.ducnh.highperformance.BufferUtil.address;
 
-public class ExpandableDirectByteBuffer extends AbstractMutableDirectBuffer{
+/**
+ * Expandable buffer over off-heap memory.
+ * <p>
+ * In {@link GrowthMode#COPY} mode the memory is a direct {@link ByteBuffer} which is replaced by a larger one and
+ * copied on growth. In {@link GrowthMode#REALLOCATE} mode the memory is natively owned and grown in place with
+ * {@code realloc}, which avoids the copy when the allocator can extend the block, and {@link #byteBuffer()} returns
+ * {@code null}. Natively owned memory is released by {@link #close()}.
+ */
+public class ExpandableDirectByteBuffer extends AbstractMutableDirectBuffer implements AutoCloseable {
 	public static final int MAX_BUFFER_LENGTH = Integer.MAX_VALUE - 8;
 	public static final int INITIAL_CAPACITY = 128;
 	
+	public enum GrowthMode {
+		/**
+		 * Allocate a new direct {@link ByteBuffer} and copy the contents.
+		 */
+		COPY,
+		
+		/**
+		 * Resize natively owned memory with {@code realloc}.
+		 */
+		REALLOCATE
+	}
+	
+	private final GrowthMode growthMode;
 	private ByteBuffer byteBuffer;
+	private ResizeListener resizeListener;
+	private long resizeCount;
 	
 	public ExpandableDirectByteBuffer() {
 		this(INITIAL_CAPACITY);
 	}
 	
 	public ExpandableDirectByteBuffer(final int initialCapacity) {
-		byteBuffer = ByteBuffer.allocateDirect(initialCapacity);
-		addressOffset = address(byteBuffer);
+		this(initialCapacity, GrowthMode.COPY);
+	}
+	
+	public ExpandableDirectByteBuffer(final int initialCapacity, final GrowthMode growthMode) {
+		this.growthMode = growthMode;
+		if (GrowthMode.REALLOCATE == growthMode) {
+			addressOffset = UnsafeApi.allocateMemory(initialCapacity);
+		}
+		else {
+			byteBuffer = ByteBuffer.allocateDirect(initialCapacity);
+			addressOffset = address(byteBuffer);
+		}
 		capacity = initialCapacity;
 	}
 	
+	public GrowthMode growthMode() {
+		return growthMode;
+	}
+	
+	/**
+	 * Set the listener notified each time the capacity changes, or {@code null} for none.
+	 */
+	public ExpandableDirectByteBuffer resizeListener(final ResizeListener resizeListener) {
+		this.resizeListener = resizeListener;
+		return this;
+	}
+	
+	/**
+	 * Number of times the capacity has changed since construction.
+	 */
+	public long resizeCount() {
+		return resizeCount;
+	}
+	
+	/**
+	 * Reduce the capacity to {@code length}, keeping the first {@code length} bytes, to give back memory after a
+	 * burst. The buffer will grow again on demand.
+	 * @param length to retain.
+	 * @throws IllegalArgumentException if length is negative or greater than the capacity.
+	 */
+	public void trimToSize(final int length) {
+		final int currentCapacity = capacity;
+		if (length < 0 || length > currentCapacity) {
+			throw new IllegalArgumentException("length=" + length + " capacity=" + currentCapacity);
+		}
+		
+		if (length < currentCapacity) {
+			resize(currentCapacity, length, length);
+		}
+	}
+	
+	/**
+	 * Release natively owned memory in {@link GrowthMode#REALLOCATE} mode, or the direct {@link ByteBuffer} in
+	 * {@link GrowthMode#COPY} mode. The buffer has no capacity afterwards.
+	 */
+	public void close() {
+		if (GrowthMode.REALLOCATE == growthMode) {
+			if (0 != addressOffset) {
+				UnsafeApi.freeMemory(addressOffset);
+				addressOffset = 0;
+			}
+		}
+		else {
+			BufferUtil.free(byteBuffer);
+			byteBuffer = ByteBuffer.allocateDirect(0);
+			addressOffset = address(byteBuffer);
+		}
+		capacity = 0;
+	}
+	
 	public void wrap(final byte[] buffer) {
 		throw new UnsupportedOperationException();
 	}
@@ -72,6 +160,7 @@ public class ExpandableDirectByteBuffer extends AbstractMutableDirectBuffer{
 		return "ExpandableDirectByteBuffer{" + 
 				"address=" + addressOffset +
 				", capacity=" + capacity + 
+				", growthMode=" + growthMode +
 				", byteBuffer=" + byteBuffer +
 				"}";
 	}
@@ -89,14 +178,30 @@ public class ExpandableDirectByteBuffer extends AbstractMutableDirectBuffer{
 					"index=" + index + " length=" + length + " maxCapacity=" + MAX_BUFFER_LENGTH);
 			}
 			
-			final int newCapacity = calculateExpansion(currentCapacity, resultingPosition);
+			resize(currentCapacity, calculateExpansion(currentCapacity, resultingPosition), currentCapacity);
+		}
+	}
+	
+	private void resize(final int currentCapacity, final int newCapacity, final int retainLength) {
+		if (GrowthMode.REALLOCATE == growthMode) {
+			final long newAddress = UnsafeApi.reallocateMemory(addressOffset, newCapacity);
+			if (0 == newAddress && newCapacity > 0) {
+				throw new OutOfMemoryError("failed to reallocate " + newCapacity + " bytes");
+			}
+			addressOffset = newAddress;
+		}
+		else {
 			final ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity);
-			final long newAddress = address(newBuffer);
-			
-			getBytes(0, newBuffer, 0, currentCapacity);
+			getBytes(0, newBuffer, 0, retainLength);
 			byteBuffer = newBuffer;
-			addressOffset = newAddress;
-			capacity = newCapacity;
+			addressOffset = address(newBuffer);
+		}
+		capacity = newCapacity;
+		resizeCount++;
+		
+		final ResizeListener resizeListener = this.resizeListener;
+		if (null != resizeListener) {
+			resizeListener.onResize(currentCapacity, newCapacity);
 		}
 	}
 	
@@ -3,6 +3,8 @@ package com.ducnh.highperformance;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
@@ -11,6 +13,7 @@ import java.util.Arrays;
 import java.util.function.BiConsumer;
 
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
 import static java.nio.file.StandardOpenOption.*;
@@ -214,6 +217,39 @@ public class IOUtil {
 		return mappedByteBuffer;
 	}
 	
+	/**
+	 * Map a region of a file and return the address at which it begins. Unlike {@link FileChannel#map} the length
+	 * may exceed 2GB. The offset must be a multiple of {@link UnsafeApi#pageSize()} and the file must already be at
+	 * least {@code offset + length} long. Requires {@code --add-opens java.base/sun.nio.ch=ALL-UNNAMED}.
+	 */
+	public static long map(
+			final FileChannel fileChannel, final FileChannel.MapMode mode, final long offset, final long length) {
+		if (0 != (offset & (UnsafeApi.pageSize() - 1))) {
+			throw new IllegalArgumentException("offset=" + offset + " is not aligned to page size");
+		}
+		
+		try {
+			return (long)MappingMethods.MAP_ADDRESS.invokeExact(fileChannel, getMode(mode), offset, length, false);
+		} catch (final Throwable ex) {
+			LangUtil.rethrowUnchecked(ex);
+			return 0;
+		}
+	}
+	
+	/**
+	 * Unmap a region previously mapped with {@link #map(FileChannel, FileChannel.MapMode, long, long)}.
+	 */
+	public static void unmap(final FileChannel fileChannel, final long address, final long length) {
+		try {
+			final int result = (int)MappingMethods.UNMAP_ADDRESS.invokeExact(address, length);
+			if (0 != result) {
+				throw new IllegalStateException("unmap failed: address=" + address + " length=" + length);
+			}
+		} catch (final Throwable ex) {
+			LangUtil.rethrowUnchecked(ex);
+		}
+	}
+	
 	public static void checkFileExists(final File file, final String name) {
 		if (!file.exists()) {
 			final String msg = "missing file for " + name + ": " + file.getAbsolutePath();
@@ -254,4 +290,35 @@ public class IOUtil {
 	private static String getFileMode(final FileChannel.MapMode mode) {
 		return mode == READ_ONLY ? "r" : "rw";
 	}
+	
+	private static int getMode(final FileChannel.MapMode mode) {
+		if (mode == READ_ONLY) {
+			return MAP_READ_ONLY;
+		} else if (mode == READ_WRITE) {
+			return MAP_READ_WRITE;
+		} else {
+			return MAP_PRIVATE;
+		}
+	}
+	
+	static final class MappingMethods {
+		static final MethodHandle MAP_ADDRESS;
+		static final MethodHandle UNMAP_ADDRESS;
+		
+		static {
+			try {
+				final Class<?> fileChannelClass = Class.forName("sun.nio.ch.FileChannelImpl");
+				final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+						fileChannelClass, MethodHandles.lookup());
+				
+				MAP_ADDRESS = lookup.findVirtual(
+						fileChannelClass, "map0", methodType(long.class, int.class, long.class, long.class, boolean.class))
+						.asType(methodType(long.class, FileChannel.class, int.class, long.class, long.class, boolean.class));
+				UNMAP_ADDRESS = lookup.findStatic(
+						fileChannelClass, "unmap0", methodType(int.class, long.class, long.class));
+			} catch (final Exception ex) {
+				throw new ExceptionInInitializerError(ex);
+			}
+		}
+	}
 }
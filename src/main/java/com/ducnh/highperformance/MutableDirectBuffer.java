@@ -16,6 +16,14 @@ public interface MutableDirectBuffer extends DirectBuffer{
 	int putNaturalIntAsciiFromEnd(int value, int endExclusive);
 	int putNaturalLongAscii(int index, long value);
 	int putLongAscii(int index, long value);
+	int putDoubleAscii(int index, double value);
+	int putDoubleAscii(int index, double value, int scale);
+	int putFloatAscii(int index, float value);
+	int putScaledLongAscii(int index, long value, int scale);
+	int putVarInt(int index, int value);
+	int putVarLong(int index, long value);
+	int putZigZagVarInt(int index, int value);
+	int putZigZagVarLong(int index, long value);
 	void putDouble(int index, double value, ByteOrder byteOrder);
 	void putDouble(int index, double value);
 	void putFloat(int index, float value, ByteOrder byteOrder);
@@ -39,8 +47,11 @@ public interface MutableDirectBuffer extends DirectBuffer{
 	int putStringWithoutLengthAscii(int index, String value, int valueOffset, int length);
 	int putStringWithoutLengthAscii(int index, CharSequence value, int valueOffset, int length);
 	int putStringUtf8(int index, String value);
+	int putStringUtf8(int index, CharSequence value);
 	int putStringUtf8(int index, String value, ByteOrder byteOrder);
+	int putStringUtf8(int index, CharSequence value, ByteOrder byteOrder);
 	int putStringUtf8(int index, String value, int maxEncodedLength);
 	int putStringUtf8(int index, String value, ByteOrder byteOrder, int maxEncodedLength);
 	int putStringWithoutLengthUtf8(int index, String value);
+	int putStringWithoutLengthUtf8(int index, CharSequence value);
 }
@@ -0,0 +1,11 @@
+package com.ducnh.highperformance;
+
+@FunctionalInterface
+public interface ResizeListener {
+	/**
+	 * Callback to notify that an expandable buffer has changed its capacity by growing or trimming.
+	 * @param previousCapacity capacity before the resize.
+	 * @param newCapacity capacity after the resize.
+	 */
+	void onResize(int previousCapacity, int newCapacity);
+}
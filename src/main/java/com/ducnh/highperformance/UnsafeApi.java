@@ -1,12 +1,589 @@
 package com.ducnh.highperformance;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-
+import java.nio.ByteOrder;
+
+/**
+ * Access to the memory and concurrency primitives of the JVM.
+ * <p>
+ * The backend is picked once at class initialisation. {@code jdk.internal.misc.Unsafe} is used when
+ * {@code java.base/jdk.internal.misc} is exported to this module, e.g. via
+ * {@code --add-exports java.base/jdk.internal.misc=ALL-UNNAMED}, and {@code sun.misc.Unsafe} otherwise. Operations
+ * that {@code sun.misc.Unsafe} does not offer are emulated with an equal or stronger memory ordering, e.g. acquire
+ * and opaque loads become volatile loads and sub-word CAS is performed on the enclosing aligned int.
+ * <p>
+ * The choice can be forced with the {@link #BACKEND_PROP_NAME} system property.
+ */
+@SuppressWarnings("removal")
 public final class UnsafeApi {
+	/**
+	 * System property to select the backend: {@code auto} (default), {@code internal} or {@code sun}.
+	 */
+	public static final String BACKEND_PROP_NAME = "com.ducnh.unsafe.backend";
+	
+	/**
+	 * Name of the {@code Unsafe} class selected as backend.
+	 */
+	public static final String BACKEND;
+	
+	private static final String INTERNAL_UNSAFE_CLASS_NAME = "jdk.internal.misc.Unsafe";
+	private static final String SUN_UNSAFE_CLASS_NAME = "sun.misc.Unsafe";
+	private static final boolean BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+	private static final sun.misc.Unsafe UNSAFE;
+	private static final Object INTERNAL_UNSAFE;
+	
+	static {
+		try {
+			final Field theUnsafe = sun.misc.Unsafe.class.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			UNSAFE = (sun.misc.Unsafe)theUnsafe.get(null);
+		} catch (final Exception ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+		
+		final String backend = SystemUtil.getProperty(BACKEND_PROP_NAME, "auto");
+		final boolean exported = Object.class.getModule().isExported(
+				"jdk.internal.misc", UnsafeApi.class.getModule());
+		
+		if ("internal".equals(backend) && !exported) {
+			throw new ExceptionInInitializerError(
+					BACKEND_PROP_NAME + "=internal but java.base/jdk.internal.misc is not exported");
+		}
+		
+		Object internalUnsafe = null;
+		if (exported && !"sun".equals(backend)) {
+			try {
+				final Class<?> clazz = Class.forName(INTERNAL_UNSAFE_CLASS_NAME);
+				internalUnsafe = clazz.getMethod("getUnsafe").invoke(null);
+			} catch (final Exception ex) {
+				if ("internal".equals(backend)) {
+					throw new ExceptionInInitializerError(ex);
+				}
+			}
+		}
+		
+		INTERNAL_UNSAFE = internalUnsafe;
+		BACKEND = null != internalUnsafe ? INTERNAL_UNSAFE_CLASS_NAME : SUN_UNSAFE_CLASS_NAME;
+	}
+	
+	private static final boolean UNALIGNED_ACCESS = null != INTERNAL_UNSAFE ?
+			invokeInternal("unalignedAccess") :
+			SystemUtil.isX64Arch() || "aarch64".equals(SystemUtil.osArch()) ||
+			"ppc64le".equals(SystemUtil.osArch()) || "s390x".equals(SystemUtil.osArch());
+	
+	private static final MethodHandle ALLOCATE_UNINITIALIZED_ARRAY = internal(
+		"allocateUninitializedArray", Object.class, Class.class, int.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_BOOLEAN = internal(
+		"compareAndExchangeBoolean", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_BOOLEAN_ACQUIRE = internal(
+		"compareAndExchangeBooleanAcquire", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_BOOLEAN_RELEASE = internal(
+		"compareAndExchangeBooleanRelease", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_BYTE = internal(
+		"compareAndExchangeByte", byte.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_BYTE_ACQUIRE = internal(
+		"compareAndExchangeByteAcquire", byte.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_BYTE_RELEASE = internal(
+		"compareAndExchangeByteRelease", byte.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_CHAR = internal(
+		"compareAndExchangeChar", char.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_CHAR_ACQUIRE = internal(
+		"compareAndExchangeCharAcquire", char.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_CHAR_RELEASE = internal(
+		"compareAndExchangeCharRelease", char.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_DOUBLE = internal(
+		"compareAndExchangeDouble", double.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_DOUBLE_ACQUIRE = internal(
+		"compareAndExchangeDoubleAcquire", double.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_DOUBLE_RELEASE = internal(
+		"compareAndExchangeDoubleRelease", double.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_FLOAT = internal(
+		"compareAndExchangeFloat", float.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_FLOAT_ACQUIRE = internal(
+		"compareAndExchangeFloatAcquire", float.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_FLOAT_RELEASE = internal(
+		"compareAndExchangeFloatRelease", float.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_INT = internal(
+		"compareAndExchangeInt", int.class, Object.class, long.class, int.class, int.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_INT_ACQUIRE = internal(
+		"compareAndExchangeIntAcquire", int.class, Object.class, long.class, int.class, int.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_INT_RELEASE = internal(
+		"compareAndExchangeIntRelease", int.class, Object.class, long.class, int.class, int.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_LONG = internal(
+		"compareAndExchangeLong", long.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_LONG_ACQUIRE = internal(
+		"compareAndExchangeLongAcquire", long.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_LONG_RELEASE = internal(
+		"compareAndExchangeLongRelease", long.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_REFERENCE = internal(
+		"compareAndExchangeReference", Object.class, Object.class, long.class, Object.class, Object.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_REFERENCE_ACQUIRE = internal(
+		"compareAndExchangeReferenceAcquire", Object.class, Object.class, long.class, Object.class, Object.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_REFERENCE_RELEASE = internal(
+		"compareAndExchangeReferenceRelease", Object.class, Object.class, long.class, Object.class, Object.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_SHORT = internal(
+		"compareAndExchangeShort", short.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_SHORT_ACQUIRE = internal(
+		"compareAndExchangeShortAcquire", short.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle COMPARE_AND_EXCHANGE_SHORT_RELEASE = internal(
+		"compareAndExchangeShortRelease", short.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle COMPARE_AND_SET_BOOLEAN = internal(
+		"compareAndSetBoolean", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle COMPARE_AND_SET_BYTE = internal(
+		"compareAndSetByte", boolean.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle COMPARE_AND_SET_CHAR = internal(
+		"compareAndSetChar", boolean.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle COMPARE_AND_SET_DOUBLE = internal(
+		"compareAndSetDouble", boolean.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle COMPARE_AND_SET_FLOAT = internal(
+		"compareAndSetFloat", boolean.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle COMPARE_AND_SET_SHORT = internal(
+		"compareAndSetShort", boolean.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle COPY_SWAP_MEMORY_ADDRESS = internal(
+		"copySwapMemory", void.class, long.class, long.class, long.class, long.class);
+	private static final MethodHandle COPY_SWAP_MEMORY = internal(
+		"copySwapMemory", void.class, Object.class, long.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle DATA_CACHE_LINE_ALIGN_DOWN = internal(
+		"dataCacheLineAlignDown", long.class, long.class);
+	private static final MethodHandle DATA_CACHE_LINE_FLUSH_SIZE = internal(
+		"dataCacheLineFlushSize", int.class);
+	private static final MethodHandle DEFINE_CLASS = internal(
+		"defineClass", Class.class, String.class, byte[].class, int.class, int.class, ClassLoader.class, java.security.ProtectionDomain.class);
+	private static final MethodHandle GET_ADDRESS = internal(
+		"getAddress", long.class, Object.class, long.class);
+	private static final MethodHandle GET_AND_ADD_BYTE = internal(
+		"getAndAddByte", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_ADD_BYTE_ACQUIRE = internal(
+		"getAndAddByteAcquire", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_ADD_BYTE_RELEASE = internal(
+		"getAndAddByteRelease", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_ADD_CHAR = internal(
+		"getAndAddChar", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_ADD_CHAR_ACQUIRE = internal(
+		"getAndAddCharAcquire", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_ADD_CHAR_RELEASE = internal(
+		"getAndAddCharRelease", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_ADD_DOUBLE = internal(
+		"getAndAddDouble", double.class, Object.class, long.class, double.class);
+	private static final MethodHandle GET_AND_ADD_DOUBLE_ACQUIRE = internal(
+		"getAndAddDoubleAcquire", double.class, Object.class, long.class, double.class);
+	private static final MethodHandle GET_AND_ADD_DOUBLE_RELEASE = internal(
+		"getAndAddDoubleRelease", double.class, Object.class, long.class, double.class);
+	private static final MethodHandle GET_AND_ADD_FLOAT = internal(
+		"getAndAddFloat", float.class, Object.class, long.class, float.class);
+	private static final MethodHandle GET_AND_ADD_FLOAT_ACQUIRE = internal(
+		"getAndAddFloatAcquire", float.class, Object.class, long.class, float.class);
+	private static final MethodHandle GET_AND_ADD_FLOAT_RELEASE = internal(
+		"getAndAddFloatRelease", float.class, Object.class, long.class, float.class);
+	private static final MethodHandle GET_AND_ADD_INT_ACQUIRE = internal(
+		"getAndAddIntAcquire", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_ADD_INT_RELEASE = internal(
+		"getAndAddIntRelease", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_ADD_LONG_ACQUIRE = internal(
+		"getAndAddLongAcquire", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_ADD_LONG_RELEASE = internal(
+		"getAndAddLongRelease", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_ADD_SHORT = internal(
+		"getAndAddShort", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_ADD_SHORT_ACQUIRE = internal(
+		"getAndAddShortAcquire", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_ADD_SHORT_RELEASE = internal(
+		"getAndAddShortRelease", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_BOOLEAN = internal(
+		"getAndBitwiseAndBoolean", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_BOOLEAN_ACQUIRE = internal(
+		"getAndBitwiseAndBooleanAcquire", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_BOOLEAN_RELEASE = internal(
+		"getAndBitwiseAndBooleanRelease", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_BYTE = internal(
+		"getAndBitwiseAndByte", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_BYTE_ACQUIRE = internal(
+		"getAndBitwiseAndByteAcquire", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_BYTE_RELEASE = internal(
+		"getAndBitwiseAndByteRelease", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_CHAR = internal(
+		"getAndBitwiseAndChar", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_CHAR_ACQUIRE = internal(
+		"getAndBitwiseAndCharAcquire", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_CHAR_RELEASE = internal(
+		"getAndBitwiseAndCharRelease", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_INT = internal(
+		"getAndBitwiseAndInt", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_INT_ACQUIRE = internal(
+		"getAndBitwiseAndIntAcquire", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_INT_RELEASE = internal(
+		"getAndBitwiseAndIntRelease", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_LONG = internal(
+		"getAndBitwiseAndLong", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_LONG_ACQUIRE = internal(
+		"getAndBitwiseAndLongAcquire", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_LONG_RELEASE = internal(
+		"getAndBitwiseAndLongRelease", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_SHORT = internal(
+		"getAndBitwiseAndShort", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_SHORT_ACQUIRE = internal(
+		"getAndBitwiseAndShortAcquire", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_AND_SHORT_RELEASE = internal(
+		"getAndBitwiseAndShortRelease", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_BOOLEAN = internal(
+		"getAndBitwiseOrBoolean", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_BOOLEAN_ACQUIRE = internal(
+		"getAndBitwiseOrBooleanAcquire", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_BOOLEAN_RELEASE = internal(
+		"getAndBitwiseOrBooleanRelease", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_BYTE = internal(
+		"getAndBitwiseOrByte", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_BYTE_ACQUIRE = internal(
+		"getAndBitwiseOrByteAcquire", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_BYTE_RELEASE = internal(
+		"getAndBitwiseOrByteRelease", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_CHAR = internal(
+		"getAndBitwiseOrChar", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_CHAR_ACQUIRE = internal(
+		"getAndBitwiseOrCharAcquire", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_CHAR_RELEASE = internal(
+		"getAndBitwiseOrCharRelease", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_INT = internal(
+		"getAndBitwiseOrInt", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_INT_ACQUIRE = internal(
+		"getAndBitwiseOrIntAcquire", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_INT_RELEASE = internal(
+		"getAndBitwiseOrIntRelease", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_LONG = internal(
+		"getAndBitwiseOrLong", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_LONG_ACQUIRE = internal(
+		"getAndBitwiseOrLongAcquire", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_LONG_RELEASE = internal(
+		"getAndBitwiseOrLongRelease", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_SHORT = internal(
+		"getAndBitwiseOrShort", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_SHORT_ACQUIRE = internal(
+		"getAndBitwiseOrShortAcquire", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_OR_SHORT_RELEASE = internal(
+		"getAndBitwiseOrShortRelease", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_BOOLEAN = internal(
+		"getAndBitwiseXorBoolean", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_BOOLEAN_ACQUIRE = internal(
+		"getAndBitwiseXorBooleanAcquire", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_BOOLEAN_RELEASE = internal(
+		"getAndBitwiseXorBooleanRelease", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_BYTE = internal(
+		"getAndBitwiseXorByte", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_BYTE_ACQUIRE = internal(
+		"getAndBitwiseXorByteAcquire", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_BYTE_RELEASE = internal(
+		"getAndBitwiseXorByteRelease", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_CHAR = internal(
+		"getAndBitwiseXorChar", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_CHAR_ACQUIRE = internal(
+		"getAndBitwiseXorCharAcquire", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_CHAR_RELEASE = internal(
+		"getAndBitwiseXorCharRelease", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_INT = internal(
+		"getAndBitwiseXorInt", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_INT_ACQUIRE = internal(
+		"getAndBitwiseXorIntAcquire", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_INT_RELEASE = internal(
+		"getAndBitwiseXorIntRelease", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_LONG = internal(
+		"getAndBitwiseXorLong", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_LONG_ACQUIRE = internal(
+		"getAndBitwiseXorLongAcquire", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_LONG_RELEASE = internal(
+		"getAndBitwiseXorLongRelease", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_SHORT = internal(
+		"getAndBitwiseXorShort", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_SHORT_ACQUIRE = internal(
+		"getAndBitwiseXorShortAcquire", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_BITWISE_XOR_SHORT_RELEASE = internal(
+		"getAndBitwiseXorShortRelease", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_SET_BOOLEAN = internal(
+		"getAndSetBoolean", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_SET_BOOLEAN_ACQUIRE = internal(
+		"getAndSetBooleanAcquire", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_SET_BOOLEAN_RELEASE = internal(
+		"getAndSetBooleanRelease", boolean.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_AND_SET_BYTE = internal(
+		"getAndSetByte", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_SET_BYTE_ACQUIRE = internal(
+		"getAndSetByteAcquire", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_SET_BYTE_RELEASE = internal(
+		"getAndSetByteRelease", byte.class, Object.class, long.class, byte.class);
+	private static final MethodHandle GET_AND_SET_CHAR = internal(
+		"getAndSetChar", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_SET_CHAR_ACQUIRE = internal(
+		"getAndSetCharAcquire", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_SET_CHAR_RELEASE = internal(
+		"getAndSetCharRelease", char.class, Object.class, long.class, char.class);
+	private static final MethodHandle GET_AND_SET_DOUBLE = internal(
+		"getAndSetDouble", double.class, Object.class, long.class, double.class);
+	private static final MethodHandle GET_AND_SET_DOUBLE_ACQUIRE = internal(
+		"getAndSetDoubleAcquire", double.class, Object.class, long.class, double.class);
+	private static final MethodHandle GET_AND_SET_DOUBLE_RELEASE = internal(
+		"getAndSetDoubleRelease", double.class, Object.class, long.class, double.class);
+	private static final MethodHandle GET_AND_SET_FLOAT = internal(
+		"getAndSetFloat", float.class, Object.class, long.class, float.class);
+	private static final MethodHandle GET_AND_SET_FLOAT_ACQUIRE = internal(
+		"getAndSetFloatAcquire", float.class, Object.class, long.class, float.class);
+	private static final MethodHandle GET_AND_SET_FLOAT_RELEASE = internal(
+		"getAndSetFloatRelease", float.class, Object.class, long.class, float.class);
+	private static final MethodHandle GET_AND_SET_INT_ACQUIRE = internal(
+		"getAndSetIntAcquire", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_SET_INT_RELEASE = internal(
+		"getAndSetIntRelease", int.class, Object.class, long.class, int.class);
+	private static final MethodHandle GET_AND_SET_LONG_ACQUIRE = internal(
+		"getAndSetLongAcquire", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_SET_LONG_RELEASE = internal(
+		"getAndSetLongRelease", long.class, Object.class, long.class, long.class);
+	private static final MethodHandle GET_AND_SET_REFERENCE_ACQUIRE = internal(
+		"getAndSetReferenceAcquire", Object.class, Object.class, long.class, Object.class);
+	private static final MethodHandle GET_AND_SET_REFERENCE_RELEASE = internal(
+		"getAndSetReferenceRelease", Object.class, Object.class, long.class, Object.class);
+	private static final MethodHandle GET_AND_SET_SHORT = internal(
+		"getAndSetShort", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_SET_SHORT_ACQUIRE = internal(
+		"getAndSetShortAcquire", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_AND_SET_SHORT_RELEASE = internal(
+		"getAndSetShortRelease", short.class, Object.class, long.class, short.class);
+	private static final MethodHandle GET_BOOLEAN_ACQUIRE = internal(
+		"getBooleanAcquire", boolean.class, Object.class, long.class);
+	private static final MethodHandle GET_BOOLEAN_OPAQUE = internal(
+		"getBooleanOpaque", boolean.class, Object.class, long.class);
+	private static final MethodHandle GET_BYTE_ACQUIRE = internal(
+		"getByteAcquire", byte.class, Object.class, long.class);
+	private static final MethodHandle GET_BYTE_OPAQUE = internal(
+		"getByteOpaque", byte.class, Object.class, long.class);
+	private static final MethodHandle GET_CHAR_ACQUIRE = internal(
+		"getCharAcquire", char.class, Object.class, long.class);
+	private static final MethodHandle GET_CHAR_OPAQUE = internal(
+		"getCharOpaque", char.class, Object.class, long.class);
+	private static final MethodHandle GET_CHAR_UNALIGNED = internal(
+		"getCharUnaligned", char.class, Object.class, long.class);
+	private static final MethodHandle GET_CHAR_UNALIGNED_ENDIAN = internal(
+		"getCharUnaligned", char.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_DOUBLE_ACQUIRE = internal(
+		"getDoubleAcquire", double.class, Object.class, long.class);
+	private static final MethodHandle GET_DOUBLE_OPAQUE = internal(
+		"getDoubleOpaque", double.class, Object.class, long.class);
+	private static final MethodHandle GET_FLOAT_ACQUIRE = internal(
+		"getFloatAcquire", float.class, Object.class, long.class);
+	private static final MethodHandle GET_FLOAT_OPAQUE = internal(
+		"getFloatOpaque", float.class, Object.class, long.class);
+	private static final MethodHandle GET_INT_ACQUIRE = internal(
+		"getIntAcquire", int.class, Object.class, long.class);
+	private static final MethodHandle GET_INT_OPAQUE = internal(
+		"getIntOpaque", int.class, Object.class, long.class);
+	private static final MethodHandle GET_INT_UNALIGNED = internal(
+		"getIntUnaligned", int.class, Object.class, long.class);
+	private static final MethodHandle GET_INT_UNALIGNED_ENDIAN = internal(
+		"getIntUnaligned", int.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_LONG_ACQUIRE = internal(
+		"getLongAcquire", long.class, Object.class, long.class);
+	private static final MethodHandle GET_LONG_OPAQUE = internal(
+		"getLongOpaque", long.class, Object.class, long.class);
+	private static final MethodHandle GET_LONG_UNALIGNED = internal(
+		"getLongUnaligned", long.class, Object.class, long.class);
+	private static final MethodHandle GET_LONG_UNALIGNED_ENDIAN = internal(
+		"getLongUnaligned", long.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_REFERENCE_ACQUIRE = internal(
+		"getReferenceAcquire", Object.class, Object.class, long.class);
+	private static final MethodHandle GET_REFERENCE_OPAQUE = internal(
+		"getReferenceOpaque", Object.class, Object.class, long.class);
+	private static final MethodHandle GET_SHORT_ACQUIRE = internal(
+		"getShortAcquire", short.class, Object.class, long.class);
+	private static final MethodHandle GET_SHORT_OPAQUE = internal(
+		"getShortOpaque", short.class, Object.class, long.class);
+	private static final MethodHandle GET_SHORT_UNALIGNED = internal(
+		"getShortUnaligned", short.class, Object.class, long.class);
+	private static final MethodHandle GET_SHORT_UNALIGNED_ENDIAN = internal(
+		"getShortUnaligned", short.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle GET_UNCOMPRESSED_OBJECT = internal(
+		"getUncompressedObject", Object.class, long.class);
+	private static final MethodHandle IS_WRITEBACK_ENABLED = internal(
+		"isWritebackEnabled", boolean.class);
+	private static final MethodHandle LOAD_LOAD_FENCE = internal(
+		"loadLoadFence", void.class);
+	private static final MethodHandle OBJECT_FIELD_OFFSET_BY_NAME = internal(
+		"objectFieldOffset", long.class, Class.class, String.class);
+	private static final MethodHandle PUT_ADDRESS = internal(
+		"putAddress", void.class, Object.class, long.class, long.class);
+	private static final MethodHandle PUT_BOOLEAN_OPAQUE = internal(
+		"putBooleanOpaque", void.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle PUT_BOOLEAN_RELEASE = internal(
+		"putBooleanRelease", void.class, Object.class, long.class, boolean.class);
+	private static final MethodHandle PUT_BYTE_OPAQUE = internal(
+		"putByteOpaque", void.class, Object.class, long.class, byte.class);
+	private static final MethodHandle PUT_BYTE_RELEASE = internal(
+		"putByteRelease", void.class, Object.class, long.class, byte.class);
+	private static final MethodHandle PUT_CHAR_OPAQUE = internal(
+		"putCharOpaque", void.class, Object.class, long.class, char.class);
+	private static final MethodHandle PUT_CHAR_RELEASE = internal(
+		"putCharRelease", void.class, Object.class, long.class, char.class);
+	private static final MethodHandle PUT_CHAR_UNALIGNED = internal(
+		"putCharUnaligned", void.class, Object.class, long.class, char.class);
+	private static final MethodHandle PUT_CHAR_UNALIGNED_ENDIAN = internal(
+		"putCharUnaligned", void.class, Object.class, long.class, char.class, boolean.class);
+	private static final MethodHandle PUT_DOUBLE_OPAQUE = internal(
+		"putDoubleOpaque", void.class, Object.class, long.class, double.class);
+	private static final MethodHandle PUT_DOUBLE_RELEASE = internal(
+		"putDoubleRelease", void.class, Object.class, long.class, double.class);
+	private static final MethodHandle PUT_FLOAT_OPAQUE = internal(
+		"putFloatOpaque", void.class, Object.class, long.class, float.class);
+	private static final MethodHandle PUT_FLOAT_RELEASE = internal(
+		"putFloatRelease", void.class, Object.class, long.class, float.class);
+	private static final MethodHandle PUT_INT_OPAQUE = internal(
+		"putIntOpaque", void.class, Object.class, long.class, int.class);
+	private static final MethodHandle PUT_INT_UNALIGNED = internal(
+		"putIntUnaligned", void.class, Object.class, long.class, int.class);
+	private static final MethodHandle PUT_INT_UNALIGNED_ENDIAN = internal(
+		"putIntUnaligned", void.class, Object.class, long.class, int.class, boolean.class);
+	private static final MethodHandle PUT_LONG_OPAQUE = internal(
+		"putLongOpaque", void.class, Object.class, long.class, long.class);
+	private static final MethodHandle PUT_LONG_UNALIGNED = internal(
+		"putLongUnaligned", void.class, Object.class, long.class, long.class);
+	private static final MethodHandle PUT_LONG_UNALIGNED_ENDIAN = internal(
+		"putLongUnaligned", void.class, Object.class, long.class, long.class, boolean.class);
+	private static final MethodHandle PUT_REFERENCE_OPAQUE = internal(
+		"putReferenceOpaque", void.class, Object.class, long.class, Object.class);
+	private static final MethodHandle PUT_SHORT_OPAQUE = internal(
+		"putShortOpaque", void.class, Object.class, long.class, short.class);
+	private static final MethodHandle PUT_SHORT_RELEASE = internal(
+		"putShortRelease", void.class, Object.class, long.class, short.class);
+	private static final MethodHandle PUT_SHORT_UNALIGNED = internal(
+		"putShortUnaligned", void.class, Object.class, long.class, short.class);
+	private static final MethodHandle PUT_SHORT_UNALIGNED_ENDIAN = internal(
+		"putShortUnaligned", void.class, Object.class, long.class, short.class, boolean.class);
+	private static final MethodHandle STORE_STORE_FENCE = internal(
+		"storeStoreFence", void.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BOOLEAN = internal(
+		"weakCompareAndSetBoolean", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BOOLEAN_ACQUIRE = internal(
+		"weakCompareAndSetBooleanAcquire", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BOOLEAN_PLAIN = internal(
+		"weakCompareAndSetBooleanPlain", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BOOLEAN_RELEASE = internal(
+		"weakCompareAndSetBooleanRelease", boolean.class, Object.class, long.class, boolean.class, boolean.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BYTE = internal(
+		"weakCompareAndSetByte", boolean.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BYTE_ACQUIRE = internal(
+		"weakCompareAndSetByteAcquire", boolean.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BYTE_PLAIN = internal(
+		"weakCompareAndSetBytePlain", boolean.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_BYTE_RELEASE = internal(
+		"weakCompareAndSetByteRelease", boolean.class, Object.class, long.class, byte.class, byte.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_CHAR = internal(
+		"weakCompareAndSetChar", boolean.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_CHAR_ACQUIRE = internal(
+		"weakCompareAndSetCharAcquire", boolean.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_CHAR_PLAIN = internal(
+		"weakCompareAndSetCharPlain", boolean.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_CHAR_RELEASE = internal(
+		"weakCompareAndSetCharRelease", boolean.class, Object.class, long.class, char.class, char.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_DOUBLE = internal(
+		"weakCompareAndSetDouble", boolean.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_DOUBLE_ACQUIRE = internal(
+		"weakCompareAndSetDoubleAcquire", boolean.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_DOUBLE_PLAIN = internal(
+		"weakCompareAndSetDoublePlain", boolean.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_DOUBLE_RELEASE = internal(
+		"weakCompareAndSetDoubleRelease", boolean.class, Object.class, long.class, double.class, double.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_FLOAT = internal(
+		"weakCompareAndSetFloat", boolean.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_FLOAT_ACQUIRE = internal(
+		"weakCompareAndSetFloatAcquire", boolean.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_FLOAT_PLAIN = internal(
+		"weakCompareAndSetFloatPlain", boolean.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_FLOAT_RELEASE = internal(
+		"weakCompareAndSetFloatRelease", boolean.class, Object.class, long.class, float.class, float.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_INT = internal(
+		"weakCompareAndSetInt", boolean.class, Object.class, long.class, int.class, int.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_INT_ACQUIRE = internal(
+		"weakCompareAndSetIntAcquire", boolean.class, Object.class, long.class, int.class, int.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_INT_PLAIN = internal(
+		"weakCompareAndSetIntPlain", boolean.class, Object.class, long.class, int.class, int.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_INT_RELEASE = internal(
+		"weakCompareAndSetIntRelease", boolean.class, Object.class, long.class, int.class, int.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_LONG = internal(
+		"weakCompareAndSetLong", boolean.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_LONG_ACQUIRE = internal(
+		"weakCompareAndSetLongAcquire", boolean.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_LONG_PLAIN = internal(
+		"weakCompareAndSetLongPlain", boolean.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_LONG_RELEASE = internal(
+		"weakCompareAndSetLongRelease", boolean.class, Object.class, long.class, long.class, long.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_REFERENCE = internal(
+		"weakCompareAndSetReference", boolean.class, Object.class, long.class, Object.class, Object.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_REFERENCE_ACQUIRE = internal(
+		"weakCompareAndSetReferenceAcquire", boolean.class, Object.class, long.class, Object.class, Object.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_REFERENCE_PLAIN = internal(
+		"weakCompareAndSetReferencePlain", boolean.class, Object.class, long.class, Object.class, Object.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_REFERENCE_RELEASE = internal(
+		"weakCompareAndSetReferenceRelease", boolean.class, Object.class, long.class, Object.class, Object.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_SHORT = internal(
+		"weakCompareAndSetShort", boolean.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_SHORT_ACQUIRE = internal(
+		"weakCompareAndSetShortAcquire", boolean.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_SHORT_PLAIN = internal(
+		"weakCompareAndSetShortPlain", boolean.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle WEAK_COMPARE_AND_SET_SHORT_RELEASE = internal(
+		"weakCompareAndSetShortRelease", boolean.class, Object.class, long.class, short.class, short.class);
+	private static final MethodHandle WRITEBACK_MEMORY = internal(
+		"writebackMemory", void.class, long.class, long.class);
+	
 	private UnsafeApi() {}
 	
+	private static MethodHandle internal(final String name, final Class<?> returnType, final Class<?>... parameterTypes) {
+		if (null == INTERNAL_UNSAFE) {
+			return null;
+		}
+		
+		try {
+			return MethodHandles.lookup()
+					.findVirtual(INTERNAL_UNSAFE.getClass(), name, MethodType.methodType(returnType, parameterTypes))
+					.bindTo(INTERNAL_UNSAFE);
+		} catch (final ReflectiveOperationException ex) {
+			return null;
+		}
+	}
+	
+	private static boolean invokeInternal(final String name) {
+		try {
+			return (boolean)INTERNAL_UNSAFE.getClass().getMethod(name).invoke(INTERNAL_UNSAFE);
+		} catch (final ReflectiveOperationException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+	
+	private static RuntimeException rethrow(final Throwable ex) {
+		LangUtil.rethrowUnchecked(ex);
+		return new IllegalStateException(ex);
+	}
+	
+	private static byte toByte(final boolean value) {
+		return value ? (byte)1 : (byte)0;
+	}
+	
+	private static long getBytesUnaligned(final Object o, final long offset, final int size) {
+		long value = 0;
+		for (int i = 0; i < size; i++) {
+			final int shift = (BIG_ENDIAN ? size - 1 - i : i) << 3;
+			value |= (UNSAFE.getByte(o, offset + i) & 0xFFL) << shift;
+		}
+		
+		return value;
+	}
+	
+	private static void putBytesUnaligned(final Object o, final long offset, final long value, final int size) {
+		for (int i = 0; i < size; i++) {
+			final int shift = (BIG_ENDIAN ? size - 1 - i : i) << 3;
+			UNSAFE.putByte(o, offset + i, (byte)(value >>> shift));
+		}
+	}
+	
 	private static java.lang.invoke.CallSite bootstrapArrayBaseOffset(
 			final java.lang.invoke.MethodHandles.Lookup lookup,
 			final String methodName,
@@ -24,4512 +601,5493 @@ public final class UnsafeApi {
 		}
 	}
 	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#addressSize()}.
+	 * @return value
+	 */
 	public static int addressSize() {
-		throw new UnsupportedOperationException("'addressSize' not implemented");
+		return UNSAFE.addressSize();
 	}
 	
-	public static Object allocateInstance(
-			final Class<?> arg0) {
-		throw new UnsupportedOperationException("'allocateInstance' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#allocateInstance(java.lang.Class)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static Object allocateInstance(final Class<?> arg0) {
+		try {
+			return UNSAFE.allocateInstance(arg0);
+		} catch (final InstantiationException ex) {
+			throw rethrow(ex);
+		}
 	}
 	
-	public static long allocateMemory(
-			final long arg0) {
-		throw new UnsupportedOperationException("'allocateMemory' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#allocateMemory(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static long allocateMemory(final long arg0) {
+		return UNSAFE.allocateMemory(arg0);
 	}
 	
-	public static Object allocateUninitializedArray(
-			final Class<?> arg0,
-			final int arg1) {
-		throw new UnsupportedOperationException("'allocateUninitializedArray' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#allocateUninitializedArray(java.lang.Class, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static Object allocateUninitializedArray(final Class<?> arg0, final int arg1) {
+		if (null != ALLOCATE_UNINITIALIZED_ARRAY) {
+			try {
+				return (Object)ALLOCATE_UNINITIALIZED_ARRAY.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (null == arg0 || !arg0.isPrimitive()) {
+			throw new IllegalArgumentException("Component type is not primitive: " + arg0);
+		}
+		return java.lang.reflect.Array.newInstance(arg0, arg1);
 	}
 	
-	public static int arrayBaseOffset(
-			final Class<?> arg0) {
-		throw new UnsupportedOperationException("'arrayBaseOffset' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#arrayBaseOffset(java.lang.Class)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static int arrayBaseOffset(final Class<?> arg0) {
+		return UNSAFE.arrayBaseOffset(arg0);
 	}
 	
-	public static int arrayIndexScale(
-			final Class<?> arg0) {
-		throw new UnsupportedOperationException("'arrayIndexScale' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#arrayIndexScale(java.lang.Class)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static int arrayIndexScale(final Class<?> arg0) {
+		return UNSAFE.arrayIndexScale(arg0);
 	}
 	
-	public static boolean compareAndExchangeBoolean(
-			final Object arg0,
-			final long arg1,
-			final boolean arg2,
-			final boolean arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeBoolean' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeBoolean(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndExchangeBoolean(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != COMPARE_AND_EXCHANGE_BOOLEAN) {
+			try {
+				return (boolean)COMPARE_AND_EXCHANGE_BOOLEAN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeByte(arg0, arg1, toByte(arg2), toByte(arg3)) != 0;
 	}
 	
-	public static boolean compareAndExchangeBooleanAcquire(
-			final Object arg0,
-			final long arg1,
-			final boolean arg2, 
-			final boolean arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeBooleanAccquire' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeBooleanAcquire(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndExchangeBooleanAcquire(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != COMPARE_AND_EXCHANGE_BOOLEAN_ACQUIRE) {
+			try {
+				return (boolean)COMPARE_AND_EXCHANGE_BOOLEAN_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeBoolean(arg0, arg1, arg2, arg3);
 	}
 	
-	public static boolean compareAndExchangeBooleanRelease(
-			final Object arg0,
-			final long arg1, 
-			final boolean arg2, 
-			final boolean arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeBooleanAccquire' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeBooleanRelease(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndExchangeBooleanRelease(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != COMPARE_AND_EXCHANGE_BOOLEAN_RELEASE) {
+			try {
+				return (boolean)COMPARE_AND_EXCHANGE_BOOLEAN_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeBoolean(arg0, arg1, arg2, arg3);
 	}
 	
-	public static byte compareAndExchangeByte(
-			final Object arg0,
-			final long arg1,
-			final byte arg2,
-			final byte arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeByte' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeByte(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static byte compareAndExchangeByte(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != COMPARE_AND_EXCHANGE_BYTE) {
+			try {
+				return (byte)COMPARE_AND_EXCHANGE_BYTE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		final long wordOffset = arg1 & ~3;
+		int shift = (int)(arg1 & 3) << 3;
+		if (BIG_ENDIAN) {
+			shift = 24 - shift;
+		}
+		final int mask = 0xFF << shift;
+		final int maskedExpected = (arg2 & 0xFF) << shift;
+		final int maskedUpdate = (arg3 & 0xFF) << shift;
+		int fullWord;
+		do {
+			fullWord = UNSAFE.getIntVolatile(arg0, wordOffset);
+			if ((fullWord & mask) != maskedExpected) {
+				return (byte)((fullWord & mask) >> shift);
+			}
+		} while (!UNSAFE.compareAndSwapInt(arg0, wordOffset, fullWord, (fullWord & ~mask) | maskedUpdate));
+		return arg2;
 	}
 	
-	public static byte compareAndExchangeByteAcquire(
-			final Object arg0,
-			final long arg1, 
-			final byte arg2,
-			final byte arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeByteAcquire' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeByteAcquire(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static byte compareAndExchangeByteAcquire(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != COMPARE_AND_EXCHANGE_BYTE_ACQUIRE) {
+			try {
+				return (byte)COMPARE_AND_EXCHANGE_BYTE_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeByte(arg0, arg1, arg2, arg3);
 	}
 	
-	public static byte compareAndExchangeByteRelease(
-			final Object arg0,
-			final long arg1, 
-			final byte arg2,
-			final byte arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeByteRelease' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeByteRelease(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static byte compareAndExchangeByteRelease(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != COMPARE_AND_EXCHANGE_BYTE_RELEASE) {
+			try {
+				return (byte)COMPARE_AND_EXCHANGE_BYTE_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeByte(arg0, arg1, arg2, arg3);
 	}
 	
-	public static char compareAndExchangeChar(
-			final Object arg0,
-			final long arg1,
-			final char arg2,
-			final char arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeChar' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeChar(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static char compareAndExchangeChar(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != COMPARE_AND_EXCHANGE_CHAR) {
+			try {
+				return (char)COMPARE_AND_EXCHANGE_CHAR.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return (char)compareAndExchangeShort(arg0, arg1, (short)arg2, (short)arg3);
 	}
 	
-	public static char compareAndExchangeCharAcquire(
-			final Object arg0,
-			final long arg1, 
-			final char arg2,
-			final char arg3) {
-		throw new UnsupportedOperationException("'compareAndExchangeCharAcquire' not implemented");
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeCharAcquire(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static char compareAndExchangeCharAcquire(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != COMPARE_AND_EXCHANGE_CHAR_ACQUIRE) {
+			try {
+				return (char)COMPARE_AND_EXCHANGE_CHAR_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeChar(arg0, arg1, arg2, arg3);
 	}
+	
 	/**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeCharRelease(java.lang.Object, long, char, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static char compareAndExchangeCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2,
-        final char arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeDouble(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static double compareAndExchangeDouble(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeDoubleAcquire(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static double compareAndExchangeDoubleAcquire(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeDoubleAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeDoubleRelease(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static double compareAndExchangeDoubleRelease(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeDoubleRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeFloat(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static float compareAndExchangeFloat(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeFloatAcquire(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static float compareAndExchangeFloatAcquire(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeFloatAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeFloatRelease(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static float compareAndExchangeFloatRelease(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeFloatRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeInt(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static int compareAndExchangeInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeIntAcquire(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static int compareAndExchangeIntAcquire(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeIntRelease(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static int compareAndExchangeIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeLong(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static long compareAndExchangeLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeLongAcquire(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static long compareAndExchangeLongAcquire(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeLongRelease(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static long compareAndExchangeLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeReference(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static Object compareAndExchangeReference(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeReference' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeReferenceAcquire(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static Object compareAndExchangeReferenceAcquire(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeReferenceAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeReferenceRelease(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static Object compareAndExchangeReferenceRelease(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeReferenceRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeShort(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static short compareAndExchangeShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeShortAcquire(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static short compareAndExchangeShortAcquire(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndExchangeShortRelease(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static short compareAndExchangeShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndExchangeShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetBoolean(java.lang.Object, long, boolean, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetBoolean(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetByte(java.lang.Object, long, byte, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2,
-        final byte arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetChar(java.lang.Object, long, char, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2,
-        final char arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetDouble(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetDouble(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetFloat(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetFloat(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetInt(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetLong(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetReference(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetReference(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetReference' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#compareAndSetShort(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean compareAndSetShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'compareAndSetShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#copyMemory(long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void copyMemory(
-        final long arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'copyMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#copyMemory(java.lang.Object, long, java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @param arg4 arg4
-     */
-    public static void copyMemory(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final long arg3,
-        final long arg4)
-    {
-        throw new UnsupportedOperationException("'copyMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#copySwapMemory(long, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     */
-    public static void copySwapMemory(
-        final long arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'copySwapMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#copySwapMemory(java.lang.Object, long, java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @param arg4 arg4
-     * @param arg5 arg5
-     */
-    public static void copySwapMemory(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final long arg3,
-        final long arg4,
-        final long arg5)
-    {
-        throw new UnsupportedOperationException("'copySwapMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#dataCacheLineAlignDown(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static long dataCacheLineAlignDown(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'dataCacheLineAlignDown' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#dataCacheLineFlushSize}.
-     * @return value
-     */
-    public static int dataCacheLineFlushSize()
-    {
-        throw new UnsupportedOperationException("'dataCacheLineFlushSize' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#defineClass(java.lang.String, byte[], int, int, java.lang.ClassLoader, java.security.ProtectionDomain)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @param arg4 arg4
-     * @param arg5 arg5
-     * @return value
-     */
-    public static Class<?> defineClass(
-        final String arg0,
-        final byte[] arg1,
-        final int arg2,
-        final int arg3,
-        final ClassLoader arg4,
-        final java.security.ProtectionDomain arg5)
-    {
-        throw new UnsupportedOperationException("'defineClass' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#ensureClassInitialized(java.lang.Class)}.
-     * @param arg0 arg0
-     */
-    public static void ensureClassInitialized(
-        final Class<?> arg0)
-    {
-        throw new UnsupportedOperationException("'ensureClassInitialized' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#freeMemory(long)}.
-     * @param arg0 arg0
-     */
-    public static void freeMemory(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'freeMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#fullFence}.
-     */
-    public static void fullFence()
-    {
-        throw new UnsupportedOperationException("'fullFence' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAddress(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static long getAddress(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getAddress' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAddress(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long getAddress(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getAddress' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddByte(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndAddByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddByteAcquire(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndAddByteAcquire(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddByteAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddByteRelease(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndAddByteRelease(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddByteRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddChar(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndAddChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddCharAcquire(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndAddCharAcquire(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddCharAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddCharRelease(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndAddCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddDouble(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static double getAndAddDouble(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddDoubleAcquire(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static double getAndAddDoubleAcquire(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddDoubleAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddDoubleRelease(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static double getAndAddDoubleRelease(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddDoubleRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddFloat(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static float getAndAddFloat(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddFloatAcquire(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static float getAndAddFloatAcquire(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddFloatAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddFloatRelease(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static float getAndAddFloatRelease(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddFloatRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddInt(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndAddInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddIntAcquire(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndAddIntAcquire(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddIntRelease(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndAddIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddLong(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndAddLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddLongAcquire(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndAddLongAcquire(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddLongRelease(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndAddLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddShort(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndAddShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddShortAcquire(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndAddShortAcquire(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndAddShortRelease(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndAddShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndAddShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndBoolean(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseAndBoolean(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndBooleanAcquire(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseAndBooleanAcquire(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndBooleanAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndBooleanRelease(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseAndBooleanRelease(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndBooleanRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndByte(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseAndByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndByteAcquire(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseAndByteAcquire(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndByteAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndByteRelease(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseAndByteRelease(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndByteRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndChar(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseAndChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndCharAcquire(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseAndCharAcquire(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndCharAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndCharRelease(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseAndCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndInt(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseAndInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndIntAcquire(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseAndIntAcquire(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndIntRelease(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseAndIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndLong(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseAndLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndLongAcquire(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseAndLongAcquire(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndLongRelease(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseAndLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndShort(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseAndShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndShortAcquire(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseAndShortAcquire(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndShortRelease(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseAndShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseAndShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrBoolean(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseOrBoolean(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrBooleanAcquire(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseOrBooleanAcquire(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrBooleanAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrBooleanRelease(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseOrBooleanRelease(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrBooleanRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrByte(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseOrByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrByteAcquire(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseOrByteAcquire(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrByteAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrByteRelease(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseOrByteRelease(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrByteRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrChar(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseOrChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrCharAcquire(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseOrCharAcquire(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrCharAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrCharRelease(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseOrCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrInt(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseOrInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrIntAcquire(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseOrIntAcquire(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrIntRelease(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseOrIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrLong(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseOrLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrLongAcquire(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseOrLongAcquire(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrLongRelease(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseOrLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrShort(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseOrShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrShortAcquire(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseOrShortAcquire(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrShortRelease(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseOrShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseOrShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorBoolean(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseXorBoolean(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorBooleanAcquire(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseXorBooleanAcquire(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorBooleanAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorBooleanRelease(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndBitwiseXorBooleanRelease(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorBooleanRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorByte(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseXorByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorByteAcquire(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseXorByteAcquire(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorByteAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorByteRelease(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndBitwiseXorByteRelease(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorByteRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorChar(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseXorChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorCharAcquire(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseXorCharAcquire(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorCharAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorCharRelease(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndBitwiseXorCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorInt(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseXorInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorIntAcquire(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseXorIntAcquire(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorIntRelease(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndBitwiseXorIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorLong(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseXorLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorLongAcquire(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseXorLongAcquire(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorLongRelease(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndBitwiseXorLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorShort(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseXorShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorShortAcquire(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseXorShortAcquire(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorShortRelease(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndBitwiseXorShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndBitwiseXorShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetBoolean(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndSetBoolean(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetBooleanAcquire(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndSetBooleanAcquire(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetBooleanAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetBooleanRelease(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static boolean getAndSetBooleanRelease(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetBooleanRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetByte(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndSetByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetByteAcquire(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndSetByteAcquire(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetByteAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetByteRelease(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static byte getAndSetByteRelease(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetByteRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetChar(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndSetChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetCharAcquire(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndSetCharAcquire(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetCharAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetCharRelease(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getAndSetCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetDouble(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static double getAndSetDouble(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetDoubleAcquire(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static double getAndSetDoubleAcquire(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetDoubleAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetDoubleRelease(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static double getAndSetDoubleRelease(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetDoubleRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetFloat(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static float getAndSetFloat(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetFloatAcquire(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static float getAndSetFloatAcquire(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetFloatAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetFloatRelease(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static float getAndSetFloatRelease(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetFloatRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetInt(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndSetInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetIntAcquire(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndSetIntAcquire(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetIntRelease(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getAndSetIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetLong(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndSetLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetLongAcquire(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndSetLongAcquire(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetLongRelease(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getAndSetLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetReference(java.lang.Object, long, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static Object getAndSetReference(
-        final Object arg0,
-        final long arg1,
-        final Object arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetReference' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetReferenceAcquire(java.lang.Object, long, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static Object getAndSetReferenceAcquire(
-        final Object arg0,
-        final long arg1,
-        final Object arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetReferenceAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetReferenceRelease(java.lang.Object, long, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static Object getAndSetReferenceRelease(
-        final Object arg0,
-        final long arg1,
-        final Object arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetReferenceRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetShort(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndSetShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetShortAcquire(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndSetShortAcquire(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getAndSetShortRelease(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getAndSetShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'getAndSetShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getBoolean(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static boolean getBoolean(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getBooleanAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static boolean getBooleanAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getBooleanAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getBooleanOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static boolean getBooleanOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getBooleanOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getBooleanVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static boolean getBooleanVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getBooleanVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getByte(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static byte getByte(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getByte(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static byte getByte(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getByteAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static byte getByteAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getByteAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getByteOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static byte getByteOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getByteOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getByteVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static byte getByteVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getByteVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getChar(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static char getChar(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getChar(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static char getChar(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getCharAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static char getCharAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getCharAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getCharOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static char getCharOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getCharOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getCharUnaligned(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static char getCharUnaligned(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getCharUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getCharUnaligned(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static char getCharUnaligned(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getCharUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getCharVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static char getCharVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getCharVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getDouble(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static double getDouble(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getDouble(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static double getDouble(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getDoubleAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static double getDoubleAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getDoubleAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getDoubleOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static double getDoubleOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getDoubleOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getDoubleVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static double getDoubleVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getDoubleVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getFloat(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static float getFloat(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getFloat(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static float getFloat(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getFloatAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static float getFloatAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getFloatAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getFloatOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static float getFloatOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getFloatOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getFloatVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static float getFloatVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getFloatVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getInt(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static int getInt(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getInt(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static int getInt(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getIntAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static int getIntAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getIntOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static int getIntOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getIntOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getIntUnaligned(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static int getIntUnaligned(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getIntUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getIntUnaligned(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static int getIntUnaligned(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getIntUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getIntVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static int getIntVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getIntVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLoadAverage(double[], int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static int getLoadAverage(
-        final double[] arg0,
-        final int arg1)
-    {
-        throw new UnsupportedOperationException("'getLoadAverage' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLong(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static long getLong(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLong(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long getLong(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLongAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long getLongAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLongOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long getLongOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getLongOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLongUnaligned(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long getLongUnaligned(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getLongUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLongUnaligned(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static long getLongUnaligned(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getLongUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getLongVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long getLongVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getLongVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getReference(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static Object getReference(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getReference' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getReferenceAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static Object getReferenceAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getReferenceAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getReferenceOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static Object getReferenceOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getReferenceOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getReferenceVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static Object getReferenceVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getReferenceVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getShort(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static short getShort(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getShort(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static short getShort(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getShortAcquire(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static short getShortAcquire(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getShortOpaque(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static short getShortOpaque(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getShortOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getShortUnaligned(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static short getShortUnaligned(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getShortUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getShortUnaligned(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @return value
-     */
-    public static short getShortUnaligned(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'getShortUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getShortVolatile(java.lang.Object, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static short getShortVolatile(
-        final Object arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'getShortVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#getUncompressedObject(long)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static Object getUncompressedObject(
-        final long arg0)
-    {
-        throw new UnsupportedOperationException("'getUncompressedObject' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#invokeCleaner(java.nio.ByteBuffer)}.
-     * @param arg0 arg0
-     */
-    public static void invokeCleaner(
-        final java.nio.ByteBuffer arg0)
-    {
-        throw new UnsupportedOperationException("'invokeCleaner' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#isBigEndian}.
-     * @return value
-     */
-    public static boolean isBigEndian()
-    {
-        throw new UnsupportedOperationException("'isBigEndian' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#isWritebackEnabled}.
-     * @return value
-     */
-    public static boolean isWritebackEnabled()
-    {
-        throw new UnsupportedOperationException("'isWritebackEnabled' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#loadFence}.
-     */
-    public static void loadFence()
-    {
-        throw new UnsupportedOperationException("'loadFence' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#loadLoadFence}.
-     */
-    public static void loadLoadFence()
-    {
-        throw new UnsupportedOperationException("'loadLoadFence' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#objectFieldOffset(java.lang.reflect.Field)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static long objectFieldOffset(
-        final java.lang.reflect.Field arg0)
-    {
-        throw new UnsupportedOperationException("'objectFieldOffset' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#objectFieldOffset(java.lang.Class, java.lang.String)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long objectFieldOffset(
-        final Class<?> arg0,
-        final String arg1)
-    {
-        throw new UnsupportedOperationException("'objectFieldOffset' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#pageSize}.
-     * @return value
-     */
-    public static int pageSize()
-    {
-        throw new UnsupportedOperationException("'pageSize' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#park(boolean, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void park(
-        final boolean arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'park' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putAddress(long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putAddress(
-        final long arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'putAddress' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putAddress(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putAddress(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'putAddress' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putBoolean(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putBoolean(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'putBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putBooleanOpaque(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putBooleanOpaque(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'putBooleanOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putBooleanRelease(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putBooleanRelease(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'putBooleanRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putBooleanVolatile(java.lang.Object, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putBooleanVolatile(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2)
-    {
-        throw new UnsupportedOperationException("'putBooleanVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putByte(long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putByte(
-        final long arg0,
-        final byte arg1)
-    {
-        throw new UnsupportedOperationException("'putByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putByte(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'putByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putByteOpaque(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putByteOpaque(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'putByteOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putByteRelease(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putByteRelease(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'putByteRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putByteVolatile(java.lang.Object, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putByteVolatile(
-        final Object arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'putByteVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putChar(long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putChar(
-        final long arg0,
-        final char arg1)
-    {
-        throw new UnsupportedOperationException("'putChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putChar(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'putChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putCharOpaque(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putCharOpaque(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'putCharOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putCharRelease(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'putCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putCharUnaligned(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putCharUnaligned(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'putCharUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putCharUnaligned(java.lang.Object, long, char, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     */
-    public static void putCharUnaligned(
-        final Object arg0,
-        final long arg1,
-        final char arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'putCharUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putCharVolatile(java.lang.Object, long, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putCharVolatile(
-        final Object arg0,
-        final long arg1,
-        final char arg2)
-    {
-        throw new UnsupportedOperationException("'putCharVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putDouble(long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putDouble(
-        final long arg0,
-        final double arg1)
-    {
-        throw new UnsupportedOperationException("'putDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putDouble(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putDouble(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'putDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putDoubleOpaque(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putDoubleOpaque(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'putDoubleOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putDoubleRelease(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putDoubleRelease(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'putDoubleRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putDoubleVolatile(java.lang.Object, long, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putDoubleVolatile(
-        final Object arg0,
-        final long arg1,
-        final double arg2)
-    {
-        throw new UnsupportedOperationException("'putDoubleVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putFloat(long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putFloat(
-        final long arg0,
-        final float arg1)
-    {
-        throw new UnsupportedOperationException("'putFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putFloat(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putFloat(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'putFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putFloatOpaque(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putFloatOpaque(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'putFloatOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putFloatRelease(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putFloatRelease(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'putFloatRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putFloatVolatile(java.lang.Object, long, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putFloatVolatile(
-        final Object arg0,
-        final long arg1,
-        final float arg2)
-    {
-        throw new UnsupportedOperationException("'putFloatVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putInt(long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putInt(
-        final long arg0,
-        final int arg1)
-    {
-        throw new UnsupportedOperationException("'putInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putInt(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'putInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putIntOpaque(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putIntOpaque(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'putIntOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putIntRelease(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'putIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putIntUnaligned(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putIntUnaligned(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'putIntUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putIntUnaligned(java.lang.Object, long, int, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     */
-    public static void putIntUnaligned(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'putIntUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putIntVolatile(java.lang.Object, long, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putIntVolatile(
-        final Object arg0,
-        final long arg1,
-        final int arg2)
-    {
-        throw new UnsupportedOperationException("'putIntVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putLong(long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putLong(
-        final long arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'putLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putLong(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'putLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putLongOpaque(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putLongOpaque(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'putLongOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putLongRelease(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'putLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putLongUnaligned(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putLongUnaligned(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'putLongUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putLongUnaligned(java.lang.Object, long, long, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     */
-    public static void putLongUnaligned(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'putLongUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putLongVolatile(java.lang.Object, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putLongVolatile(
-        final Object arg0,
-        final long arg1,
-        final long arg2)
-    {
-        throw new UnsupportedOperationException("'putLongVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putReference(java.lang.Object, long, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putReference(
-        final Object arg0,
-        final long arg1,
-        final Object arg2)
-    {
-        throw new UnsupportedOperationException("'putReference' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putReferenceOpaque(java.lang.Object, long, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putReferenceOpaque(
-        final Object arg0,
-        final long arg1,
-        final Object arg2)
-    {
-        throw new UnsupportedOperationException("'putReferenceOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putReferenceRelease(java.lang.Object, long, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putReferenceRelease(
-        final Object arg0,
-        final long arg1,
-        final Object arg2)
-    {
-        throw new UnsupportedOperationException("'putReferenceRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putReferenceVolatile(java.lang.Object, long, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putReferenceVolatile(
-        final Object arg0,
-        final long arg1,
-        final Object arg2)
-    {
-        throw new UnsupportedOperationException("'putReferenceVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putShort(long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void putShort(
-        final long arg0,
-        final short arg1)
-    {
-        throw new UnsupportedOperationException("'putShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putShort(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'putShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putShortOpaque(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putShortOpaque(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'putShortOpaque' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putShortRelease(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'putShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putShortUnaligned(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putShortUnaligned(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'putShortUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putShortUnaligned(java.lang.Object, long, short, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     */
-    public static void putShortUnaligned(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'putShortUnaligned' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#putShortVolatile(java.lang.Object, long, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void putShortVolatile(
-        final Object arg0,
-        final long arg1,
-        final short arg2)
-    {
-        throw new UnsupportedOperationException("'putShortVolatile' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#reallocateMemory(long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @return value
-     */
-    public static long reallocateMemory(
-        final long arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'reallocateMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#setMemory(long, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     */
-    public static void setMemory(
-        final long arg0,
-        final long arg1,
-        final byte arg2)
-    {
-        throw new UnsupportedOperationException("'setMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#setMemory(java.lang.Object, long, long, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     */
-    public static void setMemory(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final byte arg3)
-    {
-        throw new UnsupportedOperationException("'setMemory' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#shouldBeInitialized(java.lang.Class)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static boolean shouldBeInitialized(
-        final Class<?> arg0)
-    {
-        throw new UnsupportedOperationException("'shouldBeInitialized' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#staticFieldBase(java.lang.reflect.Field)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static Object staticFieldBase(
-        final java.lang.reflect.Field arg0)
-    {
-        throw new UnsupportedOperationException("'staticFieldBase' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#staticFieldOffset(java.lang.reflect.Field)}.
-     * @param arg0 arg0
-     * @return value
-     */
-    public static long staticFieldOffset(
-        final java.lang.reflect.Field arg0)
-    {
-        throw new UnsupportedOperationException("'staticFieldOffset' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#storeFence}.
-     */
-    public static void storeFence()
-    {
-        throw new UnsupportedOperationException("'storeFence' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#storeStoreFence}.
-     */
-    public static void storeStoreFence()
-    {
-        throw new UnsupportedOperationException("'storeStoreFence' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#throwException(java.lang.Throwable)}.
-     * @param arg0 arg0
-     */
-    public static void throwException(
-        final Throwable arg0)
-    {
-        throw new UnsupportedOperationException("'throwException' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#unalignedAccess}.
-     * @return value
-     */
-    public static boolean unalignedAccess()
-    {
-        throw new UnsupportedOperationException("'unalignedAccess' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#unpark(java.lang.Object)}.
-     * @param arg0 arg0
-     */
-    public static void unpark(
-        final Object arg0)
-    {
-        throw new UnsupportedOperationException("'unpark' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBoolean(java.lang.Object, long, boolean, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetBoolean(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetBoolean' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBooleanAcquire(java.lang.Object, long, boolean, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetBooleanAcquire(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetBooleanAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBooleanPlain(java.lang.Object, long, boolean, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetBooleanPlain(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetBooleanPlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBooleanRelease(java.lang.Object, long, boolean, boolean)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetBooleanRelease(
-        final Object arg0,
-        final long arg1,
-        final boolean arg2,
-        final boolean arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetBooleanRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetByte(java.lang.Object, long, byte, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetByte(
-        final Object arg0,
-        final long arg1,
-        final byte arg2,
-        final byte arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetByte' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetByteAcquire(java.lang.Object, long, byte, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetByteAcquire(
-        final Object arg0,
-        final long arg1,
-        final byte arg2,
-        final byte arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetByteAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBytePlain(java.lang.Object, long, byte, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetBytePlain(
-        final Object arg0,
-        final long arg1,
-        final byte arg2,
-        final byte arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetBytePlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetByteRelease(java.lang.Object, long, byte, byte)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetByteRelease(
-        final Object arg0,
-        final long arg1,
-        final byte arg2,
-        final byte arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetByteRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetChar(java.lang.Object, long, char, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetChar(
-        final Object arg0,
-        final long arg1,
-        final char arg2,
-        final char arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetChar' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetCharAcquire(java.lang.Object, long, char, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetCharAcquire(
-        final Object arg0,
-        final long arg1,
-        final char arg2,
-        final char arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetCharAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetCharPlain(java.lang.Object, long, char, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetCharPlain(
-        final Object arg0,
-        final long arg1,
-        final char arg2,
-        final char arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetCharPlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetCharRelease(java.lang.Object, long, char, char)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetCharRelease(
-        final Object arg0,
-        final long arg1,
-        final char arg2,
-        final char arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetCharRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDouble(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetDouble(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetDouble' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDoubleAcquire(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetDoubleAcquire(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetDoubleAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDoublePlain(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetDoublePlain(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetDoublePlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDoubleRelease(java.lang.Object, long, double, double)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetDoubleRelease(
-        final Object arg0,
-        final long arg1,
-        final double arg2,
-        final double arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetDoubleRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloat(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetFloat(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetFloat' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloatAcquire(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetFloatAcquire(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetFloatAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloatPlain(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetFloatPlain(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetFloatPlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloatRelease(java.lang.Object, long, float, float)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetFloatRelease(
-        final Object arg0,
-        final long arg1,
-        final float arg2,
-        final float arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetFloatRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetInt(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetInt(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetInt' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetIntAcquire(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetIntAcquire(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetIntAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetIntPlain(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetIntPlain(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetIntPlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetIntRelease(java.lang.Object, long, int, int)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetIntRelease(
-        final Object arg0,
-        final long arg1,
-        final int arg2,
-        final int arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetIntRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLong(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetLong(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetLong' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLongAcquire(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetLongAcquire(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetLongAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLongPlain(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetLongPlain(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetLongPlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLongRelease(java.lang.Object, long, long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetLongRelease(
-        final Object arg0,
-        final long arg1,
-        final long arg2,
-        final long arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetLongRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReference(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetReference(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetReference' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReferenceAcquire(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetReferenceAcquire(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetReferenceAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReferencePlain(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetReferencePlain(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetReferencePlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReferenceRelease(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetReferenceRelease(
-        final Object arg0,
-        final long arg1,
-        final Object arg2,
-        final Object arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetReferenceRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShort(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetShort(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetShort' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShortAcquire(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetShortAcquire(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetShortAcquire' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShortPlain(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetShortPlain(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetShortPlain' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShortRelease(java.lang.Object, long, short, short)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     * @param arg2 arg2
-     * @param arg3 arg3
-     * @return value
-     */
-    public static boolean weakCompareAndSetShortRelease(
-        final Object arg0,
-        final long arg1,
-        final short arg2,
-        final short arg3)
-    {
-        throw new UnsupportedOperationException("'weakCompareAndSetShortRelease' not implemented");
-    }
-
-    /**
-     * See {@code jdk.internal.misc.Unsafe#writebackMemory(long, long)}.
-     * @param arg0 arg0
-     * @param arg1 arg1
-     */
-    public static void writebackMemory(
-        final long arg0,
-        final long arg1)
-    {
-        throw new UnsupportedOperationException("'writebackMemory' not implemented");
-    }
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeCharRelease(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static char compareAndExchangeCharRelease(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != COMPARE_AND_EXCHANGE_CHAR_RELEASE) {
+			try {
+				return (char)COMPARE_AND_EXCHANGE_CHAR_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeChar(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeDouble(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static double compareAndExchangeDouble(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != COMPARE_AND_EXCHANGE_DOUBLE) {
+			try {
+				return (double)COMPARE_AND_EXCHANGE_DOUBLE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return Double.longBitsToDouble(compareAndExchangeLong(arg0, arg1, Double.doubleToRawLongBits(arg2), Double.doubleToRawLongBits(arg3)));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeDoubleAcquire(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static double compareAndExchangeDoubleAcquire(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != COMPARE_AND_EXCHANGE_DOUBLE_ACQUIRE) {
+			try {
+				return (double)COMPARE_AND_EXCHANGE_DOUBLE_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeDouble(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeDoubleRelease(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static double compareAndExchangeDoubleRelease(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != COMPARE_AND_EXCHANGE_DOUBLE_RELEASE) {
+			try {
+				return (double)COMPARE_AND_EXCHANGE_DOUBLE_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeDouble(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeFloat(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static float compareAndExchangeFloat(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != COMPARE_AND_EXCHANGE_FLOAT) {
+			try {
+				return (float)COMPARE_AND_EXCHANGE_FLOAT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return Float.intBitsToFloat(compareAndExchangeInt(arg0, arg1, Float.floatToRawIntBits(arg2), Float.floatToRawIntBits(arg3)));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeFloatAcquire(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static float compareAndExchangeFloatAcquire(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != COMPARE_AND_EXCHANGE_FLOAT_ACQUIRE) {
+			try {
+				return (float)COMPARE_AND_EXCHANGE_FLOAT_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeFloat(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeFloatRelease(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static float compareAndExchangeFloatRelease(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != COMPARE_AND_EXCHANGE_FLOAT_RELEASE) {
+			try {
+				return (float)COMPARE_AND_EXCHANGE_FLOAT_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeFloat(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeInt(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static int compareAndExchangeInt(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		if (null != COMPARE_AND_EXCHANGE_INT) {
+			try {
+				return (int)COMPARE_AND_EXCHANGE_INT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		int value;
+		do {
+			value = UNSAFE.getIntVolatile(arg0, arg1);
+			if (value != arg2) {
+				return value;
+			}
+		} while (!UNSAFE.compareAndSwapInt(arg0, arg1, arg2, arg3));
+		return arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeIntAcquire(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static int compareAndExchangeIntAcquire(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		if (null != COMPARE_AND_EXCHANGE_INT_ACQUIRE) {
+			try {
+				return (int)COMPARE_AND_EXCHANGE_INT_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeInt(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeIntRelease(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static int compareAndExchangeIntRelease(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		if (null != COMPARE_AND_EXCHANGE_INT_RELEASE) {
+			try {
+				return (int)COMPARE_AND_EXCHANGE_INT_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeInt(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeLong(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static long compareAndExchangeLong(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != COMPARE_AND_EXCHANGE_LONG) {
+			try {
+				return (long)COMPARE_AND_EXCHANGE_LONG.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		long value;
+		do {
+			value = UNSAFE.getLongVolatile(arg0, arg1);
+			if (value != arg2) {
+				return value;
+			}
+		} while (!UNSAFE.compareAndSwapLong(arg0, arg1, arg2, arg3));
+		return arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeLongAcquire(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static long compareAndExchangeLongAcquire(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != COMPARE_AND_EXCHANGE_LONG_ACQUIRE) {
+			try {
+				return (long)COMPARE_AND_EXCHANGE_LONG_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeLong(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeLongRelease(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static long compareAndExchangeLongRelease(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != COMPARE_AND_EXCHANGE_LONG_RELEASE) {
+			try {
+				return (long)COMPARE_AND_EXCHANGE_LONG_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeLong(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeReference(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static Object compareAndExchangeReference(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		if (null != COMPARE_AND_EXCHANGE_REFERENCE) {
+			try {
+				return (Object)COMPARE_AND_EXCHANGE_REFERENCE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		Object value;
+		do {
+			value = UNSAFE.getObjectVolatile(arg0, arg1);
+			if (value != arg2) {
+				return value;
+			}
+		} while (!UNSAFE.compareAndSwapObject(arg0, arg1, arg2, arg3));
+		return arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeReferenceAcquire(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static Object compareAndExchangeReferenceAcquire(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		if (null != COMPARE_AND_EXCHANGE_REFERENCE_ACQUIRE) {
+			try {
+				return (Object)COMPARE_AND_EXCHANGE_REFERENCE_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeReference(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeReferenceRelease(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static Object compareAndExchangeReferenceRelease(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		if (null != COMPARE_AND_EXCHANGE_REFERENCE_RELEASE) {
+			try {
+				return (Object)COMPARE_AND_EXCHANGE_REFERENCE_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeReference(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeShort(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static short compareAndExchangeShort(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != COMPARE_AND_EXCHANGE_SHORT) {
+			try {
+				return (short)COMPARE_AND_EXCHANGE_SHORT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if ((arg1 & 3) == 3) {
+			throw new IllegalArgumentException("Update spans the word, not supported");
+		}
+		final long wordOffset = arg1 & ~3;
+		int shift = (int)(arg1 & 3) << 3;
+		if (BIG_ENDIAN) {
+			shift = 16 - shift;
+		}
+		final int mask = 0xFFFF << shift;
+		final int maskedExpected = (arg2 & 0xFFFF) << shift;
+		final int maskedUpdate = (arg3 & 0xFFFF) << shift;
+		int fullWord;
+		do {
+			fullWord = UNSAFE.getIntVolatile(arg0, wordOffset);
+			if ((fullWord & mask) != maskedExpected) {
+				return (short)((fullWord & mask) >> shift);
+			}
+		} while (!UNSAFE.compareAndSwapInt(arg0, wordOffset, fullWord, (fullWord & ~mask) | maskedUpdate));
+		return arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeShortAcquire(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static short compareAndExchangeShortAcquire(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != COMPARE_AND_EXCHANGE_SHORT_ACQUIRE) {
+			try {
+				return (short)COMPARE_AND_EXCHANGE_SHORT_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeShort(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndExchangeShortRelease(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static short compareAndExchangeShortRelease(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != COMPARE_AND_EXCHANGE_SHORT_RELEASE) {
+			try {
+				return (short)COMPARE_AND_EXCHANGE_SHORT_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeShort(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetBoolean(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetBoolean(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != COMPARE_AND_SET_BOOLEAN) {
+			try {
+				return (boolean)COMPARE_AND_SET_BOOLEAN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeBoolean(arg0, arg1, arg2, arg3) == arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetByte(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetByte(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != COMPARE_AND_SET_BYTE) {
+			try {
+				return (boolean)COMPARE_AND_SET_BYTE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeByte(arg0, arg1, arg2, arg3) == arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetChar(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetChar(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != COMPARE_AND_SET_CHAR) {
+			try {
+				return (boolean)COMPARE_AND_SET_CHAR.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeChar(arg0, arg1, arg2, arg3) == arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetDouble(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetDouble(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != COMPARE_AND_SET_DOUBLE) {
+			try {
+				return (boolean)COMPARE_AND_SET_DOUBLE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.compareAndSwapLong(arg0, arg1, Double.doubleToRawLongBits(arg2), Double.doubleToRawLongBits(arg3));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetFloat(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetFloat(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != COMPARE_AND_SET_FLOAT) {
+			try {
+				return (boolean)COMPARE_AND_SET_FLOAT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.compareAndSwapInt(arg0, arg1, Float.floatToRawIntBits(arg2), Float.floatToRawIntBits(arg3));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetInt(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetInt(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		return UNSAFE.compareAndSwapInt(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetLong(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetLong(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		return UNSAFE.compareAndSwapLong(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetReference(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetReference(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		return UNSAFE.compareAndSwapObject(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#compareAndSetShort(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean compareAndSetShort(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != COMPARE_AND_SET_SHORT) {
+			try {
+				return (boolean)COMPARE_AND_SET_SHORT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndExchangeShort(arg0, arg1, arg2, arg3) == arg2;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#copyMemory(long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void copyMemory(final long arg0, final long arg1, final long arg2) {
+		UNSAFE.copyMemory(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#copyMemory(java.lang.Object, long, java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @param arg4 arg4
+	 */
+	public static void copyMemory(final Object arg0, final long arg1, final Object arg2, final long arg3, final long arg4) {
+		UNSAFE.copyMemory(arg0, arg1, arg2, arg3, arg4);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#copySwapMemory(long, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 */
+	public static void copySwapMemory(final long arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != COPY_SWAP_MEMORY_ADDRESS) {
+			try {
+				COPY_SWAP_MEMORY_ADDRESS.invokeExact(arg0, arg1, arg2, arg3);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		copySwapMemory(null, arg0, null, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#copySwapMemory(java.lang.Object, long, java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @param arg4 arg4
+	 * @param arg5 arg5
+	 */
+	public static void copySwapMemory(final Object arg0, final long arg1, final Object arg2, final long arg3, final long arg4, final long arg5) {
+		if (null != COPY_SWAP_MEMORY) {
+			try {
+				COPY_SWAP_MEMORY.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (arg5 != 2 && arg5 != 4 && arg5 != 8) {
+			throw new IllegalArgumentException("Illegal element size: " + arg5);
+		}
+		if (arg4 % arg5 != 0) {
+			throw new IllegalArgumentException("Size must be a multiple of element size: " + arg4);
+		}
+		for (long i = 0; i < arg4; i += arg5) {
+			if (2 == arg5) {
+				UNSAFE.putShort(arg2, arg3 + i, Short.reverseBytes(UNSAFE.getShort(arg0, arg1 + i)));
+			} else if (4 == arg5) {
+				UNSAFE.putInt(arg2, arg3 + i, Integer.reverseBytes(UNSAFE.getInt(arg0, arg1 + i)));
+			} else {
+				UNSAFE.putLong(arg2, arg3 + i, Long.reverseBytes(UNSAFE.getLong(arg0, arg1 + i)));
+			}
+		}
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#dataCacheLineAlignDown(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static long dataCacheLineAlignDown(final long arg0) {
+		if (null != DATA_CACHE_LINE_ALIGN_DOWN) {
+			try {
+				return (long)DATA_CACHE_LINE_ALIGN_DOWN.invokeExact(arg0);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		throw new UnsupportedOperationException("Data cache line flush not supported by sun.misc.Unsafe");
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#dataCacheLineFlushSize()}.
+	 * @return value
+	 */
+	public static int dataCacheLineFlushSize() {
+		if (null != DATA_CACHE_LINE_FLUSH_SIZE) {
+			try {
+				return (int)DATA_CACHE_LINE_FLUSH_SIZE.invokeExact();
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return 0;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#defineClass(java.lang.String, byte[], int, int, java.lang.ClassLoader, java.security.ProtectionDomain)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @param arg4 arg4
+	 * @param arg5 arg5
+	 * @return value
+	 */
+	public static Class<?> defineClass(final String arg0, final byte[] arg1, final int arg2, final int arg3, final ClassLoader arg4, final java.security.ProtectionDomain arg5) {
+		if (null != DEFINE_CLASS) {
+			try {
+				return (Class<?>)DEFINE_CLASS.invokeExact(arg0, arg1, arg2, arg3, arg4, arg5);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		throw new UnsupportedOperationException("'defineClass' requires jdk.internal.misc.Unsafe");
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#ensureClassInitialized(java.lang.Class)}.
+	 * @param arg0 arg0
+	 */
+	public static void ensureClassInitialized(final Class<?> arg0) {
+		UNSAFE.ensureClassInitialized(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#freeMemory(long)}.
+	 * @param arg0 arg0
+	 */
+	public static void freeMemory(final long arg0) {
+		UNSAFE.freeMemory(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#fullFence()}.
+	 */
+	public static void fullFence() {
+		UNSAFE.fullFence();
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAddress(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static long getAddress(final long arg0) {
+		return UNSAFE.getAddress(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAddress(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long getAddress(final Object arg0, final long arg1) {
+		if (null != GET_ADDRESS) {
+			try {
+				return (long)GET_ADDRESS.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return 8 == UNSAFE.addressSize() ? UNSAFE.getLong(arg0, arg1) : UNSAFE.getInt(arg0, arg1) & 0xFFFF_FFFFL;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddByte(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndAddByte(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_ADD_BYTE) {
+			try {
+				return (byte)GET_AND_ADD_BYTE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		byte v;
+		do {
+			v = UNSAFE.getByteVolatile(arg0, arg1);
+		} while (!compareAndSetByte(arg0, arg1, v, (byte)(v + arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddByteAcquire(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndAddByteAcquire(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_ADD_BYTE_ACQUIRE) {
+			try {
+				return (byte)GET_AND_ADD_BYTE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddByteRelease(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndAddByteRelease(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_ADD_BYTE_RELEASE) {
+			try {
+				return (byte)GET_AND_ADD_BYTE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddChar(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndAddChar(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_ADD_CHAR) {
+			try {
+				return (char)GET_AND_ADD_CHAR.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		char v;
+		do {
+			v = UNSAFE.getCharVolatile(arg0, arg1);
+		} while (!compareAndSetChar(arg0, arg1, v, (char)(v + arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddCharAcquire(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndAddCharAcquire(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_ADD_CHAR_ACQUIRE) {
+			try {
+				return (char)GET_AND_ADD_CHAR_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddCharRelease(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndAddCharRelease(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_ADD_CHAR_RELEASE) {
+			try {
+				return (char)GET_AND_ADD_CHAR_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddDouble(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static double getAndAddDouble(final Object arg0, final long arg1, final double arg2) {
+		if (null != GET_AND_ADD_DOUBLE) {
+			try {
+				return (double)GET_AND_ADD_DOUBLE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		double v;
+		do {
+			v = UNSAFE.getDoubleVolatile(arg0, arg1);
+		} while (!compareAndSetDouble(arg0, arg1, v, v + arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddDoubleAcquire(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static double getAndAddDoubleAcquire(final Object arg0, final long arg1, final double arg2) {
+		if (null != GET_AND_ADD_DOUBLE_ACQUIRE) {
+			try {
+				return (double)GET_AND_ADD_DOUBLE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddDouble(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddDoubleRelease(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static double getAndAddDoubleRelease(final Object arg0, final long arg1, final double arg2) {
+		if (null != GET_AND_ADD_DOUBLE_RELEASE) {
+			try {
+				return (double)GET_AND_ADD_DOUBLE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddDouble(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddFloat(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static float getAndAddFloat(final Object arg0, final long arg1, final float arg2) {
+		if (null != GET_AND_ADD_FLOAT) {
+			try {
+				return (float)GET_AND_ADD_FLOAT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		float v;
+		do {
+			v = UNSAFE.getFloatVolatile(arg0, arg1);
+		} while (!compareAndSetFloat(arg0, arg1, v, v + arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddFloatAcquire(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static float getAndAddFloatAcquire(final Object arg0, final long arg1, final float arg2) {
+		if (null != GET_AND_ADD_FLOAT_ACQUIRE) {
+			try {
+				return (float)GET_AND_ADD_FLOAT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddFloat(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddFloatRelease(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static float getAndAddFloatRelease(final Object arg0, final long arg1, final float arg2) {
+		if (null != GET_AND_ADD_FLOAT_RELEASE) {
+			try {
+				return (float)GET_AND_ADD_FLOAT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddFloat(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddInt(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndAddInt(final Object arg0, final long arg1, final int arg2) {
+		return UNSAFE.getAndAddInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddIntAcquire(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndAddIntAcquire(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_ADD_INT_ACQUIRE) {
+			try {
+				return (int)GET_AND_ADD_INT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddIntRelease(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndAddIntRelease(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_ADD_INT_RELEASE) {
+			try {
+				return (int)GET_AND_ADD_INT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddLong(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndAddLong(final Object arg0, final long arg1, final long arg2) {
+		return UNSAFE.getAndAddLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddLongAcquire(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndAddLongAcquire(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_ADD_LONG_ACQUIRE) {
+			try {
+				return (long)GET_AND_ADD_LONG_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddLongRelease(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndAddLongRelease(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_ADD_LONG_RELEASE) {
+			try {
+				return (long)GET_AND_ADD_LONG_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddShort(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndAddShort(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_ADD_SHORT) {
+			try {
+				return (short)GET_AND_ADD_SHORT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		short v;
+		do {
+			v = UNSAFE.getShortVolatile(arg0, arg1);
+		} while (!compareAndSetShort(arg0, arg1, v, (short)(v + arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddShortAcquire(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndAddShortAcquire(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_ADD_SHORT_ACQUIRE) {
+			try {
+				return (short)GET_AND_ADD_SHORT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndAddShortRelease(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndAddShortRelease(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_ADD_SHORT_RELEASE) {
+			try {
+				return (short)GET_AND_ADD_SHORT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndAddShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndBoolean(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseAndBoolean(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_AND_BOOLEAN) {
+			try {
+				return (boolean)GET_AND_BITWISE_AND_BOOLEAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		boolean v;
+		do {
+			v = UNSAFE.getBooleanVolatile(arg0, arg1);
+		} while (!compareAndSetBoolean(arg0, arg1, v, v & arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndBooleanAcquire(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseAndBooleanAcquire(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_AND_BOOLEAN_ACQUIRE) {
+			try {
+				return (boolean)GET_AND_BITWISE_AND_BOOLEAN_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndBooleanRelease(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseAndBooleanRelease(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_AND_BOOLEAN_RELEASE) {
+			try {
+				return (boolean)GET_AND_BITWISE_AND_BOOLEAN_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndByte(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseAndByte(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_AND_BYTE) {
+			try {
+				return (byte)GET_AND_BITWISE_AND_BYTE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		byte v;
+		do {
+			v = UNSAFE.getByteVolatile(arg0, arg1);
+		} while (!compareAndSetByte(arg0, arg1, v, (byte)(v & arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndByteAcquire(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseAndByteAcquire(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_AND_BYTE_ACQUIRE) {
+			try {
+				return (byte)GET_AND_BITWISE_AND_BYTE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndByteRelease(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseAndByteRelease(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_AND_BYTE_RELEASE) {
+			try {
+				return (byte)GET_AND_BITWISE_AND_BYTE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndChar(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseAndChar(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_AND_CHAR) {
+			try {
+				return (char)GET_AND_BITWISE_AND_CHAR.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		char v;
+		do {
+			v = UNSAFE.getCharVolatile(arg0, arg1);
+		} while (!compareAndSetChar(arg0, arg1, v, (char)(v & arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndCharAcquire(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseAndCharAcquire(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_AND_CHAR_ACQUIRE) {
+			try {
+				return (char)GET_AND_BITWISE_AND_CHAR_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndCharRelease(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseAndCharRelease(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_AND_CHAR_RELEASE) {
+			try {
+				return (char)GET_AND_BITWISE_AND_CHAR_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndInt(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseAndInt(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_AND_INT) {
+			try {
+				return (int)GET_AND_BITWISE_AND_INT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		int v;
+		do {
+			v = UNSAFE.getIntVolatile(arg0, arg1);
+		} while (!compareAndSetInt(arg0, arg1, v, v & arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndIntAcquire(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseAndIntAcquire(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_AND_INT_ACQUIRE) {
+			try {
+				return (int)GET_AND_BITWISE_AND_INT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndIntRelease(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseAndIntRelease(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_AND_INT_RELEASE) {
+			try {
+				return (int)GET_AND_BITWISE_AND_INT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndLong(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseAndLong(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_AND_LONG) {
+			try {
+				return (long)GET_AND_BITWISE_AND_LONG.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		long v;
+		do {
+			v = UNSAFE.getLongVolatile(arg0, arg1);
+		} while (!compareAndSetLong(arg0, arg1, v, v & arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndLongAcquire(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseAndLongAcquire(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_AND_LONG_ACQUIRE) {
+			try {
+				return (long)GET_AND_BITWISE_AND_LONG_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndLongRelease(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseAndLongRelease(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_AND_LONG_RELEASE) {
+			try {
+				return (long)GET_AND_BITWISE_AND_LONG_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndShort(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseAndShort(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_AND_SHORT) {
+			try {
+				return (short)GET_AND_BITWISE_AND_SHORT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		short v;
+		do {
+			v = UNSAFE.getShortVolatile(arg0, arg1);
+		} while (!compareAndSetShort(arg0, arg1, v, (short)(v & arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndShortAcquire(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseAndShortAcquire(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_AND_SHORT_ACQUIRE) {
+			try {
+				return (short)GET_AND_BITWISE_AND_SHORT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseAndShortRelease(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseAndShortRelease(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_AND_SHORT_RELEASE) {
+			try {
+				return (short)GET_AND_BITWISE_AND_SHORT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseAndShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrBoolean(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseOrBoolean(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_OR_BOOLEAN) {
+			try {
+				return (boolean)GET_AND_BITWISE_OR_BOOLEAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		boolean v;
+		do {
+			v = UNSAFE.getBooleanVolatile(arg0, arg1);
+		} while (!compareAndSetBoolean(arg0, arg1, v, v | arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrBooleanAcquire(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseOrBooleanAcquire(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_OR_BOOLEAN_ACQUIRE) {
+			try {
+				return (boolean)GET_AND_BITWISE_OR_BOOLEAN_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrBooleanRelease(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseOrBooleanRelease(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_OR_BOOLEAN_RELEASE) {
+			try {
+				return (boolean)GET_AND_BITWISE_OR_BOOLEAN_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrByte(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseOrByte(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_OR_BYTE) {
+			try {
+				return (byte)GET_AND_BITWISE_OR_BYTE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		byte v;
+		do {
+			v = UNSAFE.getByteVolatile(arg0, arg1);
+		} while (!compareAndSetByte(arg0, arg1, v, (byte)(v | arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrByteAcquire(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseOrByteAcquire(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_OR_BYTE_ACQUIRE) {
+			try {
+				return (byte)GET_AND_BITWISE_OR_BYTE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrByteRelease(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseOrByteRelease(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_OR_BYTE_RELEASE) {
+			try {
+				return (byte)GET_AND_BITWISE_OR_BYTE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrChar(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseOrChar(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_OR_CHAR) {
+			try {
+				return (char)GET_AND_BITWISE_OR_CHAR.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		char v;
+		do {
+			v = UNSAFE.getCharVolatile(arg0, arg1);
+		} while (!compareAndSetChar(arg0, arg1, v, (char)(v | arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrCharAcquire(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseOrCharAcquire(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_OR_CHAR_ACQUIRE) {
+			try {
+				return (char)GET_AND_BITWISE_OR_CHAR_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrCharRelease(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseOrCharRelease(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_OR_CHAR_RELEASE) {
+			try {
+				return (char)GET_AND_BITWISE_OR_CHAR_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrInt(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseOrInt(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_OR_INT) {
+			try {
+				return (int)GET_AND_BITWISE_OR_INT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		int v;
+		do {
+			v = UNSAFE.getIntVolatile(arg0, arg1);
+		} while (!compareAndSetInt(arg0, arg1, v, v | arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrIntAcquire(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseOrIntAcquire(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_OR_INT_ACQUIRE) {
+			try {
+				return (int)GET_AND_BITWISE_OR_INT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrIntRelease(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseOrIntRelease(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_OR_INT_RELEASE) {
+			try {
+				return (int)GET_AND_BITWISE_OR_INT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrLong(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseOrLong(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_OR_LONG) {
+			try {
+				return (long)GET_AND_BITWISE_OR_LONG.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		long v;
+		do {
+			v = UNSAFE.getLongVolatile(arg0, arg1);
+		} while (!compareAndSetLong(arg0, arg1, v, v | arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrLongAcquire(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseOrLongAcquire(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_OR_LONG_ACQUIRE) {
+			try {
+				return (long)GET_AND_BITWISE_OR_LONG_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrLongRelease(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseOrLongRelease(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_OR_LONG_RELEASE) {
+			try {
+				return (long)GET_AND_BITWISE_OR_LONG_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrShort(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseOrShort(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_OR_SHORT) {
+			try {
+				return (short)GET_AND_BITWISE_OR_SHORT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		short v;
+		do {
+			v = UNSAFE.getShortVolatile(arg0, arg1);
+		} while (!compareAndSetShort(arg0, arg1, v, (short)(v | arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrShortAcquire(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseOrShortAcquire(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_OR_SHORT_ACQUIRE) {
+			try {
+				return (short)GET_AND_BITWISE_OR_SHORT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseOrShortRelease(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseOrShortRelease(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_OR_SHORT_RELEASE) {
+			try {
+				return (short)GET_AND_BITWISE_OR_SHORT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseOrShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorBoolean(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseXorBoolean(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_XOR_BOOLEAN) {
+			try {
+				return (boolean)GET_AND_BITWISE_XOR_BOOLEAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		boolean v;
+		do {
+			v = UNSAFE.getBooleanVolatile(arg0, arg1);
+		} while (!compareAndSetBoolean(arg0, arg1, v, v ^ arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorBooleanAcquire(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseXorBooleanAcquire(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_XOR_BOOLEAN_ACQUIRE) {
+			try {
+				return (boolean)GET_AND_BITWISE_XOR_BOOLEAN_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorBooleanRelease(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndBitwiseXorBooleanRelease(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_BITWISE_XOR_BOOLEAN_RELEASE) {
+			try {
+				return (boolean)GET_AND_BITWISE_XOR_BOOLEAN_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorByte(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseXorByte(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_XOR_BYTE) {
+			try {
+				return (byte)GET_AND_BITWISE_XOR_BYTE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		byte v;
+		do {
+			v = UNSAFE.getByteVolatile(arg0, arg1);
+		} while (!compareAndSetByte(arg0, arg1, v, (byte)(v ^ arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorByteAcquire(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseXorByteAcquire(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_XOR_BYTE_ACQUIRE) {
+			try {
+				return (byte)GET_AND_BITWISE_XOR_BYTE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorByteRelease(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndBitwiseXorByteRelease(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_BITWISE_XOR_BYTE_RELEASE) {
+			try {
+				return (byte)GET_AND_BITWISE_XOR_BYTE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorChar(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseXorChar(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_XOR_CHAR) {
+			try {
+				return (char)GET_AND_BITWISE_XOR_CHAR.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		char v;
+		do {
+			v = UNSAFE.getCharVolatile(arg0, arg1);
+		} while (!compareAndSetChar(arg0, arg1, v, (char)(v ^ arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorCharAcquire(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseXorCharAcquire(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_XOR_CHAR_ACQUIRE) {
+			try {
+				return (char)GET_AND_BITWISE_XOR_CHAR_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorCharRelease(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndBitwiseXorCharRelease(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_BITWISE_XOR_CHAR_RELEASE) {
+			try {
+				return (char)GET_AND_BITWISE_XOR_CHAR_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorInt(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseXorInt(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_XOR_INT) {
+			try {
+				return (int)GET_AND_BITWISE_XOR_INT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		int v;
+		do {
+			v = UNSAFE.getIntVolatile(arg0, arg1);
+		} while (!compareAndSetInt(arg0, arg1, v, v ^ arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorIntAcquire(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseXorIntAcquire(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_XOR_INT_ACQUIRE) {
+			try {
+				return (int)GET_AND_BITWISE_XOR_INT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorIntRelease(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndBitwiseXorIntRelease(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_BITWISE_XOR_INT_RELEASE) {
+			try {
+				return (int)GET_AND_BITWISE_XOR_INT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorLong(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseXorLong(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_XOR_LONG) {
+			try {
+				return (long)GET_AND_BITWISE_XOR_LONG.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		long v;
+		do {
+			v = UNSAFE.getLongVolatile(arg0, arg1);
+		} while (!compareAndSetLong(arg0, arg1, v, v ^ arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorLongAcquire(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseXorLongAcquire(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_XOR_LONG_ACQUIRE) {
+			try {
+				return (long)GET_AND_BITWISE_XOR_LONG_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorLongRelease(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndBitwiseXorLongRelease(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_BITWISE_XOR_LONG_RELEASE) {
+			try {
+				return (long)GET_AND_BITWISE_XOR_LONG_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorShort(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseXorShort(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_XOR_SHORT) {
+			try {
+				return (short)GET_AND_BITWISE_XOR_SHORT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		short v;
+		do {
+			v = UNSAFE.getShortVolatile(arg0, arg1);
+		} while (!compareAndSetShort(arg0, arg1, v, (short)(v ^ arg2)));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorShortAcquire(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseXorShortAcquire(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_XOR_SHORT_ACQUIRE) {
+			try {
+				return (short)GET_AND_BITWISE_XOR_SHORT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndBitwiseXorShortRelease(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndBitwiseXorShortRelease(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_BITWISE_XOR_SHORT_RELEASE) {
+			try {
+				return (short)GET_AND_BITWISE_XOR_SHORT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndBitwiseXorShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetBoolean(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndSetBoolean(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_SET_BOOLEAN) {
+			try {
+				return (boolean)GET_AND_SET_BOOLEAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		boolean v;
+		do {
+			v = UNSAFE.getBooleanVolatile(arg0, arg1);
+		} while (!compareAndSetBoolean(arg0, arg1, v, arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetBooleanAcquire(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndSetBooleanAcquire(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_SET_BOOLEAN_ACQUIRE) {
+			try {
+				return (boolean)GET_AND_SET_BOOLEAN_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetBooleanRelease(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static boolean getAndSetBooleanRelease(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_AND_SET_BOOLEAN_RELEASE) {
+			try {
+				return (boolean)GET_AND_SET_BOOLEAN_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetByte(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndSetByte(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_SET_BYTE) {
+			try {
+				return (byte)GET_AND_SET_BYTE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		byte v;
+		do {
+			v = UNSAFE.getByteVolatile(arg0, arg1);
+		} while (!compareAndSetByte(arg0, arg1, v, arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetByteAcquire(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndSetByteAcquire(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_SET_BYTE_ACQUIRE) {
+			try {
+				return (byte)GET_AND_SET_BYTE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetByteRelease(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static byte getAndSetByteRelease(final Object arg0, final long arg1, final byte arg2) {
+		if (null != GET_AND_SET_BYTE_RELEASE) {
+			try {
+				return (byte)GET_AND_SET_BYTE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetChar(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndSetChar(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_SET_CHAR) {
+			try {
+				return (char)GET_AND_SET_CHAR.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		char v;
+		do {
+			v = UNSAFE.getCharVolatile(arg0, arg1);
+		} while (!compareAndSetChar(arg0, arg1, v, arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetCharAcquire(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndSetCharAcquire(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_SET_CHAR_ACQUIRE) {
+			try {
+				return (char)GET_AND_SET_CHAR_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetCharRelease(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getAndSetCharRelease(final Object arg0, final long arg1, final char arg2) {
+		if (null != GET_AND_SET_CHAR_RELEASE) {
+			try {
+				return (char)GET_AND_SET_CHAR_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetDouble(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static double getAndSetDouble(final Object arg0, final long arg1, final double arg2) {
+		if (null != GET_AND_SET_DOUBLE) {
+			try {
+				return (double)GET_AND_SET_DOUBLE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		double v;
+		do {
+			v = UNSAFE.getDoubleVolatile(arg0, arg1);
+		} while (!compareAndSetDouble(arg0, arg1, v, arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetDoubleAcquire(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static double getAndSetDoubleAcquire(final Object arg0, final long arg1, final double arg2) {
+		if (null != GET_AND_SET_DOUBLE_ACQUIRE) {
+			try {
+				return (double)GET_AND_SET_DOUBLE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetDouble(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetDoubleRelease(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static double getAndSetDoubleRelease(final Object arg0, final long arg1, final double arg2) {
+		if (null != GET_AND_SET_DOUBLE_RELEASE) {
+			try {
+				return (double)GET_AND_SET_DOUBLE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetDouble(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetFloat(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static float getAndSetFloat(final Object arg0, final long arg1, final float arg2) {
+		if (null != GET_AND_SET_FLOAT) {
+			try {
+				return (float)GET_AND_SET_FLOAT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		float v;
+		do {
+			v = UNSAFE.getFloatVolatile(arg0, arg1);
+		} while (!compareAndSetFloat(arg0, arg1, v, arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetFloatAcquire(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static float getAndSetFloatAcquire(final Object arg0, final long arg1, final float arg2) {
+		if (null != GET_AND_SET_FLOAT_ACQUIRE) {
+			try {
+				return (float)GET_AND_SET_FLOAT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetFloat(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetFloatRelease(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static float getAndSetFloatRelease(final Object arg0, final long arg1, final float arg2) {
+		if (null != GET_AND_SET_FLOAT_RELEASE) {
+			try {
+				return (float)GET_AND_SET_FLOAT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetFloat(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetInt(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndSetInt(final Object arg0, final long arg1, final int arg2) {
+		return UNSAFE.getAndSetInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetIntAcquire(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndSetIntAcquire(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_SET_INT_ACQUIRE) {
+			try {
+				return (int)GET_AND_SET_INT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetIntRelease(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getAndSetIntRelease(final Object arg0, final long arg1, final int arg2) {
+		if (null != GET_AND_SET_INT_RELEASE) {
+			try {
+				return (int)GET_AND_SET_INT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetLong(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndSetLong(final Object arg0, final long arg1, final long arg2) {
+		return UNSAFE.getAndSetLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetLongAcquire(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndSetLongAcquire(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_SET_LONG_ACQUIRE) {
+			try {
+				return (long)GET_AND_SET_LONG_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetLongRelease(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getAndSetLongRelease(final Object arg0, final long arg1, final long arg2) {
+		if (null != GET_AND_SET_LONG_RELEASE) {
+			try {
+				return (long)GET_AND_SET_LONG_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetReference(java.lang.Object, long, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static Object getAndSetReference(final Object arg0, final long arg1, final Object arg2) {
+		return UNSAFE.getAndSetObject(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetReferenceAcquire(java.lang.Object, long, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static Object getAndSetReferenceAcquire(final Object arg0, final long arg1, final Object arg2) {
+		if (null != GET_AND_SET_REFERENCE_ACQUIRE) {
+			try {
+				return (Object)GET_AND_SET_REFERENCE_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetReference(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetReferenceRelease(java.lang.Object, long, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static Object getAndSetReferenceRelease(final Object arg0, final long arg1, final Object arg2) {
+		if (null != GET_AND_SET_REFERENCE_RELEASE) {
+			try {
+				return (Object)GET_AND_SET_REFERENCE_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetReference(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetShort(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndSetShort(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_SET_SHORT) {
+			try {
+				return (short)GET_AND_SET_SHORT.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		short v;
+		do {
+			v = UNSAFE.getShortVolatile(arg0, arg1);
+		} while (!compareAndSetShort(arg0, arg1, v, arg2));
+		return v;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetShortAcquire(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndSetShortAcquire(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_SET_SHORT_ACQUIRE) {
+			try {
+				return (short)GET_AND_SET_SHORT_ACQUIRE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getAndSetShortRelease(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getAndSetShortRelease(final Object arg0, final long arg1, final short arg2) {
+		if (null != GET_AND_SET_SHORT_RELEASE) {
+			try {
+				return (short)GET_AND_SET_SHORT_RELEASE.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return getAndSetShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getBoolean(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static boolean getBoolean(final Object arg0, final long arg1) {
+		return UNSAFE.getBoolean(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getBooleanAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static boolean getBooleanAcquire(final Object arg0, final long arg1) {
+		if (null != GET_BOOLEAN_ACQUIRE) {
+			try {
+				return (boolean)GET_BOOLEAN_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getBooleanVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getBooleanOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static boolean getBooleanOpaque(final Object arg0, final long arg1) {
+		if (null != GET_BOOLEAN_OPAQUE) {
+			try {
+				return (boolean)GET_BOOLEAN_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getBooleanVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getBooleanVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static boolean getBooleanVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getBooleanVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getByte(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static byte getByte(final long arg0) {
+		return UNSAFE.getByte(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getByte(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static byte getByte(final Object arg0, final long arg1) {
+		return UNSAFE.getByte(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getByteAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static byte getByteAcquire(final Object arg0, final long arg1) {
+		if (null != GET_BYTE_ACQUIRE) {
+			try {
+				return (byte)GET_BYTE_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getByteVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getByteOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static byte getByteOpaque(final Object arg0, final long arg1) {
+		if (null != GET_BYTE_OPAQUE) {
+			try {
+				return (byte)GET_BYTE_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getByteVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getByteVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static byte getByteVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getByteVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getChar(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static char getChar(final long arg0) {
+		return UNSAFE.getChar(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getChar(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static char getChar(final Object arg0, final long arg1) {
+		return UNSAFE.getChar(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getCharAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static char getCharAcquire(final Object arg0, final long arg1) {
+		if (null != GET_CHAR_ACQUIRE) {
+			try {
+				return (char)GET_CHAR_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getCharVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getCharOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static char getCharOpaque(final Object arg0, final long arg1) {
+		if (null != GET_CHAR_OPAQUE) {
+			try {
+				return (char)GET_CHAR_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getCharVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getCharUnaligned(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static char getCharUnaligned(final Object arg0, final long arg1) {
+		if (null != GET_CHAR_UNALIGNED) {
+			try {
+				return (char)GET_CHAR_UNALIGNED.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 1)) {
+			return UNSAFE.getChar(arg0, arg1);
+		}
+		return (char)getBytesUnaligned(arg0, arg1, 2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getCharUnaligned(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static char getCharUnaligned(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_CHAR_UNALIGNED_ENDIAN) {
+			try {
+				return (char)GET_CHAR_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		final char value = getCharUnaligned(arg0, arg1);
+		return BIG_ENDIAN == arg2 ? value : Character.reverseBytes(value);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getCharVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static char getCharVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getCharVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getDouble(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static double getDouble(final long arg0) {
+		return UNSAFE.getDouble(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getDouble(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static double getDouble(final Object arg0, final long arg1) {
+		return UNSAFE.getDouble(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getDoubleAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static double getDoubleAcquire(final Object arg0, final long arg1) {
+		if (null != GET_DOUBLE_ACQUIRE) {
+			try {
+				return (double)GET_DOUBLE_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getDoubleVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getDoubleOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static double getDoubleOpaque(final Object arg0, final long arg1) {
+		if (null != GET_DOUBLE_OPAQUE) {
+			try {
+				return (double)GET_DOUBLE_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getDoubleVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getDoubleVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static double getDoubleVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getDoubleVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getFloat(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static float getFloat(final long arg0) {
+		return UNSAFE.getFloat(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getFloat(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static float getFloat(final Object arg0, final long arg1) {
+		return UNSAFE.getFloat(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getFloatAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static float getFloatAcquire(final Object arg0, final long arg1) {
+		if (null != GET_FLOAT_ACQUIRE) {
+			try {
+				return (float)GET_FLOAT_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getFloatVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getFloatOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static float getFloatOpaque(final Object arg0, final long arg1) {
+		if (null != GET_FLOAT_OPAQUE) {
+			try {
+				return (float)GET_FLOAT_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getFloatVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getFloatVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static float getFloatVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getFloatVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getInt(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static int getInt(final long arg0) {
+		return UNSAFE.getInt(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getInt(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static int getInt(final Object arg0, final long arg1) {
+		return UNSAFE.getInt(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getIntAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static int getIntAcquire(final Object arg0, final long arg1) {
+		if (null != GET_INT_ACQUIRE) {
+			try {
+				return (int)GET_INT_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getIntVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getIntOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static int getIntOpaque(final Object arg0, final long arg1) {
+		if (null != GET_INT_OPAQUE) {
+			try {
+				return (int)GET_INT_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getIntVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getIntUnaligned(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static int getIntUnaligned(final Object arg0, final long arg1) {
+		if (null != GET_INT_UNALIGNED) {
+			try {
+				return (int)GET_INT_UNALIGNED.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 3)) {
+			return UNSAFE.getInt(arg0, arg1);
+		}
+		return (int)getBytesUnaligned(arg0, arg1, 4);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getIntUnaligned(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static int getIntUnaligned(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_INT_UNALIGNED_ENDIAN) {
+			try {
+				return (int)GET_INT_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		final int value = getIntUnaligned(arg0, arg1);
+		return BIG_ENDIAN == arg2 ? value : Integer.reverseBytes(value);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getIntVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static int getIntVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getIntVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLoadAverage(double[], int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static int getLoadAverage(final double[] arg0, final int arg1) {
+		return UNSAFE.getLoadAverage(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLong(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static long getLong(final long arg0) {
+		return UNSAFE.getLong(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLong(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long getLong(final Object arg0, final long arg1) {
+		return UNSAFE.getLong(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLongAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long getLongAcquire(final Object arg0, final long arg1) {
+		if (null != GET_LONG_ACQUIRE) {
+			try {
+				return (long)GET_LONG_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getLongVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLongOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long getLongOpaque(final Object arg0, final long arg1) {
+		if (null != GET_LONG_OPAQUE) {
+			try {
+				return (long)GET_LONG_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getLongVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLongUnaligned(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long getLongUnaligned(final Object arg0, final long arg1) {
+		if (null != GET_LONG_UNALIGNED) {
+			try {
+				return (long)GET_LONG_UNALIGNED.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 7)) {
+			return UNSAFE.getLong(arg0, arg1);
+		}
+		return getBytesUnaligned(arg0, arg1, 8);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLongUnaligned(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static long getLongUnaligned(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_LONG_UNALIGNED_ENDIAN) {
+			try {
+				return (long)GET_LONG_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		final long value = getLongUnaligned(arg0, arg1);
+		return BIG_ENDIAN == arg2 ? value : Long.reverseBytes(value);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getLongVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long getLongVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getLongVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getReference(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static Object getReference(final Object arg0, final long arg1) {
+		return UNSAFE.getObject(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getReferenceAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static Object getReferenceAcquire(final Object arg0, final long arg1) {
+		if (null != GET_REFERENCE_ACQUIRE) {
+			try {
+				return (Object)GET_REFERENCE_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getObjectVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getReferenceOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static Object getReferenceOpaque(final Object arg0, final long arg1) {
+		if (null != GET_REFERENCE_OPAQUE) {
+			try {
+				return (Object)GET_REFERENCE_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getObjectVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getReferenceVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static Object getReferenceVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getObjectVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getShort(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static short getShort(final long arg0) {
+		return UNSAFE.getShort(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getShort(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static short getShort(final Object arg0, final long arg1) {
+		return UNSAFE.getShort(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getShortAcquire(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static short getShortAcquire(final Object arg0, final long arg1) {
+		if (null != GET_SHORT_ACQUIRE) {
+			try {
+				return (short)GET_SHORT_ACQUIRE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getShortVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getShortOpaque(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static short getShortOpaque(final Object arg0, final long arg1) {
+		if (null != GET_SHORT_OPAQUE) {
+			try {
+				return (short)GET_SHORT_OPAQUE.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return UNSAFE.getShortVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getShortUnaligned(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static short getShortUnaligned(final Object arg0, final long arg1) {
+		if (null != GET_SHORT_UNALIGNED) {
+			try {
+				return (short)GET_SHORT_UNALIGNED.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 1)) {
+			return UNSAFE.getShort(arg0, arg1);
+		}
+		return (short)getBytesUnaligned(arg0, arg1, 2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getShortUnaligned(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @return value
+	 */
+	public static short getShortUnaligned(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != GET_SHORT_UNALIGNED_ENDIAN) {
+			try {
+				return (short)GET_SHORT_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		final short value = getShortUnaligned(arg0, arg1);
+		return BIG_ENDIAN == arg2 ? value : Short.reverseBytes(value);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getShortVolatile(java.lang.Object, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static short getShortVolatile(final Object arg0, final long arg1) {
+		return UNSAFE.getShortVolatile(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#getUncompressedObject(long)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static Object getUncompressedObject(final long arg0) {
+		if (null != GET_UNCOMPRESSED_OBJECT) {
+			try {
+				return (Object)GET_UNCOMPRESSED_OBJECT.invokeExact(arg0);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		throw new UnsupportedOperationException("'getUncompressedObject' requires jdk.internal.misc.Unsafe");
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#invokeCleaner(java.nio.ByteBuffer)}.
+	 * @param arg0 arg0
+	 */
+	public static void invokeCleaner(final java.nio.ByteBuffer arg0) {
+		UNSAFE.invokeCleaner(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#isBigEndian()}.
+	 * @return value
+	 */
+	public static boolean isBigEndian() {
+		return BIG_ENDIAN;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#isWritebackEnabled()}.
+	 * @return value
+	 */
+	public static boolean isWritebackEnabled() {
+		if (null != IS_WRITEBACK_ENABLED) {
+			try {
+				return (boolean)IS_WRITEBACK_ENABLED.invokeExact();
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#loadFence()}.
+	 */
+	public static void loadFence() {
+		UNSAFE.loadFence();
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#loadLoadFence()}.
+	 */
+	public static void loadLoadFence() {
+		if (null != LOAD_LOAD_FENCE) {
+			try {
+				LOAD_LOAD_FENCE.invokeExact();
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.loadFence();
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#objectFieldOffset(java.lang.reflect.Field)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static long objectFieldOffset(final java.lang.reflect.Field arg0) {
+		return UNSAFE.objectFieldOffset(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#objectFieldOffset(java.lang.Class, java.lang.String)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long objectFieldOffset(final Class<?> arg0, final String arg1) {
+		if (null != OBJECT_FIELD_OFFSET_BY_NAME) {
+			try {
+				return (long)OBJECT_FIELD_OFFSET_BY_NAME.invokeExact(arg0, arg1);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		try {
+			return UNSAFE.objectFieldOffset(arg0.getDeclaredField(arg1));
+		} catch (final NoSuchFieldException ex) {
+			throw new InternalError(ex);
+		}
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#pageSize()}.
+	 * @return value
+	 */
+	public static int pageSize() {
+		return UNSAFE.pageSize();
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#park(boolean, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void park(final boolean arg0, final long arg1) {
+		UNSAFE.park(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putAddress(long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putAddress(final long arg0, final long arg1) {
+		UNSAFE.putAddress(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putAddress(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putAddress(final Object arg0, final long arg1, final long arg2) {
+		if (null != PUT_ADDRESS) {
+			try {
+				PUT_ADDRESS.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (8 == UNSAFE.addressSize()) {
+			UNSAFE.putLong(arg0, arg1, arg2);
+		} else {
+			UNSAFE.putInt(arg0, arg1, (int)arg2);
+		}
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putBoolean(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putBoolean(final Object arg0, final long arg1, final boolean arg2) {
+		UNSAFE.putBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putBooleanOpaque(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putBooleanOpaque(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != PUT_BOOLEAN_OPAQUE) {
+			try {
+				PUT_BOOLEAN_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putBooleanRelease(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putBooleanRelease(final Object arg0, final long arg1, final boolean arg2) {
+		if (null != PUT_BOOLEAN_RELEASE) {
+			try {
+				PUT_BOOLEAN_RELEASE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putBoolean(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putBooleanVolatile(java.lang.Object, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putBooleanVolatile(final Object arg0, final long arg1, final boolean arg2) {
+		UNSAFE.putBooleanVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putByte(long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putByte(final long arg0, final byte arg1) {
+		UNSAFE.putByte(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putByte(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putByte(final Object arg0, final long arg1, final byte arg2) {
+		UNSAFE.putByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putByteOpaque(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putByteOpaque(final Object arg0, final long arg1, final byte arg2) {
+		if (null != PUT_BYTE_OPAQUE) {
+			try {
+				PUT_BYTE_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putByteRelease(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putByteRelease(final Object arg0, final long arg1, final byte arg2) {
+		if (null != PUT_BYTE_RELEASE) {
+			try {
+				PUT_BYTE_RELEASE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putByte(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putByteVolatile(java.lang.Object, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putByteVolatile(final Object arg0, final long arg1, final byte arg2) {
+		UNSAFE.putByteVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putChar(long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putChar(final long arg0, final char arg1) {
+		UNSAFE.putChar(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putChar(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putChar(final Object arg0, final long arg1, final char arg2) {
+		UNSAFE.putChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putCharOpaque(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putCharOpaque(final Object arg0, final long arg1, final char arg2) {
+		if (null != PUT_CHAR_OPAQUE) {
+			try {
+				PUT_CHAR_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putCharRelease(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putCharRelease(final Object arg0, final long arg1, final char arg2) {
+		if (null != PUT_CHAR_RELEASE) {
+			try {
+				PUT_CHAR_RELEASE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putChar(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putCharUnaligned(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putCharUnaligned(final Object arg0, final long arg1, final char arg2) {
+		if (null != PUT_CHAR_UNALIGNED) {
+			try {
+				PUT_CHAR_UNALIGNED.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 1)) {
+			UNSAFE.putChar(arg0, arg1, arg2);
+		} else {
+			putBytesUnaligned(arg0, arg1, arg2, 2);
+		}
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putCharUnaligned(java.lang.Object, long, char, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 */
+	public static void putCharUnaligned(final Object arg0, final long arg1, final char arg2, final boolean arg3) {
+		if (null != PUT_CHAR_UNALIGNED_ENDIAN) {
+			try {
+				PUT_CHAR_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2, arg3);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		putCharUnaligned(arg0, arg1, BIG_ENDIAN == arg3 ? arg2 : Character.reverseBytes(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putCharVolatile(java.lang.Object, long, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putCharVolatile(final Object arg0, final long arg1, final char arg2) {
+		UNSAFE.putCharVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putDouble(long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putDouble(final long arg0, final double arg1) {
+		UNSAFE.putDouble(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putDouble(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putDouble(final Object arg0, final long arg1, final double arg2) {
+		UNSAFE.putDouble(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putDoubleOpaque(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putDoubleOpaque(final Object arg0, final long arg1, final double arg2) {
+		if (null != PUT_DOUBLE_OPAQUE) {
+			try {
+				PUT_DOUBLE_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.putOrderedLong(arg0, arg1, Double.doubleToRawLongBits(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putDoubleRelease(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putDoubleRelease(final Object arg0, final long arg1, final double arg2) {
+		if (null != PUT_DOUBLE_RELEASE) {
+			try {
+				PUT_DOUBLE_RELEASE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.putOrderedLong(arg0, arg1, Double.doubleToRawLongBits(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putDoubleVolatile(java.lang.Object, long, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putDoubleVolatile(final Object arg0, final long arg1, final double arg2) {
+		UNSAFE.putDoubleVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putFloat(long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putFloat(final long arg0, final float arg1) {
+		UNSAFE.putFloat(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putFloat(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putFloat(final Object arg0, final long arg1, final float arg2) {
+		UNSAFE.putFloat(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putFloatOpaque(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putFloatOpaque(final Object arg0, final long arg1, final float arg2) {
+		if (null != PUT_FLOAT_OPAQUE) {
+			try {
+				PUT_FLOAT_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.putOrderedInt(arg0, arg1, Float.floatToRawIntBits(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putFloatRelease(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putFloatRelease(final Object arg0, final long arg1, final float arg2) {
+		if (null != PUT_FLOAT_RELEASE) {
+			try {
+				PUT_FLOAT_RELEASE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.putOrderedInt(arg0, arg1, Float.floatToRawIntBits(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putFloatVolatile(java.lang.Object, long, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putFloatVolatile(final Object arg0, final long arg1, final float arg2) {
+		UNSAFE.putFloatVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putInt(long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putInt(final long arg0, final int arg1) {
+		UNSAFE.putInt(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putInt(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putInt(final Object arg0, final long arg1, final int arg2) {
+		UNSAFE.putInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putIntOpaque(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putIntOpaque(final Object arg0, final long arg1, final int arg2) {
+		if (null != PUT_INT_OPAQUE) {
+			try {
+				PUT_INT_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.putOrderedInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putIntRelease(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putIntRelease(final Object arg0, final long arg1, final int arg2) {
+		UNSAFE.putOrderedInt(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putIntUnaligned(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putIntUnaligned(final Object arg0, final long arg1, final int arg2) {
+		if (null != PUT_INT_UNALIGNED) {
+			try {
+				PUT_INT_UNALIGNED.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 3)) {
+			UNSAFE.putInt(arg0, arg1, arg2);
+		} else {
+			putBytesUnaligned(arg0, arg1, arg2, 4);
+		}
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putIntUnaligned(java.lang.Object, long, int, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 */
+	public static void putIntUnaligned(final Object arg0, final long arg1, final int arg2, final boolean arg3) {
+		if (null != PUT_INT_UNALIGNED_ENDIAN) {
+			try {
+				PUT_INT_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2, arg3);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		putIntUnaligned(arg0, arg1, BIG_ENDIAN == arg3 ? arg2 : Integer.reverseBytes(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putIntVolatile(java.lang.Object, long, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putIntVolatile(final Object arg0, final long arg1, final int arg2) {
+		UNSAFE.putIntVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putLong(long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putLong(final long arg0, final long arg1) {
+		UNSAFE.putLong(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putLong(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putLong(final Object arg0, final long arg1, final long arg2) {
+		UNSAFE.putLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putLongOpaque(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putLongOpaque(final Object arg0, final long arg1, final long arg2) {
+		if (null != PUT_LONG_OPAQUE) {
+			try {
+				PUT_LONG_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.putOrderedLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putLongRelease(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putLongRelease(final Object arg0, final long arg1, final long arg2) {
+		UNSAFE.putOrderedLong(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putLongUnaligned(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putLongUnaligned(final Object arg0, final long arg1, final long arg2) {
+		if (null != PUT_LONG_UNALIGNED) {
+			try {
+				PUT_LONG_UNALIGNED.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 7)) {
+			UNSAFE.putLong(arg0, arg1, arg2);
+		} else {
+			putBytesUnaligned(arg0, arg1, arg2, 8);
+		}
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putLongUnaligned(java.lang.Object, long, long, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 */
+	public static void putLongUnaligned(final Object arg0, final long arg1, final long arg2, final boolean arg3) {
+		if (null != PUT_LONG_UNALIGNED_ENDIAN) {
+			try {
+				PUT_LONG_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2, arg3);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		putLongUnaligned(arg0, arg1, BIG_ENDIAN == arg3 ? arg2 : Long.reverseBytes(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putLongVolatile(java.lang.Object, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putLongVolatile(final Object arg0, final long arg1, final long arg2) {
+		UNSAFE.putLongVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putReference(java.lang.Object, long, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putReference(final Object arg0, final long arg1, final Object arg2) {
+		UNSAFE.putObject(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putReferenceOpaque(java.lang.Object, long, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putReferenceOpaque(final Object arg0, final long arg1, final Object arg2) {
+		if (null != PUT_REFERENCE_OPAQUE) {
+			try {
+				PUT_REFERENCE_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.putOrderedObject(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putReferenceRelease(java.lang.Object, long, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putReferenceRelease(final Object arg0, final long arg1, final Object arg2) {
+		UNSAFE.putOrderedObject(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putReferenceVolatile(java.lang.Object, long, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putReferenceVolatile(final Object arg0, final long arg1, final Object arg2) {
+		UNSAFE.putObjectVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putShort(long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void putShort(final long arg0, final short arg1) {
+		UNSAFE.putShort(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putShort(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putShort(final Object arg0, final long arg1, final short arg2) {
+		UNSAFE.putShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putShortOpaque(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putShortOpaque(final Object arg0, final long arg1, final short arg2) {
+		if (null != PUT_SHORT_OPAQUE) {
+			try {
+				PUT_SHORT_OPAQUE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putShortRelease(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putShortRelease(final Object arg0, final long arg1, final short arg2) {
+		if (null != PUT_SHORT_RELEASE) {
+			try {
+				PUT_SHORT_RELEASE.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+		UNSAFE.putShort(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putShortUnaligned(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putShortUnaligned(final Object arg0, final long arg1, final short arg2) {
+		if (null != PUT_SHORT_UNALIGNED) {
+			try {
+				PUT_SHORT_UNALIGNED.invokeExact(arg0, arg1, arg2);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		if (UNALIGNED_ACCESS || 0 == (arg1 & 1)) {
+			UNSAFE.putShort(arg0, arg1, arg2);
+		} else {
+			putBytesUnaligned(arg0, arg1, arg2, 2);
+		}
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putShortUnaligned(java.lang.Object, long, short, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 */
+	public static void putShortUnaligned(final Object arg0, final long arg1, final short arg2, final boolean arg3) {
+		if (null != PUT_SHORT_UNALIGNED_ENDIAN) {
+			try {
+				PUT_SHORT_UNALIGNED_ENDIAN.invokeExact(arg0, arg1, arg2, arg3);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		putShortUnaligned(arg0, arg1, BIG_ENDIAN == arg3 ? arg2 : Short.reverseBytes(arg2));
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#putShortVolatile(java.lang.Object, long, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void putShortVolatile(final Object arg0, final long arg1, final short arg2) {
+		UNSAFE.putShortVolatile(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#reallocateMemory(long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @return value
+	 */
+	public static long reallocateMemory(final long arg0, final long arg1) {
+		return UNSAFE.reallocateMemory(arg0, arg1);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#setMemory(long, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 */
+	public static void setMemory(final long arg0, final long arg1, final byte arg2) {
+		UNSAFE.setMemory(arg0, arg1, arg2);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#setMemory(java.lang.Object, long, long, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 */
+	public static void setMemory(final Object arg0, final long arg1, final long arg2, final byte arg3) {
+		UNSAFE.setMemory(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#shouldBeInitialized(java.lang.Class)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static boolean shouldBeInitialized(final Class<?> arg0) {
+		return UNSAFE.shouldBeInitialized(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#staticFieldBase(java.lang.reflect.Field)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static Object staticFieldBase(final java.lang.reflect.Field arg0) {
+		return UNSAFE.staticFieldBase(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#staticFieldOffset(java.lang.reflect.Field)}.
+	 * @param arg0 arg0
+	 * @return value
+	 */
+	public static long staticFieldOffset(final java.lang.reflect.Field arg0) {
+		return UNSAFE.staticFieldOffset(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#storeFence()}.
+	 */
+	public static void storeFence() {
+		UNSAFE.storeFence();
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#storeStoreFence()}.
+	 */
+	public static void storeStoreFence() {
+		if (null != STORE_STORE_FENCE) {
+			try {
+				STORE_STORE_FENCE.invokeExact();
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		UNSAFE.storeFence();
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#throwException(java.lang.Throwable)}.
+	 * @param arg0 arg0
+	 */
+	public static void throwException(final Throwable arg0) {
+		UNSAFE.throwException(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#unalignedAccess()}.
+	 * @return value
+	 */
+	public static boolean unalignedAccess() {
+		return UNALIGNED_ACCESS;
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#unpark(java.lang.Object)}.
+	 * @param arg0 arg0
+	 */
+	public static void unpark(final Object arg0) {
+		UNSAFE.unpark(arg0);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBoolean(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetBoolean(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BOOLEAN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BOOLEAN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetBoolean(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBooleanAcquire(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetBooleanAcquire(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BOOLEAN_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BOOLEAN_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetBoolean(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBooleanPlain(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetBooleanPlain(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BOOLEAN_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BOOLEAN_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetBoolean(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBooleanRelease(java.lang.Object, long, boolean, boolean)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetBooleanRelease(final Object arg0, final long arg1, final boolean arg2, final boolean arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BOOLEAN_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BOOLEAN_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetBoolean(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetByte(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetByte(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BYTE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BYTE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetByte(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetByteAcquire(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetByteAcquire(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BYTE_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BYTE_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetByte(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetBytePlain(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetBytePlain(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BYTE_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BYTE_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetByte(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetByteRelease(java.lang.Object, long, byte, byte)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetByteRelease(final Object arg0, final long arg1, final byte arg2, final byte arg3) {
+		if (null != WEAK_COMPARE_AND_SET_BYTE_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_BYTE_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetByte(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetChar(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetChar(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != WEAK_COMPARE_AND_SET_CHAR) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_CHAR.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetChar(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetCharAcquire(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetCharAcquire(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != WEAK_COMPARE_AND_SET_CHAR_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_CHAR_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetChar(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetCharPlain(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetCharPlain(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != WEAK_COMPARE_AND_SET_CHAR_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_CHAR_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetChar(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetCharRelease(java.lang.Object, long, char, char)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetCharRelease(final Object arg0, final long arg1, final char arg2, final char arg3) {
+		if (null != WEAK_COMPARE_AND_SET_CHAR_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_CHAR_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetChar(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDouble(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetDouble(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != WEAK_COMPARE_AND_SET_DOUBLE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_DOUBLE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetDouble(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDoubleAcquire(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetDoubleAcquire(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != WEAK_COMPARE_AND_SET_DOUBLE_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_DOUBLE_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetDouble(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDoublePlain(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetDoublePlain(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != WEAK_COMPARE_AND_SET_DOUBLE_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_DOUBLE_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetDouble(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetDoubleRelease(java.lang.Object, long, double, double)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetDoubleRelease(final Object arg0, final long arg1, final double arg2, final double arg3) {
+		if (null != WEAK_COMPARE_AND_SET_DOUBLE_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_DOUBLE_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetDouble(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloat(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetFloat(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != WEAK_COMPARE_AND_SET_FLOAT) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_FLOAT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetFloat(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloatAcquire(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetFloatAcquire(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != WEAK_COMPARE_AND_SET_FLOAT_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_FLOAT_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetFloat(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloatPlain(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetFloatPlain(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != WEAK_COMPARE_AND_SET_FLOAT_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_FLOAT_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetFloat(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetFloatRelease(java.lang.Object, long, float, float)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetFloatRelease(final Object arg0, final long arg1, final float arg2, final float arg3) {
+		if (null != WEAK_COMPARE_AND_SET_FLOAT_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_FLOAT_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetFloat(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetInt(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetInt(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		if (null != WEAK_COMPARE_AND_SET_INT) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_INT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetInt(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetIntAcquire(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetIntAcquire(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		if (null != WEAK_COMPARE_AND_SET_INT_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_INT_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetInt(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetIntPlain(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetIntPlain(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		if (null != WEAK_COMPARE_AND_SET_INT_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_INT_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetInt(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetIntRelease(java.lang.Object, long, int, int)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetIntRelease(final Object arg0, final long arg1, final int arg2, final int arg3) {
+		if (null != WEAK_COMPARE_AND_SET_INT_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_INT_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetInt(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLong(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetLong(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != WEAK_COMPARE_AND_SET_LONG) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_LONG.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetLong(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLongAcquire(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetLongAcquire(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != WEAK_COMPARE_AND_SET_LONG_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_LONG_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetLong(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLongPlain(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetLongPlain(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != WEAK_COMPARE_AND_SET_LONG_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_LONG_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetLong(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetLongRelease(java.lang.Object, long, long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetLongRelease(final Object arg0, final long arg1, final long arg2, final long arg3) {
+		if (null != WEAK_COMPARE_AND_SET_LONG_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_LONG_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetLong(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReference(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetReference(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		if (null != WEAK_COMPARE_AND_SET_REFERENCE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_REFERENCE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetReference(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReferenceAcquire(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetReferenceAcquire(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		if (null != WEAK_COMPARE_AND_SET_REFERENCE_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_REFERENCE_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetReference(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReferencePlain(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetReferencePlain(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		if (null != WEAK_COMPARE_AND_SET_REFERENCE_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_REFERENCE_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetReference(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetReferenceRelease(java.lang.Object, long, java.lang.Object, java.lang.Object)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetReferenceRelease(final Object arg0, final long arg1, final Object arg2, final Object arg3) {
+		if (null != WEAK_COMPARE_AND_SET_REFERENCE_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_REFERENCE_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetReference(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShort(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetShort(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != WEAK_COMPARE_AND_SET_SHORT) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_SHORT.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetShort(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShortAcquire(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetShortAcquire(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != WEAK_COMPARE_AND_SET_SHORT_ACQUIRE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_SHORT_ACQUIRE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetShort(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShortPlain(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetShortPlain(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != WEAK_COMPARE_AND_SET_SHORT_PLAIN) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_SHORT_PLAIN.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetShort(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#weakCompareAndSetShortRelease(java.lang.Object, long, short, short)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 * @param arg2 arg2
+	 * @param arg3 arg3
+	 * @return value
+	 */
+	public static boolean weakCompareAndSetShortRelease(final Object arg0, final long arg1, final short arg2, final short arg3) {
+		if (null != WEAK_COMPARE_AND_SET_SHORT_RELEASE) {
+			try {
+				return (boolean)WEAK_COMPARE_AND_SET_SHORT_RELEASE.invokeExact(arg0, arg1, arg2, arg3);
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		return compareAndSetShort(arg0, arg1, arg2, arg3);
+	}
+	
+	/**
+	 * See {@code jdk.internal.misc.Unsafe#writebackMemory(long, long)}.
+	 * @param arg0 arg0
+	 * @param arg1 arg1
+	 */
+	public static void writebackMemory(final long arg0, final long arg1) {
+		if (null != WRITEBACK_MEMORY) {
+			try {
+				WRITEBACK_MEMORY.invokeExact(arg0, arg1);
+				return;
+			} catch (final Throwable ex) {
+				throw rethrow(ex);
+			}
+		}
+		
+		throw new UnsupportedOperationException("Writeback not supported by sun.misc.Unsafe");
+	}
 }
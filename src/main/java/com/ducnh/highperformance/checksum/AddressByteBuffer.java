@@ -0,0 +1,41 @@
+package com.ducnh.highperformance.checksum;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import com.ducnh.highperformance.UnsafeApi;
+
+import static com.ducnh.highperformance.BufferUtil.BYTE_BUFFER_ADDRESS_FIELD_OFFSET;
+
+/**
+ * Direct {@link ByteBuffer} which can be repointed at any address, so that the {@code java.util.zip} checksums, which
+ * are intrinsified for direct buffers, can run over raw memory without reflective access to their private methods.
+ * <p>
+ * The view has no cleaner and never frees the memory it points at. It is not thread safe.
+ */
+final class AddressByteBuffer {
+	private static final long BUFFER_CAPACITY_FIELD_OFFSET;
+	
+	static {
+		try {
+			BUFFER_CAPACITY_FIELD_OFFSET = UnsafeApi.objectFieldOffset(Buffer.class.getDeclaredField("capacity"));
+		} catch (final Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(0).duplicate();
+	
+	AddressByteBuffer() {
+		UnsafeApi.putInt(buffer, BUFFER_CAPACITY_FIELD_OFFSET, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Point the view at {@code address} with position {@code offset} and limit {@code offset + length}.
+	 */
+	ByteBuffer wrap(final long address, final int offset, final int length) {
+		UnsafeApi.putLong(buffer, BYTE_BUFFER_ADDRESS_FIELD_OFFSET, address);
+		buffer.limit(offset + length).position(offset);
+		return buffer;
+	}
+}
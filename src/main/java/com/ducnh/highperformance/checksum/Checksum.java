@@ -3,4 +3,12 @@ package com.ducnh.highperformance.checksum;
 @FunctionalInterface
 public interface Checksum {
 	int compute(long address, int offset, int length);
+	
+	/**
+	 * Create an {@link IncrementalChecksum} computing the same checksum over a sequence of ranges.
+	 * @throws UnsupportedOperationException if the checksum cannot be computed incrementally.
+	 */
+	default IncrementalChecksum newIncremental() {
+		throw new UnsupportedOperationException(getClass().getName() + " is not incremental");
+	}
 }
@@ -0,0 +1,62 @@
+package com.ducnh.highperformance.checksum;
+
+import java.util.Locale;
+
+/**
+ * Factory for {@link Checksum} implementations by name.
+ */
+public final class Checksums {
+	public static final String CRC32 = "crc32";
+	public static final String CRC32C = "crc32c";
+	public static final String XXHASH32 = "xxhash32";
+	public static final String XXHASH64 = "xxhash64";
+	
+	private Checksums() {
+	}
+	
+	/**
+	 * Create a {@link Checksum} from one of the names {@link #CRC32}, {@link #CRC32C}, {@link #XXHASH32} and
+	 * {@link #XXHASH64}, ignoring case, or else from the fully qualified name of a class implementing
+	 * {@link Checksum} with a public no-arg constructor.
+	 * @throws IllegalArgumentException if no checksum can be created for the name.
+	 */
+	public static Checksum newInstance(final String name) {
+		if (null == name || name.isEmpty()) {
+			throw new IllegalArgumentException("name is null or empty");
+		}
+		
+		switch (name.toLowerCase(Locale.ROOT)) {
+			case CRC32:
+				return Crc32.INSTANCE;
+			
+			case CRC32C:
+				return Crc32c.INSTANCE;
+			
+			case XXHASH32:
+				return new XxHash32();
+			
+			case XXHASH64:
+				return new XxHash64();
+			
+			default:
+				try {
+					final Class<?> klass = Class.forName(name);
+					if (!Checksum.class.isAssignableFrom(klass)) {
+						throw new IllegalArgumentException(name + " does not implement " + Checksum.class.getName());
+					}
+					return (Checksum)klass.getDeclaredConstructor().newInstance();
+				} catch (final ReflectiveOperationException ex) {
+					throw new IllegalArgumentException("failed to create checksum: " + name, ex);
+				}
+		}
+	}
+	
+	/**
+	 * Create an {@link IncrementalChecksum} for a name accepted by {@link #newInstance(String)}.
+	 * @throws IllegalArgumentException if no checksum can be created for the name.
+	 * @throws UnsupportedOperationException if the checksum cannot be computed incrementally.
+	 */
+	public static IncrementalChecksum newIncrementalInstance(final String name) {
+		return newInstance(name).newIncremental();
+	}
+}
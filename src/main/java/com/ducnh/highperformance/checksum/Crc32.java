@@ -1,41 +1,33 @@
 package com.ducnh.highperformance.checksum;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Method;
 import java.util.zip.CRC32;
 
-import com.ducnh.highperformance.LangUtil;
+/**
+ * CRC-32 backed by {@link CRC32}, which the JIT intrinsifies for direct buffers.
+ */
+public class Crc32 implements Checksum {
+	public static final Crc32 INSTANCE = new Crc32();
 
-public class Crc32 implements Checksum{
-
-	private static final Crc32 INSTANCE = new Crc32();
-	
-	private static final MethodHandle UPDATE_BYTE_BUFFER;
-	
-	static {
-		try {
-			final Method method = 
-					CRC32.class.getDeclaredMethod("updateByteBuffer0", int.class, long.class, int.class, int.class);
-			method.setAccessible(true);
-			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
-			methodHandle = MethodHandles.insertArguments(methodHandle, 0, 0);
-			UPDATE_BYTE_BUFFER = methodHandle;
-		} catch (final Exception ex) {
-			throw new Error(ex);
-		}
-	}
+	private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
 	
 	private Crc32() {
 		
 	}
 	
 	public int compute(final long address, final int offset, final int length) {
-		try {
-			return (int)UPDATE_BYTE_BUFFER.invokeExact(address, offset, length);
-		} catch (final Throwable t) {
-			LangUtil.rethrowUnchecked(t);
-			return -1;
-		}
+		final State state = STATE.get();
+		final CRC32 crc32 = state.crc32;
+		crc32.reset();
+		crc32.update(state.view.wrap(address, offset, length));
+		return (int)crc32.getValue();
+	}
+	
+	public IncrementalChecksum newIncremental() {
+		return new JdkIncrementalChecksum(new CRC32());
+	}
+	
+	private static final class State {
+		final CRC32 crc32 = new CRC32();
+		final AddressByteBuffer view = new AddressByteBuffer();
 	}
 }
@@ -0,0 +1,34 @@
+package com.ducnh.highperformance.checksum;
+
+import java.util.zip.CRC32C;
+
+/**
+ * CRC-32C (Castagnoli) backed by {@link CRC32C}, which the JIT intrinsifies with the SSE 4.2 and ARMv8 CRC
+ * instructions where available.
+ */
+public class Crc32c implements Checksum {
+	public static final Crc32c INSTANCE = new Crc32c();
+	
+	private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+	
+	private Crc32c() {
+	
+	}
+	
+	public int compute(final long address, final int offset, final int length) {
+		final State state = STATE.get();
+		final CRC32C crc32c = state.crc32c;
+		crc32c.reset();
+		crc32c.update(state.view.wrap(address, offset, length));
+		return (int)crc32c.getValue();
+	}
+	
+	public IncrementalChecksum newIncremental() {
+		return new JdkIncrementalChecksum(new CRC32C());
+	}
+	
+	private static final class State {
+		final CRC32C crc32c = new CRC32C();
+		final AddressByteBuffer view = new AddressByteBuffer();
+	}
+}
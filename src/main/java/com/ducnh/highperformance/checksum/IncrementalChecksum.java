@@ -0,0 +1,97 @@
+package com.ducnh.highperformance.checksum;
+
+import com.ducnh.highperformance.CompositeDirectBuffer;
+import com.ducnh.highperformance.DirectBuffer;
+
+import static com.ducnh.highperformance.BufferUtil.ARRAY_BASE_OFFSET;
+import static com.ducnh.highperformance.BufferUtil.boundsCheck;
+
+/**
+ * Checksum which is computed over a sequence of ranges, so that fragmented or partially written data can be verified
+ * in a single pass. Ranges are read in place from heap or off-heap memory without copying.
+ * <p>
+ * The {@link #digest()} after one update over a range is the same as {@link Checksum#compute(long, int, int)} on that
+ * range, widened as unsigned for 32-bit checksums. {@link XxHash64} is the exception: its digest is the full 64-bit
+ * hash and {@code compute} returns only the low 32 bits of it. Instances are not thread safe.
+ */
+public abstract class IncrementalChecksum {
+	/**
+	 * Discard all bytes added so far.
+	 * @return this for fluent use.
+	 */
+	public abstract IncrementalChecksum reset();
+	
+	/**
+	 * Checksum of the bytes added since the last reset, which does not change the state.
+	 * @return the checksum with 32-bit values returned as unsigned.
+	 */
+	public abstract long digest();
+	
+	/**
+	 * Add a range of a buffer, which may be array backed, off-heap or a {@link CompositeDirectBuffer}.
+	 * @return this for fluent use.
+	 */
+	public IncrementalChecksum update(final DirectBuffer buffer, final int index, final int length) {
+		buffer.boundsCheck(index, length);
+		if (buffer instanceof CompositeDirectBuffer) {
+			updateComposite((CompositeDirectBuffer)buffer, index, length);
+		}
+		else if (length > 0) {
+			updateMemory(buffer.byteArray(), buffer.addressOffset() + index, length);
+		}
+		
+		return this;
+	}
+	
+	public IncrementalChecksum update(final byte[] buffer) {
+		return update(buffer, 0, buffer.length);
+	}
+	
+	/**
+	 * @return this for fluent use.
+	 */
+	public IncrementalChecksum update(final byte[] buffer, final int offset, final int length) {
+		boundsCheck(buffer, offset, length);
+		if (length > 0) {
+			updateMemory(buffer, ARRAY_BASE_OFFSET + offset, length);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Add a range of off-heap memory.
+	 * @return this for fluent use.
+	 */
+	public IncrementalChecksum update(final long address, final int offset, final int length) {
+		if (length > 0) {
+			updateMemory(null, address + offset, length);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Add {@code length} bytes at {@code address} within {@code base}, which is a byte[] or {@code null} for off-heap
+	 * memory. Length is always positive.
+	 */
+	protected abstract void updateMemory(Object base, long address, int length);
+	
+	private void updateComposite(final CompositeDirectBuffer buffer, final int index, final int length) {
+		final int limit = index + length;
+		for (int i = 0, count = buffer.segmentCount(); i < count; i++) {
+			final int start = buffer.segmentStart(i);
+			final int end = start + buffer.segmentLength(i);
+			if (end <= index) {
+				continue;
+			}
+			if (start >= limit) {
+				break;
+			}
+			
+			final int from = Math.max(start, index);
+			final int to = Math.min(end, limit);
+			update(buffer.segment(i), buffer.segmentOffset(i) + from - start, to - from);
+		}
+	}
+}
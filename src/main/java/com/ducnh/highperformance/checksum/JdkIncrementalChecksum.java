@@ -0,0 +1,34 @@
+package com.ducnh.highperformance.checksum;
+
+import static com.ducnh.highperformance.BufferUtil.ARRAY_BASE_OFFSET;
+
+/**
+ * {@link IncrementalChecksum} over a {@link java.util.zip.Checksum}, passing off-heap ranges as a direct
+ * {@link java.nio.ByteBuffer} so the intrinsic is used for both heap and off-heap memory.
+ */
+final class JdkIncrementalChecksum extends IncrementalChecksum {
+	private final java.util.zip.Checksum checksum;
+	private final AddressByteBuffer view = new AddressByteBuffer();
+	
+	JdkIncrementalChecksum(final java.util.zip.Checksum checksum) {
+		this.checksum = checksum;
+	}
+	
+	public IncrementalChecksum reset() {
+		checksum.reset();
+		return this;
+	}
+	
+	public long digest() {
+		return checksum.getValue();
+	}
+	
+	protected void updateMemory(final Object base, final long address, final int length) {
+		if (null == base) {
+			checksum.update(view.wrap(address, 0, length));
+		}
+		else {
+			checksum.update((byte[])base, (int)(address - ARRAY_BASE_OFFSET), length);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.ducnh.highperformance.checksum;
+
+import com.ducnh.highperformance.UnsafeApi;
+
+import static com.ducnh.highperformance.BufferUtil.ARRAY_BASE_OFFSET;
+import static com.ducnh.highperformance.checksum.XxHash64.getIntLE;
+
+/**
+ * Pure Java XXH32, a fast non-cryptographic hash for integrity checks.
+ */
+public class XxHash32 implements Checksum {
+	static final int PRIME32_1 = 0x9E3779B1;
+	static final int PRIME32_2 = 0x85EBCA77;
+	static final int PRIME32_3 = 0xC2B2AE3D;
+	static final int PRIME32_4 = 0x27D4EB2F;
+	static final int PRIME32_5 = 0x165667B1;
+	static final int STRIPE_LENGTH = 16;
+	
+	private final int seed;
+	
+	public XxHash32() {
+		this(0);
+	}
+	
+	public XxHash32(final int seed) {
+		this.seed = seed;
+	}
+	
+	public int seed() {
+		return seed;
+	}
+	
+	public int compute(final long address, final int offset, final int length) {
+		return hash(null, address + offset, length, seed);
+	}
+	
+	public IncrementalChecksum newIncremental() {
+		return new Incremental(seed);
+	}
+	
+	/**
+	 * Hash {@code length} bytes at {@code address} within {@code base}, which is {@code null} for off-heap memory.
+	 */
+	static int hash(final Object base, final long address, final int length, final int seed) {
+		long position = address;
+		final long limit = address + length;
+		int hash;
+		
+		if (length >= STRIPE_LENGTH) {
+			int v1 = seed + PRIME32_1 + PRIME32_2;
+			int v2 = seed + PRIME32_2;
+			int v3 = seed;
+			int v4 = seed - PRIME32_1;
+			final long stripeLimit = limit - STRIPE_LENGTH;
+			do {
+				v1 = round(v1, getIntLE(base, position));
+				v2 = round(v2, getIntLE(base, position + 4));
+				v3 = round(v3, getIntLE(base, position + 8));
+				v4 = round(v4, getIntLE(base, position + 12));
+				position += STRIPE_LENGTH;
+			}
+			while (position <= stripeLimit);
+			
+			hash = mergeAccumulators(v1, v2, v3, v4);
+		}
+		else {
+			hash = seed + PRIME32_5;
+		}
+		
+		hash += length;
+		
+		return finish(base, position, limit, hash);
+	}
+	
+	static int round(final int accumulator, final int input) {
+		return Integer.rotateLeft(accumulator + input * PRIME32_2, 13) * PRIME32_1;
+	}
+	
+	static int mergeAccumulators(final int v1, final int v2, final int v3, final int v4) {
+		return Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7) +
+			Integer.rotateLeft(v3, 12) + Integer.rotateLeft(v4, 18);
+	}
+	
+	/**
+	 * Consume the tail of fewer than {@link #STRIPE_LENGTH} bytes and apply the final avalanche.
+	 */
+	static int finish(final Object base, final long address, final long limit, final int hashSoFar) {
+		int hash = hashSoFar;
+		long position = address;
+		
+		while (position + 4 <= limit) {
+			hash += getIntLE(base, position) * PRIME32_3;
+			hash = Integer.rotateLeft(hash, 17) * PRIME32_4;
+			position += 4;
+		}
+		
+		while (position < limit) {
+			hash += (UnsafeApi.getByte(base, position) & 0xFF) * PRIME32_5;
+			hash = Integer.rotateLeft(hash, 11) * PRIME32_1;
+			position++;
+		}
+		
+		hash ^= hash >>> 15;
+		hash *= PRIME32_2;
+		hash ^= hash >>> 13;
+		hash *= PRIME32_3;
+		hash ^= hash >>> 16;
+		
+		return hash;
+	}
+	
+	static final class Incremental extends IncrementalChecksum {
+		private final int seed;
+		private final byte[] pending = new byte[STRIPE_LENGTH];
+		private int pendingLength;
+		private long totalLength;
+		private int v1;
+		private int v2;
+		private int v3;
+		private int v4;
+		
+		Incremental(final int seed) {
+			this.seed = seed;
+			reset();
+		}
+		
+		public IncrementalChecksum reset() {
+			v1 = seed + PRIME32_1 + PRIME32_2;
+			v2 = seed + PRIME32_2;
+			v3 = seed;
+			v4 = seed - PRIME32_1;
+			pendingLength = 0;
+			totalLength = 0;
+			return this;
+		}
+		
+		public long digest() {
+			int hash = totalLength >= STRIPE_LENGTH ? mergeAccumulators(v1, v2, v3, v4) : seed + PRIME32_5;
+			hash += (int)totalLength;
+			return finish(pending, ARRAY_BASE_OFFSET, ARRAY_BASE_OFFSET + pendingLength, hash) & 0xFFFF_FFFFL;
+		}
+		
+		protected void updateMemory(final Object base, final long address, final int length) {
+			totalLength += length;
+			long position = address;
+			final long limit = address + length;
+			
+			if (pendingLength > 0) {
+				final int bytes = Math.min(length, STRIPE_LENGTH - pendingLength);
+				UnsafeApi.copyMemory(base, position, pending, ARRAY_BASE_OFFSET + pendingLength, bytes);
+				pendingLength += bytes;
+				position += bytes;
+				if (pendingLength < STRIPE_LENGTH) {
+					return;
+				}
+				
+				stripes(pending, ARRAY_BASE_OFFSET, ARRAY_BASE_OFFSET + STRIPE_LENGTH);
+				pendingLength = 0;
+			}
+			
+			position = stripes(base, position, limit);
+			
+			final int remaining = (int)(limit - position);
+			if (remaining > 0) {
+				UnsafeApi.copyMemory(base, position, pending, ARRAY_BASE_OFFSET, remaining);
+				pendingLength = remaining;
+			}
+		}
+		
+		private long stripes(final Object base, final long address, final long limit) {
+			int v1 = this.v1;
+			int v2 = this.v2;
+			int v3 = this.v3;
+			int v4 = this.v4;
+			long position = address;
+			
+			while (position + STRIPE_LENGTH <= limit) {
+				v1 = round(v1, getIntLE(base, position));
+				v2 = round(v2, getIntLE(base, position + 4));
+				v3 = round(v3, getIntLE(base, position + 8));
+				v4 = round(v4, getIntLE(base, position + 12));
+				position += STRIPE_LENGTH;
+			}
+			
+			this.v1 = v1;
+			this.v2 = v2;
+			this.v3 = v3;
+			this.v4 = v4;
+			return position;
+		}
+	}
+}
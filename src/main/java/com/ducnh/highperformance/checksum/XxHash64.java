@@ -0,0 +1,229 @@
+package com.ducnh.highperformance.checksum;
+
+import java.nio.ByteOrder;
+
+import com.ducnh.highperformance.UnsafeApi;
+
+import static com.ducnh.highperformance.BufferUtil.ARRAY_BASE_OFFSET;
+import static com.ducnh.highperformance.BufferUtil.NATIVE_BYTE_ORDER;
+
+/**
+ * Pure Java XXH64, a fast non-cryptographic hash for integrity checks. {@link #compute(long, int, int)} returns the
+ * low 32 bits of {@link #hash(long, int, int)}.
+ */
+public class XxHash64 implements Checksum {
+	static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+	static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+	static final long PRIME64_3 = 0x165667B19E3779F9L;
+	static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+	static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+	static final int STRIPE_LENGTH = 32;
+	
+	private final long seed;
+	
+	public XxHash64() {
+		this(0);
+	}
+	
+	public XxHash64(final long seed) {
+		this.seed = seed;
+	}
+	
+	public long seed() {
+		return seed;
+	}
+	
+	public int compute(final long address, final int offset, final int length) {
+		return (int)hash(null, address + offset, length, seed);
+	}
+	
+	/**
+	 * Incremental form whose {@link IncrementalChecksum#digest()} is the full 64-bit hash.
+	 */
+	public IncrementalChecksum newIncremental() {
+		return new Incremental(seed);
+	}
+	
+	/**
+	 * Full 64-bit hash of a range of memory.
+	 */
+	public long hash(final long address, final int offset, final int length) {
+		return hash(null, address + offset, length, seed);
+	}
+	
+	/**
+	 * Hash {@code length} bytes at {@code address} within {@code base}, which is {@code null} for off-heap memory.
+	 */
+	static long hash(final Object base, final long address, final int length, final long seed) {
+		long position = address;
+		final long limit = address + length;
+		long hash;
+		
+		if (length >= STRIPE_LENGTH) {
+			long v1 = seed + PRIME64_1 + PRIME64_2;
+			long v2 = seed + PRIME64_2;
+			long v3 = seed;
+			long v4 = seed - PRIME64_1;
+			final long stripeLimit = limit - STRIPE_LENGTH;
+			do {
+				v1 = round(v1, getLongLE(base, position));
+				v2 = round(v2, getLongLE(base, position + 8));
+				v3 = round(v3, getLongLE(base, position + 16));
+				v4 = round(v4, getLongLE(base, position + 24));
+				position += STRIPE_LENGTH;
+			}
+			while (position <= stripeLimit);
+			
+			hash = mergeAccumulators(v1, v2, v3, v4);
+		}
+		else {
+			hash = seed + PRIME64_5;
+		}
+		
+		hash += length;
+		
+		return finish(base, position, limit, hash);
+	}
+	
+	static long round(final long accumulator, final long input) {
+		return Long.rotateLeft(accumulator + input * PRIME64_2, 31) * PRIME64_1;
+	}
+	
+	static long mergeAccumulators(final long v1, final long v2, final long v3, final long v4) {
+		long hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+		hash = mergeRound(hash, v1);
+		hash = mergeRound(hash, v2);
+		hash = mergeRound(hash, v3);
+		hash = mergeRound(hash, v4);
+		return hash;
+	}
+	
+	/**
+	 * Consume the tail of fewer than {@link #STRIPE_LENGTH} bytes and apply the final avalanche.
+	 */
+	static long finish(final Object base, final long address, final long limit, final long hashSoFar) {
+		long hash = hashSoFar;
+		long position = address;
+		
+		while (position + 8 <= limit) {
+			hash ^= round(0, getLongLE(base, position));
+			hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+			position += 8;
+		}
+		
+		if (position + 4 <= limit) {
+			hash ^= (getIntLE(base, position) & 0xFFFF_FFFFL) * PRIME64_1;
+			hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+			position += 4;
+		}
+		
+		while (position < limit) {
+			hash ^= (UnsafeApi.getByte(base, position) & 0xFFL) * PRIME64_5;
+			hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+			position++;
+		}
+		
+		hash ^= hash >>> 33;
+		hash *= PRIME64_2;
+		hash ^= hash >>> 29;
+		hash *= PRIME64_3;
+		hash ^= hash >>> 32;
+		
+		return hash;
+	}
+	
+	static long getLongLE(final Object base, final long address) {
+		final long value = UnsafeApi.getLong(base, address);
+		return ByteOrder.LITTLE_ENDIAN == NATIVE_BYTE_ORDER ? value : Long.reverseBytes(value);
+	}
+	
+	static int getIntLE(final Object base, final long address) {
+		final int value = UnsafeApi.getInt(base, address);
+		return ByteOrder.LITTLE_ENDIAN == NATIVE_BYTE_ORDER ? value : Integer.reverseBytes(value);
+	}
+	
+	private static long mergeRound(final long hash, final long value) {
+		return (hash ^ round(0, value)) * PRIME64_1 + PRIME64_4;
+	}
+	
+	static final class Incremental extends IncrementalChecksum {
+		private final long seed;
+		private final byte[] pending = new byte[STRIPE_LENGTH];
+		private int pendingLength;
+		private long totalLength;
+		private long v1;
+		private long v2;
+		private long v3;
+		private long v4;
+		
+		Incremental(final long seed) {
+			this.seed = seed;
+			reset();
+		}
+		
+		public IncrementalChecksum reset() {
+			v1 = seed + PRIME64_1 + PRIME64_2;
+			v2 = seed + PRIME64_2;
+			v3 = seed;
+			v4 = seed - PRIME64_1;
+			pendingLength = 0;
+			totalLength = 0;
+			return this;
+		}
+		
+		public long digest() {
+			long hash = totalLength >= STRIPE_LENGTH ? mergeAccumulators(v1, v2, v3, v4) : seed + PRIME64_5;
+			hash += totalLength;
+			return finish(pending, ARRAY_BASE_OFFSET, ARRAY_BASE_OFFSET + pendingLength, hash);
+		}
+		
+		protected void updateMemory(final Object base, final long address, final int length) {
+			totalLength += length;
+			long position = address;
+			final long limit = address + length;
+			
+			if (pendingLength > 0) {
+				final int bytes = Math.min(length, STRIPE_LENGTH - pendingLength);
+				UnsafeApi.copyMemory(base, position, pending, ARRAY_BASE_OFFSET + pendingLength, bytes);
+				pendingLength += bytes;
+				position += bytes;
+				if (pendingLength < STRIPE_LENGTH) {
+					return;
+				}
+				
+				stripes(pending, ARRAY_BASE_OFFSET, ARRAY_BASE_OFFSET + STRIPE_LENGTH);
+				pendingLength = 0;
+			}
+			
+			position = stripes(base, position, limit);
+			
+			final int remaining = (int)(limit - position);
+			if (remaining > 0) {
+				UnsafeApi.copyMemory(base, position, pending, ARRAY_BASE_OFFSET, remaining);
+				pendingLength = remaining;
+			}
+		}
+		
+		private long stripes(final Object base, final long address, final long limit) {
+			long v1 = this.v1;
+			long v2 = this.v2;
+			long v3 = this.v3;
+			long v4 = this.v4;
+			long position = address;
+			
+			while (position + STRIPE_LENGTH <= limit) {
+				v1 = round(v1, getLongLE(base, position));
+				v2 = round(v2, getLongLE(base, position + 8));
+				v3 = round(v3, getLongLE(base, position + 16));
+				v4 = round(v4, getLongLE(base, position + 24));
+				position += STRIPE_LENGTH;
+			}
+			
+			this.v1 = v1;
+			this.v2 = v2;
+			this.v3 = v3;
+			this.v4 = v4;
+			return position;
+		}
+	}
+}
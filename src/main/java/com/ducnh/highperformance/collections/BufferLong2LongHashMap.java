@@ -0,0 +1,373 @@
+package com.ducnh.highperformance.collections;
+
+import java.lang.invoke.VarHandle;
+
+import com.ducnh.highperformance.BitUtil;
+import com.ducnh.highperformance.concurrent.AtomicBuffer;
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.CACHE_LINE_LENGTH;
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+/**
+ * Open addressing map of long keys to long values with the same linear probing as {@link Long2LongHashMap}, which keeps its
+ * slots in an {@link AtomicBuffer} rather than on the heap. When the buffer wraps a file from
+ * {@link com.ducnh.highperformance.IOUtil#mapNewFile(java.io.File, long)} the map survives a restart and can be shared
+ * with other processes.
+ * <p>
+ * The buffer is a header followed by a power of two number of slots, see {@link #bufferLength}. Capacity is fixed
+ * so the map does not resize, and inserting beyond the load factor throws {@link IllegalStateException}.
+ * <p>
+ * <b>Note:</b> there must be a single writer. Any number of threads or processes may call {@link #get(long)} at the
+ * same time, as changes which move entries are bracketed by a change counter and a lookup which overlaps one is
+ * retried. Updating the value of an existing key is a single ordered store.
+ */
+public class BufferLong2LongHashMap {
+	public static @DoNotSub final int CHANGE_COUNTER_OFFSET = 0;
+	public static @DoNotSub final int SIZE_OFFSET = CHANGE_COUNTER_OFFSET + BitUtil.SIZE_OF_LONG;
+	public static @DoNotSub final int CAPACITY_OFFSET = SIZE_OFFSET + BitUtil.SIZE_OF_INT;
+	public static @DoNotSub final int MISSING_VALUE_OFFSET = CAPACITY_OFFSET + BitUtil.SIZE_OF_INT;
+	public static @DoNotSub final int HEADER_LENGTH = CACHE_LINE_LENGTH * 2;
+	
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	
+	private static @DoNotSub final int ELEMENT_LENGTH =
+		Long.BYTES;
+	
+	private final float loadFactor;
+	private final long missingValue;
+	private @DoNotSub final int capacity;
+	private @DoNotSub final int resizeThreshold;
+	private @DoNotSub final int mask;
+	private final AtomicBuffer buffer;
+	
+	/**
+	 * Attach as the writer, formatting the buffer if it has not been used before.
+	 */
+	public BufferLong2LongHashMap(final AtomicBuffer buffer, final long missingValue) {
+		this(buffer, Hashing.DEFAULT_LOAD_FACTOR, missingValue);
+	}
+	
+	/**
+	 * Attach as the writer, formatting the buffer if it has not been used before. A buffer which a previous writer left
+	 * part way through a change is rebuilt.
+	 */
+	public BufferLong2LongHashMap(final AtomicBuffer buffer, final float loadFactor, final long missingValue) {
+		this(buffer, loadFactor, missingValue, true);
+	}
+	
+	/**
+	 * Attach as a reader to a buffer formatted by the writer, taking the missing value from its header.
+	 */
+	public BufferLong2LongHashMap(final AtomicBuffer buffer) {
+		this(buffer, Hashing.DEFAULT_LOAD_FACTOR, missingValue(buffer), false);
+	}
+	
+	private BufferLong2LongHashMap(
+			final AtomicBuffer buffer,
+			final float loadFactor,
+			final long missingValue,
+			final boolean isWriter) {
+		validateLoadFactor(loadFactor);
+		buffer.verifyAlignment();
+		
+		this.buffer = buffer;
+		this.loadFactor = loadFactor;
+		this.missingValue = missingValue;
+		capacity = checkCapacity(buffer.capacity());
+		mask = (capacity << 1) - 1;
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		
+		@DoNotSub final int formattedCapacity = buffer.getIntVolatile(CAPACITY_OFFSET);
+		if (0 == formattedCapacity && isWriter) {
+			format();
+		}
+		else if (formattedCapacity != capacity) {
+			throw new IllegalStateException(
+				"buffer formatted for a different capacity: expected=" + capacity + " actual=" + formattedCapacity);
+		}
+		else if (missingValue != buffer.getLong(MISSING_VALUE_OFFSET)) {
+			throw new IllegalStateException("buffer formatted with a different missingValue");
+		}
+		else if (isWriter && 1 == (buffer.getLongVolatile(CHANGE_COUNTER_OFFSET) & 1)) {
+			rebuild();
+		}
+	}
+	
+	/**
+	 * Length of buffer required to hold the given number of slots, rounded up to a power of two.
+	 */
+	public static @DoNotSub int bufferLength(@DoNotSub final int capacity) {
+		final long length = HEADER_LENGTH +
+			(long)findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, capacity)) * (ELEMENT_LENGTH << 1);
+		if (length > Integer.MAX_VALUE) { // @DoNotSub
+			throw new IllegalArgumentException("capacity too large for a buffer: " + capacity);
+		}
+		
+		return (int)length; // @DoNotSub
+	}
+	
+	public long missingValue() {
+		return missingValue;
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public @DoNotSub int capacity() {
+		return capacity;
+	}
+	
+	public @DoNotSub int size() {
+		return buffer.getIntVolatile(SIZE_OFFSET); // @DoNotSub
+	}
+	
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+	
+	public AtomicBuffer buffer() {
+		return buffer;
+	}
+	
+	public boolean containsKey(final long key) {
+		return missingValue != get(key);
+	}
+	
+	/**
+	 * Get the value for a key, which is safe to call concurrently with the writer.
+	 * @return the value or {@link #missingValue()} if not present.
+	 */
+	public long get(final long key) {
+		final AtomicBuffer buffer = this.buffer;
+		
+		while (true) {
+			final long changeCounter = buffer.getLongAcquire(CHANGE_COUNTER_OFFSET);
+			if (0 == (changeCounter & 1)) {
+				final long value = probe(key);
+				VarHandle.acquireFence();
+				
+				if (buffer.getLongVolatile(CHANGE_COUNTER_OFFSET) == changeCounter) {
+					return value;
+				}
+			}
+			
+			Thread.onSpinWait();
+		}
+	}
+	
+	public long put(final long key, final long value) {
+		final long missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		final AtomicBuffer buffer = this.buffer;
+		@DoNotSub final int mask = this.mask;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = buffer.getLong(offset(index + 1)))) {
+			if (key == buffer.getLong(offset(index))) {
+				buffer.putLongRelease(offset(index + 1), value);
+				return oldValue;
+			}
+			index = next(index, mask);
+		}
+		
+		@DoNotSub final int size = buffer.getInt(SIZE_OFFSET);
+		if (size >= resizeThreshold) {
+			throw new IllegalStateException("map is full: capacity=" + capacity + " size=" + size);
+		}
+		
+		beginChange();
+		buffer.putLong(offset(index), key);
+		buffer.putLong(offset(index + 1), value);
+		buffer.putIntRelease(SIZE_OFFSET, size + 1); // @DoNotSub
+		endChange();
+		
+		return missingValue;
+	}
+	
+	public long remove(final long key) {
+		final long missingValue = this.missingValue;
+		final AtomicBuffer buffer = this.buffer;
+		@DoNotSub final int mask = this.mask;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = buffer.getLong(offset(index + 1)))) {
+			if (key == buffer.getLong(offset(index))) {
+				beginChange();
+				buffer.putLong(offset(index + 1), missingValue);
+				compactChain(index);
+				buffer.putIntRelease(SIZE_OFFSET, buffer.getInt(SIZE_OFFSET) - 1); // @DoNotSub
+				endChange();
+				break;
+			}
+			index = next(index, mask);
+		}
+		
+		return oldValue;
+	}
+	
+	public void clear() {
+		beginChange();
+		clearSlots();
+		buffer.putIntRelease(SIZE_OFFSET, 0); // @DoNotSub
+		endChange();
+	}
+	
+	/**
+	 * Iterate over the entries. This does not retry on concurrent change so is intended for use by the writer.
+	 */
+	public void forEachLong(final LongLongConsumer consumer) {
+		final long missingValue = this.missingValue;
+		final AtomicBuffer buffer = this.buffer;
+		
+		for (@DoNotSub int index = 0; index <= mask; index += 2) {
+			final long value = buffer.getLong(offset(index + 1));
+			if (missingValue != value) {
+				consumer.accept(buffer.getLong(offset(index)), value);
+			}
+		}
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		forEachLong((k, v) -> sb.append(k).append('=').append(v).append(", "));
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		return sb.append('}').toString();
+	}
+	
+	private long probe(final long key) {
+		final long missingValue = this.missingValue;
+		final AtomicBuffer buffer = this.buffer;
+		@DoNotSub final int mask = this.mask;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		// bounded as slots may be moved underneath a reader, which will then retry
+		for (@DoNotSub int i = 0; i < capacity; i++) {
+			final long value = buffer.getLong(offset(index + 1));
+			if (missingValue == value || key == buffer.getLong(offset(index))) {
+				return value;
+			}
+			index = next(index, mask);
+		}
+		
+		return missingValue;
+	}
+	
+	private void compactChain(@DoNotSub int deleteIndex) {
+		final long missingValue = this.missingValue;
+		final AtomicBuffer buffer = this.buffer;
+		@DoNotSub final int mask = this.mask;
+		@DoNotSub int index = deleteIndex;
+		
+		while (true) {
+			index = next(index, mask);
+			final long value = buffer.getLong(offset(index + 1));
+			if (missingValue == value) {
+				break;
+			}
+			
+			final long key = buffer.getLong(offset(index));
+			@DoNotSub final int hash = Hashing.evenHash(key, mask);
+			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) ||
+					(hash <= deleteIndex && deleteIndex <= index)) {
+				buffer.putLong(offset(deleteIndex), key);
+				buffer.putLong(offset(deleteIndex + 1), value);
+				
+				buffer.putLong(offset(index + 1), missingValue);
+				deleteIndex = index;
+			}
+		}
+	}
+	
+	private void beginChange() {
+		buffer.putLongRelease(CHANGE_COUNTER_OFFSET, buffer.getLong(CHANGE_COUNTER_OFFSET) + 1);
+		VarHandle.releaseFence();
+	}
+	
+	private void endChange() {
+		buffer.putLongRelease(CHANGE_COUNTER_OFFSET, buffer.getLong(CHANGE_COUNTER_OFFSET) + 1);
+	}
+	
+	private void format() {
+		final AtomicBuffer buffer = this.buffer;
+		clearSlots();
+		buffer.putLong(CHANGE_COUNTER_OFFSET, 0);
+		buffer.putInt(SIZE_OFFSET, 0); // @DoNotSub
+		buffer.putLong(MISSING_VALUE_OFFSET, missingValue);
+		buffer.putIntRelease(CAPACITY_OFFSET, capacity); // @DoNotSub
+	}
+	
+	private void clearSlots() {
+		final long missingValue = this.missingValue;
+		final AtomicBuffer buffer = this.buffer;
+		if (0 == missingValue) {
+			buffer.setMemory(HEADER_LENGTH, (mask + 1) * ELEMENT_LENGTH, (byte)0);
+		}
+		else {
+			for (@DoNotSub int index = 1; index <= mask; index += 2) {
+				buffer.putLong(offset(index), missingValue);
+			}
+		}
+	}
+	
+	/**
+	 * Reinsert every entry after a writer stopped part way through moving entries, which can leave a gap in a probe
+	 * chain or an entry in two slots.
+	 */
+	private void rebuild() {
+		final Long2LongHashMap entries = new Long2LongHashMap(capacity, loadFactor, missingValue);
+		forEachLong(entries::put);
+		
+		clearSlots();
+		entries.forEachLong(this::insert);
+		buffer.putIntRelease(SIZE_OFFSET, entries.size()); // @DoNotSub
+		endChange();
+	}
+	
+	private void insert(final long key, final long value) {
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		while (missingValue != buffer.getLong(offset(index + 1))) {
+			index = next(index, mask);
+		}
+		
+		buffer.putLong(offset(index), key);
+		buffer.putLong(offset(index + 1), value);
+	}
+	
+	private static long missingValue(final AtomicBuffer buffer) {
+		if (0 == buffer.getIntVolatile(CAPACITY_OFFSET)) { // @DoNotSub
+			throw new IllegalStateException("buffer has not been formatted by a writer");
+		}
+		
+		return buffer.getLong(MISSING_VALUE_OFFSET);
+	}
+	
+	private static @DoNotSub int checkCapacity(@DoNotSub final int bufferLength) {
+		@DoNotSub final int capacity = (bufferLength - HEADER_LENGTH) / (ELEMENT_LENGTH << 1);
+		if (capacity < MIN_CAPACITY || !BitUtil.isPowerOfTwo(capacity) || bufferLength != bufferLength(capacity)) {
+			throw new IllegalArgumentException(
+				"buffer length must be HEADER_LENGTH plus a power of 2 number of slots: length=" + bufferLength);
+		}
+		
+		return capacity;
+	}
+	
+	private static @DoNotSub int offset(@DoNotSub final int index) {
+		return HEADER_LENGTH + index * ELEMENT_LENGTH;
+	}
+	
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
+		return (index + 2) & mask;
+	}
+}
@@ -0,0 +1,25 @@
+package com.ducnh.highperformance.collections;
+
+/**
+ * Choice of victim when a new entry is put into a full set of a set-associative cache such as {@link Int2ObjectCache}.
+ * Each policy uses a fixed amount of memory decided by the cache capacity.
+ */
+public enum CacheEvictionPolicy {
+	/**
+	 * Entries are inserted at the front of their set and the last way is evicted, so reads do not protect an entry.
+	 */
+	FIFO,
+	
+	/**
+	 * A reference bit is set on each hit and a clock hand per set evicts the first entry without the bit, clearing the
+	 * bits it passes.
+	 */
+	CLOCK,
+	
+	/**
+	 * W-TinyLFU: the first way of a set is a window for new entries. When the window is displaced its entry is only
+	 * admitted over the clock victim of the other ways if a count-min sketch estimates it to be more frequently used,
+	 * so scans do not flush hot entries.
+	 */
+	TINY_LFU
+}
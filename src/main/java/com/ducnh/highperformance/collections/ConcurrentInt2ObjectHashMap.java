@@ -0,0 +1,525 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+import com.ducnh.highperformance.UnsafeApi;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Lock-free map of int keys to non-null values which is safe for any number of reading and writing threads, without
+ * boxing keys.
+ * <p>
+ * Entries are kept in an open addressing table with linear probing. A key is claimed in its slot by CAS and stays there
+ * for the life of the table, while the value is replaced by CAS, with removal leaving a tombstone. Reads never write.
+ * <p>
+ * When the table fills up a new one is installed and entries are copied across cooperatively: the thread that installs
+ * it copies the whole table and every writer that runs into the resize copies a chunk. A value being copied is frozen
+ * by wrapping it, so a write to that key first completes the copy of its slot and then goes to the new table.
+ * <p>
+ * {@link #size()} is an estimate while writes are in progress, and {@link #forEach(IntObjConsumer)} is weakly
+ * consistent.
+ */
+public class ConcurrentInt2ObjectHashMap<V> {
+	static final int MIN_CAPACITY = 16;
+	
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final int COPY_CHUNK_LENGTH = 1024;
+	private static final int MIN_REPROBES = 10;
+	
+	private static final long EMPTY_KEY = 0;
+	private static final long KEY_TAG = 1L << 32;
+	private static final long SEALED_KEY = 1L << 33;
+	
+	private static final Object TOMBSTONE = new Object();
+	private static final Prime MOVED = new Prime(TOMBSTONE);
+	private static final Object MATCH_ANY = new Object();
+	private static final Object MATCH_ABSENT = new Object();
+	private static final Object MATCH_PRESENT = new Object();
+	
+	private static final long TABLE_OFFSET;
+	private static final long NEXT_OFFSET;
+	private static final long KEYS_BASE = UnsafeApi.arrayBaseOffset(long[].class);
+	private static final int KEYS_SHIFT = Integer.numberOfTrailingZeros(UnsafeApi.arrayIndexScale(long[].class));
+	private static final long VALUES_BASE = UnsafeApi.arrayBaseOffset(Object[].class);
+	private static final int VALUES_SHIFT = Integer.numberOfTrailingZeros(UnsafeApi.arrayIndexScale(Object[].class));
+	
+	static {
+		try {
+			TABLE_OFFSET = UnsafeApi.objectFieldOffset(ConcurrentInt2ObjectHashMap.class.getDeclaredField("table"));
+			NEXT_OFFSET = UnsafeApi.objectFieldOffset(Table.class.getDeclaredField("next"));
+		} catch (final Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private final float loadFactor;
+	private final LongAdder size = new LongAdder();
+	private volatile Table table;
+	
+	public ConcurrentInt2ObjectHashMap() {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR);
+	}
+	
+	public ConcurrentInt2ObjectHashMap(final int initialCapacity, final float loadFactor) {
+		validateLoadFactor(loadFactor);
+		
+		this.loadFactor = loadFactor;
+		table = new Table(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity)), loadFactor);
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	/**
+	 * Number of slots in the current table.
+	 */
+	public int capacity() {
+		return table.mask + 1;
+	}
+	
+	public int size() {
+		return (int)Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+	}
+	
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+	
+	public boolean containsKey(final int key) {
+		return null != get(key);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V get(final int key) {
+		final long taggedKey = KEY_TAG | (key & 0xFFFF_FFFFL);
+		final int hash = Hashing.hash(key);
+		Table table = this.table;
+		
+		do {
+			final int mask = table.mask;
+			final int reprobeLimit = reprobeLimit(mask);
+			int index = hash & mask;
+			
+			for (int reprobes = 0; reprobes <= reprobeLimit; reprobes++) {
+				final long k = table.key(index);
+				if (EMPTY_KEY == k) {
+					return null;
+				}
+				
+				if (taggedKey == k) {
+					Object value = table.value(index);
+					if (value instanceof Prime) {
+						// a frozen value is current until the copy of the slot completes
+						if (MOVED == value) {
+							break;
+						}
+						value = ((Prime)value).value;
+					}
+					
+					return TOMBSTONE == value ? null : (V)value;
+				}
+				
+				if (SEALED_KEY == k) {
+					break;
+				}
+				index = (index + 1) & mask;
+			}
+			
+			table = table.next;
+		}
+		while (null != table);
+		
+		return null;
+	}
+	
+	public V getOrDefault(final int key, final V defaultValue) {
+		final V value = get(key);
+		return null != value ? value : defaultValue;
+	}
+	
+	/**
+	 * @return the previous value or null if none.
+	 */
+	public V put(final int key, final V value) {
+		return valueOrNull(putIfMatch(table, key, requireNonNull(value), MATCH_ANY));
+	}
+	
+	/**
+	 * @return the existing value, or null if the value was put.
+	 */
+	public V putIfAbsent(final int key, final V value) {
+		return valueOrNull(putIfMatch(table, key, requireNonNull(value), MATCH_ABSENT));
+	}
+	
+	/**
+	 * The mapping function may be called by more than one thread for a key, in which case a single result is kept.
+	 */
+	public V computeIfAbsent(final int key, final IntFunction<? extends V> mappingFunction) {
+		requireNonNull(mappingFunction);
+		V value = get(key);
+		if (null == value) {
+			final V newValue = mappingFunction.apply(key);
+			if (null != newValue) {
+				final V existingValue = putIfAbsent(key, newValue);
+				value = null == existingValue ? newValue : existingValue;
+			}
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * @return the value which was removed or null if none.
+	 */
+	public V remove(final int key) {
+		return valueOrNull(putIfMatch(table, key, TOMBSTONE, MATCH_ANY));
+	}
+	
+	public boolean remove(final int key, final V value) {
+		return isMatch(putIfMatch(table, key, TOMBSTONE, requireNonNull(value)), value);
+	}
+	
+	/**
+	 * @return the previous value or null if the key was not present, in which case nothing is put.
+	 */
+	public V replace(final int key, final V value) {
+		return valueOrNull(putIfMatch(table, key, requireNonNull(value), MATCH_PRESENT));
+	}
+	
+	public boolean replace(final int key, final V oldValue, final V newValue) {
+		return isMatch(putIfMatch(table, key, requireNonNull(newValue), requireNonNull(oldValue)), oldValue);
+	}
+	
+	/**
+	 * Remove every entry. This is not atomic with respect to concurrent writes.
+	 */
+	public void clear() {
+		forEach((key, value) -> remove(key));
+	}
+	
+	/**
+	 * Visit every entry present for the whole call exactly once. Entries put or removed during the call may or may not
+	 * be visited. A resize which is in progress is completed first.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(final IntObjConsumer<V> consumer) {
+		Table table = this.table;
+		while (null != table.next) {
+			table = finishCopy(table);
+		}
+		
+		for (int index = 0, length = table.mask + 1; index < length; index++) {
+			final long k = table.key(index);
+			if (EMPTY_KEY == k || SEALED_KEY == k) {
+				continue;
+			}
+			
+			final int key = (int)k;
+			Object value = table.value(index);
+			if (MOVED == value) {
+				value = get(key);
+			}
+			else if (value instanceof Prime) {
+				value = ((Prime)value).value;
+			}
+			
+			if (null != value && TOMBSTONE != value) {
+				consumer.accept(key, (V)value);
+			}
+		}
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		forEach((k, v) -> sb.append(k).append('=').append(v).append(", "));
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		return sb.append('}').toString();
+	}
+	
+	/**
+	 * Put a value, or a tombstone to remove, if the current value matches what is expected. A null expected value only
+	 * matches a slot which has never held a value, which is how entries are copied into a new table.
+	 *
+	 * @return the value before the call, which is null or a tombstone when absent.
+	 */
+	private Object putIfMatch(Table table, final int key, final Object putValue, final Object expected) {
+		final long taggedKey = KEY_TAG | (key & 0xFFFF_FFFFL);
+		final int hash = Hashing.hash(key);
+		
+		while (true) {
+			final int mask = table.mask;
+			final int reprobeLimit = reprobeLimit(mask);
+			int index = hash & mask;
+			int reprobes = 0;
+			long k;
+			
+			while (true) {
+				k = table.key(index);
+				if (EMPTY_KEY == k) {
+					if (TOMBSTONE == putValue || (MATCH_ANY != expected && MATCH_ABSENT != expected && null != expected)) {
+						return null;
+					}
+					
+					if (table.compareAndSetKey(index, EMPTY_KEY, taggedKey)) {
+						if (table.slotsUsed.incrementAndGet() > table.resizeThreshold) {
+							resize(table);
+						}
+						k = taggedKey;
+						break;
+					}
+					k = table.key(index);
+				}
+				
+				if (taggedKey == k || SEALED_KEY == k || ++reprobes > reprobeLimit) {
+					break;
+				}
+				index = (index + 1) & mask;
+			}
+			
+			if (taggedKey != k) {
+				table = resize(table);
+				continue;
+			}
+			
+			final Table next = table.next;
+			if (null != next) {
+				if (copySlot(table, index, next)) {
+					copied(table, 1);
+				}
+				helpCopy(table, false);
+				table = next;
+				continue;
+			}
+			
+			Object value = table.value(index);
+			while (!(value instanceof Prime)) {
+				if (!matches(value, expected)) {
+					return value;
+				}
+				
+				final boolean wasPresent = null != value && TOMBSTONE != value;
+				if (!wasPresent && TOMBSTONE == putValue) {
+					return value;
+				}
+				
+				if (table.compareAndSetValue(index, value, putValue)) {
+					if (null != expected) {
+						if (!wasPresent) {
+							size.increment();
+						}
+						else if (TOMBSTONE == putValue) {
+							size.decrement();
+						}
+					}
+					return value;
+				}
+				value = table.value(index);
+			}
+			
+			// frozen by a resize which started after the check above
+			if (copySlot(table, index, table.next)) {
+				copied(table, 1);
+			}
+			table = table.next;
+		}
+	}
+	
+	/**
+	 * Install the next table if there is not one already and help copy into it. The thread which installs it copies
+	 * the whole table so that a resize completes even if no other writer arrives.
+	 */
+	private Table resize(final Table table) {
+		Table next = table.next;
+		if (null == next) {
+			final long size = this.size.sum();
+			int length = table.mask + 1;
+			while (length < MAX_CAPACITY && size >= (long)(length * loadFactor) >> 1) {
+				length <<= 1;
+			}
+			
+			next = new Table(length, loadFactor);
+			if (UnsafeApi.compareAndSetReference(table, NEXT_OFFSET, null, next)) {
+				finishCopy(table);
+				return next;
+			}
+			next = table.next;
+		}
+		
+		helpCopy(table, false);
+		return next;
+	}
+	
+	private void helpCopy(final Table table, final boolean copyAll) {
+		final Table next = table.next;
+		final int length = table.mask + 1;
+		final int chunkLength = Math.min(length, COPY_CHUNK_LENGTH);
+		
+		do {
+			final int start = table.copyIndex.get();
+			if (start >= length) {
+				break;
+			}
+			
+			if (table.copyIndex.compareAndSet(start, start + chunkLength)) {
+				int copied = 0;
+				for (int index = start, end = start + chunkLength; index < end; index++) {
+					if (copySlot(table, index, next)) {
+						copied++;
+					}
+				}
+				copied(table, copied);
+			}
+		}
+		while (copyAll);
+	}
+	
+	/**
+	 * Copy every slot which is not yet copied, including those claimed by other threads which have not finished.
+	 */
+	private Table finishCopy(final Table table) {
+		final Table next = table.next;
+		helpCopy(table, true);
+		
+		int copied = 0;
+		for (int index = 0, length = table.mask + 1; index < length; index++) {
+			if (MOVED != table.value(index) && copySlot(table, index, next)) {
+				copied++;
+			}
+		}
+		copied(table, copied);
+		
+		return next;
+	}
+	
+	/**
+	 * @return true if this call completed the copy of the slot.
+	 */
+	private boolean copySlot(final Table table, final int index, final Table next) {
+		long k;
+		while (EMPTY_KEY == (k = table.key(index))) {
+			table.compareAndSetKey(index, EMPTY_KEY, SEALED_KEY);
+		}
+		
+		Object value = table.value(index);
+		while (!(value instanceof Prime)) {
+			final Prime frozen = null == value || TOMBSTONE == value ? MOVED : new Prime(value);
+			if (table.compareAndSetValue(index, value, frozen)) {
+				if (MOVED == frozen) {
+					return true;
+				}
+				value = frozen;
+				break;
+			}
+			value = table.value(index);
+		}
+		
+		if (MOVED == value) {
+			return false;
+		}
+		
+		putIfMatch(next, (int)k, ((Prime)value).value, null);
+		
+		while (MOVED != value) {
+			if (table.compareAndSetValue(index, value, MOVED)) {
+				return true;
+			}
+			value = table.value(index);
+		}
+		
+		return false;
+	}
+	
+	private void copied(Table table, final int count) {
+		if (count > 0 && table.copyDone.addAndGet(count) == table.mask + 1) {
+			// promote in order so a nested resize which finished first is promoted with its parent
+			while (table.copyDone.get() == table.mask + 1 &&
+					UnsafeApi.compareAndSetReference(this, TABLE_OFFSET, table, table.next)) {
+				table = table.next;
+			}
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private V valueOrNull(final Object value) {
+		return null == value || TOMBSTONE == value ? null : (V)value;
+	}
+	
+	private static boolean isMatch(final Object value, final Object expected) {
+		return null != value && TOMBSTONE != value && (expected == value || expected.equals(value));
+	}
+	
+	private static boolean matches(final Object value, final Object expected) {
+		if (MATCH_ANY == expected) {
+			return true;
+		}
+		
+		final boolean isPresent = null != value && TOMBSTONE != value;
+		if (MATCH_ABSENT == expected) {
+			return !isPresent;
+		}
+		if (MATCH_PRESENT == expected) {
+			return isPresent;
+		}
+		if (null == expected) {
+			return null == value;
+		}
+		
+		return isMatch(value, expected);
+	}
+	
+	private static int reprobeLimit(final int mask) {
+		return MIN_REPROBES + ((mask + 1) >> 2);
+	}
+	
+	static final class Prime {
+		final Object value;
+		
+		Prime(final Object value) {
+			this.value = value;
+		}
+	}
+	
+	static final class Table {
+		final long[] keys;
+		final Object[] values;
+		final int mask;
+		final int resizeThreshold;
+		final AtomicInteger slotsUsed = new AtomicInteger();
+		final AtomicInteger copyIndex = new AtomicInteger();
+		final AtomicInteger copyDone = new AtomicInteger();
+		volatile Table next;
+		
+		Table(final int length, final float loadFactor) {
+			keys = new long[length];
+			values = new Object[length];
+			mask = length - 1;
+			resizeThreshold = (int)(length * loadFactor);
+		}
+		
+		long key(final int index) {
+			return UnsafeApi.getLongVolatile(keys, KEYS_BASE + ((long)index << KEYS_SHIFT));
+		}
+		
+		boolean compareAndSetKey(final int index, final long expected, final long key) {
+			return UnsafeApi.compareAndSetLong(keys, KEYS_BASE + ((long)index << KEYS_SHIFT), expected, key);
+		}
+		
+		Object value(final int index) {
+			return UnsafeApi.getReferenceVolatile(values, VALUES_BASE + ((long)index << VALUES_SHIFT));
+		}
+		
+		boolean compareAndSetValue(final int index, final Object expected, final Object value) {
+			return UnsafeApi.compareAndSetReference(values, VALUES_BASE + ((long)index << VALUES_SHIFT), expected, value);
+		}
+	}
+}
@@ -0,0 +1,251 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.Arrays;
+
+import com.ducnh.highperformance.UnsafeApi;
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+/**
+ * Counter map from long keys to long counts which many threads can update without locks or boxing, in the style of
+ * {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * Each updating thread owns a cell holding its own open addressing table of deltas, so an update is a thread local
+ * lookup and an ordered store with no contention. Reads merge the cells of all threads, which costs a lookup per thread
+ * that has updated the map. A count read while updates are in progress includes those which happened before the read
+ * and possibly some which are concurrent with it.
+ * <p>
+ * Cells of threads which have terminated are kept so their counts are not lost.
+ */
+public class ConcurrentLong2LongCounterMap {
+	private static @DoNotSub final int MIN_CAPACITY = 8;
+	private static final long STATES_BASE = UnsafeApi.arrayBaseOffset(byte[].class);
+	private static final long VALUES_BASE = UnsafeApi.arrayBaseOffset(long[].class);
+	private static final long VALUES_SCALE = UnsafeApi.arrayIndexScale(long[].class);
+	
+	private final long initialValue;
+	private final float loadFactor;
+	private @DoNotSub final int initialCapacity;
+	private final ThreadLocal<Cell> threadCell = ThreadLocal.withInitial(this::newCell);
+	private volatile Cell[] cells = new Cell[0];
+	
+	public ConcurrentLong2LongCounterMap(final long initialValue) {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, initialValue);
+	}
+	
+	/**
+	 * @param initialCapacity of the table in each thread's cell.
+	 * @param initialValue    count of a key which has not been updated.
+	 */
+	public ConcurrentLong2LongCounterMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final long initialValue) {
+		validateLoadFactor(loadFactor);
+		
+		this.initialValue = initialValue;
+		this.loadFactor = loadFactor;
+		this.initialCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+	}
+	
+	public long initialValue() {
+		return initialValue;
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public void increment(final long key) {
+		threadCell.get().add(key, 1);
+	}
+	
+	public void decrement(final long key) {
+		threadCell.get().add(key, -1);
+	}
+	
+	public void add(final long key, final long amount) {
+		threadCell.get().add(key, amount);
+	}
+	
+	/**
+	 * Increment the count for the calling thread and then merge the counts of all threads.
+	 */
+	public long incrementAndGet(final long key) {
+		return addAndGet(key, 1);
+	}
+	
+	public long decrementAndGet(final long key) {
+		return addAndGet(key, -1);
+	}
+	
+	public long addAndGet(final long key, final long amount) {
+		threadCell.get().add(key, amount);
+		return get(key);
+	}
+	
+	public long get(final long key) {
+		long value = initialValue;
+		for (final Cell cell : cells) {
+			value += cell.get(key);
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Merge the counts of all threads into a map which is not affected by later updates, without the keys whose count
+	 * is the initial value.
+	 */
+	public Long2LongCounterMap snapshot() {
+		final Long2LongCounterMap snapshot = new Long2LongCounterMap(initialValue);
+		for (final Cell cell : cells) {
+			cell.mergeInto(snapshot);
+		}
+		
+		return snapshot;
+	}
+	
+	/**
+	 * Visit the keys and counts of a {@link #snapshot()}.
+	 */
+	public void forEach(final LongLongConsumer consumer) {
+		snapshot().forEach(consumer);
+	}
+	
+	public String toString() {
+		return snapshot().toString();
+	}
+	
+	private Cell newCell() {
+		final Cell cell = new Cell(new Table(initialCapacity, loadFactor));
+		synchronized (this) {
+			final Cell[] oldCells = cells;
+			final Cell[] newCells = Arrays.copyOf(oldCells, oldCells.length + 1);
+			newCells[oldCells.length] = cell;
+			cells = newCells;
+		}
+		
+		return cell;
+	}
+	
+	/**
+	 * Table of deltas with a single writer. A slot is published by a release store of its state after the key and value
+	 * are written, and its value is then updated with opaque stores so readers never see a torn value.
+	 */
+	static final class Table {
+		final long[] keys;
+		final long[] values;
+		final byte[] states;
+		final float loadFactor;
+		@DoNotSub final int resizeThreshold;
+		@DoNotSub int size;
+		
+		Table(
+			@DoNotSub final int capacity,
+			final float loadFactor) {
+			keys = new long[capacity];
+			values = new long[capacity];
+			states = new byte[capacity];
+			this.loadFactor = loadFactor;
+			resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		}
+	}
+	
+	static final class Cell {
+		private volatile Table table;
+		
+		Cell(final Table table) {
+			this.table = table;
+		}
+		
+		void add(final long key, final long amount) {
+			final Table table = this.table;
+			final long[] keys = table.keys;
+			final byte[] states = table.states;
+			@DoNotSub final int mask = keys.length - 1;
+			@DoNotSub int index = Hashing.hash(key, mask);
+			
+			while (0 != states[index]) {
+				if (key == keys[index]) {
+					final long[] values = table.values;
+					UnsafeApi.putLongOpaque(values, VALUES_BASE + index * VALUES_SCALE, values[index] + amount);
+					return;
+				}
+				
+				index = (index + 1) & mask;
+			}
+			
+			keys[index] = key;
+			table.values[index] = amount;
+			UnsafeApi.putByteRelease(states, STATES_BASE + index, (byte)1);
+			
+			if (++table.size > table.resizeThreshold) {
+				this.table = resize(table);
+			}
+		}
+		
+		long get(final long key) {
+			final Table table = this.table;
+			final long[] keys = table.keys;
+			final byte[] states = table.states;
+			@DoNotSub final int mask = keys.length - 1;
+			@DoNotSub int index = Hashing.hash(key, mask);
+			
+			while (0 != UnsafeApi.getByteVolatile(states, STATES_BASE + index)) {
+				if (key == keys[index]) {
+					return UnsafeApi.getLongVolatile(table.values, VALUES_BASE + index * VALUES_SCALE);
+				}
+				
+				index = (index + 1) & mask;
+			}
+			
+			return 0;
+		}
+		
+		void mergeInto(final Long2LongCounterMap map) {
+			final Table table = this.table;
+			final long[] keys = table.keys;
+			final long[] values = table.values;
+			final byte[] states = table.states;
+			for (@DoNotSub int i = 0, length = states.length; i < length; i++) {
+				if (0 != UnsafeApi.getByteVolatile(states, STATES_BASE + i)) {
+					map.getAndAdd(keys[i], UnsafeApi.getLongVolatile(values, VALUES_BASE + i * VALUES_SCALE));
+				}
+			}
+		}
+		
+		/**
+		 * Copy into a table of twice the capacity, which the volatile store of the table field publishes to readers.
+		 */
+		private static Table resize(final Table table) {
+			@DoNotSub final int capacity = table.keys.length << 1;
+			if (capacity < 0) {
+				throw new IllegalStateException("max capacity reached at size=" + table.size);
+			}
+			
+			final Table newTable = new Table(capacity, table.loadFactor);
+			final long[] keys = table.keys;
+			final long[] values = table.values;
+			final byte[] states = table.states;
+			@DoNotSub final int mask = capacity - 1;
+			for (@DoNotSub int i = 0, length = states.length; i < length; i++) {
+				if (0 != states[i]) {
+					@DoNotSub int index = Hashing.hash(keys[i], mask);
+					while (0 != newTable.states[index]) {
+						index = (index + 1) & mask;
+					}
+					
+					newTable.keys[index] = keys[i];
+					newTable.values[index] = values[i];
+					newTable.states[index] = 1;
+				}
+			}
+			newTable.size = table.size;
+			
+			return newTable;
+		}
+	}
+}
@@ -0,0 +1,245 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.Arrays;
+
+import com.ducnh.highperformance.UnsafeApi;
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Counter map from object keys to long counts which many threads can update without locks or boxing of counts. It
+ * works the same way as {@link ConcurrentLong2LongCounterMap}, with a table of deltas per updating thread which reads
+ * merge.
+ */
+public class ConcurrentObject2LongCounterMap<K> {
+	private static @DoNotSub final int MIN_CAPACITY = 8;
+	private static final long KEYS_BASE = UnsafeApi.arrayBaseOffset(Object[].class);
+	private static final long KEYS_SCALE = UnsafeApi.arrayIndexScale(Object[].class);
+	private static final long VALUES_BASE = UnsafeApi.arrayBaseOffset(long[].class);
+	private static final long VALUES_SCALE = UnsafeApi.arrayIndexScale(long[].class);
+	
+	private final long initialValue;
+	private final float loadFactor;
+	private @DoNotSub final int initialCapacity;
+	private final ThreadLocal<Cell> threadCell = ThreadLocal.withInitial(this::newCell);
+	private volatile Cell[] cells = new Cell[0];
+	
+	public ConcurrentObject2LongCounterMap(final long initialValue) {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, initialValue);
+	}
+	
+	/**
+	 * @param initialCapacity of the table in each thread's cell.
+	 * @param initialValue    count of a key which has not been updated.
+	 */
+	public ConcurrentObject2LongCounterMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final long initialValue) {
+		validateLoadFactor(loadFactor);
+		
+		this.initialValue = initialValue;
+		this.loadFactor = loadFactor;
+		this.initialCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+	}
+	
+	public long initialValue() {
+		return initialValue;
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public void increment(final K key) {
+		threadCell.get().add(key, 1);
+	}
+	
+	public void decrement(final K key) {
+		threadCell.get().add(key, -1);
+	}
+	
+	public void add(final K key, final long amount) {
+		threadCell.get().add(key, amount);
+	}
+	
+	/**
+	 * Increment the count for the calling thread and then merge the counts of all threads.
+	 */
+	public long incrementAndGet(final K key) {
+		return addAndGet(key, 1);
+	}
+	
+	public long decrementAndGet(final K key) {
+		return addAndGet(key, -1);
+	}
+	
+	public long addAndGet(final K key, final long amount) {
+		threadCell.get().add(key, amount);
+		return get(key);
+	}
+	
+	public long get(final K key) {
+		long value = initialValue;
+		for (final Cell cell : cells) {
+			value += cell.get(key);
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Merge the counts of all threads into a map which is not affected by later updates, without the keys whose count
+	 * is the initial value.
+	 */
+	@SuppressWarnings("unchecked")
+	public Object2LongCounterMap<K> snapshot() {
+		final Object2LongCounterMap<K> snapshot = new Object2LongCounterMap<>(initialValue);
+		for (final Cell cell : cells) {
+			cell.mergeInto((Object2LongCounterMap<Object>)snapshot);
+		}
+		
+		return snapshot;
+	}
+	
+	/**
+	 * Visit the keys and counts of a {@link #snapshot()}.
+	 */
+	public void forEach(final ObjLongConsumer<K> consumer) {
+		snapshot().forEach(consumer);
+	}
+	
+	public String toString() {
+		return snapshot().toString();
+	}
+	
+	private Cell newCell() {
+		final Cell cell = new Cell(new Table(initialCapacity, loadFactor));
+		synchronized (this) {
+			final Cell[] oldCells = cells;
+			final Cell[] newCells = Arrays.copyOf(oldCells, oldCells.length + 1);
+			newCells[oldCells.length] = cell;
+			cells = newCells;
+		}
+		
+		return cell;
+	}
+	
+	/**
+	 * Table of deltas with a single writer. A slot is published by a release store of its key after the value is
+	 * written, and its value is then updated with opaque stores so readers never see a torn value.
+	 */
+	static final class Table {
+		final Object[] keys;
+		final long[] values;
+		final float loadFactor;
+		@DoNotSub final int resizeThreshold;
+		@DoNotSub int size;
+		
+		Table(
+			@DoNotSub final int capacity,
+			final float loadFactor) {
+			keys = new Object[capacity];
+			values = new long[capacity];
+			this.loadFactor = loadFactor;
+			resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		}
+	}
+	
+	static final class Cell {
+		private volatile Table table;
+		
+		Cell(final Table table) {
+			this.table = table;
+		}
+		
+		void add(final Object key, final long amount) {
+			requireNonNull(key, "key cannot be null");
+			final Table table = this.table;
+			final Object[] keys = table.keys;
+			@DoNotSub final int mask = keys.length - 1;
+			@DoNotSub int index = Hashing.hash(key, mask);
+			
+			Object candidate;
+			while (null != (candidate = keys[index])) {
+				if (key == candidate || key.equals(candidate)) {
+					final long[] values = table.values;
+					UnsafeApi.putLongOpaque(values, VALUES_BASE + index * VALUES_SCALE, values[index] + amount);
+					return;
+				}
+				
+				index = (index + 1) & mask;
+			}
+			
+			table.values[index] = amount;
+			UnsafeApi.putReferenceRelease(keys, KEYS_BASE + index * KEYS_SCALE, key);
+			
+			if (++table.size > table.resizeThreshold) {
+				this.table = resize(table);
+			}
+		}
+		
+		long get(final Object key) {
+			final Table table = this.table;
+			final Object[] keys = table.keys;
+			@DoNotSub final int mask = keys.length - 1;
+			@DoNotSub int index = Hashing.hash(key, mask);
+			
+			Object candidate;
+			while (null != (candidate = UnsafeApi.getReferenceVolatile(keys, KEYS_BASE + index * KEYS_SCALE))) {
+				if (key == candidate || key.equals(candidate)) {
+					return UnsafeApi.getLongVolatile(table.values, VALUES_BASE + index * VALUES_SCALE);
+				}
+				
+				index = (index + 1) & mask;
+			}
+			
+			return 0;
+		}
+		
+		void mergeInto(final Object2LongCounterMap<Object> map) {
+			final Table table = this.table;
+			final Object[] keys = table.keys;
+			final long[] values = table.values;
+			for (@DoNotSub int i = 0, length = keys.length; i < length; i++) {
+				final Object key = UnsafeApi.getReferenceVolatile(keys, KEYS_BASE + i * KEYS_SCALE);
+				if (null != key) {
+					map.getAndAdd(key, UnsafeApi.getLongVolatile(values, VALUES_BASE + i * VALUES_SCALE));
+				}
+			}
+		}
+		
+		/**
+		 * Copy into a table of twice the capacity, which the volatile store of the table field publishes to readers.
+		 */
+		private static Table resize(final Table table) {
+			@DoNotSub final int capacity = table.keys.length << 1;
+			if (capacity < 0) {
+				throw new IllegalStateException("max capacity reached at size=" + table.size);
+			}
+			
+			final Table newTable = new Table(capacity, table.loadFactor);
+			final Object[] keys = table.keys;
+			final long[] values = table.values;
+			@DoNotSub final int mask = capacity - 1;
+			for (@DoNotSub int i = 0, length = keys.length; i < length; i++) {
+				final Object key = keys[i];
+				if (null != key) {
+					@DoNotSub int index = Hashing.hash(key, mask);
+					while (null != newTable.keys[index]) {
+						index = (index + 1) & mask;
+					}
+					
+					newTable.keys[index] = key;
+					newTable.values[index] = values[i];
+				}
+			}
+			newTable.size = table.size;
+			
+			return newTable;
+		}
+	}
+}
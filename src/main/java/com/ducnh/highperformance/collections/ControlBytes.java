@@ -0,0 +1,100 @@
+package com.ducnh.highperformance.collections;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.ducnh.highperformance.UnsafeApi;
+
+import static com.ducnh.highperformance.BufferUtil.ARRAY_BASE_OFFSET;
+import static com.ducnh.highperformance.BufferUtil.NATIVE_BYTE_ORDER;
+
+/**
+ * Control bytes for open addressing tables which keep 7 bits of the hash of each slot alongside the keys, in the style
+ * of SwissTable. A group of 8 slots is tested at once by treating its control bytes as a long, so keys are only compared
+ * with {@code equals} when their hash bits match.
+ * <p>
+ * A full slot holds a tag in the range 0 to 127 and an empty slot has the high bit set. The array is
+ * {@link #GROUP_WIDTH} longer than the table, with the first group mirrored at the end so a group can be read at any
+ * slot without wrapping.
+ */
+final class ControlBytes {
+	static final byte EMPTY = (byte)0x80;
+	static final int GROUP_WIDTH = 8;
+	
+	private static final long LSB = 0x0101_0101_0101_0101L;
+	private static final long MSB = 0x8080_8080_8080_8080L;
+	private static final boolean IS_LITTLE_ENDIAN = ByteOrder.LITTLE_ENDIAN == NATIVE_BYTE_ORDER;
+	
+	private ControlBytes() {
+	
+	}
+	
+	static byte[] allocate(final int capacity) {
+		final byte[] controls = new byte[capacity + GROUP_WIDTH];
+		Arrays.fill(controls, EMPTY);
+		return controls;
+	}
+	
+	static void clear(final byte[] controls) {
+		Arrays.fill(controls, EMPTY);
+	}
+	
+	/**
+	 * Tag from the high bits of a mixed hash, which are independent of the low bits used for the slot index.
+	 */
+	static byte tag(final int hash) {
+		return (byte)(hash >>> 25);
+	}
+	
+	static long broadcast(final byte tag) {
+		return (tag & 0xFFL) * LSB;
+	}
+	
+	/**
+	 * Control bytes of the 8 slots starting at index, with the byte of the first slot in the lowest bits.
+	 */
+	static long group(final byte[] controls, final int index) {
+		final long group = UnsafeApi.getLong(controls, ARRAY_BASE_OFFSET + index);
+		return IS_LITTLE_ENDIAN ? group : Long.reverseBytes(group);
+	}
+	
+	/**
+	 * High bit set in each byte of the group which may match the broadcast tag. There can be false positives, but only
+	 * on full slots, so a match must still be confirmed by comparing keys.
+	 */
+	static long matchTag(final long group, final long broadcastTag) {
+		final long x = group ^ broadcastTag;
+		return (x - LSB) & ~x & MSB;
+	}
+	
+	static long matchEmpty(final long group) {
+		return group & MSB;
+	}
+	
+	/**
+	 * Offset within the group of the lowest match.
+	 */
+	static int firstOffset(final long matches) {
+		return Long.numberOfTrailingZeros(matches) >>> 3;
+	}
+	
+	/**
+	 * First empty slot in probe order for a hash, for inserting a key which is known to be absent.
+	 */
+	static int findEmpty(final byte[] controls, final int hash, final int mask) {
+		int index = hash & mask;
+		long empty;
+		while (0 == (empty = matchEmpty(group(controls, index)))) {
+			index = (index + GROUP_WIDTH) & mask;
+		}
+		
+		return (index + firstOffset(empty)) & mask;
+	}
+	
+	static void set(final byte[] controls, final int index, final byte control) {
+		controls[index] = control;
+		if (index < GROUP_WIDTH) {
+			controls[index + controls.length - GROUP_WIDTH] = control;
+		}
+	}
+}
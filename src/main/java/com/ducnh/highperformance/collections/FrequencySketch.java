@@ -0,0 +1,95 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.Arrays;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+
+/**
+ * Count-min sketch of 4-bit counters estimating how often a hash has been seen, for the admission filter of
+ * {@link CacheEvictionPolicy#TINY_LFU}.
+ * <p>
+ * Each long holds 16 counters and a hash updates 4 of them in different longs. Once the number of increments reaches
+ * 10 times the capacity all counters are halved, so the estimate ages towards recent use.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+		0xC3A5_C85C_97CB_3127L, 0xB492_B66F_BE98_F273L, 0x9AE1_6A3B_2F90_404FL, 0xCBF2_9CE4_8422_2325L };
+	private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+	private static final long ONE_MASK = 0x1111_1111_1111_1111L;
+	private static final int MAX_TABLE_LENGTH = 1 << 26;
+	
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions;
+	
+	FrequencySketch(final int capacity) {
+		final int length = findNextPositivePowerOfTwo(Math.max(8, Math.min(capacity, MAX_TABLE_LENGTH)));
+		table = new long[length];
+		tableMask = length - 1;
+		sampleSize = (int)Math.min(10L * capacity, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * @param hash of the key, which should already be mixed.
+	 * @return estimated count in the range 0 to 15.
+	 */
+	int frequency(final int hash) {
+		final int start = (hash & 3) << 2;
+		int frequency = 15;
+		for (int i = 0; i < 4; i++) {
+			final int index = indexOf(hash, i);
+			final int count = (int)((table[index] >>> ((start + i) << 2)) & 0xFL);
+			frequency = Math.min(frequency, count);
+		}
+		
+		return frequency;
+	}
+	
+	void increment(final int hash) {
+		final int start = (hash & 3) << 2;
+		boolean added = false;
+		for (int i = 0; i < 4; i++) {
+			added |= incrementAt(indexOf(hash, i), start + i);
+		}
+		
+		if (added && ++additions >= sampleSize) {
+			reset();
+		}
+	}
+	
+	void clear() {
+		Arrays.fill(table, 0);
+		additions = 0;
+	}
+	
+	private boolean incrementAt(final int index, final int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xFL << offset;
+		if ((table[index] & mask) != mask) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		
+		return false;
+	}
+	
+	private int indexOf(final int hash, final int i) {
+		long h = (hash + SEEDS[i]) * SEEDS[i];
+		h += h >>> 32;
+		return (int)h & tableMask;
+	}
+	
+	/**
+	 * Halve every counter. The additions count drops by the truncated halves so it stays in step with the counters.
+	 */
+	private void reset() {
+		int odd = 0;
+		for (int i = 0; i < table.length; i++) {
+			odd += Long.bitCount(table[i] & ONE_MASK);
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		
+		additions = (additions - (odd >>> 2)) >>> 1;
+	}
+}
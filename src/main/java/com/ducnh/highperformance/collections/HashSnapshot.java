@@ -0,0 +1,552 @@
+package com.ducnh.highperformance.collections;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.ducnh.highperformance.BitUtil;
+import com.ducnh.highperformance.BufferUtil;
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.IOUtil;
+import com.ducnh.highperformance.LangUtil;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.UnsafeApi;
+import com.ducnh.highperformance.checksum.Crc32c;
+import com.ducnh.highperformance.checksum.IncrementalChecksum;
+import com.ducnh.highperformance.concurrent.UnsafeBuffer;
+
+import static com.ducnh.highperformance.BufferUtil.ARRAY_BASE_OFFSET;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Binary snapshot of the arrays behind an open addressing collection, so it can be restored by bulk copy rather than
+ * by inserting each entry again.
+ * <p>
+ * A snapshot is a {@link #HEADER_LENGTH} byte header followed by the payload, which is the backing arrays copied as
+ * they are in native byte order. The header records the shape of the collection, the length of the payload and a
+ * CRC-32C of the payload, and is itself protected by a CRC-32C. Snapshots are written to a
+ * {@link MutableDirectBuffer} or to a file, which is accessed through memory mapped windows so it may exceed 2GB.
+ */
+final class HashSnapshot {
+	static final int MAGIC = 0x50534E48;
+	static final int VERSION = 1;
+	
+	static final int KIND_HASH_MAP = 1;
+	static final int KIND_OBJECT_HASH_MAP = 2;
+	static final int KIND_HASH_SET = 3;
+	
+	static final int FLAG_SHOULD_AVOID_ALLOCATION = 1;
+	static final int FLAG_CONTAINS_MISSING_VALUE = 2;
+	
+	static final int MAGIC_OFFSET = 0;
+	static final int VERSION_OFFSET = 4;
+	static final int KIND_OFFSET = 8;
+	static final int KEY_LENGTH_OFFSET = 12;
+	static final int CAPACITY_OFFSET = 16;
+	static final int SIZE_OFFSET = 20;
+	static final int LOAD_FACTOR_OFFSET = 24;
+	static final int FLAGS_OFFSET = 28;
+	static final int MISSING_VALUE_OFFSET = 32;
+	static final int PAYLOAD_LENGTH_OFFSET = 40;
+	static final int PAYLOAD_CHECKSUM_OFFSET = 48;
+	static final int HEADER_CHECKSUM_OFFSET = 56;
+	static final int HEADER_LENGTH = 64;
+	
+	/**
+	 * Value record length for an empty slot of an object map.
+	 */
+	static final int NULL_VALUE_LENGTH = -1;
+	
+	static final int WINDOW_LENGTH = 1 << 26;
+	
+	private static final long INT_ARRAY_BASE = UnsafeApi.arrayBaseOffset(int[].class);
+	private static final long LONG_ARRAY_BASE = UnsafeApi.arrayBaseOffset(long[].class);
+	
+	private HashSnapshot() {
+	}
+	
+	/**
+	 * Length of the snapshot of a collection whose payload is a single array.
+	 */
+	static long length(final int arrayLength, final int elementLength) {
+		return HEADER_LENGTH + (long)arrayLength * elementLength;
+	}
+	
+	static Writer writer(final MutableDirectBuffer buffer, final int index) {
+		return new Writer(new BufferMemory(buffer, index));
+	}
+	
+	/**
+	 * Create or truncate a file to write a snapshot to.
+	 */
+	static Writer writer(final File file) {
+		try {
+			return new Writer(new FileMemory(
+				FileChannel.open(file.toPath(), CREATE, TRUNCATE_EXISTING, READ, WRITE), FileChannel.MapMode.READ_WRITE));
+		} catch (final IOException ex) {
+			LangUtil.rethrowUnchecked(ex);
+			return null;
+		}
+	}
+	
+	static Reader reader(
+		final DirectBuffer buffer,
+		final int index,
+		final int kind,
+		final int keyLength) {
+		return new Reader(new BufferMemory(buffer, index), kind, keyLength);
+	}
+	
+	static Reader reader(
+		final File file,
+		final int kind,
+		final int keyLength) {
+		IOUtil.checkFileExists(file, "snapshot");
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(file.toPath(), READ);
+			return new Reader(new FileMemory(channel, FileChannel.MapMode.READ_ONLY), kind, keyLength);
+		} catch (final IOException ex) {
+			LangUtil.rethrowUnchecked(ex);
+			return null;
+		} catch (final RuntimeException ex) {
+			closeQuietly(channel);
+			throw ex;
+		}
+	}
+	
+	private static void closeQuietly(final FileChannel channel) {
+		if (null != channel) {
+			try {
+				channel.close();
+			} catch (final IOException ignore) {
+			}
+		}
+	}
+	
+	private static int headerChecksum(final DirectBuffer header) {
+		return (int)Crc32c.INSTANCE.newIncremental().update(header, 0, HEADER_CHECKSUM_OFFSET).digest();
+	}
+	
+	private static void update(
+		final IncrementalChecksum checksum,
+		final Object base,
+		final long address,
+		final int length) {
+		if (null == base) {
+			checksum.update(address, 0, length);
+		}
+		else {
+			checksum.update((byte[])base, (int)(address - ARRAY_BASE_OFFSET), length);
+		}
+	}
+	
+	/**
+	 * Writes the payload as it is given and then the header, which completes the snapshot.
+	 */
+	static final class Writer implements AutoCloseable {
+		private final Memory memory;
+		private final IncrementalChecksum checksum = Crc32c.INSTANCE.newIncremental();
+		private final UnsafeBuffer scratch = new UnsafeBuffer(new byte[HEADER_LENGTH]);
+		private long position = HEADER_LENGTH;
+		
+		private Writer(final Memory memory) {
+			this.memory = memory;
+		}
+		
+		void putIntArray(final int[] array) {
+			put(array, INT_ARRAY_BASE, (long)array.length * Integer.BYTES);
+		}
+		
+		void putLongArray(final long[] array) {
+			put(array, LONG_ARRAY_BASE, (long)array.length * Long.BYTES);
+		}
+		
+		void putInt(final int value) {
+			scratch.putInt(0, value);
+			put(scratch.byteArray(), scratch.addressOffset(), Integer.BYTES);
+		}
+		
+		void putBytes(final DirectBuffer buffer, final int length) {
+			buffer.boundsCheck(0, length);
+			put(buffer.byteArray(), buffer.addressOffset(), length);
+		}
+		
+		/**
+		 * Write the header for the payload written so far.
+		 *
+		 * @return total length of the snapshot.
+		 */
+		long finish(
+			final int kind,
+			final int keyLength,
+			final int capacity,
+			final int size,
+			final float loadFactor,
+			final int flags,
+			final long missingValue) {
+			final UnsafeBuffer header = scratch;
+			header.setMemory(0, HEADER_LENGTH, (byte)0);
+			header.putInt(MAGIC_OFFSET, MAGIC);
+			header.putInt(VERSION_OFFSET, VERSION);
+			header.putInt(KIND_OFFSET, kind);
+			header.putInt(KEY_LENGTH_OFFSET, keyLength);
+			header.putInt(CAPACITY_OFFSET, capacity);
+			header.putInt(SIZE_OFFSET, size);
+			header.putFloat(LOAD_FACTOR_OFFSET, loadFactor);
+			header.putInt(FLAGS_OFFSET, flags);
+			header.putLong(MISSING_VALUE_OFFSET, missingValue);
+			header.putLong(PAYLOAD_LENGTH_OFFSET, position - HEADER_LENGTH);
+			header.putLong(PAYLOAD_CHECKSUM_OFFSET, checksum.digest());
+			header.putInt(HEADER_CHECKSUM_OFFSET, headerChecksum(header));
+			
+			final Memory memory = this.memory;
+			memory.window(0, HEADER_LENGTH);
+			UnsafeApi.copyMemory(header.byteArray(), header.addressOffset(), memory.base, memory.address, HEADER_LENGTH);
+			memory.finish(position);
+			
+			return position;
+		}
+		
+		public void close() {
+			memory.close();
+		}
+		
+		private void put(final Object src, final long srcAddress, final long length) {
+			final Memory memory = this.memory;
+			long offset = 0;
+			while (offset < length) {
+				memory.window(position, length - offset);
+				final int chunk = (int)Math.min(length - offset, memory.length);
+				UnsafeApi.copyMemory(src, srcAddress + offset, memory.base, memory.address, chunk);
+				update(checksum, memory.base, memory.address, chunk);
+				offset += chunk;
+				position += chunk;
+			}
+		}
+	}
+	
+	/**
+	 * Verifies the header on creation and then reads the payload in the order it was written. The payload checksum is
+	 * accumulated as it is read and checked by {@link #verify()} once it has all been read.
+	 */
+	static final class Reader implements AutoCloseable {
+		private final Memory memory;
+		private final IncrementalChecksum checksum = Crc32c.INSTANCE.newIncremental();
+		private final UnsafeBuffer header = new UnsafeBuffer(new byte[HEADER_LENGTH]);
+		private final UnsafeBuffer scratch = new UnsafeBuffer(new byte[Long.BYTES]);
+		private long position = HEADER_LENGTH;
+		
+		private Reader(
+			final Memory memory,
+			final int kind,
+			final int keyLength) {
+			this.memory = memory;
+			try {
+				if (memory.available() < HEADER_LENGTH) {
+					throw new IllegalStateException("snapshot truncated: length=" + memory.available());
+				}
+				
+				memory.window(0, HEADER_LENGTH);
+				UnsafeApi.copyMemory(memory.base, memory.address, header.byteArray(), header.addressOffset(), HEADER_LENGTH);
+				verifyHeader(kind, keyLength);
+			} catch (final RuntimeException ex) {
+				memory.close();
+				throw ex;
+			}
+		}
+		
+		int capacity() {
+			return header.getInt(CAPACITY_OFFSET);
+		}
+		
+		int size() {
+			return header.getInt(SIZE_OFFSET);
+		}
+		
+		float loadFactor() {
+			return header.getFloat(LOAD_FACTOR_OFFSET);
+		}
+		
+		int flags() {
+			return header.getInt(FLAGS_OFFSET);
+		}
+		
+		/**
+		 * Missing value of a collection with int values, which the header holds widened to a long.
+		 */
+		int intMissingValue() {
+			return (int)header.getLong(MISSING_VALUE_OFFSET);
+		}
+		
+		long longMissingValue() {
+			return header.getLong(MISSING_VALUE_OFFSET);
+		}
+		
+		long payloadLength() {
+			return header.getLong(PAYLOAD_LENGTH_OFFSET);
+		}
+		
+		void getIntArray(final int[] array) {
+			get(array, INT_ARRAY_BASE, (long)array.length * Integer.BYTES);
+		}
+		
+		void getLongArray(final long[] array) {
+			get(array, LONG_ARRAY_BASE, (long)array.length * Long.BYTES);
+		}
+		
+		int getInt() {
+			get(scratch.byteArray(), scratch.addressOffset(), Integer.BYTES);
+			return scratch.getInt(0);
+		}
+		
+		/**
+		 * @throws IllegalStateException if the length is negative or runs past the payload.
+		 */
+		void getBytes(final MutableDirectBuffer buffer, final int length) {
+			if (length < 0 || length > remaining()) {
+				throw new IllegalStateException("invalid snapshot record length=" + length + " remaining=" + remaining());
+			}
+			
+			buffer.checkLimit(length);
+			get(buffer.byteArray(), buffer.addressOffset(), length);
+		}
+		
+		/**
+		 * Check the payload checksum before any of the payload is read, for payloads which are decoded rather than
+		 * copied so that corruption is reported before it reaches a decoder.
+		 *
+		 * @throws IllegalStateException if the payload does not match the header.
+		 */
+		void verifyChecksum() {
+			final IncrementalChecksum checksum = Crc32c.INSTANCE.newIncremental();
+			final Memory memory = this.memory;
+			final long end = HEADER_LENGTH + payloadLength();
+			long position = HEADER_LENGTH;
+			while (position < end) {
+				memory.window(position, end - position);
+				final int chunk = (int)Math.min(end - position, memory.length);
+				update(checksum, memory.base, memory.address, chunk);
+				position += chunk;
+			}
+			
+			if (checksum.digest() != header.getLong(PAYLOAD_CHECKSUM_OFFSET)) {
+				throw new IllegalStateException("snapshot payload checksum mismatch");
+			}
+		}
+		
+		/**
+		 * @throws IllegalStateException if the payload read does not match the header.
+		 */
+		void verify() {
+			final long payloadLength = payloadLength();
+			if (position - HEADER_LENGTH != payloadLength) {
+				throw new IllegalStateException(
+					"snapshot payload length mismatch: header=" + payloadLength + " read=" + (position - HEADER_LENGTH));
+			}
+			
+			if (checksum.digest() != header.getLong(PAYLOAD_CHECKSUM_OFFSET)) {
+				throw new IllegalStateException("snapshot payload checksum mismatch");
+			}
+		}
+		
+		public void close() {
+			memory.close();
+		}
+		
+		private void verifyHeader(final int kind, final int keyLength) {
+			final int magic = header.getInt(MAGIC_OFFSET);
+			if (MAGIC != magic) {
+				throw new IllegalStateException(Integer.reverseBytes(MAGIC) == magic ?
+					"snapshot written with a different byte order" : "not a snapshot: magic=" + magic);
+			}
+			
+			if (VERSION != header.getInt(VERSION_OFFSET)) {
+				throw new IllegalStateException("unsupported snapshot version: " + header.getInt(VERSION_OFFSET));
+			}
+			
+			if (headerChecksum(header) != header.getInt(HEADER_CHECKSUM_OFFSET)) {
+				throw new IllegalStateException("snapshot header checksum mismatch");
+			}
+			
+			if (kind != header.getInt(KIND_OFFSET) || keyLength != header.getInt(KEY_LENGTH_OFFSET)) {
+				throw new IllegalStateException("snapshot is of a different collection: kind=" +
+					header.getInt(KIND_OFFSET) + " keyLength=" + header.getInt(KEY_LENGTH_OFFSET));
+			}
+			
+			final int capacity = capacity();
+			if (capacity <= 0 || !BitUtil.isPowerOfTwo(capacity) || size() < 0 || size() > capacity) {
+				throw new IllegalStateException("invalid snapshot capacity=" + capacity + " size=" + size());
+			}
+			
+			final long payloadLength = payloadLength();
+			if (payloadLength < 0 || payloadLength > memory.available() - HEADER_LENGTH) {
+				throw new IllegalStateException("snapshot truncated: payloadLength=" + payloadLength +
+					" available=" + (memory.available() - HEADER_LENGTH));
+			}
+			
+			if ((long)capacity * keyLength > payloadLength) {
+				throw new IllegalStateException(
+					"invalid snapshot capacity=" + capacity + " payloadLength=" + payloadLength);
+			}
+		}
+		
+		private long remaining() {
+			return HEADER_LENGTH + payloadLength() - position;
+		}
+		
+		private void get(final Object dst, final long dstAddress, final long length) {
+			if (length > remaining()) {
+				throw new IllegalStateException("snapshot payload overrun: length=" + length + " remaining=" + remaining());
+			}
+			
+			final Memory memory = this.memory;
+			long offset = 0;
+			while (offset < length) {
+				memory.window(position, length - offset);
+				final int chunk = (int)Math.min(length - offset, memory.length);
+				update(checksum, memory.base, memory.address, chunk);
+				UnsafeApi.copyMemory(memory.base, memory.address, dst, dstAddress + offset, chunk);
+				offset += chunk;
+				position += chunk;
+			}
+		}
+	}
+	
+	/**
+	 * Window onto the memory holding a snapshot, which is set by {@link #window(long, long)} to start at a position
+	 * and run for at least one byte.
+	 */
+	private abstract static class Memory implements AutoCloseable {
+		Object base;
+		long address;
+		int length;
+		
+		/**
+		 * @param position of the window start from the start of the snapshot.
+		 * @param required number of bytes wanted from the position, of which the window may hold fewer.
+		 * @throws IndexOutOfBoundsException if there is no memory at the position.
+		 */
+		abstract void window(long position, long required);
+		
+		/**
+		 * Number of bytes from the start of the snapshot which can be read.
+		 */
+		abstract long available();
+		
+		void finish(final long length) {
+		}
+		
+		public void close() {
+		}
+	}
+	
+	private static final class BufferMemory extends Memory {
+		private final DirectBuffer buffer;
+		private final int index;
+		
+		BufferMemory(final DirectBuffer buffer, final int index) {
+			buffer.boundsCheck(index, 0);
+			this.buffer = buffer;
+			this.index = index;
+		}
+		
+		void window(final long position, final long required) {
+			final long available = (long)buffer.capacity() - index - position;
+			if (available < required) {
+				throw new IndexOutOfBoundsException("snapshot exceeds buffer: index=" + index +
+					" position=" + position + " required=" + required + " capacity=" + buffer.capacity());
+			}
+			
+			base = buffer.byteArray();
+			address = buffer.addressOffset() + index + position;
+			length = (int)available;
+		}
+		
+		long available() {
+			return (long)buffer.capacity() - index;
+		}
+	}
+	
+	/**
+	 * Maps the file in aligned windows of {@link #WINDOW_LENGTH}, growing it as needed when writing.
+	 */
+	private static final class FileMemory extends Memory {
+		private final FileChannel channel;
+		private final FileChannel.MapMode mode;
+		private final long fileLength;
+		private MappedByteBuffer mappedBuffer;
+		private long windowStart;
+		private long windowAddress;
+		private int windowLength;
+		
+		FileMemory(final FileChannel channel, final FileChannel.MapMode mode) throws IOException {
+			this.channel = channel;
+			this.mode = mode;
+			fileLength = FileChannel.MapMode.READ_ONLY == mode ? channel.size() : Long.MAX_VALUE;
+		}
+		
+		void window(final long position, final long required) {
+			if (null == mappedBuffer || position < windowStart || position >= windowStart + windowLength) {
+				map(position & -WINDOW_LENGTH);
+			}
+			
+			final int offset = (int)(position - windowStart);
+			if (offset >= windowLength) {
+				throw new IndexOutOfBoundsException(
+					"snapshot truncated: position=" + position + " fileLength=" + fileLength);
+			}
+			
+			base = null;
+			address = windowAddress + offset;
+			length = windowLength - offset;
+		}
+		
+		long available() {
+			return fileLength;
+		}
+		
+		void finish(final long length) {
+			unmap();
+			try {
+				channel.truncate(length);
+			} catch (final IOException ex) {
+				LangUtil.rethrowUnchecked(ex);
+			}
+		}
+		
+		public void close() {
+			unmap();
+			closeQuietly(channel);
+		}
+		
+		private void map(final long start) {
+			unmap();
+			final int length = (int)Math.min(WINDOW_LENGTH, fileLength - start);
+			if (length <= 0) {
+				throw new IndexOutOfBoundsException("snapshot truncated: position=" + start + " fileLength=" + fileLength);
+			}
+			
+			try {
+				mappedBuffer = channel.map(mode, start, length);
+			} catch (final IOException ex) {
+				LangUtil.rethrowUnchecked(ex);
+			}
+			
+			windowStart = start;
+			windowAddress = BufferUtil.address(mappedBuffer);
+			windowLength = length;
+		}
+		
+		private void unmap() {
+			if (null != mappedBuffer) {
+				IOUtil.unmap(mappedBuffer);
+				mappedBuffer = null;
+			}
+		}
+	}
+}
@@ -6,12 +6,14 @@ import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadF
 import java.util.Arrays;
 import java.util.function.IntUnaryOperator;
 
+import com.ducnh.highperformance.generation.DoNotSub;
+
 public class Int2IntCounterMap {
-	private static final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int MIN_CAPACITY = 8;
 	private final float loadFactor;
 	private final int initialValue;
-	private int resizeThreshold;
-	private int size = 0;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size = 0;
 	
 	private int[] entries;
 	
@@ -20,7 +22,7 @@ public class Int2IntCounterMap {
 	}
 	
 	public Int2IntCounterMap(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final float loadFactor, 
 			final int initialValue) {
 		validateLoadFactor(loadFactor);
@@ -39,15 +41,15 @@ public class Int2IntCounterMap {
 		return loadFactor;
 	}
 	
-	public int resizeThreshold() {
+	public @DoNotSub int resizeThreshold() {
 		return resizeThreshold;
 	}
 	
-	public int capacity () {
+	public @DoNotSub int capacity () {
 		return entries.length >> 1;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return size;
 	}
 	
@@ -58,8 +60,8 @@ public class Int2IntCounterMap {
 	public int get(final int key) {
 		final int initialValue = this.initialValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		int value;
 		while (initialValue != (value = entries[index + 1])) {
 			if (key == entries[index]) {
@@ -77,8 +79,8 @@ public class Int2IntCounterMap {
 		}
 		
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (initialValue != (oldValue = entries[index + 1])) {
@@ -121,8 +123,8 @@ public class Int2IntCounterMap {
 	public int getAndAdd(final int key, final int amount) {
 		final int initialValue = this.initialValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (initialValue != (oldValue = entries[index + 1])) {
@@ -152,10 +154,10 @@ public class Int2IntCounterMap {
 	public void forEach(final IntIntConsumer consumer) {
 		final int initialValue = this.initialValue;
 		final int[] entries = this.entries;
-		final int length = entries.length;
-		int remaining = size;
+		@DoNotSub final int length = entries.length;
+		@DoNotSub int remaining = size;
 		
-		for (int i = 1; remaining > 0 && i < length; i += 2) {
+		for (@DoNotSub int i = 1; remaining > 0 && i < length; i += 2) {
 			final int value = entries[i];
 			if (initialValue != value) {
 				consumer.accept(entries[i-1], value);
@@ -172,8 +174,8 @@ public class Int2IntCounterMap {
 		boolean found = false;
 		if (initialValue != value) {
 			final int[] entries = this.entries;
-			final int length = entries.length;
-			for (int i = 1; i < length; i += 2) {
+			@DoNotSub final int length = entries.length;
+			for (@DoNotSub int i = 1; i < length; i += 2) {
 				if (value == entries[i]) {
 					found = true;
 					break;
@@ -192,7 +194,7 @@ public class Int2IntCounterMap {
 	
 	
 	public void compact() {
-		final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
+		@DoNotSub final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
 		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
 	}
 	
@@ -210,8 +212,8 @@ public class Int2IntCounterMap {
 	public int remove(final int key) {
 		final int initialValue = this.initialValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (initialValue != (oldValue = entries[keyIndex + 1])) {
@@ -233,8 +235,8 @@ public class Int2IntCounterMap {
 		int min = 0 == size ? initialValue : Integer.MAX_VALUE;
 		
 		final int[] entries = this.entries;
-		final int length = entries.length;
-		for (int i = 1; i < length; i+=2) {
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int i = 1; i < length; i+=2) {
 			final int value = entries[i];
 			if (initialValue != value) {
 				min = Math.min(min, value);
@@ -248,8 +250,8 @@ public class Int2IntCounterMap {
 		int max = 0 == size ? initialValue : Integer.MIN_VALUE;
 		
 		final int[] entries = this.entries;
-		int length = entries.length;
-		for (int i = 1; i < length; i += 2 ) {
+		@DoNotSub int length = entries.length;
+		for (@DoNotSub int i = 1; i < length; i += 2 ) {
 			final int value = entries[i];
 			if (initialValue != value) {
 				max = Math.max(max, value);
@@ -264,9 +266,9 @@ public class Int2IntCounterMap {
 		
 		final int initialValue = this.initialValue;
 		final int[] entries = this.entries;
-		final int length = entries.length;
+		@DoNotSub final int length = entries.length;
 		
-		for (int i = 1; i < length; i += 2) {
+		for (@DoNotSub int i = 1; i < length; i += 2) {
 			final int value = entries[i];
 			if (value != initialValue) {
 				sb.append(entries[i - 1]).append('=').append(value).append(", ");
@@ -281,16 +283,16 @@ public class Int2IntCounterMap {
 		return sb.toString();
 	}
 	
-	private static int next(final int index, final int mask) {
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
 		return (index + 2) & mask;
 	}
 	
 	@SuppressWarnings("FinalParameters")
-	private void compactChain(int deleteKeyIndex) {
+	private void compactChain(@DoNotSub int deleteKeyIndex) {
 		final int initialValue = this.initialValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = deleteKeyIndex;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = deleteKeyIndex;
 		
 		while (true) {
 			index = next(index, mask);
@@ -299,7 +301,7 @@ public class Int2IntCounterMap {
 				break;
 			}
 			final int key = entries[index];
-			final int hash = Hashing.evenHash(key, mask);
+			@DoNotSub final int hash = Hashing.evenHash(key, mask);
 			
 			if ((index < hash && (hash <= deleteKeyIndex || deleteKeyIndex <= index)) || (
 					hash <= deleteKeyIndex && deleteKeyIndex <= index)) {
@@ -311,38 +313,38 @@ public class Int2IntCounterMap {
 		}
 	}
 	
-	private void capacity(final int newCapacity) {
-		final int entriesLength =  newCapacity * 2;
+	private void capacity(@DoNotSub final int newCapacity) {
+		@DoNotSub final int entriesLength =  newCapacity * 2;
 		if (entriesLength < 0) {
 			throw new IllegalStateException("max capacity reacehd at size=" + size);
 		}
 		
-		resizeThreshold = (int) (newCapacity * loadFactor);
+		resizeThreshold = (int) (newCapacity * loadFactor); // @DoNotSub
 		entries = new int[entriesLength];
 		Arrays.fill(entries, initialValue);
 	}
 	
 	private void increaseCapacity() {
 		if (size > resizeThreshold) {
-			final int newCapacity = entries.length;
+			@DoNotSub final int newCapacity = entries.length;
 			rehash(newCapacity);
 		}
 	}
 	
-	private void rehash(final int newCapacity) {
+	private void rehash(@DoNotSub final int newCapacity) {
 		final int initialValue = this.initialValue;
 		final int[] oldEntries = entries;
-		final int length = oldEntries.length;
+		@DoNotSub final int length = oldEntries.length;
 		
 		capacity(newCapacity);
 		final int[] newEntries = entries;
-		final int mask = newEntries.length - 1;
+		@DoNotSub final int mask = newEntries.length - 1;
 		
-		for (int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
 			final int value = oldEntries[valueIndex];
 			if (value != initialValue) {
 				final int key = oldEntries[valueIndex - 1];
-				int newKeyIndex = Hashing.evenHash(key, mask);
+				@DoNotSub int newKeyIndex = Hashing.evenHash(key, mask);
 				
 				while (initialValue != newEntries[newKeyIndex + 1]) {
 					newKeyIndex = next(newKeyIndex, mask);
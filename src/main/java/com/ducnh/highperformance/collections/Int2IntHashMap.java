@@ -1,5 +1,6 @@
 package com.ducnh.highperformance.collections;
 
+import java.io.File;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -16,19 +17,28 @@ import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Iterator;
 
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.generation.DoNotSub;
+
 import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
 import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
 
 public class Int2IntHashMap implements Map<Integer, Integer>{
-	static final int MIN_CAPACITY = 8;
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int NONE = -1;
 	
 	private final float loadFactor;
 	private final int missingValue;
-	private int resizeThreshold;
-	private int size = 0;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size = 0;
 	private final boolean shouldAvoidAllocation;
 	
 	private int[] entries;
+	private @DoNotSub int rehashSlotsPerOperation;
+	private int[] rehashEntries;
+	private @DoNotSub int rehashIndex;
+	private @DoNotSub int rehashRemaining;
 	private KeySet keySet;
 	private ValueCollection values;
 	private EntrySet entrySet;
@@ -37,14 +47,15 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, missingValue);
 	}
 	
-	public Int2IntHashMap(final int initialCapacity, 
+	public Int2IntHashMap(
+			@DoNotSub final int initialCapacity,
 			final float loadFactor,
 			final int missingValue) {
 		this(initialCapacity, loadFactor, missingValue, true);
 	}
 	
 	public Int2IntHashMap(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final float loadFactor,
 			final int missingValue,
 			final boolean shouldAvoidAllocation) {
@@ -58,15 +69,35 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public Int2IntHashMap(final Int2IntHashMap mapToCopy) {
+			mapToCopy.completeRehash();
 			this.loadFactor = mapToCopy.loadFactor;
 			this.resizeThreshold = mapToCopy.resizeThreshold;
 			this.size = mapToCopy.size;
 			this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
 			this.missingValue = mapToCopy.missingValue;
+			this.rehashSlotsPerOperation = mapToCopy.rehashSlotsPerOperation;
 			
 			entries = mapToCopy.entries.clone();
 	}
 	
+	private Int2IntHashMap(final HashSnapshot.Reader reader) {
+		loadFactor = reader.loadFactor();
+		validateLoadFactor(loadFactor);
+		missingValue = reader.intMissingValue();
+		shouldAvoidAllocation = 0 != (reader.flags() & HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION);
+		
+		@DoNotSub final int capacity = reader.capacity();
+		@DoNotSub final int entriesLength = capacity * 2;
+		if (entriesLength < 0) {
+			throw new IllegalStateException("snapshot capacity too large: " + capacity);
+		}
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		size = reader.size();
+		entries = new int[entriesLength];
+		reader.getIntArray(entries);
+		reader.verify();
+	}
+	
 	public int missingValue() {
 		return missingValue;
 	}
@@ -75,15 +106,15 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 		return loadFactor;
 	}
 	
-	public int capacity() {
+	public @DoNotSub int capacity() {
 		return entries.length >> 1;
 	}
 	
-	public int resizeThreshold() {
+	public @DoNotSub int resizeThreshold() {
 		return resizeThreshold;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return size;
 	}
 	
@@ -91,16 +122,63 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 		return size == 0;
 	}
 	
+	/**
+	 * Opt in to resizing incrementally. Rather than rehashing all entries into a larger table in one call when the
+	 * size crosses the resize threshold, the old table is kept and {@link #put(int, int)} and {@link #remove(int)}
+	 * each migrate at least the given number of its slots, while lookups consult both tables. {@link #compact()}
+	 * shrinks the same way.
+	 * <p>
+	 * The number of slots is raised to at least {@code 1 / loadFactor + 1} so that migration finishes before the new
+	 * table fills. Operations other than get, containsKey, put and remove, including iteration, first complete a
+	 * rehash in progress.
+	 *
+	 * @param slotsPerOperation to migrate on each put or remove, or 0 to rehash in one call which is the default.
+	 */
+	public void incrementalRehash(@DoNotSub final int slotsPerOperation) {
+		if (slotsPerOperation < 0) {
+			throw new IllegalArgumentException("slotsPerOperation must not be negative: " + slotsPerOperation);
+		}
+		
+		completeRehash();
+		rehashSlotsPerOperation = 0 == slotsPerOperation ?
+			0 : Math.max(slotsPerOperation, (int)Math.ceil(1.0d / loadFactor) + 1); // @DoNotSub
+	}
+	
+	public @DoNotSub int incrementalRehashSlots() {
+		return rehashSlotsPerOperation;
+	}
+	
+	public boolean isRehashing() {
+		return null != rehashEntries;
+	}
+	
+	/**
+	 * Migrate all remaining entries of an incremental rehash in progress.
+	 */
+	public void completeRehash() {
+		if (null != rehashEntries) {
+			rehashStep(Integer.MAX_VALUE); // @DoNotSub
+		}
+	}
+	
 	public int getOrDefault(final int key, final int defaultValue) {
 		final int value = get(key);
 		return missingValue != value ? value : defaultValue;
 	}
 	
 	public int get(final int key) {
+		final int value = get(entries, key);
+		if (missingValue == value && null != rehashEntries) {
+			return get(rehashEntries, key);
+		}
+		
+		return value;
+	}
+	
+	private int get(final int[] entries, final int key) {
 		final int missingValue = this.missingValue;
-		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int value;
 		while (missingValue != (value = entries[index + 1])) {
@@ -119,9 +197,22 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			throw new IllegalArgumentException("cannot except missingValue");
 		}
 		
+		if (null != rehashEntries) {
+			rehashStep(rehashSlotsPerOperation);
+			final int[] rehashEntries = this.rehashEntries;
+			if (null != rehashEntries) {
+				@DoNotSub final int index = keyIndex(rehashEntries, key);
+				if (NONE != index) {
+					final int oldValue = rehashEntries[index + 1];
+					rehashEntries[index + 1] = value;
+					return oldValue;
+				}
+			}
+		}
+		
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = entries[index + 1])) {
@@ -148,9 +239,10 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			throw new IllegalArgumentException("cannot accept missingValue");
 		}
 		
+		completeRehash();
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = entries[index + 1])) {
@@ -171,26 +263,103 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	
 	private void increaseCapacity() {
 		if (size > resizeThreshold) {
-			final int newCapacity = entries.length;
-			rehash(newCapacity);
+			@DoNotSub final int newCapacity = entries.length;
+			if (0 != rehashSlotsPerOperation) {
+				startRehash(newCapacity);
+			}
+			else {
+				rehash(newCapacity);
+			}
+		}
+	}
+	
+	/**
+	 * Move the entries to a new table which later puts and removes migrate them to, starting from an empty slot so
+	 * that each cluster of the old table is migrated whole and the probe chains left in it stay intact. An old table
+	 * with no empty slot, which a small capacity at a high load factor can leave, is migrated at once.
+	 */
+	private void startRehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		final int missingValue = this.missingValue;
+		final int[] oldEntries = entries;
+		capacity(newCapacity);
+		
+		@DoNotSub final int length = oldEntries.length;
+		@DoNotSub int index = 0;
+		while (index < length && missingValue != oldEntries[index + 1]) {
+			index += 2;
+		}
+		
+		rehashEntries = oldEntries;
+		rehashIndex = index & (length - 1);
+		rehashRemaining = length >> 1;
+		
+		if (index == length) {
+			completeRehash();
+		}
+	}
+	
+	/**
+	 * Migrate at least the given number of slots from the old table, continuing to the end of a cluster so the
+	 * migration always stops at an empty slot.
+	 */
+	private void rehashStep(@DoNotSub final int slots) {
+		final int missingValue = this.missingValue;
+		final int[] oldEntries = rehashEntries;
+		final int[] newEntries = entries;
+		@DoNotSub final int oldMask = oldEntries.length - 1;
+		@DoNotSub final int newMask = newEntries.length - 1;
+		@DoNotSub int index = rehashIndex;
+		@DoNotSub int remaining = rehashRemaining;
+		@DoNotSub int budget = slots;
+		
+		while (remaining > 0) {
+			final int value = oldEntries[index + 1];
+			if (missingValue != value) {
+				final int key = oldEntries[index];
+				@DoNotSub int newKeyIndex = Hashing.evenHash(key, newMask);
+				while (missingValue != newEntries[newKeyIndex + 1]) {
+					newKeyIndex = next(newKeyIndex, newMask);
+				}
+				
+				newEntries[newKeyIndex] = key;
+				newEntries[newKeyIndex + 1] = value;
+				oldEntries[index + 1] = missingValue;
+			}
+			else if (budget <= 0) {
+				break;
+			}
+			
+			index = next(index, oldMask);
+			remaining--;
+			budget--;
+		}
+		
+		if (0 == remaining) {
+			rehashEntries = null;
+		}
+		else {
+			rehashIndex = index;
+			rehashRemaining = remaining;
 		}
 	}
 	
-	private void rehash(final int newCapacity) {
+	private void rehash(@DoNotSub final int newCapacity) {
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] oldEntries = entries;
-		final int length = oldEntries.length;
+		@DoNotSub final int length = oldEntries.length;
 		
 		capacity(newCapacity);
 		
 		final int[] newEntries = entries;
-		final int mask = newEntries.length - 1;
+		@DoNotSub final int mask = newEntries.length - 1;
 		
-		for (int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
 			final int value = oldEntries[valueIndex];
 			if (missingValue != value) {
 				final int key = oldEntries[valueIndex - 1];
-				int newKeyIndex = Hashing.evenHash(key, mask);
+				@DoNotSub int newKeyIndex = Hashing.evenHash(key, mask);
 				
 				while (missingValue != newEntries[newKeyIndex + 1]) {
 					newKeyIndex = next(newKeyIndex, mask);
@@ -209,11 +378,12 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	
 	public void forEachInt(final IntIntConsumer consumer) {
 		requireNonNull(consumer);
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int length = entries.length;
+		@DoNotSub final int length = entries.length;
 		
-		for (int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
+		for (@DoNotSub int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
 			if (missingValue != entries[valueIndex]) {
 				consumer.accept(entries[valueIndex - 1], entries[valueIndex]);
 				--remaining;
@@ -226,13 +396,14 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public boolean containsValue(final int value) {
+		completeRehash();
 		boolean found = false;
 		final int missingValue = this.missingValue;
 		if (missingValue != value) {
 			final int[] entries = this.entries;
-			final int length = entries.length;
-			int remaining = size;
-			for (int valueIndex = 1; remaining > 0 && valueIndex < length; valueIndex += 2) {
+			@DoNotSub final int length = entries.length;
+			@DoNotSub int remaining = size;
+			for (@DoNotSub int valueIndex = 1; remaining > 0 && valueIndex < length; valueIndex += 2) {
 				final int existingValue = entries[valueIndex];
 				if (missingValue != existingValue) {
 					if (existingValue == value) {
@@ -247,23 +418,98 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public void clear() {
+		rehashEntries = null;
 		if (size > 0) {
 			Arrays.fill(entries, missingValue);
 			size = 0;
 		}
 	} 
 	
+	/**
+	 * Resize to the smallest capacity which holds the entries within the load factor and leaves a free slot, which is
+	 * done incrementally if opted in with {@link #incrementalRehash}.
+	 */
 	public void compact() {
-		final int idealCapacity = (int) Math.round(size() * (1.0d / loadFactor));
-		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
+		@DoNotSub final int idealCapacity = (int)Math.ceil(size() / (double)loadFactor) + 1;
+		@DoNotSub final int newCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity));
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
+	}
+	
+	/**
+	 * Length of the snapshot written by {@link #writeSnapshot}, which is a header and the entries as they are held.
+	 */
+	public long snapshotLength() {
+		return HashSnapshot.length(entries.length, Integer.BYTES);
+	}
+	
+	/**
+	 * Write a snapshot which {@link #readSnapshot} restores by a bulk copy of the entries without rehashing.
+	 *
+	 * @return length of the snapshot.
+	 * @throws IndexOutOfBoundsException if the buffer is shorter than {@link #snapshotLength()} from the index.
+	 */
+	public @DoNotSub int writeSnapshot(final MutableDirectBuffer buffer, @DoNotSub final int index) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(buffer, index)) {
+			return (int)writeSnapshot(writer); // @DoNotSub
+		}
+	}
+	
+	/**
+	 * Write a snapshot to a file, which is created or truncated. The file is written through memory mapped windows
+	 * so may be longer than 2GB.
+	 */
+	public void writeSnapshot(final File file) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(file)) {
+			writeSnapshot(writer);
+		}
+	}
+	
+	/**
+	 * Restore a map from a snapshot written by {@link #writeSnapshot}.
+	 *
+	 * @throws IllegalStateException if the snapshot is of a different type, is truncated or fails its checksum.
+	 */
+	public static Int2IntHashMap readSnapshot(
+		final DirectBuffer buffer,
+		@DoNotSub final int index) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			buffer, index, HashSnapshot.KIND_HASH_MAP, Integer.BYTES)) {
+			return new Int2IntHashMap(reader);
+		}
+	}
+	
+	public static Int2IntHashMap readSnapshot(final File file) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(file, HashSnapshot.KIND_HASH_MAP, Integer.BYTES)) {
+			return new Int2IntHashMap(reader);
+		}
+	}
+	
+	private long writeSnapshot(final HashSnapshot.Writer writer) {
+		completeRehash();
+		final int[] entries = this.entries;
+		writer.putIntArray(entries);
+		return writer.finish(
+			HashSnapshot.KIND_HASH_MAP,
+			Integer.BYTES,
+			entries.length >> 1,
+			size,
+			loadFactor,
+			shouldAvoidAllocation ? HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION : 0,
+			missingValue);
 	}
 	
 	public int computeIfAbsent(final int key, final IntUnaryOperator mappingFunction) {
 		requireNonNull(mappingFunction);
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int value;
 		while (missingValue != (value = entries[index + 1])) {
@@ -285,10 +531,11 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	
 	public int computeIfPresent(final int key, final IntBinaryOperator remappingFunction) {
 		requireNonNull(remappingFunction);
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int value;
 		while (missingValue != (value = entries[index + 1])) {
@@ -310,10 +557,11 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	
 	public int compute(final int key, final IntBinaryOperator remappingFunction) {
 		requireNonNull(remappingFunction);
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = entries[index + 1])) {
@@ -421,9 +669,24 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	
 	public int remove(final int key) {
 		final int missingValue = this.missingValue;
+		if (null != rehashEntries) {
+			rehashStep(rehashSlotsPerOperation);
+			final int[] rehashEntries = this.rehashEntries;
+			if (null != rehashEntries) {
+				@DoNotSub final int index = keyIndex(rehashEntries, key);
+				if (NONE != index) {
+					final int oldValue = rehashEntries[index + 1];
+					rehashEntries[index + 1] = missingValue;
+					size--;
+					compactChain(rehashEntries, index);
+					return oldValue;
+				}
+			}
+		}
+		
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
 	
 		int oldValue;
 		while (missingValue != (oldValue = entries[keyIndex + 1])) {
@@ -442,10 +705,11 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public boolean remove(final int key, final int value) {
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = entries[keyIndex + 1])) {
@@ -471,9 +735,10 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 		if (value == missingValue) {
 			throw new IllegalArgumentException("cannot accept missingValue");
 		}
+		completeRehash();
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int index = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
 		int oldValue;
 		while (missingValue != (oldValue = entries[index + 1])) {
 			if (key == entries[index]) {
@@ -500,12 +765,17 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 		return newValue;
 	}
 	
+	private void compactChain(@DoNotSub final int deleteKeyIndex) {
+		compactChain(entries, deleteKeyIndex);
+	}
+	
 	@SuppressWarnings("FinalParameters")
-	private void compactChain(int deleteKeyIndex) {
+	private void compactChain(
+		final int[] entries,
+		@DoNotSub int deleteKeyIndex) {
 		final int missingValue = this.missingValue;
-		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = deleteKeyIndex;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = deleteKeyIndex;
 		
 		while (true) {
 			keyIndex = next(keyIndex, mask);
@@ -515,7 +785,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			}
 			
 			final int key = entries[keyIndex];
-			final int hash = Hashing.evenHash(key, mask);
+			@DoNotSub final int hash = Hashing.evenHash(key, mask);
 			if ((keyIndex < hash && (hash <= deleteKeyIndex || deleteKeyIndex <= keyIndex)) ||
 					(hash <= deleteKeyIndex && deleteKeyIndex <= keyIndex)) {
 				entries[deleteKeyIndex] = key;
@@ -528,11 +798,12 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public int minValue() {
+		completeRehash();
 		final int missingValue = this.missingValue;
 		int min = 0 == size ? missingValue : Integer.MAX_VALUE;
 		final int[] entries = this.entries;
-		final int length = entries.length;
-		for (int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
 			final int value = entries[valueIndex];
 			if (missingValue != value) {
 				min = Math.min(min, value);
@@ -543,11 +814,12 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public int maxValue() {
+		completeRehash();
 		final int missingValue = this.missingValue;
 		int max = 0 == size ? missingValue : Integer.MIN_VALUE;
 		final int[] entries = this.entries;
-		final int length = entries.length;
-		for (int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
 			final int value = entries[valueIndex];
 			if (missingValue != value) {
 				max = Math.max(max, value);
@@ -577,10 +849,11 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public int replace(final int key, final int value) {
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = entries[keyIndex + 1])) {
@@ -596,10 +869,11 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	}
 	
 	public boolean replace(final int key, final int oldValue, final int newValue) {
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key, mask);
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
 		
 		int value;
 		while (missingValue != (value = entries[keyIndex + 1])) {
@@ -618,11 +892,12 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	
 	public void replaceAllInt(final IntIntFunction function) {
 		requireNonNull(function);
+		completeRehash();
 		final int missingValue = this.missingValue;
 		final int[] entries = this.entries;
-		final int length = entries.length;
+		@DoNotSub final int length = entries.length;
 		
-		for (int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
+		for (@DoNotSub int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
 			final int existingValue = entries[valueIndex];
 			if (missingValue != existingValue) {
 				final int newValue = function.apply(entries[valueIndex - 1], existingValue);
@@ -648,20 +923,38 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 		return size == that.size() && entrySet().equals(that.entrySet());
 	}
 	
-	public int hashCode() {
+	public @DoNotSub int hashCode() {
 		return entrySet().hashCode();
 	}
 	
-	private static int next(final int index, final int mask) {
+	private @DoNotSub int keyIndex(
+		final int[] entries,
+		final int key) {
+		final int missingValue = this.missingValue;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		while (missingValue != entries[index + 1]) {
+			if (key == entries[index]) {
+				return index;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		return NONE;
+	}
+	
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
 		return (index + 2) & mask;
 	}
 	
-	private void capacity(final int newCapacity) {
-		final int entriesLength = newCapacity * 2;
+	private void capacity(@DoNotSub final int newCapacity) {
+		@DoNotSub final int entriesLength = newCapacity * 2;
 		if (entriesLength < 0) {
 			throw new IllegalStateException("max capacity reached at size=" + size);
 		} 
-		resizeThreshold = (int) (newCapacity * loadFactor);
+		resizeThreshold = (int) (newCapacity * loadFactor); // @DoNotSub
 		entries = new int[entriesLength];
 		Arrays.fill(entries, missingValue);
 	}
@@ -672,20 +965,21 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 	
 	abstract class AbstractIterator {
 		protected boolean isPositionValid = false;
-		private int remaining;
-		private int positionCounter;
-		private int stopCounter;
+		private @DoNotSub int remaining;
+		private @DoNotSub int positionCounter;
+		private @DoNotSub int stopCounter;
 		
 		final void reset() {
+			completeRehash();
 			isPositionValid = false;
 			remaining = Int2IntHashMap.this.size;
 			final int missingValue = Int2IntHashMap.this.missingValue;
 			final int[] entries = Int2IntHashMap.this.entries;
-			final int capacity = entries.length;
+			@DoNotSub final int capacity = entries.length;
 			
-			int keyIndex = capacity;
+			@DoNotSub int keyIndex = capacity;
 			if (missingValue != entries[capacity - 1]) {
-				for (int i = 1; i < capacity; i += 2) {
+				for (@DoNotSub int i = 1; i < capacity; i += 2) {
 					if (missingValue == entries[i]) {
 						keyIndex = i - 1;
 						break;
@@ -697,11 +991,11 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			positionCounter = keyIndex + capacity;
 		}
 		
-		protected final int keyPosition() {
+		protected @DoNotSub final int keyPosition() {
 			return positionCounter & entries.length - 1;
 		}
 		
-		public int remaining() {
+		public @DoNotSub int remaining() {
 			return remaining;
 		}
 		
@@ -716,10 +1010,10 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			
 			final int[] entries = Int2IntHashMap.this.entries;
 			final int missingValue = Int2IntHashMap.this.missingValue;
-			final int mask = entries.length - 1;
+			@DoNotSub final int mask = entries.length - 1;
 			
-			for (int keyIndex = positionCounter - 2, stop = stopCounter; keyIndex >= stop; keyIndex -= 2) {
-				final int index = keyIndex & mask;
+			for (@DoNotSub int keyIndex = positionCounter - 2, stop = stopCounter; keyIndex >= stop; keyIndex -= 2) {
+				@DoNotSub final int index = keyIndex & mask;
 				if (missingValue != entries[index + 1]) {
 					isPositionValid = true;
 					positionCounter = keyIndex;
@@ -734,7 +1028,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 		
 		public void remove() {
 			if (isPositionValid) {
-				final int position = keyPosition();
+				@DoNotSub final int position = keyPosition();
 				entries[position + 1] = missingValue;
 				--size;
 				
@@ -811,7 +1105,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 				throw new IllegalArgumentException("cannot except missingValue");
 			}
 			
-			final int keyPosition = keyPosition();
+			@DoNotSub final int keyPosition = keyPosition();
 			final int[] entries = Int2IntHashMap.this.entries;
 			final int preValue = entries[keyPosition  +1];
 			entries[keyPosition + 1] = value;
@@ -830,7 +1124,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			return new MapEntry(getIntKey(), getIntValue());
 		}
 		
-		public int hashCode() {
+		public @DoNotSub int hashCode() {
 			return Integer.hashCode(getIntKey()) ^ Integer.hashCode(getIntValue());
 		}
 		
@@ -865,7 +1159,11 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			}
 			
 			public Integer setValue(final Integer value) {
-				return Integer.hashCode(getIntKey()) ^ Integer.hashCode(getIntValue());
+				throw new UnsupportedOperationException();
+			}
+			
+			public @DoNotSub int hashCode() {
+				return Integer.hashCode(k) ^ Integer.hashCode(v);
 			}
 			
 			public boolean equals(final Object o) {
@@ -898,7 +1196,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			return keyIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2IntHashMap.this.size();
 		}
 		
@@ -948,7 +1246,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			return valueIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2IntHashMap.this.size();
 		}
 		
@@ -989,7 +1287,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 			return entryIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2IntHashMap.this.size();
 		}
 		
@@ -1035,7 +1333,7 @@ public class Int2IntHashMap implements Map<Integer, Integer>{
 					a : (T[])java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
 			final EntryIterator it = iterator();
 			
-			for (int i = 0; i < array.length; i++) {
+			for (@DoNotSub int i = 0; i < array.length; i++) {
 				if (it.hasNext()) {
 					it.next();
 					array[i] = (T)it.allocateDuplicateEntry();
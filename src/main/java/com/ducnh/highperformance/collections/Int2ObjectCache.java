@@ -1,5 +1,6 @@
 package com.ducnh.highperformance.collections;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -17,33 +18,53 @@ import java.util.AbstractCollection;
 import java.util.AbstractSet;
 import java.util.Iterator;
 
+import com.ducnh.highperformance.generation.DoNotSub;
+
+/**
+ * Fixed size cache of int keys to values, organised as sets of ways which are chosen by key hash. Which way is evicted
+ * when a set is full depends on the {@link CacheEvictionPolicy}.
+ */
 public class Int2ObjectCache<V> implements Map<Integer, V> {
 	
 	private long cachePuts = 0;
 	private long cacheHits = 0;
 	private long cacheMisses = 0;
+	private long cacheEvictions = 0;
 	
-	private int size;
-	private final int capacity;
-	private final int setSize;
-	private final int setSizeShift;
-	private final int mask;
+	private @DoNotSub int size;
+	private @DoNotSub final int capacity;
+	private @DoNotSub final int setSize;
+	private @DoNotSub final int setSizeShift;
+	private @DoNotSub final int mask;
 	
 	private final int[] keys;
 	private final Object[] values;
 	private final Consumer<V> evictionConsumer;
+	private final CacheEvictionPolicy evictionPolicy;
+	private final byte[] referenced;
+	private @DoNotSub final int[] clockHands;
+	private final FrequencySketch sketch;
 	
 	private ValueCollection valueCollection;
 	private KeySet keySet;
 	private EntrySet entrySet;
 	
 	public Int2ObjectCache(
-			final int numSets,
-			final int setSize,
+			@DoNotSub final int numSets,
+			@DoNotSub final int setSize,
 			final Consumer<V> evictionConsumer) {
+		this(numSets, setSize, evictionConsumer, CacheEvictionPolicy.FIFO);
+	}
+	
+	public Int2ObjectCache(
+			@DoNotSub final int numSets,
+			@DoNotSub final int setSize,
+			final Consumer<V> evictionConsumer,
+			final CacheEvictionPolicy evictionPolicy) {
 		validatePositivePowerOfTwo(numSets);
 		validatePositivePowerOfTwo(setSize);
 		requireNonNull(evictionConsumer, "null values are not permitted");
+		requireNonNull(evictionPolicy, "evictionPolicy");
 		
 		if (((long)numSets) * setSize > (Integer.MAX_VALUE - 8)) {
 			throw new IllegalArgumentException(
@@ -58,6 +79,20 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		keys = new int[capacity];
 		values = new Object[capacity];
 		this.evictionConsumer = evictionConsumer;
+		this.evictionPolicy = evictionPolicy;
+		
+		final boolean isClock = CacheEvictionPolicy.FIFO != evictionPolicy;
+		referenced = isClock ? new byte[capacity] : null;
+		clockHands = isClock ? new int[numSets] : null; // @DoNotSub
+		sketch = CacheEvictionPolicy.TINY_LFU == evictionPolicy ? new FrequencySketch(capacity) : null;
+	}
+	
+	public CacheEvictionPolicy evictionPolicy() {
+		return evictionPolicy;
+	}
+	
+	public long cachePuts() {
+		return cachePuts;
 	}
 	
 	public long cacheHits() {
@@ -68,17 +103,26 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		return cacheMisses;
 	}
 	
+	/**
+	 * Number of values passed to the eviction consumer by a put, under every policy: values replaced by a put of the
+	 * same key, values displaced to make room, and new values which {@link CacheEvictionPolicy#TINY_LFU} did not admit.
+	 */
+	public long cacheEvictions() {
+		return cacheEvictions;
+	}
+	
 	public void resetCounters() {
 		cacheHits = 0;
 		cacheMisses = 0;
 		cachePuts = 0;
+		cacheEvictions = 0;
 	}
 	
-	public int capacity() {
+	public @DoNotSub int capacity() {
 		return capacity;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return size;
 	}
 	
@@ -92,12 +136,12 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 	
 	public boolean containsKey(final int key) {
 		boolean found = false;
-		final int setNumber = Hashing.hash(key, mask);
-		final int setBeginIndex = setNumber << setSizeShift;
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
 		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = setBeginIndex, setEndIndex = setBeginIndex + setSize; i < setEndIndex; i++) {
+		for (@DoNotSub int i = setBeginIndex, setEndIndex = setBeginIndex + setSize; i < setEndIndex; i++) {
 			if (values[i] == null) {
 				break;
 			}
@@ -131,18 +175,25 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 	
 	@SuppressWarnings("unchecked")
 	public V get(final int key) {
-		final int setNumber = Hashing.hash(key, mask);
-		final int setBeginIndex = setNumber << setSizeShift;
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
+		
+		if (null != sketch) {
+			sketch.increment(Hashing.hash(key));
+		}
 		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = setBeginIndex, setEndIndex = setBeginIndex +  setSize; i < setEndIndex; i++) {
+		for (@DoNotSub int i = setBeginIndex, setEndIndex = setBeginIndex +  setSize; i < setEndIndex; i++) {
 			final Object value = values[i];
 			if (value == null) {
 				break;
 			}
 			
 			if (key == keys[i]) {
+				if (null != referenced) {
+					referenced[i] = 1;
+				}
 				cacheHits++;
 				return (V)value;
 			}
@@ -166,10 +217,10 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		requireNonNull(consumer);
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int length = values.length;
-		int remaining = size;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
 		
-		for (int index = 0; remaining > 0 && index < length; index ++) {
+		for (@DoNotSub int index = 0; remaining > 0 && index < length; index ++) {
 			final Object value = values[index];
 			if (null != value) {
 				consumer.accept(keys[index], (V)value);
@@ -275,14 +326,19 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 	public V put(final int key, final V value) {
 		requireNonNull(value, "null values are not supported");
 		
-		final int setNumber = Hashing.hash(key, mask);
-		final int setBeginIndex = setNumber << setSizeShift;
-		int i = setBeginIndex;
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
+		if (CacheEvictionPolicy.FIFO != evictionPolicy) {
+			putInPlace(key, value, setNumber, setBeginIndex);
+			return null;
+		}
+		
+		@DoNotSub int i = setBeginIndex;
 		
 		final Object[] values = this.values;
 		final int[] keys = this.keys;
 		Object evictedValue = null;
-		for (int nextSetIndex = setBeginIndex + setSize; i < nextSetIndex; i++) {
+		for (@DoNotSub int nextSetIndex = setBeginIndex + setSize; i < nextSetIndex; i++) {
 			evictedValue = values[i];
 			if (null == evictedValue) {
 				break;
@@ -307,6 +363,7 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		cachePuts++;
 		
 		if (null != evictedValue) {
+			cacheEvictions++;
 			evictionConsumer.accept((V) evictedValue);
 		} else {
 			++size;
@@ -315,6 +372,105 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		return null;
 	}
 	
+	/**
+	 * Put for the clock based policies, which replace an entry where it is rather than shuffling the set so that
+	 * reference bits stay with their entries.
+	 */
+	@SuppressWarnings("unchecked")
+	private void putInPlace(
+		final int key,
+		final V value,
+		@DoNotSub final int setNumber,
+		@DoNotSub final int setBeginIndex) {
+		final int[] keys = this.keys;
+		final Object[] values = this.values;
+		final byte[] referenced = this.referenced;
+		cachePuts++;
+		
+		for (@DoNotSub int i = setBeginIndex, setEndIndex = setBeginIndex + setSize; i < setEndIndex; i++) {
+			final Object existingValue = values[i];
+			if (null == existingValue) {
+				keys[i] = key;
+				values[i] = value;
+				referenced[i] = 0;
+				++size;
+				return;
+			}
+			
+			if (key == keys[i]) {
+				values[i] = value;
+				referenced[i] = 1;
+				cacheEvictions++;
+				evictionConsumer.accept((V)existingValue);
+				return;
+			}
+		}
+		
+		final Object evictedValue;
+		if (null == sketch) {
+			@DoNotSub final int victimIndex = clockVictim(setNumber, setBeginIndex, 0);
+			evictedValue = values[victimIndex];
+			keys[victimIndex] = key;
+			values[victimIndex] = value;
+			referenced[victimIndex] = 0;
+		}
+		else if (1 == setSize) {
+			if (sketch.frequency(Hashing.hash(key)) > sketch.frequency(Hashing.hash(keys[setBeginIndex]))) {
+				evictedValue = values[setBeginIndex];
+				keys[setBeginIndex] = key;
+				values[setBeginIndex] = value;
+			}
+			else {
+				evictedValue = value;
+			}
+		}
+		else {
+			@DoNotSub final int victimIndex = clockVictim(setNumber, setBeginIndex, 1);
+			final int candidateKey = keys[setBeginIndex];
+			if (sketch.frequency(Hashing.hash(candidateKey)) > sketch.frequency(Hashing.hash(keys[victimIndex]))) {
+				evictedValue = values[victimIndex];
+				keys[victimIndex] = candidateKey;
+				values[victimIndex] = values[setBeginIndex];
+				referenced[victimIndex] = 0;
+			}
+			else {
+				evictedValue = values[setBeginIndex];
+			}
+			
+			keys[setBeginIndex] = key;
+			values[setBeginIndex] = value;
+			referenced[setBeginIndex] = 0;
+		}
+		
+		cacheEvictions++;
+		evictionConsumer.accept((V)evictedValue);
+	}
+	
+	/**
+	 * Advance the clock hand of a set past referenced ways, clearing their bits, to the first way which is not.
+	 *
+	 * @param firstWay of the set which the hand sweeps from, so a window way can be excluded.
+	 */
+	private @DoNotSub int clockVictim(
+		@DoNotSub final int setNumber,
+		@DoNotSub final int setBeginIndex,
+		@DoNotSub final int firstWay) {
+		final byte[] referenced = this.referenced;
+		@DoNotSub final int ways = setSize - firstWay;
+		@DoNotSub int hand = clockHands[setNumber];
+		
+		while (true) {
+			@DoNotSub final int index = setBeginIndex + firstWay + hand;
+			hand = hand + 1 == ways ? 0 : hand + 1;
+			if (0 == referenced[index]) {
+				clockHands[setNumber] = hand;
+				return index;
+			}
+			
+			referenced[index] = 0;
+		}
+	}
+	
 	@SuppressWarnings("unchecked")
 	public boolean remove(final Object key, final Object value) {
 		return remove((int) key, (V) value);
@@ -336,13 +492,13 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 	
 	@SuppressWarnings("unchecked")
 	public V remove(final int key) {
-		final int setNumber = Hashing.hash(key, mask);
-		final int setBeginIndex = setNumber << setSizeShift;
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
 		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
 		Object value = null;
-		for (int i = setBeginIndex, nextSetIndex = setBeginIndex + setSize; i < nextSetIndex; i++) {
+		for (@DoNotSub int i = setBeginIndex, nextSetIndex = setBeginIndex + setSize; i < nextSetIndex; i++) {
 			value = values[i];
 			if (null == value) {
 				break;
@@ -395,10 +551,10 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		requireNonNull(function);
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int length = values.length;
-		int remaining = size;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
 		
-		for (int index = 0; remaining > 0 && index < length; index++) {
+		for (@DoNotSub int index = 0; remaining > 0 && index < length; index++) {
 			final Object oldValue = values[index];
 			if (null != oldValue) {
 				final V newValue = function.apply(keys[index], (V)oldValue);
@@ -409,22 +565,26 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		} 
 	}
 	
-	private void shuffleUp(final int fromIndex, final int toIndex) {
+	private void shuffleUp(@DoNotSub final int fromIndex, @DoNotSub final int toIndex) {
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
 		
-		for (int i = fromIndex; i < toIndex; i++) {
+		for (@DoNotSub int i = fromIndex; i < toIndex; i++) {
 			values[i] = values[i + 1];
 			keys[i] = keys[i + 1];
 		}
 		
+		if (null != referenced) {
+			System.arraycopy(referenced, fromIndex + 1, referenced, fromIndex, toIndex - fromIndex);
+		}
+		
 		values[toIndex] = null;
 	}
 	
-	private void shuffleDown(final int setBeginIndex) {
+	private void shuffleDown(@DoNotSub final int setBeginIndex) {
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = setBeginIndex + (setSize - 1); i > setBeginIndex; i--) {
+		for (@DoNotSub int i = setBeginIndex + (setSize - 1); i > setBeginIndex; i--) {
 			values[i] = values[i - 1];
 			keys[i] = keys[i - 1];
 		}
@@ -434,7 +594,7 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 	@SuppressWarnings("unchecked")
 	public void clear() {
 		final Object[] values = this.values;
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final Object value = values[i];
 			if (null != value) {
 				values[i] = null;
@@ -443,6 +603,15 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 				evictionConsumer.accept((V)value);
 			}
 		}
+		
+		if (null != referenced) {
+			Arrays.fill(referenced, (byte)0);
+			Arrays.fill(clockHands, 0);
+		}
+		
+		if (null != sketch) {
+			sketch.clear();
+		}
 	}
 	
 	public void putAll(final Map<? extends Integer, ? extends V> map) {
@@ -486,7 +655,7 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final Object value = values[i];
 			if (null != value) {
 				sb.append(keys[i]).append('=').append(value).append(", ");
@@ -519,7 +688,7 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
 		
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final Object thisValue = values[i];
 			if (null != thisValue) {
 				final Object thatValue = that.get(keys[i]);
@@ -532,12 +701,12 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 		return true;
 	}
 	
-	public int hashCode() {
-		int result = 0;
+	public @DoNotSub int hashCode() {
+		@DoNotSub int result = 0;
 		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final Object value = values[i];
 			if (null != value) {
 				result += (Integer.hashCode(keys[i]) ^ value.hashCode());
@@ -554,7 +723,7 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 			
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2ObjectCache.this.size();
 		}
 		
@@ -592,7 +761,7 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 			
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2ObjectCache.this.size();
 		}
 		
@@ -626,7 +795,7 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 			
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2ObjectCache.this.size();
 		}
 		
@@ -650,10 +819,10 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 	}
 	
 	abstract class AbstractIterator<T> implements Iterator<T> {
-		private int remaining;
-		private int position = -1;
+		private @DoNotSub int remaining;
+		private @DoNotSub int position = -1;
 	
-		protected final int position() {
+		protected @DoNotSub final int position() {
 			return position;
 		}
 		
@@ -665,10 +834,10 @@ public class Int2ObjectCache<V> implements Map<Integer, V> {
 			boolean found = false;
 			final Object[] values = Int2ObjectCache.this.values;
 			
-			for (int i = position + 1, size = capacity; i < size; i++) {
+			for (@DoNotSub int i = position + 1, size = capacity; i < size; i++) {
 				if (null != values[i]) {
 					found = true;
-					position = 1;
+					position = i;
 					--remaining;
 					break;
 				} 
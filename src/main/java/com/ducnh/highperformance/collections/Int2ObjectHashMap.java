@@ -1,5 +1,6 @@
 package com.ducnh.highperformance.collections;
 
+import java.io.File;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -21,15 +22,26 @@ import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Iterator;
 
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.ExpandableArrayBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.generation.DoNotSub;
+
 public class Int2ObjectHashMap<V> implements Map<Integer, V>{
-	static final int MIN_CAPACITY = 8;
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int NONE = -1;
 	private final float loadFactor;
-	private int resizeThreshold;
-	private int size;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size;
 	private final boolean shouldAvoidAllocation;
 	
 	private int[] keys;
 	private Object[] values;
+	private @DoNotSub int rehashSlotsPerOperation;
+	private int[] rehashKeys;
+	private Object[] rehashValues;
+	private @DoNotSub int rehashIndex;
+	private @DoNotSub int rehashRemaining;
 	
 	private ValueCollection valueCollection;
 	private KeySet keySet;
@@ -40,43 +52,69 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	}
 	
 	public Int2ObjectHashMap(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final float loadFactor,
 			final boolean shouldAvoidAllocation) {
 		validateLoadFactor(loadFactor);
 		
 		this.loadFactor = loadFactor;
 		this.shouldAvoidAllocation = shouldAvoidAllocation;
-		final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
-		resizeThreshold = (int)(capacity * loadFactor);
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
 		
 		keys = new int[capacity];
 		values = new Object[capacity];
 	}
 	
 	public Int2ObjectHashMap(final Int2ObjectHashMap<V> mapToCopy) {
+		mapToCopy.completeRehash();
 		this.loadFactor = mapToCopy.loadFactor;
 		this.resizeThreshold = mapToCopy.resizeThreshold;
 		this.size = mapToCopy.size;
 		this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
+		this.rehashSlotsPerOperation = mapToCopy.rehashSlotsPerOperation;
 		
 		keys = mapToCopy.keys.clone();
 		values = mapToCopy.values.clone();
 	}
 	
+	private Int2ObjectHashMap(final HashSnapshot.Reader reader, final SnapshotCodec<V> codec) {
+		loadFactor = reader.loadFactor();
+		validateLoadFactor(loadFactor);
+		shouldAvoidAllocation = 0 != (reader.flags() & HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION);
+		
+		@DoNotSub final int capacity = reader.capacity();
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		size = reader.size();
+		keys = new int[capacity];
+		values = new Object[capacity];
+		reader.verifyChecksum();
+		reader.getIntArray(keys);
+		
+		final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+		for (@DoNotSub int i = 0; i < capacity; i++) {
+			@DoNotSub final int length = reader.getInt();
+			if (HashSnapshot.NULL_VALUE_LENGTH != length) {
+				reader.getBytes(buffer, length);
+				values[i] = requireNonNull(codec.decode(buffer, 0, length), "decoded value cannot be null");
+			}
+		}
+		reader.verify();
+	}
+	
 	public float loadFactor() {
 		return loadFactor;
 	}
 	
-	public int capacity() {
+	public @DoNotSub int capacity() {
 		return values.length;
 	}
 	
-	public int resizeThreshold() {
+	public @DoNotSub int resizeThreshold() {
 		return resizeThreshold;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return size;
 	}
 	
@@ -84,17 +122,57 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		return size == 0;
 	}
 	
+	/**
+	 * Opt in to resizing incrementally. Rather than rehashing all entries into a larger table in one call when the
+	 * size crosses the resize threshold, the old table is kept and {@link #put(int, Object)} and {@link #remove(int)}
+	 * each migrate at least the given number of its slots, while lookups consult both tables. {@link #compact()}
+	 * shrinks the same way.
+	 * <p>
+	 * The number of slots is raised to at least {@code 1 / loadFactor + 1} so that migration finishes before the new
+	 * table fills. Operations other than get, containsKey, put and remove, including iteration, first complete a
+	 * rehash in progress.
+	 *
+	 * @param slotsPerOperation to migrate on each put or remove, or 0 to rehash in one call which is the default.
+	 */
+	public void incrementalRehash(@DoNotSub final int slotsPerOperation) {
+		if (slotsPerOperation < 0) {
+			throw new IllegalArgumentException("slotsPerOperation must not be negative: " + slotsPerOperation);
+		}
+		
+		completeRehash();
+		rehashSlotsPerOperation = 0 == slotsPerOperation ?
+			0 : Math.max(slotsPerOperation, (int)Math.ceil(1.0d / loadFactor) + 1); // @DoNotSub
+	}
+	
+	public @DoNotSub int incrementalRehashSlots() {
+		return rehashSlotsPerOperation;
+	}
+	
+	public boolean isRehashing() {
+		return null != rehashValues;
+	}
+	
+	/**
+	 * Migrate all remaining entries of an incremental rehash in progress.
+	 */
+	public void completeRehash() {
+		if (null != rehashValues) {
+			rehashStep(Integer.MAX_VALUE); // @DoNotSub
+		}
+	}
+	
 	public void forEach(final BiConsumer<? super Integer, ? super V> action) {
 		forEachInt(action::accept);
 	}
 	
 	public void forEachInt(final IntObjConsumer<V> consumer) {
 		requireNonNull(consumer);
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int length = values.length;
+		@DoNotSub final int length = values.length;
 		
-		for (int index = 0, remaining = size; remaining > 0 && index < length; index++) {
+		for (@DoNotSub int index = 0, remaining = size; remaining > 0 && index < length; index++) {
 			final Object value = values[index];
 			if (value != null) {
 				consumer.accept(keys[index], unmapNullValue(value));
@@ -108,22 +186,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	}
 	
 	public boolean containsKey(final int key) {
-		final int[] keys = this.keys;
-		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
-		
-		boolean found = false;
-		while (null != values[index]) {
-			if (key == keys[index]) {
-				found = true;
-				break;
-			}
-			
-			index = ++index & mask;
-		}
-		
-		return found;
+		return null != getMapped(key);
 	}
 	
 	public boolean containsValue(final Object value) {
@@ -131,9 +194,10 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		final Object val = mapNullValue(value);
 		
 		if (null != val) {
+			completeRehash();
 			final Object[] values = this.values;
-			final int length = values.length;
-			for (int i = 0, remaining  = size; remaining > 0  && i < length; i++) {
+			@DoNotSub final int length = values.length;
+			for (@DoNotSub int i = 0, remaining  = size; remaining > 0  && i < length; i++) {
 				final Object existingValue = values[i];
 				if (existingValue != null) {
 					if (Objects.equals(existingValue, val)) {
@@ -162,10 +226,20 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	
 	@SuppressWarnings("unchecked")
 	protected V getMapped(final int key) {
-		final int[] keys = this.keys;
-		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		final Object value = getMapped(keys, values, key);
+		if (null == value && null != rehashValues) {
+			return (V)getMapped(rehashKeys, rehashValues, key);
+		}
+		
+		return (V)value;
+	}
+	
+	private static Object getMapped(
+		final int[] keys,
+		final Object[] values,
+		final int key) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object value;
 		while (null != (value = values[index])) {
@@ -176,7 +250,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			index = ++index & mask;
 		}
 		
-		return (V)value;
+		return value;
 	}
 	
 	public V computeIfAbsent(final Integer key, final Function<? super Integer, ? extends V> mappingFunction) {
@@ -185,10 +259,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	
 	public V computeIfAbsent(final int key, final IntFunction<? extends V> mappingFunction) {
 		requireNonNull(mappingFunction);
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object mappedValue;
 		while (null != (mappedValue = values[index])) {
@@ -221,10 +296,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	public V computeIfPresent(
 			final int key, final IntObjectToObjectFunction<? super V, ? extends V> remappingFunction) {
 		requireNonNull(remappingFunction);
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object mappedValue;
 		while (null != (mappedValue = values[index])) {
@@ -255,10 +331,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	
 	public V compute(final int key, final IntObjectToObjectFunction<? super V, ? extends V> remappingFunction) {
 		requireNonNull(remappingFunction);
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object mappedValue;
 		while (null != (mappedValue = values[index])) {
@@ -295,10 +372,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	public V merge(final int key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
 		requireNonNull(value);
 		requireNonNull(remappingFunction);
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object mappedValue;
 		while (null != (mappedValue = values[index])) {
@@ -338,10 +416,23 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		final V val = (V)mapNullValue(value);
 		requireNonNull(val, "value cannot be null");
 		
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final Object[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final Object oldValue = rehashValues[index];
+					rehashValues[index] = val;
+					return unmapNullValue(oldValue);
+				}
+			}
+		}
+		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object oldValue;
 		while (null != (oldValue = values[index])) {
@@ -371,10 +462,25 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	}
 	
 	public V remove(final int key) {
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final Object[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final Object oldValue = rehashValues[index];
+					rehashValues[index] = null;
+					--size;
+					compactChain(rehashKeys, rehashValues, index);
+					return unmapNullValue(oldValue);
+				}
+			}
+		}
+		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object value;
 		
@@ -397,10 +503,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	public boolean remove(final int key, final Object value) {
 		final Object val = mapNullValue(value);
 		if (val != null) {
+			completeRehash();
 			final int[] keys = this.keys;
 			final Object[] values = this.values;
-			final int mask = values.length - 1;
-			int index = Hashing.hash(key, mask);
+			@DoNotSub final int mask = values.length - 1;
+			@DoNotSub int index = Hashing.hash(key, mask);
 			
 			Object mappedValue;
 			while (null != (mappedValue = values[index])) {
@@ -422,15 +529,102 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	}
 	
 	public void clear() {
+		rehashKeys = null;
+		rehashValues = null;
 		if (size > 0) {
 			Arrays.fill(values, null);
 			size = 0;
 		}
 	}
 	
+	/**
+	 * Resize to the smallest capacity which holds the entries within the load factor and leaves a free slot, which is
+	 * done incrementally if opted in with {@link #incrementalRehash}.
+	 */
 	public void compact() {
-		final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
-		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
+		@DoNotSub final int idealCapacity = (int)Math.ceil(size() / (double)loadFactor) + 1;
+		@DoNotSub final int newCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity));
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
+	}
+	
+	/**
+	 * Write a snapshot which {@link #readSnapshot} restores without rehashing. Keys are copied in bulk and each value
+	 * is encoded by the codec.
+	 *
+	 * @return length of the snapshot.
+	 * @throws IndexOutOfBoundsException if the buffer is too short from the index.
+	 */
+	public @DoNotSub int writeSnapshot(
+		final MutableDirectBuffer buffer,
+		@DoNotSub final int index,
+		final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(buffer, index)) {
+			return (int)writeSnapshot(writer, codec); // @DoNotSub
+		}
+	}
+	
+	/**
+	 * Write a snapshot to a file, which is created or truncated.
+	 */
+	public void writeSnapshot(final File file, final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(file)) {
+			writeSnapshot(writer, codec);
+		}
+	}
+	
+	/**
+	 * Restore a map from a snapshot written by {@link #writeSnapshot} with the same codec.
+	 *
+	 * @throws IllegalStateException if the snapshot is of a different type, is truncated or fails its checksum.
+	 */
+	public static <V> Int2ObjectHashMap<V> readSnapshot(
+		final DirectBuffer buffer,
+		@DoNotSub final int index,
+		final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			buffer, index, HashSnapshot.KIND_OBJECT_HASH_MAP, Integer.BYTES)) {
+			return new Int2ObjectHashMap<>(reader, codec);
+		}
+	}
+	
+	public static <V> Int2ObjectHashMap<V> readSnapshot(final File file, final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			file, HashSnapshot.KIND_OBJECT_HASH_MAP, Integer.BYTES)) {
+			return new Int2ObjectHashMap<>(reader, codec);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private long writeSnapshot(final HashSnapshot.Writer writer, final SnapshotCodec<V> codec) {
+		completeRehash();
+		final Object[] values = this.values;
+		writer.putIntArray(keys);
+		
+		final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+		for (final Object value : values) {
+			if (null == value) {
+				writer.putInt(HashSnapshot.NULL_VALUE_LENGTH); // @DoNotSub
+			}
+			else {
+				@DoNotSub final int length = codec.encode((V)value, buffer, 0);
+				writer.putInt(length); // @DoNotSub
+				writer.putBytes(buffer, length);
+			}
+		}
+		
+		return writer.finish(
+			HashSnapshot.KIND_OBJECT_HASH_MAP,
+			Integer.BYTES,
+			values.length,
+			size,
+			loadFactor,
+			shouldAvoidAllocation ? HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION : 0,
+			0);
 	}
 	
 	public void putAll(final Map<? extends Integer, ? extends V> map) {
@@ -452,10 +646,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		final V val = (V)mapNullValue(value);
 		requireNonNull(val, "value cannot be null");
 		
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object mappedValue;
 		while (null != (mappedValue = values[index])) {
@@ -539,9 +734,10 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			return false;
 		}
 		
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final Object thisValue = values[i];
 			if (null != thisValue) {
 				final Object thatValue = that.get(keys[i]);
@@ -553,11 +749,12 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		return true;
 	}
 	
-	public int hashCode() {
-		int result = 0;
+	public @DoNotSub int hashCode() {
+		@DoNotSub int result = 0;
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final Object value = values[i];
 			if (value != null) {
 				result += (Integer.hashCode(keys[i]) ^ value.hashCode());
@@ -581,10 +778,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		final V val = (V)mapNullValue(value);
 		requireNonNull(val, "value cannot be null");
 		
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object oldValue;
 		while (null != (oldValue = values[index])) {
@@ -604,10 +802,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		final V val = (V)mapNullValue(newValue);
 		requireNonNull(val, "value cannot be null");
 		
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		Object mappedValue;
 		while (null != (mappedValue = values[index])) {
@@ -632,12 +831,13 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	@SuppressWarnings("unchecked")
 	public void replaceAllInt(final IntObjectToObjectFunction<? super V, ? extends V> function) {
 		requireNonNull(function);
+		completeRehash();
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		final int length = values.length;
-		int remaining = size;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
 		
-		for (int index = 0; remaining > 0 && index < length; index++) {
+		for (@DoNotSub int index = 0; remaining > 0 && index < length; index++) {
 			final Object oldValue = values[index];
 			if (null != oldValue) {
 				final V newVal = (V)mapNullValue(function.apply(keys[index], unmapNullValue(oldValue)));
@@ -649,28 +849,128 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	}
 	
 	private void increaseCapacity() {
-		final int newCapacity = values.length << 1;
+		@DoNotSub final int newCapacity = values.length << 1;
 		if (newCapacity < 0) {
 			throw new IllegalStateException("max capacity reached at size=" + size);
 		}
 		
-		rehash(newCapacity);
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
+	}
+	
+	/**
+	 * Move the entries to a new table which later puts and removes migrate them to, starting from an empty slot so
+	 * that each cluster of the old table is migrated whole and the probe chains left in it stay intact. An old table
+	 * with no empty slot, which a small capacity at a high load factor can leave, is migrated at once.
+	 */
+	private void startRehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		final Object[] oldValues = values;
+		
+		rehashKeys = keys;
+		rehashValues = oldValues;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
+		keys = new int[newCapacity];
+		values = new Object[newCapacity];
+		
+		@DoNotSub final int length = oldValues.length;
+		@DoNotSub int index = 0;
+		while (index < length && null != oldValues[index]) {
+			index++;
+		}
+		
+		rehashIndex = index & (length - 1);
+		rehashRemaining = length;
+		
+		if (index == length) {
+			completeRehash();
+		}
+	}
+	
+	/**
+	 * Migrate at least the given number of slots from the old table, continuing to the end of a cluster so the
+	 * migration always stops at an empty slot.
+	 */
+	private void rehashStep(@DoNotSub final int slots) {
+		final int[] oldKeys = rehashKeys;
+		final Object[] oldValues = rehashValues;
+		final int[] newKeys = keys;
+		final Object[] newValues = values;
+		@DoNotSub final int oldMask = oldValues.length - 1;
+		@DoNotSub final int newMask = newValues.length - 1;
+		@DoNotSub int index = rehashIndex;
+		@DoNotSub int remaining = rehashRemaining;
+		@DoNotSub int budget = slots;
+		
+		while (remaining > 0) {
+			final Object value = oldValues[index];
+			if (null != value) {
+				final int key = oldKeys[index];
+				@DoNotSub int newIndex = Hashing.hash(key, newMask);
+				while (null != newValues[newIndex]) {
+					newIndex = ++newIndex & newMask;
+				}
+				
+				newKeys[newIndex] = key;
+				newValues[newIndex] = value;
+				oldValues[index] = null;
+			}
+			else if (budget <= 0) {
+				break;
+			}
+			
+			index = ++index & oldMask;
+			remaining--;
+			budget--;
+		}
+		
+		if (0 == remaining) {
+			rehashKeys = null;
+			rehashValues = null;
+		}
+		else {
+			rehashIndex = index;
+			rehashRemaining = remaining;
+		}
 	}
 	
-	private void rehash(final int newCapacity) {
-		final int mask = newCapacity - 1;
-		resizeThreshold = (int)(newCapacity * loadFactor);
+	private @DoNotSub int index(
+		final int[] keys,
+		final Object[] values,
+		final int key) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		while (null != values[index]) {
+			if (key == keys[index]) {
+				return index;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return NONE;
+	}
+	
+	private void rehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
 		
 		final int[] tempKeys = new int[newCapacity];
 		final Object[] tempValues = new Object[newCapacity];
 		
 		final int[] keys = this.keys;
 		final Object[] values = this.values;
-		for (int i = 0, size = values.length; i < size; i++) {
+		for (@DoNotSub int i = 0, size = values.length; i < size; i++) {
 			final Object value = values[i];
 			if (value != null) {
 				final int key = keys[i];
-				int index = Hashing.hash(key, mask);
+				@DoNotSub int index = Hashing.hash(key, mask);
 				while (null != tempValues[index]) {
 					index = ++index & mask;
 				}
@@ -684,12 +984,17 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		this.values = tempValues;
 	}
 
+	private void compactChain(@DoNotSub final int deleteIndex) {
+		compactChain(keys, values, deleteIndex);
+	}
+	
 	@SuppressWarnings("FinalParameters")
-	private void compactChain(int deleteIndex) {
-		final int[] keys = this.keys;
-		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = deleteIndex;
+	private static void compactChain(
+		final int[] keys,
+		final Object[] values,
+		@DoNotSub int deleteIndex) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
 		
 		while (true) {
 			index = ++index & mask;
@@ -699,7 +1004,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			}
 			
 			final int key = keys[index];
-			final int hash = Hashing.hash(key, mask);
+			@DoNotSub final int hash = Hashing.hash(key, mask);
 			
 			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
 				(hash <= deleteIndex && deleteIndex <= index)) {
@@ -729,7 +1034,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			return keyIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2ObjectHashMap.this.size();
 		}
 		
@@ -784,7 +1089,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			return valueIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2ObjectHashMap.this.size();
 		}
 		
@@ -797,10 +1102,11 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		}
 		
 		public void forEach(final Consumer<? super V> action) {
-			int remaining = Int2ObjectHashMap.this.size;
+			completeRehash();
+			@DoNotSub int remaining = size;
 			
 			final Object[] values = Int2ObjectHashMap.this.values;
-			for (int i = 0, length = values.length; remaining > 0 && i < length; i++) {
+			for (@DoNotSub int i = 0, length = values.length; remaining > 0 && i < length; i++) {
 				final Object value = values[i];
 				if (value != null) {
 					action.accept(unmapNullValue(value));
@@ -827,7 +1133,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			return entryIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Int2ObjectHashMap.this.size();
 		}
 		
@@ -868,7 +1174,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			final T[] array = a.length >= size ? 
 					a : (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
 			final EntryIterator it = iterator();
-			for (int i = 0; i < array.length; i++) {
+			for (@DoNotSub int i = 0; i < array.length; i++) {
 				if (it.hasNext()) {
 					it.next();
 					array[i] = (T)it.allocateDuplicateEntry();
@@ -882,16 +1188,16 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 	}
 	
 	abstract class AbstractIterator<T> implements Iterator<T> {
-		private int posCounter;
-		private int stopCounter;
-		private int remaining;
+		private @DoNotSub int posCounter;
+		private @DoNotSub int stopCounter;
+		private @DoNotSub int remaining;
 		boolean isPositionValid = false;
 		
-		protected final int position() {
+		protected @DoNotSub final int position() {
 			return posCounter & (values.length - 1);
 		}
 		
-		public int remaining() {
+		public @DoNotSub int remaining() {
 			return remaining;
 		}
 		
@@ -905,10 +1211,10 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 			}
 			
 			final Object[] values = Int2ObjectHashMap.this.values;
-			final int mask = values.length - 1;
+			@DoNotSub final int mask = values.length - 1;
 			
-			for (int i = posCounter - 1, stop = stopCounter; i >= stop; i--) {
-				final int index = i & mask;
+			for (@DoNotSub int i = posCounter - 1, stop = stopCounter; i >= stop; i--) {
+				@DoNotSub final int index = i & mask;
 				if (null != values[index]) {
 					posCounter = i;
 					isPositionValid = true;
@@ -925,7 +1231,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		
 		public void remove() {
 			if (isPositionValid) {
-				final int position = position();
+				@DoNotSub final int position = position();
 				values[position] = null;
 				--size;
 				
@@ -937,11 +1243,12 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 		}
 		
 		public void reset() {
+			completeRehash();
 			remaining = Int2ObjectHashMap.this.size;
 			final Object[] values = Int2ObjectHashMap.this.values;
-			final int capacity = values.length;
+			@DoNotSub final int capacity = values.length;
 			
-			int i = capacity;
+			@DoNotSub int i = capacity;
 			if (null != values[capacity - 1]) {
 				for (i = 0; i < capacity; i++) {
 					if (null == values[i]) {
@@ -1022,7 +1329,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 				throw new IllegalStateException();
 			}
 			
-			final int pos = position();
+			@DoNotSub final int pos = position();
 			final Object[] values = Int2ObjectHashMap.this.values;
 			final Object oldValue = values[pos];
 			values[pos] = val;
@@ -1051,7 +1358,7 @@ public class Int2ObjectHashMap<V> implements Map<Integer, V>{
 				return Int2ObjectHashMap.this.put(k, value);
 			}
 			
-			public int hashCode() {
+			public @DoNotSub int hashCode() {
 				return Integer.hashCode(getIntKey()) ^ (null != v ? v.hashCode() : 0);
 			}
 			
@@ -6,27 +6,51 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
+import com.ducnh.highperformance.generation.DoNotSub;
+
 import static java.util.Objects.requireNonNull;
 
 public class IntArrayList extends AbstractList<Integer> implements List<Integer>, RandomAccess{
 	public static final int DEFAULT_NULL_VALUE = Integer.MIN_VALUE;
 	
-	public static final int INITIAL_CAPACITY = 10;
+	public static @DoNotSub final int INITIAL_CAPACITY = 10;
+	
+	/**
+	 * Size below which {@link #sortInt()} uses {@link Arrays#sort} as a radix sort does not pay for its passes.
+	 */
+	public static @DoNotSub final int RADIX_SORT_THRESHOLD = 1 << 10;
+	
+	/**
+	 * Least number of elements sorted by each task of {@link #parallelSortInt()}.
+	 */
+	public static @DoNotSub final int PARALLEL_SORT_MIN_CHUNK = 1 << 16;
+	
+	/**
+	 * The radix sort takes a byte of each element per pass, from the least significant byte.
+	 */
+	private static @DoNotSub final int RADIX_BITS = Byte.SIZE;
+	private static @DoNotSub final int RADIX = 1 << RADIX_BITS;
+	private static @DoNotSub final int SIGN_FLIP = RADIX >> 1;
+	private static final byte RADIX_PASSES = Integer.BYTES;
 	
 	private final int nullValue;
-	private int size = 0;
+	private @DoNotSub int size = 0;
 	private int[] elements;
 	
 	public IntArrayList() {
 		this(INITIAL_CAPACITY, DEFAULT_NULL_VALUE);
 	}
 	
-	public IntArrayList(final int initialCapacity, final int nullValue) {
+	public IntArrayList(
+			@DoNotSub final int initialCapacity,
+			final int nullValue) {
 		this.nullValue = nullValue;
 		this.elements = new int[Math.max(initialCapacity, INITIAL_CAPACITY)];
 	}
@@ -34,13 +58,15 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	@SuppressWarnings("this-escape")
 	public IntArrayList(
 			final int[] initialElements,
-			final int initialSize,
+			@DoNotSub final int initialSize,
 			final int nullValue) {
 		wrap(initialElements, initialSize);
 		this.nullValue = nullValue;
 	}
 	
-	public void wrap(final int[] initialElements, final int initialSize) {
+	public void wrap(
+			final int[] initialElements,
+			@DoNotSub final int initialSize) {
 		if (initialSize < 0 || initialSize > initialElements.length) {
 			throw new IllegalArgumentException(
 				"illegal initial size " + initialSize + " for array length of " + initialElements.length);
@@ -54,11 +80,11 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return nullValue;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return size;
 	}
 	
-	public int capacity() {
+	public @DoNotSub int capacity() {
 		return elements.length;
 	}
 	
@@ -72,12 +98,14 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		}
 	}
 	
-	public Integer get(final int index) {
+	public Integer get(
+			@DoNotSub final int index) {
 		final int value = getInt(index);
 		return nullValue == value ? null : value;
 	}
 	
-	public int getInt(final int index) {
+	public int getInt(
+			@DoNotSub final int index) {
 		checkIndex(index);
 		return elements[index];
 	}
@@ -93,28 +121,36 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return true;
 	}
 	
-	public void add(final int index, final Integer element) {
+	public void add(
+			@DoNotSub final int index,
+			final Integer element) {
 		addInt(index, null == element ? nullValue : element);
 	}
 	
-	public void addInt(final int index, final int element) {
+	public void addInt(
+			@DoNotSub final int index,
+			final int element) {
 		checkIndexForAdd(index);
-		final int requiredSize = size + 1;
+		@DoNotSub final int requiredSize = size + 1;
 		ensureCapacityPrivate(requiredSize);
 		
 		if (index < size) {
 			System.arraycopy(elements, index, elements, index + 1, size - index);
 		}
-		elements[index] = index;
+		elements[index] = element;
 		size ++;
 	}
 	
-	public Integer set(final int index, final Integer element) {
+	public Integer set(
+			@DoNotSub final int index,
+			final Integer element) {
 		final int previous = setInt(index, null == element ? nullValue : element);
 		return nullValue == previous ? null : previous;
 	}
 	
-	public int setInt(final int index, final int element) {
+	public int setInt(
+			@DoNotSub final int index,
+			final int element) {
 		checkIndex(index);
 		final int previous = elements[index];
 		elements[index] = element;
@@ -130,9 +166,10 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return indexOf(value) != -1;
 	}
 	
-	public int indexOf(final int value) {
+	public @DoNotSub int indexOf(
+			final int value) {
 		final int[] elements = this.elements;
-		for (int i = 0, size = this.size; i < size; i++) {
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
 			if (value == elements[i]) {
 				return i;
 			}
@@ -140,9 +177,10 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return -1;
 	}
 	
-	public int lastIndexOf(final int value) {
+	public @DoNotSub int lastIndexOf(
+			final int value) {
 		final int[] elements = this.elements;
-		for (int i = size - 1; i >= 0; i--) {
+		for (@DoNotSub int i = size - 1; i >= 0; i--) {
 			if (value == elements[i]) {
 				return i;
 			}
@@ -152,7 +190,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	}
 	
 	public boolean addAll(final IntArrayList list) {
-		final int numElements = list.size;
+		@DoNotSub final int numElements = list.size;
 		if (numElements > 0) {
 			ensureCapacityPrivate(size + numElements);
 			System.arraycopy(list.elements, 0, elements, size, numElements);
@@ -162,14 +200,16 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return false;
 	}
 	
-	public boolean addAll(final int index, final IntArrayList list) {
+	public boolean addAll(
+			@DoNotSub final int index,
+			final IntArrayList list) {
 		checkIndexForAdd(index);
-		final int numElements = list.size;
+		@DoNotSub final int numElements = list.size;
 		if (numElements > 0) {
-			final int size = this.size;
+			@DoNotSub final int size = this.size;
 			ensureCapacityPrivate(size + numElements);
 			final int[] elements = this.elements;
-			for (int i = size - 1; i >= index; i--) {
+			for (@DoNotSub int i = size - 1; i >= index; i--) {
 				elements[i + numElements] = elements[i];
 			}
 			
@@ -184,7 +224,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		final int[] listElements = list.elements;
 		final int listNullValue = list.nullValue;
 		final boolean hasNulls = contains(null);
-		for (int i = 0, size = list.size; i < size; i++) {
+		for (@DoNotSub int i = 0, size = list.size; i < size; i++) {
 			final int value = listElements[i];
 			if (!(containsInt(value) || hasNulls && listNullValue == value)) {
 				return false;
@@ -195,7 +235,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	
 	public boolean retainAll(final IntArrayList list) {
 		final int[] elements = this.elements;
-		final int size = this.size;
+		@DoNotSub final int size = this.size;
 		if (size > 0) {
 			if (list.isEmpty()) {
 				this.size = 0;
@@ -205,8 +245,8 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 			final int nullValue = this.nullValue;
 			final boolean listHasNulls = list.contains(null);
 			int[] filteredElements = null;
-			int j = -1;
-			for (int i = 0; i < size; i++) {
+			@DoNotSub int j = -1;
+			for (@DoNotSub int i = 0; i < size; i++) {
 				final int value = elements[i];
 				if (!(list.containsInt(value) || (listHasNulls && nullValue == value))) {
 					if (null == filteredElements) {
@@ -230,13 +270,13 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	
 	public boolean removeAll(final IntArrayList list) {
 		final int[] elements = this.elements;
-		final int size = this.size;
+		@DoNotSub final int size = this.size;
 		if (size > 0 && !list.isEmpty()) {
 			final int nullValue = this.nullValue;
 			final boolean listHasNulls = list.contains(null);
 			int[] filteredElements = null;
-			int j = -1;
-			for (int i = 0; i < size; i++) {
+			@DoNotSub int j = -1;
+			for (@DoNotSub int i = 0; i < size; i++) {
 				final int value = elements[i];
 				if (list.containsInt(value) || (listHasNulls && nullValue == value)) {
 					if (null == filteredElements) {
@@ -260,11 +300,11 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	public boolean removeIfInt(final IntPredicate filter) {
 		requireNonNull(filter);
 		final int[] elements = this.elements;
-		final int size = this.size;
+		@DoNotSub final int size = this.size;
 		if (size > 0) {
 			int[] filteredElements = null;
-			int j = -1;
-			for (int i = 0; i < size; i++) {
+			@DoNotSub int j = -1;
+			for (@DoNotSub int i = 0; i < size; i++) {
 				final int value = elements[i];
 				if (filter.test(value)) {
 					if (null == filteredElements) {
@@ -290,15 +330,17 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return removeInt(null == o ? nullValue : (int)o);
 	}
 	
-	public Integer remove(final int index) {
+	public Integer remove(
+			@DoNotSub final int index) {
 		final int value = removeAt(index);
 		return nullValue == value ? null : value;
 	}
 	
-	public int removeAt(final int index) {
+	public int removeAt(
+			@DoNotSub final int index) {
 		checkIndex(index);
 		final int value = elements[index];
-		final int moveCount = size - index - 1;
+		@DoNotSub final int moveCount = size - index - 1;
 		if (moveCount > 0) {
 			System.arraycopy(elements, index + 1, elements, index, moveCount);
 		}
@@ -307,7 +349,8 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return value;
 	}
 	
-	public int fastUnorderedRemove(final int index) {
+	public int fastUnorderedRemove(
+			@DoNotSub final int index) {
 		checkIndex(index);
 		
 		final int value = elements[index];
@@ -317,7 +360,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	}
 	
 	public boolean removeInt(final int value) {
-		final int index = indexOf(value);
+		@DoNotSub final int index = indexOf(value);
 		if (-1 != index) {
 			removeAt(index);
 			return true;
@@ -327,7 +370,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	}
 	
 	public boolean fastUnorderedRemoveInt(final int value) {
-		final int index = indexOf(value);
+		@DoNotSub final int index = indexOf(value);
 		if (-1 != index) {
 			elements[index] = elements[--size];
 			return true;
@@ -352,7 +395,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	
 	public void forEachOrderedInt(final IntConsumer action) {
 		final int[] elements = this.elements;
-		for (int i = 0, size = this.size; i < size; i++) {
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
 			action.accept(elements[i]);
 		}
 	}
@@ -374,7 +417,149 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		}
 	}
 	
-	public void ensureCapacity(final int requiredCapacity) {
+	/**
+	 * Sort in ascending order with an LSD radix sort, which takes a pass per byte over the elements and a scratch
+	 * array of the size of the list. Passes over a byte which is the same for all elements are skipped.
+	 */
+	public void sortInt() {
+		@DoNotSub final int size = this.size;
+		if (size < RADIX_SORT_THRESHOLD) {
+			Arrays.sort(elements, 0, size);
+			return;
+		}
+		
+		final int[] elements = this.elements;
+		@DoNotSub final int[][] counts = new int[RADIX_PASSES][RADIX];
+		for (@DoNotSub int i = 0; i < size; i++) {
+			final int value = elements[i];
+			for (@DoNotSub int pass = 0; pass < RADIX_PASSES; pass++) {
+				counts[pass][digit(value, pass)]++;
+			}
+		}
+		
+		int[] src = elements;
+		int[] dst = new int[size];
+		for (@DoNotSub int pass = 0; pass < RADIX_PASSES; pass++) {
+			@DoNotSub final int[] offsets = counts[pass];
+			if (size == offsets[digit(src[0], pass)]) {
+				continue;
+			}
+			
+			for (@DoNotSub int digit = 0, offset = 0; digit < RADIX; digit++) {
+				@DoNotSub final int count = offsets[digit];
+				offsets[digit] = offset;
+				offset += count;
+			}
+			
+			for (@DoNotSub int i = 0; i < size; i++) {
+				final int value = src[i];
+				dst[offsets[digit(value, pass)]++] = value;
+			}
+			
+			final int[] tmp = src;
+			src = dst;
+			dst = tmp;
+		}
+		
+		if (src != elements) {
+			System.arraycopy(src, 0, elements, 0, size);
+		}
+	}
+	
+	/**
+	 * Sort in ascending order with the radix sort of {@link #sortInt()} split over the tasks of the common
+	 * {@link ForkJoinPool}.
+	 */
+	public void parallelSortInt() {
+		parallelSortInt(ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Sort in ascending order with the radix sort of {@link #sortInt()}, where each pass counts and then scatters
+	 * chunks of at least {@link #PARALLEL_SORT_MIN_CHUNK} elements in parallel on the pool. Lists too small to split
+	 * are sorted by the calling thread.
+	 */
+	public void parallelSortInt(final ForkJoinPool pool) {
+		@DoNotSub final int size = this.size;
+		@DoNotSub final int chunks = Math.min(pool.getParallelism() << 1, size / PARALLEL_SORT_MIN_CHUNK);
+		if (chunks < 2) {
+			sortInt();
+			return;
+		}
+		
+		final ParallelRadixSort sort = new ParallelRadixSort(elements, size, chunks);
+		for (@DoNotSub int pass = 0; pass < RADIX_PASSES; pass++) {
+			sort.pass(pool, pass);
+		}
+		
+		if (sort.src != elements) {
+			System.arraycopy(sort.src, 0, elements, 0, size);
+		}
+	}
+	
+	/**
+	 * Search a list which is sorted in ascending order, as for {@link Arrays#binarySearch}.
+	 *
+	 * @return index of the value, or {@code -(insertion point) - 1} if not present.
+	 */
+	public @DoNotSub int binarySearch(
+		final int value) {
+		return Arrays.binarySearch(elements, 0, size, value);
+	}
+	
+	/**
+	 * Remove adjacent duplicates, which leaves each value once in a sorted list.
+	 *
+	 * @return number of elements removed.
+	 */
+	public @DoNotSub int dedupSorted() {
+		@DoNotSub final int size = this.size;
+		if (size < 2) {
+			return 0;
+		}
+		
+		final int[] elements = this.elements;
+		@DoNotSub int last = 0;
+		for (@DoNotSub int i = 1; i < size; i++) {
+			final int value = elements[i];
+			if (value != elements[last]) {
+				elements[++last] = value;
+			}
+		}
+		
+		this.size = last + 1;
+		return size - this.size;
+	}
+	
+	/**
+	 * Merge a list which is sorted in ascending order into this sorted list, keeping it sorted. The merge is done in
+	 * place from the back in a single pass.
+	 */
+	public void mergeSorted(final IntArrayList other) {
+		@DoNotSub final int otherSize = other.size;
+		if (0 == otherSize) {
+			return;
+		}
+		
+		final int[] otherElements = other == this ? Arrays.copyOf(elements, otherSize) : other.elements;
+		@DoNotSub int i = size - 1;
+		@DoNotSub int j = otherSize - 1;
+		@DoNotSub int k = size + otherSize - 1;
+		ensureCapacityPrivate(size + otherSize);
+		
+		final int[] elements = this.elements;
+		while (j >= 0) {
+			if (i >= 0 && elements[i] > otherElements[j]) {
+				elements[k--] = elements[i--];
+			} else {
+				elements[k--] = otherElements[j--];
+			}
+		}
+		
+		size += otherSize;
+	}
+	
+	public void ensureCapacity(@DoNotSub final int requiredCapacity) {
 		ensureCapacityPrivate(Math.max(requiredCapacity, INITIAL_CAPACITY));
 	}
 	
@@ -385,12 +570,12 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		
 		boolean isEqual = false;
 		
-		final int size = this.size;
+		@DoNotSub final int size = this.size;
 		if (size == that.size) {
 			isEqual = true;
 			final int[] elements = this.elements;
 			final int[] thatElements = that.elements;
-			for (int i = 0; i < size; i++) {
+			for (@DoNotSub int i = 0; i < size; i++) {
 				final int thisValue = elements[i];
 				final int thatValue = thatElements[i];
 				
@@ -417,7 +602,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 			final List<?> that = (List<?>) other;
 			if (size == that.size()) {
 				isEqual = true;
-				int i = 0;
+				@DoNotSub int i = 0;
 				for (final Object o : that) {
 					if (null == o || o instanceof Integer) {
 						final Integer thisValue = get(i++);
@@ -436,11 +621,11 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return isEqual;
 	}
 	
-	public int hashCode() {
-		int hashCode = -1;
+	public @DoNotSub int hashCode() {
+		@DoNotSub int hashCode = -1;
 		final int nullValue = this.nullValue;
 		final int[] elements = this.elements;
-		for (int i = 0, size = this.size; i < size; i++) {
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
 			final int value = elements[i];
 			hashCode = 31 * hashCode + (nullValue == value ? 0 : Integer.hashCode(value));
 		}
@@ -451,7 +636,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		requireNonNull(action);
 		final int nullValue = this.nullValue;
 		final int[] elements = this.elements;
-		for (int i = 0, size = this.size; i < size; i++) {
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
 			final int value = elements[i];
 			action.accept(nullValue != value ? value : null);
 		}
@@ -460,7 +645,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 	public void forEachInt(final IntConsumer action) {
 		requireNonNull(action);
 		final int[] elements = this.elements;
-		for (int i = 0, size = this.size; i < size; i++) {
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
 			action.accept(elements[i]);
 		}
 	}
@@ -471,7 +656,7 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		
 		final int nullValue = this.nullValue;
 		final int[] elements = this.elements;
-		for (int i = 0, size = this.size; i < size; i++) {
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
 			final int value = elements[i];
 			sb.append(value != nullValue ? value : null).append(", ");
 		}
@@ -484,13 +669,13 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		return sb.toString();
 	}
 	
-	private void ensureCapacityPrivate(final int requiredCapacity) {
-		final int currentCapacity = elements.length;
+	private void ensureCapacityPrivate(@DoNotSub final int requiredCapacity) {
+		@DoNotSub final int currentCapacity = elements.length;
 		if (requiredCapacity > currentCapacity) {
 			if (requiredCapacity > ArrayUtil.MAX_CAPACITY) {
 				throw new IllegalStateException("max capacity: " + ArrayUtil.MAX_CAPACITY);
 			}
-			int newCapacity = Math.max(currentCapacity, INITIAL_CAPACITY);
+			@DoNotSub int newCapacity = Math.max(currentCapacity, INITIAL_CAPACITY);
 			
 			while (newCapacity < requiredCapacity) {
 				newCapacity = newCapacity + (newCapacity >> 1);
@@ -504,15 +689,143 @@ public class IntArrayList extends AbstractList<Integer> implements List<Integer>
 		}
 	}
 	
-	private void checkIndex(final int index) {
+	/**
+	 * Digit of a value for a radix sort pass, with the sign bit flipped in the most significant digit so negative
+	 * values sort first.
+	 */
+	private static @DoNotSub int digit(
+		final int value,
+		@DoNotSub final int pass) {
+		@DoNotSub final int digit = Byte.toUnsignedInt((byte)(value >>> (pass * RADIX_BITS)));
+		return RADIX_PASSES - 1 == pass ? digit ^ SIGN_FLIP : digit;
+	}
+	
+	private void checkIndex(@DoNotSub final int index) {
 		if (index >= size || index < 0) {
 			throw new IndexOutOfBoundsException("index=" + index + " size=" + size);
 		}
 	}
 	
-	private void checkIndexForAdd(final int index) {
+	private void checkIndexForAdd(@DoNotSub final int index) {
 		if (index > size || index < 0) {
 			throw new IndexOutOfBoundsException("index=" + index + " size=" + size);
 		}
 	}
+	
+	/**
+	 * State of a parallel radix sort. Each pass counts the digits of each chunk of the source, turns the counts into
+	 * the offsets at which each chunk writes each digit in the destination, then scatters the chunks without contention.
+	 */
+	static final class ParallelRadixSort {
+		private final @DoNotSub int size;
+		private final @DoNotSub int chunks;
+		private final @DoNotSub int chunkLength;
+		private final @DoNotSub int[][] counts;
+		private @DoNotSub int pass;
+		int[] src;
+		int[] dst;
+		
+		ParallelRadixSort(
+			final int[] elements,
+			@DoNotSub final int size,
+			@DoNotSub final int chunks) {
+			this.size = size;
+			this.chunks = chunks;
+			chunkLength = (size + chunks - 1) / chunks;
+			counts = new int[chunks][RADIX]; // @DoNotSub
+			src = elements;
+			dst = new int[size];
+		}
+		
+		/**
+		 * Sort by the digit for a pass, swapping source and destination if the pass is not skipped.
+		 */
+		void pass(
+			final ForkJoinPool pool,
+			@DoNotSub final int pass) {
+			this.pass = pass;
+			for (@DoNotSub final int[] chunkCounts : counts) {
+				Arrays.fill(chunkCounts, 0);
+			}
+			
+			pool.invoke(new Task(true, 0, chunks));
+			if (offsets()) {
+				pool.invoke(new Task(false, 0, chunks));
+				
+				final int[] tmp = src;
+				src = dst;
+				dst = tmp;
+			}
+		}
+		
+		/**
+		 * @return false if all elements have the same digit so the pass can be skipped.
+		 */
+		private boolean offsets() {
+			@DoNotSub final int[][] counts = this.counts;
+			@DoNotSub int offset = 0;
+			for (@DoNotSub int digit = 0; digit < RADIX; digit++) {
+				@DoNotSub final int start = offset;
+				for (@DoNotSub int chunk = 0; chunk < chunks; chunk++) {
+					@DoNotSub final int count = counts[chunk][digit];
+					counts[chunk][digit] = offset;
+					offset += count;
+				}
+				
+				if (size == offset - start) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+		
+		private void count(@DoNotSub final int chunk) {
+			final int[] src = this.src;
+			@DoNotSub final int pass = this.pass;
+			@DoNotSub final int[] counts = this.counts[chunk];
+			for (@DoNotSub int i = chunk * chunkLength, end = Math.min(size, i + chunkLength); i < end; i++) {
+				counts[digit(src[i], pass)]++;
+			}
+		}
+		
+		private void scatter(@DoNotSub final int chunk) {
+			final int[] src = this.src;
+			final int[] dst = this.dst;
+			@DoNotSub final int pass = this.pass;
+			@DoNotSub final int[] offsets = counts[chunk];
+			for (@DoNotSub int i = chunk * chunkLength, end = Math.min(size, i + chunkLength); i < end; i++) {
+				final int value = src[i];
+				dst[offsets[digit(value, pass)]++] = value;
+			}
+		}
+		
+		final class Task extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			
+			private final boolean isCount;
+			private final @DoNotSub int fromChunk;
+			private final @DoNotSub int toChunk;
+			
+			Task(
+				final boolean isCount,
+				@DoNotSub final int fromChunk,
+				@DoNotSub final int toChunk) {
+				this.isCount = isCount;
+				this.fromChunk = fromChunk;
+				this.toChunk = toChunk;
+			}
+			
+			protected void compute() {
+				if (toChunk - fromChunk > 1) {
+					@DoNotSub final int mid = (fromChunk + toChunk) >>> 1;
+					invokeAll(new Task(isCount, fromChunk, mid), new Task(isCount, mid, toChunk));
+				} else if (isCount) {
+					count(fromChunk);
+				} else {
+					scatter(fromChunk);
+				}
+			}
+		}
+	}
 }
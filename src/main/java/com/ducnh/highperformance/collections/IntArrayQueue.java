@@ -8,15 +8,16 @@ import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 
 import com.ducnh.highperformance.BitUtil;
+import com.ducnh.highperformance.generation.DoNotSub;
 
 public class IntArrayQueue extends AbstractQueue<Integer>{
 	
 	public static final int DEFAULT_NULL_VALUE = Integer.MIN_VALUE;
 	
-	public static final int MIN_CAPACITY = 8;
+	public static @DoNotSub final int MIN_CAPACITY = 8;
 	private final boolean shouldAvoidAllocation;
-	private int head;
-	private int tail;
+	private @DoNotSub int head;
+	private @DoNotSub int tail;
 	private final int nullValue;
 	private int[] elements;
 	private IntIterator iterator;
@@ -30,13 +31,13 @@ public class IntArrayQueue extends AbstractQueue<Integer>{
 	}
 	
 	public IntArrayQueue(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final int nullValue) {
 		this(initialCapacity, nullValue, true);
 	}
 	
 	public IntArrayQueue(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final int nullValue, 
 			final boolean shouldAvoidAllocation) {
 		this.nullValue = nullValue;
@@ -46,7 +47,7 @@ public class IntArrayQueue extends AbstractQueue<Integer>{
 			throw new IllegalArgumentException("initial capacity < MIN_INITIAL_CAPACITY : " + initialCapacity);
 		}
 		
-		final int capacity = BitUtil.findNextPositivePowerOfTwo(initialCapacity);
+		@DoNotSub final int capacity = BitUtil.findNextPositivePowerOfTwo(initialCapacity);
 		if (capacity < MIN_CAPACITY) {
 			throw new IllegalArgumentException("invalid initial capacity: " + initialCapacity);
 		}
@@ -59,11 +60,11 @@ public class IntArrayQueue extends AbstractQueue<Integer>{
 		return nullValue;
 	}
 	
-	public int capacity() {
+	public @DoNotSub int capacity() {
 		return elements.length;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return (tail - head) & (elements.length - 1);
 	}
 	
@@ -174,7 +175,7 @@ public class IntArrayQueue extends AbstractQueue<Integer>{
 		final StringBuilder sb = new StringBuilder();
 		sb.append('[');
 		
-		for (int i = head; i != tail; ) {
+		for (@DoNotSub int i = head; i != tail; ) {
 			sb.append(elements[i]).append(", ");
 			i = (i + 1) & (elements.length - 1);
 		}
@@ -189,14 +190,14 @@ public class IntArrayQueue extends AbstractQueue<Integer>{
 	}
 	
 	public void forEach(final Consumer<? super Integer> action) {
-		for (int i = head; i != tail; ) {
+		for (@DoNotSub int i = head; i != tail; ) {
 			action.accept(elements[i]);
 			i = (i + 1) & (elements.length - 1);
 		}
 	}
 	
 	public void forEachInt(final IntConsumer action) {
-		for (int i = head; i != tail; ) {
+		for (@DoNotSub int i = head; i != tail; ) {
 			action.accept(elements[i]);
 			i = (i + 1) & (elements.length - 1);
 		}
@@ -214,10 +215,10 @@ public class IntArrayQueue extends AbstractQueue<Integer>{
 	}
 	
 	private void increaseCapacity() {
-		final int oldHead = head;
-		final int oldCapacity = elements.length;
-		final int toEndOfArray = oldCapacity - oldHead;
-		final int newCapacity = oldCapacity << 1;
+		@DoNotSub final int oldHead = head;
+		@DoNotSub final int oldCapacity = elements.length;
+		@DoNotSub final int toEndOfArray = oldCapacity - oldHead;
+		@DoNotSub final int newCapacity = oldCapacity << 1;
 		
 		if (newCapacity < MIN_CAPACITY) {
 			throw new IllegalStateException("max capacity reached");
@@ -235,7 +236,7 @@ public class IntArrayQueue extends AbstractQueue<Integer>{
 	
 	public final class IntIterator implements Iterator<Integer> {
 		
-		private int index;
+		private @DoNotSub int index;
 		
 		public IntIterator() {
 			
@@ -0,0 +1,1027 @@
+package com.ducnh.highperformance.collections;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+
+import static com.ducnh.highperformance.BitUtil.SIZE_OF_INT;
+import static com.ducnh.highperformance.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Compressed set of int values in the style of Roaring bitmaps, for dense or clustered values where an
+ * {@link IntHashSet} would spend several bytes per element.
+ * <p>
+ * Values are partitioned by their high 16 bits into containers of up to 65536 low values. A container is a sorted
+ * array while it holds at most 4096 values, a 8KB bitmap beyond that, or a list of runs when that is smaller, so set
+ * algebra works a container at a time rather than an element at a time. Iteration is in ascending signed order.
+ * <p>
+ * The serialized form is little endian: the number of containers, then a header of key, type and count for each
+ * container, then the container data.
+ */
+public final class IntBitmap {
+	static final int MAX_ARRAY_LENGTH = 4096;
+	static final int BITMAP_LENGTH = 1024;
+	static final int BITMAP_DATA_LENGTH = BITMAP_LENGTH * SIZE_OF_LONG;
+	static final int HEADER_ENTRY_LENGTH = 8;
+	
+	static final int ARRAY_TYPE = 0;
+	static final int BITMAP_TYPE = 1;
+	static final int RUN_TYPE = 2;
+	
+	private static final int MAX_LOW = 0xFFFF;
+	private static final int INITIAL_CONTAINERS = 4;
+	
+	private char[] keys;
+	private Container[] containers;
+	private int containerCount;
+	
+	public IntBitmap() {
+		keys = new char[INITIAL_CONTAINERS];
+		containers = new Container[INITIAL_CONTAINERS];
+	}
+	
+	public boolean add(final int value) {
+		final int key = value ^ Integer.MIN_VALUE;
+		final char high = (char)(key >>> 16);
+		final int index = Arrays.binarySearch(keys, 0, containerCount, high);
+		if (index < 0) {
+			final ArrayContainer container = new ArrayContainer();
+			container.add((char)key);
+			insertContainer(-index - 1, high, container);
+			return true;
+		}
+		
+		final Container container = containers[index];
+		final int cardinality = container.cardinality();
+		containers[index] = container.add((char)key);
+		return containers[index].cardinality() > cardinality;
+	}
+	
+	/**
+	 * Add all values in a range, which replaces whole containers with a single run where the range covers them.
+	 */
+	public void addRange(final int fromInclusive, final int toInclusive) {
+		if (fromInclusive > toInclusive) {
+			throw new IllegalArgumentException("fromInclusive=" + fromInclusive + " > toInclusive=" + toInclusive);
+		}
+		
+		final int fromKey = fromInclusive ^ Integer.MIN_VALUE;
+		final int toKey = toInclusive ^ Integer.MIN_VALUE;
+		final int fromHigh = fromKey >>> 16;
+		final int toHigh = toKey >>> 16;
+		
+		for (int high = fromHigh; high <= toHigh; high++) {
+			final int from = high == fromHigh ? fromKey & MAX_LOW : 0;
+			final int to = high == toHigh ? toKey & MAX_LOW : MAX_LOW;
+			final int index = Arrays.binarySearch(keys, 0, containerCount, (char)high);
+			
+			final long[] words = index < 0 ? new long[BITMAP_LENGTH] : copyWords(containers[index]);
+			setRange(words, from, to);
+			final Container container = fromWords(words);
+			
+			if (index < 0) {
+				insertContainer(-index - 1, (char)high, container);
+			}
+			else {
+				containers[index] = container;
+			}
+		}
+	}
+	
+	public boolean remove(final int value) {
+		final int key = value ^ Integer.MIN_VALUE;
+		final int index = Arrays.binarySearch(keys, 0, containerCount, (char)(key >>> 16));
+		if (index < 0) {
+			return false;
+		}
+		
+		final Container container = containers[index];
+		final int cardinality = container.cardinality();
+		final Container updated = container.remove((char)key);
+		if (0 == updated.cardinality()) {
+			removeContainer(index);
+		}
+		else {
+			containers[index] = updated;
+		}
+		
+		return updated.cardinality() < cardinality;
+	}
+	
+	public boolean contains(final int value) {
+		final int key = value ^ Integer.MIN_VALUE;
+		final int index = Arrays.binarySearch(keys, 0, containerCount, (char)(key >>> 16));
+		return index >= 0 && containers[index].contains((char)key);
+	}
+	
+	public long cardinality() {
+		long cardinality = 0;
+		for (int i = 0; i < containerCount; i++) {
+			cardinality += containers[i].cardinality();
+		}
+		
+		return cardinality;
+	}
+	
+	public boolean isEmpty() {
+		return 0 == containerCount;
+	}
+	
+	public void clear() {
+		Arrays.fill(containers, 0, containerCount, null);
+		containerCount = 0;
+	}
+	
+	/**
+	 * @return a new bitmap of the values in both this and other.
+	 */
+	public IntBitmap and(final IntBitmap other) {
+		final IntBitmap result = new IntBitmap();
+		int i = 0;
+		int j = 0;
+		while (i < containerCount && j < other.containerCount) {
+			final char key = keys[i];
+			final char otherKey = other.keys[j];
+			if (key < otherKey) {
+				i++;
+			}
+			else if (key > otherKey) {
+				j++;
+			}
+			else {
+				result.append(key, and(containers[i++], other.containers[j++]));
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return a new bitmap of the values in either this or other.
+	 */
+	public IntBitmap or(final IntBitmap other) {
+		final IntBitmap result = new IntBitmap();
+		int i = 0;
+		int j = 0;
+		while (i < containerCount || j < other.containerCount) {
+			final int key = i < containerCount ? keys[i] : Integer.MAX_VALUE;
+			final int otherKey = j < other.containerCount ? other.keys[j] : Integer.MAX_VALUE;
+			if (key < otherKey) {
+				result.append((char)key, containers[i++].copy());
+			}
+			else if (key > otherKey) {
+				result.append((char)otherKey, other.containers[j++].copy());
+			}
+			else {
+				result.append((char)key, or(containers[i++], other.containers[j++]));
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @return a new bitmap of the values in this which are not in other.
+	 */
+	public IntBitmap andNot(final IntBitmap other) {
+		final IntBitmap result = new IntBitmap();
+		int j = 0;
+		for (int i = 0; i < containerCount; i++) {
+			final char key = keys[i];
+			while (j < other.containerCount && other.keys[j] < key) {
+				j++;
+			}
+			
+			if (j < other.containerCount && other.keys[j] == key) {
+				result.append(key, andNot(containers[i], other.containers[j]));
+			}
+			else {
+				result.append(key, containers[i].copy());
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Number of values in both this and other, without building the intersection for bitmap containers.
+	 */
+	public long andCardinality(final IntBitmap other) {
+		long cardinality = 0;
+		int i = 0;
+		int j = 0;
+		while (i < containerCount && j < other.containerCount) {
+			final char key = keys[i];
+			final char otherKey = other.keys[j];
+			if (key < otherKey) {
+				i++;
+			}
+			else if (key > otherKey) {
+				j++;
+			}
+			else {
+				cardinality += andCardinality(containers[i++], other.containers[j++]);
+			}
+		}
+		
+		return cardinality;
+	}
+	
+	/**
+	 * Convert containers built up by {@link #add(int)} to runs where that is smaller.
+	 */
+	public void runOptimize() {
+		for (int i = 0; i < containerCount; i++) {
+			final Container container = containers[i];
+			if (!(container instanceof RunContainer) &&
+				RunContainer.dataLength(container.runCount()) < container.dataLength()) {
+				containers[i] = RunContainer.of(container);
+			}
+		}
+	}
+	
+	/**
+	 * Visit values in ascending order.
+	 */
+	public void forEachInt(final IntConsumer consumer) {
+		for (int i = 0; i < containerCount; i++) {
+			containers[i].forEach((keys[i] << 16) ^ Integer.MIN_VALUE, consumer);
+		}
+	}
+	
+	public int serializedLength() {
+		int length = SIZE_OF_INT + containerCount * HEADER_ENTRY_LENGTH;
+		for (int i = 0; i < containerCount; i++) {
+			length += containers[i].dataLength();
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * @return number of bytes written, which is {@link #serializedLength()}.
+	 */
+	public int serialize(final MutableDirectBuffer buffer, final int offset) {
+		final ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+		buffer.putInt(offset, containerCount, order);
+		
+		int headerOffset = offset + SIZE_OF_INT;
+		int dataOffset = headerOffset + containerCount * HEADER_ENTRY_LENGTH;
+		for (int i = 0; i < containerCount; i++) {
+			final Container container = containers[i];
+			buffer.putChar(headerOffset, keys[i], order);
+			buffer.putChar(headerOffset + 2, (char)container.type(), order);
+			buffer.putInt(headerOffset + 4, container.count(), order);
+			container.write(buffer, dataOffset);
+			
+			headerOffset += HEADER_ENTRY_LENGTH;
+			dataOffset += container.dataLength();
+		}
+		
+		return dataOffset - offset;
+	}
+	
+	public static IntBitmap deserialize(final DirectBuffer buffer, final int offset) {
+		final ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+		final int count = buffer.getInt(offset, order);
+		if (count < 0 || count > MAX_LOW + 1) {
+			throw new IllegalArgumentException("invalid container count=" + count);
+		}
+		
+		final IntBitmap bitmap = new IntBitmap();
+		int headerOffset = offset + SIZE_OF_INT;
+		int dataOffset = headerOffset + count * HEADER_ENTRY_LENGTH;
+		for (int i = 0; i < count; i++) {
+			final char key = buffer.getChar(headerOffset, order);
+			final int type = buffer.getChar(headerOffset + 2, order);
+			final int length = buffer.getInt(headerOffset + 4, order);
+			
+			final Container container;
+			switch (type) {
+				case ARRAY_TYPE:
+					container = ArrayContainer.read(buffer, dataOffset, length);
+					break;
+				
+				case BITMAP_TYPE:
+					container = BitmapContainer.read(buffer, dataOffset, length);
+					break;
+				
+				case RUN_TYPE:
+					container = RunContainer.read(buffer, dataOffset, length);
+					break;
+				
+				default:
+					throw new IllegalArgumentException("unknown container type=" + type);
+			}
+			
+			if (i > 0 && key <= bitmap.keys[i - 1]) {
+				throw new IllegalArgumentException("container keys not ascending at index=" + i);
+			}
+			bitmap.append(key, container);
+			
+			headerOffset += HEADER_ENTRY_LENGTH;
+			dataOffset += container.dataLength();
+		}
+		
+		return bitmap;
+	}
+	
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		
+		if (!(o instanceof IntBitmap)) {
+			return false;
+		}
+		
+		final IntBitmap that = (IntBitmap)o;
+		if (containerCount != that.containerCount) {
+			return false;
+		}
+		
+		for (int i = 0; i < containerCount; i++) {
+			final Container container = containers[i];
+			final Container thatContainer = that.containers[i];
+			if (keys[i] != that.keys[i] ||
+				container.cardinality() != thatContainer.cardinality() ||
+				!Arrays.equals(copyWords(container), copyWords(thatContainer))) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	public int hashCode() {
+		final MutableInteger hashCode = new MutableInteger();
+		forEachInt((value) -> hashCode.value = 31 * hashCode.value + value);
+		return hashCode.value;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		forEachInt((value) -> sb.append(value).append(", "));
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		return sb.append('}').toString();
+	}
+	
+	private void insertContainer(final int index, final char key, final Container container) {
+		if (containerCount == keys.length) {
+			keys = Arrays.copyOf(keys, containerCount << 1);
+			containers = Arrays.copyOf(containers, containerCount << 1);
+		}
+		
+		System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+		System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+		keys[index] = key;
+		containers[index] = container;
+		containerCount++;
+	}
+	
+	private void removeContainer(final int index) {
+		containerCount--;
+		System.arraycopy(keys, index + 1, keys, index, containerCount - index);
+		System.arraycopy(containers, index + 1, containers, index, containerCount - index);
+		containers[containerCount] = null;
+	}
+	
+	private void append(final char key, final Container container) {
+		if (null != container) {
+			insertContainer(containerCount, key, container);
+		}
+	}
+	
+	private static Container and(final Container a, final Container b) {
+		if (a instanceof ArrayContainer) {
+			return ((ArrayContainer)a).filter(b, true);
+		}
+		
+		if (b instanceof ArrayContainer) {
+			return ((ArrayContainer)b).filter(a, true);
+		}
+		
+		final long[] words = copyWords(a);
+		final long[] otherWords = wordsOf(b);
+		for (int i = 0; i < BITMAP_LENGTH; i++) {
+			words[i] &= otherWords[i];
+		}
+		
+		return fromWords(words);
+	}
+	
+	private static Container or(final Container a, final Container b) {
+		if (a instanceof ArrayContainer && b instanceof ArrayContainer &&
+			a.cardinality() + b.cardinality() <= MAX_ARRAY_LENGTH) {
+			return ((ArrayContainer)a).merge((ArrayContainer)b);
+		}
+		
+		final long[] words = copyWords(a);
+		b.orInto(words);
+		return fromWords(words);
+	}
+	
+	private static Container andNot(final Container a, final Container b) {
+		if (a instanceof ArrayContainer) {
+			return ((ArrayContainer)a).filter(b, false);
+		}
+		
+		final long[] words = copyWords(a);
+		final long[] otherWords = wordsOf(b);
+		for (int i = 0; i < BITMAP_LENGTH; i++) {
+			words[i] &= ~otherWords[i];
+		}
+		
+		return fromWords(words);
+	}
+	
+	private static int andCardinality(final Container a, final Container b) {
+		if (a instanceof ArrayContainer || b instanceof ArrayContainer) {
+			final Container and = and(a, b);
+			return null == and ? 0 : and.cardinality();
+		}
+		
+		final long[] words = wordsOf(a);
+		final long[] otherWords = wordsOf(b);
+		int cardinality = 0;
+		for (int i = 0; i < BITMAP_LENGTH; i++) {
+			cardinality += Long.bitCount(words[i] & otherWords[i]);
+		}
+		
+		return cardinality;
+	}
+	
+	/**
+	 * Words of a container for reading only, which are shared for a bitmap container.
+	 */
+	private static long[] wordsOf(final Container container) {
+		return container instanceof BitmapContainer ? ((BitmapContainer)container).words : copyWords(container);
+	}
+	
+	private static long[] copyWords(final Container container) {
+		final long[] words = new long[BITMAP_LENGTH];
+		container.orInto(words);
+		return words;
+	}
+	
+	/**
+	 * Smallest container for the set bits of words, or null if there are none. The words may be taken by the container.
+	 */
+	static Container fromWords(final long[] words) {
+		int cardinality = 0;
+		for (int i = 0; i < BITMAP_LENGTH; i++) {
+			cardinality += Long.bitCount(words[i]);
+		}
+		
+		if (0 == cardinality) {
+			return null;
+		}
+		
+		final int runCount = runCount(words);
+		final int runLength = RunContainer.dataLength(runCount);
+		if (runLength < Math.min(ArrayContainer.dataLength(cardinality), BITMAP_DATA_LENGTH)) {
+			return RunContainer.of(words, runCount, cardinality);
+		}
+		
+		if (cardinality <= MAX_ARRAY_LENGTH) {
+			return ArrayContainer.of(words, cardinality);
+		}
+		
+		return new BitmapContainer(words, cardinality);
+	}
+	
+	static void setRange(final long[] words, final int from, final int to) {
+		final int fromWord = from >>> 6;
+		final int toWord = to >>> 6;
+		if (fromWord == toWord) {
+			words[fromWord] |= (-1L << from) & (-1L >>> (63 - (to & 63)));
+			return;
+		}
+		
+		words[fromWord] |= -1L << from;
+		for (int i = fromWord + 1; i < toWord; i++) {
+			words[i] = -1L;
+		}
+		words[toWord] |= -1L >>> (63 - (to & 63));
+	}
+	
+	/**
+	 * Number of runs of consecutive set bits, counting the bits which are set but whose predecessor is not.
+	 */
+	static int runCount(final long[] words) {
+		int runCount = 0;
+		long previous = 0;
+		for (int i = 0; i < BITMAP_LENGTH; i++) {
+			final long word = words[i];
+			runCount += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+			previous = word;
+		}
+		
+		return runCount;
+	}
+	
+	abstract static class Container {
+		abstract int cardinality();
+		
+		abstract boolean contains(char value);
+		
+		/**
+		 * @return the container holding the result, which may have been converted to another type.
+		 */
+		abstract Container add(char value);
+		
+		/**
+		 * @return the container holding the result, which may have been converted to another type.
+		 */
+		abstract Container remove(char value);
+		
+		abstract void orInto(long[] words);
+		
+		/**
+		 * @param base value which is combined with each low value to give the original value.
+		 */
+		abstract void forEach(int base, IntConsumer consumer);
+		
+		abstract Container copy();
+		
+		abstract int runCount();
+		
+		abstract int type();
+		
+		/**
+		 * Count in the serialized header, from which the data length can be found.
+		 */
+		abstract int count();
+		
+		abstract int dataLength();
+		
+		abstract void write(MutableDirectBuffer buffer, int offset);
+	}
+	
+	static final class ArrayContainer extends Container {
+		private char[] values;
+		private int cardinality;
+		
+		ArrayContainer() {
+			values = new char[4];
+		}
+		
+		ArrayContainer(final char[] values, final int cardinality) {
+			this.values = values;
+			this.cardinality = cardinality;
+		}
+		
+		static ArrayContainer of(final long[] words, final int cardinality) {
+			final char[] values = new char[cardinality];
+			int index = 0;
+			for (int i = 0; i < BITMAP_LENGTH; i++) {
+				for (long word = words[i]; 0 != word; word &= word - 1) {
+					values[index++] = (char)((i << 6) + Long.numberOfTrailingZeros(word));
+				}
+			}
+			
+			return new ArrayContainer(values, cardinality);
+		}
+		
+		static ArrayContainer read(final DirectBuffer buffer, final int offset, final int cardinality) {
+			if (cardinality <= 0 || cardinality > MAX_ARRAY_LENGTH) {
+				throw new IllegalArgumentException("invalid array container cardinality=" + cardinality);
+			}
+			
+			final char[] values = new char[cardinality];
+			for (int i = 0; i < cardinality; i++) {
+				values[i] = buffer.getChar(offset + (i << 1), ByteOrder.LITTLE_ENDIAN);
+			}
+			
+			return new ArrayContainer(values, cardinality);
+		}
+		
+		static int dataLength(final int cardinality) {
+			return cardinality << 1;
+		}
+		
+		int cardinality() {
+			return cardinality;
+		}
+		
+		boolean contains(final char value) {
+			return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+		}
+		
+		Container add(final char value) {
+			int index = Arrays.binarySearch(values, 0, cardinality, value);
+			if (index >= 0) {
+				return this;
+			}
+			
+			if (MAX_ARRAY_LENGTH == cardinality) {
+				final long[] words = new long[BITMAP_LENGTH];
+				orInto(words);
+				return new BitmapContainer(words, cardinality).add(value);
+			}
+			
+			if (cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(cardinality << 1, MAX_ARRAY_LENGTH));
+			}
+			
+			index = -index - 1;
+			System.arraycopy(values, index, values, index + 1, cardinality - index);
+			values[index] = value;
+			cardinality++;
+			return this;
+		}
+		
+		Container remove(final char value) {
+			final int index = Arrays.binarySearch(values, 0, cardinality, value);
+			if (index >= 0) {
+				cardinality--;
+				System.arraycopy(values, index + 1, values, index, cardinality - index);
+			}
+			
+			return this;
+		}
+		
+		/**
+		 * Values which are, or are not, contained in other, or null if none.
+		 */
+		ArrayContainer filter(final Container other, final boolean isContained) {
+			final char[] result = new char[cardinality];
+			int count = 0;
+			for (int i = 0; i < cardinality; i++) {
+				final char value = values[i];
+				if (other.contains(value) == isContained) {
+					result[count++] = value;
+				}
+			}
+			
+			return 0 == count ? null : new ArrayContainer(result, count);
+		}
+		
+		ArrayContainer merge(final ArrayContainer other) {
+			final char[] result = new char[cardinality + other.cardinality];
+			final char[] otherValues = other.values;
+			int i = 0;
+			int j = 0;
+			int count = 0;
+			while (i < cardinality && j < other.cardinality) {
+				final char value = values[i];
+				final char otherValue = otherValues[j];
+				if (value <= otherValue) {
+					result[count++] = value;
+					i++;
+					if (value == otherValue) {
+						j++;
+					}
+				}
+				else {
+					result[count++] = otherValue;
+					j++;
+				}
+			}
+			
+			while (i < cardinality) {
+				result[count++] = values[i++];
+			}
+			while (j < other.cardinality) {
+				result[count++] = otherValues[j++];
+			}
+			
+			return new ArrayContainer(result, count);
+		}
+		
+		void orInto(final long[] words) {
+			for (int i = 0; i < cardinality; i++) {
+				final char value = values[i];
+				words[value >>> 6] |= 1L << value;
+			}
+		}
+		
+		void forEach(final int base, final IntConsumer consumer) {
+			for (int i = 0; i < cardinality; i++) {
+				consumer.accept(base | values[i]);
+			}
+		}
+		
+		Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+		}
+		
+		int runCount() {
+			int runCount = 0;
+			for (int i = 0; i < cardinality; i++) {
+				if (0 == i || values[i] != values[i - 1] + 1) {
+					runCount++;
+				}
+			}
+			
+			return runCount;
+		}
+		
+		int type() {
+			return ARRAY_TYPE;
+		}
+		
+		int count() {
+			return cardinality;
+		}
+		
+		int dataLength() {
+			return dataLength(cardinality);
+		}
+		
+		void write(final MutableDirectBuffer buffer, final int offset) {
+			for (int i = 0; i < cardinality; i++) {
+				buffer.putChar(offset + (i << 1), values[i], ByteOrder.LITTLE_ENDIAN);
+			}
+		}
+	}
+	
+	static final class BitmapContainer extends Container {
+		private final long[] words;
+		private int cardinality;
+		
+		BitmapContainer(final long[] words, final int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+		
+		static BitmapContainer read(final DirectBuffer buffer, final int offset, final int cardinality) {
+			if (cardinality <= MAX_ARRAY_LENGTH || cardinality > MAX_LOW + 1) {
+				throw new IllegalArgumentException("invalid bitmap container cardinality=" + cardinality);
+			}
+			
+			final long[] words = new long[BITMAP_LENGTH];
+			int count = 0;
+			for (int i = 0; i < BITMAP_LENGTH; i++) {
+				words[i] = buffer.getLong(offset + i * SIZE_OF_LONG, ByteOrder.LITTLE_ENDIAN);
+				count += Long.bitCount(words[i]);
+			}
+			
+			if (count != cardinality) {
+				throw new IllegalArgumentException("bitmap container cardinality=" + cardinality + " but count=" + count);
+			}
+			
+			return new BitmapContainer(words, cardinality);
+		}
+		
+		int cardinality() {
+			return cardinality;
+		}
+		
+		boolean contains(final char value) {
+			return 0 != (words[value >>> 6] & (1L << value));
+		}
+		
+		Container add(final char value) {
+			final long word = words[value >>> 6];
+			final long bit = 1L << value;
+			if (0 == (word & bit)) {
+				words[value >>> 6] = word | bit;
+				cardinality++;
+			}
+			
+			return this;
+		}
+		
+		Container remove(final char value) {
+			final long word = words[value >>> 6];
+			final long bit = 1L << value;
+			if (0 != (word & bit)) {
+				words[value >>> 6] = word & ~bit;
+				cardinality--;
+				if (cardinality <= MAX_ARRAY_LENGTH) {
+					return ArrayContainer.of(words, cardinality);
+				}
+			}
+			
+			return this;
+		}
+		
+		void orInto(final long[] words) {
+			final long[] thisWords = this.words;
+			for (int i = 0; i < BITMAP_LENGTH; i++) {
+				words[i] |= thisWords[i];
+			}
+		}
+		
+		void forEach(final int base, final IntConsumer consumer) {
+			for (int i = 0; i < BITMAP_LENGTH; i++) {
+				for (long word = words[i]; 0 != word; word &= word - 1) {
+					consumer.accept(base | ((i << 6) + Long.numberOfTrailingZeros(word)));
+				}
+			}
+		}
+		
+		Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+		
+		int runCount() {
+			return IntBitmap.runCount(words);
+		}
+		
+		int type() {
+			return BITMAP_TYPE;
+		}
+		
+		int count() {
+			return cardinality;
+		}
+		
+		int dataLength() {
+			return BITMAP_DATA_LENGTH;
+		}
+		
+		void write(final MutableDirectBuffer buffer, final int offset) {
+			for (int i = 0; i < BITMAP_LENGTH; i++) {
+				buffer.putLong(offset + i * SIZE_OF_LONG, words[i], ByteOrder.LITTLE_ENDIAN);
+			}
+		}
+	}
+	
+	/**
+	 * Runs held as pairs of start and length minus one. Runs are immutable, so adding or removing a value converts to
+	 * an array or bitmap container.
+	 */
+	static final class RunContainer extends Container {
+		private final char[] runs;
+		private final int runCount;
+		private final int cardinality;
+		
+		RunContainer(final char[] runs, final int runCount, final int cardinality) {
+			this.runs = runs;
+			this.runCount = runCount;
+			this.cardinality = cardinality;
+		}
+		
+		static RunContainer of(final Container container) {
+			final long[] words = copyWords(container);
+			return of(words, IntBitmap.runCount(words), container.cardinality());
+		}
+		
+		static RunContainer of(final long[] words, final int runCount, final int cardinality) {
+			final char[] runs = new char[runCount << 1];
+			int index = 0;
+			int start = nextSetBit(words, 0);
+			while (start >= 0) {
+				final int end = nextClearBit(words, start);
+				runs[index++] = (char)start;
+				runs[index++] = (char)(end - start - 1);
+				start = nextSetBit(words, end);
+			}
+			
+			return new RunContainer(runs, runCount, cardinality);
+		}
+		
+		static RunContainer read(final DirectBuffer buffer, final int offset, final int runCount) {
+			if (runCount <= 0 || runCount > (MAX_LOW + 1) / 2) {
+				throw new IllegalArgumentException("invalid run container count=" + runCount);
+			}
+			
+			final char[] runs = new char[runCount << 1];
+			int cardinality = 0;
+			int end = -1;
+			for (int i = 0; i < runs.length; i += 2) {
+				runs[i] = buffer.getChar(offset + (i << 1), ByteOrder.LITTLE_ENDIAN);
+				runs[i + 1] = buffer.getChar(offset + (i << 1) + 2, ByteOrder.LITTLE_ENDIAN);
+				if (runs[i] <= end || runs[i] + runs[i + 1] > MAX_LOW) {
+					throw new IllegalArgumentException("invalid run at index=" + (i >> 1));
+				}
+				
+				end = runs[i] + runs[i + 1];
+				cardinality += runs[i + 1] + 1;
+			}
+			
+			return new RunContainer(runs, runCount, cardinality);
+		}
+		
+		static int dataLength(final int runCount) {
+			return runCount << 2;
+		}
+		
+		int cardinality() {
+			return cardinality;
+		}
+		
+		boolean contains(final char value) {
+			int low = 0;
+			int high = runCount - 1;
+			while (low <= high) {
+				final int middle = (low + high) >>> 1;
+				final char start = runs[middle << 1];
+				if (value < start) {
+					high = middle - 1;
+				}
+				else if (value > start + runs[(middle << 1) + 1]) {
+					low = middle + 1;
+				}
+				else {
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+		Container add(final char value) {
+			if (contains(value)) {
+				return this;
+			}
+			
+			final long[] words = copyWords(this);
+			words[value >>> 6] |= 1L << value;
+			return fromWords(words);
+		}
+		
+		Container remove(final char value) {
+			if (!contains(value)) {
+				return this;
+			}
+			
+			if (1 == cardinality) {
+				return new ArrayContainer();
+			}
+			
+			final long[] words = copyWords(this);
+			words[value >>> 6] &= ~(1L << value);
+			return fromWords(words);
+		}
+		
+		void orInto(final long[] words) {
+			for (int i = 0, length = runCount << 1; i < length; i += 2) {
+				setRange(words, runs[i], runs[i] + runs[i + 1]);
+			}
+		}
+		
+		void forEach(final int base, final IntConsumer consumer) {
+			for (int i = 0, length = runCount << 1; i < length; i += 2) {
+				for (int value = runs[i], end = value + runs[i + 1]; value <= end; value++) {
+					consumer.accept(base | value);
+				}
+			}
+		}
+		
+		Container copy() {
+			return this;
+		}
+		
+		int runCount() {
+			return runCount;
+		}
+		
+		int type() {
+			return RUN_TYPE;
+		}
+		
+		int count() {
+			return runCount;
+		}
+		
+		int dataLength() {
+			return dataLength(runCount);
+		}
+		
+		void write(final MutableDirectBuffer buffer, final int offset) {
+			for (int i = 0, length = runCount << 1; i < length; i++) {
+				buffer.putChar(offset + (i << 1), runs[i], ByteOrder.LITTLE_ENDIAN);
+			}
+		}
+		
+		private static int nextSetBit(final long[] words, final int from) {
+			int index = from >>> 6;
+			if (index >= BITMAP_LENGTH) {
+				return -1;
+			}
+			
+			long word = words[index] & (-1L << from);
+			while (0 == word) {
+				if (++index == BITMAP_LENGTH) {
+					return -1;
+				}
+				word = words[index];
+			}
+			
+			return (index << 6) + Long.numberOfTrailingZeros(word);
+		}
+		
+		private static int nextClearBit(final long[] words, final int from) {
+			int index = from >>> 6;
+			long word = ~words[index] & (-1L << from);
+			while (0 == word) {
+				if (++index == BITMAP_LENGTH) {
+					return BITMAP_LENGTH << 6;
+				}
+				word = ~words[index];
+			}
+			
+			return (index << 6) + Long.numberOfTrailingZeros(word);
+		}
+	}
+}
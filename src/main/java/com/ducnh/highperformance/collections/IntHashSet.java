@@ -1,5 +1,6 @@
 package com.ducnh.highperformance.collections;
 
+import java.io.File;
 import java.lang.reflect.Array;
 import java.util.AbstractSet;
 import java.util.Arrays;
@@ -11,19 +12,23 @@ import java.util.function.IntConsumer;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.generation.DoNotSub;
+
 import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
 import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
 
 public class IntHashSet extends AbstractSet<Integer>{
 	
-	public static final int DEFAULT_INITIAL_CAPACITY = 8;
+	public static @DoNotSub final int DEFAULT_INITIAL_CAPACITY = 8;
 	static final int MISSING_VALUE = 0;
 	
 	private final boolean shouldAvoidAllocation;
 	private boolean containsMissingValue;
 	private final float loadFactor;
-	private int resizeThreshold;
-	private int sizeOfArrayValues;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int sizeOfArrayValues;
 	
 	private int[] values;
 	private IntIterator iterator;
@@ -33,18 +38,18 @@ public class IntHashSet extends AbstractSet<Integer>{
 	}
 	
 	public IntHashSet(
-			final int proposedCapacity) {
+			@DoNotSub final int proposedCapacity) {
 		this(proposedCapacity, Hashing.DEFAULT_LOAD_FACTOR, true);
 	}
 	
 	public IntHashSet(
-			final int proposedCapacity,
+			@DoNotSub final int proposedCapacity,
 			final float loadFactor) {
 		this(proposedCapacity, loadFactor, true);
 	}
 	
 	public IntHashSet(
-			final int proposedCapacity, 
+			@DoNotSub final int proposedCapacity, 
 			final float loadFactor,
 			final boolean shouldAvoidAllocation) {
 		validateLoadFactor(loadFactor);
@@ -52,20 +57,34 @@ public class IntHashSet extends AbstractSet<Integer>{
 		this.shouldAvoidAllocation = shouldAvoidAllocation;
 		this.loadFactor = loadFactor;
 		sizeOfArrayValues = 0;
-		final int capacity = findNextPositivePowerOfTwo(Math.max(DEFAULT_INITIAL_CAPACITY, proposedCapacity));
-		resizeThreshold = (int)(capacity * loadFactor);
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(DEFAULT_INITIAL_CAPACITY, proposedCapacity));
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
 		values = new int[capacity];
 	}
 	
+	private IntHashSet(final HashSnapshot.Reader reader) {
+		loadFactor = reader.loadFactor();
+		validateLoadFactor(loadFactor);
+		shouldAvoidAllocation = 0 != (reader.flags() & HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION);
+		containsMissingValue = 0 != (reader.flags() & HashSnapshot.FLAG_CONTAINS_MISSING_VALUE);
+		
+		@DoNotSub final int capacity = reader.capacity();
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		sizeOfArrayValues = reader.size();
+		values = new int[capacity];
+		reader.getIntArray(values);
+		reader.verify();
+	}
+	
 	public float loadFactor() {
 		return loadFactor;
 	}
 	
-	public int capacity() {
+	public @DoNotSub int capacity() {
 		return values.length;
 	}
 	
-	public int resizeThreshold() {
+	public @DoNotSub int resizeThreshold() {
 		return resizeThreshold;
 	}
 	
@@ -81,8 +100,8 @@ public class IntHashSet extends AbstractSet<Integer>{
 		}
 		
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(value, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(value, mask);
 		
 		int oldValue;
 		while (MISSING_VALUE != (oldValue = values[index])) {
@@ -104,7 +123,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 	}
 	
 	private void increaseCapacity() {
-		final int newCapacity = values.length * 2;
+		@DoNotSub final int newCapacity = values.length * 2;
 		if (newCapacity < 0) {
 			throw new IllegalStateException("max capacity reached at size=" + size());
 		}
@@ -112,16 +131,16 @@ public class IntHashSet extends AbstractSet<Integer>{
 		rehash(newCapacity);
 	}
 	
-	private void rehash(final int newCapacity) {
-		final int capacity = newCapacity;
-		final int mask = newCapacity - 1;
-		resizeThreshold = (int)(newCapacity * loadFactor);
+	private void rehash(@DoNotSub final int newCapacity) {
+		@DoNotSub final int capacity = newCapacity;
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
 		
 		final int[] tempValues = new int[capacity];
 		final int[] values = this.values;
 		for (final int value : values) {
 			if (MISSING_VALUE != value) {
-				int newHash =  Hashing.hash(value, mask);
+				@DoNotSub int newHash =  Hashing.hash(value, mask);
 				while (MISSING_VALUE != tempValues[newHash]) {
 					newHash = ++newHash & mask;
 				}
@@ -145,8 +164,8 @@ public class IntHashSet extends AbstractSet<Integer>{
 		}
 		
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(value, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(value, mask);
 		
 		int oldValue;
 		while (MISSING_VALUE != (oldValue = values[index])) {
@@ -163,15 +182,15 @@ public class IntHashSet extends AbstractSet<Integer>{
 		return false;
 	}
 	
-	private static int next(final int index, final int mask) {
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
 		return (index + 1) & mask;
 	}
 	
 	@SuppressWarnings("FinalParameters")
-	void compactChain(int deleteIndex) {
+	void compactChain(@DoNotSub int deleteIndex) {
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = deleteIndex;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
 		
 		while (true) {
 			index = next(index, mask);
@@ -180,7 +199,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 				return;
 			}
 			
-			final int hash = Hashing.hash(value, mask);
+			@DoNotSub final int hash = Hashing.hash(value, mask);
 			
 			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
 					(hash <= deleteIndex && deleteIndex <= index)) {
@@ -193,10 +212,75 @@ public class IntHashSet extends AbstractSet<Integer>{
 	}
 	
 	public void compact() {
-		final int idealCapacity = (int)Math.round(size() * (1.0 / loadFactor));
+		@DoNotSub final int idealCapacity = (int)Math.round(size() * (1.0 / loadFactor));
 		rehash(findNextPositivePowerOfTwo(Math.max(DEFAULT_INITIAL_CAPACITY, idealCapacity)));
 	}
 	
+	/**
+	 * Length of the snapshot written by {@link #writeSnapshot}, which is a header and the values as they are held.
+	 */
+	public long snapshotLength() {
+		return HashSnapshot.length(values.length, Integer.BYTES);
+	}
+	
+	/**
+	 * Write a snapshot which {@link #readSnapshot} restores by a bulk copy of the values without rehashing.
+	 *
+	 * @return length of the snapshot.
+	 * @throws IndexOutOfBoundsException if the buffer is shorter than {@link #snapshotLength()} from the index.
+	 */
+	public @DoNotSub int writeSnapshot(final MutableDirectBuffer buffer, @DoNotSub final int index) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(buffer, index)) {
+			return (int)writeSnapshot(writer); // @DoNotSub
+		}
+	}
+	
+	/**
+	 * Write a snapshot to a file, which is created or truncated.
+	 */
+	public void writeSnapshot(final File file) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(file)) {
+			writeSnapshot(writer);
+		}
+	}
+	
+	/**
+	 * Restore a set from a snapshot written by {@link #writeSnapshot}.
+	 *
+	 * @throws IllegalStateException if the snapshot is of a different type, is truncated or fails its checksum.
+	 */
+	public static IntHashSet readSnapshot(
+		final DirectBuffer buffer,
+		@DoNotSub final int index) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			buffer, index, HashSnapshot.KIND_HASH_SET, Integer.BYTES)) {
+			return new IntHashSet(reader);
+		}
+	}
+	
+	public static IntHashSet readSnapshot(final File file) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(file, HashSnapshot.KIND_HASH_SET, Integer.BYTES)) {
+			return new IntHashSet(reader);
+		}
+	}
+	
+	private long writeSnapshot(final HashSnapshot.Writer writer) {
+		@DoNotSub int flags = shouldAvoidAllocation ? HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION : 0;
+		if (containsMissingValue) {
+			flags |= HashSnapshot.FLAG_CONTAINS_MISSING_VALUE;
+		}
+		
+		writer.putIntArray(values);
+		return writer.finish(
+			HashSnapshot.KIND_HASH_SET,
+			Integer.BYTES,
+			values.length,
+			sizeOfArrayValues,
+			loadFactor,
+			flags,
+			MISSING_VALUE);
+	}
+	
 	public boolean contains(final Object value) {
 		return contains((int) value);
 	}
@@ -206,8 +290,8 @@ public class IntHashSet extends AbstractSet<Integer>{
 			return containsMissingValue;
 		}
 		
-		final int mask = values.length - 1;
-		int index = Hashing.hash(value, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(value, mask);
 		
 		int existingValue;
 		while (MISSING_VALUE != (existingValue = values[index])) {
@@ -221,7 +305,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 		return false;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return sizeOfArrayValues + (containsMissingValue ? 1 : 0);
 	}
 	
@@ -333,8 +417,8 @@ public class IntHashSet extends AbstractSet<Integer>{
 	public boolean retainAll(final Collection<?> col1) {
 		boolean removed = false;
 		final int[] values = this.values;
-		final int length = values.length;
-		int i = 0;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int i = 0;
 		for (; i < length; i++) {
 			final int value = values[i];
 			if (MISSING_VALUE != value && !col1.contains(value)) {
@@ -358,8 +442,8 @@ public class IntHashSet extends AbstractSet<Integer>{
 	
 	public boolean retainAll(final IntHashSet col1) {
 		boolean removed = false;
-		final int length = values.length;
-		int i = 0;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int i = 0;
 		for (; i < length; i++) {
 			final int value = values[i];
 			if (MISSING_VALUE != value && !col1.contains(value)) {
@@ -449,7 +533,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 			throw new ArrayStoreException("cannot store Integers in array of type " + componentType);
 		}
 		
-		final int size = size();
+		@DoNotSub final int size = size();
 		final T[] arrayCopy = a.length >= size ? a : (T[]) Array.newInstance(componentType, size);
 		copyValues(arrayCopy);
 		
@@ -464,7 +548,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 	}
 	
 	private void copyValues(final Object[] arrayCopy) {
-		int i = 0;
+		@DoNotSub int i = 0;
 		final int[] values = this.values;
 		for (final int value : values) {
 			if (MISSING_VALUE != value) {
@@ -506,8 +590,8 @@ public class IntHashSet extends AbstractSet<Integer>{
 		}
 	}
 	
-	public int hashCode() {
-		int hashCode = 0;
+	public @DoNotSub int hashCode() {
+		@DoNotSub int hashCode = 0;
 		for (final int value : values) {
 			if (MISSING_VALUE != value) {
 				hashCode += Integer.hashCode(value);
@@ -522,9 +606,9 @@ public class IntHashSet extends AbstractSet<Integer>{
 	}
 	
 	public final class IntIterator implements Iterator<Integer> {
-		private int remaining;
-		private int positionCounter;
-		private int stopCounter;
+		private @DoNotSub int remaining;
+		private @DoNotSub int positionCounter;
+		private @DoNotSub int stopCounter;
 		private boolean isPositionValid = false;
 	
 		public IntIterator() {
@@ -534,8 +618,8 @@ public class IntHashSet extends AbstractSet<Integer>{
 		IntIterator reset() {
 			remaining = size();
 			final int[] values = IntHashSet.this.values;
-			final int length = values.length;
-			int i = length;
+			@DoNotSub final int length = values.length;
+			@DoNotSub int i = length;
 			
 			if (MISSING_VALUE != values[length - 1]) {
 				for (i = 0; i < length; i++) {
@@ -556,7 +640,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 			return remaining > 0;
 		}
 		
-		public int remaining() {
+		public @DoNotSub int remaining() {
 			return remaining;
 		}
 		
@@ -585,7 +669,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 					containsMissingValue = false;
 				} else {
 					final int[] values = IntHashSet.this.values;
-					final int position = position(values);
+					@DoNotSub final int position = position(values);
 					values[position] = MISSING_VALUE;
 					--sizeOfArrayValues;
 					
@@ -600,11 +684,11 @@ public class IntHashSet extends AbstractSet<Integer>{
 		
 		private void findNext() {
 			final int[] values = IntHashSet.this.values;
-			final int mask = values.length - 1;
+			@DoNotSub final int mask = values.length - 1;
 			isPositionValid = true;
 			
-			for (int i = positionCounter - 1, stop = stopCounter;  i >= stop; i--) {
-				final int index = i & mask;
+			for (@DoNotSub int i = positionCounter - 1, stop = stopCounter;  i >= stop; i--) {
+				@DoNotSub final int index = i & mask;
 				if (MISSING_VALUE != values[index]) {
 					positionCounter = i;
 					--remaining;
@@ -616,7 +700,7 @@ public class IntHashSet extends AbstractSet<Integer>{
 			throw new NoSuchElementException();
 		}
 		
-		private int position(
+		private @DoNotSub int position(
 				final int[] values) {
 			return positionCounter & (values.length - 1);
 		}
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface IntLongConsumer {
+	void accept(int key, long value);
+}
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface IntLongPredicate {
+	boolean test(int key, long value);
+}
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface IntLongToLongFunction {
+	long apply(int key, long value);
+}
@@ -0,0 +1,344 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+/**
+ * Min-heap priority queue of int keys with an optional 32-bit payload per entry, as a replacement for a
+ * {@code PriorityQueue} of boxed deadlines or sequence numbers.
+ * <p>
+ * The heap is d-ary and held in parallel arrays. A shallower tree than a binary heap does fewer cache missing levels
+ * per operation. Each entry has a handle, which stays valid until the entry is removed, for O(log n)
+ * {@link #decreaseKey}, {@link #updateKey} and {@link #remove}. Handles are reused after removal and storage only
+ * grows when the size exceeds the capacity, so the heap does not allocate once sized.
+ */
+public class IntMinHeap {
+	public static @DoNotSub final int DEFAULT_ARITY = 4;
+	public static @DoNotSub final int MIN_CAPACITY = 8;
+	static @DoNotSub final int NONE = -1;
+	
+	private @DoNotSub final int arity;
+	private @DoNotSub int size;
+	private @DoNotSub int freeCount;
+	
+	private int[] keys;
+	private @DoNotSub int[] handles;
+	private @DoNotSub int[] positions;
+	private @DoNotSub int[] payloads;
+	private @DoNotSub int[] freeHandles;
+	
+	public IntMinHeap() {
+		this(MIN_CAPACITY, DEFAULT_ARITY);
+	}
+	
+	public IntMinHeap(
+		@DoNotSub final int initialCapacity) {
+		this(initialCapacity, DEFAULT_ARITY);
+	}
+	
+	/**
+	 * @param arity number of children of each node, at least 2.
+	 */
+	public IntMinHeap(
+		@DoNotSub final int initialCapacity,
+		@DoNotSub final int arity) {
+		if (arity < 2) {
+			throw new IllegalArgumentException("arity must be at least 2: " + arity);
+		}
+		
+		this.arity = arity;
+		@DoNotSub final int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+		keys = new int[capacity];
+		handles = new int[capacity]; // @DoNotSub
+		positions = new int[capacity]; // @DoNotSub
+		payloads = new int[capacity]; // @DoNotSub
+		freeHandles = new int[capacity]; // @DoNotSub
+		clear();
+	}
+	
+	public @DoNotSub int arity() {
+		return arity;
+	}
+	
+	public @DoNotSub int capacity() {
+		return keys.length;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+	
+	public void clear() {
+		@DoNotSub final int capacity = positions.length;
+		Arrays.fill(positions, NONE);
+		for (@DoNotSub int i = 0; i < capacity; i++) {
+			freeHandles[i] = capacity - 1 - i;
+		}
+		
+		freeCount = capacity;
+		size = 0;
+	}
+	
+	/**
+	 * @return handle for the entry.
+	 */
+	public @DoNotSub int add(
+		final int key) {
+		return add(key, 0);
+	}
+	
+	/**
+	 * @return handle for the entry.
+	 */
+	public @DoNotSub int add(
+		final int key,
+		@DoNotSub final int payload) {
+		if (size == keys.length) {
+			increaseCapacity();
+		}
+		
+		@DoNotSub final int handle = freeHandles[--freeCount];
+		payloads[handle] = payload;
+		siftUp(size++, key, handle);
+		
+		return handle;
+	}
+	
+	public int peekKey() {
+		checkNotEmpty();
+		return keys[0];
+	}
+	
+	public @DoNotSub int peekHandle() {
+		checkNotEmpty();
+		return handles[0];
+	}
+	
+	public @DoNotSub int peekPayload() {
+		checkNotEmpty();
+		return payloads[handles[0]];
+	}
+	
+	/**
+	 * Remove the entry with the least key, after which its handle is no longer valid.
+	 *
+	 * @return the least key.
+	 */
+	public int pollKey() {
+		checkNotEmpty();
+		final int key = keys[0];
+		removeAt(0);
+		return key;
+	}
+	
+	public boolean contains(@DoNotSub final int handle) {
+		return handle >= 0 && handle < positions.length && NONE != positions[handle];
+	}
+	
+	public int key(
+		@DoNotSub final int handle) {
+		return keys[position(handle)];
+	}
+	
+	public @DoNotSub int payload(@DoNotSub final int handle) {
+		position(handle);
+		return payloads[handle];
+	}
+	
+	/**
+	 * Lower the key of an entry, such as bringing a deadline forward.
+	 *
+	 * @throws IllegalArgumentException if the new key is greater than the current key.
+	 */
+	public void decreaseKey(
+		@DoNotSub final int handle,
+		final int newKey) {
+		@DoNotSub final int position = position(handle);
+		if (newKey > keys[position]) {
+			throw new IllegalArgumentException("new key " + newKey + " is greater than current key " + keys[position]);
+		}
+		
+		siftUp(position, newKey, handle);
+	}
+	
+	/**
+	 * Change the key of an entry in either direction.
+	 */
+	public void updateKey(
+		@DoNotSub final int handle,
+		final int newKey) {
+		@DoNotSub final int position = position(handle);
+		if (newKey < keys[position]) {
+			siftUp(position, newKey, handle);
+		}
+		else {
+			siftDown(position, newKey, handle);
+		}
+	}
+	
+	/**
+	 * @return true if the handle was for an entry in the heap.
+	 */
+	public boolean remove(@DoNotSub final int handle) {
+		if (!contains(handle)) {
+			return false;
+		}
+		
+		removeAt(positions[handle]);
+		return true;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('[');
+		for (@DoNotSub int i = 0; i < size; i++) {
+			sb.append(keys[i]).append(", ");
+		}
+		
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		return sb.append(']').toString();
+	}
+	
+	private void removeAt(@DoNotSub final int position) {
+		@DoNotSub final int handle = handles[position];
+		positions[handle] = NONE;
+		freeHandles[freeCount++] = handle;
+		
+		@DoNotSub final int last = --size;
+		if (position != last) {
+			final int lastKey = keys[last];
+			@DoNotSub final int lastHandle = handles[last];
+			if (position > 0 && lastKey < keys[parent(position)]) {
+				siftUp(position, lastKey, lastHandle);
+			}
+			else {
+				siftDown(position, lastKey, lastHandle);
+			}
+		}
+	}
+	
+	/**
+	 * Move an entry from position towards the root, shifting down parents with greater keys instead of swapping.
+	 */
+	private void siftUp(
+		@DoNotSub final int position,
+		final int key,
+		@DoNotSub final int handle) {
+		final int[] keys = this.keys;
+		@DoNotSub final int[] handles = this.handles;
+		@DoNotSub int index = position;
+		
+		while (index > 0) {
+			@DoNotSub final int parent = parent(index);
+			final int parentKey = keys[parent];
+			if (key >= parentKey) {
+				break;
+			}
+			
+			move(parent, index, parentKey);
+			index = parent;
+		}
+		
+		keys[index] = key;
+		handles[index] = handle;
+		positions[handle] = index;
+	}
+	
+	/**
+	 * Move an entry from position towards the leaves, shifting up the least child while it has a lesser key.
+	 */
+	private void siftDown(
+		@DoNotSub final int position,
+		final int key,
+		@DoNotSub final int handle) {
+		final int[] keys = this.keys;
+		@DoNotSub final int[] handles = this.handles;
+		@DoNotSub final int arity = this.arity;
+		@DoNotSub final int size = this.size;
+		@DoNotSub int index = position;
+		
+		while (true) {
+			@DoNotSub final int firstChild = index * arity + 1;
+			if (firstChild >= size) {
+				break;
+			}
+			
+			@DoNotSub int least = firstChild;
+			int leastKey = keys[firstChild];
+			for (@DoNotSub int child = firstChild + 1, end = Math.min(firstChild + arity, size); child < end; child++) {
+				final int childKey = keys[child];
+				if (childKey < leastKey) {
+					least = child;
+					leastKey = childKey;
+				}
+			}
+			
+			if (key <= leastKey) {
+				break;
+			}
+			
+			move(least, index, leastKey);
+			index = least;
+		}
+		
+		keys[index] = key;
+		handles[index] = handle;
+		positions[handle] = index;
+	}
+	
+	private void move(
+		@DoNotSub final int from,
+		@DoNotSub final int to,
+		final int key) {
+		@DoNotSub final int handle = handles[from];
+		keys[to] = key;
+		handles[to] = handle;
+		positions[handle] = to;
+	}
+	
+	private @DoNotSub int parent(@DoNotSub final int index) {
+		return (index - 1) / arity;
+	}
+	
+	private @DoNotSub int position(@DoNotSub final int handle) {
+		if (!contains(handle)) {
+			throw new IllegalArgumentException("invalid handle: " + handle);
+		}
+		
+		return positions[handle];
+	}
+	
+	private void checkNotEmpty() {
+		if (0 == size) {
+			throw new NoSuchElementException();
+		}
+	}
+	
+	private void increaseCapacity() {
+		@DoNotSub final int capacity = keys.length;
+		@DoNotSub final int newCapacity = capacity << 1;
+		if (newCapacity < 0) {
+			throw new IllegalStateException("max capacity reached at size=" + size);
+		}
+		
+		keys = Arrays.copyOf(keys, newCapacity);
+		handles = Arrays.copyOf(handles, newCapacity);
+		payloads = Arrays.copyOf(payloads, newCapacity);
+		positions = Arrays.copyOf(positions, newCapacity);
+		Arrays.fill(positions, capacity, newCapacity, NONE);
+		
+		freeHandles = Arrays.copyOf(freeHandles, newCapacity);
+		for (@DoNotSub int i = capacity; i < newCapacity; i++) {
+			freeHandles[freeCount++] = newCapacity - 1 - (i - capacity);
+		}
+	}
+}
@@ -0,0 +1,1057 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.LongToIntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+public class Long2IntHashMap implements Map<Long, Integer>{
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	
+	private final float loadFactor;
+	private final int missingValue;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size = 0;
+	private final boolean shouldAvoidAllocation;
+	
+	private long[] entries;
+	private KeySet keySet;
+	private ValueCollection values;
+	private EntrySet entrySet;
+	
+	public Long2IntHashMap(final int missingValue) {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, missingValue);
+	}
+	
+	public Long2IntHashMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final int missingValue) {
+		this(initialCapacity, loadFactor, missingValue, true);
+	}
+	
+	public Long2IntHashMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final int missingValue,
+			final boolean shouldAvoidAllocation) {
+		validateLoadFactor(loadFactor);
+		
+		this.loadFactor = loadFactor;
+		this.missingValue = missingValue;
+		this.shouldAvoidAllocation = shouldAvoidAllocation;
+		
+		capacity(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity)));
+	}
+	
+	public Long2IntHashMap(final Long2IntHashMap mapToCopy) {
+			this.loadFactor = mapToCopy.loadFactor;
+			this.resizeThreshold = mapToCopy.resizeThreshold;
+			this.size = mapToCopy.size;
+			this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
+			this.missingValue = mapToCopy.missingValue;
+			
+			entries = mapToCopy.entries.clone();
+	}
+	
+	public int missingValue() {
+		return missingValue;
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public @DoNotSub int capacity() {
+		return entries.length >> 1;
+	}
+	
+	public @DoNotSub int resizeThreshold() {
+		return resizeThreshold;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	public int getOrDefault(final long key, final int defaultValue) {
+		final int value = get(key);
+		return missingValue != value ? value : defaultValue;
+	}
+	
+	public int get(final long key) {
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		int value;
+		while (missingValue != (value = (int)entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			index = next(index, mask);
+		} 
+		
+		return value;
+	}
+	
+	public int put(final long key, final int value) {
+		final int missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot except missingValue");
+		}
+		
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		int oldValue;
+		while (missingValue != (oldValue = (int)entries[index + 1])) {
+			if (key == entries[index]){
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		if (missingValue == oldValue) {
+			++size;
+			entries[index] = key;
+		}
+		
+		entries[index + 1] = value;
+		increaseCapacity();
+		return oldValue;
+	}
+	
+	public int putIfAbsent(final long key, final int value) {
+		final int missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		int oldValue;
+		while (missingValue != (oldValue = (int)entries[index + 1])) {
+			if (key == entries[index]) {
+				return oldValue;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		++size;
+		entries[index] = key;
+		entries[index + 1] = value;
+		
+		increaseCapacity();
+		return oldValue;
+	}
+	
+	private void increaseCapacity() {
+		if (size > resizeThreshold) {
+			@DoNotSub final int newCapacity = entries.length;
+			rehash(newCapacity);
+		}
+	}
+	
+	private void rehash(@DoNotSub final int newCapacity) {
+		final int missingValue = this.missingValue;
+		final long[] oldEntries = entries;
+		@DoNotSub final int length = oldEntries.length;
+		
+		capacity(newCapacity);
+		
+		final long[] newEntries = entries;
+		@DoNotSub final int mask = newEntries.length - 1;
+		
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+			final int value = (int)oldEntries[valueIndex];
+			if (missingValue != value) {
+				final long key = oldEntries[valueIndex - 1];
+				@DoNotSub int newKeyIndex = Hashing.evenHash(key, mask);
+				
+				while (missingValue != newEntries[newKeyIndex + 1]) {
+					newKeyIndex = next(newKeyIndex, mask);
+				}
+				
+				newEntries[newKeyIndex] = key;
+				newEntries[newKeyIndex + 1] = value;
+			}
+		}
+	}
+	
+	@Deprecated
+	public void longForEach(final LongIntConsumer consumer) {
+		forEachLong(consumer);
+	}
+	
+	public void forEachLong(final LongIntConsumer consumer) {
+		requireNonNull(consumer);
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		
+		for (@DoNotSub int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
+			if (missingValue != (int)entries[valueIndex]) {
+				consumer.accept(entries[valueIndex - 1], (int)entries[valueIndex]);
+				--remaining;
+			}
+		}
+	}
+	
+	public boolean containsKey(final long key) {
+		return missingValue != get(key);
+	}
+	
+	public boolean containsValue(final int value) {
+		boolean found = false;
+		final int missingValue = this.missingValue;
+		if (missingValue != value) {
+			final long[] entries = this.entries;
+			@DoNotSub final int length = entries.length;
+			@DoNotSub int remaining = size;
+			for (@DoNotSub int valueIndex = 1; remaining > 0 && valueIndex < length; valueIndex += 2) {
+				final int existingValue = (int)entries[valueIndex];
+				if (missingValue != existingValue) {
+					if (existingValue == value) {
+						found = true;
+						break;
+					}
+					-- remaining;
+				}
+			}
+		}
+		return found;
+	}
+	
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(entries, missingValue);
+			size = 0;
+		}
+	} 
+	
+	public void compact() {
+		@DoNotSub final int idealCapacity = (int) Math.round(size() * (1.0d / loadFactor));
+		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
+	}
+	
+	public int computeIfAbsent(final long key, final LongToIntFunction mappingFunction) {
+		requireNonNull(mappingFunction);
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		int value;
+		while (missingValue != (value = (int)entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		if (missingValue == value && missingValue != (value = mappingFunction.applyAsInt(key))) {
+			entries[index] = key;
+			entries[index + 1] = value;
+			++size;
+			increaseCapacity();
+		}
+		return value;
+	}
+	
+	public int computeIfPresent(final long key, final LongIntToIntFunction remappingFunction) {
+		requireNonNull(remappingFunction);
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		int value;
+		while (missingValue != (value = (int)entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			index = next(index, mask);
+		}
+		if (missingValue != value) {
+			value = remappingFunction.apply(key, value);
+			entries[index + 1] = value;
+			if (missingValue == value) {
+				size--;
+				compactChain(index);
+			}
+		}
+		return value;
+	}
+	
+	public int compute(final long key, final LongIntToIntFunction remappingFunction) {
+		requireNonNull(remappingFunction);
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		int oldValue;
+		while (missingValue != (oldValue = (int)entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		final int newValue = remappingFunction.apply(key, oldValue);
+		if (missingValue != newValue) {
+			entries[index + 1] = newValue;
+			if (oldValue == missingValue) {
+				entries[index] = key;
+				++size;
+				increaseCapacity();
+			}
+		} else if (missingValue != oldValue) {
+			entries[index + 1] = missingValue;
+			size--;
+			compactChain(index);
+		}
+		return newValue;
+	}
+	
+	public Integer get(final Object key) {
+		return valOrNull(get((long)key));
+	}
+	
+	public Integer put(final Long key, final Integer value) {
+		return valOrNull(put((long)key, (int)value));
+	}
+	
+	public void forEach(final BiConsumer<? super Long, ? super Integer> action) {
+		forEachLong(action::accept);
+	}
+	
+	public boolean containsKey(final Object key) {
+		return containsKey((long)key);
+	}
+	
+	public boolean containsValue(final Object value) {
+		return containsValue((int)value);
+	}
+	
+	public void putAll(final Map<? extends Long, ? extends Integer> map) {
+		for (final Map.Entry<? extends Long, ? extends Integer> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	public void putAll(final Long2IntHashMap map) {
+		final EntryIterator it = map.entrySet().iterator();
+		while (it.hasNext()) {
+			it.findNext();
+			put(it.getLongKey(), it.getIntValue());
+		}
+	}
+	
+	public Integer putIfAbsent(final Long key, final Integer value) {
+		return valOrNull(putIfAbsent((long) key, (int)value));
+	}
+	
+	public Integer replace(final Long key, final Integer value) {
+		return valOrNull(replace((long)key, (int)value));
+	}
+	
+	public boolean replace(final Long key, final Integer oldValue, final Integer newValue) {
+		return replace((long)key, (int)oldValue, (int)newValue);
+	}
+	
+	public void replaceAll(final BiFunction<? super Long, ? super Integer, ? extends Integer> function) {
+		replaceAllLong(function::apply);
+	}
+	
+	public KeySet keySet() {
+		if (keySet == null) {
+			keySet = new KeySet();
+		}
+		return keySet;
+	}
+	
+	public ValueCollection values() {
+		if (values == null) {
+			values = new ValueCollection();
+		}
+		return values;
+	}
+	
+	public EntrySet entrySet() {
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+	
+	public Integer remove(final Object key) {
+		return valOrNull(remove((long)key));
+	}
+	
+	public boolean remove(final Object key, final Object value) {
+		return remove((long)key, (int)value);
+	}
+	
+	public int remove(final long key) {
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		int oldValue;
+		while (missingValue != (oldValue = (int)entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				entries[keyIndex + 1] = missingValue;
+				size--;
+				
+				compactChain(keyIndex);
+				break;
+			}
+			
+			keyIndex = next(keyIndex, mask);
+		}
+		
+		return oldValue;
+	}
+	
+	public boolean remove(final long key, final int value) {
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		int oldValue;
+		while (missingValue != (oldValue = (int)entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				if (value == oldValue) {
+					entries[keyIndex + 1] = missingValue;
+					size--;
+					
+					compactChain(keyIndex);
+					return true;
+				}
+				break;
+			}
+			keyIndex = next(keyIndex, mask);
+		}
+		
+		return false;
+	}
+	
+	public int merge(final long key, final int value, final IntIntFunction remappingFunction) {
+		requireNonNull(remappingFunction);
+		final int missingValue = this.missingValue;
+		if (value == missingValue) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		int oldValue;
+		while (missingValue != (oldValue = (int)entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		final int newValue = missingValue == oldValue ? value : remappingFunction.apply(oldValue, value);
+		if (missingValue != newValue) {
+			entries[index + 1] = newValue;
+			if (missingValue == oldValue) {
+				entries[index] = key;
+				++size;
+				increaseCapacity();
+			}
+		} else {
+			entries[index + 1] = missingValue;
+			size--;
+			compactChain(index);
+		}
+		
+		return newValue;
+	}
+	
+	@SuppressWarnings("FinalParameters")
+	private void compactChain(@DoNotSub int deleteKeyIndex) {
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = deleteKeyIndex;
+		
+		while (true) {
+			keyIndex = next(keyIndex, mask);
+			final int value = (int)entries[keyIndex + 1];
+			if (value == missingValue) {
+				break;
+			}
+			
+			final long key = entries[keyIndex];
+			@DoNotSub final int hash = Hashing.evenHash(key, mask);
+			if ((keyIndex < hash && (hash <= deleteKeyIndex || deleteKeyIndex <= keyIndex)) ||
+					(hash <= deleteKeyIndex && deleteKeyIndex <= keyIndex)) {
+				entries[deleteKeyIndex] = key;
+				entries[deleteKeyIndex + 1] = value;
+				
+				entries[keyIndex + 1] = missingValue;
+				deleteKeyIndex = keyIndex;
+			}
+		}
+	}
+	
+	public int minValue() {
+		final int missingValue = this.missingValue;
+		int min = 0 == size ? missingValue : Integer.MAX_VALUE;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+			final int value = (int)entries[valueIndex];
+			if (missingValue != value) {
+				min = Math.min(min, value);
+			} 
+		}
+		
+		return min;
+	}
+	
+	public int maxValue() {
+		final int missingValue = this.missingValue;
+		int max = 0 == size ? missingValue : Integer.MIN_VALUE;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+			final int value = (int)entries[valueIndex];
+			if (missingValue != value) {
+				max = Math.max(max, value);
+			}
+		}
+		
+		return max;
+	}
+	
+	public String toString() {
+		if (isEmpty()) {
+			return "{}";
+		}
+		
+		final EntryIterator entryIterator = new EntryIterator();
+		entryIterator.reset();
+		
+		final StringBuilder sb = new StringBuilder().append('{');
+		while (true) {
+			entryIterator.next();
+			sb.append(entryIterator.getLongKey()).append('=').append(entryIterator.getIntValue());
+			if (!entryIterator.hasNext()) {
+				return sb.append('}').toString();
+			}
+			sb.append(',').append(' ');
+		}
+	}
+	
+	public int replace(final long key, final int value) {
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		int oldValue;
+		while (missingValue != (oldValue = (int)entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				entries[keyIndex + 1] = value;
+				break;
+			}
+			
+			keyIndex = next(keyIndex, mask);
+		}
+		
+		return oldValue;
+	}
+	
+	public boolean replace(final long key, final int oldValue, final int newValue) {
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		int value;
+		while (missingValue != (value = (int)entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				if (oldValue == value) {
+					entries[keyIndex + 1] = newValue;
+					return true;
+				}
+				break;
+			}
+			
+			keyIndex = next(keyIndex, mask);
+		}
+		return false;
+	}
+	
+	public void replaceAllLong(final LongIntToIntFunction function) {
+		requireNonNull(function);
+		final int missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		
+		for (@DoNotSub int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
+			final int existingValue = (int)entries[valueIndex];
+			if (missingValue != existingValue) {
+				final int newValue = function.apply(entries[valueIndex - 1], existingValue);
+				if (missingValue == newValue) {
+					throw new IllegalArgumentException("cannot replace with a missingValue");
+				}
+				entries[valueIndex] = newValue;
+				--remaining;
+			}
+		}
+	}
+	
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		
+		if (!(o instanceof Map)) {
+			return false;
+		}
+		
+		final Map<?, ?> that = (Map<?, ?>)o;
+		return size == that.size() && entrySet().equals(that.entrySet());
+	}
+	
+	public @DoNotSub int hashCode() {
+		return entrySet().hashCode();
+	}
+	
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
+		return (index + 2) & mask;
+	}
+	
+	private void capacity(@DoNotSub final int newCapacity) {
+		@DoNotSub final int entriesLength = newCapacity * 2;
+		if (entriesLength < 0) {
+			throw new IllegalStateException("max capacity reached at size=" + size);
+		} 
+		resizeThreshold = (int) (newCapacity * loadFactor); // @DoNotSub
+		entries = new long[entriesLength];
+		Arrays.fill(entries, missingValue);
+	}
+	
+	private Integer valOrNull(final int value) {
+		return value == missingValue ? null : value;
+	}
+	
+	abstract class AbstractIterator {
+		protected boolean isPositionValid = false;
+		private @DoNotSub int remaining;
+		private @DoNotSub int positionCounter;
+		private @DoNotSub int stopCounter;
+		
+		final void reset() {
+			isPositionValid = false;
+			remaining = Long2IntHashMap.this.size;
+			final int missingValue = Long2IntHashMap.this.missingValue;
+			final long[] entries = Long2IntHashMap.this.entries;
+			@DoNotSub final int capacity = entries.length;
+			
+			@DoNotSub int keyIndex = capacity;
+			if (missingValue != entries[capacity - 1]) {
+				for (@DoNotSub int i = 1; i < capacity; i += 2) {
+					if (missingValue == entries[i]) {
+						keyIndex = i - 1;
+						break;
+					}
+				}
+			}
+			
+			stopCounter = keyIndex;
+			positionCounter = keyIndex + capacity;
+		}
+		
+		protected @DoNotSub final int keyPosition() {
+			return positionCounter & entries.length - 1;
+		}
+		
+		public @DoNotSub int remaining() {
+			return remaining;
+		}
+		
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		protected final void findNext() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			
+			final long[] entries = Long2IntHashMap.this.entries;
+			final int missingValue = Long2IntHashMap.this.missingValue;
+			@DoNotSub final int mask = entries.length - 1;
+			
+			for (@DoNotSub int keyIndex = positionCounter - 2, stop = stopCounter; keyIndex >= stop; keyIndex -= 2) {
+				@DoNotSub final int index = keyIndex & mask;
+				if (missingValue != (int)entries[index + 1]) {
+					isPositionValid = true;
+					positionCounter = keyIndex;
+					--remaining;
+					return;
+				}
+			}
+			
+			isPositionValid = false;
+			throw new IllegalStateException();
+		}
+		
+		public void remove() {
+			if (isPositionValid) {
+				@DoNotSub final int position = keyPosition();
+				entries[position + 1] = missingValue;
+				--size;
+				
+				compactChain(position);
+				isPositionValid = false;
+			}
+			else {
+				throw new IllegalStateException();
+			}
+		}
+	}
+	
+	public final class KeyIterator extends AbstractIterator implements Iterator<Long> {
+		public KeyIterator() {
+		
+		}
+		
+		public Long next() {
+			return nextValue();
+		}
+		
+		public long nextValue() {
+			findNext();
+			return entries[keyPosition()];
+		}
+	}
+	
+	public final class ValueIterator extends AbstractIterator implements Iterator<Integer> {
+		public ValueIterator() {
+		
+		}
+		
+		public Integer next() {
+			return nextValue();
+		}
+		
+		public int nextValue() {
+			findNext();
+			return (int)entries[keyPosition() + 1];
+		}
+	}
+	
+	public final class EntryIterator extends AbstractIterator implements Iterator<Entry<Long, Integer>>, Entry<Long, Integer> {
+		public EntryIterator() {
+		
+		}
+		
+		public Long getKey() {
+			return getLongKey();
+		}
+		
+		public long getLongKey() {
+			return entries[keyPosition()];
+		}
+		
+		public Integer getValue() {
+			return getIntValue();
+		}
+		
+		public int getIntValue() {
+			return (int)entries[keyPosition() + 1];
+		}
+		
+		public Integer setValue(final Integer value) {
+			return setValue(value.intValue());
+		}
+		
+		public int setValue(final int value) {
+			if (!isPositionValid) {
+				throw new IllegalStateException();
+			}
+			
+			if (missingValue == value) {
+				throw new IllegalArgumentException("cannot except missingValue");
+			}
+			
+			@DoNotSub final int keyPosition = keyPosition();
+			final long[] entries = Long2IntHashMap.this.entries;
+			final int preValue = (int)entries[keyPosition  +1];
+			entries[keyPosition + 1] = value;
+			return preValue;
+		}
+		
+		public Entry<Long, Integer> next() {
+			findNext();
+			if (shouldAvoidAllocation) {
+				return this;
+			}
+			return allocateDuplicateEntry();
+		}
+		
+		private Entry<Long, Integer> allocateDuplicateEntry() {
+			return new MapEntry(getLongKey(), getIntValue());
+		}
+		
+		public @DoNotSub int hashCode() {
+			return Long.hashCode(getLongKey()) ^ Integer.hashCode(getIntValue());
+		}
+		
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			
+			final Entry<?, ?> that = (Entry<?, ?>)o;
+			
+			return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+		}
+		
+		public final class MapEntry implements Entry<Long, Integer> {
+			private final long k;
+			private final int v;
+			
+			public MapEntry(final long k, final int v) {
+				this.k = k;
+				this.v = v;
+			}
+			
+			public Long getKey() {
+				return k;
+			}
+			
+			public Integer getValue() {
+				return v;
+			}
+			
+			public Integer setValue(final Integer value) {
+				throw new UnsupportedOperationException();
+			}
+			
+			public @DoNotSub int hashCode() {
+				return Long.hashCode(k) ^ Integer.hashCode(v);
+			}
+			
+			public boolean equals(final Object o) {
+				if (!(o instanceof Map.Entry)) {
+					return false;
+				}
+				
+				final Entry<?, ?> e = (Entry<?, ?>)o;
+				
+				return (e.getKey() != null && e.getValue() != null && (e.getKey().equals(k) && e.getValue().equals(v)));
+			}
+			
+			public String toString() {
+				return k + "=" + v;
+			}
+		}
+	}
+	
+	public final class KeySet extends AbstractSet<Long> {
+		private final KeyIterator keyIterator = shouldAvoidAllocation ? new KeyIterator() : null;
+		public KeySet() {}
+		
+		public KeyIterator iterator() {
+			KeyIterator keyIterator = this.keyIterator;
+			if (null == keyIterator) {
+				keyIterator = new KeyIterator();
+			}
+			
+			keyIterator.reset();
+			return keyIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2IntHashMap.this.size();
+		}
+		
+		public boolean isEmpty() {
+			return Long2IntHashMap.this.isEmpty();
+		}
+		
+		public void clear() {
+			Long2IntHashMap.this.clear();
+		}
+		
+		public boolean contains(final Object o) {
+			return contains((long)o);
+		}
+		
+		public boolean contains(final long key) {
+			return containsKey(key);
+		}
+		
+		public boolean removeIfLong(final LongPredicate filter) {
+			boolean removed = false;
+			final KeyIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				if (filter.test(iterator.nextValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			return removed;
+		}
+	} 
+	
+	public final class ValueCollection extends AbstractCollection<Integer> {
+		private final ValueIterator valueIterator = shouldAvoidAllocation ? new ValueIterator() : null;
+		
+		public ValueCollection() {
+		
+		}
+		
+		public ValueIterator iterator() {
+			ValueIterator valueIterator = this.valueIterator;
+			if (valueIterator == null) {
+				valueIterator = new ValueIterator();
+			}
+			
+			valueIterator.reset();
+			return valueIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2IntHashMap.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return contains((int)o);
+		}
+		
+		public boolean contains(final int value) {
+			return containsValue(value);
+		}
+		
+		public boolean removeIfInt(final IntPredicate filter) {
+			boolean removed = false;
+			final ValueIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				if (filter.test(iterator.nextValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			return removed;
+		}
+	}
+	
+	public final class EntrySet extends AbstractSet<Map.Entry<Long, Integer>> {
+		private final EntryIterator entryIterator = shouldAvoidAllocation ? new EntryIterator() : null;
+		
+		public EntrySet() {}
+		
+		public EntryIterator iterator() {
+			EntryIterator entryIterator = this.entryIterator;
+			if (entryIterator == null) {
+				entryIterator = new EntryIterator();
+			}
+			
+			entryIterator.reset();
+			
+			return entryIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2IntHashMap.this.size();
+		}
+		
+		public boolean isEmpty() {
+			return Long2IntHashMap.this.isEmpty();
+		}
+		
+		public void clear() {
+			Long2IntHashMap.this.clear();
+		}
+		
+		public boolean contains(final Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			
+			final Entry<?, ?> entry = (Entry<?, ?>)o;
+			final Integer value = get(entry.getKey());
+			
+			return value != null && value.equals(entry.getValue());
+		}
+		
+		public boolean removeIfLong(final LongIntPredicate filter) {
+			boolean removed = false;
+			final EntryIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				iterator.findNext();
+				if (filter.test(iterator.getLongKey(), iterator.getIntValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			return removed;
+		}
+		
+		public Object[] toArray() {
+			return toArray(new Object[size()]);
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <T> T[] toArray(final T[] a) {
+			final T[] array = a.length >= size ?
+					a : (T[])java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+			final EntryIterator it = iterator();
+			
+			for (@DoNotSub int i = 0; i < array.length; i++) {
+				if (it.hasNext()) {
+					it.next();
+					array[i] = (T)it.allocateDuplicateEntry();
+				} else {
+					array[i] = null;
+					break;
+				}
+			}
+			return array;
+		}
+	}
+} 
@@ -0,0 +1,358 @@
+package com.ducnh.highperformance.collections;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+public class Long2LongCounterMap {
+	private static @DoNotSub final int MIN_CAPACITY = 8;
+	private final float loadFactor;
+	private final long initialValue;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size = 0;
+	
+	private long[] entries;
+	
+	public Long2LongCounterMap(final long initialValue) {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, initialValue);
+	}
+	
+	public Long2LongCounterMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor, 
+			final long initialValue) {
+		validateLoadFactor(loadFactor);
+		
+		this.loadFactor = loadFactor;
+		this.initialValue = initialValue;
+		
+		capacity(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity)));
+	}
+	
+	public long initialValue() {
+		return initialValue;
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public @DoNotSub int resizeThreshold() {
+		return resizeThreshold;
+	}
+	
+	public @DoNotSub int capacity () {
+		return entries.length >> 1;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	public long get(final long key) {
+		final long initialValue = this.initialValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		long value;
+		while (initialValue != (value = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			index = next(index, mask);
+		}
+		return value;
+	}
+	
+	public long put(final long key, final long value) {
+		final long initialValue = this.initialValue;
+		if (initialValue == value) {
+			throw new IllegalArgumentException("cannot accept initialValue");
+		}
+		
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (initialValue != (oldValue = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			index = next(index, mask);
+		}
+		
+		if (initialValue == oldValue) {
+			++size;
+			entries[index] = key;
+		}
+		
+		entries[index + 1] = value;
+		increaseCapacity();
+		return oldValue;
+	}
+	
+	public long incrementAndGet(final long key) {
+		return addAndGet(key, 1);
+	}
+	
+	public long decrementAndGet(final long key) {
+		return addAndGet(key, -1);
+	}
+	
+	public long addAndGet(final long key, final long amount) {
+		return getAndAdd(key, amount) + amount;
+	}
+	
+	public long getAndIncrement(final long key) {
+		return getAndAdd(key, 1);
+	}
+	
+	final long getAndDecrement(final long key) {
+		return getAndAdd(key, -1);
+	}
+	
+	public long getAndAdd(final long key, final long amount) {
+		final long initialValue = this.initialValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (initialValue != (oldValue = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		if (amount != 0) {
+			final long newValue = oldValue + amount;
+			entries[index + 1] = newValue;
+			
+			if (initialValue == oldValue) {
+				++size;
+				entries[index] = key;
+				increaseCapacity();
+			} else if (initialValue == newValue) {
+				size--;
+				compactChain(index);
+			}
+		}
+		return oldValue;
+	}
+	
+	public void forEach(final LongLongConsumer consumer) {
+		final long initialValue = this.initialValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		@DoNotSub int remaining = size;
+		
+		for (@DoNotSub int i = 1; remaining > 0 && i < length; i += 2) {
+			final long value = entries[i];
+			if (initialValue != value) {
+				consumer.accept(entries[i-1], value);
+				--remaining;
+			}
+		}
+	}
+	
+	public boolean containsKey(final long key) {
+		return initialValue != get(key);
+	}
+	
+	public boolean containsValue(final long value) {
+		boolean found = false;
+		if (initialValue != value) {
+			final long[] entries = this.entries;
+			@DoNotSub final int length = entries.length;
+			for (@DoNotSub int i = 1; i < length; i += 2) {
+				if (value == entries[i]) {
+					found = true;
+					break;
+				}
+			}
+		}
+		return found;
+	}
+	
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(entries, initialValue);
+			size = 0;
+		}
+	}
+	
+	
+	public void compact() {
+		@DoNotSub final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
+		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
+	}
+	
+	public long computeIfAbsent(final long key, final LongUnaryOperator mappingFunction) {
+		long value = get(key);
+		if (initialValue == value) {
+			value = mappingFunction.applyAsLong(key);
+			if (initialValue != value) {
+				put(key, value);
+			}
+		}
+		return value;
+	}
+	
+	public long remove(final long key) {
+		final long initialValue = this.initialValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (initialValue != (oldValue = entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				entries[keyIndex + 1] = initialValue;
+				size--;
+				
+				compactChain(keyIndex);
+				break;
+			}
+			
+			keyIndex = next(keyIndex, mask);
+		}
+		return oldValue;
+ 	}
+	
+	public long minValue() {
+		final long initialValue = this.initialValue;
+		long min = 0 == size ? initialValue : Long.MAX_VALUE;
+		
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int i = 1; i < length; i+=2) {
+			final long value = entries[i];
+			if (initialValue != value) {
+				min = Math.min(min, value);
+			}
+		}
+		return min;
+	}
+	
+	public long maxValue() {
+		final long initialValue = this.initialValue;
+		long max = 0 == size ? initialValue : Long.MIN_VALUE;
+		
+		final long[] entries = this.entries;
+		@DoNotSub int length = entries.length;
+		for (@DoNotSub int i = 1; i < length; i += 2 ) {
+			final long value = entries[i];
+			if (initialValue != value) {
+				max = Math.max(max, value);
+			}
+		}
+		return max;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		
+		final long initialValue = this.initialValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		
+		for (@DoNotSub int i = 1; i < length; i += 2) {
+			final long value = entries[i];
+			if (value != initialValue) {
+				sb.append(entries[i - 1]).append('=').append(value).append(", ");
+			}
+		}
+		
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		sb.append('}');
+		
+		return sb.toString();
+	}
+	
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
+		return (index + 2) & mask;
+	}
+	
+	@SuppressWarnings("FinalParameters")
+	private void compactChain(@DoNotSub int deleteKeyIndex) {
+		final long initialValue = this.initialValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = deleteKeyIndex;
+		
+		while (true) {
+			index = next(index, mask);
+			final long value = entries[index + 1];
+			if (initialValue == value) {
+				break;
+			}
+			final long key = entries[index];
+			@DoNotSub final int hash = Hashing.evenHash(key, mask);
+			
+			if ((index < hash && (hash <= deleteKeyIndex || deleteKeyIndex <= index)) || (
+					hash <= deleteKeyIndex && deleteKeyIndex <= index)) {
+				entries[deleteKeyIndex] = key;
+				entries[deleteKeyIndex + 1] = value;
+				entries[index + 1] = initialValue;
+				deleteKeyIndex = index;
+			}
+		}
+	}
+	
+	private void capacity(@DoNotSub final int newCapacity) {
+		@DoNotSub final int entriesLength =  newCapacity * 2;
+		if (entriesLength < 0) {
+			throw new IllegalStateException("max capacity reacehd at size=" + size);
+		}
+		
+		resizeThreshold = (int) (newCapacity * loadFactor); // @DoNotSub
+		entries = new long[entriesLength];
+		Arrays.fill(entries, initialValue);
+	}
+	
+	private void increaseCapacity() {
+		if (size > resizeThreshold) {
+			@DoNotSub final int newCapacity = entries.length;
+			rehash(newCapacity);
+		}
+	}
+	
+	private void rehash(@DoNotSub final int newCapacity) {
+		final long initialValue = this.initialValue;
+		final long[] oldEntries = entries;
+		@DoNotSub final int length = oldEntries.length;
+		
+		capacity(newCapacity);
+		final long[] newEntries = entries;
+		@DoNotSub final int mask = newEntries.length - 1;
+		
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+			final long value = oldEntries[valueIndex];
+			if (value != initialValue) {
+				final long key = oldEntries[valueIndex - 1];
+				@DoNotSub int newKeyIndex = Hashing.evenHash(key, mask);
+				
+				while (initialValue != newEntries[newKeyIndex + 1]) {
+					newKeyIndex = next(newKeyIndex, mask);
+				}
+				
+				newEntries[newKeyIndex] = key;
+				newEntries[newKeyIndex + 1] = value;
+			}
+		}
+	}
+}
@@ -0,0 +1,1348 @@
+package com.ducnh.highperformance.collections;
+
+import java.io.File;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+public class Long2LongHashMap implements Map<Long, Long>{
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int NONE = -1;
+	
+	private final float loadFactor;
+	private final long missingValue;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size = 0;
+	private final boolean shouldAvoidAllocation;
+	
+	private long[] entries;
+	private @DoNotSub int rehashSlotsPerOperation;
+	private long[] rehashEntries;
+	private @DoNotSub int rehashIndex;
+	private @DoNotSub int rehashRemaining;
+	private KeySet keySet;
+	private ValueCollection values;
+	private EntrySet entrySet;
+	
+	public Long2LongHashMap(final long missingValue) {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, missingValue);
+	}
+	
+	public Long2LongHashMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final long missingValue) {
+		this(initialCapacity, loadFactor, missingValue, true);
+	}
+	
+	public Long2LongHashMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final long missingValue,
+			final boolean shouldAvoidAllocation) {
+		validateLoadFactor(loadFactor);
+		
+		this.loadFactor = loadFactor;
+		this.missingValue = missingValue;
+		this.shouldAvoidAllocation = shouldAvoidAllocation;
+		
+		capacity(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity)));
+	}
+	
+	public Long2LongHashMap(final Long2LongHashMap mapToCopy) {
+			mapToCopy.completeRehash();
+			this.loadFactor = mapToCopy.loadFactor;
+			this.resizeThreshold = mapToCopy.resizeThreshold;
+			this.size = mapToCopy.size;
+			this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
+			this.missingValue = mapToCopy.missingValue;
+			this.rehashSlotsPerOperation = mapToCopy.rehashSlotsPerOperation;
+			
+			entries = mapToCopy.entries.clone();
+	}
+	
+	private Long2LongHashMap(final HashSnapshot.Reader reader) {
+		loadFactor = reader.loadFactor();
+		validateLoadFactor(loadFactor);
+		missingValue = reader.longMissingValue();
+		shouldAvoidAllocation = 0 != (reader.flags() & HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION);
+		
+		@DoNotSub final int capacity = reader.capacity();
+		@DoNotSub final int entriesLength = capacity * 2;
+		if (entriesLength < 0) {
+			throw new IllegalStateException("snapshot capacity too large: " + capacity);
+		}
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		size = reader.size();
+		entries = new long[entriesLength];
+		reader.getLongArray(entries);
+		reader.verify();
+	}
+	
+	public long missingValue() {
+		return missingValue;
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public @DoNotSub int capacity() {
+		return entries.length >> 1;
+	}
+	
+	public @DoNotSub int resizeThreshold() {
+		return resizeThreshold;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * Opt in to resizing incrementally. Rather than rehashing all entries into a larger table in one call when the
+	 * size crosses the resize threshold, the old table is kept and {@link #put(long, long)} and {@link #remove(long)}
+	 * each migrate at least the given number of its slots, while lookups consult both tables. {@link #compact()}
+	 * shrinks the same way.
+	 * <p>
+	 * The number of slots is raised to at least {@code 1 / loadFactor + 1} so that migration finishes before the new
+	 * table fills. Operations other than get, containsKey, put and remove, including iteration, first complete a
+	 * rehash in progress.
+	 *
+	 * @param slotsPerOperation to migrate on each put or remove, or 0 to rehash in one call which is the default.
+	 */
+	public void incrementalRehash(@DoNotSub final int slotsPerOperation) {
+		if (slotsPerOperation < 0) {
+			throw new IllegalArgumentException("slotsPerOperation must not be negative: " + slotsPerOperation);
+		}
+		
+		completeRehash();
+		rehashSlotsPerOperation = 0 == slotsPerOperation ?
+			0 : Math.max(slotsPerOperation, (int)Math.ceil(1.0d / loadFactor) + 1); // @DoNotSub
+	}
+	
+	public @DoNotSub int incrementalRehashSlots() {
+		return rehashSlotsPerOperation;
+	}
+	
+	public boolean isRehashing() {
+		return null != rehashEntries;
+	}
+	
+	/**
+	 * Migrate all remaining entries of an incremental rehash in progress.
+	 */
+	public void completeRehash() {
+		if (null != rehashEntries) {
+			rehashStep(Integer.MAX_VALUE); // @DoNotSub
+		}
+	}
+	
+	public long getOrDefault(final long key, final long defaultValue) {
+		final long value = get(key);
+		return missingValue != value ? value : defaultValue;
+	}
+	
+	public long get(final long key) {
+		final long value = get(entries, key);
+		if (missingValue == value && null != rehashEntries) {
+			return get(rehashEntries, key);
+		}
+		
+		return value;
+	}
+	
+	private long get(final long[] entries, final long key) {
+		final long missingValue = this.missingValue;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long value;
+		while (missingValue != (value = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			index = next(index, mask);
+		} 
+		
+		return value;
+	}
+	
+	public long put(final long key, final long value) {
+		final long missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot except missingValue");
+		}
+		
+		if (null != rehashEntries) {
+			rehashStep(rehashSlotsPerOperation);
+			final long[] rehashEntries = this.rehashEntries;
+			if (null != rehashEntries) {
+				@DoNotSub final int index = keyIndex(rehashEntries, key);
+				if (NONE != index) {
+					final long oldValue = rehashEntries[index + 1];
+					rehashEntries[index + 1] = value;
+					return oldValue;
+				}
+			}
+		}
+		
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = entries[index + 1])) {
+			if (key == entries[index]){
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		if (missingValue == oldValue) {
+			++size;
+			entries[index] = key;
+		}
+		
+		entries[index + 1] = value;
+		increaseCapacity();
+		return oldValue;
+	}
+	
+	public long putIfAbsent(final long key, final long value) {
+		final long missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		completeRehash();
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = entries[index + 1])) {
+			if (key == entries[index]) {
+				return oldValue;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		++size;
+		entries[index] = key;
+		entries[index + 1] = value;
+		
+		increaseCapacity();
+		return oldValue;
+	}
+	
+	private void increaseCapacity() {
+		if (size > resizeThreshold) {
+			@DoNotSub final int newCapacity = entries.length;
+			if (0 != rehashSlotsPerOperation) {
+				startRehash(newCapacity);
+			}
+			else {
+				rehash(newCapacity);
+			}
+		}
+	}
+	
+	/**
+	 * Move the entries to a new table which later puts and removes migrate them to, starting from an empty slot so
+	 * that each cluster of the old table is migrated whole and the probe chains left in it stay intact. An old table
+	 * with no empty slot, which a small capacity at a high load factor can leave, is migrated at once.
+	 */
+	private void startRehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] oldEntries = entries;
+		capacity(newCapacity);
+		
+		@DoNotSub final int length = oldEntries.length;
+		@DoNotSub int index = 0;
+		while (index < length && missingValue != oldEntries[index + 1]) {
+			index += 2;
+		}
+		
+		rehashEntries = oldEntries;
+		rehashIndex = index & (length - 1);
+		rehashRemaining = length >> 1;
+		
+		if (index == length) {
+			completeRehash();
+		}
+	}
+	
+	/**
+	 * Migrate at least the given number of slots from the old table, continuing to the end of a cluster so the
+	 * migration always stops at an empty slot.
+	 */
+	private void rehashStep(@DoNotSub final int slots) {
+		final long missingValue = this.missingValue;
+		final long[] oldEntries = rehashEntries;
+		final long[] newEntries = entries;
+		@DoNotSub final int oldMask = oldEntries.length - 1;
+		@DoNotSub final int newMask = newEntries.length - 1;
+		@DoNotSub int index = rehashIndex;
+		@DoNotSub int remaining = rehashRemaining;
+		@DoNotSub int budget = slots;
+		
+		while (remaining > 0) {
+			final long value = oldEntries[index + 1];
+			if (missingValue != value) {
+				final long key = oldEntries[index];
+				@DoNotSub int newKeyIndex = Hashing.evenHash(key, newMask);
+				while (missingValue != newEntries[newKeyIndex + 1]) {
+					newKeyIndex = next(newKeyIndex, newMask);
+				}
+				
+				newEntries[newKeyIndex] = key;
+				newEntries[newKeyIndex + 1] = value;
+				oldEntries[index + 1] = missingValue;
+			}
+			else if (budget <= 0) {
+				break;
+			}
+			
+			index = next(index, oldMask);
+			remaining--;
+			budget--;
+		}
+		
+		if (0 == remaining) {
+			rehashEntries = null;
+		}
+		else {
+			rehashIndex = index;
+			rehashRemaining = remaining;
+		}
+	}
+	
+	private void rehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] oldEntries = entries;
+		@DoNotSub final int length = oldEntries.length;
+		
+		capacity(newCapacity);
+		
+		final long[] newEntries = entries;
+		@DoNotSub final int mask = newEntries.length - 1;
+		
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+			final long value = oldEntries[valueIndex];
+			if (missingValue != value) {
+				final long key = oldEntries[valueIndex - 1];
+				@DoNotSub int newKeyIndex = Hashing.evenHash(key, mask);
+				
+				while (missingValue != newEntries[newKeyIndex + 1]) {
+					newKeyIndex = next(newKeyIndex, mask);
+				}
+				
+				newEntries[newKeyIndex] = key;
+				newEntries[newKeyIndex + 1] = value;
+			}
+		}
+	}
+	
+	@Deprecated
+	public void longForEach(final LongLongConsumer consumer) {
+		forEachLong(consumer);
+	}
+	
+	public void forEachLong(final LongLongConsumer consumer) {
+		requireNonNull(consumer);
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		
+		for (@DoNotSub int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
+			if (missingValue != entries[valueIndex]) {
+				consumer.accept(entries[valueIndex - 1], entries[valueIndex]);
+				--remaining;
+			}
+		}
+	}
+	
+	public boolean containsKey(final long key) {
+		return missingValue != get(key);
+	}
+	
+	public boolean containsValue(final long value) {
+		completeRehash();
+		boolean found = false;
+		final long missingValue = this.missingValue;
+		if (missingValue != value) {
+			final long[] entries = this.entries;
+			@DoNotSub final int length = entries.length;
+			@DoNotSub int remaining = size;
+			for (@DoNotSub int valueIndex = 1; remaining > 0 && valueIndex < length; valueIndex += 2) {
+				final long existingValue = entries[valueIndex];
+				if (missingValue != existingValue) {
+					if (existingValue == value) {
+						found = true;
+						break;
+					}
+					-- remaining;
+				}
+			}
+		}
+		return found;
+	}
+	
+	public void clear() {
+		rehashEntries = null;
+		if (size > 0) {
+			Arrays.fill(entries, missingValue);
+			size = 0;
+		}
+	} 
+	
+	/**
+	 * Resize to the smallest capacity which holds the entries within the load factor and leaves a free slot, which is
+	 * done incrementally if opted in with {@link #incrementalRehash}.
+	 */
+	public void compact() {
+		@DoNotSub final int idealCapacity = (int)Math.ceil(size() / (double)loadFactor) + 1;
+		@DoNotSub final int newCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity));
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
+	}
+	
+	/**
+	 * Length of the snapshot written by {@link #writeSnapshot}, which is a header and the entries as they are held.
+	 */
+	public long snapshotLength() {
+		return HashSnapshot.length(entries.length, Long.BYTES);
+	}
+	
+	/**
+	 * Write a snapshot which {@link #readSnapshot} restores by a bulk copy of the entries without rehashing.
+	 *
+	 * @return length of the snapshot.
+	 * @throws IndexOutOfBoundsException if the buffer is shorter than {@link #snapshotLength()} from the index.
+	 */
+	public @DoNotSub int writeSnapshot(final MutableDirectBuffer buffer, @DoNotSub final int index) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(buffer, index)) {
+			return (int)writeSnapshot(writer); // @DoNotSub
+		}
+	}
+	
+	/**
+	 * Write a snapshot to a file, which is created or truncated. The file is written through memory mapped windows
+	 * so may be longer than 2GB.
+	 */
+	public void writeSnapshot(final File file) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(file)) {
+			writeSnapshot(writer);
+		}
+	}
+	
+	/**
+	 * Restore a map from a snapshot written by {@link #writeSnapshot}.
+	 *
+	 * @throws IllegalStateException if the snapshot is of a different type, is truncated or fails its checksum.
+	 */
+	public static Long2LongHashMap readSnapshot(
+		final DirectBuffer buffer,
+		@DoNotSub final int index) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			buffer, index, HashSnapshot.KIND_HASH_MAP, Long.BYTES)) {
+			return new Long2LongHashMap(reader);
+		}
+	}
+	
+	public static Long2LongHashMap readSnapshot(final File file) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(file, HashSnapshot.KIND_HASH_MAP, Long.BYTES)) {
+			return new Long2LongHashMap(reader);
+		}
+	}
+	
+	private long writeSnapshot(final HashSnapshot.Writer writer) {
+		completeRehash();
+		final long[] entries = this.entries;
+		writer.putLongArray(entries);
+		return writer.finish(
+			HashSnapshot.KIND_HASH_MAP,
+			Long.BYTES,
+			entries.length >> 1,
+			size,
+			loadFactor,
+			shouldAvoidAllocation ? HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION : 0,
+			missingValue);
+	}
+	
+	public long computeIfAbsent(final long key, final LongUnaryOperator mappingFunction) {
+		requireNonNull(mappingFunction);
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long value;
+		while (missingValue != (value = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		if (missingValue == value && missingValue != (value = mappingFunction.applyAsLong(key))) {
+			entries[index] = key;
+			entries[index + 1] = value;
+			++size;
+			increaseCapacity();
+		}
+		return value;
+	}
+	
+	public long computeIfPresent(final long key, final LongBinaryOperator remappingFunction) {
+		requireNonNull(remappingFunction);
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long value;
+		while (missingValue != (value = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			index = next(index, mask);
+		}
+		if (missingValue != value) {
+			value = remappingFunction.applyAsLong(key, value);
+			entries[index + 1] = value;
+			if (missingValue == value) {
+				size--;
+				compactChain(index);
+			}
+		}
+		return value;
+	}
+	
+	public long compute(final long key, final LongBinaryOperator remappingFunction) {
+		requireNonNull(remappingFunction);
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		final long newValue = remappingFunction.applyAsLong(key, oldValue);
+		if (missingValue != newValue) {
+			entries[index + 1] = newValue;
+			if (oldValue == missingValue) {
+				entries[index] = key;
+				++size;
+				increaseCapacity();
+			}
+		} else if (missingValue != oldValue) {
+			entries[index + 1] = missingValue;
+			size--;
+			compactChain(index);
+		}
+		return newValue;
+	}
+	
+	public Long get(final Object key) {
+		return valOrNull(get((long)key));
+	}
+	
+	public Long put(final Long key, final Long value) {
+		return valOrNull(put((long)key, (long)value));
+	}
+	
+	public void forEach(final BiConsumer<? super Long, ? super Long> action) {
+		forEachLong(action::accept);
+	}
+	
+	public boolean containsKey(final Object key) {
+		return containsKey((long)key);
+	}
+	
+	public boolean containsValue(final Object value) {
+		return containsValue((long)value);
+	}
+	
+	public void putAll(final Map<? extends Long, ? extends Long> map) {
+		for (final Map.Entry<? extends Long, ? extends Long> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	public void putAll(final Long2LongHashMap map) {
+		final EntryIterator it = map.entrySet().iterator();
+		while (it.hasNext()) {
+			it.findNext();
+			put(it.getLongKey(), it.getLongValue());
+		}
+	}
+	
+	public Long putIfAbsent(final Long key, final Long value) {
+		return valOrNull(putIfAbsent((long) key, (long) value));
+	}
+	
+	public Long replace(final Long key, final Long value) {
+		return valOrNull(replace((long)key, (long)value));
+	}
+	
+	public boolean replace(final Long key, final Long oldValue, final Long newValue) {
+		return replace((long)key, (long)oldValue, (long)newValue);
+	}
+	
+	public void replaceAll(final BiFunction<? super Long, ? super Long, ? extends Long> function) {
+		replaceAllLong(function::apply);
+	}
+	
+	public KeySet keySet() {
+		if (keySet == null) {
+			keySet = new KeySet();
+		}
+		return keySet;
+	}
+	
+	public ValueCollection values() {
+		if (values == null) {
+			values = new ValueCollection();
+		}
+		return values;
+	}
+	
+	public EntrySet entrySet() {
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+	
+	public Long remove(final Object key) {
+		return valOrNull(remove((long)key));
+	}
+	
+	public boolean remove(final Object key, final Object value) {
+		return remove((long)key, (long)value);
+	}
+	
+	public long remove(final long key) {
+		final long missingValue = this.missingValue;
+		if (null != rehashEntries) {
+			rehashStep(rehashSlotsPerOperation);
+			final long[] rehashEntries = this.rehashEntries;
+			if (null != rehashEntries) {
+				@DoNotSub final int index = keyIndex(rehashEntries, key);
+				if (NONE != index) {
+					final long oldValue = rehashEntries[index + 1];
+					rehashEntries[index + 1] = missingValue;
+					size--;
+					compactChain(rehashEntries, index);
+					return oldValue;
+				}
+			}
+		}
+		
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+	
+		long oldValue;
+		while (missingValue != (oldValue = entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				entries[keyIndex + 1] = missingValue;
+				size--;
+				
+				compactChain(keyIndex);
+				break;
+			}
+			
+			keyIndex = next(keyIndex, mask);
+		}
+		
+		return oldValue;
+	}
+	
+	public boolean remove(final long key, final long value) {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				if (value == oldValue) {
+					entries[keyIndex + 1] = missingValue;
+					size--;
+					
+					compactChain(keyIndex);
+					return true;
+				}
+				break;
+			}
+			keyIndex = next(keyIndex, mask);
+		}
+		
+		return false;
+	}
+	
+	public long merge(final long key, final long value, final LongLongFunction remappingFunction) {
+		requireNonNull(remappingFunction);
+		final long missingValue = this.missingValue;
+		if (value == missingValue) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		completeRehash();
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		long oldValue;
+		while (missingValue != (oldValue = entries[index + 1])) {
+			if (key == entries[index]) {
+				break;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		final long newValue = missingValue == oldValue ? value : remappingFunction.apply(oldValue, value);
+		if (missingValue != newValue) {
+			entries[index + 1] = newValue;
+			if (missingValue == oldValue) {
+				entries[index] = key;
+				++size;
+				increaseCapacity();
+			}
+		} else {
+			entries[index + 1] = missingValue;
+			size--;
+			compactChain(index);
+		}
+		
+		return newValue;
+	}
+	
+	private void compactChain(@DoNotSub final int deleteKeyIndex) {
+		compactChain(entries, deleteKeyIndex);
+	}
+	
+	@SuppressWarnings("FinalParameters")
+	private void compactChain(
+		final long[] entries,
+		@DoNotSub int deleteKeyIndex) {
+		final long missingValue = this.missingValue;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = deleteKeyIndex;
+		
+		while (true) {
+			keyIndex = next(keyIndex, mask);
+			final long value = entries[keyIndex + 1];
+			if (value == missingValue) {
+				break;
+			}
+			
+			final long key = entries[keyIndex];
+			@DoNotSub final int hash = Hashing.evenHash(key, mask);
+			if ((keyIndex < hash && (hash <= deleteKeyIndex || deleteKeyIndex <= keyIndex)) ||
+					(hash <= deleteKeyIndex && deleteKeyIndex <= keyIndex)) {
+				entries[deleteKeyIndex] = key;
+				entries[deleteKeyIndex + 1] = value;
+				
+				entries[keyIndex + 1] = missingValue;
+				deleteKeyIndex = keyIndex;
+			}
+		}
+	}
+	
+	public long minValue() {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		long min = 0 == size ? missingValue : Long.MAX_VALUE;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+			final long value = entries[valueIndex];
+			if (missingValue != value) {
+				min = Math.min(min, value);
+			} 
+		}
+		
+		return min;
+	}
+	
+	public long maxValue() {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		long max = 0 == size ? missingValue : Long.MIN_VALUE;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		for (@DoNotSub int valueIndex = 1; valueIndex < length; valueIndex += 2) {
+			final long value = entries[valueIndex];
+			if (missingValue != value) {
+				max = Math.max(max, value);
+			}
+		}
+		
+		return max;
+	}
+	
+	public String toString() {
+		if (isEmpty()) {
+			return "{}";
+		}
+		
+		final EntryIterator entryIterator = new EntryIterator();
+		entryIterator.reset();
+		
+		final StringBuilder sb = new StringBuilder().append('{');
+		while (true) {
+			entryIterator.next();
+			sb.append(entryIterator.getLongKey()).append('=').append(entryIterator.getLongValue());
+			if (!entryIterator.hasNext()) {
+				return sb.append('}').toString();
+			}
+			sb.append(',').append(' ');
+		}
+	}
+	
+	public long replace(final long key, final long value) {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				entries[keyIndex + 1] = value;
+				break;
+			}
+			
+			keyIndex = next(keyIndex, mask);
+		}
+		
+		return oldValue;
+	}
+	
+	public boolean replace(final long key, final long oldValue, final long newValue) {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int keyIndex = Hashing.evenHash(key, mask);
+		
+		long value;
+		while (missingValue != (value = entries[keyIndex + 1])) {
+			if (key == entries[keyIndex]) {
+				if (oldValue == value) {
+					entries[keyIndex + 1] = newValue;
+					return true;
+				}
+				break;
+			}
+			
+			keyIndex = next(keyIndex, mask);
+		}
+		return false;
+	}
+	
+	public void replaceAllLong(final LongLongFunction function) {
+		requireNonNull(function);
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] entries = this.entries;
+		@DoNotSub final int length = entries.length;
+		
+		for (@DoNotSub int valueIndex = 1, remaining = size; remaining > 0 && valueIndex < length; valueIndex += 2) {
+			final long existingValue = entries[valueIndex];
+			if (missingValue != existingValue) {
+				final long newValue = function.apply(entries[valueIndex - 1], existingValue);
+				if (missingValue == newValue) {
+					throw new IllegalArgumentException("cannot replace with a missingValue");
+				}
+				entries[valueIndex] = newValue;
+				--remaining;
+			}
+		}
+	}
+	
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		
+		if (!(o instanceof Map)) {
+			return false;
+		}
+		
+		final Map<?, ?> that = (Map<?, ?>)o;
+		return size == that.size() && entrySet().equals(that.entrySet());
+	}
+	
+	public @DoNotSub int hashCode() {
+		return entrySet().hashCode();
+	}
+	
+	private @DoNotSub int keyIndex(
+		final long[] entries,
+		final long key) {
+		final long missingValue = this.missingValue;
+		@DoNotSub final int mask = entries.length - 1;
+		@DoNotSub int index = Hashing.evenHash(key, mask);
+		
+		while (missingValue != entries[index + 1]) {
+			if (key == entries[index]) {
+				return index;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		return NONE;
+	}
+	
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
+		return (index + 2) & mask;
+	}
+	
+	private void capacity(@DoNotSub final int newCapacity) {
+		@DoNotSub final int entriesLength = newCapacity * 2;
+		if (entriesLength < 0) {
+			throw new IllegalStateException("max capacity reached at size=" + size);
+		} 
+		resizeThreshold = (int) (newCapacity * loadFactor); // @DoNotSub
+		entries = new long[entriesLength];
+		Arrays.fill(entries, missingValue);
+	}
+	
+	private Long valOrNull(final long value) {
+		return value == missingValue ? null : value;
+	}
+	
+	abstract class AbstractIterator {
+		protected boolean isPositionValid = false;
+		private @DoNotSub int remaining;
+		private @DoNotSub int positionCounter;
+		private @DoNotSub int stopCounter;
+		
+		final void reset() {
+			completeRehash();
+			isPositionValid = false;
+			remaining = Long2LongHashMap.this.size;
+			final long missingValue = Long2LongHashMap.this.missingValue;
+			final long[] entries = Long2LongHashMap.this.entries;
+			@DoNotSub final int capacity = entries.length;
+			
+			@DoNotSub int keyIndex = capacity;
+			if (missingValue != entries[capacity - 1]) {
+				for (@DoNotSub int i = 1; i < capacity; i += 2) {
+					if (missingValue == entries[i]) {
+						keyIndex = i - 1;
+						break;
+					}
+				}
+			}
+			
+			stopCounter = keyIndex;
+			positionCounter = keyIndex + capacity;
+		}
+		
+		protected @DoNotSub final int keyPosition() {
+			return positionCounter & entries.length - 1;
+		}
+		
+		public @DoNotSub int remaining() {
+			return remaining;
+		}
+		
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		protected final void findNext() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			
+			final long[] entries = Long2LongHashMap.this.entries;
+			final long missingValue = Long2LongHashMap.this.missingValue;
+			@DoNotSub final int mask = entries.length - 1;
+			
+			for (@DoNotSub int keyIndex = positionCounter - 2, stop = stopCounter; keyIndex >= stop; keyIndex -= 2) {
+				@DoNotSub final int index = keyIndex & mask;
+				if (missingValue != entries[index + 1]) {
+					isPositionValid = true;
+					positionCounter = keyIndex;
+					--remaining;
+					return;
+				}
+			}
+			
+			isPositionValid = false;
+			throw new IllegalStateException();
+		}
+		
+		public void remove() {
+			if (isPositionValid) {
+				@DoNotSub final int position = keyPosition();
+				entries[position + 1] = missingValue;
+				--size;
+				
+				compactChain(position);
+				isPositionValid = false;
+			}
+			else {
+				throw new IllegalStateException();
+			}
+		}
+	}
+	
+	public final class KeyIterator extends AbstractIterator implements Iterator<Long> {
+		public KeyIterator() {
+			
+		}
+		
+		public Long next() {
+			return nextValue();
+		}
+		
+		public long nextValue() {
+			findNext();
+			return entries[keyPosition()];
+		}
+	}
+	
+	public final class ValueIterator extends AbstractIterator implements Iterator<Long> {
+		public ValueIterator() {
+			
+		}
+		
+		public Long next() {
+			return nextValue();
+		}
+
+		public long nextValue() {
+			findNext();
+			return entries[keyPosition() + 1];
+		}
+	}
+	
+	public final class EntryIterator extends AbstractIterator implements Iterator<Entry<Long, Long>>, Entry<Long, Long> {
+		public EntryIterator() {
+			
+		}
+		
+		public Long getKey() {
+			return getLongKey();
+		}
+		
+		public long getLongKey() {
+			return entries[keyPosition()];
+		}
+		
+		public Long getValue() {
+			return getLongValue();
+		}
+		
+		public long getLongValue() {
+			return entries[keyPosition() + 1];
+		}
+		
+		public Long setValue(final Long value) {
+			return setValue(value.longValue());
+		}
+		
+		public long setValue(final long value) {
+			if (!isPositionValid) {
+				throw new IllegalStateException();
+			}
+			
+			if (missingValue == value) {
+				throw new IllegalArgumentException("cannot except missingValue");
+			}
+			
+			@DoNotSub final int keyPosition = keyPosition();
+			final long[] entries = Long2LongHashMap.this.entries;
+			final long preValue = entries[keyPosition  +1];
+			entries[keyPosition + 1] = value;
+			return preValue;
+		}
+		
+		public Entry<Long, Long> next() {
+			findNext();
+			if (shouldAvoidAllocation) {
+				return this;
+			}
+			return allocateDuplicateEntry();
+		}
+		
+		private Entry<Long, Long> allocateDuplicateEntry() {
+			return new MapEntry(getLongKey(), getLongValue());
+		}
+		
+		public @DoNotSub int hashCode() {
+			return Long.hashCode(getLongKey()) ^ Long.hashCode(getLongValue());
+		}
+		
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			
+			final Entry<?, ?> that = (Entry<?, ?>)o;
+			
+			return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+		}
+		
+		public final class MapEntry implements Entry<Long, Long> {
+			private final long k;
+			private final long v;
+			
+			public MapEntry(final long k, final long v) {
+				this.k = k;
+				this.v = v;
+			}
+			
+			public Long getKey() {
+				return k;
+			}
+			
+			public Long getValue() {
+				return v;
+			}
+			
+			public Long setValue(final Long value) {
+				throw new UnsupportedOperationException();
+			}
+			
+			public @DoNotSub int hashCode() {
+				return Long.hashCode(k) ^ Long.hashCode(v);
+			}
+			
+			public boolean equals(final Object o) {
+				if (!(o instanceof Map.Entry)) {
+					return false;
+				}
+				
+				final Entry<?, ?> e = (Entry<?, ?>)o;
+				
+				return (e.getKey() != null && e.getValue() != null && (e.getKey().equals(k) && e.getValue().equals(v)));
+			}
+			
+			public String toString() {
+				return k + "=" + v;
+			}
+		}
+	}
+	
+	public final class KeySet extends AbstractSet<Long> {
+		private final KeyIterator keyIterator = shouldAvoidAllocation ? new KeyIterator() : null;
+		public KeySet() {}
+		
+		public KeyIterator iterator() {
+			KeyIterator keyIterator = this.keyIterator;
+			if (null == keyIterator) {
+				keyIterator = new KeyIterator();
+			}
+			
+			keyIterator.reset();
+			return keyIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2LongHashMap.this.size();
+		}
+		
+		public boolean isEmpty() {
+			return Long2LongHashMap.this.isEmpty();
+		}
+		
+		public void clear() {
+			Long2LongHashMap.this.clear();
+		}
+		
+		public boolean contains(final Object o) {
+			return contains((long)o);
+		}
+		
+		public boolean contains(final long key) {
+			return containsKey(key);
+		}
+		
+		public boolean removeIfLong(final LongPredicate filter) {
+			boolean removed = false;
+			final KeyIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				if (filter.test(iterator.nextValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			return removed;
+		}
+	} 
+	
+	public final class ValueCollection extends AbstractCollection<Long> {
+		private final ValueIterator valueIterator = shouldAvoidAllocation ? new ValueIterator() : null;
+		
+		public ValueCollection() {
+			
+		}
+		
+		public ValueIterator iterator() {
+			ValueIterator valueIterator = this.valueIterator;
+			if (valueIterator == null) {
+				valueIterator = new ValueIterator();
+			}
+			
+			valueIterator.reset();
+			return valueIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2LongHashMap.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return contains((long)o);
+		}
+		
+		public boolean contains(final long value) {
+			return containsValue(value);
+		}
+		
+		public boolean removeIfLong(final LongPredicate filter) {
+			boolean removed = false;
+			final ValueIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				if (filter.test(iterator.nextValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			return removed;
+		}
+	}
+	
+	public final class EntrySet extends AbstractSet<Map.Entry<Long, Long>> {
+		private final EntryIterator entryIterator = shouldAvoidAllocation ? new EntryIterator() : null;
+		
+		public EntrySet() {}
+		
+		public EntryIterator iterator() {
+			EntryIterator entryIterator = this.entryIterator;
+			if (entryIterator == null) {
+				entryIterator = new EntryIterator();
+			}
+			
+			entryIterator.reset();
+			
+			return entryIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2LongHashMap.this.size();
+		}
+		
+		public boolean isEmpty() {
+			return Long2LongHashMap.this.isEmpty();
+		}
+		
+		public void clear() {
+			Long2LongHashMap.this.clear();
+		}
+		
+		public boolean contains(final Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			
+			final Entry<?, ?> entry = (Entry<?, ?>)o;
+			final Long value = get(entry.getKey());
+			
+			return value != null && value.equals(entry.getValue());
+		}
+		
+		public boolean removeIfLong(final LongLongPredicate filter) {
+			boolean removed = false;
+			final EntryIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				iterator.findNext();
+				if (filter.test(iterator.getLongKey(), iterator.getLongValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			return removed;
+		}
+		
+		public Object[] toArray() {
+			return toArray(new Object[size()]);
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <T> T[] toArray(final T[] a) {
+			final T[] array = a.length >= size ?
+					a : (T[])java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+			final EntryIterator it = iterator();
+			
+			for (@DoNotSub int i = 0; i < array.length; i++) {
+				if (it.hasNext()) {
+					it.next();
+					array[i] = (T)it.allocateDuplicateEntry();
+				} else {
+					array[i] = null;
+					break;
+				}
+			}
+			return array;
+		}
+	}
+} 
@@ -0,0 +1,5 @@
+package com.ducnh.highperformance.collections;
+
+public class Long2NullableObjectHashMap<V> {
+
+}
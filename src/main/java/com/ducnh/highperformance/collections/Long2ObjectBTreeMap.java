@@ -0,0 +1,718 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Ordered map of long keys to non-null values held in a B+-tree, as a replacement for a {@code TreeMap} with boxed keys.
+ * <p>
+ * Keys and values are kept in primitive and reference arrays within nodes of up to {@link #order()} keys, so a lookup
+ * touches a few arrays rather than a node per key. Leaves are linked in key order for range scans, which are done with
+ * a {@link Cursor} positioned by floor, ceiling, lower or higher without allocation.
+ * <p>
+ * <b>Note:</b> a cursor is invalidated by any change to the map other than {@link Cursor#setValue(Object)}. Lookups
+ * such as {@link #floorValue(long)} do not move the reused cursor so may be done within a scan.
+ */
+public class Long2ObjectBTreeMap<V> {
+	public static @DoNotSub final int DEFAULT_ORDER = 64;
+	static @DoNotSub final int MIN_ORDER = 4;
+	
+	private @DoNotSub final int order;
+	private @DoNotSub final int minKeys;
+	private @DoNotSub int size;
+	private final boolean shouldAvoidAllocation;
+	private Node root;
+	private Leaf firstLeaf;
+	private Leaf lastLeaf;
+	private Cursor cursor;
+	
+	private long splitKey;
+	private Node splitNode;
+	
+	public Long2ObjectBTreeMap() {
+		this(DEFAULT_ORDER);
+	}
+	
+	public Long2ObjectBTreeMap(
+		@DoNotSub final int order) {
+		this(order, true);
+	}
+	
+	/**
+	 * @param order maximum number of keys in a node.
+	 */
+	public Long2ObjectBTreeMap(
+		@DoNotSub final int order,
+		final boolean shouldAvoidAllocation) {
+		if (order < MIN_ORDER) {
+			throw new IllegalArgumentException("order must be at least " + MIN_ORDER + ": " + order);
+		}
+		
+		this.order = order;
+		this.shouldAvoidAllocation = shouldAvoidAllocation;
+		minKeys = order >> 1;
+		clear();
+	}
+	
+	public @DoNotSub int order() {
+		return order;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+	
+	public void clear() {
+		final Leaf leaf = new Leaf(order);
+		root = leaf;
+		firstLeaf = leaf;
+		lastLeaf = leaf;
+		size = 0;
+	}
+	
+	public boolean containsKey(final long key) {
+		return null != get(key);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V get(final long key) {
+		final Leaf leaf = findLeaf(key);
+		@DoNotSub final int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+		return index >= 0 ? (V)leaf.values[index] : null;
+	}
+	
+	public long firstKey() {
+		if (0 == size) {
+			throw new NoSuchElementException();
+		}
+		
+		return firstLeaf.keys[0];
+	}
+	
+	public long lastKey() {
+		if (0 == size) {
+			throw new NoSuchElementException();
+		}
+		
+		return lastLeaf.keys[lastLeaf.size - 1];
+	}
+	
+	/**
+	 * @return value of the greatest key less than or equal to the given key, or null if there is none.
+	 */
+	public V floorValue(final long key) {
+		Leaf leaf = findLeaf(key);
+		@DoNotSub int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+		index = index >= 0 ? index : -index - 2;
+		if (index < 0) {
+			leaf = leaf.previous;
+			index = null != leaf ? leaf.size - 1 : -1;
+		}
+		
+		return valueAt(leaf, index);
+	}
+	
+	/**
+	 * @return value of the least key greater than or equal to the given key, or null if there is none.
+	 */
+	public V ceilingValue(final long key) {
+		Leaf leaf = findLeaf(key);
+		@DoNotSub int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+		index = index >= 0 ? index : -index - 1;
+		if (index >= leaf.size) {
+			leaf = leaf.next;
+			index = 0;
+		}
+		
+		return valueAt(leaf, index);
+	}
+	
+	/**
+	 * @return the previous value or null if none.
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(final long key, final V value) {
+		requireNonNull(value, "value cannot be null");
+		
+		final Object previous = insert(root, key, value);
+		if (null != splitNode) {
+			final Inner newRoot = new Inner(order);
+			newRoot.keys[0] = splitKey;
+			newRoot.children[0] = root;
+			newRoot.children[1] = splitNode;
+			newRoot.size = 1;
+			
+			root = newRoot;
+			splitNode = null;
+		}
+		
+		return (V)previous;
+	}
+	
+	/**
+	 * @return the value which was removed or null if none.
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(final long key) {
+		final Object removed = delete(root, key);
+		if (root instanceof Inner && 0 == root.size) {
+			root = ((Inner)root).children[0];
+		}
+		
+		return (V)removed;
+	}
+	
+	/**
+	 * Visit entries in ascending key order.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(final LongObjConsumer<V> consumer) {
+		for (Leaf leaf = firstLeaf; null != leaf; leaf = leaf.next) {
+			for (@DoNotSub int i = 0, size = leaf.size; i < size; i++) {
+				consumer.accept(leaf.keys[i], (V)leaf.values[i]);
+			}
+		}
+	}
+	
+	/**
+	 * Visit entries with keys from fromKey inclusive to toKey exclusive in ascending order.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachInRange(final long fromKey, final long toKey, final LongObjConsumer<V> consumer) {
+		Leaf leaf = findLeaf(fromKey);
+		@DoNotSub int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, fromKey);
+		index = index >= 0 ? index : -index - 1;
+		
+		while (null != leaf) {
+			for (@DoNotSub final int size = leaf.size; index < size; index++) {
+				final long key = leaf.keys[index];
+				if (key >= toKey) {
+					return;
+				}
+				consumer.accept(key, (V)leaf.values[index]);
+			}
+			
+			leaf = leaf.next;
+			index = 0;
+		}
+	}
+	
+	/**
+	 * Replace the contents with keys in strictly ascending order. The tree is built bottom up with full nodes, which is
+	 * much faster than putting each entry.
+	 */
+	public void load(
+		final long[] keys,
+		final V[] values,
+		@DoNotSub final int length) {
+		if (length < 0 || length > keys.length || length > values.length) {
+			throw new IllegalArgumentException("invalid length=" + length);
+		}
+		for (@DoNotSub int i = 0; i < length; i++) {
+			requireNonNull(values[i], "value cannot be null");
+			if (i > 0 && keys[i - 1] >= keys[i]) {
+				throw new IllegalArgumentException("keys not strictly ascending at index=" + i);
+			}
+		}
+		
+		clear();
+		if (0 == length) {
+			return;
+		}
+		
+		@DoNotSub int count = (length + order - 1) / order;
+		Node[] level = new Node[count];
+		long[] lowestKeys = new long[count];
+		Leaf previous = null;
+		for (@DoNotSub int i = 0, from = 0; i < count; i++) {
+			@DoNotSub final int to = from + (length - from) / (count - i);
+			final Leaf leaf = new Leaf(order);
+			leaf.size = to - from;
+			System.arraycopy(keys, from, leaf.keys, 0, leaf.size);
+			System.arraycopy(values, from, leaf.values, 0, leaf.size);
+			
+			leaf.previous = previous;
+			if (null != previous) {
+				previous.next = leaf;
+			}
+			previous = leaf;
+			level[i] = leaf;
+			lowestKeys[i] = keys[from];
+			from = to;
+		}
+		
+		firstLeaf = (Leaf)level[0];
+		lastLeaf = previous;
+		
+		while (count > 1) {
+			@DoNotSub final int parentCount = (count + order) / (order + 1);
+			final Node[] parents = new Node[parentCount];
+			final long[] parentLowestKeys = new long[parentCount];
+			for (@DoNotSub int i = 0, from = 0; i < parentCount; i++) {
+				@DoNotSub final int to = from + (count - from) / (parentCount - i);
+				final Inner inner = new Inner(order);
+				inner.size = to - from - 1;
+				System.arraycopy(level, from, inner.children, 0, to - from);
+				System.arraycopy(lowestKeys, from + 1, inner.keys, 0, inner.size);
+				parents[i] = inner;
+				parentLowestKeys[i] = lowestKeys[from];
+				from = to;
+			}
+			
+			level = parents;
+			lowestKeys = parentLowestKeys;
+			count = parentCount;
+		}
+		
+		root = level[0];
+		size = length;
+	}
+	
+	/**
+	 * Cursor over the entries in key order, which is reused when allocation is avoided.
+	 */
+	public Cursor cursor() {
+		Cursor cursor = this.cursor;
+		if (null == cursor) {
+			cursor = new Cursor();
+			if (shouldAvoidAllocation) {
+				this.cursor = cursor;
+			}
+		}
+		
+		cursor.leaf = null;
+		return cursor;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		forEach((k, v) -> sb.append(k).append('=').append(v).append(", "));
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		return sb.append('}').toString();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private V valueAt(final Leaf leaf, @DoNotSub final int index) {
+		return null == leaf || index < 0 || index >= leaf.size ? null : (V)leaf.values[index];
+	}
+	
+	private Leaf findLeaf(final long key) {
+		Node node = root;
+		while (node instanceof Inner) {
+			final Inner inner = (Inner)node;
+			node = inner.children[childIndex(inner, key)];
+		}
+		
+		return (Leaf)node;
+	}
+	
+	private Object insert(final Node node, final long key, final Object value) {
+		if (node instanceof Leaf) {
+			final Leaf leaf = (Leaf)node;
+			@DoNotSub int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+			if (index >= 0) {
+				final Object previous = leaf.values[index];
+				leaf.values[index] = value;
+				return previous;
+			}
+			
+			index = -index - 1;
+			leaf.insert(index, key, value);
+			size++;
+			if (leaf.size > order) {
+				splitLeaf(leaf);
+			}
+			
+			return null;
+		}
+		
+		final Inner inner = (Inner)node;
+		@DoNotSub final int childIndex = childIndex(inner, key);
+		final Object previous = insert(inner.children[childIndex], key, value);
+		if (null != splitNode) {
+			inner.insert(childIndex, splitKey, splitNode);
+			splitNode = null;
+			if (inner.size > order) {
+				splitInner(inner);
+			}
+		}
+		
+		return previous;
+	}
+	
+	private void splitLeaf(final Leaf leaf) {
+		final Leaf right = new Leaf(order);
+		@DoNotSub final int leftSize = leaf.size >> 1;
+		right.size = leaf.size - leftSize;
+		System.arraycopy(leaf.keys, leftSize, right.keys, 0, right.size);
+		System.arraycopy(leaf.values, leftSize, right.values, 0, right.size);
+		Arrays.fill(leaf.values, leftSize, leaf.size, null);
+		leaf.size = leftSize;
+		
+		right.next = leaf.next;
+		right.previous = leaf;
+		if (null != leaf.next) {
+			leaf.next.previous = right;
+		}
+		else {
+			lastLeaf = right;
+		}
+		leaf.next = right;
+		
+		splitKey = right.keys[0];
+		splitNode = right;
+	}
+	
+	private void splitInner(final Inner inner) {
+		final Inner right = new Inner(order);
+		@DoNotSub final int middle = inner.size >> 1;
+		right.size = inner.size - middle - 1;
+		System.arraycopy(inner.keys, middle + 1, right.keys, 0, right.size);
+		System.arraycopy(inner.children, middle + 1, right.children, 0, right.size + 1);
+		Arrays.fill(inner.children, middle + 1, inner.size + 1, null);
+		
+		splitKey = inner.keys[middle];
+		splitNode = right;
+		inner.size = middle;
+	}
+	
+	private Object delete(final Node node, final long key) {
+		if (node instanceof Leaf) {
+			final Leaf leaf = (Leaf)node;
+			@DoNotSub final int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+			if (index < 0) {
+				return null;
+			}
+			
+			final Object removed = leaf.values[index];
+			leaf.remove(index);
+			size--;
+			return removed;
+		}
+		
+		final Inner inner = (Inner)node;
+		@DoNotSub final int childIndex = childIndex(inner, key);
+		final Node child = inner.children[childIndex];
+		final Object removed = delete(child, key);
+		if (null != removed && child.size < minKeys) {
+			rebalance(inner, childIndex);
+		}
+		
+		return removed;
+	}
+	
+	/**
+	 * Restore the minimum size of a child by borrowing from a sibling which can spare a key, or else merging with one.
+	 */
+	private void rebalance(final Inner parent, @DoNotSub final int childIndex) {
+		final Node child = parent.children[childIndex];
+		final Node left = childIndex > 0 ? parent.children[childIndex - 1] : null;
+		final Node right = childIndex < parent.size ? parent.children[childIndex + 1] : null;
+		
+		if (null != left && left.size > minKeys) {
+			if (child instanceof Leaf) {
+				final Leaf leaf = (Leaf)child;
+				final Leaf from = (Leaf)left;
+				@DoNotSub final int last = from.size - 1;
+				leaf.insert(0, from.keys[last], from.values[last]);
+				from.remove(last);
+				parent.keys[childIndex - 1] = leaf.keys[0];
+			}
+			else {
+				final Inner inner = (Inner)child;
+				final Inner from = (Inner)left;
+				@DoNotSub final int last = from.size - 1;
+				System.arraycopy(inner.keys, 0, inner.keys, 1, inner.size);
+				System.arraycopy(inner.children, 0, inner.children, 1, inner.size + 1);
+				inner.keys[0] = parent.keys[childIndex - 1];
+				inner.children[0] = from.children[last + 1];
+				inner.size++;
+				
+				parent.keys[childIndex - 1] = from.keys[last];
+				from.children[last + 1] = null;
+				from.size = last;
+			}
+		}
+		else if (null != right && right.size > minKeys) {
+			if (child instanceof Leaf) {
+				final Leaf leaf = (Leaf)child;
+				final Leaf from = (Leaf)right;
+				leaf.insert(leaf.size, from.keys[0], from.values[0]);
+				from.remove(0);
+				parent.keys[childIndex] = from.keys[0];
+			}
+			else {
+				final Inner inner = (Inner)child;
+				final Inner from = (Inner)right;
+				inner.keys[inner.size] = parent.keys[childIndex];
+				inner.children[inner.size + 1] = from.children[0];
+				inner.size++;
+				
+				parent.keys[childIndex] = from.keys[0];
+				System.arraycopy(from.keys, 1, from.keys, 0, from.size - 1);
+				System.arraycopy(from.children, 1, from.children, 0, from.size);
+				from.children[from.size] = null;
+				from.size--;
+			}
+		}
+		else if (null != left) {
+			merge(parent, childIndex - 1);
+		}
+		else {
+			merge(parent, childIndex);
+		}
+	}
+	
+	/**
+	 * Merge the child after the separator at keyIndex into the child before it.
+	 */
+	private void merge(final Inner parent, @DoNotSub final int keyIndex) {
+		final Node left = parent.children[keyIndex];
+		final Node right = parent.children[keyIndex + 1];
+		
+		if (left instanceof Leaf) {
+			final Leaf leftLeaf = (Leaf)left;
+			final Leaf rightLeaf = (Leaf)right;
+			System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.size, rightLeaf.size);
+			System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.size, rightLeaf.size);
+			leftLeaf.size += rightLeaf.size;
+			
+			leftLeaf.next = rightLeaf.next;
+			if (null != rightLeaf.next) {
+				rightLeaf.next.previous = leftLeaf;
+			}
+			else {
+				lastLeaf = leftLeaf;
+			}
+		}
+		else {
+			final Inner leftInner = (Inner)left;
+			final Inner rightInner = (Inner)right;
+			leftInner.keys[leftInner.size] = parent.keys[keyIndex];
+			System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.size + 1, rightInner.size);
+			System.arraycopy(rightInner.children, 0, leftInner.children, leftInner.size + 1, rightInner.size + 1);
+			leftInner.size += rightInner.size + 1;
+		}
+		
+		System.arraycopy(parent.keys, keyIndex + 1, parent.keys, keyIndex, parent.size - keyIndex - 1);
+		System.arraycopy(parent.children, keyIndex + 2, parent.children, keyIndex + 1, parent.size - keyIndex - 1);
+		parent.children[parent.size] = null;
+		parent.size--;
+	}
+	
+	/**
+	 * Child i of an inner node holds keys from separator i - 1 inclusive to separator i exclusive.
+	 */
+	private static @DoNotSub int childIndex(
+		final Inner inner,
+		final long key) {
+		@DoNotSub final int index = Arrays.binarySearch(inner.keys, 0, inner.size, key);
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+	
+	abstract static class Node {
+		final long[] keys;
+		@DoNotSub int size;
+		
+		Node(@DoNotSub final int order) {
+			keys = new long[order + 1];
+		}
+	}
+	
+	static final class Leaf extends Node {
+		final Object[] values;
+		Leaf next;
+		Leaf previous;
+		
+		Leaf(@DoNotSub final int order) {
+			super(order);
+			values = new Object[order + 1];
+		}
+		
+		void insert(
+			@DoNotSub final int index,
+			final long key,
+			final Object value) {
+			System.arraycopy(keys, index, keys, index + 1, size - index);
+			System.arraycopy(values, index, values, index + 1, size - index);
+			keys[index] = key;
+			values[index] = value;
+			size++;
+		}
+		
+		void remove(@DoNotSub final int index) {
+			size--;
+			System.arraycopy(keys, index + 1, keys, index, size - index);
+			System.arraycopy(values, index + 1, values, index, size - index);
+			values[size] = null;
+		}
+	}
+	
+	static final class Inner extends Node {
+		final Node[] children;
+		
+		Inner(@DoNotSub final int order) {
+			super(order);
+			children = new Node[order + 2];
+		}
+		
+		/**
+		 * Insert a separator key at index with the node to the right of it.
+		 */
+		void insert(
+			@DoNotSub final int index,
+			final long key,
+			final Node right) {
+			System.arraycopy(keys, index, keys, index + 1, size - index);
+			System.arraycopy(children, index + 1, children, index + 2, size - index);
+			keys[index] = key;
+			children[index + 1] = right;
+			size++;
+		}
+	}
+	
+	/**
+	 * Position on an entry which moves in key order through the linked leaves. Seek methods return true if the
+	 * cursor is positioned on an entry.
+	 */
+	public final class Cursor {
+		private Leaf leaf;
+		private @DoNotSub int index;
+		
+		Cursor() {
+		
+		}
+		
+		public boolean isValid() {
+			return null != leaf;
+		}
+		
+		public boolean seekFirst() {
+			return position(firstLeaf, 0);
+		}
+		
+		public boolean seekLast() {
+			return position(lastLeaf, lastLeaf.size - 1);
+		}
+		
+		/**
+		 * Position on the least key greater than or equal to the given key.
+		 */
+		public boolean seekCeiling(final long key) {
+			final Leaf leaf = findLeaf(key);
+			@DoNotSub final int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+			return forward(leaf, index >= 0 ? index : -index - 1);
+		}
+		
+		/**
+		 * Position on the least key strictly greater than the given key.
+		 */
+		public boolean seekHigher(final long key) {
+			final Leaf leaf = findLeaf(key);
+			@DoNotSub final int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+			return forward(leaf, index >= 0 ? index + 1 : -index - 1);
+		}
+		
+		/**
+		 * Position on the greatest key less than or equal to the given key.
+		 */
+		public boolean seekFloor(final long key) {
+			final Leaf leaf = findLeaf(key);
+			@DoNotSub final int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+			return backward(leaf, index >= 0 ? index : -index - 2);
+		}
+		
+		/**
+		 * Position on the greatest key strictly less than the given key.
+		 */
+		public boolean seekLower(final long key) {
+			final Leaf leaf = findLeaf(key);
+			@DoNotSub final int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+			return backward(leaf, index >= 0 ? index - 1 : -index - 2);
+		}
+		
+		/**
+		 * Move to the next greater key.
+		 */
+		public boolean next() {
+			if (null == leaf) {
+				throw new IllegalStateException("cursor is not positioned");
+			}
+			
+			return forward(leaf, index + 1);
+		}
+		
+		/**
+		 * Move to the next lesser key.
+		 */
+		public boolean previous() {
+			if (null == leaf) {
+				throw new IllegalStateException("cursor is not positioned");
+			}
+			
+			return backward(leaf, index - 1);
+		}
+		
+		public long key() {
+			return positionedLeaf().keys[index];
+		}
+		
+		@SuppressWarnings("unchecked")
+		public V value() {
+			return (V)positionedLeaf().values[index];
+		}
+		
+		@SuppressWarnings("unchecked")
+		public V setValue(final V value) {
+			requireNonNull(value, "value cannot be null");
+			final Object[] values = positionedLeaf().values;
+			final Object previous = values[index];
+			values[index] = value;
+			return (V)previous;
+		}
+		
+		private Leaf positionedLeaf() {
+			if (null == leaf) {
+				throw new NoSuchElementException();
+			}
+			
+			return leaf;
+		}
+		
+		private boolean forward(final Leaf leaf, @DoNotSub final int index) {
+			return index < leaf.size ? position(leaf, index) : position(leaf.next, 0);
+		}
+		
+		private boolean backward(final Leaf leaf, @DoNotSub final int index) {
+			if (index >= 0) {
+				return position(leaf, index);
+			}
+			
+			final Leaf previous = leaf.previous;
+			return position(previous, null != previous ? previous.size - 1 : 0);
+		}
+		
+		private boolean position(final Leaf leaf, @DoNotSub final int index) {
+			if (null == leaf || index < 0 || index >= leaf.size) {
+				this.leaf = null;
+				return false;
+			}
+			
+			this.leaf = leaf;
+			this.index = index;
+			return true;
+		}
+	}
+}
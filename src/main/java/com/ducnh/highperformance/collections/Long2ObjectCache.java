@@ -0,0 +1,920 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import static com.ducnh.highperformance.collections.CollectionUtil.validatePositivePowerOfTwo;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+/**
+ * Fixed size cache of long keys to values, organised as sets of ways which are chosen by key hash. Which way is evicted
+ * when a set is full depends on the {@link CacheEvictionPolicy}.
+ */
+public class Long2ObjectCache<V> implements Map<Long, V> {
+	
+	private long cachePuts = 0;
+	private long cacheHits = 0;
+	private long cacheMisses = 0;
+	private long cacheEvictions = 0;
+	
+	private @DoNotSub int size;
+	private @DoNotSub final int capacity;
+	private @DoNotSub final int setSize;
+	private @DoNotSub final int setSizeShift;
+	private @DoNotSub final int mask;
+	
+	private final long[] keys;
+	private final Object[] values;
+	private final Consumer<V> evictionConsumer;
+	private final CacheEvictionPolicy evictionPolicy;
+	private final byte[] referenced;
+	private @DoNotSub final int[] clockHands;
+	private final FrequencySketch sketch;
+	
+	private ValueCollection valueCollection;
+	private KeySet keySet;
+	private EntrySet entrySet;
+	
+	public Long2ObjectCache(
+			@DoNotSub final int numSets,
+			@DoNotSub final int setSize,
+			final Consumer<V> evictionConsumer) {
+		this(numSets, setSize, evictionConsumer, CacheEvictionPolicy.FIFO);
+	}
+	
+	public Long2ObjectCache(
+			@DoNotSub final int numSets,
+			@DoNotSub final int setSize,
+			final Consumer<V> evictionConsumer,
+			final CacheEvictionPolicy evictionPolicy) {
+		validatePositivePowerOfTwo(numSets);
+		validatePositivePowerOfTwo(setSize);
+		requireNonNull(evictionConsumer, "null values are not permitted");
+		requireNonNull(evictionPolicy, "evictionPolicy");
+		
+		if (((long)numSets) * setSize > (Long.MAX_VALUE - 8)) {
+			throw new IllegalArgumentException(
+					"total capacity must be <= max array size: numSets=" + numSets + " setSize=" + setSize);
+		}
+		
+		this.setSize = setSize;
+		this.setSizeShift = Long.numberOfTrailingZeros(setSize);
+		capacity = numSets << setSizeShift;
+		mask = numSets - 1;
+		
+		keys = new long[capacity];
+		values = new Object[capacity];
+		this.evictionConsumer = evictionConsumer;
+		this.evictionPolicy = evictionPolicy;
+		
+		final boolean isClock = CacheEvictionPolicy.FIFO != evictionPolicy;
+		referenced = isClock ? new byte[capacity] : null;
+		clockHands = isClock ? new int[numSets] : null; // @DoNotSub
+		sketch = CacheEvictionPolicy.TINY_LFU == evictionPolicy ? new FrequencySketch(capacity) : null;
+	}
+	
+	public CacheEvictionPolicy evictionPolicy() {
+		return evictionPolicy;
+	}
+	
+	public long cachePuts() {
+		return cachePuts;
+	}
+	
+	public long cacheHits() {
+		return cacheHits;
+	}
+	
+	public long cacheMisses() {
+		return cacheMisses;
+	}
+	
+	/**
+	 * Number of values passed to the eviction consumer by a put, under every policy: values replaced by a put of the
+	 * same key, values displaced to make room, and new values which {@link CacheEvictionPolicy#TINY_LFU} did not admit.
+	 */
+	public long cacheEvictions() {
+		return cacheEvictions;
+	}
+	
+	public void resetCounters() {
+		cacheHits = 0;
+		cacheMisses = 0;
+		cachePuts = 0;
+		cacheEvictions = 0;
+	}
+	
+	public @DoNotSub int capacity() {
+		return capacity;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	public boolean containsKey(final Object key) {
+		return containsKey((long) key);
+	}
+	
+	public boolean containsKey(final long key) {
+		boolean found = false;
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = setBeginIndex, setEndIndex = setBeginIndex + setSize; i < setEndIndex; i++) {
+			if (values[i] == null) {
+				break;
+			}
+			if (key == keys[i]) {
+				found = true;
+				break;
+			}
+		}
+		
+		return found;
+	}
+	
+	public boolean containsValue(final Object value) {
+		boolean found = false;
+		if (value != null) {
+			final Object[] values = this.values;
+			for (final Object v : values) {
+				if (Objects.equals(v, value)) {
+					found = true;
+					break;
+				}
+			}
+		}
+		
+		return found;
+	}
+	
+	public V get(final Object key) {
+		return get((long) key);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V get(final long key) {
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
+		
+		if (null != sketch) {
+			sketch.increment(Hashing.hash(key));
+		}
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = setBeginIndex, setEndIndex = setBeginIndex +  setSize; i < setEndIndex; i++) {
+			final Object value = values[i];
+			if (value == null) {
+				break;
+			}
+			
+			if (key == keys[i]) {
+				if (null != referenced) {
+					referenced[i] = 1;
+				}
+				cacheHits++;
+				return (V)value;
+			}
+		}
+		
+		cacheMisses++;
+		return null;
+	}
+	
+	public V getOrDefault(final long key, final V defaultValue) {
+		final V value = get(key);
+		return value == null ? defaultValue : value;
+	}
+	
+	public void forEach(final BiConsumer<? super Long, ? super V> action) {
+		forEachLong(action::accept);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public void forEachLong(final LongObjConsumer<? super V> consumer) {
+		requireNonNull(consumer);
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
+		
+		for (@DoNotSub int index = 0; remaining > 0 && index < length; index ++) {
+			final Object value = values[index];
+			if (null != value) {
+				consumer.accept(keys[index], (V)value);
+				--remaining;
+			}
+		}
+	}
+	
+	public V computeIfAbsent(final Long key, final Function<? super Long, ? extends V> mappingFunction) {
+		return computeIfAbsent((long) key, mappingFunction::apply);
+	}
+	
+	public V computeIfAbsent(final long key, final LongFunction<? extends V> mappingFunction) {
+		requireNonNull(mappingFunction);
+		V value = get(key);
+		if (null == value) {
+			value = mappingFunction.apply(key);
+			if (null != value) {
+				put(key, value);
+			}
+		}
+		
+		return value;
+	}
+	
+	public V computeIfPresent(final Long key, final BiFunction<? super Long, ? super V, ? extends V> remappingFunction) {
+		return computeIfPresent((long)key, remappingFunction::apply);
+	}
+	
+	public V computeIfPresent(final long key, final LongObjectToObjectFunction<? super V, ? extends V> remappingFunction) {
+		requireNonNull(remappingFunction);
+		final V oldValue = get(key);
+		if (null != oldValue) {
+			final V newValue = remappingFunction.apply(key, oldValue);
+			if (null != newValue) {
+				put(key, newValue);
+				return newValue;
+			}
+			else {
+				remove(key);
+				return null;
+			}
+		}
+		return null;
+	}
+	
+	
+	public V compute(final Long key, final BiFunction<? super Long, ? super V, ? extends V> remappingFunction) {
+		return compute((long) key, remappingFunction::apply);
+	}
+	
+	public V compute(final long key, final LongObjectToObjectFunction<? super V, ? extends V> remappingFunction) {
+		final V oldValue = get(key);
+		final V newValue = remappingFunction.apply(key, oldValue);
+		if (null != newValue) {
+			put(key, newValue);
+			return newValue;
+		} else {
+			if (null != oldValue) {
+				remove(key);
+			}
+			return null;
+		}
+	}
+	
+	public V merge(final Long key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		return merge((long) key, value, remappingFunction);
+	}
+	
+	public V merge(final long key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		requireNonNull(value);
+		requireNonNull(remappingFunction);
+		final V oldValue = get(key);
+		final V newValue = null == oldValue ? value : remappingFunction.apply(oldValue, value);
+		if (null != newValue) {
+			put(key, newValue);
+			return newValue;
+		} else {
+			remove(key);
+			return null;
+		}
+	}
+	
+	public V putIfAbsent(final Long key, final V value) {
+		return putIfAbsent((long)key, value);
+	}
+	
+	public V putIfAbsent(final long key, final V value) {
+		final V existingValue = get(key);
+		if (null == existingValue) {
+			put(key, value);
+			return null;
+		}
+		
+		return existingValue;
+	}
+	
+	public V put(final Long key, final V value) {
+		return put((long) key, value);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V put(final long key, final V value) {
+		requireNonNull(value, "null values are not supported");
+		
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
+		if (CacheEvictionPolicy.FIFO != evictionPolicy) {
+			putInPlace(key, value, setNumber, setBeginIndex);
+			return null;
+		}
+		
+		@DoNotSub int i = setBeginIndex;
+		
+		final Object[] values = this.values;
+		final long[] keys = this.keys;
+		Object evictedValue = null;
+		for (@DoNotSub int nextSetIndex = setBeginIndex + setSize; i < nextSetIndex; i++) {
+			evictedValue = values[i];
+			if (null == evictedValue) {
+				break;
+			}
+			
+			if (key == keys[i]) {
+				shuffleUp(i, nextSetIndex - 1);
+				
+				break;
+			}
+		}
+		
+		if (null == evictedValue) {
+			evictedValue = values[setBeginIndex + (setSize - 1)];
+		}
+		
+		shuffleDown(setBeginIndex);
+		
+		keys[setBeginIndex] = key;
+		values[setBeginIndex] = value;
+		
+		cachePuts++;
+		
+		if (null != evictedValue) {
+			cacheEvictions++;
+			evictionConsumer.accept((V) evictedValue);
+		} else {
+			++size;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Put for the clock based policies, which replace an entry where it is rather than shuffling the set so that
+	 * reference bits stay with their entries.
+	 */
+	@SuppressWarnings("unchecked")
+	private void putInPlace(
+		final long key,
+		final V value,
+		@DoNotSub final int setNumber,
+		@DoNotSub final int setBeginIndex) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		final byte[] referenced = this.referenced;
+		cachePuts++;
+		
+		for (@DoNotSub int i = setBeginIndex, setEndIndex = setBeginIndex + setSize; i < setEndIndex; i++) {
+			final Object existingValue = values[i];
+			if (null == existingValue) {
+				keys[i] = key;
+				values[i] = value;
+				referenced[i] = 0;
+				++size;
+				return;
+			}
+			
+			if (key == keys[i]) {
+				values[i] = value;
+				referenced[i] = 1;
+				cacheEvictions++;
+				evictionConsumer.accept((V)existingValue);
+				return;
+			}
+		}
+		
+		final Object evictedValue;
+		if (null == sketch) {
+			@DoNotSub final int victimIndex = clockVictim(setNumber, setBeginIndex, 0);
+			evictedValue = values[victimIndex];
+			keys[victimIndex] = key;
+			values[victimIndex] = value;
+			referenced[victimIndex] = 0;
+		}
+		else if (1 == setSize) {
+			if (sketch.frequency(Hashing.hash(key)) > sketch.frequency(Hashing.hash(keys[setBeginIndex]))) {
+				evictedValue = values[setBeginIndex];
+				keys[setBeginIndex] = key;
+				values[setBeginIndex] = value;
+			}
+			else {
+				evictedValue = value;
+			}
+		}
+		else {
+			@DoNotSub final int victimIndex = clockVictim(setNumber, setBeginIndex, 1);
+			final long candidateKey = keys[setBeginIndex];
+			if (sketch.frequency(Hashing.hash(candidateKey)) > sketch.frequency(Hashing.hash(keys[victimIndex]))) {
+				evictedValue = values[victimIndex];
+				keys[victimIndex] = candidateKey;
+				values[victimIndex] = values[setBeginIndex];
+				referenced[victimIndex] = 0;
+			}
+			else {
+				evictedValue = values[setBeginIndex];
+			}
+			
+			keys[setBeginIndex] = key;
+			values[setBeginIndex] = value;
+			referenced[setBeginIndex] = 0;
+		}
+		
+		cacheEvictions++;
+		evictionConsumer.accept((V)evictedValue);
+	}
+	
+	/**
+	 * Advance the clock hand of a set past referenced ways, clearing their bits, to the first way which is not.
+	 *
+	 * @param firstWay of the set which the hand sweeps from, so a window way can be excluded.
+	 */
+	private @DoNotSub int clockVictim(
+		@DoNotSub final int setNumber,
+		@DoNotSub final int setBeginIndex,
+		@DoNotSub final int firstWay) {
+		final byte[] referenced = this.referenced;
+		@DoNotSub final int ways = setSize - firstWay;
+		@DoNotSub int hand = clockHands[setNumber];
+		
+		while (true) {
+			@DoNotSub final int index = setBeginIndex + firstWay + hand;
+			hand = hand + 1 == ways ? 0 : hand + 1;
+			if (0 == referenced[index]) {
+				clockHands[setNumber] = hand;
+				return index;
+			}
+			
+			referenced[index] = 0;
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	public boolean remove(final Object key, final Object value) {
+		return remove((long) key, (V) value);
+	}
+	
+	public boolean remove(final long key, final V value) {
+		final V existingValue = get(key);
+		if (null != existingValue && Objects.equals(value, existingValue)) {
+			remove(key);
+			return true;
+		}
+		
+		return false;
+	}
+	
+	public V remove(final Object key) {
+		return remove((long) key);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V remove(final long key) {
+		@DoNotSub final int setNumber = Hashing.hash(key, mask);
+		@DoNotSub final int setBeginIndex = setNumber << setSizeShift;
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		Object value = null;
+		for (@DoNotSub int i = setBeginIndex, nextSetIndex = setBeginIndex + setSize; i < nextSetIndex; i++) {
+			value = values[i];
+			if (null == value) {
+				break;
+			} 
+			
+			if (key == keys[i]) {
+				shuffleUp(i, nextSetIndex - 1);
+				--size;
+				
+				evictionConsumer.accept((V) value);
+				break;
+			}
+		}
+		
+		return (V) value;
+	}
+	
+	public boolean replace(final Long key, final V oldValue, final V value) {
+		return replace((long) key, oldValue, value);
+	}
+	
+	public boolean replace(final long key, final V oldValue, final V newValue) {
+		final V existingValue = get(key);
+		if (null != existingValue && Objects.equals(existingValue, oldValue)) {
+			put(key, newValue);
+			return true;
+		}
+		
+		return false;
+	}
+	
+	public V replace(final Long key, final V value) {
+		return replace((long) key, value);
+	}
+	
+	public V replace(final long key, final V value) {
+		final V oldValue = get(key);
+		if (null != oldValue) {
+			put(key, value);
+		}
+		return oldValue;
+	}
+	
+	public void replaceAll(final BiFunction<? super Long, ? super V, ? extends V> function) {
+		replaceAllLong(function::apply);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public void replaceAllLong(final LongObjectToObjectFunction<? super V, ? extends V> function) {
+		requireNonNull(function);
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
+		
+		for (@DoNotSub int index = 0; remaining > 0 && index < length; index++) {
+			final Object oldValue = values[index];
+			if (null != oldValue) {
+				final V newValue = function.apply(keys[index], (V)oldValue);
+				requireNonNull(newValue, "null values are not supported");
+				values[index] = newValue;
+				--remaining;
+			}
+		} 
+	}
+	
+	private void shuffleUp(@DoNotSub final int fromIndex, @DoNotSub final int toIndex) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		
+		for (@DoNotSub int i = fromIndex; i < toIndex; i++) {
+			values[i] = values[i + 1];
+			keys[i] = keys[i + 1];
+		}
+		
+		if (null != referenced) {
+			System.arraycopy(referenced, fromIndex + 1, referenced, fromIndex, toIndex - fromIndex);
+		}
+		
+		values[toIndex] = null;
+	}
+	
+	private void shuffleDown(@DoNotSub final int setBeginIndex) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = setBeginIndex + (setSize - 1); i > setBeginIndex; i--) {
+			values[i] = values[i - 1];
+			keys[i] = keys[i - 1];
+		}
+		values[setBeginIndex] = null;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public void clear() {
+		final Object[] values = this.values;
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final Object value = values[i];
+			if (null != value) {
+				values[i] = null;
+				size--;
+				
+				evictionConsumer.accept((V)value);
+			}
+		}
+		
+		if (null != referenced) {
+			Arrays.fill(referenced, (byte)0);
+			Arrays.fill(clockHands, 0);
+		}
+		
+		if (null != sketch) {
+			sketch.clear();
+		}
+	}
+	
+	public void putAll(final Map<? extends Long, ? extends V> map) {
+		for (final Entry<? extends Long, ? extends V> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	public void putAll(final Long2ObjectCache<? extends V> map) {
+		final Long2ObjectCache<? extends V>.EntryIterator iterator = map.entrySet().iterator();
+		
+		while (iterator.hasNext()) {
+			iterator.findNext();
+			put(iterator.getLongKey(), iterator.getValue());
+		}
+	}
+	
+	public KeySet keySet() {
+		return keySet == null ? new KeySet() : keySet;
+	}
+	
+	public ValueCollection values() {
+		if (null == valueCollection) {
+			valueCollection = new ValueCollection();
+		}
+		
+		return valueCollection;
+	}
+	
+	public EntrySet entrySet() {
+		if (null == entrySet) {
+			entrySet = new EntrySet();
+		}
+		
+		return entrySet;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final Object value = values[i];
+			if (null != value) {
+				sb.append(keys[i]).append('=').append(value).append(", ");
+			}
+		}
+		
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 1);
+		}
+		
+		sb.append('}');
+		return sb.toString();
+	}
+	
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		
+		if (!(o instanceof Map)) {
+			return false;
+		}
+		
+		final Map<?, ?> that = (Map<?, ?>)o;
+		
+		if (size != that.size()) {
+			return false;
+		}
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final Object thisValue = values[i];
+			if (null != thisValue) {
+				final Object thatValue = that.get(keys[i]);
+				if (!thisValue.equals(thatValue)) {
+					return false;
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	public @DoNotSub int hashCode() {
+		@DoNotSub int result = 0;
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final Object value = values[i];
+			if (null != value) {
+				result += (Long.hashCode(keys[i]) ^ value.hashCode());
+			}
+		}
+		
+		return result;
+	}
+	
+	public final class KeySet extends AbstractSet<Long> {
+		private final KeyIterator iterator = new KeyIterator();
+		
+		public KeySet() {
+			
+		}
+		
+		public @DoNotSub int size() {
+			return Long2ObjectCache.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return Long2ObjectCache.this.containsKey(o); 
+		}
+		
+		public boolean contains(final long key) {
+			return Long2ObjectCache.this.containsKey(key);
+		}
+		
+		public KeyIterator iterator() {
+			iterator.reset();
+			
+			return iterator;
+		}
+		
+		public boolean remove(final Object o) {
+			throw new UnsupportedOperationException("Cannot remove from KeySet");
+		}
+		
+		public boolean removeIf(final Predicate<? super Long> filter) {
+			throw new UnsupportedOperationException("Cannot remove from KeySet");
+		}
+		
+		public void clear() {
+			Long2ObjectCache.this.clear();
+		}
+	}
+	
+	public final class ValueCollection extends AbstractCollection<V> {
+		private final ValueIterator iterator = new ValueIterator();
+		
+		public ValueCollection() {
+			
+		}
+		
+		public @DoNotSub int size() {
+			return Long2ObjectCache.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return Long2ObjectCache.this.containsValue(o);
+		}
+		
+		public ValueIterator iterator() {
+			iterator.reset();
+			
+			return iterator;
+		}
+		
+		public void clear() {
+			Long2ObjectCache.this.clear();
+		}
+		
+		public boolean remove(final Object o) {
+			throw new UnsupportedOperationException("Cannot remove from ValueCollection");
+		}
+		
+		public boolean removeIf(final Predicate<? super V> filter) {
+			throw new UnsupportedOperationException("Cannot remove from ValueCollection");
+		}
+	}
+	
+	public final class EntrySet extends AbstractSet<Map.Entry<Long, V>> {
+		private final EntryIterator iterator = new EntryIterator();
+		
+		public EntrySet() {
+			
+		}
+		
+		public @DoNotSub int size() {
+			return Long2ObjectCache.this.size();
+		}
+		
+		public EntryIterator iterator() {
+			iterator.reset();
+			
+			return iterator;
+		}
+		
+		public void clear() {
+			Long2ObjectCache.this.clear();
+		}
+		
+		public boolean remove(final Object o) {
+			throw new UnsupportedOperationException("Cannot remove from EntrySet");
+		}
+		
+		public boolean removeIf(final Predicate<? super Entry<Long, V>> filter) {
+			throw new UnsupportedOperationException("Cannot remove from EntrySet");
+		}
+	}
+	
+	abstract class AbstractIterator<T> implements Iterator<T> {
+		private @DoNotSub int remaining;
+		private @DoNotSub int position = -1;
+	
+		protected @DoNotSub final int position() {
+			return position;
+		}
+		
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		protected final void findNext() {
+			boolean found = false;
+			final Object[] values = Long2ObjectCache.this.values;
+			
+			for (@DoNotSub int i = position + 1, size = capacity; i < size; i++) {
+				if (null != values[i]) {
+					found = true;
+					position = i;
+					--remaining;
+					break;
+				} 
+			}
+			if (!found) {
+				throw new NoSuchElementException();
+			}
+		}
+		
+		public abstract T next();
+		
+		public void remove() {
+			throw new UnsupportedOperationException("Remove not supported on Iterator");
+		}
+		
+		void reset() {
+			remaining = size;
+			position = -1;
+		}
+	}
+	
+	public final class ValueIterator extends AbstractIterator<V> {
+		public ValueIterator() {
+			
+		}
+		
+		@SuppressWarnings("unchecked")
+		public V next() {
+			findNext();
+			return (V)values[position()];
+		}
+	}
+	
+	public final class KeyIterator extends AbstractIterator<Long> {
+		
+		public KeyIterator() {
+			
+		}
+		
+		public Long next() {
+			return nextLong();
+		}
+		
+		public long nextLong() {
+			findNext();
+			return keys[position()];
+		}
+	}
+	
+	public final class EntryIterator extends AbstractIterator<Entry<Long, V>> 
+		implements Entry<Long, V>{
+		
+		public EntryIterator() {
+			
+		}
+		
+		public Entry<Long, V> next() {
+			findNext();
+			
+			return this;
+		}
+		
+		public Long getKey() {
+			return getLongKey();
+		}
+		
+		public long getLongKey() {
+			return keys[position()];
+		}
+		
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) values[position()];
+		}
+		
+		public V setValue(final V value) {
+			throw new UnsupportedOperationException("no set on this iterator");
+		}
+	}
+}
@@ -0,0 +1,1381 @@
+package com.ducnh.highperformance.collections;
+
+import java.io.File;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+
+import com.ducnh.highperformance.collections.Long2LongHashMap.EntryIterator;
+
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.ExpandableArrayBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.generation.DoNotSub;
+
+public class Long2ObjectHashMap<V> implements Map<Long, V>{
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int NONE = -1;
+	private final float loadFactor;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size;
+	private final boolean shouldAvoidAllocation;
+	
+	private long[] keys;
+	private Object[] values;
+	private @DoNotSub int rehashSlotsPerOperation;
+	private long[] rehashKeys;
+	private Object[] rehashValues;
+	private @DoNotSub int rehashIndex;
+	private @DoNotSub int rehashRemaining;
+	
+	private ValueCollection valueCollection;
+	private KeySet keySet;
+	private EntrySet entrySet;
+	
+	public Long2ObjectHashMap() {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, true);
+	}
+	
+	public Long2ObjectHashMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final boolean shouldAvoidAllocation) {
+		validateLoadFactor(loadFactor);
+		
+		this.loadFactor = loadFactor;
+		this.shouldAvoidAllocation = shouldAvoidAllocation;
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		
+		keys = new long[capacity];
+		values = new Object[capacity];
+	}
+	
+	public Long2ObjectHashMap(final Long2ObjectHashMap<V> mapToCopy) {
+		mapToCopy.completeRehash();
+		this.loadFactor = mapToCopy.loadFactor;
+		this.resizeThreshold = mapToCopy.resizeThreshold;
+		this.size = mapToCopy.size;
+		this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
+		this.rehashSlotsPerOperation = mapToCopy.rehashSlotsPerOperation;
+		
+		keys = mapToCopy.keys.clone();
+		values = mapToCopy.values.clone();
+	}
+	
+	private Long2ObjectHashMap(final HashSnapshot.Reader reader, final SnapshotCodec<V> codec) {
+		loadFactor = reader.loadFactor();
+		validateLoadFactor(loadFactor);
+		shouldAvoidAllocation = 0 != (reader.flags() & HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION);
+		
+		@DoNotSub final int capacity = reader.capacity();
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		size = reader.size();
+		keys = new long[capacity];
+		values = new Object[capacity];
+		reader.verifyChecksum();
+		reader.getLongArray(keys);
+		
+		final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+		for (@DoNotSub int i = 0; i < capacity; i++) {
+			@DoNotSub final int length = reader.getInt();
+			if (HashSnapshot.NULL_VALUE_LENGTH != length) {
+				reader.getBytes(buffer, length);
+				values[i] = requireNonNull(codec.decode(buffer, 0, length), "decoded value cannot be null");
+			}
+		}
+		reader.verify();
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public @DoNotSub int capacity() {
+		return values.length;
+	}
+	
+	public @DoNotSub int resizeThreshold() {
+		return resizeThreshold;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * Opt in to resizing incrementally. Rather than rehashing all entries into a larger table in one call when the
+	 * size crosses the resize threshold, the old table is kept and {@link #put(long, Object)} and {@link #remove(long)}
+	 * each migrate at least the given number of its slots, while lookups consult both tables. {@link #compact()}
+	 * shrinks the same way.
+	 * <p>
+	 * The number of slots is raised to at least {@code 1 / loadFactor + 1} so that migration finishes before the new
+	 * table fills. Operations other than get, containsKey, put and remove, including iteration, first complete a
+	 * rehash in progress.
+	 *
+	 * @param slotsPerOperation to migrate on each put or remove, or 0 to rehash in one call which is the default.
+	 */
+	public void incrementalRehash(@DoNotSub final int slotsPerOperation) {
+		if (slotsPerOperation < 0) {
+			throw new IllegalArgumentException("slotsPerOperation must not be negative: " + slotsPerOperation);
+		}
+		
+		completeRehash();
+		rehashSlotsPerOperation = 0 == slotsPerOperation ?
+			0 : Math.max(slotsPerOperation, (int)Math.ceil(1.0d / loadFactor) + 1); // @DoNotSub
+	}
+	
+	public @DoNotSub int incrementalRehashSlots() {
+		return rehashSlotsPerOperation;
+	}
+	
+	public boolean isRehashing() {
+		return null != rehashValues;
+	}
+	
+	/**
+	 * Migrate all remaining entries of an incremental rehash in progress.
+	 */
+	public void completeRehash() {
+		if (null != rehashValues) {
+			rehashStep(Integer.MAX_VALUE); // @DoNotSub
+		}
+	}
+	
+	public void forEach(final BiConsumer<? super Long, ? super V> action) {
+		forEachLong(action::accept);
+	}
+	
+	public void forEachLong(final LongObjConsumer<V> consumer) {
+		requireNonNull(consumer);
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int length = values.length;
+		
+		for (@DoNotSub int index = 0, remaining = size; remaining > 0 && index < length; index++) {
+			final Object value = values[index];
+			if (value != null) {
+				consumer.accept(keys[index], unmapNullValue(value));
+				--remaining;
+			}
+		}
+	}
+	
+	public boolean containsKey(final Object key) {
+		return containsKey((long) key);
+	}
+	
+	public boolean containsKey(final long key) {
+		return null != getMapped(key);
+	}
+	
+	public boolean containsValue(final Object value) {
+		boolean found = false;
+		final Object val = mapNullValue(value);
+		
+		if (null != val) {
+			completeRehash();
+			final Object[] values = this.values;
+			@DoNotSub final int length = values.length;
+			for (@DoNotSub int i = 0, remaining  = size; remaining > 0  && i < length; i++) {
+				final Object existingValue = values[i];
+				if (existingValue != null) {
+					if (Objects.equals(existingValue, val)) {
+						found = true;
+						break;
+					}
+					--remaining;
+				}
+			}
+		}
+		return found;
+	}
+	
+	public V get(final Object key) {
+		return get((long)key);
+	}
+	
+	public V get(final long key) {
+		return unmapNullValue(getMapped(key));
+	}
+	
+	public V getOrDefault(final long key, final V defaultValue) {
+		final V value = getMapped(key);
+		return null != value ? unmapNullValue(value) : defaultValue;
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected V getMapped(final long key) {
+		final Object value = getMapped(keys, values, key);
+		if (null == value && null != rehashValues) {
+			return (V)getMapped(rehashKeys, rehashValues, key);
+		}
+		
+		return (V)value;
+	}
+	
+	private static Object getMapped(
+		final long[] keys,
+		final Object[] values,
+		final long key) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object value;
+		while (null != (value = values[index])) {
+			if (key == keys[index]) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return value;
+	}
+	
+	public V computeIfAbsent(final Long key, final Function<? super Long, ? extends V> mappingFunction) {
+		return computeIfAbsent((long)key, mappingFunction::apply);
+	}
+	
+	public V computeIfAbsent(final long key, final LongFunction<? extends V> mappingFunction) {
+		requireNonNull(mappingFunction);
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object mappedValue;
+		while (null != (mappedValue = values[index])) {
+			if (key == keys[index]) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		V value = unmapNullValue(mappedValue);
+		
+		if (null == value && (value = mappingFunction.apply(key)) != null) {
+			values[index] = value;
+			if (mappedValue == null) {
+				keys[index] = key;
+				if (++size > resizeThreshold) {
+					increaseCapacity();
+				}
+			}
+		}
+		return value;
+	}
+	
+	public V computeIfPresent(
+			final Long key, final BiFunction<? super Long, ? super V, ? extends V> remappingFunction) {
+		return computeIfPresent((long)key, remappingFunction::apply);
+	}
+	
+	public V computeIfPresent(
+			final long key, final LongObjectToObjectFunction<? super V, ? extends V> remappingFunction) {
+		requireNonNull(remappingFunction);
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object mappedValue;
+		while (null != (mappedValue = values[index])) {
+			if (key == keys[index]) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		V value = unmapNullValue(mappedValue);
+		
+		if (value != null) {
+			value = remappingFunction.apply(key, value);
+			values[index] = value;
+			if (null == value) {
+				--size;
+				compactChain(index);
+			}
+		}
+		
+		return value;
+	}
+	
+	public V compute(final Long key, final BiFunction<? super Long, ? super V, ? extends V> remappingFunction) {
+		return compute((long) key, remappingFunction::apply);
+	}
+	
+	public V compute(final long key, final LongObjectToObjectFunction<? super V, ? extends V> remappingFunction) {
+		requireNonNull(remappingFunction);
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object mappedValue;
+		while (null != (mappedValue = values[index])) {
+			if (key == keys[index]) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		final V newValue = remappingFunction.apply(key, unmapNullValue(mappedValue));
+		if (null != newValue) {
+			values[index] = newValue;
+			if (null == mappedValue) {
+				keys[index] = key;
+				if (++size > resizeThreshold) {
+					increaseCapacity();
+				}
+			}		
+		} else if (null != mappedValue) {
+			values[index] = null;
+			size--;
+			compactChain(index);
+		}
+		
+		return newValue;
+	}
+	
+	public V merge(
+			final Long key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		return merge((long)key, value, remappingFunction);
+	}
+	
+	public V merge(final long key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+		requireNonNull(value);
+		requireNonNull(remappingFunction);
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object mappedValue;
+		while (null != (mappedValue = values[index])) {
+			if (key == keys[index]) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		final V oldValue = unmapNullValue(mappedValue);
+		final V newValue = null == oldValue ? value : remappingFunction.apply(oldValue, value);
+		
+		if (newValue != null) {
+			values[index] = newValue;
+			if (mappedValue == null) {
+				keys[index] = key;
+				if (++size > resizeThreshold) {
+					increaseCapacity();
+				}
+			}
+		} else if (null != mappedValue) {
+			values[index] = null;
+			size--;
+			compactChain(index);
+		}
+		
+		return newValue;
+	}
+	
+	public V put(final Long key, final V value) {
+		return put((long) key, value);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V put(final long key, final V value) {
+		final V val = (V)mapNullValue(value);
+		requireNonNull(val, "value cannot be null");
+		
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final Object[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final Object oldValue = rehashValues[index];
+					rehashValues[index] = val;
+					return unmapNullValue(oldValue);
+				}
+			}
+		}
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object oldValue;
+		while (null != (oldValue = values[index])) {
+			if (key == keys[index]) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		if (oldValue == null) {
+			++size;
+			keys[index] = key;
+		}
+		
+		values[index] = val;
+		
+		if (size > resizeThreshold) {
+			increaseCapacity();
+		}
+		
+		return unmapNullValue(oldValue);
+	}
+	
+	public V remove(final Object key) {
+		return remove((long) key);
+	}
+	
+	public V remove(final long key) {
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final Object[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final Object oldValue = rehashValues[index];
+					rehashValues[index] = null;
+					--size;
+					compactChain(rehashKeys, rehashValues, index);
+					return unmapNullValue(oldValue);
+				}
+			}
+		}
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object value;
+		
+		while (null != (value = values[index])) {
+			if (key == keys[index]) {
+				values[index] = null;
+				--size;
+				
+				compactChain(index);
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return unmapNullValue(value);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public boolean remove(final long key, final Object value) {
+		final Object val = mapNullValue(value);
+		if (val != null) {
+			completeRehash();
+			final long[] keys = this.keys;
+			final Object[] values = this.values;
+			@DoNotSub final int mask = values.length - 1;
+			@DoNotSub int index = Hashing.hash(key, mask);
+			
+			Object mappedValue;
+			while (null != (mappedValue = values[index])) {
+				if (key == keys[index]) {
+					if (Objects.equals(unmapNullValue(mappedValue), value)) {
+						values[index] = null;
+						--size;
+						
+						compactChain(index);
+						return true;
+					}
+					break;
+				}
+				
+				index = ++index & mask;
+			}
+		}
+		return false;
+	}
+	
+	public void clear() {
+		rehashKeys = null;
+		rehashValues = null;
+		if (size > 0) {
+			Arrays.fill(values, null);
+			size = 0;
+		}
+	}
+	
+	/**
+	 * Resize to the smallest capacity which holds the entries within the load factor and leaves a free slot, which is
+	 * done incrementally if opted in with {@link #incrementalRehash}.
+	 */
+	public void compact() {
+		@DoNotSub final int idealCapacity = (int)Math.ceil(size() / (double)loadFactor) + 1;
+		@DoNotSub final int newCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity));
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
+	}
+	
+	/**
+	 * Write a snapshot which {@link #readSnapshot} restores without rehashing. Keys are copied in bulk and each value
+	 * is encoded by the codec.
+	 *
+	 * @return length of the snapshot.
+	 * @throws IndexOutOfBoundsException if the buffer is too short from the index.
+	 */
+	public @DoNotSub int writeSnapshot(
+		final MutableDirectBuffer buffer,
+		@DoNotSub final int index,
+		final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(buffer, index)) {
+			return (int)writeSnapshot(writer, codec); // @DoNotSub
+		}
+	}
+	
+	/**
+	 * Write a snapshot to a file, which is created or truncated.
+	 */
+	public void writeSnapshot(final File file, final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(file)) {
+			writeSnapshot(writer, codec);
+		}
+	}
+	
+	/**
+	 * Restore a map from a snapshot written by {@link #writeSnapshot} with the same codec.
+	 *
+	 * @throws IllegalStateException if the snapshot is of a different type, is truncated or fails its checksum.
+	 */
+	public static <V> Long2ObjectHashMap<V> readSnapshot(
+		final DirectBuffer buffer,
+		@DoNotSub final int index,
+		final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			buffer, index, HashSnapshot.KIND_OBJECT_HASH_MAP, Long.BYTES)) {
+			return new Long2ObjectHashMap<>(reader, codec);
+		}
+	}
+	
+	public static <V> Long2ObjectHashMap<V> readSnapshot(final File file, final SnapshotCodec<V> codec) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			file, HashSnapshot.KIND_OBJECT_HASH_MAP, Long.BYTES)) {
+			return new Long2ObjectHashMap<>(reader, codec);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private long writeSnapshot(final HashSnapshot.Writer writer, final SnapshotCodec<V> codec) {
+		completeRehash();
+		final Object[] values = this.values;
+		writer.putLongArray(keys);
+		
+		final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+		for (final Object value : values) {
+			if (null == value) {
+				writer.putInt(HashSnapshot.NULL_VALUE_LENGTH); // @DoNotSub
+			}
+			else {
+				@DoNotSub final int length = codec.encode((V)value, buffer, 0);
+				writer.putInt(length); // @DoNotSub
+				writer.putBytes(buffer, length);
+			}
+		}
+		
+		return writer.finish(
+			HashSnapshot.KIND_OBJECT_HASH_MAP,
+			Long.BYTES,
+			values.length,
+			size,
+			loadFactor,
+			shouldAvoidAllocation ? HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION : 0,
+			0);
+	}
+	
+	public void putAll(final Map<? extends Long, ? extends V> map) {
+		for (final Entry<? extends Long, ? extends V> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	public void putAll(final Long2ObjectHashMap<? extends V> map) {
+		final Long2ObjectHashMap<? extends V>.EntryIterator iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			iterator.findNext();
+			put(iterator.getLongKey(), iterator.getValue());
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V putIfAbsent(final long key, final V value) {
+		final V val = (V)mapNullValue(value);
+		requireNonNull(val, "value cannot be null");
+		
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object mappedValue;
+		while (null != (mappedValue = values[index])) {
+			if (key == keys[index]) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		final V oldValue = unmapNullValue(mappedValue);
+		if (null == oldValue) {
+			if (null == mappedValue) {
+				++size;
+				keys[index] = key;
+			}
+			
+			values[index] = val;
+			if (size > resizeThreshold) {
+				increaseCapacity();
+			}
+		}
+		
+		return oldValue;
+	}
+	
+	public KeySet keySet() {
+		if (null == keySet) {
+			keySet =  new KeySet();
+		}
+		return keySet;
+	}
+	
+	public ValueCollection values() {
+		if (null == valueCollection) {
+			valueCollection = new ValueCollection();
+		}
+		
+		return valueCollection;
+	}
+	
+	public EntrySet entrySet() {
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		
+		return entrySet;
+	}
+	
+	public String toString() {
+		if (isEmpty()) {
+			return "{}";
+		}
+		
+		final EntryIterator entryIterator = new EntryIterator();
+		entryIterator.reset();
+		
+		final StringBuilder sb = new StringBuilder().append('{');
+		while(true) {
+			entryIterator.next();
+			sb.append(entryIterator.getLongKey()).append('=').append(unmapNullValue(entryIterator.getValue()));
+			if (!entryIterator.hasNext()) {
+				return sb.append('}').toString();
+			}
+			sb.append(',').append(' ');
+		}
+	}
+	
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		
+		if (!(o instanceof Map)) {
+			return false;
+		}
+		
+		final Map<?, ?> that = (Map<?, ?>)o;
+		
+		if (size != that.size()) {
+			return false;
+		}
+		
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final Object thisValue = values[i];
+			if (null != thisValue) {
+				final Object thatValue = that.get(keys[i]);
+				if (!thisValue.equals(mapNullValue(thatValue))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	public @DoNotSub int hashCode() {
+		@DoNotSub int result = 0;
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final Object value = values[i];
+			if (value != null) {
+				result += (Long.hashCode(keys[i]) ^ value.hashCode());
+			}
+		}
+		
+		return result;
+	}
+	
+	protected Object mapNullValue(final Object value) {
+		return value;
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected V unmapNullValue(final Object value) {
+		return (V)value;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public V replace(final long key, final V value) {
+		final V val = (V)mapNullValue(value);
+		requireNonNull(val, "value cannot be null");
+		
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object oldValue;
+		while (null != (oldValue = values[index])) {
+			if (key == keys[index]) {
+				values[index] = val;
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return unmapNullValue(oldValue);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public boolean replace(final long key, final V oldValue, final V newValue) {
+		final V val = (V)mapNullValue(newValue);
+		requireNonNull(val, "value cannot be null");
+		
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		Object mappedValue;
+		while (null != (mappedValue = values[index])) {
+			if (key == keys[index]) {
+				if (Objects.equals(unmapNullValue(mappedValue), oldValue)) {
+					values[index] = val;
+					return true;
+				}
+				break;
+			}
+			
+			index  = ++index & mask;
+		}
+		
+		return false;
+	}
+	
+	public void replaceAll(final BiFunction<? super Long, ? super V, ? extends V> function) {
+		replaceAllLong(function::apply);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public void replaceAllLong(final LongObjectToObjectFunction<? super V, ? extends V> function) {
+		requireNonNull(function);
+		completeRehash();
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
+		
+		for (@DoNotSub int index = 0; remaining > 0 && index < length; index++) {
+			final Object oldValue = values[index];
+			if (null != oldValue) {
+				final V newVal = (V)mapNullValue(function.apply(keys[index], unmapNullValue(oldValue)));
+				requireNonNull(newVal, "value cannot be null");
+				values[index] = newVal;
+				--remaining;
+			}
+		}
+	}
+	
+	private void increaseCapacity() {
+		@DoNotSub final int newCapacity = values.length << 1;
+		if (newCapacity < 0) {
+			throw new IllegalStateException("max capacity reached at size=" + size);
+		}
+		
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
+	}
+	
+	/**
+	 * Move the entries to a new table which later puts and removes migrate them to, starting from an empty slot so
+	 * that each cluster of the old table is migrated whole and the probe chains left in it stay intact. An old table
+	 * with no empty slot, which a small capacity at a high load factor can leave, is migrated at once.
+	 */
+	private void startRehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		final Object[] oldValues = values;
+		
+		rehashKeys = keys;
+		rehashValues = oldValues;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
+		keys = new long[newCapacity];
+		values = new Object[newCapacity];
+		
+		@DoNotSub final int length = oldValues.length;
+		@DoNotSub int index = 0;
+		while (index < length && null != oldValues[index]) {
+			index++;
+		}
+		
+		rehashIndex = index & (length - 1);
+		rehashRemaining = length;
+		
+		if (index == length) {
+			completeRehash();
+		}
+	}
+	
+	/**
+	 * Migrate at least the given number of slots from the old table, continuing to the end of a cluster so the
+	 * migration always stops at an empty slot.
+	 */
+	private void rehashStep(@DoNotSub final int slots) {
+		final long[] oldKeys = rehashKeys;
+		final Object[] oldValues = rehashValues;
+		final long[] newKeys = keys;
+		final Object[] newValues = values;
+		@DoNotSub final int oldMask = oldValues.length - 1;
+		@DoNotSub final int newMask = newValues.length - 1;
+		@DoNotSub int index = rehashIndex;
+		@DoNotSub int remaining = rehashRemaining;
+		@DoNotSub int budget = slots;
+		
+		while (remaining > 0) {
+			final Object value = oldValues[index];
+			if (null != value) {
+				final long key = oldKeys[index];
+				@DoNotSub int newIndex = Hashing.hash(key, newMask);
+				while (null != newValues[newIndex]) {
+					newIndex = ++newIndex & newMask;
+				}
+				
+				newKeys[newIndex] = key;
+				newValues[newIndex] = value;
+				oldValues[index] = null;
+			}
+			else if (budget <= 0) {
+				break;
+			}
+			
+			index = ++index & oldMask;
+			remaining--;
+			budget--;
+		}
+		
+		if (0 == remaining) {
+			rehashKeys = null;
+			rehashValues = null;
+		}
+		else {
+			rehashIndex = index;
+			rehashRemaining = remaining;
+		}
+	}
+	
+	private @DoNotSub int index(
+		final long[] keys,
+		final Object[] values,
+		final long key) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		while (null != values[index]) {
+			if (key == keys[index]) {
+				return index;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return NONE;
+	}
+	
+	private void rehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
+		
+		final long[] tempKeys = new long[newCapacity];
+		final Object[] tempValues = new Object[newCapacity];
+		
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (@DoNotSub int i = 0, size = values.length; i < size; i++) {
+			final Object value = values[i];
+			if (value != null) {
+				final long key = keys[i];
+				@DoNotSub int index = Hashing.hash(key, mask);
+				while (null != tempValues[index]) {
+					index = ++index & mask;
+				}
+				
+				tempKeys[index] = key;
+				tempValues[index] = value;
+			}
+		}
+		
+		this.keys = tempKeys;
+		this.values = tempValues;
+	}
+
+	private void compactChain(@DoNotSub final int deleteIndex) {
+		compactChain(keys, values, deleteIndex);
+	}
+	
+	@SuppressWarnings("FinalParameters")
+	private static void compactChain(
+		final long[] keys,
+		final Object[] values,
+		@DoNotSub int deleteIndex) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
+		
+		while (true) {
+			index = ++index & mask;
+			final Object value = values[index];
+			if (value == null) {
+				break;
+			}
+			
+			final long key = keys[index];
+			@DoNotSub final int hash = Hashing.hash(key, mask);
+			
+			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
+				(hash <= deleteIndex && deleteIndex <= index)) {
+				keys[deleteIndex] = key;
+				values[deleteIndex] = value;
+				
+				values[index] = null;
+				deleteIndex = index;
+			}
+		}
+	}
+	
+	public final class KeySet extends AbstractSet<Long> {
+		private final KeyIterator keyIterator = shouldAvoidAllocation ? new KeyIterator() : null;
+		
+		public KeySet() {
+			
+		}
+		
+		public KeyIterator iterator() {
+			KeyIterator keyIterator = this.keyIterator;
+			if (null == keyIterator) {
+				keyIterator = new KeyIterator();
+			}
+			
+			keyIterator.reset();
+			return keyIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2ObjectHashMap.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return Long2ObjectHashMap.this.containsKey(o);
+		}
+		
+		public boolean contains(final long key) {
+			return Long2ObjectHashMap.this.containsKey(key);
+		}
+		
+		public boolean remove(final Object o) {
+			return null != Long2ObjectHashMap.this.remove(o);
+		}
+		
+		public boolean remove(final long key) {
+			return null != Long2ObjectHashMap.this.remove(key);
+		}
+		
+		public void clear() {
+			Long2ObjectHashMap.this.clear();
+		}
+		
+		public boolean removeIfLong(final LongPredicate filter) {
+			boolean removed = false;
+			final KeyIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				if (filter.test(iterator.nextLong())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			
+			return removed;
+		}
+	}
+	
+	public final class ValueCollection extends AbstractCollection<V> {
+		private final ValueIterator valueIterator = shouldAvoidAllocation ? new ValueIterator() : null;
+		
+		public ValueCollection() {
+			
+		}
+		
+		public ValueIterator iterator() {
+			ValueIterator valueIterator = this.valueIterator;
+			if (valueIterator == null) {
+				valueIterator = new ValueIterator();
+			}
+			
+			valueIterator.reset();
+			return valueIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2ObjectHashMap.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return Long2ObjectHashMap.this.containsValue(o);
+		}
+		
+		public void clear() {
+			Long2ObjectHashMap.this.clear();
+		}
+		
+		public void forEach(final Consumer<? super V> action) {
+			completeRehash();
+			@DoNotSub int remaining = size;
+			
+			final Object[] values = Long2ObjectHashMap.this.values;
+			for (@DoNotSub int i = 0, length = values.length; remaining > 0 && i < length; i++) {
+				final Object value = values[i];
+				if (value != null) {
+					action.accept(unmapNullValue(value));
+					--remaining;
+				}
+			}
+		}
+	}
+	
+	public final class EntrySet extends AbstractSet<Map.Entry<Long, V>> {
+		private final EntryIterator entryIterator = shouldAvoidAllocation ? new EntryIterator() : null;
+		
+		public EntrySet() {
+			
+		}
+		
+		public EntryIterator iterator() {
+			EntryIterator entryIterator = this.entryIterator;
+			if (null == entryIterator) {
+				entryIterator = new EntryIterator();
+			}
+			
+			entryIterator.reset();
+			return entryIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Long2ObjectHashMap.this.size();
+		}
+		
+		public void clear() {
+			Long2ObjectHashMap.this.clear();
+		}
+		
+		public boolean contains(final Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			
+			final Entry<?, ?> entry = (Entry<?, ?>)o;
+			final long key = (Long) entry.getKey();
+			final V value = getMapped(key);
+			return null != value && value.equals(mapNullValue(entry.getValue()));
+		}
+		
+		public boolean removeIfLong(final LongObjPredicate<V> filter) {
+			boolean removed = false;
+			final EntryIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				iterator.findNext();
+				if (filter.test(iterator.getLongKey(), iterator.getValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			return removed;
+		}
+		
+		public Object[] toArray() {
+			return toArray(new Object[size()]);
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <T> T[] toArray(final T[] a) {
+			final T[] array = a.length >= size ? 
+					a : (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+			final EntryIterator it = iterator();
+			for (@DoNotSub int i = 0; i < array.length; i++) {
+				if (it.hasNext()) {
+					it.next();
+					array[i] = (T)it.allocateDuplicateEntry();
+				} else {
+					array[i] = null;
+					break;
+				}
+			}
+			return array;
+		}
+	}
+	
+	abstract class AbstractIterator<T> implements Iterator<T> {
+		private @DoNotSub int posCounter;
+		private @DoNotSub int stopCounter;
+		private @DoNotSub int remaining;
+		boolean isPositionValid = false;
+		
+		protected @DoNotSub final int position() {
+			return posCounter & (values.length - 1);
+		}
+		
+		public @DoNotSub int remaining() {
+			return remaining;
+		}
+		
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		protected final void findNext() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			
+			final Object[] values = Long2ObjectHashMap.this.values;
+			@DoNotSub final int mask = values.length - 1;
+			
+			for (@DoNotSub int i = posCounter - 1, stop = stopCounter; i >= stop; i--) {
+				@DoNotSub final int index = i & mask;
+				if (null != values[index]) {
+					posCounter = i;
+					isPositionValid = true;
+					--remaining;
+					return;
+				}
+			}
+			
+			isPositionValid = false;
+			throw new IllegalStateException();
+		}
+		
+		public abstract T next();
+		
+		public void remove() {
+			if (isPositionValid) {
+				@DoNotSub final int position = position();
+				values[position] = null;
+				--size;
+				
+				compactChain(position);
+				isPositionValid = false;
+			} else {
+				throw new IllegalStateException();
+			}
+		}
+		
+		public void reset() {
+			completeRehash();
+			remaining = Long2ObjectHashMap.this.size;
+			final Object[] values = Long2ObjectHashMap.this.values;
+			@DoNotSub final int capacity = values.length;
+			
+			@DoNotSub int i = capacity;
+			if (null != values[capacity - 1]) {
+				for (i = 0; i < capacity; i++) {
+					if (null == values[i]) {
+						break;
+					}
+				}
+			}
+			
+			stopCounter = i;
+			posCounter = i + capacity;
+			isPositionValid = false;
+		}
+	}
+	
+	public final class ValueIterator extends AbstractIterator<V> {
+		public ValueIterator() {
+			
+		}
+		
+		public V next() {
+			findNext();
+			
+			return unmapNullValue(values[position()]);
+		}
+	}
+	
+	public final class KeyIterator extends AbstractIterator<Long> {
+		public KeyIterator() {
+			
+		}
+		
+		public Long next() {
+			return nextLong();
+		}
+		
+		public long nextLong() {
+			findNext();
+			return keys[position()];
+		}
+	}
+	
+	public final class EntryIterator extends AbstractIterator<Entry<Long, V>> implements Entry<Long, V>{
+		public EntryIterator() {
+			
+		}
+		
+		public Entry<Long, V> next() {
+			findNext();
+			if (shouldAvoidAllocation) {
+				return this;
+			}
+			
+			return allocateDuplicateEntry();
+		}
+		
+		private Entry<Long, V> allocateDuplicateEntry() {
+			return new MapEntry(getLongKey(), getValue());
+		}
+		
+		public Long getKey() {
+			return getLongKey();
+		}
+		
+		public long getLongKey() {
+			return keys[position()];
+		}
+		
+		public V getValue() {
+			return unmapNullValue(values[position()]);
+		}
+		
+		@SuppressWarnings("unchecked")
+		public V setValue(final V value) {
+			final V val = (V)mapNullValue(value);
+			requireNonNull(val, "value cannot be null");
+			
+			if (!this.isPositionValid) {
+				throw new IllegalStateException();
+			}
+			
+			@DoNotSub final int pos = position();
+			final Object[] values = Long2ObjectHashMap.this.values;
+			final Object oldValue = values[pos];
+			values[pos] = val;
+			
+			return (V)oldValue;
+		}
+		
+		public final class MapEntry implements Entry<Long, V> {
+			private final long k;
+			private final V v;
+			
+			public MapEntry(final long k , final V v) {
+				this.k = k;
+				this.v = v;
+			}
+			
+			public Long getKey() {
+				return k;
+			}
+			
+			public V getValue() {
+				return v;
+			}
+			
+			public V setValue(final V value) {
+				return Long2ObjectHashMap.this.put(k, value);
+			}
+			
+			public @DoNotSub int hashCode() {
+				return Long.hashCode(getLongKey()) ^ (null != v ? v.hashCode() : 0);
+			}
+			
+			public boolean equals(final Object o) {
+				if (!(o instanceof Map.Entry)) {
+					return false;
+				}
+				
+				final Entry<?, ?> e = (Entry<?, ?>)o;
+				
+				return (e.getKey() != null && e.getKey().equals(k))
+						&& ((e.getValue() == null && v == null) || e.getValue().equals(v));
+			}
+			
+			public String toString() {
+				return k + "=" + v;
+			}
+		}
+	}
+}
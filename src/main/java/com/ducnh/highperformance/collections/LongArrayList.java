@@ -0,0 +1,831 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static java.util.Objects.requireNonNull;
+
+public class LongArrayList extends AbstractList<Long> implements List<Long>, RandomAccess{
+	public static final long DEFAULT_NULL_VALUE = Long.MIN_VALUE;
+	
+	public static @DoNotSub final int INITIAL_CAPACITY = 10;
+	
+	/**
+	 * Size below which {@link #sortLong()} uses {@link Arrays#sort} as a radix sort does not pay for its passes.
+	 */
+	public static @DoNotSub final int RADIX_SORT_THRESHOLD = 1 << 10;
+	
+	/**
+	 * Least number of elements sorted by each task of {@link #parallelSortLong()}.
+	 */
+	public static @DoNotSub final int PARALLEL_SORT_MIN_CHUNK = 1 << 16;
+	
+	/**
+	 * The radix sort takes a byte of each element per pass, from the least significant byte.
+	 */
+	private static @DoNotSub final int RADIX_BITS = Byte.SIZE;
+	private static @DoNotSub final int RADIX = 1 << RADIX_BITS;
+	private static @DoNotSub final int SIGN_FLIP = RADIX >> 1;
+	private static final byte RADIX_PASSES = Long.BYTES;
+	
+	private final long nullValue;
+	private @DoNotSub int size = 0;
+	private long[] elements;
+	
+	public LongArrayList() {
+		this(INITIAL_CAPACITY, DEFAULT_NULL_VALUE);
+	}
+	
+	public LongArrayList(
+			@DoNotSub final int initialCapacity,
+			final long nullValue) {
+		this.nullValue = nullValue;
+		this.elements = new long[Math.max(initialCapacity, INITIAL_CAPACITY)];
+	}
+	
+	@SuppressWarnings("this-escape")
+	public LongArrayList(
+			final long[] initialElements,
+			@DoNotSub final int initialSize,
+			final long nullValue) {
+		wrap(initialElements, initialSize);
+		this.nullValue = nullValue;
+	}
+	
+	public void wrap(
+			final long[] initialElements,
+			@DoNotSub final int initialSize) {
+		if (initialSize < 0 || initialSize > initialElements.length) {
+			throw new IllegalArgumentException(
+				"illegal initial size " + initialSize + " for array length of " + initialElements.length);
+		}
+		
+		elements = initialElements;
+		size = initialSize;
+	}
+	
+	public long nullValue() {
+		return nullValue;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public @DoNotSub int capacity() {
+		return elements.length;
+	}
+	
+	public void clear() {
+		size = 0;
+	}
+	
+	public void trimToSize() {
+		if (elements.length != size && elements.length > INITIAL_CAPACITY) {
+			elements = Arrays.copyOf(elements, Math.max(INITIAL_CAPACITY, size));
+		}
+	}
+	
+	public Long get(
+			@DoNotSub final int index) {
+		final long value = getLong(index);
+		return nullValue == value ? null : value;
+	}
+	
+	public long getLong(
+			@DoNotSub final int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+	
+	public boolean add(final Long element) {
+		return addLong(null == element ? nullValue : element);
+	}
+	
+	public boolean addLong(final long element) {
+		ensureCapacityPrivate(size + 1);
+		elements[size] = element;
+		size ++;
+		return true;
+	}
+	
+	public void add(
+			@DoNotSub final int index,
+			final Long element) {
+		addLong(index, null == element ? nullValue : element);
+	}
+	
+	public void addLong(
+			@DoNotSub final int index,
+			final long element) {
+		checkIndexForAdd(index);
+		@DoNotSub final int requiredSize = size + 1;
+		ensureCapacityPrivate(requiredSize);
+		
+		if (index < size) {
+			System.arraycopy(elements, index, elements, index + 1, size - index);
+		}
+		elements[index] = element;
+		size ++;
+	}
+	
+	public Long set(
+			@DoNotSub final int index,
+			final Long element) {
+		final long previous = setLong(index, null == element ? nullValue : element);
+		return nullValue == previous ? null : previous;
+	}
+	
+	public long setLong(
+			@DoNotSub final int index,
+			final long element) {
+		checkIndex(index);
+		final long previous = elements[index];
+		elements[index] = element;
+		
+		return previous;
+	}
+	
+	public boolean contains(final Object o) {
+		return containsLong(null == o ? nullValue : (long) o);
+	}
+	
+	public boolean containsLong(final long value) {
+		return indexOf(value) != -1;
+	}
+	
+	public @DoNotSub int indexOf(
+			final long value) {
+		final long[] elements = this.elements;
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
+			if (value == elements[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	public @DoNotSub int lastIndexOf(
+			final long value) {
+		final long[] elements = this.elements;
+		for (@DoNotSub int i = size - 1; i >= 0; i--) {
+			if (value == elements[i]) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	public boolean addAll(final LongArrayList list) {
+		@DoNotSub final int numElements = list.size;
+		if (numElements > 0) {
+			ensureCapacityPrivate(size + numElements);
+			System.arraycopy(list.elements, 0, elements, size, numElements);
+			size += numElements;
+			return true;
+		} 
+		return false;
+	}
+	
+	public boolean addAll(
+			@DoNotSub final int index,
+			final LongArrayList list) {
+		checkIndexForAdd(index);
+		@DoNotSub final int numElements = list.size;
+		if (numElements > 0) {
+			@DoNotSub final int size = this.size;
+			ensureCapacityPrivate(size + numElements);
+			final long[] elements = this.elements;
+			for (@DoNotSub int i = size - 1; i >= index; i--) {
+				elements[i + numElements] = elements[i];
+			}
+			
+			System.arraycopy(list.elements, 0, elements, index, numElements);
+			this.size += numElements;
+			return true;
+		}
+		return false;
+	}
+	
+	public boolean containsAll(final LongArrayList list) {
+		final long[] listElements = list.elements;
+		final long listNullValue = list.nullValue;
+		final boolean hasNulls = contains(null);
+		for (@DoNotSub int i = 0, size = list.size; i < size; i++) {
+			final long value = listElements[i];
+			if (!(containsLong(value) || hasNulls && listNullValue == value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	public boolean retainAll(final LongArrayList list) {
+		final long[] elements = this.elements;
+		@DoNotSub final int size = this.size;
+		if (size > 0) {
+			if (list.isEmpty()) {
+				this.size = 0;
+				return true;
+			}
+			
+			final long nullValue = this.nullValue;
+			final boolean listHasNulls = list.contains(null);
+			long[] filteredElements = null;
+			@DoNotSub int j = -1;
+			for (@DoNotSub int i = 0; i < size; i++) {
+				final long value = elements[i];
+				if (!(list.containsLong(value) || (listHasNulls && nullValue == value))) {
+					if (null == filteredElements) {
+						filteredElements = Arrays.copyOf(elements, size);
+						j = i - 1;
+					}
+				}
+				else if (null != filteredElements) {
+					filteredElements[++j] = value;
+				}
+			}
+			
+			if (null != filteredElements) {
+				this.elements = filteredElements;
+				this.size = j + 1;
+				return true;
+			}
+ 		}
+		return false;
+	}
+	
+	public boolean removeAll(final LongArrayList list) {
+		final long[] elements = this.elements;
+		@DoNotSub final int size = this.size;
+		if (size > 0 && !list.isEmpty()) {
+			final long nullValue = this.nullValue;
+			final boolean listHasNulls = list.contains(null);
+			long[] filteredElements = null;
+			@DoNotSub int j = -1;
+			for (@DoNotSub int i = 0; i < size; i++) {
+				final long value = elements[i];
+				if (list.containsLong(value) || (listHasNulls && nullValue == value)) {
+					if (null == filteredElements) {
+						filteredElements = Arrays.copyOf(elements, size);
+						j = i - 1;
+					}
+				}
+				else if (null != filteredElements) {
+					filteredElements[++j] = value;
+				}
+			}
+			if (null != filteredElements) {
+				this.elements = filteredElements;
+				this.size = j + 1;
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	public boolean removeIfLong(final LongPredicate filter) {
+		requireNonNull(filter);
+		final long[] elements = this.elements;
+		@DoNotSub final int size = this.size;
+		if (size > 0) {
+			long[] filteredElements = null;
+			@DoNotSub int j = -1;
+			for (@DoNotSub int i = 0; i < size; i++) {
+				final long value = elements[i];
+				if (filter.test(value)) {
+					if (null == filteredElements) {
+						filteredElements = Arrays.copyOf(elements, size);
+						j = i - 1;
+					}
+				}
+				else if (null != filteredElements) {
+					filteredElements[++j] = value;
+				}
+			}
+			
+			if (null != filteredElements) {
+				this.elements = filteredElements;
+				this.size = j + 1;
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	public boolean remove(final Object o) {
+		return removeLong(null == o ? nullValue : (long)o);
+	}
+	
+	public Long remove(
+			@DoNotSub final int index) {
+		final long value = removeAt(index);
+		return nullValue == value ? null : value;
+	}
+	
+	public long removeAt(
+			@DoNotSub final int index) {
+		checkIndex(index);
+		final long value = elements[index];
+		@DoNotSub final int moveCount = size - index - 1;
+		if (moveCount > 0) {
+			System.arraycopy(elements, index + 1, elements, index, moveCount);
+		}
+		
+		size --;
+		return value;
+	}
+	
+	public long fastUnorderedRemove(
+			@DoNotSub final int index) {
+		checkIndex(index);
+		
+		final long value = elements[index];
+		elements[index] = elements[--size];
+		
+		return value;
+	}
+	
+	public boolean removeLong(final long value) {
+		@DoNotSub final int index = indexOf(value);
+		if (-1 != index) {
+			removeAt(index);
+			return true;
+		}
+		
+		return false;
+	}
+	
+	public boolean fastUnorderedRemoveLong(final long value) {
+		@DoNotSub final int index = indexOf(value);
+		if (-1 != index) {
+			elements[index] = elements[--size];
+			return true;
+		}
+		return false;
+	}
+	
+	public void pushLong(final long element) {
+		ensureCapacityPrivate(size + 1);
+		
+		elements[size] = element;
+		size++;
+	}
+	
+	public long popLong() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		
+		return elements[--size];
+	}
+	
+	public void forEachOrderedLong(final LongConsumer action) {
+		final long[] elements = this.elements;
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
+			action.accept(elements[i]);
+		}
+	}
+	
+	public LongStream longStream() {
+		return Arrays.stream(elements, 0, size);
+	}
+	
+	public long[] toLongArray() {
+		return Arrays.copyOf(elements, size);
+	}
+	
+	public long[] toLongArray(final long[] dst) {
+		if (dst.length == size) {
+			System.arraycopy(elements, 0, dst, 0, dst.length);
+			return dst;
+		} else {
+			return Arrays.copyOf(elements, size);
+		}
+	}
+	
+	/**
+	 * Sort in ascending order with an LSD radix sort, which takes a pass per byte over the elements and a scratch
+	 * array of the size of the list. Passes over a byte which is the same for all elements are skipped.
+	 */
+	public void sortLong() {
+		@DoNotSub final int size = this.size;
+		if (size < RADIX_SORT_THRESHOLD) {
+			Arrays.sort(elements, 0, size);
+			return;
+		}
+		
+		final long[] elements = this.elements;
+		@DoNotSub final int[][] counts = new int[RADIX_PASSES][RADIX];
+		for (@DoNotSub int i = 0; i < size; i++) {
+			final long value = elements[i];
+			for (@DoNotSub int pass = 0; pass < RADIX_PASSES; pass++) {
+				counts[pass][digit(value, pass)]++;
+			}
+		}
+		
+		long[] src = elements;
+		long[] dst = new long[size];
+		for (@DoNotSub int pass = 0; pass < RADIX_PASSES; pass++) {
+			@DoNotSub final int[] offsets = counts[pass];
+			if (size == offsets[digit(src[0], pass)]) {
+				continue;
+			}
+			
+			for (@DoNotSub int digit = 0, offset = 0; digit < RADIX; digit++) {
+				@DoNotSub final int count = offsets[digit];
+				offsets[digit] = offset;
+				offset += count;
+			}
+			
+			for (@DoNotSub int i = 0; i < size; i++) {
+				final long value = src[i];
+				dst[offsets[digit(value, pass)]++] = value;
+			}
+			
+			final long[] tmp = src;
+			src = dst;
+			dst = tmp;
+		}
+		
+		if (src != elements) {
+			System.arraycopy(src, 0, elements, 0, size);
+		}
+	}
+	
+	/**
+	 * Sort in ascending order with the radix sort of {@link #sortLong()} split over the tasks of the common
+	 * {@link ForkJoinPool}.
+	 */
+	public void parallelSortLong() {
+		parallelSortLong(ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Sort in ascending order with the radix sort of {@link #sortLong()}, where each pass counts and then scatters
+	 * chunks of at least {@link #PARALLEL_SORT_MIN_CHUNK} elements in parallel on the pool. Lists too small to split
+	 * are sorted by the calling thread.
+	 */
+	public void parallelSortLong(final ForkJoinPool pool) {
+		@DoNotSub final int size = this.size;
+		@DoNotSub final int chunks = Math.min(pool.getParallelism() << 1, size / PARALLEL_SORT_MIN_CHUNK);
+		if (chunks < 2) {
+			sortLong();
+			return;
+		}
+		
+		final ParallelRadixSort sort = new ParallelRadixSort(elements, size, chunks);
+		for (@DoNotSub int pass = 0; pass < RADIX_PASSES; pass++) {
+			sort.pass(pool, pass);
+		}
+		
+		if (sort.src != elements) {
+			System.arraycopy(sort.src, 0, elements, 0, size);
+		}
+	}
+	
+	/**
+	 * Search a list which is sorted in ascending order, as for {@link Arrays#binarySearch}.
+	 *
+	 * @return index of the value, or {@code -(insertion point) - 1} if not present.
+	 */
+	public @DoNotSub int binarySearch(
+		final long value) {
+		return Arrays.binarySearch(elements, 0, size, value);
+	}
+	
+	/**
+	 * Remove adjacent duplicates, which leaves each value once in a sorted list.
+	 *
+	 * @return number of elements removed.
+	 */
+	public @DoNotSub int dedupSorted() {
+		@DoNotSub final int size = this.size;
+		if (size < 2) {
+			return 0;
+		}
+		
+		final long[] elements = this.elements;
+		@DoNotSub int last = 0;
+		for (@DoNotSub int i = 1; i < size; i++) {
+			final long value = elements[i];
+			if (value != elements[last]) {
+				elements[++last] = value;
+			}
+		}
+		
+		this.size = last + 1;
+		return size - this.size;
+	}
+	
+	/**
+	 * Merge a list which is sorted in ascending order into this sorted list, keeping it sorted. The merge is done in
+	 * place from the back in a single pass.
+	 */
+	public void mergeSorted(final LongArrayList other) {
+		@DoNotSub final int otherSize = other.size;
+		if (0 == otherSize) {
+			return;
+		}
+		
+		final long[] otherElements = other == this ? Arrays.copyOf(elements, otherSize) : other.elements;
+		@DoNotSub int i = size - 1;
+		@DoNotSub int j = otherSize - 1;
+		@DoNotSub int k = size + otherSize - 1;
+		ensureCapacityPrivate(size + otherSize);
+		
+		final long[] elements = this.elements;
+		while (j >= 0) {
+			if (i >= 0 && elements[i] > otherElements[j]) {
+				elements[k--] = elements[i--];
+			} else {
+				elements[k--] = otherElements[j--];
+			}
+		}
+		
+		size += otherSize;
+	}
+	
+	public void ensureCapacity(@DoNotSub final int requiredCapacity) {
+		ensureCapacityPrivate(Math.max(requiredCapacity, INITIAL_CAPACITY));
+	}
+	
+	public boolean equals(final LongArrayList that) {
+		if (that == this) {
+			return true;
+		}
+		
+		boolean isEqual = false;
+		
+		@DoNotSub final int size = this.size;
+		if (size == that.size) {
+			isEqual = true;
+			final long[] elements = this.elements;
+			final long[] thatElements = that.elements;
+			for (@DoNotSub int i = 0; i < size; i++) {
+				final long thisValue = elements[i];
+				final long thatValue = thatElements[i];
+				
+				if (thisValue != thatValue) {
+					if (thisValue != this.nullValue || thatValue != that.nullValue) {
+						isEqual = false;
+						break;
+					}
+				}
+			}
+		}
+		return isEqual;
+	}
+	
+	public boolean equals(final Object other) {
+		if (other == this) {
+			return true;
+		}
+		
+		boolean isEqual = false;
+		if (other instanceof LongArrayList) {
+			return equals((LongArrayList)other);
+		} else if (other instanceof List) {
+			final List<?> that = (List<?>) other;
+			if (size == that.size()) {
+				isEqual = true;
+				@DoNotSub int i = 0;
+				for (final Object o : that) {
+					if (null == o || o instanceof Long) {
+						final Long thisValue = get(i++);
+						final Long thatValue = (Long)o;
+						
+						if (Objects.equals(thisValue, thatValue)) {
+							continue;
+						}
+					}
+					isEqual = false;
+					break;
+				}
+			}
+		}
+		
+		return isEqual;
+	}
+	
+	public @DoNotSub int hashCode() {
+		@DoNotSub int hashCode = -1;
+		final long nullValue = this.nullValue;
+		final long[] elements = this.elements;
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
+			final long value = elements[i];
+			hashCode = 31 * hashCode + (nullValue == value ? 0 : Long.hashCode(value));
+		}
+		return hashCode;
+	}
+	
+	public void forEach(final Consumer<? super Long> action) {
+		requireNonNull(action);
+		final long nullValue = this.nullValue;
+		final long[] elements = this.elements;
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
+			final long value = elements[i];
+			action.accept(nullValue != value ? value : null);
+		}
+	}
+	
+	public void forEachLong(final LongConsumer action) {
+		requireNonNull(action);
+		final long[] elements = this.elements;
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
+			action.accept(elements[i]);
+		}
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('[');
+		
+		final long nullValue = this.nullValue;
+		final long[] elements = this.elements;
+		for (@DoNotSub int i = 0, size = this.size; i < size; i++) {
+			final long value = elements[i];
+			sb.append(value != nullValue ? value : null).append(", ");
+		}
+		
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		sb.append(']');
+		return sb.toString();
+	}
+	
+	private void ensureCapacityPrivate(@DoNotSub final int requiredCapacity) {
+		@DoNotSub final int currentCapacity = elements.length;
+		if (requiredCapacity > currentCapacity) {
+			if (requiredCapacity > ArrayUtil.MAX_CAPACITY) {
+				throw new IllegalStateException("max capacity: " + ArrayUtil.MAX_CAPACITY);
+			}
+			@DoNotSub int newCapacity = Math.max(currentCapacity, INITIAL_CAPACITY);
+			
+			while (newCapacity < requiredCapacity) {
+				newCapacity = newCapacity + (newCapacity >> 1);
+				if (newCapacity < 0 || newCapacity >= ArrayUtil.MAX_CAPACITY) {
+					newCapacity = ArrayUtil.MAX_CAPACITY;
+				}
+			}
+			final long[] newElements = new long[newCapacity];
+			System.arraycopy(elements, 0, newElements, 0, currentCapacity);
+			elements = newElements;
+		}
+	}
+	
+	/**
+	 * Digit of a value for a radix sort pass, with the sign bit flipped in the most significant digit so negative
+	 * values sort first.
+	 */
+	private static @DoNotSub int digit(
+		final long value,
+		@DoNotSub final int pass) {
+		@DoNotSub final int digit = Byte.toUnsignedInt((byte)(value >>> (pass * RADIX_BITS)));
+		return RADIX_PASSES - 1 == pass ? digit ^ SIGN_FLIP : digit;
+	}
+	
+	private void checkIndex(@DoNotSub final int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException("index=" + index + " size=" + size);
+		}
+	}
+	
+	private void checkIndexForAdd(@DoNotSub final int index) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException("index=" + index + " size=" + size);
+		}
+	}
+	
+	/**
+	 * State of a parallel radix sort. Each pass counts the digits of each chunk of the source, turns the counts into
+	 * the offsets at which each chunk writes each digit in the destination, then scatters the chunks without contention.
+	 */
+	static final class ParallelRadixSort {
+		private final @DoNotSub int size;
+		private final @DoNotSub int chunks;
+		private final @DoNotSub int chunkLength;
+		private final @DoNotSub int[][] counts;
+		private @DoNotSub int pass;
+		long[] src;
+		long[] dst;
+		
+		ParallelRadixSort(
+			final long[] elements,
+			@DoNotSub final int size,
+			@DoNotSub final int chunks) {
+			this.size = size;
+			this.chunks = chunks;
+			chunkLength = (size + chunks - 1) / chunks;
+			counts = new int[chunks][RADIX]; // @DoNotSub
+			src = elements;
+			dst = new long[size];
+		}
+		
+		/**
+		 * Sort by the digit for a pass, swapping source and destination if the pass is not skipped.
+		 */
+		void pass(
+			final ForkJoinPool pool,
+			@DoNotSub final int pass) {
+			this.pass = pass;
+			for (@DoNotSub final int[] chunkCounts : counts) {
+				Arrays.fill(chunkCounts, 0);
+			}
+			
+			pool.invoke(new Task(true, 0, chunks));
+			if (offsets()) {
+				pool.invoke(new Task(false, 0, chunks));
+				
+				final long[] tmp = src;
+				src = dst;
+				dst = tmp;
+			}
+		}
+		
+		/**
+		 * @return false if all elements have the same digit so the pass can be skipped.
+		 */
+		private boolean offsets() {
+			@DoNotSub final int[][] counts = this.counts;
+			@DoNotSub int offset = 0;
+			for (@DoNotSub int digit = 0; digit < RADIX; digit++) {
+				@DoNotSub final int start = offset;
+				for (@DoNotSub int chunk = 0; chunk < chunks; chunk++) {
+					@DoNotSub final int count = counts[chunk][digit];
+					counts[chunk][digit] = offset;
+					offset += count;
+				}
+				
+				if (size == offset - start) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+		
+		private void count(@DoNotSub final int chunk) {
+			final long[] src = this.src;
+			@DoNotSub final int pass = this.pass;
+			@DoNotSub final int[] counts = this.counts[chunk];
+			for (@DoNotSub int i = chunk * chunkLength, end = Math.min(size, i + chunkLength); i < end; i++) {
+				counts[digit(src[i], pass)]++;
+			}
+		}
+		
+		private void scatter(@DoNotSub final int chunk) {
+			final long[] src = this.src;
+			final long[] dst = this.dst;
+			@DoNotSub final int pass = this.pass;
+			@DoNotSub final int[] offsets = counts[chunk];
+			for (@DoNotSub int i = chunk * chunkLength, end = Math.min(size, i + chunkLength); i < end; i++) {
+				final long value = src[i];
+				dst[offsets[digit(value, pass)]++] = value;
+			}
+		}
+		
+		final class Task extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			
+			private final boolean isCount;
+			private final @DoNotSub int fromChunk;
+			private final @DoNotSub int toChunk;
+			
+			Task(
+				final boolean isCount,
+				@DoNotSub final int fromChunk,
+				@DoNotSub final int toChunk) {
+				this.isCount = isCount;
+				this.fromChunk = fromChunk;
+				this.toChunk = toChunk;
+			}
+			
+			protected void compute() {
+				if (toChunk - fromChunk > 1) {
+					@DoNotSub final int mid = (fromChunk + toChunk) >>> 1;
+					invokeAll(new Task(isCount, fromChunk, mid), new Task(isCount, mid, toChunk));
+				} else if (isCount) {
+					count(fromChunk);
+				} else {
+					scatter(fromChunk);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import com.ducnh.highperformance.BitUtil;
+import com.ducnh.highperformance.generation.DoNotSub;
+
+public class LongArrayQueue extends AbstractQueue<Long>{
+	
+	public static final long DEFAULT_NULL_VALUE = Long.MIN_VALUE;
+	
+	public static @DoNotSub final int MIN_CAPACITY = 8;
+	private final boolean shouldAvoidAllocation;
+	private @DoNotSub int head;
+	private @DoNotSub int tail;
+	private final long nullValue;
+	private long[] elements;
+	private LongIterator iterator;
+	
+	public LongArrayQueue() {
+		this(MIN_CAPACITY, DEFAULT_NULL_VALUE, true);
+	}
+	
+	public LongArrayQueue(final long nullValue) {
+		this(MIN_CAPACITY, nullValue, true);
+	}
+	
+	public LongArrayQueue(
+			@DoNotSub final int initialCapacity,
+			final long nullValue) {
+		this(initialCapacity, nullValue, true);
+	}
+	
+	public LongArrayQueue(
+			@DoNotSub final int initialCapacity,
+			final long nullValue, 
+			final boolean shouldAvoidAllocation) {
+		this.nullValue = nullValue;
+		this.shouldAvoidAllocation = shouldAvoidAllocation;
+		
+		if (initialCapacity < MIN_CAPACITY) {
+			throw new IllegalArgumentException("initial capacity < MIN_INITIAL_CAPACITY : " + initialCapacity);
+		}
+		
+		@DoNotSub final int capacity = BitUtil.findNextPositivePowerOfTwo(initialCapacity);
+		if (capacity < MIN_CAPACITY) {
+			throw new IllegalArgumentException("invalid initial capacity: " + initialCapacity);
+		}
+		
+		elements = new long[capacity];
+		Arrays.fill(elements, nullValue);
+	}
+	
+	public long nullValue() {
+		return nullValue;
+	}
+	
+	public @DoNotSub int capacity() {
+		return elements.length;
+	}
+	
+	public @DoNotSub int size() {
+		return (tail - head) & (elements.length - 1);
+	}
+	
+	public boolean isEmpty() {
+		return head == tail;
+	}
+	
+	public void clear() {
+		if (head != tail) {
+			Arrays.fill(elements, nullValue);
+			head = 0;
+			tail = 0;
+		}
+	}
+	
+	public boolean offer(final Long element) {
+		return offerLong(element);
+	}
+	
+	public boolean offerLong(final long element) {
+		if (nullValue == element) {
+			throw new NullPointerException();
+		}
+		
+		elements[tail] = element;
+		tail = (tail + 1) & (elements.length - 1);
+		
+		if (tail == head) {
+			increaseCapacity();		
+		}
+		
+		return true;
+	}
+	
+	public boolean add(final Long element) {
+		return offerLong(element);
+	}
+	
+	public boolean addLong(final long element) {
+		return offerLong(element);
+	}
+	
+	public Long peek() {
+		final long element = elements[head];
+		
+		return element == nullValue ? null : element;
+	}
+	
+	public long peekLong() {
+		return elements[head];
+	}
+	
+	public Long poll() {
+		final long element = pollLong();
+		
+		return element == nullValue ? null : element;
+	}
+	
+	public long pollLong() {
+		final long element = elements[head];
+		if (nullValue == element) {
+			return nullValue;
+		}
+		
+		elements[head] = nullValue;
+		head = (head + 1) & (elements.length - 1);
+		
+		return element;
+	}
+	
+	public Long remove() {
+		final long element = pollLong();
+		if (nullValue == element) {
+			throw new NoSuchElementException();
+		}
+		
+		return element;
+	}
+	
+	public Long element() {
+		final long element = elements[head];
+		if (nullValue == element) {
+			throw new NoSuchElementException();
+		}
+		
+		return element;
+	}
+	
+	public long elementLong() {
+		final long element = elements[head];
+		if (nullValue == element) {
+			throw new NoSuchElementException();
+		}
+		
+		return element;
+	}
+	
+	public long removeLong() {
+		final long element = pollLong();
+		if (nullValue == element) {
+			throw new NoSuchElementException();
+		}
+		
+		return element;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('[');
+		
+		for (@DoNotSub int i = head; i != tail; ) {
+			sb.append(elements[i]).append(", ");
+			i = (i + 1) & (elements.length - 1);
+		}
+		
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		sb.append(']');
+		
+		return sb.toString();
+	}
+	
+	public void forEach(final Consumer<? super Long> action) {
+		for (@DoNotSub int i = head; i != tail; ) {
+			action.accept(elements[i]);
+			i = (i + 1) & (elements.length - 1);
+		}
+	}
+	
+	public void forEachLong(final LongConsumer action) {
+		for (@DoNotSub int i = head; i != tail; ) {
+			action.accept(elements[i]);
+			i = (i + 1) & (elements.length - 1);
+		}
+	}
+	
+	public LongIterator iterator() {
+		LongIterator iterator = this.iterator();
+		if (null == iterator) {
+			iterator = new LongIterator();
+			if (shouldAvoidAllocation) {
+				this.iterator = iterator;
+			}
+		}
+		return iterator.reset();
+	}
+	
+	private void increaseCapacity() {
+		@DoNotSub final int oldHead = head;
+		@DoNotSub final int oldCapacity = elements.length;
+		@DoNotSub final int toEndOfArray = oldCapacity - oldHead;
+		@DoNotSub final int newCapacity = oldCapacity << 1;
+		
+		if (newCapacity < MIN_CAPACITY) {
+			throw new IllegalStateException("max capacity reached");
+		}
+		
+		final long[] array = new long[newCapacity];
+		Arrays.fill(array, oldCapacity, newCapacity, nullValue);
+		System.arraycopy(elements, oldHead, array, 0, toEndOfArray);
+		System.arraycopy(elements, 0, array, toEndOfArray, oldHead);
+		
+		elements = array;
+		head = 0;
+		tail = oldCapacity;
+	}
+	
+	public final class LongIterator implements Iterator<Long> {
+		
+		private @DoNotSub int index;
+		
+		public LongIterator() {
+			
+		}
+		
+		LongIterator reset() {
+			index = LongArrayQueue.this.head;
+			return this;
+		}
+		
+		public boolean hasNext() {
+			return index != tail;
+		}
+		
+		public Long next() {
+			return nextValue();
+		}
+		
+		public long nextValue() {
+			if (index == tail) {
+				throw new NoSuchElementException();
+			}
+			
+			final long element = elements[index];
+			index = (index + 1) & (elements.length - 1);
+			
+			return element;
+		}
+		
+		
+	}
+} 
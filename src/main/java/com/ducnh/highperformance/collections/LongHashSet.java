@@ -0,0 +1,708 @@
+package com.ducnh.highperformance.collections;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+public class LongHashSet extends AbstractSet<Long>{
+	
+	public static @DoNotSub final int DEFAULT_INITIAL_CAPACITY = 8;
+	static final long MISSING_VALUE = 0;
+	
+	private final boolean shouldAvoidAllocation;
+	private boolean containsMissingValue;
+	private final float loadFactor;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int sizeOfArrayValues;
+	
+	private long[] values;
+	private LongIterator iterator;
+	
+	public LongHashSet() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+	
+	public LongHashSet(
+			@DoNotSub final int proposedCapacity) {
+		this(proposedCapacity, Hashing.DEFAULT_LOAD_FACTOR, true);
+	}
+	
+	public LongHashSet(
+			@DoNotSub final int proposedCapacity,
+			final float loadFactor) {
+		this(proposedCapacity, loadFactor, true);
+	}
+	
+	public LongHashSet(
+			@DoNotSub final int proposedCapacity, 
+			final float loadFactor,
+			final boolean shouldAvoidAllocation) {
+		validateLoadFactor(loadFactor);
+		
+		this.shouldAvoidAllocation = shouldAvoidAllocation;
+		this.loadFactor = loadFactor;
+		sizeOfArrayValues = 0;
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(DEFAULT_INITIAL_CAPACITY, proposedCapacity));
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		values = new long[capacity];
+	}
+	
+	private LongHashSet(final HashSnapshot.Reader reader) {
+		loadFactor = reader.loadFactor();
+		validateLoadFactor(loadFactor);
+		shouldAvoidAllocation = 0 != (reader.flags() & HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION);
+		containsMissingValue = 0 != (reader.flags() & HashSnapshot.FLAG_CONTAINS_MISSING_VALUE);
+		
+		@DoNotSub final int capacity = reader.capacity();
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		sizeOfArrayValues = reader.size();
+		values = new long[capacity];
+		reader.getLongArray(values);
+		reader.verify();
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public @DoNotSub int capacity() {
+		return values.length;
+	}
+	
+	public @DoNotSub int resizeThreshold() {
+		return resizeThreshold;
+	}
+	
+	public boolean add(final Long value) {
+		return add(value.longValue());
+	}
+	
+	public boolean add(final long value) {
+		if (MISSING_VALUE == value) {
+			final boolean previousContainsMissingValue = this.containsMissingValue;
+			containsMissingValue = true;
+			return !previousContainsMissingValue;
+		}
+		
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(value, mask);
+		
+		long oldValue;
+		while (MISSING_VALUE != (oldValue = values[index])) {
+			if (oldValue == value) {
+				return false;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		values[index] = value;
+		sizeOfArrayValues++;
+		
+		if (sizeOfArrayValues > resizeThreshold) {
+			increaseCapacity();
+		}
+		
+		return true;
+	}
+	
+	private void increaseCapacity() {
+		@DoNotSub final int newCapacity = values.length * 2;
+		if (newCapacity < 0) {
+			throw new IllegalStateException("max capacity reached at size=" + size());
+		}
+		
+		rehash(newCapacity);
+	}
+	
+	private void rehash(@DoNotSub final int newCapacity) {
+		@DoNotSub final int capacity = newCapacity;
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
+		
+		final long[] tempValues = new long[capacity];
+		final long[] values = this.values;
+		for (final long value : values) {
+			if (MISSING_VALUE != value) {
+				@DoNotSub int newHash =  Hashing.hash(value, mask);
+				while (MISSING_VALUE != tempValues[newHash]) {
+					newHash = ++newHash & mask;
+				}
+				
+				tempValues[newHash] = value;
+			}
+		}
+		
+		this.values = tempValues;
+	}
+	
+	public boolean remove(final Object value) {
+		return remove((long) value);
+	}
+	
+	public boolean remove(final long value) {
+		if (MISSING_VALUE == value) {
+			final boolean previousContainsMissingValue = this.containsMissingValue;
+			containsMissingValue = false;
+			return previousContainsMissingValue;
+		}
+		
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(value, mask);
+		
+		long oldValue;
+		while (MISSING_VALUE != (oldValue = values[index])) {
+			if (oldValue == value) {
+				values[index] = MISSING_VALUE;
+				sizeOfArrayValues--;
+				compactChain(index);
+				return true;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		return false;
+	}
+	
+	private static @DoNotSub int next(@DoNotSub final int index, @DoNotSub final int mask) {
+		return (index + 1) & mask;
+	}
+	
+	@SuppressWarnings("FinalParameters")
+	void compactChain(@DoNotSub int deleteIndex) {
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
+		
+		while (true) {
+			index = next(index, mask);
+			final long value = values[index];
+			if (MISSING_VALUE == value) {
+				return;
+			}
+			
+			@DoNotSub final int hash = Hashing.hash(value, mask);
+			
+			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
+					(hash <= deleteIndex && deleteIndex <= index)) {
+				values[deleteIndex] = value;
+				
+				values[index] = MISSING_VALUE;
+				deleteIndex = index;
+			}
+		}
+	}
+	
+	public void compact() {
+		@DoNotSub final int idealCapacity = (int)Math.round(size() * (1.0 / loadFactor));
+		rehash(findNextPositivePowerOfTwo(Math.max(DEFAULT_INITIAL_CAPACITY, idealCapacity)));
+	}
+	
+	/**
+	 * Length of the snapshot written by {@link #writeSnapshot}, which is a header and the values as they are held.
+	 */
+	public long snapshotLength() {
+		return HashSnapshot.length(values.length, Long.BYTES);
+	}
+	
+	/**
+	 * Write a snapshot which {@link #readSnapshot} restores by a bulk copy of the values without rehashing.
+	 *
+	 * @return length of the snapshot.
+	 * @throws IndexOutOfBoundsException if the buffer is shorter than {@link #snapshotLength()} from the index.
+	 */
+	public @DoNotSub int writeSnapshot(final MutableDirectBuffer buffer, @DoNotSub final int index) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(buffer, index)) {
+			return (int)writeSnapshot(writer); // @DoNotSub
+		}
+	}
+	
+	/**
+	 * Write a snapshot to a file, which is created or truncated.
+	 */
+	public void writeSnapshot(final File file) {
+		try (HashSnapshot.Writer writer = HashSnapshot.writer(file)) {
+			writeSnapshot(writer);
+		}
+	}
+	
+	/**
+	 * Restore a set from a snapshot written by {@link #writeSnapshot}.
+	 *
+	 * @throws IllegalStateException if the snapshot is of a different type, is truncated or fails its checksum.
+	 */
+	public static LongHashSet readSnapshot(
+		final DirectBuffer buffer,
+		@DoNotSub final int index) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(
+			buffer, index, HashSnapshot.KIND_HASH_SET, Long.BYTES)) {
+			return new LongHashSet(reader);
+		}
+	}
+	
+	public static LongHashSet readSnapshot(final File file) {
+		try (HashSnapshot.Reader reader = HashSnapshot.reader(file, HashSnapshot.KIND_HASH_SET, Long.BYTES)) {
+			return new LongHashSet(reader);
+		}
+	}
+	
+	private long writeSnapshot(final HashSnapshot.Writer writer) {
+		@DoNotSub int flags = shouldAvoidAllocation ? HashSnapshot.FLAG_SHOULD_AVOID_ALLOCATION : 0;
+		if (containsMissingValue) {
+			flags |= HashSnapshot.FLAG_CONTAINS_MISSING_VALUE;
+		}
+		
+		writer.putLongArray(values);
+		return writer.finish(
+			HashSnapshot.KIND_HASH_SET,
+			Long.BYTES,
+			values.length,
+			sizeOfArrayValues,
+			loadFactor,
+			flags,
+			MISSING_VALUE);
+	}
+	
+	public boolean contains(final Object value) {
+		return contains((long) value);
+	}
+	
+	public boolean contains(final long value) {
+		if (MISSING_VALUE == value) {
+			return containsMissingValue;
+		}
+		
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(value, mask);
+		
+		long existingValue;
+		while (MISSING_VALUE != (existingValue = values[index])) {
+			if (existingValue == value) {
+				return true;
+			}
+			
+			index = next(index, mask);
+		}
+		
+		return false;
+	}
+	
+	public @DoNotSub int size() {
+		return sizeOfArrayValues + (containsMissingValue ? 1 : 0);
+	}
+	
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	public void clear() {
+		if (size() > 0) {
+			Arrays.fill(values, MISSING_VALUE);
+			sizeOfArrayValues = 0;
+			containsMissingValue = false;
+		}
+	}
+	
+	public boolean addAll(final Collection<? extends Long> col1) {
+		boolean added = false;
+		
+		for (final Long value : col1) {
+			added |= add(value);
+		}
+		
+		return added;
+	}
+	
+	public boolean addAll(final LongHashSet col1) {
+		boolean acc = false;
+		
+		for (final long value : col1.values) {
+			if (MISSING_VALUE != value) {
+				acc |= add(value);
+			}
+		}
+		
+		if (col1.containsMissingValue) {
+			acc |= add(MISSING_VALUE);
+		}
+		
+		return acc;
+	}
+	
+	public boolean containsAll(final LongHashSet col1) {
+		for (final long value : col1.values) {
+			if (MISSING_VALUE != value && !contains(value)) {
+				return false;
+			}
+		}
+		
+		return containsMissingValue || !col1.containsMissingValue;
+	}
+	
+	public LongHashSet differenee (final LongHashSet other) {
+		LongHashSet difference = null;
+		
+		final long[] values = this.values;
+		for (final long value : values) {
+			if (MISSING_VALUE != value && !other.contains(value)) {
+				if (difference == null) {
+					difference = new LongHashSet();
+				}
+				
+				difference.add(value);
+			}
+		}
+		
+		if (containsMissingValue && !other.containsMissingValue) {
+			if (difference == null) {
+				difference = new LongHashSet();
+			}
+			
+			difference.add(MISSING_VALUE);
+		}
+		
+		return difference;
+	}
+	
+	public boolean removeIf(final Predicate<? super Long> filter) {
+		return super.removeIf(filter);
+	}
+	
+	public boolean removeIfLong(final LongPredicate filter) {
+		boolean removed = false;
+		final LongIterator iterator = iterator();
+		while (iterator.hasNext()) {
+			if (filter.test(iterator.nextValue())) {
+				iterator.remove();
+				removed = true;
+			}
+		}
+		
+		return removed;
+	}
+	
+	public boolean removeAll(final LongHashSet col1) {
+		boolean removed = false;
+		for (final long value : col1.values) {
+			if (MISSING_VALUE != value) {
+				removed |= remove(value);
+			}
+		} 
+		
+		if (col1.containsMissingValue) {
+			removed |= remove(MISSING_VALUE);
+		}
+		
+		return removed;
+	}
+	
+	public boolean retainAll(final Collection<?> col1) {
+		boolean removed = false;
+		final long[] values = this.values;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int i = 0;
+		for (; i < length; i++) {
+			final long value = values[i];
+			if (MISSING_VALUE != value && !col1.contains(value)) {
+				values[i] = MISSING_VALUE;
+				sizeOfArrayValues--;
+				removed = true;
+			}
+		}
+		
+		if (removed && sizeOfArrayValues > 0) {
+			rehash(values.length);
+		}
+		
+		if (containsMissingValue && !col1.contains(MISSING_VALUE)) {
+			containsMissingValue = false;
+			removed = true;
+		}
+		
+		return removed;
+	}
+	
+	public boolean retainAll(final LongHashSet col1) {
+		boolean removed = false;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int i = 0;
+		for (; i < length; i++) {
+			final long value = values[i];
+			if (MISSING_VALUE != value && !col1.contains(value)) {
+				values[i] = MISSING_VALUE;
+				sizeOfArrayValues--;
+				removed = true;
+			}
+		}
+		
+		if (removed && sizeOfArrayValues > 0) {
+			rehash(values.length);
+		} 
+		
+		if (containsMissingValue && !col1.containsMissingValue) {
+			containsMissingValue = false;
+			removed = true;
+		}
+		
+		return removed;
+	}
+	
+	public LongIterator iterator() {
+		LongIterator iterator = this.iterator;
+		if (iterator == null) {
+			iterator = new LongIterator();
+			if (shouldAvoidAllocation) {
+				this.iterator = iterator;
+			}
+		}
+		
+		return iterator.reset();
+	}
+	
+	public void forEacHInt(final LongConsumer action) {
+		if (sizeOfArrayValues > 0) {
+			final long[] values = this.values;
+			for (final long v : values) {
+				if (MISSING_VALUE != v) {
+					action.accept(v);
+				}
+			}
+		}
+		
+		if (containsMissingValue) {
+			action.accept(MISSING_VALUE);
+		}
+	}
+	
+	public void copy(final LongHashSet that) {
+		if (values.length != that.values.length) {
+			throw new IllegalArgumentException("cannot copy object: masks not equal");
+		}
+		
+		System.arraycopy(that.values, 0, values, 0, values.length);
+		this.sizeOfArrayValues = that.sizeOfArrayValues;
+		this.containsMissingValue = that.containsMissingValue;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		
+		final long[] values = this.values;
+		for (final long value : values) {
+			if (MISSING_VALUE != value) {
+				sb.append(value).append(", ");
+			}
+		}
+		
+		if (containsMissingValue) {
+			sb.append(MISSING_VALUE).append(", ");
+		}
+		
+		if (sb.length() > 1) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		sb.append('}');
+		
+		return sb.toString();
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(final T[] a) {
+		final Class<?> componentType = a.getClass().getComponentType();
+		if (!componentType.isAssignableFrom(Long.class)) {
+			throw new ArrayStoreException("cannot store Integers in array of type " + componentType);
+		}
+		
+		@DoNotSub final int size = size();
+		final T[] arrayCopy = a.length >= size ? a : (T[]) Array.newInstance(componentType, size);
+		copyValues(arrayCopy);
+		
+		return arrayCopy;
+	}
+	
+	public Object[] toArray() {
+		final Object[] arrayCopy = new Object[size()];
+		copyValues(arrayCopy);
+		
+		return arrayCopy;
+	}
+	
+	private void copyValues(final Object[] arrayCopy) {
+		@DoNotSub int i = 0;
+		final long[] values = this.values;
+		for (final long value : values) {
+			if (MISSING_VALUE != value) {
+				arrayCopy[i++] = value;
+			}
+		}
+		
+		if (containsMissingValue) {
+			arrayCopy[sizeOfArrayValues] = MISSING_VALUE;
+		}
+	}
+	
+	public boolean equals(final Object other) {
+		if (other == this) {
+			return true;
+		}
+		
+		if (other instanceof LongHashSet) {
+			final LongHashSet otherSet = (LongHashSet) other;
+			
+			return otherSet.containsMissingValue == containsMissingValue &&
+					otherSet.sizeOfArrayValues == sizeOfArrayValues &&
+					containsAll(otherSet);
+		}
+		
+		if (!(other instanceof Set)) {
+			return false;
+		}
+		
+		final Set<?> c = (Set<?>) other;
+		if (c.size() != size()) {
+			return false;
+		}
+		
+		try {
+			return containsAll(c);
+		} catch (final ClassCastException | NullPointerException ignore) {
+			return false;
+		}
+	}
+	
+	public @DoNotSub int hashCode() {
+		@DoNotSub int hashCode = 0;
+		for (final long value : values) {
+			if (MISSING_VALUE != value) {
+				hashCode += Long.hashCode(value);
+			}
+		}
+		
+		if (containsMissingValue) {
+			hashCode += Long.hashCode(MISSING_VALUE);
+		}
+		
+		return hashCode;
+	}
+	
+	public final class LongIterator implements Iterator<Long> {
+		private @DoNotSub int remaining;
+		private @DoNotSub int positionCounter;
+		private @DoNotSub int stopCounter;
+		private boolean isPositionValid = false;
+	
+		public LongIterator() {
+			
+		}
+		
+		LongIterator reset() {
+			remaining = size();
+			final long[] values = LongHashSet.this.values;
+			@DoNotSub final int length = values.length;
+			@DoNotSub int i = length;
+			
+			if (MISSING_VALUE != values[length - 1]) {
+				for (i = 0; i < length; i++) {
+					if (MISSING_VALUE == values[i]) {
+						break;
+					}
+				}
+			}
+			
+			stopCounter = i;
+			positionCounter = i + length;
+			isPositionValid = false;
+			
+			return this;
+		}
+		
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		public @DoNotSub int remaining() {
+			return remaining;
+		}
+		
+		public Long next() {
+			return nextValue();
+		}
+		
+		public long nextValue() {
+			if (remaining == 1 && containsMissingValue) {
+				remaining = 0;
+				isPositionValid = true;
+				
+				return MISSING_VALUE;
+			}
+			
+			findNext();
+			
+			final long[] values = LongHashSet.this.values;
+			
+			return values[position(values)];
+		}
+		
+		public void remove() {
+			if (isPositionValid) {
+				if (0 == remaining && containsMissingValue) {
+					containsMissingValue = false;
+				} else {
+					final long[] values = LongHashSet.this.values;
+					@DoNotSub final int position = position(values);
+					values[position] = MISSING_VALUE;
+					--sizeOfArrayValues;
+					
+					compactChain(position);
+				}
+				
+				isPositionValid = false;
+			} else {
+				throw new IllegalStateException();
+			}
+		}
+		
+		private void findNext() {
+			final long[] values = LongHashSet.this.values;
+			@DoNotSub final int mask = values.length - 1;
+			isPositionValid = true;
+			
+			for (@DoNotSub int i = positionCounter - 1, stop = stopCounter;  i >= stop; i--) {
+				@DoNotSub final int index = i & mask;
+				if (MISSING_VALUE != values[index]) {
+					positionCounter = i;
+					--remaining;
+					return;
+				}
+			}
+			
+			isPositionValid = false;
+			throw new NoSuchElementException();
+		}
+		
+		private @DoNotSub int position(
+				final long[] values) {
+			return positionCounter & (values.length - 1);
+		}
+	}
+} 
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongIntConsumer {
+	void accept(long key, int value);
+}
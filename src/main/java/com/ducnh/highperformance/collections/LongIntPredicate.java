@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongIntPredicate {
+	boolean test(long key, int value);
+}
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongIntToIntFunction {
+	int apply(long key, int value);
+}
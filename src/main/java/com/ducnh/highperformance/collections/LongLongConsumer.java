@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongLongConsumer {
+	void accept(long valueOne, long valueTwo);
+}
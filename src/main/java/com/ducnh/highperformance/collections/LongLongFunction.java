@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongLongFunction {
+	long apply(long valueOne, long valueTwo);
+}
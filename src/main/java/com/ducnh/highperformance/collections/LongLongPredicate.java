@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongLongPredicate {
+	boolean test(long valueOne, long valueTwo);
+}
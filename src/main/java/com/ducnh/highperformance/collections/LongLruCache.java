@@ -0,0 +1,219 @@
+package com.ducnh.highperformance.collections;
+
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+
+/**
+ * Least recently used cache of values created by a factory and closed when evicted or when the cache is closed.
+ * <p>
+ * Entries live in slots which are found by key through an open addressing index and are chained in recency order by a
+ * doubly linked list of slot numbers, so lookup, promotion and eviction are O(1) whatever the capacity.
+ */
+public final class LongLruCache<E> implements AutoCloseable{
+	private static @DoNotSub final int NONE = -1;
+	
+	private @DoNotSub final int capacity;
+	private final LongFunction<E> factory;
+	private final Consumer<E> closer;
+	private final long[] keys;
+	private final Object[] values;
+	private @DoNotSub final int[] next;
+	private @DoNotSub final int[] previous;
+	private @DoNotSub final int[] index;
+	
+	private @DoNotSub int size;
+	private @DoNotSub int head = NONE;
+	private @DoNotSub int tail = NONE;
+	private long cacheHits = 0;
+	private long cacheMisses = 0;
+	private long cacheEvictions = 0;
+	
+	public LongLruCache(
+			@DoNotSub final int capacity,
+			final LongFunction<E> factory,
+			final Consumer<E> closer) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		}
+		
+		this.capacity = capacity;
+		this.factory = factory;
+		this.closer = closer;
+		keys = new long[capacity];
+		values = new Object[capacity];
+		next = new int[capacity]; // @DoNotSub
+		previous = new int[capacity]; // @DoNotSub
+		index = new int[findNextPositivePowerOfTwo(capacity << 1)]; // @DoNotSub
+		
+		size = 0;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public E lookup(final long key) {
+		@DoNotSub int slot = find(key);
+		if (NONE != slot) {
+			cacheHits++;
+			if (head != slot) {
+				unlink(slot);
+				linkFirst(slot);
+			}
+			
+			return (E)values[slot];
+		}
+		
+		cacheMisses++;
+		final E value = factory.apply(key);
+		
+		if (value != null) {
+			if (capacity == size) {
+				slot = tail;
+				closer.accept((E)values[slot]);
+				cacheEvictions++;
+				removeFromIndex(slot);
+				unlink(slot);
+			} else {
+				slot = size++;
+			}
+			
+			keys[slot] = key;
+			values[slot] = value;
+			addToIndex(key, slot);
+			linkFirst(slot);
+		}
+		
+		return value;
+	}
+	
+	public @DoNotSub int capacity() {
+		return capacity;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public long cacheHits() {
+		return cacheHits;
+	}
+	
+	public long cacheMisses() {
+		return cacheMisses;
+	}
+	
+	public long cacheEvictions() {
+		return cacheEvictions;
+	}
+	
+	public void resetCounters() {
+		cacheHits = 0;
+		cacheMisses = 0;
+		cacheEvictions = 0;
+	}
+	
+	/**
+	 * Close values from most to least recently used.
+	 */
+	@SuppressWarnings("unchecked")
+	public void close() {
+		final Consumer<E> closer = this.closer;
+		final Object[] values = this.values;
+		for (@DoNotSub int slot = head; NONE != slot; slot = next[slot]) {
+			closer.accept((E)values[slot]);
+		}
+	}
+	
+	private @DoNotSub int find(
+		final long key) {
+		final long[] keys = this.keys;
+		@DoNotSub final int[] index = this.index;
+		@DoNotSub final int mask = index.length - 1;
+		@DoNotSub int i = Hashing.hash(key, mask);
+		
+		@DoNotSub int entry;
+		while (0 != (entry = index[i])) {
+			if (key == keys[entry - 1]) {
+				return entry - 1;
+			}
+			
+			i = (i + 1) & mask;
+		}
+		
+		return NONE;
+	}
+	
+	private void addToIndex(
+		final long key,
+		@DoNotSub final int slot) {
+		@DoNotSub final int[] index = this.index;
+		@DoNotSub final int mask = index.length - 1;
+		@DoNotSub int i = Hashing.hash(key, mask);
+		while (0 != index[i]) {
+			i = (i + 1) & mask;
+		}
+		
+		index[i] = slot + 1;
+	}
+	
+	/**
+	 * Remove the index entry for a slot and shift back any following entries in the probe chain which would otherwise
+	 * become unreachable.
+	 */
+	private void removeFromIndex(@DoNotSub final int slot) {
+		final long[] keys = this.keys;
+		@DoNotSub final int[] index = this.index;
+		@DoNotSub final int mask = index.length - 1;
+		@DoNotSub int deleteIndex = Hashing.hash(keys[slot], mask);
+		while (slot + 1 != index[deleteIndex]) {
+			deleteIndex = (deleteIndex + 1) & mask;
+		}
+		index[deleteIndex] = 0;
+		
+		@DoNotSub int i = deleteIndex;
+		while (true) {
+			i = (i + 1) & mask;
+			@DoNotSub final int entry = index[i];
+			if (0 == entry) {
+				return;
+			}
+			
+			@DoNotSub final int hash = Hashing.hash(keys[entry - 1], mask);
+			if ((i < hash && (hash <= deleteIndex || deleteIndex <= i)) ||
+					(hash <= deleteIndex && deleteIndex <= i)) {
+				index[deleteIndex] = entry;
+				index[i] = 0;
+				deleteIndex = i;
+			}
+		}
+	}
+	
+	private void linkFirst(@DoNotSub final int slot) {
+		previous[slot] = NONE;
+		next[slot] = head;
+		if (NONE != head) {
+			previous[head] = slot;
+		} else {
+			tail = slot;
+		}
+		head = slot;
+	}
+	
+	private void unlink(@DoNotSub final int slot) {
+		@DoNotSub final int before = previous[slot];
+		@DoNotSub final int after = next[slot];
+		if (NONE != before) {
+			next[before] = after;
+		} else {
+			head = after;
+		}
+		
+		if (NONE != after) {
+			previous[after] = before;
+		} else {
+			tail = before;
+		}
+	}
+}
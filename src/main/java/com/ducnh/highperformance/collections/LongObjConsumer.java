@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongObjConsumer<T> {
+	void accept(long i, T v);
+}
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongObjPredicate<T> {
+	boolean test(long valueOne, T valueTwo);
+}
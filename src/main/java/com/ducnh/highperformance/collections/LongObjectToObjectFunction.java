@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface LongObjectToObjectFunction<T, R> {
+	R apply(long i, T t);
+}
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface ObjLongConsumer<T> {
+	void accept(T i, long v);
+}
@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface ObjLongPredicate<T> {
+	boolean test(T valueOne, long valueTwo);
+}
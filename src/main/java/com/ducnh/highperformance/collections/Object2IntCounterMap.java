@@ -7,14 +7,16 @@ import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.ToIntFunction;
 
+import com.ducnh.highperformance.generation.DoNotSub;
+
 public class Object2IntCounterMap<K> {
 	
-	private static final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int MIN_CAPACITY = 8;
 	
 	private final float loadFactor;
 	private final int initialValue;
-	private int resizeThreshold;
-	private int size = 0;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size = 0;
 	
 	private K[] keys;
 	private int[] values;
@@ -25,7 +27,7 @@ public class Object2IntCounterMap<K> {
 	
 	@SuppressWarnings("unchecked")
 	public Object2IntCounterMap(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final float loadFactor, 
 			final int initialValue) {
 		validateLoadFactor(loadFactor);
@@ -33,23 +35,23 @@ public class Object2IntCounterMap<K> {
 		this.loadFactor = loadFactor;
 		this.initialValue = initialValue;
 		
-		final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
 		
 		keys = (K[]) new Object[capacity];
 		values = new int[capacity];
 		Arrays.fill(values, initialValue);
-		resizeThreshold = (int)(capacity * loadFactor);
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
 	}
 	
 	public int initialValue() {
 		return initialValue;
 	}
 	
-	public int resizeThreshold() {
+	public @DoNotSub int resizeThreshold() {
 		return values.length;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return size;
 	}
 	
@@ -61,8 +63,8 @@ public class Object2IntCounterMap<K> {
 		final int intiialValue = this.initialValue;
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int value;
 		while (initialValue != (value = values[index])) {
@@ -84,8 +86,8 @@ public class Object2IntCounterMap<K> {
 		
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		int oldValue = initialValue;
 		
 		while (values[index] != initialValue) {
@@ -133,8 +135,8 @@ public class Object2IntCounterMap<K> {
 		final int initialValue = this.initialValue;
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		int oldValue = initialValue;
 		
 		while (initialValue != values[index]) {
@@ -167,10 +169,10 @@ public class Object2IntCounterMap<K> {
 		final int initialValue = this.initialValue;
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int length = values.length;
-		int remaining = size;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
 		
-		for (int i = 0; remaining > 0 && i < length; i++) {
+		for (@DoNotSub int i = 0; remaining > 0 && i < length; i++) {
 			if (initialValue != values[i]) {
 				consumer.accept(keys[i], values[i]);
 				--remaining;
@@ -196,7 +198,7 @@ public class Object2IntCounterMap<K> {
 	}
 	
 	public void compact() {
-		final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
+		@DoNotSub final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
 		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
 	}
 	
@@ -217,8 +219,8 @@ public class Object2IntCounterMap<K> {
 		final int initialValue = this.initialValue;
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int oldValue = initialValue;
 		while (initialValue != values[index]) {
@@ -271,9 +273,9 @@ public class Object2IntCounterMap<K> {
 		final int initialValue = this.initialValue;
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int length = values.length;
+		@DoNotSub final int length = values.length;
 		
-		for (int i = 0; i < length; i++) {
+		for (@DoNotSub int i = 0; i < length; i++) {
 			final int value = values[i];
 			if (initialValue != value) {
 				sb.append(keys[i]).append('=').append(value).append(", ");
@@ -290,12 +292,12 @@ public class Object2IntCounterMap<K> {
 	}
 	
 	@SuppressWarnings("FinalParameters")
-	private void compactChain(int deleteIndex) {
+	private void compactChain(@DoNotSub int deleteIndex) {
 		final int initialValue = this.initialValue;
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = deleteIndex;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
 		
 		while(true) {
 			index = ++index & mask;
@@ -305,7 +307,7 @@ public class Object2IntCounterMap<K> {
 			}
 			
 			final K key = keys[index];
-			final int hash = Hashing.hash(key, mask);
+			@DoNotSub final int hash = Hashing.hash(key, mask);
 			
 			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
 					(hash <= deleteIndex && deleteIndex <= index)) {
@@ -321,14 +323,14 @@ public class Object2IntCounterMap<K> {
 	
 	private void increaseCapacity() {
 		if (size > resizeThreshold) {
-			final int newCapacity = values.length * 2;
+			@DoNotSub final int newCapacity = values.length * 2;
 			rehash(newCapacity);
 		}
 	}
 	
-	private void rehash(final int newCapacity) {
-		final int mask = newCapacity - 1;
-		resizeThreshold = (int)(newCapacity * loadFactor);
+	private void rehash(@DoNotSub final int newCapacity) {
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
 		
 		@SuppressWarnings("unchecked")
 		final K[] tempKeys = (K[]) new Object[newCapacity];
@@ -339,11 +341,11 @@ public class Object2IntCounterMap<K> {
 		final K[] keys = this.keys;
 		final int[] values = this.values;
 		
-		for (int i = 0, size = values.length; i < size; i++) {
+		for (@DoNotSub int i = 0, size = values.length; i < size; i++) {
 			final int value = values[i];
 			if (initialValue != value) {
 				final K key = keys[i];
-				int index = Hashing.hash(key, mask);
+				@DoNotSub int index = Hashing.hash(key, mask);
 				while (initialValue != tempValues[index]) {
 					index = ++index & mask;
 				}
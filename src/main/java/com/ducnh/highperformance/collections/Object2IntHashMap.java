@@ -14,21 +14,29 @@ import java.util.function.BiConsumer;
 import java.util.function.IntPredicate;
 import java.util.function.ToIntFunction;
 
+import com.ducnh.highperformance.generation.DoNotSub;
+
 import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
 import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
 
 public class Object2IntHashMap<K> {
 
-	static final int MIN_CAPACITY = 0;
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int NONE = -1;
 	
 	private final float loadFactor;
 	private final int missingValue;
-	private int resizeThreshold;
-	private int size;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size;
 	private final boolean shouldAvoidAllocation;
 	
 	private K[] keys;
 	private int[] values;
+	private @DoNotSub int rehashSlotsPerOperation;
+	private K[] rehashKeys;
+	private int[] rehashValues;
+	private @DoNotSub int rehashIndex;
+	private @DoNotSub int rehashRemaining;
 	
 	private ValueCollection valueCollection;
 	private KeySet keySet;
@@ -39,7 +47,7 @@ public class Object2IntHashMap<K> {
 	}
 	
 	public Object2IntHashMap(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final float loadFactor,
 			final int missingValue) {
 		this(initialCapacity, loadFactor, missingValue, true);
@@ -47,15 +55,15 @@ public class Object2IntHashMap<K> {
 	
 	@SuppressWarnings("unchecked")
 	public Object2IntHashMap(
-			final int initialCapacity,
+			@DoNotSub final int initialCapacity,
 			final float loadFactor,
 			final int missingValue,
 			final boolean shouldAvoidAllocation) {
 		validateLoadFactor(loadFactor);
 		
 		this.loadFactor = loadFactor;
-		final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
-		resizeThreshold = (int)(capacity * loadFactor);
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
 		
 		this.missingValue = missingValue;
 		this.shouldAvoidAllocation = shouldAvoidAllocation;
@@ -65,11 +73,13 @@ public class Object2IntHashMap<K> {
 	}
 	
 	public Object2IntHashMap(final Object2IntHashMap<K> mapToCopy) {
+		mapToCopy.completeRehash();
 		this.loadFactor = mapToCopy.loadFactor;
 		this.resizeThreshold = mapToCopy.resizeThreshold;
 		this.size = mapToCopy.size;
 		this.missingValue = mapToCopy.missingValue;
 		this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
+		this.rehashSlotsPerOperation = mapToCopy.rehashSlotsPerOperation;
 		
 		keys = mapToCopy.keys.clone();
 		values = mapToCopy.values.clone();
@@ -83,15 +93,15 @@ public class Object2IntHashMap<K> {
 		return loadFactor;
 	}
 	
-	public int capacity() {
+	public @DoNotSub int capacity() {
 		return values.length;
 	}
 	
-	public int resizeThreshold() {
+	public @DoNotSub int resizeThreshold() {
 		return resizeThreshold;
 	}
 	
-	public int size() {
+	public @DoNotSub int size() {
 		return size;
 	}
 	
@@ -99,6 +109,45 @@ public class Object2IntHashMap<K> {
 		return 0 == size;
 	}
 	
+	/**
+	 * Opt in to resizing incrementally. Rather than rehashing all entries into a larger table in one call when the
+	 * size crosses the resize threshold, the old table is kept and {@link #put(Object, int)} and
+	 * {@link #removeKey(Object)} each migrate at least the given number of its slots, while lookups consult both
+	 * tables. {@link #compact()} shrinks the same way.
+	 * <p>
+	 * The number of slots is raised to at least {@code 1 / loadFactor + 1} so that migration finishes before the new
+	 * table fills. Operations other than getValue, containsKey, put and removeKey, including iteration, first
+	 * complete a rehash in progress.
+	 *
+	 * @param slotsPerOperation to migrate on each put or remove, or 0 to rehash in one call which is the default.
+	 */
+	public void incrementalRehash(@DoNotSub final int slotsPerOperation) {
+		if (slotsPerOperation < 0) {
+			throw new IllegalArgumentException("slotsPerOperation must not be negative: " + slotsPerOperation);
+		}
+		
+		completeRehash();
+		rehashSlotsPerOperation = 0 == slotsPerOperation ?
+			0 : Math.max(slotsPerOperation, (int)Math.ceil(1.0d / loadFactor) + 1); // @DoNotSub
+	}
+	
+	public @DoNotSub int incrementalRehashSlots() {
+		return rehashSlotsPerOperation;
+	}
+	
+	public boolean isRehashing() {
+		return null != rehashValues;
+	}
+	
+	/**
+	 * Migrate all remaining entries of an incremental rehash in progress.
+	 */
+	public void completeRehash() {
+		if (null != rehashValues) {
+			rehashStep(Integer.MAX_VALUE); // @DoNotSub
+		}
+	}
+	
 	@SuppressWarnings("unchecked")
 	public boolean containsKey(final Object key) {
 		return missingValue != getValue((K) key);
@@ -114,6 +163,7 @@ public class Object2IntHashMap<K> {
 		}
 		
 		boolean found = false;
+		completeRehash();
 		final int[] values = this.values;
 		for (final int v : values) {
 			if (value == v) {
@@ -138,11 +188,21 @@ public class Object2IntHashMap<K> {
 	
 	public int getValue(final K key) {
 		requireNonNull(key);
+		final int value = getValue(keys, values, key);
+		if (missingValue == value && null != rehashValues) {
+			return getValue(rehashKeys, rehashValues, key);
+		}
+		
+		return value;
+	}
+	
+	private int getValue(
+		final K[] keys,
+		final int[] values,
+		final K key) {
 		final int missingValue = this.missingValue;
-		final K[] keys = this.keys;
-		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int value;
 		while (missingValue != (value = values[index])) {
@@ -160,10 +220,11 @@ public class Object2IntHashMap<K> {
 	public int computeIfAbsent(final K key, final ToIntFunction<? super K> mappingFunction) {
 		requireNonNull(key);
 		final int missingValue = this.missingValue;
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int value;
 		while (missingValue != (value = values[index])) {
@@ -189,10 +250,11 @@ public class Object2IntHashMap<K> {
 	public int computeIfPresent(final K key, final ObjectIntToIntFunction<? super K> remappingFunction) {
 		requireNonNull(key);
 		final int missingValue = this.missingValue;
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int value;
 		while (missingValue != (value = values[index])) {
@@ -219,10 +281,11 @@ public class Object2IntHashMap<K> {
 	public int compute(final K key, final ObjectIntToIntFunction<? super K> remappingFunction) {
 		requireNonNull(key);
 		final int missingValue = this.missingValue;
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = values[index])) {
@@ -260,10 +323,11 @@ public class Object2IntHashMap<K> {
 			throw new IllegalArgumentException("cannot accept missingValue");
 		}
 		
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = values[index])) {
@@ -304,10 +368,23 @@ public class Object2IntHashMap<K> {
 			throw new IllegalArgumentException("cannot accept missingValue");
 		}
 		
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final int[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final int oldValue = rehashValues[index];
+					rehashValues[index] = value;
+					return oldValue;
+				}
+			}
+		}
+		
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int oldValue;
 		while (missingValue != (oldValue = values[index])) {
@@ -341,10 +418,11 @@ public class Object2IntHashMap<K> {
 			throw new IllegalArgumentException("cannot accept missingValue");
 		}
 		
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 	
 		int oldValue;
 		while (missingValue != (oldValue = values[index])) {
@@ -370,10 +448,11 @@ public class Object2IntHashMap<K> {
 	
 	public boolean remove(final Object key, final int value) {
 		final int missingValue = this.missingValue;
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int existingValue;
 		while (missingValue != (existingValue = values[index])) {
@@ -404,10 +483,26 @@ public class Object2IntHashMap<K> {
 	public int removeKey(final K key) {
 		requireNonNull(key);
 		final int missingValue = this.missingValue;
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final int[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final int oldValue = rehashValues[index];
+					rehashKeys[index] = null;
+					rehashValues[index] = missingValue;
+					--size;
+					compactChain(rehashKeys, rehashValues, index);
+					return oldValue;
+				}
+			}
+		}
+		
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int value;
 		while (missingValue != (value = values[index])) {
@@ -427,6 +522,8 @@ public class Object2IntHashMap<K> {
 	}
 	
 	public void clear() {
+		rehashKeys = null;
+		rehashValues = null;
 		if (size > 0) {
 			Arrays.fill(keys, null);
 			Arrays.fill(values, missingValue);
@@ -434,9 +531,19 @@ public class Object2IntHashMap<K> {
 		}
 	}
 	
+	/**
+	 * Resize to the smallest capacity which holds the entries within the load factor and leaves a free slot, which is
+	 * done incrementally if opted in with {@link #incrementalRehash}.
+	 */
 	public void compact() {
-		final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
-		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
+		@DoNotSub final int idealCapacity = (int)Math.ceil(size() / (double)loadFactor) + 1;
+		@DoNotSub final int newCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity));
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
 	}
 	
 	public void putAll(final Map<? extends K, ? extends Integer> map) {
@@ -449,8 +556,8 @@ public class Object2IntHashMap<K> {
 		final int missingValue = map.missingValue;
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int length = values.length;
-		for (int index = 0, remaining = map.size; remaining > 0 && index < length; index ++) {
+		@DoNotSub final int length = values.length;
+		for (@DoNotSub int index = 0, remaining = map.size; remaining > 0 && index < length; index ++) {
 			final int value = values[index];
 			if (missingValue != value) {
 				put(keys[index], value);
@@ -517,11 +624,12 @@ public class Object2IntHashMap<K> {
 			return false;
 		}
 		
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
 		final int missingValue = this.missingValue;
 		final int thatMissingValue = o instanceof Object2IntHashMap ? ((Object2IntHashMap<?>)o).missingValue : missingValue;
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final int thisValue = values[i];
 			if (missingValue !=  thisValue) {
 				final Object thatValueObject = that.get(keys[i]);
@@ -539,11 +647,12 @@ public class Object2IntHashMap<K> {
 		return true;
 	}
 	
-	public int hashCode() {
-		int result = 0;
+	public @DoNotSub int hashCode() {
+		@DoNotSub int result = 0;
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		for (int i = 0, length = values.length; i < length; i++) {
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
 			final int value = values[i];
 			if (missingValue != value) {
 				result += (keys[i].hashCode() ^ Integer.hashCode(value));
@@ -560,10 +669,11 @@ public class Object2IntHashMap<K> {
 			throw new IllegalArgumentException("cannot accept missingValue");
 		}
 		
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int existingValue;
 		while (missingValue != (existingValue = values[index])) {
@@ -585,10 +695,11 @@ public class Object2IntHashMap<K> {
 			throw new IllegalArgumentException("cannot accept missingValue");
 		}
 		
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(key, mask);
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
 		
 		int existingValue;
 		while (missingValue != (existingValue = values[index])) {
@@ -610,11 +721,12 @@ public class Object2IntHashMap<K> {
 	public void replaceAllInt(final ObjectIntToIntFunction<? super K> function) {
 		requireNonNull(function);
 		final int missingValue = this.missingValue;
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int length = values.length;
+		@DoNotSub final int length = values.length;
 		
-		for (int index = 0, remaining = size; remaining > 0 && index < length; index++) {
+		for (@DoNotSub int index = 0, remaining = size; remaining > 0 && index < length; index++) {
 			final int oldValue = values[index];
 			if (missingValue != oldValue) {
 				final int newVal = function.apply(keys[index], oldValue);
@@ -634,11 +746,12 @@ public class Object2IntHashMap<K> {
 	public void forEachInt(final ObjIntConsumer<? super K> action) {
 		requireNonNull(action);
 		final int missingValue = this.missingValue;
+		completeRehash();
 		final K[] keys = this.keys;
 		final int[] values = this.values;
-		final int length = values.length;
+		@DoNotSub final int length = values.length;
 		
-		for (int index = 0, remaining = size; remaining > 0 && index < length; index++) {
+		for (@DoNotSub int index = 0, remaining = size; remaining > 0 && index < length; index++) {
 			final int oldValue = values[index];
 			if (missingValue != oldValue) {
 				action.accept(keys[index], oldValue);
@@ -649,18 +762,24 @@ public class Object2IntHashMap<K> {
 	
 	public void increaseCapacity() {
 		if (size > resizeThreshold) {
-			final int newCapacity = values.length << 1;
+			@DoNotSub final int newCapacity = values.length << 1;
 			if (newCapacity < 0) {
 				throw new IllegalStateException("max capacity reached at size=" + size);
 			}
 			
-			rehash(newCapacity);
+			if (0 != rehashSlotsPerOperation) {
+				startRehash(newCapacity);
+			}
+			else {
+				rehash(newCapacity);
+			}
 		}
 	}
 	
-	public void rehash(final int newCapacity) {
-		final int mask = newCapacity - 1;
-		resizeThreshold = (int) (newCapacity * loadFactor);
+	public void rehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int) (newCapacity * loadFactor); // @DoNotSub
 		
 		@SuppressWarnings("unchecked")
 		final K[] tempKeys = (K[]) new Object[newCapacity];
@@ -670,11 +789,11 @@ public class Object2IntHashMap<K> {
 		final K[] keys = this.keys;
 		final int[] values = this.values;
 		
-		for (int i = 0, size = values.length; i < size; i++) {
+		for (@DoNotSub int i = 0, size = values.length; i < size; i++) {
 			final int value = values[i];
 			if (missingValue != value) {
 				final K key = keys[i];
-				int index = Hashing.hash(key, mask);
+				@DoNotSub int index = Hashing.hash(key, mask);
 				while (missingValue != tempValues[index]) {
 					index = ++index & mask;
 				}
@@ -688,12 +807,117 @@ public class Object2IntHashMap<K> {
 		this.values = tempValues;
 	}
 	
+	/**
+	 * Move the entries to a new table which later puts and removes migrate them to, starting from an empty slot so
+	 * that each cluster of the old table is migrated whole and the probe chains left in it stay intact. An old table
+	 * with no empty slot, which a small capacity at a high load factor can leave, is migrated at once.
+	 */
+	@SuppressWarnings("unchecked")
+	private void startRehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		final int missingValue = this.missingValue;
+		final int[] oldValues = values;
+		
+		rehashKeys = keys;
+		rehashValues = oldValues;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
+		keys = (K[])new Object[newCapacity];
+		values = new int[newCapacity];
+		Arrays.fill(values, missingValue);
+		
+		@DoNotSub final int length = oldValues.length;
+		@DoNotSub int index = 0;
+		while (index < length && missingValue != oldValues[index]) {
+			index++;
+		}
+		
+		rehashIndex = index & (length - 1);
+		rehashRemaining = length;
+		
+		if (index == length) {
+			completeRehash();
+		}
+	}
+	
+	/**
+	 * Migrate at least the given number of slots from the old table, continuing to the end of a cluster so the
+	 * migration always stops at an empty slot.
+	 */
+	private void rehashStep(@DoNotSub final int slots) {
+		final int missingValue = this.missingValue;
+		final K[] oldKeys = rehashKeys;
+		final int[] oldValues = rehashValues;
+		final K[] newKeys = keys;
+		final int[] newValues = values;
+		@DoNotSub final int oldMask = oldValues.length - 1;
+		@DoNotSub final int newMask = newValues.length - 1;
+		@DoNotSub int index = rehashIndex;
+		@DoNotSub int remaining = rehashRemaining;
+		@DoNotSub int budget = slots;
+		
+		while (remaining > 0) {
+			final int value = oldValues[index];
+			if (missingValue != value) {
+				final K key = oldKeys[index];
+				@DoNotSub int newIndex = Hashing.hash(key, newMask);
+				while (missingValue != newValues[newIndex]) {
+					newIndex = ++newIndex & newMask;
+				}
+				
+				newKeys[newIndex] = key;
+				newValues[newIndex] = value;
+				oldKeys[index] = null;
+				oldValues[index] = missingValue;
+			}
+			else if (budget <= 0) {
+				break;
+			}
+			
+			index = ++index & oldMask;
+			remaining--;
+			budget--;
+		}
+		
+		if (0 == remaining) {
+			rehashKeys = null;
+			rehashValues = null;
+		}
+		else {
+			rehashIndex = index;
+			rehashRemaining = remaining;
+		}
+	}
+	
+	private @DoNotSub int index(
+		final K[] keys,
+		final int[] values,
+		final K key) {
+		final int missingValue = this.missingValue;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		while (missingValue != values[index]) {
+			if (Objects.equals(keys[index], key)) {
+				return index;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return NONE;
+	}
+	
+	private void compactChain(@DoNotSub final int deleteIndex) {
+		compactChain(keys, values, deleteIndex);
+	}
+	
 	@SuppressWarnings("FinalParameters")
-	private void compactChain(int deleteIndex) {
-		final K[] keys = this.keys;
-		final int[] values = this.values;
-		final int mask = values.length - 1;
-		int index = deleteIndex;
+	private void compactChain(
+		final K[] keys,
+		final int[] values,
+		@DoNotSub int deleteIndex) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
 		
 		while (true) {
 			index = ++index & mask;
@@ -703,7 +927,7 @@ public class Object2IntHashMap<K> {
 			}
 			
 			final K key = keys[index];
-			final int hash = Hashing.hash(key, mask);
+			@DoNotSub final int hash = Hashing.hash(key, mask);
 			
 			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
 					(hash <= deleteIndex && deleteIndex <= index)) {
@@ -738,7 +962,7 @@ public class Object2IntHashMap<K> {
 			return keyIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Object2IntHashMap.this.size();
 		}
 		
@@ -774,7 +998,7 @@ public class Object2IntHashMap<K> {
 			return valueIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Object2IntHashMap.this.size();
 		}
 		
@@ -821,7 +1045,7 @@ public class Object2IntHashMap<K> {
 			return entryIterator;
 		}
 		
-		public int size() {
+		public @DoNotSub int size() {
 			return Object2IntHashMap.this.size();
 		}
 		
@@ -865,7 +1089,7 @@ public class Object2IntHashMap<K> {
 					a : (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
 			final EntryIterator it = iterator();
 			
-			for (int i = 0; i < array.length; i++) {
+			for (@DoNotSub int i = 0; i < array.length; i++) {
 				if (it.hasNext()) {
 					it.next();
 					array[i] = (T) it.allocateDuplicateEntry();
@@ -880,12 +1104,12 @@ public class Object2IntHashMap<K> {
 	}
 	
 	abstract class AbstractIterator<T> implements Iterator<T> {
-		private int posCounter;
-		private int stopCounter;
-		private int remaining;
+		private @DoNotSub int posCounter;
+		private @DoNotSub int stopCounter;
+		private @DoNotSub int remaining;
 		private boolean isPositionValid = false;
 	
-		protected final int position() {
+		protected @DoNotSub final int position() {
 			return posCounter & (values.length - 1);
 		}
 		
@@ -900,10 +1124,10 @@ public class Object2IntHashMap<K> {
 			
 			final int missingValue = Object2IntHashMap.this.missingValue;
 			final int[] values = Object2IntHashMap.this.values;
-			final int mask = values.length - 1;
+			@DoNotSub final int mask = values.length - 1;
 			
-			for (int i = posCounter - 1; i >= stopCounter; i--) {
-				final int index = i & mask;
+			for (@DoNotSub int i = posCounter - 1; i >= stopCounter; i--) {
+				@DoNotSub final int index = i & mask;
 				if (missingValue != values[index]) {
 					posCounter = i;
 					isPositionValid = true;
@@ -921,7 +1145,7 @@ public class Object2IntHashMap<K> {
 		
 		public void remove() {
 			if (isPositionValid) {
-				final int position = position();
+				@DoNotSub final int position = position();
 				values[position] = missingValue;
 				keys[position] = null;
 				--size;
@@ -935,11 +1159,12 @@ public class Object2IntHashMap<K> {
 		}
 		
 		final void reset() {
+			completeRehash();
 			remaining = Object2IntHashMap.this.size;
 			final int[] values = Object2IntHashMap.this.values;
-			final int capacity = values.length;
+			@DoNotSub final int capacity = values.length;
 			
-			int i = capacity;
+			@DoNotSub int i = capacity;
 			if (missingValue != values[capacity - 1]) {
 				for (i = 0; i < capacity; i++) {
 					if (missingValue == values[i]) {
@@ -1022,14 +1247,14 @@ public class Object2IntHashMap<K> {
 				throw new IllegalArgumentException("cannot accept missingValue");
 			}
 			
-			final int pos = position();
+			@DoNotSub final int pos = position();
 			final int oldValue = values[pos];
 			values[pos] = value;
 			
 			return oldValue;
 		}
 		
-		public int hashCode() {
+		public @DoNotSub int hashCode() {
 			return getKey().hashCode() ^ Integer.hashCode(getIntValue());
 		}
 		
@@ -1071,7 +1296,7 @@ public class Object2IntHashMap<K> {
 				return oldValue;
 			}
 			
-			public int hashCode() {
+			public @DoNotSub int hashCode() {
 				return getKey().hashCode() ^ Integer.hashCode(v);
 			}
 			
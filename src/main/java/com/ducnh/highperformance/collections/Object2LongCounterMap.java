@@ -0,0 +1,361 @@
+package com.ducnh.highperformance.collections;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+public class Object2LongCounterMap<K> {
+	
+	private static @DoNotSub final int MIN_CAPACITY = 8;
+	
+	private final float loadFactor;
+	private final long initialValue;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size = 0;
+	
+	private K[] keys;
+	private long[] values;
+	
+	public Object2LongCounterMap(final long initialValue) {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, initialValue);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public Object2LongCounterMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor, 
+			final long initialValue) {
+		validateLoadFactor(loadFactor);
+		
+		this.loadFactor = loadFactor;
+		this.initialValue = initialValue;
+		
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+		
+		keys = (K[]) new Object[capacity];
+		values = new long[capacity];
+		Arrays.fill(values, initialValue);
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+	}
+	
+	public long initialValue() {
+		return initialValue;
+	}
+	
+	public @DoNotSub int resizeThreshold() {
+		return values.length;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	public long get(final K key) {
+		final long intiialValue = this.initialValue;
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long value;
+		while (initialValue != (value = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return value;
+	}
+	
+	public long put(final K key, final long value) {
+		final long initialValue = this.initialValue;
+		if (initialValue == value) {
+			throw new IllegalArgumentException("cannot accept initialValue");
+		}
+		
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		long oldValue = initialValue;
+		
+		while (values[index] != initialValue) {
+			if (Objects.equals(keys[index], key)) {
+				oldValue = values[index];
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		if (oldValue == initialValue) {
+			++size;
+			keys[index] = key;
+		}
+		
+		values[index] = value;
+		
+		increaseCapacity();
+		
+		return oldValue;
+	}
+	
+	public long incrementAndGet(final K key) {
+		return addAndGet(key, 1);
+	}
+	
+	public long decrementAndGet(final K key) {
+		return addAndGet(key, -1);
+	}
+	
+	public long addAndGet(final K key, final long amount) {
+		return getAndAdd(key, amount) + amount;
+	}
+	
+	public long getAndIncrement(final K key) {
+		return getAndAdd(key, 1);
+	}
+	
+	public long getAndDecrement(final K key) {
+		return getAndAdd(key, -1);
+	}
+	
+	public long getAndAdd(final K key, final long amount) {
+		final long initialValue = this.initialValue;
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		long oldValue = initialValue;
+		
+		while (initialValue != values[index]) {
+			if (Objects.equals(keys[index], key)) {
+				oldValue = values[index];
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		if (amount != 0) {
+			final long newValue = oldValue + amount;
+			values[index] = newValue;
+			
+			if (initialValue == oldValue) {
+				++size;
+				keys[index] = key;
+				increaseCapacity();
+			} else if (initialValue == newValue) {
+				size --;
+				compactChain(index);
+			}
+		}
+		
+		return oldValue;
+	}
+	
+	public void forEach(final ObjLongConsumer<K> consumer) {
+		final long initialValue = this.initialValue;
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int length = values.length;
+		@DoNotSub int remaining = size;
+		
+		for (@DoNotSub int i = 0; remaining > 0 && i < length; i++) {
+			if (initialValue != values[i]) {
+				consumer.accept(keys[i], values[i]);
+				--remaining;
+			}
+		}
+	}
+	
+	public boolean containsKey(final K key) {
+		return initialValue != get(key);
+	}
+	
+	public boolean containsValue(final long value) {
+		boolean found = false;
+		if (initialValue != value) {
+			for (final long v : values) {
+				if (value == v) {
+					found = true;
+					break;
+				}
+			}
+		}
+		return found;
+	}
+	
+	public void compact() {
+		@DoNotSub final int idealCapacity = (int)Math.round(size() * (1.0d / loadFactor));
+		rehash(findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity)));
+	}
+	
+	public long computeIfAbsent(final K key, final ToLongFunction<? super K> mappingFunction) {
+		long value = get(key);
+		
+		if (value == initialValue) {
+			value = mappingFunction.applyAsLong(key);
+			if (initialValue != value) {
+				put(key, value);
+			}
+		}
+		
+		return value;
+	}
+	
+	public long remove(final K key) {
+		final long initialValue = this.initialValue;
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long oldValue = initialValue;
+		while (initialValue != values[index]) {
+			if (Objects.equals(keys[index], key)) {
+				oldValue = values[index];
+				values[index] = initialValue;
+				size--;
+				
+				compactChain(index);
+				
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return oldValue;
+	}
+	
+	public long minValue() {
+		final long initialValue = this.initialValue;
+		long min = 0 == size ? initialValue : Long.MAX_VALUE;
+		
+		for (final long value : values) {
+			if (initialValue != value) {
+				min = Math.min(min, value);
+			}
+		}
+		
+		return min;
+	}
+	
+	public long maxValue() {
+		final long initialValue = this.initialValue;
+		long max = 0 == size ? initialValue : Long.MIN_VALUE;
+		
+		for (final long value : values) {
+			if (initialValue != value) {
+				max = Math.max(value, max);
+			}
+		}
+		
+		return max;
+	}
+	
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append('{');
+		
+		final long initialValue = this.initialValue;
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int length = values.length;
+		
+		for (@DoNotSub int i = 0; i < length; i++) {
+			final long value = values[i];
+			if (initialValue != value) {
+				sb.append(keys[i]).append('=').append(value).append(", ");
+			}
+		}
+		
+		if (sb.length() > 2) {
+			sb.setLength(sb.length() - 2);
+		}
+		
+		sb.append('}');
+		
+		return sb.toString();
+	}
+	
+	@SuppressWarnings("FinalParameters")
+	private void compactChain(@DoNotSub int deleteIndex) {
+		final long initialValue = this.initialValue;
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
+		
+		while(true) {
+			index = ++index & mask;
+			final long value = values[index];
+			if (initialValue == value) {
+				break;
+			}
+			
+			final K key = keys[index];
+			@DoNotSub final int hash = Hashing.hash(key, mask);
+			
+			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
+					(hash <= deleteIndex && deleteIndex <= index)) {
+				keys[deleteIndex] = key;
+				values[deleteIndex] = value;
+				
+				keys[index] = null;
+				values[index] = initialValue;
+				deleteIndex = index;
+			}
+		}
+	}
+	
+	private void increaseCapacity() {
+		if (size > resizeThreshold) {
+			@DoNotSub final int newCapacity = values.length * 2;
+			rehash(newCapacity);
+		}
+	}
+	
+	private void rehash(@DoNotSub final int newCapacity) {
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
+		
+		@SuppressWarnings("unchecked")
+		final K[] tempKeys = (K[]) new Object[newCapacity];
+		final long[] tempValues = new long[newCapacity];
+		final long initialValue = this.initialValue;
+		Arrays.fill(tempValues, initialValue);
+		
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		
+		for (@DoNotSub int i = 0, size = values.length; i < size; i++) {
+			final long value = values[i];
+			if (initialValue != value) {
+				final K key = keys[i];
+				@DoNotSub int index = Hashing.hash(key, mask);
+				while (initialValue != tempValues[index]) {
+					index = ++index & mask;
+				}
+				
+				tempKeys[index] = key;
+				tempValues[index] = value;
+			}
+		}
+		
+		this.keys = tempKeys;
+		this.values = tempValues;
+	}
+}
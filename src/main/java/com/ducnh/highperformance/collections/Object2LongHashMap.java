@@ -0,0 +1,1324 @@
+package com.ducnh.highperformance.collections;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+
+import com.ducnh.highperformance.generation.DoNotSub;
+
+import static com.ducnh.highperformance.BitUtil.findNextPositivePowerOfTwo;
+import static com.ducnh.highperformance.collections.CollectionUtil.validateLoadFactor;
+
+public class Object2LongHashMap<K> {
+
+	static @DoNotSub final int MIN_CAPACITY = 8;
+	private static @DoNotSub final int NONE = -1;
+	
+	private final float loadFactor;
+	private final long missingValue;
+	private @DoNotSub int resizeThreshold;
+	private @DoNotSub int size;
+	private final boolean shouldAvoidAllocation;
+	
+	private K[] keys;
+	private long[] values;
+	private @DoNotSub int rehashSlotsPerOperation;
+	private K[] rehashKeys;
+	private long[] rehashValues;
+	private @DoNotSub int rehashIndex;
+	private @DoNotSub int rehashRemaining;
+	
+	private ValueCollection valueCollection;
+	private KeySet keySet;
+	private EntrySet entrySet;
+	
+	public Object2LongHashMap(final long missingValue) {
+		this(MIN_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, missingValue);
+	}
+	
+	public Object2LongHashMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final long missingValue) {
+		this(initialCapacity, loadFactor, missingValue, true);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public Object2LongHashMap(
+			@DoNotSub final int initialCapacity,
+			final float loadFactor,
+			final long missingValue,
+			final boolean shouldAvoidAllocation) {
+		validateLoadFactor(loadFactor);
+		
+		this.loadFactor = loadFactor;
+		@DoNotSub final int capacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, initialCapacity));
+		resizeThreshold = (int)(capacity * loadFactor); // @DoNotSub
+		
+		this.missingValue = missingValue;
+		this.shouldAvoidAllocation = shouldAvoidAllocation;
+		keys = (K[]) new Object[capacity];
+		values = new long[capacity];
+		Arrays.fill(values, missingValue);
+	}
+	
+	public Object2LongHashMap(final Object2LongHashMap<K> mapToCopy) {
+		mapToCopy.completeRehash();
+		this.loadFactor = mapToCopy.loadFactor;
+		this.resizeThreshold = mapToCopy.resizeThreshold;
+		this.size = mapToCopy.size;
+		this.missingValue = mapToCopy.missingValue;
+		this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
+		this.rehashSlotsPerOperation = mapToCopy.rehashSlotsPerOperation;
+		
+		keys = mapToCopy.keys.clone();
+		values = mapToCopy.values.clone();
+	}
+	
+	public long missingValue() {
+		return missingValue;
+	}
+	
+	public float loadFactor() {
+		return loadFactor;
+	}
+	
+	public @DoNotSub int capacity() {
+		return values.length;
+	}
+	
+	public @DoNotSub int resizeThreshold() {
+		return resizeThreshold;
+	}
+	
+	public @DoNotSub int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+	
+	/**
+	 * Opt in to resizing incrementally. Rather than rehashing all entries into a larger table in one call when the
+	 * size crosses the resize threshold, the old table is kept and {@link #put(Object, long)} and
+	 * {@link #removeKey(Object)} each migrate at least the given number of its slots, while lookups consult both
+	 * tables. {@link #compact()} shrinks the same way.
+	 * <p>
+	 * The number of slots is raised to at least {@code 1 / loadFactor + 1} so that migration finishes before the new
+	 * table fills. Operations other than getValue, containsKey, put and removeKey, including iteration, first
+	 * complete a rehash in progress.
+	 *
+	 * @param slotsPerOperation to migrate on each put or remove, or 0 to rehash in one call which is the default.
+	 */
+	public void incrementalRehash(@DoNotSub final int slotsPerOperation) {
+		if (slotsPerOperation < 0) {
+			throw new IllegalArgumentException("slotsPerOperation must not be negative: " + slotsPerOperation);
+		}
+		
+		completeRehash();
+		rehashSlotsPerOperation = 0 == slotsPerOperation ?
+			0 : Math.max(slotsPerOperation, (int)Math.ceil(1.0d / loadFactor) + 1); // @DoNotSub
+	}
+	
+	public @DoNotSub int incrementalRehashSlots() {
+		return rehashSlotsPerOperation;
+	}
+	
+	public boolean isRehashing() {
+		return null != rehashValues;
+	}
+	
+	/**
+	 * Migrate all remaining entries of an incremental rehash in progress.
+	 */
+	public void completeRehash() {
+		if (null != rehashValues) {
+			rehashStep(Integer.MAX_VALUE); // @DoNotSub
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	public boolean containsKey(final Object key) {
+		return missingValue != getValue((K) key);
+	}
+	
+	public boolean containsValue(final Object value) {
+		return containsValue((long) value);
+	}
+	
+	public boolean containsValue(final long value) {
+		if (missingValue == value) {
+			return false;
+		}
+		
+		boolean found = false;
+		completeRehash();
+		final long[] values = this.values;
+		for (final long v : values) {
+			if (value == v) {
+				found = true;
+				break;
+			}
+		}
+		
+		return found;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public long getOrDefault(final Object key, final long defaultValue) {
+		final long value = getValue((K) key);
+		return missingValue == value ? defaultValue : value;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public Long get(final Object key) {
+		return valueOrNull(getValue((K) key));
+	}
+	
+	public long getValue(final K key) {
+		requireNonNull(key);
+		final long value = getValue(keys, values, key);
+		if (missingValue == value && null != rehashValues) {
+			return getValue(rehashKeys, rehashValues, key);
+		}
+		
+		return value;
+	}
+	
+	private long getValue(
+		final K[] keys,
+		final long[] values,
+		final K key) {
+		final long missingValue = this.missingValue;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long value;
+		while (missingValue != (value = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return value;
+	}
+	
+	@SuppressWarnings("overloads")
+	public long computeIfAbsent(final K key, final ToLongFunction<? super K> mappingFunction) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long value;
+		while (missingValue != (value = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				return value;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		final long newValue = mappingFunction.applyAsLong(key);
+		if (missingValue != newValue) {
+			keys[index] = key;
+			values[index] = newValue;
+			++size;
+			increaseCapacity();
+		}
+		
+		return newValue;
+	}
+	
+	@SuppressWarnings("overloads")
+	public long computeIfPresent(final K key, final ObjectLongToLongFunction<? super K> remappingFunction) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long value;
+		while (missingValue != (value = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				final long newValue = remappingFunction.apply(key, value);
+				values[index] = newValue;
+				
+				if (missingValue == newValue) {
+					keys[index] = null;
+					size--;
+					compactChain(index);
+				}
+				
+				return newValue;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return missingValue;
+	}
+	
+	@SuppressWarnings("overloads")
+	public long compute(final K key, final ObjectLongToLongFunction<? super K> remappingFunction) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		final long newValue = remappingFunction.apply(key, oldValue);
+		if (missingValue != newValue) {
+			values[index] = newValue;
+			if (missingValue == oldValue) {
+				keys[index] = key;
+				++size;
+				increaseCapacity();
+			}
+		}
+		else if (missingValue != oldValue) {
+			keys[index] = null;
+			values[index] = missingValue;
+			--size;
+			compactChain(index);
+		}
+		
+		return newValue;
+	}
+	
+	public long merge(final K key, final long value, final LongLongFunction remappingFunction) {
+		requireNonNull(key);
+		requireNonNull(remappingFunction);
+		final long missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		final long newValue = missingValue == oldValue ? value : remappingFunction.apply(oldValue, value);
+		if (missingValue != newValue) {
+			keys[index] = key;
+			values[index] = value;
+			if (missingValue == oldValue) {
+				keys[index] = key;
+				++size;
+				increaseCapacity();
+			}
+		} else {
+			keys[index] = null;
+			values[index] = missingValue;
+			--size;
+			compactChain(index);
+		}
+		
+		return newValue;
+	}
+	
+	public Long put(final K key, final Long value) {
+		return valueOrNull(put(key, (long) value));
+	}
+	
+	public long put(final K key, final long value) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final long[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final long oldValue = rehashValues[index];
+					rehashValues[index] = value;
+					return oldValue;
+				}
+			}
+		}
+		
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long oldValue;
+		while (missingValue != (oldValue = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		if (missingValue == oldValue) {
+			++size;
+			keys[index] = key;
+		}
+		
+		values[index] = value;
+		
+		increaseCapacity();
+		
+		return oldValue;
+	}
+	
+	public Long putIfAbsent(final K key, final Long value) {
+		return valueOrNull(putIfAbsent(key, (long) value));
+	}
+	
+	public long putIfAbsent(final K key, final long value) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+	
+		long oldValue;
+		while (missingValue != (oldValue = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				return oldValue;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		keys[index] = key;
+		values[index] = value;
+		
+		++size;
+		increaseCapacity();
+		
+		return missingValue;
+	}
+	
+	public boolean remove(final Object key, final Object value) {
+		return remove(key, (long)value);
+	}
+	
+	public boolean remove(final Object key, final long value) {
+		final long missingValue = this.missingValue;
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long existingValue;
+		while (missingValue != (existingValue = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				if (value == existingValue) {
+					keys[index] = null;
+					values[index] = missingValue;
+					--size;
+					
+					compactChain(index);
+					return true;
+				}
+				
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return false;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public Long remove(final Object key) {
+		return valueOrNull(removeKey((K)key));
+	}
+	
+	public long removeKey(final K key) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		if (null != rehashValues) {
+			rehashStep(rehashSlotsPerOperation);
+			final long[] rehashValues = this.rehashValues;
+			if (null != rehashValues) {
+				@DoNotSub final int index = index(rehashKeys, rehashValues, key);
+				if (NONE != index) {
+					final long oldValue = rehashValues[index];
+					rehashKeys[index] = null;
+					rehashValues[index] = missingValue;
+					--size;
+					compactChain(rehashKeys, rehashValues, index);
+					return oldValue;
+				}
+			}
+		}
+		
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long value;
+		while (missingValue != (value = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				keys[index] = null;
+				values[index] = missingValue;
+				--size;
+				
+				compactChain(index);
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return value;
+	}
+	
+	public void clear() {
+		rehashKeys = null;
+		rehashValues = null;
+		if (size > 0) {
+			Arrays.fill(keys, null);
+			Arrays.fill(values, missingValue);
+			size = 0;
+		}
+	}
+	
+	/**
+	 * Resize to the smallest capacity which holds the entries within the load factor and leaves a free slot, which is
+	 * done incrementally if opted in with {@link #incrementalRehash}.
+	 */
+	public void compact() {
+		@DoNotSub final int idealCapacity = (int)Math.ceil(size() / (double)loadFactor) + 1;
+		@DoNotSub final int newCapacity = findNextPositivePowerOfTwo(Math.max(MIN_CAPACITY, idealCapacity));
+		if (0 != rehashSlotsPerOperation) {
+			startRehash(newCapacity);
+		}
+		else {
+			rehash(newCapacity);
+		}
+	}
+	
+	public void putAll(final Map<? extends K, ? extends Long> map) {
+		for (final Entry<? extends K, ? extends Long> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	public void putAll(final Object2LongHashMap<? extends K>  map) {
+		final long missingValue = map.missingValue;
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int length = values.length;
+		for (@DoNotSub int index = 0, remaining = map.size; remaining > 0 && index < length; index ++) {
+			final long value = values[index];
+			if (missingValue != value) {
+				put(keys[index], value);
+				remaining--;
+			}
+		}
+	}
+	
+	public KeySet keySet() {
+		if (null == keySet) {
+			keySet = new KeySet();
+		}
+		
+		return keySet;
+	}
+	
+	public ValueCollection valueCollection() {
+		if (null == valueCollection) {
+			valueCollection = new ValueCollection();
+		}
+		
+		return valueCollection;
+	}
+	
+	public EntrySet entrySet() {
+		if (null == entrySet) {
+			entrySet = new EntrySet();
+		}
+		
+		return entrySet;
+	}
+	
+	public String toString() {
+		if (isEmpty()) {
+			return "{}";
+		}
+		
+		final EntryIterator entryIterator = new EntryIterator();
+		entryIterator.reset();
+		
+		final StringBuilder sb = new StringBuilder().append('{');
+		while (true) {
+			entryIterator.next();
+			sb.append(entryIterator.getKey()).append('=').append(entryIterator.getLongValue());
+			if (!entryIterator.hasNext()) {
+				return sb.append('}').toString();
+			}
+			sb.append(',').append(' ');
+		}
+	}
+	
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		
+		if (!(o instanceof Map)) {
+			return false;
+		}
+		
+		final Map<?, ?> that = (Map<?, ?>)o;
+		
+		if (size != that.size()) {
+			return false;
+		}
+		
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		final long missingValue = this.missingValue;
+		final long thatMissingValue = o instanceof Object2LongHashMap ? ((Object2LongHashMap<?>)o).missingValue : missingValue;
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final long thisValue = values[i];
+			if (missingValue !=  thisValue) {
+				final Object thatValueObject = that.get(keys[i]);
+				if (!(thatValueObject instanceof Long)) {
+					return false;
+				}
+				
+				final long thatValue = (Long) thatValueObject;
+				if (thatMissingValue == thatValue || thisValue != thatValue) {
+					return false;
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	public @DoNotSub int hashCode() {
+		@DoNotSub int result = 0;
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		for (@DoNotSub int i = 0, length = values.length; i < length; i++) {
+			final long value = values[i];
+			if (missingValue != value) {
+				result += (keys[i].hashCode() ^ Long.hashCode(value));
+			}
+		}
+		
+		return result;
+	}
+	
+	public long replace(final K key, final long value) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		if (missingValue == value) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long existingValue;
+		while (missingValue != (existingValue = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				values[index] = value;
+				return existingValue;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return missingValue;
+	}
+	
+	public boolean replace(final K key, final long oldValue, final long newValue) {
+		requireNonNull(key);
+		final long missingValue = this.missingValue;
+		if (missingValue == newValue) {
+			throw new IllegalArgumentException("cannot accept missingValue");
+		}
+		
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		long existingValue;
+		while (missingValue != (existingValue = values[index])) {
+			if (Objects.equals(keys[index], key)) {
+				if (oldValue == existingValue) {
+					values[index] = newValue;
+					return true;
+				}
+				
+				break;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return false;
+	}
+	
+	public void replaceAllLong(final ObjectLongToLongFunction<? super K> function) {
+		requireNonNull(function);
+		final long missingValue = this.missingValue;
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int length = values.length;
+		
+		for (@DoNotSub int index = 0, remaining = size; remaining > 0 && index < length; index++) {
+			final long oldValue = values[index];
+			if (missingValue != oldValue) {
+				final long newVal = function.apply(keys[index], oldValue);
+				if (missingValue == newVal) {
+					throw new IllegalArgumentException("cannot except missingValue");
+				}
+				values[index] = newVal;
+				--remaining;
+			}
+		}
+	}
+	
+	public void forEach(final BiConsumer<? super K, ? super Long> action) {
+		forEachLong(action::accept);
+	}
+	
+	public void forEachLong(final ObjLongConsumer<? super K> action) {
+		requireNonNull(action);
+		final long missingValue = this.missingValue;
+		completeRehash();
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		@DoNotSub final int length = values.length;
+		
+		for (@DoNotSub int index = 0, remaining = size; remaining > 0 && index < length; index++) {
+			final long oldValue = values[index];
+			if (missingValue != oldValue) {
+				action.accept(keys[index], oldValue);
+				--remaining;
+			}
+		}
+	}
+	
+	public void increaseCapacity() {
+		if (size > resizeThreshold) {
+			@DoNotSub final int newCapacity = values.length << 1;
+			if (newCapacity < 0) {
+				throw new IllegalStateException("max capacity reached at size=" + size);
+			}
+			
+			if (0 != rehashSlotsPerOperation) {
+				startRehash(newCapacity);
+			}
+			else {
+				rehash(newCapacity);
+			}
+		}
+	}
+	
+	public void rehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		@DoNotSub final int mask = newCapacity - 1;
+		resizeThreshold = (int) (newCapacity * loadFactor); // @DoNotSub
+		
+		@SuppressWarnings("unchecked")
+		final K[] tempKeys = (K[]) new Object[newCapacity];
+		final long[] tempValues = new long[newCapacity];
+		Arrays.fill(tempValues, missingValue);
+	
+		final K[] keys = this.keys;
+		final long[] values = this.values;
+		
+		for (@DoNotSub int i = 0, size = values.length; i < size; i++) {
+			final long value = values[i];
+			if (missingValue != value) {
+				final K key = keys[i];
+				@DoNotSub int index = Hashing.hash(key, mask);
+				while (missingValue != tempValues[index]) {
+					index = ++index & mask;
+				}
+				
+				tempKeys[index] = key;
+				tempValues[index] = value;
+			}
+		}
+		
+		this.keys = tempKeys;
+		this.values = tempValues;
+	}
+	
+	/**
+	 * Move the entries to a new table which later puts and removes migrate them to, starting from an empty slot so
+	 * that each cluster of the old table is migrated whole and the probe chains left in it stay intact. An old table
+	 * with no empty slot, which a small capacity at a high load factor can leave, is migrated at once.
+	 */
+	@SuppressWarnings("unchecked")
+	private void startRehash(@DoNotSub final int newCapacity) {
+		completeRehash();
+		final long missingValue = this.missingValue;
+		final long[] oldValues = values;
+		
+		rehashKeys = keys;
+		rehashValues = oldValues;
+		resizeThreshold = (int)(newCapacity * loadFactor); // @DoNotSub
+		keys = (K[])new Object[newCapacity];
+		values = new long[newCapacity];
+		Arrays.fill(values, missingValue);
+		
+		@DoNotSub final int length = oldValues.length;
+		@DoNotSub int index = 0;
+		while (index < length && missingValue != oldValues[index]) {
+			index++;
+		}
+		
+		rehashIndex = index & (length - 1);
+		rehashRemaining = length;
+		
+		if (index == length) {
+			completeRehash();
+		}
+	}
+	
+	/**
+	 * Migrate at least the given number of slots from the old table, continuing to the end of a cluster so the
+	 * migration always stops at an empty slot.
+	 */
+	private void rehashStep(@DoNotSub final int slots) {
+		final long missingValue = this.missingValue;
+		final K[] oldKeys = rehashKeys;
+		final long[] oldValues = rehashValues;
+		final K[] newKeys = keys;
+		final long[] newValues = values;
+		@DoNotSub final int oldMask = oldValues.length - 1;
+		@DoNotSub final int newMask = newValues.length - 1;
+		@DoNotSub int index = rehashIndex;
+		@DoNotSub int remaining = rehashRemaining;
+		@DoNotSub int budget = slots;
+		
+		while (remaining > 0) {
+			final long value = oldValues[index];
+			if (missingValue != value) {
+				final K key = oldKeys[index];
+				@DoNotSub int newIndex = Hashing.hash(key, newMask);
+				while (missingValue != newValues[newIndex]) {
+					newIndex = ++newIndex & newMask;
+				}
+				
+				newKeys[newIndex] = key;
+				newValues[newIndex] = value;
+				oldKeys[index] = null;
+				oldValues[index] = missingValue;
+			}
+			else if (budget <= 0) {
+				break;
+			}
+			
+			index = ++index & oldMask;
+			remaining--;
+			budget--;
+		}
+		
+		if (0 == remaining) {
+			rehashKeys = null;
+			rehashValues = null;
+		}
+		else {
+			rehashIndex = index;
+			rehashRemaining = remaining;
+		}
+	}
+	
+	private @DoNotSub int index(
+		final K[] keys,
+		final long[] values,
+		final K key) {
+		final long missingValue = this.missingValue;
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = Hashing.hash(key, mask);
+		
+		while (missingValue != values[index]) {
+			if (Objects.equals(keys[index], key)) {
+				return index;
+			}
+			
+			index = ++index & mask;
+		}
+		
+		return NONE;
+	}
+	
+	private void compactChain(@DoNotSub final int deleteIndex) {
+		compactChain(keys, values, deleteIndex);
+	}
+	
+	@SuppressWarnings("FinalParameters")
+	private void compactChain(
+		final K[] keys,
+		final long[] values,
+		@DoNotSub int deleteIndex) {
+		@DoNotSub final int mask = values.length - 1;
+		@DoNotSub int index = deleteIndex;
+		
+		while (true) {
+			index = ++index & mask;
+			final long value = values[index];
+			if (missingValue == value) {
+				break;
+			}
+			
+			final K key = keys[index];
+			@DoNotSub final int hash = Hashing.hash(key, mask);
+			
+			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
+					(hash <= deleteIndex && deleteIndex <= index)) {
+				keys[deleteIndex] = key;
+				values[deleteIndex] = value;
+				
+				keys[index] = null;
+				values[index] = missingValue;
+				deleteIndex = index;
+			}
+		}
+	}
+	
+	private Long valueOrNull(final long value) {
+		return value == missingValue ? null : value;
+	}
+	
+	public final class KeySet extends AbstractSet<K> {
+		private final KeyIterator keyIterator = shouldAvoidAllocation ? new KeyIterator() : null;
+		
+		public KeySet() {
+			
+		}
+		
+		public KeyIterator iterator() {
+			KeyIterator keyIterator = this.keyIterator;
+			if (keyIterator == null) {
+				keyIterator = new KeyIterator();
+			}
+			
+			keyIterator.reset();
+			return keyIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Object2LongHashMap.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return Object2LongHashMap.this.containsKey(o);
+		}
+		
+		@SuppressWarnings("unchecked")
+		public boolean remove(final Object o) {
+			return missingValue != Object2LongHashMap.this.removeKey((K) o);
+		}
+		
+		public void clear() {
+			Object2LongHashMap.this.clear();
+		}
+	}
+	
+	public final class ValueCollection extends AbstractCollection<Long> {
+		private final ValueIterator valueIterator = shouldAvoidAllocation ? new ValueIterator() : null;
+		
+		public ValueCollection() {
+			
+		}
+		
+		public ValueIterator iterator() {
+			ValueIterator valueIterator = this.valueIterator;
+			
+			if (null == valueIterator) {
+				valueIterator = new ValueIterator();
+			}
+			
+			valueIterator.reset();
+			return valueIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Object2LongHashMap.this.size();
+		}
+		
+		public boolean contains(final Object o) {
+			return containsValue(o);
+		}
+		
+		public boolean contains(final long value) {
+			return containsValue(value);
+		}
+		
+		public void clear() {
+			Object2LongHashMap.this.clear();
+		}
+		
+		public boolean removeIfLong(final LongPredicate filter) {
+			boolean removed = false;
+			final ValueIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				if (filter.test(iterator.nextLong())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			
+			return removed;
+		}
+	}
+	
+	public final class EntrySet extends AbstractSet<Map.Entry<K, Long>> {
+		private final EntryIterator entryIterator = shouldAvoidAllocation ? new EntryIterator() : null;
+		
+		public EntrySet() {
+			
+		}
+		
+		public EntryIterator iterator() {
+			EntryIterator entryIterator = this.entryIterator;
+			if (null == entryIterator) {
+				entryIterator = new EntryIterator();
+			}
+			
+			entryIterator.reset();
+			return entryIterator;
+		}
+		
+		public @DoNotSub int size() {
+			return Object2LongHashMap.this.size();
+		}
+		
+		public void clear() {
+			Object2LongHashMap.this.clear();
+		}
+		
+		public boolean contains(final Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			
+			@SuppressWarnings("rawtypes")
+			final Entry entry = (Entry)o;
+			final Long value = get(entry.getKey());
+			
+			return value != null && value.equals(entry.getValue());
+		}
+		
+		public boolean removeIfLong(final ObjLongPredicate<? super K> filter) {
+			boolean removed = false;
+			final EntryIterator iterator = iterator();
+			while (iterator.hasNext()) {
+				iterator.findNext();
+				if (filter.test(iterator.getKey(), iterator.getLongValue())) {
+					iterator.remove();
+					removed = true;
+				}
+			}
+			
+			return removed;
+		}
+		
+		public Object[] toArray() {
+			return toArray(new Object[size()]);
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <T> T[] toArray(final T[] a) {
+			final T[] array = a.length >= size ? 
+					a : (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+			final EntryIterator it = iterator();
+			
+			for (@DoNotSub int i = 0; i < array.length; i++) {
+				if (it.hasNext()) {
+					it.next();
+					array[i] = (T) it.allocateDuplicateEntry();
+				} else {
+					array[i] = null;
+					break;
+				}
+			}
+			
+			return array;
+		}
+	}
+	
+	abstract class AbstractIterator<T> implements Iterator<T> {
+		private @DoNotSub int posCounter;
+		private @DoNotSub int stopCounter;
+		private @DoNotSub int remaining;
+		private boolean isPositionValid = false;
+	
+		protected @DoNotSub final int position() {
+			return posCounter & (values.length - 1);
+		}
+		
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+		
+		protected final void findNext() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			
+			final long missingValue = Object2LongHashMap.this.missingValue;
+			final long[] values = Object2LongHashMap.this.values;
+			@DoNotSub final int mask = values.length - 1;
+			
+			for (@DoNotSub int i = posCounter - 1; i >= stopCounter; i--) {
+				@DoNotSub final int index = i & mask;
+				if (missingValue != values[index]) {
+					posCounter = i;
+					isPositionValid = true;
+					--remaining;
+					
+					return;
+				}
+			}
+			
+			isPositionValid = false;
+			throw new IllegalStateException();
+		}
+		
+		public abstract T next();
+		
+		public void remove() {
+			if (isPositionValid) {
+				@DoNotSub final int position = position();
+				values[position] = missingValue;
+				keys[position] = null;
+				--size;
+				
+				compactChain(position);
+				
+				isPositionValid = false;
+			} else {
+				throw new IllegalStateException();
+			}
+		}
+		
+		final void reset() {
+			completeRehash();
+			remaining = Object2LongHashMap.this.size;
+			final long[] values = Object2LongHashMap.this.values;
+			@DoNotSub final int capacity = values.length;
+			
+			@DoNotSub int i = capacity;
+			if (missingValue != values[capacity - 1]) {
+				for (i = 0; i < capacity; i++) {
+					if (missingValue == values[i]) {
+						break;
+					}
+				}
+			}
+			
+			stopCounter = i;
+			posCounter = i + capacity;
+			isPositionValid = false;
+		}
+	}
+	
+	public final class ValueIterator extends AbstractIterator<Long> {
+		public ValueIterator() {
+			
+		}
+		
+		public Long next() {
+			return nextLong();
+		}
+		
+		public long nextLong() {
+			findNext();
+			return values[position()];
+		}
+	}
+	
+	public final class KeyIterator extends AbstractIterator<K> {
+		public KeyIterator() {
+			
+		}
+		
+		public K next() {
+			findNext();
+			return keys[position()];
+		}
+	}
+	
+	public final class EntryIterator 
+		extends AbstractIterator<Entry<K, Long>> 
+		implements Entry<K, Long> {
+		
+		public EntryIterator() {
+			
+		}
+		
+		public Entry<K, Long> next() {
+			findNext();
+			if (shouldAvoidAllocation) {
+				return this;
+			}
+			
+			return allocateDuplicateEntry();
+		}
+		
+		private Entry<K, Long> allocateDuplicateEntry() {
+			return new MapEntry(getKey(), getLongValue());
+		}
+		
+		public K getKey() {
+			return keys[position()];
+		}
+		
+		public long getLongValue() {
+			return values[position()];
+		}
+		
+		public Long getValue() {
+			return getLongValue();
+		}
+		
+		public Long setValue(final Long value) {
+			return setValue((long) value);
+		}
+		
+		public long setValue(final long value) {
+			if (missingValue == value) {
+				throw new IllegalArgumentException("cannot accept missingValue");
+			}
+			
+			@DoNotSub final int pos = position();
+			final long oldValue = values[pos];
+			values[pos] = value;
+			
+			return oldValue;
+		}
+		
+		public @DoNotSub int hashCode() {
+			return getKey().hashCode() ^ Long.hashCode(getLongValue());
+		}
+		
+		public boolean equals(final Object o) {
+			if (o == this) {
+				return true;
+			}
+			
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			
+			final Entry<?, ?> e = (Entry<?, ?>) o;
+			return Objects.equals(getKey(), e.getKey()) && 
+					e.getValue() instanceof Long && 
+					getLongValue() == (Long)e.getValue();
+		}
+		
+		public final class MapEntry implements Entry<K, Long> {
+			private final K k;
+			private long v;
+			
+			public MapEntry(final K k, final long v) {
+				this.k = k;
+				this.v = v;
+			}
+			
+			public K getKey() {
+				return k;
+			}
+			
+			public Long getValue() {
+				return v;
+			}
+			
+			public Long setValue(final Long value) {
+				final Long oldValue = Object2LongHashMap.this.put(k, value);
+				v = value;
+				return oldValue;
+			}
+			
+			public @DoNotSub int hashCode() {
+				return getKey().hashCode() ^ Long.hashCode(v);
+			}
+			
+			public boolean equals(final Object o) {
+				if (this == o) {
+					return true;
+				}
+				
+				if (!(o instanceof Entry)) {
+					return false;
+				}
+				
+				final Entry<?, ?> e = (Entry<?, ?>)o;
+				
+				return Objects.equals(getKey(), e.getKey()) &&
+					e.getValue() instanceof Long &&
+					v == (Long) e.getValue();
+ 			}
+			
+			public String toString() {
+				return k + "=" + v;
+			}
+		}
+	}
+}
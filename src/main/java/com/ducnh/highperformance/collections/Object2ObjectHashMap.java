@@ -26,6 +26,7 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 	private final boolean shouldAvoidAllocation;
 	
 	private Object[] entries;
+	private byte[] controls;
 	private KeySet keySet;
 	private ValueCollection valueCollection;
 	private EntrySet entrySet;
@@ -54,6 +55,7 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 		this.shouldAvoidAllocation = mapToCopy.shouldAvoidAllocation;
 		
 		entries = mapToCopy.entries.clone();
+		controls = mapToCopy.controls.clone();
 	}
 	
 	public float loadFactor() {
@@ -84,50 +86,66 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 	private V getMapped(final Object key) {
 		requireNonNull(key);
 		
+		final int keyIndex = probe(key, Hashing.hash(key.hashCode()));
+		return keyIndex >= 0 ? (V)entries[keyIndex + 1] : null;
+	}
+	
+	/**
+	 * Find a key by scanning a group of control bytes at a time, so equals is only called on slots whose hash tag
+	 * matches.
+	 * @return index of the key in entries, or the complement of the index at which it would be inserted.
+	 */
+	private int probe(final Object key, final int hash) {
 		final Object[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key.hashCode(), mask);
+		final byte[] controls = this.controls;
+		final int mask = (entries.length >> 1) - 1;
+		final long tag = ControlBytes.broadcast(ControlBytes.tag(hash));
+		int index = hash & mask;
 		
-		Object value;
-		while (null != (value = entries[keyIndex + 1])) {
-			if (Objects.equals(entries[keyIndex], key)) {
-				break;
+		while (true) {
+			final long group = ControlBytes.group(controls, index);
+			for (long matches = ControlBytes.matchTag(group, tag); 0 != matches; matches &= matches - 1) {
+				final int keyIndex = ((index + ControlBytes.firstOffset(matches)) & mask) << 1;
+				if (Objects.equals(entries[keyIndex], key)) {
+					return keyIndex;
+				}
 			}
 			
-			keyIndex = next(keyIndex, mask);
+			final long empty = ControlBytes.matchEmpty(group);
+			if (0 != empty) {
+				return ~(((index + ControlBytes.firstOffset(empty)) & mask) << 1);
+			}
+			
+			index = (index + ControlBytes.GROUP_WIDTH) & mask;
 		}
-		
-		return (V)value;
 	}
 	
 	public V put(final K key, final V value) {
 		final Object val = mapNullValue(value);
 		requireNonNull(val, "value cannot be null");
 		
-		final Object[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key.hashCode(), mask);
-		
-		Object oldValue;
+		final int hash = Hashing.hash(key.hashCode());
+		final int keyIndex = probe(key, hash);
 		
-		while(null != (oldValue = entries[keyIndex + 1])) {
-			if (Objects.equals(entries[keyIndex], key)) {
-				break;
-			}
-			
-			keyIndex = next(keyIndex, mask);
+		Object oldValue = null;
+		if (keyIndex >= 0) {
+			oldValue = entries[keyIndex + 1];
+			entries[keyIndex + 1] = val;
 		}
-		
-		if (null == oldValue) {
-			++size;
-			entries[keyIndex] = key;
+		else {
+			insert(~keyIndex, hash, key, val);
 		}
 		
-		entries[keyIndex + 1] = val;
+		return unmapNullValue(oldValue);
+	}
+	
+	private void insert(final int keyIndex, final int hash, final Object key, final Object value) {
+		entries[keyIndex] = key;
+		entries[keyIndex + 1] = value;
+		ControlBytes.set(controls, keyIndex >> 1, ControlBytes.tag(hash));
+		++size;
 		
 		increaseCapacity();
-		
-		return unmapNullValue(oldValue);
 	}
 	
 	private void increaseCapacity() {
@@ -144,20 +162,19 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 		capacity(newCapacity);
 		
 		final Object[] newEntries = entries;
-		final int mask = entries.length - 1;
+		final byte[] newControls = controls;
+		final int mask = (newEntries.length >> 1) - 1;
 		
 		for (int keyIndex = 0; keyIndex < length; keyIndex += 2) {
 			final Object value = oldEntries[keyIndex + 1];
 			if (null != value) {
 				final Object key = oldEntries[keyIndex];
-				int index  = Hashing.evenHash(key.hashCode(), mask);
-				
-				while (null != newEntries[index + 1]) {
-					index = next(index, mask);
-				}
+				final int hash = Hashing.hash(key.hashCode());
+				final int index = ControlBytes.findEmpty(newControls, hash, mask);
 				
-				newEntries[index] = key;
-				newEntries[index + 1] = value;
+				newEntries[index << 1] = key;
+				newEntries[(index << 1) + 1] = value;
+				ControlBytes.set(newControls, index, ControlBytes.tag(hash));
 			}
 		}
 	}
@@ -184,6 +201,7 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 	public void clear() {
 		if (size > 0) {
 			Arrays.fill(entries, null);
+			ControlBytes.clear(controls);
 			size = 0;
 		}
 	}
@@ -242,32 +260,32 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 	}
 	
 	public V remove(final Object key) {
-		final Object[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key.hashCode(), mask);
+		final int keyIndex = probe(key, Hashing.hash(key.hashCode()));
 		
-		Object value;
-		while (null != (value = entries[keyIndex + 1])) {
-			if (Objects.equals(entries[keyIndex], key)) {
-				entries[keyIndex] = null;
-				entries[keyIndex + 1] = null;
-				size--;
-				
-				compactChain(keyIndex);
-				break;
-			}
-			
-			keyIndex = next(keyIndex, mask);
+		Object value = null;
+		if (keyIndex >= 0) {
+			value = entries[keyIndex + 1];
+			removeAt(keyIndex);
 		}
 		
 		return unmapNullValue(value);
 	}
 	
+	private void removeAt(final int keyIndex) {
+		entries[keyIndex] = null;
+		entries[keyIndex + 1] = null;
+		size--;
+		
+		compactChain(keyIndex);
+	}
+	
 	@SuppressWarnings("FinalParameters")
 	private void compactChain(int deleteKeyIndex) {
 		final Object[] entries = this.entries;
+		final byte[] controls = this.controls;
 		final int mask = entries.length - 1;
 		int keyIndex = deleteKeyIndex;
+		ControlBytes.set(controls, deleteKeyIndex >> 1, ControlBytes.EMPTY);
 		
 		while (true) {
 			keyIndex = next(keyIndex, mask);
@@ -277,7 +295,7 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 			}
 			
 			final Object key = entries[keyIndex];
-			final int hash = Hashing.evenHash(key.hashCode(), mask);
+			final int hash = (Hashing.hash(key.hashCode()) << 1) & mask;
 			
 			if ((keyIndex < hash && (hash <= deleteKeyIndex || deleteKeyIndex <= keyIndex)) || 
 					(hash <= deleteKeyIndex && deleteKeyIndex <= keyIndex)) {
@@ -285,6 +303,8 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 				entries[deleteKeyIndex + 1] = value;
 				entries[keyIndex] = null;
 				entries[keyIndex + 1] = null;
+				ControlBytes.set(controls, deleteKeyIndex >> 1, controls[keyIndex >> 1]);
+				ControlBytes.set(controls, keyIndex >> 1, ControlBytes.EMPTY);
 				deleteKeyIndex = keyIndex;
 			}
 		}
@@ -330,26 +350,16 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 	}
 	
 	public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
-		final Object[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key.hashCode(), mask);
-		
-		Object mappedValue;
-		while (null != (mappedValue = entries[keyIndex + 1])) {
-			if (Objects.equals(entries[keyIndex], key)) {
-				break;
-			}
-			
-			keyIndex = next(keyIndex, mask);
-		}
+		final int hash = Hashing.hash(key.hashCode());
+		final int keyIndex = probe(key, hash);
 		
-		V value = unmapNullValue(mappedValue);
+		V value = keyIndex >= 0 ? unmapNullValue(entries[keyIndex + 1]) : null;
 		if (value == null && (value = mappingFunction.apply(key)) != null) {
-			entries[keyIndex + 1] = value;
-			if (mappedValue == null) {
-				entries[keyIndex] = key;
-				++size;
-				increaseCapacity();
+			if (keyIndex >= 0) {
+				entries[keyIndex + 1] = value;
+			}
+			else {
+				insert(~keyIndex, hash, key, value);
 			}
 		}
 		
@@ -358,27 +368,16 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 	
 	@Override
 	public V computeIfPresent(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
-		final Object[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key.hashCode(), mask);
-		
-		Object mappedValue;
-		while (null != (mappedValue = entries[keyIndex + 1])) {
-			if (Objects.equals(entries[keyIndex], key)) {
-				break;
-			}
-			
-			keyIndex = next(keyIndex, mask);
-		}
+		final int keyIndex = probe(key, Hashing.hash(key.hashCode()));
 		
-		V value = unmapNullValue(mappedValue);
+		V value = keyIndex >= 0 ? unmapNullValue(entries[keyIndex + 1]) : null;
 		if (value != null) {
 			value = remappingFunction.apply(key, value);
-			entries[keyIndex + 1] = value;
-			if (value == null) {
-				entries[keyIndex] = null;
-				size--;
-				compactChain(keyIndex);
+			if (value != null) {
+				entries[keyIndex + 1] = value;
+			}
+			else {
+				removeAt(keyIndex);
 			}
 		}
 		
@@ -387,34 +386,21 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 	
 	@Override
 	public V compute(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
-		final Object[] entries = this.entries;
-		final int mask = entries.length - 1;
-		int keyIndex = Hashing.evenHash(key.hashCode(), mask);
+		final int hash = Hashing.hash(key.hashCode());
+		final int keyIndex = probe(key, hash);
 		
-		Object mappedValue;
-		while (null != (mappedValue = entries[keyIndex + 1])) {
-			if (Objects.equals(entries[keyIndex], key)) {
-				break;
-			}
-			
-			keyIndex = next(keyIndex, mask);
-		}
-		
-		final V oldValue = unmapNullValue(mappedValue);
+		final V oldValue = keyIndex >= 0 ? unmapNullValue(entries[keyIndex + 1]) : null;
 		final V newValue = remappingFunction.apply(key, oldValue);
 		
 		if (newValue != null) {
-			entries[keyIndex + 1] = newValue;
-			if (mappedValue == null) {
-				entries[keyIndex] = key;
-				size++;
-				increaseCapacity();
+			if (keyIndex >= 0) {
+				entries[keyIndex + 1] = newValue;
+			}
+			else {
+				insert(~keyIndex, hash, key, newValue);
 			}
-		} else if (mappedValue != null) {
-			entries[keyIndex] = null;
-			entries[keyIndex + 1] = null;
-			size--;
-			compactChain(keyIndex);
+		} else if (keyIndex >= 0) {
+			removeAt(keyIndex);
 		}
 		
 		return newValue;
@@ -441,6 +427,7 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 		
 		resizeThreshold = (int) (newCapacity * loadFactor);
 		entries = new Object[entriesLength];
+		controls = ControlBytes.allocate(newCapacity);
 	}
 	
 	abstract class AbstractIterator {
@@ -506,13 +493,7 @@ public class Object2ObjectHashMap<K, V> implements Map<K, V> {
 		
 		public void remove() {
 			if (isPositionValid) {
-				final int position = keyPosition();
-				final Object[] entries = Object2ObjectHashMap.this.entries;
-				entries[position] = null;
-				entries[position + 1] = null;
-				--size;
-				
-				compactChain(position);
+				removeAt(keyPosition());
 				isPositionValid = false;
 			}
 			else {
@@ -25,6 +25,7 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 	private int size;
 	
 	private T[] values;
+	private byte[] controls;
 	private ObjectIterator iterator;
 	private IntConsumer resizeNotifier;
 	
@@ -51,6 +52,7 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 		final int capacity = findNextPositivePowerOfTwo(Math.max(DEFAULT_INITIAL_CAPACITY, proposedCapacity));
 		resizeThreshold = (int) (capacity * loadFactor);
 		values = (T[]) new Object[capacity];
+		controls = ControlBytes.allocate(capacity);
 	}
 	
 	public float loadFactor() {
@@ -71,18 +73,14 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 	
 	public boolean add(final T value) {
 		Objects.requireNonNull(value);
-		final int mask = values.length - 1;
-		int index = Hashing.hash(value.hashCode(), mask);
-		
-		while (values[index] != MISSING_VALUE) {
-			if (values[index].equals(value)) {
-				return false;
-			}
-			
-			index = next(index, mask);
+		final int hash = Hashing.hash(value.hashCode());
+		final int index = probe(value, hash);
+		if (index >= 0) {
+			return false;
 		}
 		
-		values[index] = value;
+		values[~index] = value;
+		ControlBytes.set(controls, ~index, ControlBytes.tag(hash));
 		size++;
 		
 		if (size > resizeThreshold) {
@@ -95,6 +93,36 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 		return true;
 	}
 	
+	/**
+	 * Find a value by scanning a group of control bytes at a time, so equals is only called on slots whose hash tag
+	 * matches.
+	 * @return index of the value, or the complement of the index at which it would be inserted.
+	 */
+	private int probe(final Object value, final int hash) {
+		final T[] values = this.values;
+		final byte[] controls = this.controls;
+		final int mask = values.length - 1;
+		final long tag = ControlBytes.broadcast(ControlBytes.tag(hash));
+		int index = hash & mask;
+		
+		while (true) {
+			final long group = ControlBytes.group(controls, index);
+			for (long matches = ControlBytes.matchTag(group, tag); 0 != matches; matches &= matches - 1) {
+				final int candidate = (index + ControlBytes.firstOffset(matches)) & mask;
+				if (value == values[candidate] || values[candidate].equals(value)) {
+					return candidate;
+				}
+			}
+			
+			final long empty = ControlBytes.matchEmpty(group);
+			if (0 != empty) {
+				return ~((index + ControlBytes.firstOffset(empty)) & mask);
+			}
+			
+			index = (index + ControlBytes.GROUP_WIDTH) & mask;
+		}
+	}
+	
 	private void increaseCapacity() {
 		final int newCapacity = values.length << 1;
 		if (newCapacity < 0) {
@@ -110,36 +138,30 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 		resizeThreshold = (int) (newCapacity * loadFactor);
 		
 		final T[] tempValues = (T[]) new Object[newCapacity];
-		Arrays.fill(tempValues, MISSING_VALUE);
+		final byte[] tempControls = ControlBytes.allocate(newCapacity);
 		
 		for (final T value : values) {
 			if (value != MISSING_VALUE) {
-				int newHash = Hashing.hash(value.hashCode(), mask);
-				while (tempValues[newHash] != MISSING_VALUE) {
-					newHash = ++newHash & mask;
-				}
+				final int hash = Hashing.hash(value.hashCode());
+				final int index = ControlBytes.findEmpty(tempControls, hash, mask);
 				
-				tempValues[newHash] = value;
+				tempValues[index] = value;
+				ControlBytes.set(tempControls, index, ControlBytes.tag(hash));
 			}
 		}
 		
 		values = tempValues;
+		controls = tempControls;
 	}
 	
 	public boolean remove(final Object value) {
 		final Object[] values = this.values;
-		final int mask = values.length - 1;
-		int index = Hashing.hash(value.hashCode(), mask);
-		
-		while (values[index] !=  MISSING_VALUE) {
-			if (values[index].equals(value)) {
-				values[index] = MISSING_VALUE;
-				compactChain(index);
-				size--;
-				return true;
-			}
-			
-			index = next(index, mask);
+		final int index = probe(value, Hashing.hash(value.hashCode()));
+		if (index >= 0) {
+			values[index] = MISSING_VALUE;
+			compactChain(index);
+			size--;
+			return true;
 		}
 		
 		return false;
@@ -152,8 +174,10 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 	@SuppressWarnings("FinalParameters")
 	void compactChain(int deleteIndex) {
 		final Object[] values = this.values;
+		final byte[] controls = this.controls;
 		final int mask = values.length - 1;
-	
+		ControlBytes.set(controls, deleteIndex, ControlBytes.EMPTY);
+		
 		int index = deleteIndex;
 		while (true) {
 			index = next(index, mask);
@@ -166,8 +190,10 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 			if ((index < hash && (hash <= deleteIndex || deleteIndex <= index)) || 
 					(hash <= deleteIndex && deleteIndex <= index)) {
 				values[deleteIndex] = values[index];
+				ControlBytes.set(controls, deleteIndex, controls[index]);
 				
 				values[index] = MISSING_VALUE;
+				ControlBytes.set(controls, index, ControlBytes.EMPTY);
 				deleteIndex = index;
 			}
 			
@@ -180,18 +206,7 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 	}
 	
 	public boolean contains(final Object value) {
-		final int mask = values.length - 1;
-		int index = Hashing.hash(value.hashCode(), mask);
-		
-		while (values[index] != MISSING_VALUE) {
-			if (value == values[index] || values[index].equals(value)) {
-				return true;
-			}
-			
-			index = next(index, mask);
-		}
-		
-		return false;
+		return probe(value, Hashing.hash(value.hashCode())) >= 0;
 	}
 	
 	public int size() {
@@ -205,6 +220,7 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 	public void clear() {
 		if (size > 0) {
 			Arrays.fill(values, MISSING_VALUE);
+			ControlBytes.clear(controls);
 			size = 0;
 		} 
 	}
@@ -296,6 +312,7 @@ public class ObjectHashSet<T> extends AbstractSet<T> {
 		}
 		
 		System.arraycopy(that.values, 0, this.values, 0, this.values.length);
+		System.arraycopy(that.controls, 0, this.controls, 0, this.controls.length);
 		this.size = that.size;
 	}
 	
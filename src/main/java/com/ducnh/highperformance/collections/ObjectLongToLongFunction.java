@@ -0,0 +1,6 @@
+package com.ducnh.highperformance.collections;
+
+@FunctionalInterface
+public interface ObjectLongToLongFunction<T> {
+	long apply(T t, long i);
+}
@@ -0,0 +1,18 @@
+package com.ducnh.highperformance.collections;
+
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.MutableDirectBuffer;
+
+/**
+ * Encodes and decodes the values of an object valued map in a snapshot, such as
+ * {@link Int2ObjectHashMap#writeSnapshot(java.io.File, SnapshotCodec)}.
+ */
+public interface SnapshotCodec<V> {
+	/**
+	 * @param buffer to encode into, which expands as needed.
+	 * @return number of bytes encoded.
+	 */
+	int encode(V value, MutableDirectBuffer buffer, int index);
+	
+	V decode(DirectBuffer buffer, int index, int length);
+}
@@ -0,0 +1,918 @@
+package com.ducnh.highperformance.concurrent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import com.ducnh.highperformance.BufferUtil;
+import com.ducnh.highperformance.DirectBuffer;
+import com.ducnh.highperformance.IOUtil;
+import com.ducnh.highperformance.LangUtil;
+import com.ducnh.highperformance.MutableDirectBuffer;
+import com.ducnh.highperformance.UnsafeApi;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static com.ducnh.highperformance.BitUtil.*;
+import static com.ducnh.highperformance.BufferUtil.*;
+
+/**
+ * Flyweight over a memory mapped region of a file which is indexed by {@code long} so a single buffer can cover
+ * regions larger than 2GB. The region can be remapped in place with {@link #resize(long)} as the file grows.
+ * <p>
+ * Offers the same plain, volatile, acquire/release and opaque accessors as {@link AtomicBuffer}. Mapping relies on
+ * {@link IOUtil#map(FileChannel, FileChannel.MapMode, long, long)}.
+ */
+public class MappedResizeableBuffer implements AutoCloseable {
+	public static final boolean SHOULD_BOUNDS_CHECK = DirectBuffer.SHOULD_BOUNDS_CHECK;
+	
+	private long addressOffset;
+	private long capacity;
+	private long offset;
+	private FileChannel fileChannel;
+	private FileChannel.MapMode mapMode;
+	
+	public MappedResizeableBuffer(final FileChannel fileChannel, final long offset, final long initialLength) {
+		this(fileChannel, FileChannel.MapMode.READ_WRITE, offset, initialLength);
+	}
+	
+	public MappedResizeableBuffer(
+			final FileChannel fileChannel, final FileChannel.MapMode mapMode, final long offset, final long initialLength) {
+		map(fileChannel, mapMode, offset, initialLength);
+	}
+	
+	/**
+	 * Unmap the region. The {@link FileChannel} is left open as it is owned by the caller.
+	 */
+	public void close() {
+		unmap();
+	}
+	
+	/**
+	 * Remap the region with a new length at the same offset, extending the file first when mapped read-write.
+	 */
+	public void resize(final long newLength) {
+		map(fileChannel, mapMode, offset, newLength);
+	}
+	
+	/**
+	 * Remap to a new region of the current file.
+	 */
+	public void wrap(final long offset, final long length) {
+		if (offset == this.offset && length == capacity) {
+			return;
+		}
+		
+		map(fileChannel, mapMode, offset, length);
+	}
+	
+	/**
+	 * Remap to a region of another file.
+	 */
+	public void wrap(final FileChannel fileChannel, final long offset, final long length) {
+		map(fileChannel, mapMode, offset, length);
+	}
+	
+	/**
+	 * Remap to a region of another file with a different {@link FileChannel.MapMode}.
+	 */
+	public void wrap(
+			final FileChannel fileChannel, final FileChannel.MapMode mapMode, final long offset, final long length) {
+		map(fileChannel, mapMode, offset, length);
+	}
+	
+	public long addressOffset() {
+		return addressOffset;
+	}
+	
+	public long capacity() {
+		return capacity;
+	}
+	
+	public long offset() {
+		return offset;
+	}
+	
+	public FileChannel fileChannel() {
+		return fileChannel;
+	}
+	
+	public FileChannel.MapMode mapMode() {
+		return mapMode;
+	}
+	
+	public boolean isClosed() {
+		return 0 == addressOffset;
+	}
+	
+	public void checkLimit(final long limit) {
+		if (limit > capacity) {
+			throw new IndexOutOfBoundsException("limit=" + limit + " is beyond capacity=" + capacity);
+		}
+	}
+	
+	public void verifyAlignment() {
+		if (0 != (addressOffset & (AtomicBuffer.ALIGNMENT - 1))) {
+			throw new IllegalStateException(
+					"MappedResizeableBuffer is not correctly aligned: addressOffset=" + addressOffset +
+					" is not divisible by " + AtomicBuffer.ALIGNMENT);
+		}
+	}
+	
+	public void setMemory(final long index, final long length, final byte value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
+		
+		UnsafeApi.setMemory(null, addressOffset + index, length, value);
+	}
+	
+	public long getLong(final long index, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		long bits = UnsafeApi.getLong(null, addressOffset + index);
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = Long.reverseBytes(bits);
+		}
+		return bits;
+	}
+	
+	public void putLong(final long index, final long value, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		long bits = value;
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = Long.reverseBytes(bits);
+		}
+		UnsafeApi.putLong(null, addressOffset + index, bits);
+	}
+	
+	public long getLong(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.getLong(null, addressOffset + index);
+	}
+	
+	public void putLong(final long index, final long value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		UnsafeApi.putLong(null, addressOffset + index, value);
+	}
+	
+	public long getLongVolatile(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.getLongVolatile(null, addressOffset + index);
+	}
+	
+	public void putLongVolatile(final long index, final long value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		UnsafeApi.putLongVolatile(null, addressOffset + index, value);
+	}
+	
+	public long getLongAcquire(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.getLongAcquire(null, addressOffset + index);
+	}
+	
+	public void putLongOrdered(final long index, final long value) {
+		putLongRelease(index, value);
+	}
+	
+	public void putLongRelease(final long index, final long value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		UnsafeApi.putLongRelease(null, addressOffset + index, value);
+	}
+	
+	public long addLongOrdered(final long index, final long increment) {
+		return addLongRelease(index, increment);
+	}
+	
+	public long addLongRelease(final long index, final long increment) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.getAndAddLongRelease(null, addressOffset + index, increment);
+	}
+	
+	public void putLongOpaque(final long index, final long value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		UnsafeApi.putLongOpaque(null, addressOffset + index, value);
+	}
+	
+	public long getLongOpaque(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.getLongOpaque(null, addressOffset + index);
+	}
+	
+	public long addLongOpaque(final long index, final long increment) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		final long oldValue = UnsafeApi.getLongOpaque(null, addressOffset + index);
+		UnsafeApi.putLongOpaque(null, addressOffset + index, oldValue + increment);
+		return oldValue;
+	}
+	
+	public boolean compareAndSetLong(final long index, final long expectedValue, final long updateValue) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.compareAndSetLong(null, addressOffset + index, expectedValue, updateValue);
+	}
+	
+	public long compareAndExchangeLong(final long index, final long expectedValue, final long updateValue) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.compareAndExchangeLong(null, addressOffset + index, expectedValue, updateValue);
+	}
+	
+	public long getAndSetLong(final long index, final long value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.getAndSetLong(null, addressOffset + index, value);
+	}
+	
+	public long getAndAddLong(final long index, final long delta) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_LONG);
+		}
+		
+		return UnsafeApi.getAndAddLong(null, addressOffset + index, delta);
+	}
+	
+	public int getInt(final long index, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		int bits = UnsafeApi.getInt(null, addressOffset + index);
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = Integer.reverseBytes(bits);
+		}
+		return bits;
+	}
+	
+	public void putInt(final long index, final int value, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		int bits = value;
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = Integer.reverseBytes(bits);
+		}
+		UnsafeApi.putInt(null, addressOffset + index, bits);
+	}
+	
+	public int getInt(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.getInt(null, addressOffset + index);
+	}
+	
+	public void putInt(final long index, final int value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		UnsafeApi.putInt(null, addressOffset + index, value);
+	}
+	
+	public int getIntVolatile(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.getIntVolatile(null, addressOffset + index);
+	}
+	
+	public void putIntVolatile(final long index, final int value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		UnsafeApi.putIntVolatile(null, addressOffset + index, value);
+	}
+	
+	public int getIntAcquire(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.getIntAcquire(null, addressOffset + index);
+	}
+	
+	public void putIntOrdered(final long index, final int value) {
+		putIntRelease(index, value);
+	}
+	
+	public void putIntRelease(final long index, final int value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		UnsafeApi.putIntRelease(null, addressOffset + index, value);
+	}
+	
+	public int addIntOrdered(final long index, final int increment) {
+		return addIntRelease(index, increment);
+	}
+	
+	public int addIntRelease(final long index, final int increment) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.getAndAddIntRelease(null, addressOffset + index, increment);
+	}
+	
+	public void putIntOpaque(final long index, final int value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		UnsafeApi.putIntOpaque(null, addressOffset + index, value);
+	}
+	
+	public int getIntOpaque(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.getIntOpaque(null, addressOffset + index);
+	}
+	
+	public int addIntOpaque(final long index, final int increment) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		final int oldValue = UnsafeApi.getIntOpaque(null, addressOffset + index);
+		UnsafeApi.putIntOpaque(null, addressOffset + index, oldValue + increment);
+		return oldValue;
+	}
+	
+	public boolean compareAndSetInt(final long index, final int expectedValue, final int updateValue) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.compareAndSetInt(null, addressOffset + index, expectedValue, updateValue);
+	}
+	
+	public int compareAndExchangeInt(final long index, final int expectedValue, final int updateValue) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.compareAndExchangeInt(null, addressOffset + index, expectedValue, updateValue);
+	}
+	
+	public int getAndSetInt(final long index, final int value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.getAndSetInt(null, addressOffset + index, value);
+	}
+	
+	public int getAndAddInt(final long index, final int delta) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_INT);
+		}
+		
+		return UnsafeApi.getAndAddInt(null, addressOffset + index, delta);
+	}
+	
+	public double getDouble(final long index, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_DOUBLE);
+		}
+		
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			final long bits = UnsafeApi.getLong(null, addressOffset + index);
+			return Double.longBitsToDouble(Long.reverseBytes(bits));
+		} else {
+			return UnsafeApi.getDouble(null, addressOffset + index);
+		}
+	}
+	
+	public void putDouble(final long index, final double value, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_DOUBLE);
+		}
+		
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			final long bits = Long.reverseBytes(Double.doubleToRawLongBits(value));
+			UnsafeApi.putLong(null, addressOffset + index, bits);
+		} else {
+			UnsafeApi.putDouble(null, addressOffset + index, value);
+		}
+	}
+	
+	public double getDouble(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_DOUBLE);
+		}
+		
+		return UnsafeApi.getDouble(null, addressOffset + index);
+	}
+	
+	public void putDouble(final long index, final double value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_DOUBLE);
+		}
+		
+		UnsafeApi.putDouble(null, addressOffset + index, value);
+	}
+	
+	public float getFloat(final long index, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_FLOAT);
+		}
+		
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			final int bits = UnsafeApi.getInt(null, addressOffset + index);
+			return Float.intBitsToFloat(Integer.reverseBytes(bits));
+		} else {
+			return UnsafeApi.getFloat(null, addressOffset + index);
+		}
+	}
+	
+	public void putFloat(final long index, final float value, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_FLOAT);
+		}
+		
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			final int bits = Integer.reverseBytes(Float.floatToRawIntBits(value));
+			UnsafeApi.putInt(null, addressOffset + index, bits);
+		} else {
+			UnsafeApi.putFloat(null, addressOffset + index, value);
+		}
+	}
+	
+	public float getFloat(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_FLOAT);
+		}
+		
+		return UnsafeApi.getFloat(null, addressOffset + index);
+	}
+	
+	public void putFloat(final long index, final float value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_FLOAT);
+		}
+		
+		UnsafeApi.putFloat(null, addressOffset + index, value);
+	}
+	
+	public short getShort(final long index, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_SHORT);
+		}
+		
+		short bits = UnsafeApi.getShort(null, addressOffset + index);
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = Short.reverseBytes(bits);
+		}
+		return bits;
+	}
+	
+	public void putShort(final long index, final short value, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_SHORT);
+		}
+		
+		short bits = value;
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = Short.reverseBytes(bits);
+		}
+		UnsafeApi.putShort(null, addressOffset + index, bits);
+	}
+	
+	public short getShort(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_SHORT);
+		}
+		
+		return UnsafeApi.getShort(null, addressOffset + index);
+	}
+	
+	public void putShort(final long index, final short value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_SHORT);
+		}
+		
+		UnsafeApi.putShort(null, addressOffset + index, value);
+	}
+	
+	public short getShortVolatile(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_SHORT);
+		}
+		
+		return UnsafeApi.getShortVolatile(null, addressOffset + index);
+	}
+	
+	public void putShortVolatile(final long index, final short value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_SHORT);
+		}
+		
+		UnsafeApi.putShortVolatile(null, addressOffset + index, value);
+	}
+	
+	public char getChar(final long index, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_CHAR);
+		}
+		
+		char bits = UnsafeApi.getChar(null, addressOffset + index);
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = (char)Short.reverseBytes((short)bits);
+		}
+		return bits;
+	}
+	
+	public void putChar(final long index, final char value, final ByteOrder byteOrder) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_CHAR);
+		}
+		
+		char bits = value;
+		if (NATIVE_BYTE_ORDER != byteOrder) {
+			bits = (char)Short.reverseBytes((short)bits);
+		}
+		UnsafeApi.putChar(null, addressOffset + index, bits);
+	}
+	
+	public char getChar(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_CHAR);
+		}
+		
+		return UnsafeApi.getChar(null, addressOffset + index);
+	}
+	
+	public void putChar(final long index, final char value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_CHAR);
+		}
+		
+		UnsafeApi.putChar(null, addressOffset + index, value);
+	}
+	
+	public char getCharVolatile(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_CHAR);
+		}
+		
+		return UnsafeApi.getCharVolatile(null, addressOffset + index);
+	}
+	
+	public void putCharVolatile(final long index, final char value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_CHAR);
+		}
+		
+		UnsafeApi.putCharVolatile(null, addressOffset + index, value);
+	}
+	
+	public byte getByte(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_BYTE);
+		}
+		
+		return UnsafeApi.getByte(null, addressOffset + index);
+	}
+	
+	public void putByte(final long index, final byte value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_BYTE);
+		}
+		
+		UnsafeApi.putByte(null, addressOffset + index, value);
+	}
+	
+	public byte getByteVolatile(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_BYTE);
+		}
+		
+		return UnsafeApi.getByteVolatile(null, addressOffset + index);
+	}
+	
+	public void putByteVolatile(final long index, final byte value) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, SIZE_OF_BYTE);
+		}
+		
+		UnsafeApi.putByteVolatile(null, addressOffset + index, value);
+	}
+	
+	public void getBytes(final long index, final byte[] dst) {
+		getBytes(index, dst, 0, dst.length);
+	}
+	
+	public void getBytes(final long index, final byte[] dst, final int offset, final int length) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+			BufferUtil.boundsCheck(dst, offset, length);
+		}
+		
+		UnsafeApi.copyMemory(null, addressOffset + index, dst, ARRAY_BASE_OFFSET + offset, length);
+	}
+	
+	public void getBytes(final long index, final MutableDirectBuffer dstBuffer, final int dstIndex, final int length) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+			dstBuffer.boundsCheck(dstIndex, length);
+		}
+		
+		UnsafeApi.copyMemory(
+				null,
+				addressOffset + index,
+				dstBuffer.byteArray(),
+				dstBuffer.addressOffset() + dstIndex,
+				length);
+	}
+	
+	public void getBytes(final long index, final ByteBuffer dstBuffer, final int dstOffset, final int length) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+			BufferUtil.boundsCheck(dstBuffer, dstOffset, length);
+		}
+		
+		final byte[] dstByteArray;
+		final long dstBaseOffset;
+		if (dstBuffer.isDirect()) {
+			dstByteArray = null;
+			dstBaseOffset = address(dstBuffer);
+		} else {
+			dstByteArray = BufferUtil.array(dstBuffer);
+			dstBaseOffset = ARRAY_BASE_OFFSET + arrayOffset(dstBuffer);
+		}
+		
+		UnsafeApi.copyMemory(null, addressOffset + index, dstByteArray, dstBaseOffset + dstOffset, length);
+	}
+	
+	public void putBytes(final long index, final byte[] src) {
+		putBytes(index, src, 0, src.length);
+	}
+	
+	public void putBytes(final long index, final byte[] src, final int offset, final int length) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+			BufferUtil.boundsCheck(src, offset, length);
+		}
+		
+		UnsafeApi.copyMemory(src, ARRAY_BASE_OFFSET + offset, null, addressOffset + index, length);
+	}
+	
+	public void putBytes(final long index, final DirectBuffer srcBuffer, final int srcIndex, final int length) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+			srcBuffer.boundsCheck(srcIndex, length);
+		}
+		
+		UnsafeApi.copyMemory(
+				srcBuffer.byteArray(),
+				srcBuffer.addressOffset() + srcIndex,
+				null,
+				addressOffset + index,
+				length);
+	}
+	
+	public void putBytes(final long index, final ByteBuffer srcBuffer, final int srcIndex, final int length) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+			BufferUtil.boundsCheck(srcBuffer, srcIndex, length);
+		}
+		
+		final byte[] srcByteArray;
+		final long srcBaseOffset;
+		if (srcBuffer.isDirect()) {
+			srcByteArray = null;
+			srcBaseOffset = address(srcBuffer);
+		} else {
+			srcByteArray = BufferUtil.array(srcBuffer);
+			srcBaseOffset = ARRAY_BASE_OFFSET + arrayOffset(srcBuffer);
+		}
+		
+		UnsafeApi.copyMemory(srcByteArray, srcBaseOffset + srcIndex, null, addressOffset + index, length);
+	}
+	
+	public String getStringAscii(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, DirectBuffer.STR_HEADER_LEN);
+		}
+		
+		final int length = UnsafeApi.getInt(null, addressOffset + index);
+		return getStringWithoutLengthAscii(index + DirectBuffer.STR_HEADER_LEN, length);
+	}
+	
+	public String getStringWithoutLengthAscii(final long index, final int length) {
+		if (length == 0) {
+			return "";
+		}
+		
+		final byte[] dst = new byte[length];
+		getBytes(index, dst, 0, length);
+		return new String(dst, US_ASCII);
+	}
+	
+	public int getStringWithoutLengthAscii(final long index, final int length, final Appendable appendable) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
+		
+		try {
+			final long offset = addressOffset + index;
+			for (int i = 0; i < length; i++) {
+				final char c = (char)UnsafeApi.getByte(null, offset + i);
+				appendable.append(c > 127 ? '?' : c);
+			}
+		} catch (final IOException ex) {
+			LangUtil.rethrowUnchecked(ex);
+		}
+		return length;
+	}
+	
+	public int putStringAscii(final long index, final CharSequence value) {
+		if (null == value) {
+			putInt(index, 0);
+			return DirectBuffer.STR_HEADER_LEN;
+		}
+		
+		final int length = value.length();
+		putInt(index, length);
+		putStringWithoutLengthAscii(index + DirectBuffer.STR_HEADER_LEN, value);
+		return DirectBuffer.STR_HEADER_LEN + length;
+	}
+	
+	public int putStringWithoutLengthAscii(final long index, final CharSequence value) {
+		if (null == value) {
+			return 0;
+		}
+		
+		final int length = value.length();
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, length);
+		}
+		
+		final long offset = addressOffset + index;
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c > 127) {
+				c = '?';
+			}
+			UnsafeApi.putByte(null, offset + i, (byte)c);
+		}
+		return length;
+	}
+	
+	public String getStringUtf8(final long index) {
+		if (SHOULD_BOUNDS_CHECK) {
+			boundsCheck0(index, DirectBuffer.STR_HEADER_LEN);
+		}
+		
+		final int length = UnsafeApi.getInt(null, addressOffset + index);
+		return getStringWithoutLengthUtf8(index + DirectBuffer.STR_HEADER_LEN, length);
+	}
+	
+	public String getStringWithoutLengthUtf8(final long index, final int length) {
+		if (length == 0) {
+			return "";
+		}
+		
+		final byte[] dst = new byte[length];
+		getBytes(index, dst, 0, length);
+		return new String(dst, UTF_8);
+	}
+	
+	public int putStringUtf8(final long index, final String value) {
+		final byte[] bytes = null != value ? value.getBytes(UTF_8) : NULL_BYTES;
+		putInt(index, bytes.length);
+		putBytes(index + DirectBuffer.STR_HEADER_LEN, bytes);
+		return DirectBuffer.STR_HEADER_LEN + bytes.length;
+	}
+	
+	public int putStringWithoutLengthUtf8(final long index, final String value) {
+		final byte[] bytes = null != value ? value.getBytes(UTF_8) : NULL_BYTES;
+		putBytes(index, bytes);
+		return bytes.length;
+	}
+	
+	public void boundsCheck(final long index, final long length) {
+		boundsCheck0(index, length);
+	}
+	
+	public String toString() {
+		return "MappedResizeableBuffer{" +
+			"addressOffset=" + addressOffset +
+			", capacity=" + capacity +
+			", offset=" + offset +
+			", mapMode=" + mapMode +
+			", fileChannel=" + fileChannel +
+			'}';
+	}
+	
+	private void boundsCheck0(final long index, final long length) {
+		final long resultingPosition = index + length;
+		if (index < 0 || length < 0 || resultingPosition > capacity) {
+			throw new IndexOutOfBoundsException("index=" + index + " length=" + length + " capacity=" + capacity);
+		}
+	}
+	
+	/**
+	 * Replace the current mapping. The arguments are validated before anything is unmapped and the fields are only
+	 * assigned once the new region is mapped, so a failure leaves the buffer either as it was or closed with a capacity
+	 * of 0 rather than with a capacity over an unmapped address.
+	 */
+	private void map(
+			final FileChannel fileChannel, final FileChannel.MapMode mapMode, final long offset, final long length) {
+		checkLength(length);
+		if (offset < 0) {
+			throw new IllegalArgumentException("offset must be >= 0: offset=" + offset);
+		}
+		
+		if (0 != (offset & (UnsafeApi.pageSize() - 1))) {
+			throw new IllegalArgumentException("offset=" + offset + " is not aligned to page size");
+		}
+		
+		unmap();
+		if (FileChannel.MapMode.READ_WRITE == mapMode) {
+			ensureFileLength(fileChannel, offset + length);
+		}
+		
+		final long addressOffset = IOUtil.map(fileChannel, mapMode, offset, length);
+		
+		this.fileChannel = fileChannel;
+		this.mapMode = mapMode;
+		this.offset = offset;
+		this.capacity = length;
+		this.addressOffset = addressOffset;
+	}
+	
+	private void unmap() {
+		if (0 != addressOffset) {
+			IOUtil.unmap(fileChannel, addressOffset, capacity);
+			addressOffset = 0;
+			capacity = 0;
+		}
+	}
+	
+	private static void ensureFileLength(final FileChannel fileChannel, final long requiredLength) {
+		try {
+			if (fileChannel.size() < requiredLength) {
+				fileChannel.write(ByteBuffer.wrap(new byte[1]), requiredLength - 1);
+			}
+		} catch (final IOException ex) {
+			LangUtil.rethrowUnchecked(ex);
+		}
+	}
+	
+	private static void checkLength(final long length) {
+		if (length <= 0) {
+			throw new IllegalArgumentException("length must be > 0: length=" + length);
+		}
+	}
+}
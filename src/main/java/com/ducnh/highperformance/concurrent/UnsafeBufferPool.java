@@ -0,0 +1,426 @@
+package com.ducnh.highperformance.concurrent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+import com.ducnh.highperformance.SystemUtil;
+import com.ducnh.highperformance.UnsafeApi;
+
+import static com.ducnh.highperformance.BitUtil.*;
+
+/**
+ * Pool of aligned off-heap {@link UnsafeBuffer}s carved from slabs of native memory, one set of slabs per power of
+ * two size class.
+ * <p>
+ * Each thread keeps a small magazine of free blocks per size class so {@link #allocate(int)} and
+ * {@link #free(UnsafeBuffer)} only take the shared depot lock when a magazine runs empty or full. Once the slabs are
+ * reserved, either by {@link #reserve(int, int)} or by earlier use, allocation and free do not allocate on the heap.
+ * <p>
+ * Blocks are not zeroed when handed out. Blocks sitting in the magazine of a thread that has terminated are lost to
+ * the pool until it is closed, so call {@link #flushThreadCache()} before a thread which used the pool exits.
+ * <p>
+ * Setting {@link #OWNERSHIP_CHECKS_PROP_NAME} to {@code true} makes the pool track outstanding buffers so that
+ * {@link #free(UnsafeBuffer)} rejects a double free or a buffer it did not hand out. The check takes a lock on every
+ * allocate and free so is meant for debugging.
+ */
+public class UnsafeBufferPool implements AutoCloseable {
+	public static final int DEFAULT_MIN_BLOCK_SIZE = 64;
+	public static final int DEFAULT_MAX_BLOCK_SIZE = 1024 * 1024;
+	public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+	public static final int DEFAULT_MAGAZINE_SIZE = 32;
+	public static final String OWNERSHIP_CHECKS_PROP_NAME = "com.ducnh.pool.ownership.checks";
+	public static final boolean OWNERSHIP_CHECKS =
+		"true".equals(SystemUtil.getProperty(OWNERSHIP_CHECKS_PROP_NAME, "false"));
+	
+	private final int minBlockSize;
+	private final int maxBlockSize;
+	private final int minBlockShift;
+	private final int alignment;
+	private final int magazineSize;
+	private final SizeClass[] sizeClasses;
+	private final ArrayList<Magazine[]> threadMagazines = new ArrayList<>();
+	private final ThreadLocal<Magazine[]> magazines = ThreadLocal.withInitial(this::newMagazines);
+	private final IdentityHashMap<UnsafeBuffer, Boolean> outstanding = OWNERSHIP_CHECKS ? new IdentityHashMap<>() : null;
+	private volatile boolean isClosed;
+	
+	public UnsafeBufferPool() {
+		this(DEFAULT_MIN_BLOCK_SIZE, DEFAULT_MAX_BLOCK_SIZE, DEFAULT_SLAB_SIZE, CACHE_LINE_LENGTH, DEFAULT_MAGAZINE_SIZE);
+	}
+	
+	/**
+	 * Construct a pool with the given block size range, slab size, block alignment and per thread magazine size.
+	 */
+	public UnsafeBufferPool(
+		final int minBlockSize,
+		final int maxBlockSize,
+		final int slabSize,
+		final int alignment,
+		final int magazineSize) {
+		if (!isPowerOfTwo(alignment)) {
+			throw new IllegalArgumentException("alignment must be a power of 2: alignment=" + alignment);
+		}
+		
+		if (!isPowerOfTwo(minBlockSize) || minBlockSize < alignment) {
+			throw new IllegalArgumentException(
+				"minBlockSize must be a power of 2 >= alignment: minBlockSize=" + minBlockSize);
+		}
+		
+		if (!isPowerOfTwo(maxBlockSize) || maxBlockSize < minBlockSize) {
+			throw new IllegalArgumentException(
+				"maxBlockSize must be a power of 2 >= minBlockSize: maxBlockSize=" + maxBlockSize);
+		}
+		
+		if (slabSize <= 0) {
+			throw new IllegalArgumentException("slabSize must be positive: slabSize=" + slabSize);
+		}
+		
+		if (magazineSize < 2) {
+			throw new IllegalArgumentException("magazineSize must be >= 2: magazineSize=" + magazineSize);
+		}
+		
+		this.minBlockSize = minBlockSize;
+		this.maxBlockSize = maxBlockSize;
+		this.minBlockShift = Integer.numberOfTrailingZeros(minBlockSize);
+		this.alignment = alignment;
+		this.magazineSize = magazineSize;
+		
+		final int classCount = Integer.numberOfTrailingZeros(maxBlockSize) - minBlockShift + 1;
+		sizeClasses = new SizeClass[classCount];
+		for (int i = 0; i < classCount; i++) {
+			final int blockSize = minBlockSize << i;
+			sizeClasses[i] = new SizeClass(blockSize, Math.max(1, slabSize / blockSize));
+		}
+	}
+	
+	/**
+	 * Allocate a buffer with a capacity of exactly {@code length} bytes. The underlying block is the smallest size
+	 * class which fits and its address is aligned to the pool alignment.
+	 */
+	public UnsafeBuffer allocate(final int length) {
+		ensureOpen();
+		final int index = sizeClassIndex(length);
+		final Magazine magazine = magazines.get()[index];
+		
+		if (0 == magazine.count) {
+			refill(sizeClasses[index], magazine);
+		}
+		
+		final UnsafeBuffer buffer = magazine.buffers[--magazine.count];
+		magazine.buffers[magazine.count] = null;
+		magazine.allocations++;
+		buffer.wrap(buffer.addressOffset(), length);
+		
+		if (null != outstanding) {
+			synchronized (outstanding) {
+				outstanding.put(buffer, Boolean.TRUE);
+			}
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Return a buffer obtained from {@link #allocate(int)} to the pool. The buffer must not be used afterwards.
+	 * <p>
+	 * Freeing a buffer twice puts it on the free list twice, so it would later be handed to two owners. This is only
+	 * detected when {@link #OWNERSHIP_CHECKS} is enabled.
+	 *
+	 * @throws IllegalArgumentException if the buffer is not an aligned off-heap buffer or, when
+	 * {@link #OWNERSHIP_CHECKS} is enabled, was not allocated from this pool or is already free.
+	 */
+	public void free(final UnsafeBuffer buffer) {
+		final int index = sizeClassIndex(buffer.capacity());
+		final SizeClass sizeClass = sizeClasses[index];
+		
+		if (null != buffer.byteArray() || !isAligned(buffer.addressOffset(), alignment)) {
+			throw new IllegalArgumentException("buffer was not allocated from this pool: " + buffer);
+		}
+		
+		if (null != outstanding) {
+			synchronized (outstanding) {
+				if (null == outstanding.remove(buffer)) {
+					throw new IllegalArgumentException("buffer is already free or not from this pool: " + buffer);
+				}
+			}
+		}
+		
+		final Magazine magazine = magazines.get()[index];
+		if (magazineSize == magazine.count) {
+			flush(sizeClass, magazine, magazineSize >> 1);
+		}
+		
+		magazine.buffers[magazine.count++] = buffer;
+		magazine.frees++;
+	}
+	
+	/**
+	 * Reserve slabs so at least {@code count} blocks able to hold {@code length} bytes are available without further
+	 * native allocation.
+	 */
+	public void reserve(final int length, final int count) {
+		final SizeClass sizeClass = sizeClasses[sizeClassIndex(length)];
+		
+		synchronized (sizeClass) {
+			ensureOpen();
+			while (sizeClass.freeCount < count) {
+				sizeClass.addSlab(alignment);
+			}
+		}
+	}
+	
+	/**
+	 * Return the blocks held in the calling thread's magazines to the shared depot.
+	 */
+	public void flushThreadCache() {
+		final Magazine[] current = magazines.get();
+		for (int i = 0; i < sizeClasses.length; i++) {
+			flush(sizeClasses[i], current[i], current[i].count);
+		}
+	}
+	
+	/**
+	 * Free all slabs. Any buffer still held from the pool is left pointing at released memory.
+	 */
+	public void close() {
+		if (!isClosed) {
+			isClosed = true;
+			for (final SizeClass sizeClass : sizeClasses) {
+				synchronized (sizeClass) {
+					sizeClass.release();
+				}
+			}
+			
+			if (null != outstanding) {
+				synchronized (outstanding) {
+					outstanding.clear();
+				}
+			}
+		}
+	}
+	
+	public boolean isClosed() {
+		return isClosed;
+	}
+	
+	public int alignment() {
+		return alignment;
+	}
+	
+	public int minBlockSize() {
+		return minBlockSize;
+	}
+	
+	public int maxBlockSize() {
+		return maxBlockSize;
+	}
+	
+	public int sizeClassCount() {
+		return sizeClasses.length;
+	}
+	
+	public int blockSize(final int sizeClassIndex) {
+		return sizeClasses[sizeClassIndex].blockSize;
+	}
+	
+	/**
+	 * Number of slabs reserved for a size class.
+	 */
+	public int slabCount(final int sizeClassIndex) {
+		final SizeClass sizeClass = sizeClasses[sizeClassIndex];
+		synchronized (sizeClass) {
+			return sizeClass.slabCount;
+		}
+	}
+	
+	/**
+	 * Total bytes of native memory reserved by the pool excluding alignment padding.
+	 */
+	public long reservedBytes() {
+		long total = 0;
+		for (final SizeClass sizeClass : sizeClasses) {
+			synchronized (sizeClass) {
+				total += (long)sizeClass.slabCount * sizeClass.blocksPerSlab * sizeClass.blockSize;
+			}
+		}
+		
+		return total;
+	}
+	
+	/**
+	 * Count of allocations across all threads. Updated by the owning threads without synchronisation so the value
+	 * is approximate while the pool is in use.
+	 */
+	public long allocationCount() {
+		long total = 0;
+		synchronized (threadMagazines) {
+			for (final Magazine[] magazines : threadMagazines) {
+				for (final Magazine magazine : magazines) {
+					total += magazine.allocations;
+				}
+			}
+		}
+		
+		return total;
+	}
+	
+	/**
+	 * Count of frees across all threads. Approximate while the pool is in use.
+	 */
+	public long freeCount() {
+		long total = 0;
+		synchronized (threadMagazines) {
+			for (final Magazine[] magazines : threadMagazines) {
+				for (final Magazine magazine : magazines) {
+					total += magazine.frees;
+				}
+			}
+		}
+		
+		return total;
+	}
+	
+	/**
+	 * Count of buffers allocated from a size class and not yet freed. A value which keeps growing indicates a leak.
+	 */
+	public long outstandingCount(final int sizeClassIndex) {
+		long total = 0;
+		synchronized (threadMagazines) {
+			for (final Magazine[] magazines : threadMagazines) {
+				total += magazines[sizeClassIndex].allocations - magazines[sizeClassIndex].frees;
+			}
+		}
+		
+		return total;
+	}
+	
+	/**
+	 * Count of buffers allocated from the pool and not yet freed.
+	 */
+	public long outstandingCount() {
+		return allocationCount() - freeCount();
+	}
+	
+	public String toString() {
+		return "UnsafeBufferPool{" +
+			"minBlockSize=" + minBlockSize +
+			", maxBlockSize=" + maxBlockSize +
+			", alignment=" + alignment +
+			", reservedBytes=" + reservedBytes() +
+			", outstandingCount=" + outstandingCount() +
+			'}';
+	}
+	
+	private int sizeClassIndex(final int length) {
+		if (length < 0 || length > maxBlockSize) {
+			throw new IllegalArgumentException("length outside 0.." + maxBlockSize + ": length=" + length);
+		}
+		
+		final int blockSize = findNextPositivePowerOfTwo(Math.max(length, minBlockSize));
+		
+		return Integer.numberOfTrailingZeros(blockSize) - minBlockShift;
+	}
+	
+	private void ensureOpen() {
+		if (isClosed) {
+			throw new IllegalStateException("pool is closed");
+		}
+	}
+	
+	private void refill(final SizeClass sizeClass, final Magazine magazine) {
+		synchronized (sizeClass) {
+			ensureOpen();
+			if (0 == sizeClass.freeCount) {
+				sizeClass.addSlab(alignment);
+			}
+			
+			final int count = Math.min(sizeClass.freeCount, magazineSize >> 1);
+			final int from = sizeClass.freeCount - count;
+			System.arraycopy(sizeClass.free, from, magazine.buffers, magazine.count, count);
+			Arrays.fill(sizeClass.free, from, sizeClass.freeCount, null);
+			sizeClass.freeCount = from;
+			magazine.count += count;
+		}
+	}
+	
+	private static void flush(final SizeClass sizeClass, final Magazine magazine, final int count) {
+		synchronized (sizeClass) {
+			final int from = magazine.count - count;
+			sizeClass.ensureFreeCapacity(sizeClass.freeCount + count);
+			System.arraycopy(magazine.buffers, from, sizeClass.free, sizeClass.freeCount, count);
+			Arrays.fill(magazine.buffers, from, magazine.count, null);
+			sizeClass.freeCount += count;
+			magazine.count = from;
+		}
+	}
+	
+	private Magazine[] newMagazines() {
+		final Magazine[] magazines = new Magazine[sizeClasses.length];
+		for (int i = 0; i < magazines.length; i++) {
+			magazines[i] = new Magazine(magazineSize);
+		}
+		
+		synchronized (threadMagazines) {
+			threadMagazines.add(magazines);
+		}
+		
+		return magazines;
+	}
+	
+	static final class Magazine {
+		final UnsafeBuffer[] buffers;
+		int count;
+		long allocations;
+		long frees;
+		
+		Magazine(final int size) {
+			buffers = new UnsafeBuffer[size];
+		}
+	}
+	
+	static final class SizeClass {
+		final int blockSize;
+		final int blocksPerSlab;
+		long[] slabAddresses = new long[4];
+		int slabCount;
+		UnsafeBuffer[] free = new UnsafeBuffer[0];
+		int freeCount;
+		
+		SizeClass(final int blockSize, final int blocksPerSlab) {
+			this.blockSize = blockSize;
+			this.blocksPerSlab = blocksPerSlab;
+		}
+		
+		void addSlab(final int alignment) {
+			final long slabLength = (long)blocksPerSlab * blockSize;
+			final long rawAddress = UnsafeApi.allocateMemory(slabLength + alignment);
+			final long address = align(rawAddress, (long)alignment);
+			
+			if (slabCount == slabAddresses.length) {
+				slabAddresses = Arrays.copyOf(slabAddresses, slabCount << 1);
+			}
+			slabAddresses[slabCount++] = rawAddress;
+			
+			ensureFreeCapacity(freeCount + blocksPerSlab);
+			for (int i = blocksPerSlab - 1; i >= 0; i--) {
+				free[freeCount++] = new UnsafeBuffer(address + ((long)i * blockSize), blockSize);
+			}
+		}
+		
+		void ensureFreeCapacity(final int required) {
+			if (required > free.length) {
+				free = Arrays.copyOf(free, Math.max(required, free.length << 1));
+			}
+		}
+		
+		void release() {
+			for (int i = 0; i < slabCount; i++) {
+				UnsafeApi.freeMemory(slabAddresses[i]);
+			}
+			
+			slabCount = 0;
+			Arrays.fill(free, 0, freeCount, null);
+			freeCount = 0;
+		}
+	}
+}
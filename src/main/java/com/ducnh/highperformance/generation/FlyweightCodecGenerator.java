@@ -0,0 +1,458 @@
+package com.ducnh.highperformance.generation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import com.ducnh.highperformance.generation.MessageSchema.Field;
+import com.ducnh.highperformance.generation.MessageSchema.Group;
+import com.ducnh.highperformance.generation.MessageSchema.Message;
+import com.ducnh.highperformance.generation.MessageSchema.Type;
+
+/**
+ * Generates encoder and decoder flyweights from a {@link MessageSchema}.
+ * <p>
+ * For each message a {@code <Name>Encoder} wrapping a {@code MutableDirectBuffer} and a {@code <Name>Decoder}
+ * wrapping a {@code DirectBuffer} are written. Fixed fields are read and written at offsets which are compile time
+ * constants so the JIT can inline each access to a single load or store. Repeating groups and variable length data
+ * follow the fixed block and must be written and read in schema order, tracked by the flyweight's limit. Nothing
+ * is allocated per message apart from the decoder methods which return a {@link String}.
+ */
+public final class FlyweightCodecGenerator {
+	private static final String DST_DIR = "build/generated-src";
+	
+	private final MessageSchema schema;
+	private final OutputManager outputManager;
+	
+	public FlyweightCodecGenerator(final MessageSchema schema, final OutputManager outputManager) {
+		this.schema = schema;
+		this.outputManager = outputManager;
+	}
+	
+	/**
+	 * Generate codecs from a schema file.
+	 * @param args schema file name and an optional output directory, which defaults to {@code build/generated-src}.
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: FlyweightCodecGenerator <schema file> [output dir]");
+			System.exit(1);
+		}
+		
+		final MessageSchema schema;
+		try (Reader reader = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+			schema = MessageSchema.parse(reader);
+		}
+		
+		final String outputDir = args.length > 1 ? args[1] : DST_DIR;
+		new FlyweightCodecGenerator(schema, new PackageOutputManager(outputDir, schema.packageName())).generate();
+	}
+	
+	public void generate() {
+		if (outputManager instanceof DynamicPackageOutputManager) {
+			((DynamicPackageOutputManager)outputManager).setPackageName(schema.packageName());
+		}
+		
+		for (final Message message : schema.messages()) {
+			outputManager.withOutput(encoderName(message.name()), (out) -> out.append(generateEncoder(message)));
+			outputManager.withOutput(decoderName(message.name()), (out) -> out.append(generateDecoder(message)));
+		}
+	}
+	
+	public CharSequence generateEncoder(final Message message) {
+		final String className = encoderName(message.name());
+		final StringBuilder sb = new StringBuilder();
+		
+		header(sb, message, false);
+		sb.append("public final class ").append(className).append(" {\n");
+		messageConstants(sb, message);
+		for (final Group group : message.groups()) {
+			sb.append("\tprivate final ").append(encoderName(group.name())).append(' ').append(group.name())
+				.append(" = new ").append(encoderName(group.name())).append("(this);\n");
+		}
+		sb.append("\tprivate MutableDirectBuffer buffer;\n");
+		sb.append("\tprivate int offset;\n");
+		sb.append("\tprivate int limit;\n");
+		sb.append("\t\n");
+		sb.append("\tpublic ").append(className).append(" wrap(final MutableDirectBuffer buffer, final int offset) {\n");
+		sb.append("\t\tthis.buffer = buffer;\n");
+		sb.append("\t\tthis.offset = offset;\n");
+		sb.append("\t\tthis.limit = offset + BLOCK_LENGTH;\n");
+		sb.append("\t\treturn this;\n");
+		sb.append("\t}\n");
+		flyweightAccessors(sb, "MutableDirectBuffer");
+		
+		for (final Field field : message.fields()) {
+			setter(sb, className, field, "buffer", "offset");
+		}
+		
+		for (final Group group : message.groups()) {
+			final String groupClassName = encoderName(group.name());
+			sb.append("\t\n");
+			sb.append("\tpublic ").append(groupClassName).append(' ').append(group.name())
+				.append("Count(final int count) {\n");
+			sb.append("\t\treturn ").append(group.name()).append(".wrap(count);\n");
+			sb.append("\t}\n");
+		}
+		
+		for (final String name : message.varData()) {
+			sb.append("\t\n");
+			sb.append("\tpublic ").append(className).append(' ').append(name)
+				.append("(final DirectBuffer src, final int srcOffset, final int length) {\n");
+			sb.append("\t\tbuffer.putInt(limit, length, BYTE_ORDER);\n");
+			sb.append("\t\tbuffer.putBytes(limit + VAR_DATA_HEADER_LENGTH, src, srcOffset, length);\n");
+			sb.append("\t\tlimit += VAR_DATA_HEADER_LENGTH + length;\n");
+			sb.append("\t\treturn this;\n");
+			sb.append("\t}\n");
+			sb.append("\t\n");
+			sb.append("\tpublic ").append(className).append(' ').append(name).append("(final CharSequence value) {\n");
+			sb.append("\t\tlimit += buffer.putStringUtf8(limit, value, BYTE_ORDER);\n");
+			sb.append("\t\treturn this;\n");
+			sb.append("\t}\n");
+		}
+		
+		for (final Group group : message.groups()) {
+			final String groupClassName = encoderName(group.name());
+			sb.append("\t\n");
+			sb.append("\tpublic static final class ").append(groupClassName).append(" {\n");
+			groupConstants(sb, group);
+			sb.append("\t\tprivate final ").append(className).append(" parent;\n");
+			sb.append("\t\tprivate int count;\n");
+			sb.append("\t\tprivate int index;\n");
+			sb.append("\t\tprivate int offset;\n");
+			sb.append("\t\t\n");
+			sb.append("\t\t").append(groupClassName).append("(final ").append(className).append(" parent) {\n");
+			sb.append("\t\t\tthis.parent = parent;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\t").append(groupClassName).append(" wrap(final int count) {\n");
+			sb.append("\t\t\tif (count < 0) {\n");
+			sb.append("\t\t\t\tthrow new IllegalArgumentException(\"count must be >= 0: count=\" + count);\n");
+			sb.append("\t\t\t}\n");
+			sb.append("\t\t\tparent.buffer.putInt(parent.limit, count, BYTE_ORDER);\n");
+			sb.append("\t\t\tparent.limit += HEADER_LENGTH;\n");
+			sb.append("\t\t\tthis.count = count;\n");
+			sb.append("\t\t\tthis.index = 0;\n");
+			sb.append("\t\t\treturn this;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\tpublic int count() {\n");
+			sb.append("\t\t\treturn count;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\tpublic ").append(groupClassName).append(" next() {\n");
+			sb.append("\t\t\tif (index >= count) {\n");
+			sb.append("\t\t\t\tthrow new IllegalStateException(\"count exceeded: count=\" + count);\n");
+			sb.append("\t\t\t}\n");
+			sb.append("\t\t\tindex++;\n");
+			sb.append("\t\t\toffset = parent.limit;\n");
+			sb.append("\t\t\tparent.limit += BLOCK_LENGTH;\n");
+			sb.append("\t\t\treturn this;\n");
+			sb.append("\t\t}\n");
+			
+			final StringBuilder groupBody = new StringBuilder();
+			for (final Field field : group.fields()) {
+				setter(groupBody, groupClassName, field, "parent.buffer", "offset");
+			}
+			sb.append(indent(groupBody));
+			sb.append("\t}\n");
+		}
+		
+		sb.append("}\n");
+		
+		return sb;
+	}
+	
+	public CharSequence generateDecoder(final Message message) {
+		final String className = decoderName(message.name());
+		final StringBuilder sb = new StringBuilder();
+		
+		header(sb, message, true);
+		sb.append("public final class ").append(className).append(" {\n");
+		messageConstants(sb, message);
+		for (final Group group : message.groups()) {
+			sb.append("\tprivate final ").append(decoderName(group.name())).append(' ').append(group.name())
+				.append(" = new ").append(decoderName(group.name())).append("(this);\n");
+		}
+		sb.append("\tprivate DirectBuffer buffer;\n");
+		sb.append("\tprivate int offset;\n");
+		sb.append("\tprivate int limit;\n");
+		sb.append("\t\n");
+		sb.append("\tpublic ").append(className).append(" wrap(final DirectBuffer buffer, final int offset) {\n");
+		sb.append("\t\tthis.buffer = buffer;\n");
+		sb.append("\t\tthis.offset = offset;\n");
+		sb.append("\t\tthis.limit = offset + BLOCK_LENGTH;\n");
+		sb.append("\t\treturn this;\n");
+		sb.append("\t}\n");
+		flyweightAccessors(sb, "DirectBuffer");
+		
+		for (final Field field : message.fields()) {
+			getter(sb, field, "buffer", "offset");
+		}
+		
+		for (final Group group : message.groups()) {
+			sb.append("\t\n");
+			sb.append("\tpublic ").append(decoderName(group.name())).append(' ').append(group.name()).append("() {\n");
+			sb.append("\t\treturn ").append(group.name()).append(".wrap();\n");
+			sb.append("\t}\n");
+		}
+		
+		for (final String name : message.varData()) {
+			final String capitalised = capitalise(name);
+			sb.append("\t\n");
+			sb.append("\tpublic int ").append(name).append("Length() {\n");
+			sb.append("\t\treturn buffer.getInt(limit, BYTE_ORDER);\n");
+			sb.append("\t}\n");
+			sb.append("\t\n");
+			sb.append("\tpublic int get").append(capitalised)
+				.append("(final MutableDirectBuffer dst, final int dstOffset) {\n");
+			sb.append("\t\tfinal int length = ").append(name).append("Length();\n");
+			sb.append("\t\tbuffer.getBytes(limit + VAR_DATA_HEADER_LENGTH, dst, dstOffset, length);\n");
+			sb.append("\t\tlimit += VAR_DATA_HEADER_LENGTH + length;\n");
+			sb.append("\t\treturn length;\n");
+			sb.append("\t}\n");
+			sb.append("\t\n");
+			sb.append("\tpublic int get").append(capitalised).append("(final Appendable appendable) {\n");
+			sb.append("\t\tfinal int length = ").append(name).append("Length();\n");
+			sb.append("\t\tbuffer.getStringWithoutLengthUtf8(limit + VAR_DATA_HEADER_LENGTH, length, appendable);\n");
+			sb.append("\t\tlimit += VAR_DATA_HEADER_LENGTH + length;\n");
+			sb.append("\t\treturn length;\n");
+			sb.append("\t}\n");
+			sb.append("\t\n");
+			sb.append("\tpublic String ").append(name).append("() {\n");
+			sb.append("\t\tfinal int length = ").append(name).append("Length();\n");
+			sb.append("\t\tfinal String value = buffer.getStringWithoutLengthUtf8(limit + VAR_DATA_HEADER_LENGTH, length);\n");
+			sb.append("\t\tlimit += VAR_DATA_HEADER_LENGTH + length;\n");
+			sb.append("\t\treturn value;\n");
+			sb.append("\t}\n");
+			sb.append("\t\n");
+			sb.append("\tpublic int skip").append(capitalised).append("() {\n");
+			sb.append("\t\tfinal int length = ").append(name).append("Length();\n");
+			sb.append("\t\tlimit += VAR_DATA_HEADER_LENGTH + length;\n");
+			sb.append("\t\treturn length;\n");
+			sb.append("\t}\n");
+		}
+		
+		for (final Group group : message.groups()) {
+			final String groupClassName = decoderName(group.name());
+			sb.append("\t\n");
+			sb.append("\tpublic static final class ").append(groupClassName)
+				.append(" implements Iterable<").append(groupClassName).append(">, Iterator<")
+				.append(groupClassName).append("> {\n");
+			groupConstants(sb, group);
+			sb.append("\t\tprivate final ").append(className).append(" parent;\n");
+			sb.append("\t\tprivate int count;\n");
+			sb.append("\t\tprivate int index;\n");
+			sb.append("\t\tprivate int offset;\n");
+			sb.append("\t\t\n");
+			sb.append("\t\t").append(groupClassName).append("(final ").append(className).append(" parent) {\n");
+			sb.append("\t\t\tthis.parent = parent;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\t").append(groupClassName).append(" wrap() {\n");
+			sb.append("\t\t\tcount = parent.buffer.getInt(parent.limit, BYTE_ORDER);\n");
+			sb.append("\t\t\tparent.limit += HEADER_LENGTH;\n");
+			sb.append("\t\t\tindex = 0;\n");
+			sb.append("\t\t\treturn this;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\tpublic int count() {\n");
+			sb.append("\t\t\treturn count;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\tpublic boolean hasNext() {\n");
+			sb.append("\t\t\treturn index < count;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\tpublic ").append(groupClassName).append(" next() {\n");
+			sb.append("\t\t\tif (index >= count) {\n");
+			sb.append("\t\t\t\tthrow new NoSuchElementException();\n");
+			sb.append("\t\t\t}\n");
+			sb.append("\t\t\tindex++;\n");
+			sb.append("\t\t\toffset = parent.limit;\n");
+			sb.append("\t\t\tparent.limit += BLOCK_LENGTH;\n");
+			sb.append("\t\t\treturn this;\n");
+			sb.append("\t\t}\n");
+			sb.append("\t\t\n");
+			sb.append("\t\tpublic Iterator<").append(groupClassName).append("> iterator() {\n");
+			sb.append("\t\t\treturn this;\n");
+			sb.append("\t\t}\n");
+			
+			final StringBuilder groupBody = new StringBuilder();
+			for (final Field field : group.fields()) {
+				getter(groupBody, field, "parent.buffer", "offset");
+			}
+			sb.append(indent(groupBody));
+			sb.append("\t}\n");
+		}
+		
+		sb.append("}\n");
+		
+		return sb;
+	}
+	
+	private void header(final StringBuilder sb, final Message message, final boolean isDecoder) {
+		sb.append("/* Generated by ").append(FlyweightCodecGenerator.class.getSimpleName())
+			.append(", do not edit. */\n");
+		sb.append("package ").append(schema.packageName()).append(";\n");
+		sb.append("\n");
+		sb.append("import java.nio.ByteOrder;\n");
+		if (isDecoder && !message.groups().isEmpty()) {
+			sb.append("import java.util.Iterator;\n");
+			sb.append("import java.util.NoSuchElementException;\n");
+		}
+		sb.append("\n");
+		sb.append("import com.ducnh.highperformance.DirectBuffer;\n");
+		sb.append("import com.ducnh.highperformance.MutableDirectBuffer;\n");
+		sb.append("\n");
+	}
+	
+	private void messageConstants(final StringBuilder sb, final Message message) {
+		sb.append("\tpublic static final int TEMPLATE_ID = ").append(message.templateId()).append(";\n");
+		sb.append("\tpublic static final int BLOCK_LENGTH = ").append(message.blockLength()).append(";\n");
+		sb.append("\tpublic static final int VAR_DATA_HEADER_LENGTH = ")
+			.append(MessageSchema.VAR_DATA_HEADER_LENGTH).append(";\n");
+		sb.append("\tpublic static final ByteOrder BYTE_ORDER = ByteOrder.")
+			.append(ByteOrder.BIG_ENDIAN == schema.byteOrder() ? "BIG_ENDIAN" : "LITTLE_ENDIAN").append(";\n");
+		fieldConstants(sb, "\t", message.fields());
+		sb.append("\t\n");
+	}
+	
+	private void groupConstants(final StringBuilder sb, final Group group) {
+		sb.append("\t\tpublic static final int HEADER_LENGTH = ").append(MessageSchema.GROUP_HEADER_LENGTH).append(";\n");
+		sb.append("\t\tpublic static final int BLOCK_LENGTH = ").append(group.blockLength()).append(";\n");
+		fieldConstants(sb, "\t\t", group.fields());
+		sb.append("\t\t\n");
+	}
+	
+	private static void fieldConstants(final StringBuilder sb, final String indent, final Iterable<Field> fields) {
+		for (final Field field : fields) {
+			final String constant = constantName(field.name());
+			sb.append(indent).append("public static final int ").append(constant).append("_OFFSET = ")
+				.append(field.offset()).append(";\n");
+			if (Type.ASCII == field.type()) {
+				sb.append(indent).append("public static final int ").append(constant).append("_LENGTH = ")
+					.append(field.length()).append(";\n");
+			}
+		}
+	}
+	
+	private static void flyweightAccessors(final StringBuilder sb, final String bufferType) {
+		sb.append("\t\n");
+		sb.append("\tpublic ").append(bufferType).append(" buffer() {\n");
+		sb.append("\t\treturn buffer;\n");
+		sb.append("\t}\n");
+		sb.append("\t\n");
+		sb.append("\tpublic int offset() {\n");
+		sb.append("\t\treturn offset;\n");
+		sb.append("\t}\n");
+		sb.append("\t\n");
+		sb.append("\tpublic int limit() {\n");
+		sb.append("\t\treturn limit;\n");
+		sb.append("\t}\n");
+		sb.append("\t\n");
+		sb.append("\tpublic int encodedLength() {\n");
+		sb.append("\t\treturn limit - offset;\n");
+		sb.append("\t}\n");
+	}
+	
+	private static void setter(
+		final StringBuilder sb, final String className, final Field field, final String buffer, final String offset) {
+		final String constant = constantName(field.name());
+		final String index = offset + " + " + constant + "_OFFSET";
+		sb.append("\t\n");
+		
+		if (Type.ASCII == field.type()) {
+			sb.append("\tpublic ").append(className).append(' ').append(field.name())
+				.append("(final CharSequence value) {\n");
+			sb.append("\t\tfinal int length = Math.min(value.length(), ").append(constant).append("_LENGTH);\n");
+			sb.append("\t\t").append(buffer).append(".putStringWithoutLengthAscii(").append(index)
+				.append(", value, 0, length);\n");
+			sb.append("\t\t").append(buffer).append(".setMemory(").append(index).append(" + length, ")
+				.append(constant).append("_LENGTH - length, (byte)0);\n");
+		}
+		else {
+			sb.append("\tpublic ").append(className).append(' ').append(field.name()).append("(final ")
+				.append(field.type().javaName()).append(" value) {\n");
+			sb.append("\t\t").append(buffer).append(".put").append(field.type().accessorSuffix()).append('(')
+				.append(index).append(Type.BYTE == field.type() ? ", value);\n" : ", value, BYTE_ORDER);\n");
+		}
+		
+		sb.append("\t\treturn this;\n");
+		sb.append("\t}\n");
+	}
+	
+	private static void getter(final StringBuilder sb, final Field field, final String buffer, final String offset) {
+		final String constant = constantName(field.name());
+		final String index = offset + " + " + constant + "_OFFSET";
+		sb.append("\t\n");
+		
+		if (Type.ASCII == field.type()) {
+			sb.append("\tpublic int ").append(field.name()).append("Length() {\n");
+			sb.append("\t\tfinal int nulIndex = ").append(buffer).append(".indexOf(").append(index).append(", ")
+				.append(constant).append("_LENGTH, (byte)0);\n");
+			sb.append("\t\treturn nulIndex < 0 ? ").append(constant).append("_LENGTH : nulIndex - (")
+				.append(index).append(");\n");
+			sb.append("\t}\n");
+			sb.append("\t\n");
+			sb.append("\tpublic int get").append(capitalise(field.name())).append("(final Appendable appendable) {\n");
+			sb.append("\t\treturn ").append(buffer).append(".getStringWithoutLengthAscii(").append(index)
+				.append(", ").append(field.name()).append("Length(), appendable);\n");
+			sb.append("\t}\n");
+			sb.append("\t\n");
+			sb.append("\tpublic String ").append(field.name()).append("() {\n");
+			sb.append("\t\treturn ").append(buffer).append(".getStringWithoutLengthAscii(").append(index)
+				.append(", ").append(field.name()).append("Length());\n");
+		}
+		else {
+			sb.append("\tpublic ").append(field.type().javaName()).append(' ').append(field.name()).append("() {\n");
+			sb.append("\t\treturn ").append(buffer).append(".get").append(field.type().accessorSuffix()).append('(')
+				.append(index).append(Type.BYTE == field.type() ? ");\n" : ", BYTE_ORDER);\n");
+		}
+		
+		sb.append("\t}\n");
+	}
+	
+	private static CharSequence indent(final CharSequence body) {
+		final StringBuilder sb = new StringBuilder(body.length() + 64);
+		boolean lineStart = true;
+		for (int i = 0; i < body.length(); i++) {
+			final char c = body.charAt(i);
+			if (lineStart) {
+				sb.append('\t');
+			}
+			sb.append(c);
+			lineStart = '\n' == c;
+		}
+		
+		return sb;
+	}
+	
+	static String encoderName(final String name) {
+		return capitalise(name) + "Encoder";
+	}
+	
+	static String decoderName(final String name) {
+		return capitalise(name) + "Decoder";
+	}
+	
+	static String capitalise(final String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+	
+	static String constantName(final String name) {
+		final StringBuilder sb = new StringBuilder(name.length() + 8);
+		for (int i = 0; i < name.length(); i++) {
+			final char c = name.charAt(i);
+			if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+				sb.append('_');
+			}
+			sb.append(Character.toUpperCase(c));
+		}
+		
+		return sb.toString();
+	}
+}
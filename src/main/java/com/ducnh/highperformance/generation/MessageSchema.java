@@ -0,0 +1,430 @@
+package com.ducnh.highperformance.generation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ducnh.highperformance.LangUtil;
+
+import static com.ducnh.highperformance.BitUtil.*;
+
+/**
+ * Fixed layout message schema used by {@link FlyweightCodecGenerator}.
+ * <p>
+ * A message is a block of fixed size fields at precomputed offsets, followed by repeating groups of fixed size
+ * entries, each prefixed by an int count, followed by variable length data fields, each prefixed by an int length.
+ * <p>
+ * The text form is line based with {@code #} comments and tab or space indentation:
+ * <pre>
+ * package com.example.codec
+ * byteOrder LITTLE_ENDIAN
+ *
+ * message NewOrder 1
+ *     long orderId
+ *     ascii[8] symbol
+ *     double price
+ *     group fills
+ *         long fillId
+ *         int quantity
+ *     end
+ *     data note
+ * end
+ * </pre>
+ */
+public final class MessageSchema {
+	public static final int GROUP_HEADER_LENGTH = SIZE_OF_INT;
+	public static final int VAR_DATA_HEADER_LENGTH = SIZE_OF_INT;
+	
+	private final String packageName;
+	private final ByteOrder byteOrder;
+	private final List<Message> messages;
+	
+	public MessageSchema(final String packageName, final ByteOrder byteOrder, final List<Message> messages) {
+		this.packageName = packageName;
+		this.byteOrder = byteOrder;
+		this.messages = Collections.unmodifiableList(new ArrayList<>(messages));
+	}
+	
+	public String packageName() {
+		return packageName;
+	}
+	
+	public ByteOrder byteOrder() {
+		return byteOrder;
+	}
+	
+	public List<Message> messages() {
+		return messages;
+	}
+	
+	public static MessageSchema parse(final CharSequence text) {
+		return parse(new StringReader(text.toString()));
+	}
+	
+	/**
+	 * Parse the text form of a schema.
+	 * @throws IllegalArgumentException if the text is not a valid schema.
+	 */
+	public static MessageSchema parse(final Reader reader) {
+		final Parser parser = new Parser();
+		try {
+			final BufferedReader lines = new BufferedReader(reader);
+			String line;
+			while (null != (line = lines.readLine())) {
+				parser.parseLine(line);
+			}
+		} catch (final IOException ex) {
+			LangUtil.rethrowUnchecked(ex);
+		}
+		
+		return parser.schema();
+	}
+	
+	public enum Type {
+		BYTE("byte", SIZE_OF_BYTE, "Byte"),
+		SHORT("short", SIZE_OF_SHORT, "Short"),
+		CHAR("char", SIZE_OF_CHAR, "Char"),
+		INT("int", SIZE_OF_INT, "Int"),
+		LONG("long", SIZE_OF_LONG, "Long"),
+		FLOAT("float", SIZE_OF_FLOAT, "Float"),
+		DOUBLE("double", SIZE_OF_DOUBLE, "Double"),
+		ASCII("ascii", SIZE_OF_BYTE, null);
+		
+		private final String javaName;
+		private final int size;
+		private final String accessorSuffix;
+		
+		Type(final String javaName, final int size, final String accessorSuffix) {
+			this.javaName = javaName;
+			this.size = size;
+			this.accessorSuffix = accessorSuffix;
+		}
+		
+		public String javaName() {
+			return javaName;
+		}
+		
+		public int size() {
+			return size;
+		}
+		
+		/**
+		 * Suffix of the buffer get/put methods for the type, e.g. {@code Long} for {@code getLong}.
+		 */
+		public String accessorSuffix() {
+			return accessorSuffix;
+		}
+		
+		static Type lookup(final String name) {
+			for (final Type type : values()) {
+				if (type.javaName.equals(name)) {
+					return type;
+				}
+			}
+			
+			return null;
+		}
+	}
+	
+	public static final class Field {
+		private final String name;
+		private final Type type;
+		private final int length;
+		private final int offset;
+		
+		public Field(final String name, final Type type, final int length, final int offset) {
+			this.name = name;
+			this.type = type;
+			this.length = length;
+			this.offset = offset;
+		}
+		
+		public String name() {
+			return name;
+		}
+		
+		public Type type() {
+			return type;
+		}
+		
+		/**
+		 * Number of elements, always 1 except for fixed length ascii fields.
+		 */
+		public int length() {
+			return length;
+		}
+		
+		public int offset() {
+			return offset;
+		}
+		
+		public int encodedLength() {
+			return type.size() * length;
+		}
+	}
+	
+	public static final class Group {
+		private final String name;
+		private final List<Field> fields;
+		private final int blockLength;
+		
+		public Group(final String name, final List<Field> fields) {
+			this.name = name;
+			this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+			this.blockLength = computeBlockLength(fields);
+		}
+		
+		public String name() {
+			return name;
+		}
+		
+		public List<Field> fields() {
+			return fields;
+		}
+		
+		public int blockLength() {
+			return blockLength;
+		}
+	}
+	
+	public static final class Message {
+		private final String name;
+		private final int templateId;
+		private final List<Field> fields;
+		private final List<Group> groups;
+		private final List<String> varData;
+		private final int blockLength;
+		
+		public Message(
+			final String name,
+			final int templateId,
+			final List<Field> fields,
+			final List<Group> groups,
+			final List<String> varData) {
+			this.name = name;
+			this.templateId = templateId;
+			this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+			this.groups = Collections.unmodifiableList(new ArrayList<>(groups));
+			this.varData = Collections.unmodifiableList(new ArrayList<>(varData));
+			this.blockLength = computeBlockLength(fields);
+		}
+		
+		public String name() {
+			return name;
+		}
+		
+		public int templateId() {
+			return templateId;
+		}
+		
+		public List<Field> fields() {
+			return fields;
+		}
+		
+		public List<Group> groups() {
+			return groups;
+		}
+		
+		public List<String> varData() {
+			return varData;
+		}
+		
+		public int blockLength() {
+			return blockLength;
+		}
+	}
+	
+	private static int computeBlockLength(final List<Field> fields) {
+		int length = 0;
+		for (final Field field : fields) {
+			length = Math.max(length, field.offset() + field.encodedLength());
+		}
+		
+		return length;
+	}
+	
+	static final class Parser {
+		private String packageName;
+		private ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
+		private final List<Message> messages = new ArrayList<>();
+		private int lineNumber;
+		
+		private String messageName;
+		private int templateId;
+		private final List<Field> fields = new ArrayList<>();
+		private final List<Group> groups = new ArrayList<>();
+		private final List<String> varData = new ArrayList<>();
+		private int offset;
+		
+		private String groupName;
+		private final List<Field> groupFields = new ArrayList<>();
+		private int groupOffset;
+		
+		void parseLine(final String rawLine) {
+			lineNumber++;
+			final int commentIndex = rawLine.indexOf('#');
+			final String line = (commentIndex >= 0 ? rawLine.substring(0, commentIndex) : rawLine).trim();
+			if (line.isEmpty()) {
+				return;
+			}
+			
+			final String[] tokens = line.split("\\s+");
+			switch (tokens[0]) {
+				case "package":
+					expectTokens(tokens, 2);
+					packageName = tokens[1];
+					break;
+				
+				case "byteOrder":
+					expectTokens(tokens, 2);
+					byteOrder = parseByteOrder(tokens[1]);
+					break;
+				
+				case "message":
+					expectTokens(tokens, 3);
+					if (null != messageName) {
+						throw error("nested message");
+					}
+					messageName = checkName(tokens[1]);
+					templateId = parseInt(tokens[2]);
+					break;
+				
+				case "group":
+					expectTokens(tokens, 2);
+					if (null == messageName || null != groupName) {
+						throw error("group must be directly inside a message");
+					}
+					if (!varData.isEmpty()) {
+						throw error("group must come before data");
+					}
+					groupName = checkName(tokens[1]);
+					break;
+				
+				case "data":
+					expectTokens(tokens, 2);
+					if (null == messageName || null != groupName) {
+						throw error("data must be directly inside a message");
+					}
+					varData.add(checkName(tokens[1]));
+					break;
+				
+				case "end":
+					expectTokens(tokens, 1);
+					end();
+					break;
+				
+				default:
+					expectTokens(tokens, 2);
+					field(tokens[0], checkName(tokens[1]));
+			}
+		}
+		
+		MessageSchema schema() {
+			if (null != messageName) {
+				throw error("missing end for message " + messageName);
+			}
+			if (null == packageName) {
+				throw error("missing package");
+			}
+			
+			return new MessageSchema(packageName, byteOrder, messages);
+		}
+		
+		private void field(final String typeName, final String name) {
+			int length = 1;
+			String baseTypeName = typeName;
+			final int bracketIndex = typeName.indexOf('[');
+			if (bracketIndex > 0 && typeName.endsWith("]")) {
+				baseTypeName = typeName.substring(0, bracketIndex);
+				length = parseInt(typeName.substring(bracketIndex + 1, typeName.length() - 1));
+			}
+			
+			final Type type = Type.lookup(baseTypeName);
+			if (null == type || (Type.ASCII == type) == (bracketIndex < 0) || length <= 0) {
+				throw error("unknown type: " + typeName);
+			}
+			
+			if (null != groupName) {
+				groupFields.add(new Field(name, type, length, groupOffset));
+				groupOffset += type.size() * length;
+			}
+			else if (null != messageName) {
+				if (!groups.isEmpty() || !varData.isEmpty()) {
+					throw error("field must come before groups and data");
+				}
+				fields.add(new Field(name, type, length, offset));
+				offset += type.size() * length;
+			}
+			else {
+				throw error("field outside message");
+			}
+		}
+		
+		private void end() {
+			if (null != groupName) {
+				groups.add(new Group(groupName, groupFields));
+				groupName = null;
+				groupFields.clear();
+				groupOffset = 0;
+			}
+			else if (null != messageName) {
+				messages.add(new Message(messageName, templateId, fields, groups, varData));
+				messageName = null;
+				fields.clear();
+				groups.clear();
+				varData.clear();
+				offset = 0;
+			}
+			else {
+				throw error("unexpected end");
+			}
+		}
+		
+		private ByteOrder parseByteOrder(final String name) {
+			if ("LITTLE_ENDIAN".equals(name)) {
+				return ByteOrder.LITTLE_ENDIAN;
+			}
+			if ("BIG_ENDIAN".equals(name)) {
+				return ByteOrder.BIG_ENDIAN;
+			}
+			
+			throw error("unknown byte order: " + name);
+		}
+		
+		private int parseInt(final String value) {
+			try {
+				return Integer.parseInt(value);
+			} catch (final NumberFormatException ex) {
+				throw error("invalid number: " + value);
+			}
+		}
+		
+		private String checkName(final String name) {
+			if (!Character.isJavaIdentifierStart(name.charAt(0))) {
+				throw error("invalid name: " + name);
+			}
+			for (int i = 1; i < name.length(); i++) {
+				if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+					throw error("invalid name: " + name);
+				}
+			}
+			
+			return name;
+		}
+		
+		private void expectTokens(final String[] tokens, final int count) {
+			if (tokens.length != count) {
+				throw error("expected " + count + " tokens for " + tokens[0]);
+			}
+		}
+		
+		private IllegalArgumentException error(final String message) {
+			return new IllegalArgumentException(message + " at line " + lineNumber);
+		}
+	}
+}
@@ -7,42 +7,68 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+/**
+ * Generates the {@code long} specialisations of the {@code int} collections by textual substitution.
+ * <p>
+ * Lines containing {@link DoNotSub} are copied unchanged, which keeps sizes, indices and hashes as {@code int}. The
+ * generated sources are written next to their templates and are checked in, so run this after changing a template:
+ * <pre>
+ * java com.ducnh.highperformance.generation.SpecialisationGenerator [srcDir] [dstDir]
+ * </pre>
+ */
 public final class SpecialisationGenerator {
 	private static final String COLLECTIONS_PACKAGE = "com/ducnh/highperformance/collections";
 	private static final String SRC_DIR = "src/main/java";
-	private static final String DST_DIR = "build/generated-src";
+	private static final String DST_DIR = SRC_DIR;
 	private static final String SUFFIX = ".java";
+	private static final String DO_NOT_SUB = "@" + DoNotSub.class.getSimpleName();
 	
 	private static final List<Substitution> SUBSTITUTIONS = Collections.singletonList(
 			new Substitution("long", "Long", "Long"));
 	
+	private static final String[] TEMPLATES = {
+		"IntIntConsumer",
+		"IntIntFunction",
+		"IntIntPredicate",
+		"IntObjConsumer",
+		"IntObjPredicate",
+		"IntObjectToObjectFunction",
+		"ObjectIntToIntFunction",
+		"ObjIntConsumer",
+		"ObjIntPredicate",
+		"IntArrayList",
+		"IntArrayQueue",
+		"Int2IntHashMap",
+		"Int2IntCounterMap",
+		"IntHashSet",
+		"IntLruCache",
+		"Int2ObjectCache",
+		"Int2ObjectHashMap",
+		"Int2NullableObjectHashMap",
+		"Object2IntHashMap",
+		"Object2IntCounterMap",
+		"BufferInt2IntHashMap",
+		"Int2ObjectBTreeMap",
+		"IntMinHeap",
+		"ConcurrentInt2IntCounterMap",
+		"ConcurrentObject2IntCounterMap",
+	};
+	
 	public SpecialisationGenerator() {
 		
 	}
 	
-	public static void main(String[] args) throws IOException {
-		specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntIntConsumer", SRC_DIR, DST_DIR);
-		specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntIntFunction", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntIntPredicate", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntObjConsumer", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntObjPredicate", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntObjectToObjectFunction", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "ObjectIntToIntFunction", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "ObjIntConsumer", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "ObjIntPredicate", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntArrayList", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntArrayQueue", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "Int2IntHashMap", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "Int2IntCounterMap", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntHashSet", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "IntLruCache", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "Int2ObjectCache", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "Int2ObjectHashMap", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "Int2NullableObjectHashMap", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "Object2IntHashMap", SRC_DIR, DST_DIR);
-        specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, "Object2IntCounterMap", SRC_DIR, DST_DIR);
+	public static void main(final String[] args) throws IOException {
+		final String srcDir = args.length > 0 ? args[0] : SRC_DIR;
+		final String dstDir = args.length > 1 ? args[1] : DST_DIR;
+		
+		for (final String template : TEMPLATES) {
+			specialise(SUBSTITUTIONS, COLLECTIONS_PACKAGE, template, srcDir, dstDir);
+		}
 	}
 	
 	public static void specialise(
@@ -50,8 +76,8 @@ public final class SpecialisationGenerator {
 		final String packageName,
 		final String srcClassName,
 		final String srcDirName,
-		final String dstDirName) 
-		throws IOException 
+		final String dstDirName)
+		throws IOException
 	{
 		final Path inputPath = Paths.get(srcDirName, packageName, srcClassName + SUFFIX);
 		final Path outputDirectory = Paths.get(dstDirName, packageName);
@@ -72,6 +98,17 @@ public final class SpecialisationGenerator {
 	}
 	
 	public static final class Substitution {
+		/**
+		 * {@code int} as a word or as the leading word of a camel case identifier such as {@code intValue}.
+		 */
+		private static final Pattern PRIMITIVE = Pattern.compile("\\bint(?![a-z0-9_])");
+		private static final Pattern BOXED = Pattern.compile("\\bInteger\\b");
+		
+		/**
+		 * {@code Int} as a camel case word, such as in {@code IntHashSet}, {@code getIntKey} or {@code applyAsInt}.
+		 */
+		private static final Pattern CLASS_NAME = Pattern.compile("(?<![A-Z])Int(?![a-z])");
+		
 		private final String primitiveType;
 		private final String boxedType;
 		private final String className;
@@ -83,15 +120,13 @@ public final class SpecialisationGenerator {
 		}
 		
 		public String substitute(final String contents) {
-			return contents
-				.replace("int", primitiveType)
-				.replace("Integer", boxedType)
-				.replace("Int", className);
+			String result = PRIMITIVE.matcher(contents).replaceAll(Matcher.quoteReplacement(primitiveType));
+			result = BOXED.matcher(result).replaceAll(Matcher.quoteReplacement(boxedType));
+			return CLASS_NAME.matcher(result).replaceAll(Matcher.quoteReplacement(className));
 		}
 		
 		public String conditionalSubstitute(final String contents) {
-			return 
-				(contents.contains("interface") || contents.contains("Interface")) ? contents : substitute(contents);
+			return contents.contains(DO_NOT_SUB) ? contents : substitute(contents);
 		}
 	}
 }
@@ -7,7 +7,7 @@ import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 
-public class StringWriterOutputManager {
+public class StringWriterOutputManager implements DynamicPackageOutputManager {
 	private String packageName;
 	private String initialPackageName;
 	private final HashMap<String, StringWriter> sourceFileByName = new HashMap<>();